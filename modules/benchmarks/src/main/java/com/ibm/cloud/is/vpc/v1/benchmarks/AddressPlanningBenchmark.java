@@ -0,0 +1,89 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.benchmarks;
+
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+import com.ibm.cloud.is.vpc.v1.analysis.AddressSpacePlanner;
+import com.ibm.cloud.is.vpc.v1.model.AddressPrefix;
+import com.ibm.cloud.is.vpc.v1.model.AddressPrefixCollection;
+import com.ibm.cloud.is.vpc.v1.model.Subnet;
+import com.ibm.cloud.is.vpc.v1.model.SubnetCollection;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the planning of new subnets in a VPC with {@link AddressSpacePlanner}: building the planner from the
+ * address prefixes and subnets of the VPC, then allocating {@link #ALLOCATION_COUNT} /27 blocks in the fragmented
+ * address prefix of one zone, where each allocation must skip past all the existing /28 subnets. The score is the
+ * time taken by the whole plan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressPlanningBenchmark {
+
+  /**
+   * The number of subnets allocated by each invocation.
+   */
+  static final int ALLOCATION_COUNT = 100;
+
+  private static final int ZONE_COUNT = 3;
+
+  /**
+   * The number of subnets in the VPC.
+   */
+  @Param({ "300", "4000" })
+  public int subnetCount;
+
+  private List<AddressPrefix> addressPrefixes;
+  private List<Subnet> subnets;
+  private Ipv4Cidr pool;
+
+  @Setup
+  public void setup() {
+    addressPrefixes = GsonSingleton.getGson().fromJson(Payloads.addressPrefixes(ZONE_COUNT),
+      AddressPrefixCollection.class).getAddressPrefixes();
+    subnets = GsonSingleton.getGson().fromJson(Payloads.subnets(subnetCount, ZONE_COUNT), SubnetCollection.class)
+      .getSubnets();
+    pool = Ipv4Cidr.parse("10.0.0.0/8");
+  }
+
+  @Benchmark
+  public Ipv4Cidr plan() {
+    AddressSpacePlanner planner = new AddressSpacePlanner.Builder()
+      .addAddressPrefixes(addressPrefixes)
+      .addSubnets(subnets)
+      .build();
+    Ipv4Cidr last = null;
+    for (int i = 0; i < ALLOCATION_COUNT; i++) {
+      last = planner.allocateSubnetCidr("us-south-1", 27);
+    }
+    planner.allocateAddressPrefixCidr("us-south-4", pool, 16);
+    return last;
+  }
+}
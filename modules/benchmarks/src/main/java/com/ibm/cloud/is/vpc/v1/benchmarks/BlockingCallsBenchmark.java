@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.benchmarks;
+
+import com.ibm.cloud.is.common.async.BlockingCallExecutors;
+import com.ibm.cloud.is.common.async.ServiceCallFutures;
+import com.ibm.cloud.is.vpc.v1.Vpc;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceOptions;
+import com.ibm.cloud.is.vpc.v1.model.Instance;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.security.NoAuthAuthenticator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to complete a batch of concurrent blocking "getInstance" calls against a local
+ * {@link MockWebServer} which delays each response, with the calls executed either on a fixed pool of platform
+ * threads or on one virtual thread per call (see {@link BlockingCallExecutors}).
+ * <p>
+ * The client and the server speak HTTP/2 with prior knowledge, so that all calls are multiplexed over a single
+ * connection and the batch size is not bounded by the number of sockets available to the process. The "virtual"
+ * mode requires Java 21 or later; run with
+ * {@code java -jar modules/benchmarks/target/benchmarks.jar BlockingCallsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockingCallsBenchmark {
+
+  // MockWebServer logs every request, which would dominate the measurement; the reference keeps the level set.
+  private static final Logger SERVER_LOGGER = Logger.getLogger(MockWebServer.class.getName());
+
+  /**
+   * The executor on which the calls run: "platform" for a fixed pool of platform threads, "virtual" for one
+   * virtual thread per call.
+   */
+  @Param({ "platform", "virtual" })
+  public String mode;
+
+  /**
+   * The number of concurrent calls in a batch.
+   */
+  @Param({ "1000", "10000" })
+  public int calls;
+
+  /**
+   * The number of threads in the platform thread pool.
+   */
+  @Param({ "64" })
+  public int platformThreads;
+
+  /**
+   * The delay of each response, in milliseconds.
+   */
+  @Param({ "20" })
+  public int latencyMillis;
+
+  private MockWebServer server;
+  private Vpc service;
+  private ExecutorService executor;
+  private GetInstanceOptions getInstanceOptions;
+
+  @Setup
+  public void setup() throws IOException {
+    SERVER_LOGGER.setLevel(Level.WARNING);
+    final String body = Payloads.read("instance.json");
+    server = new MockWebServer();
+    server.setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return new MockResponse()
+          .setHeader("Content-type", "application/json")
+          .setBody(body)
+          .setBodyDelay(latencyMillis, TimeUnit.MILLISECONDS);
+      }
+    });
+    server.start();
+
+    service = new Vpc("2021-03-30", Vpc.DEFAULT_SERVICE_NAME, new NoAuthAuthenticator());
+    service.setServiceUrl(server.url("/v1").toString());
+    service.setClient(service.getClient().newBuilder()
+      .protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE))
+      .build());
+
+    executor = "virtual".equals(mode)
+      ? BlockingCallExecutors.newVirtualThreadExecutor()
+      : BlockingCallExecutors.newPlatformThreadExecutor(platformThreads);
+    getInstanceOptions = new GetInstanceOptions.Builder()
+      .id("0717_e21b7391-2ca2-4ab5-84a8-b92157a633b0")
+      .build();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    executor.shutdownNow();
+    server.shutdown();
+  }
+
+  @Benchmark
+  public int getInstances() {
+    List<CompletableFuture<Response<Instance>>> futures = new ArrayList<>(calls);
+    for (int i = 0; i < calls; i++) {
+      futures.add(ServiceCallFutures.execute(service.getInstance(getInstanceOptions), executor));
+    }
+    int completed = 0;
+    for (CompletableFuture<Response<Instance>> future : futures) {
+      if (future.join().getResult() != null) {
+        completed++;
+      }
+    }
+    return completed;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.benchmarks;
+
+import com.ibm.cloud.is.vpc.v1.CachingVpc;
+import com.ibm.cloud.is.vpc.v1.Vpc;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceProfileOptions;
+import com.ibm.cloud.is.vpc.v1.model.InstanceProfile;
+import com.ibm.cloud.is.vpc.v1.model.RegionCollection;
+import com.ibm.cloud.sdk.core.security.NoAuthAuthenticator;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a catalog lookup served by the cache of {@link CachingVpc}: creating the call and
+ * executing it, once the response has been loaded from a local {@link MockWebServer} during the setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogCacheBenchmark {
+
+  // MockWebServer logs every request; the reference keeps the level set.
+  private static final Logger SERVER_LOGGER = Logger.getLogger(MockWebServer.class.getName());
+
+  private MockWebServer server;
+  private CachingVpc service;
+  private GetInstanceProfileOptions getInstanceProfileOptions;
+
+  @Setup
+  public void setup() throws IOException {
+    SERVER_LOGGER.setLevel(Level.WARNING);
+    server = new MockWebServer();
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setBody("{\"name\": \"bx2-2x8\", \"family\": \"balanced\"}"));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setBody("{\"regions\": [{\"name\": \"us-south\", \"status\": \"available\"}]}"));
+    server.start();
+
+    service = new CachingVpc("2021-03-30", Vpc.DEFAULT_SERVICE_NAME, new NoAuthAuthenticator());
+    service.setServiceUrl(server.url("/v1").toString());
+    getInstanceProfileOptions = new GetInstanceProfileOptions.Builder()
+      .name("bx2-2x8")
+      .build();
+    getInstanceProfile();
+    listRegions();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Benchmark
+  public InstanceProfile getInstanceProfile() {
+    return service.getInstanceProfile(getInstanceProfileOptions).execute().getResult();
+  }
+
+  @Benchmark
+  public RegionCollection listRegions() {
+    return service.listRegions().execute().getResult();
+  }
+}
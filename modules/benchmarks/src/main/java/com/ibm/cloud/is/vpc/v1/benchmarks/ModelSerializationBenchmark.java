@@ -0,0 +1,202 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.ibm.cloud.is.vpc.v1.model.InstanceCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstancePrototypeInstanceByImage;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancer;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRuleBeforePatchNetworkACLRuleIdentityById;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRulePatch;
+import com.ibm.cloud.is.vpc.v1.model.RoutingTable;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroup;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRulePrototype;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRulePrototypeSecurityGroupRuleProtocolICMP;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRulePrototypeSecurityGroupRuleProtocolTCPUDP;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRuleRemotePrototypeCIDR;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRuleRemotePrototypeIP;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRuleSecurityGroupRuleProtocolTCPUDP;
+import com.ibm.cloud.is.common.json.JsonUtils;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the deserialization of representative response bodies and of the serialization
+ * of representative request bodies, using the same {@link Gson} instances as the service methods.
+ * <p>
+ * Response bodies are deserialized from UTF-8 bytes through a {@link Reader}, as the response converters do.
+ * {@link #deserializeSecurityGroupWithCoreGson()} deserializes the security group with the SDK core's
+ * {@link Gson} instance instead, whose discriminator support parses each rule into a tree before binding it.
+ * {@link #networkAclRulePatchAsPatch()} measures the construction of the JSON merge-patch of an update request.
+ * Run with {@code java -jar modules/benchmarks/target/benchmarks.jar ModelSerializationBenchmark -prof gc}
+ * to also report the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelSerializationBenchmark {
+
+  /**
+   * The number of instances in the "listInstances" page.
+   */
+  @Param({ "100" })
+  public int instanceCount;
+
+  /**
+   * The number of rules in the security group.
+   */
+  @Param({ "500" })
+  public int ruleCount;
+
+  private Gson gson;
+  private Gson responseGson;
+  private Gson requestGson;
+  private byte[] instanceCollection;
+  private byte[] securityGroup;
+  private byte[] loadBalancer;
+  private byte[] routingTable;
+  private InstancePrototypeInstanceByImage instancePrototype;
+  private List<SecurityGroupRulePrototype> rulePrototypes;
+  private NetworkACLRulePatch networkAclRulePatch;
+
+  @Setup
+  public void setup() {
+    gson = GsonSingleton.getGson();
+    responseGson = JsonUtils.getGson();
+    requestGson = GsonSingleton.getGsonWithoutPrettyPrinting();
+    instanceCollection = Payloads.instanceCollection(instanceCount).getBytes(StandardCharsets.UTF_8);
+    securityGroup = Payloads.securityGroup(ruleCount).getBytes(StandardCharsets.UTF_8);
+    loadBalancer = Payloads.read("load_balancer.json").getBytes(StandardCharsets.UTF_8);
+    routingTable = Payloads.read("routing_table.json").getBytes(StandardCharsets.UTF_8);
+    instancePrototype = gson.fromJson(Payloads.read("instance_prototype.json"), InstancePrototypeInstanceByImage.class);
+    rulePrototypes = new ArrayList<>();
+    for (int i = 0; i < ruleCount; i++) {
+      if (i % 2 == 0) {
+        rulePrototypes.add(new SecurityGroupRulePrototypeSecurityGroupRuleProtocolTCPUDP.Builder()
+          .direction("inbound")
+          .protocol("tcp")
+          .portMin(1024 + i)
+          .portMax(1024 + i)
+          .remote(new SecurityGroupRuleRemotePrototypeCIDR.Builder("10.0." + (i & 0xff) + ".0/24").build())
+          .build());
+      } else {
+        rulePrototypes.add(new SecurityGroupRulePrototypeSecurityGroupRuleProtocolICMP.Builder()
+          .direction("outbound")
+          .protocol("icmp")
+          .code(0)
+          .type(8)
+          .remote(new SecurityGroupRuleRemotePrototypeIP.Builder("192.168.0." + (i & 0xff)).build())
+          .build());
+      }
+    }
+    networkAclRulePatch = new NetworkACLRulePatch.Builder()
+      .action("allow")
+      .before(new NetworkACLRuleBeforePatchNetworkACLRuleIdentityById.Builder("8daca77a-4980-4d33-8f3e-7038797be8f9")
+        .build())
+      .destination("192.168.3.0/24")
+      .destinationPortMin(443)
+      .destinationPortMax(443)
+      .direction("inbound")
+      .name("my-rule-2")
+      .source("10.0.0.0/8")
+      .build();
+    verify();
+  }
+
+  // Fails fast if a payload does not deserialize to the expected models.
+  private void verify() {
+    if (deserializeInstanceCollection().getInstances().size() != instanceCount) {
+      throw new IllegalStateException("Unexpected number of instances");
+    }
+    SecurityGroup sg = deserializeSecurityGroup();
+    if (sg.getRules().size() != ruleCount
+        || !(sg.getRules().get(0) instanceof SecurityGroupRuleSecurityGroupRuleProtocolTCPUDP)) {
+      throw new IllegalStateException("Unexpected security group rules");
+    }
+  }
+
+  private <T> T deserialize(byte[] body, Type type) {
+    return deserialize(responseGson, body, type);
+  }
+
+  private static <T> T deserialize(Gson gson, byte[] body, Type type) {
+    Reader reader = new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+    return gson.fromJson(reader, type);
+  }
+
+  @Benchmark
+  public InstanceCollection deserializeInstanceCollection() {
+    return deserialize(instanceCollection, InstanceCollection.class);
+  }
+
+  @Benchmark
+  public SecurityGroup deserializeSecurityGroup() {
+    return deserialize(securityGroup, SecurityGroup.class);
+  }
+
+  @Benchmark
+  public SecurityGroup deserializeSecurityGroupWithCoreGson() {
+    return deserialize(gson, securityGroup, SecurityGroup.class);
+  }
+
+  @Benchmark
+  public LoadBalancer deserializeLoadBalancer() {
+    return deserialize(loadBalancer, LoadBalancer.class);
+  }
+
+  @Benchmark
+  public RoutingTable deserializeRoutingTable() {
+    return deserialize(routingTable, RoutingTable.class);
+  }
+
+  @Benchmark
+  public String serializeInstancePrototype() {
+    return requestGson.toJson(instancePrototype);
+  }
+
+  @Benchmark
+  public Map<String, Object> networkAclRulePatchAsPatch() {
+    return networkAclRulePatch.asPatch();
+  }
+
+  // Mirrors the construction of the "createSecurityGroup" request body.
+  @Benchmark
+  public String serializeSecurityGroupRulePrototypes() {
+    JsonObject contentJson = new JsonObject();
+    contentJson.add("rules", gson.toJsonTree(rulePrototypes));
+    return requestGson.toJson(contentJson);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.benchmarks;
+
+import com.ibm.cloud.is.vpc.v1.analysis.AclRule;
+import com.ibm.cloud.is.vpc.v1.analysis.Direction;
+import com.ibm.cloud.is.vpc.v1.analysis.Flow;
+import com.ibm.cloud.is.vpc.v1.analysis.NetworkAclEvaluator;
+import com.ibm.cloud.is.vpc.v1.analysis.Protocol;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACL;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the evaluation of flows against a network ACL by {@link NetworkAclEvaluator}, which intersects the rule
+ * sets returned by its CIDR tries and interval indexes, with the linear evaluation of the same parsed rules in order.
+ * Each invocation evaluates {@link #FLOW_COUNT} synthetic flows, most of which match a rule of the ACL, so the score
+ * is the number of flows evaluated per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkAclEvaluationBenchmark {
+
+  /**
+   * The number of flows evaluated by each invocation.
+   */
+  static final int FLOW_COUNT = 4096;
+
+  /**
+   * The number of rules in the network ACL.
+   */
+  @Param({ "25", "200" })
+  public int ruleCount;
+
+  private NetworkAclEvaluator evaluator;
+  private List<AclRule> rules;
+  private Direction[] directions;
+  private Flow[] flows;
+
+  @Setup
+  public void setup() {
+    NetworkACL networkAcl = GsonSingleton.getGson().fromJson(Payloads.networkAcl(ruleCount), NetworkACL.class);
+    evaluator = NetworkAclEvaluator.of(networkAcl);
+    rules = evaluator.getRules();
+    Random random = new Random(42);
+    directions = new Direction[FLOW_COUNT];
+    flows = new Flow[FLOW_COUNT];
+    for (int i = 0; i < FLOW_COUNT; i++) {
+      // Target the addresses and ports of a random rule, so that flows match rules at every position.
+      int rule = random.nextInt(ruleCount);
+      int source = 10 << 24 | (rule >> 8 & 0xff) << 16 | (rule & 0xff) << 8 | random.nextInt(256);
+      int destination = 172 << 24 | 16 << 16 | (rule & 0xff) << 8 | random.nextInt(256);
+      directions[i] = random.nextInt(3) == 0 ? Direction.OUTBOUND : Direction.INBOUND;
+      if (random.nextInt(4) == 0) {
+        flows[i] = Flow.icmp(source, destination, 8, 0);
+      } else {
+        int port = 1024 + (rule * 97) % 60000 + random.nextInt(100);
+        flows[i] = Flow.of(random.nextBoolean() ? Protocol.TCP : Protocol.UDP, source, 1024 + random.nextInt(60000),
+          destination, port);
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FLOW_COUNT)
+  public int indexed() {
+    int allowed = 0;
+    for (int i = 0; i < FLOW_COUNT; i++) {
+      if (evaluator.isAllowed(directions[i], flows[i])) {
+        allowed++;
+      }
+    }
+    return allowed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FLOW_COUNT)
+  public int linear() {
+    int allowed = 0;
+    for (int i = 0; i < FLOW_COUNT; i++) {
+      for (AclRule rule : rules) {
+        if (rule.matches(directions[i], flows[i])) {
+          if (rule.isAllow()) {
+            allowed++;
+          }
+          break;
+        }
+      }
+    }
+    return allowed;
+  }
+}
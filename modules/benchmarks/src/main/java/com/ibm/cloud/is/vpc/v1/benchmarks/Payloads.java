@@ -0,0 +1,322 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Builds the JSON payloads used by the benchmarks, from the templates in the "payloads" resource directory.
+ * Properties are emitted in alphabetical order, as in the responses returned by the service.
+ */
+final class Payloads {
+
+  private static final String HREF_PREFIX = "https://us-south.iaas.cloud.ibm.com/v1";
+
+  private Payloads() {
+  }
+
+  /**
+   * Returns the content of the specified payload template.
+   *
+   * @param name the name of the template (e.g. "instance.json")
+   * @return the content of the template
+   */
+  static String read(String name) {
+    try (InputStream in = Payloads.class.getResourceAsStream("/payloads/" + name)) {
+      if (in == null) {
+        throw new IllegalArgumentException("Payload not found: " + name);
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+        out.write(buffer, 0, n);
+      }
+      return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static JsonObject template(String name) {
+    return JsonParser.parseString(read(name)).getAsJsonObject();
+  }
+
+  private static String id(String prefix, int i) {
+    return String.format(Locale.ROOT, "%s-%04x-4f2e-9c3a-%012x", prefix, i & 0xffff, i);
+  }
+
+  /**
+   * Returns one page of a "listInstances" response containing the specified number of instances.
+   *
+   * @param count the number of instances
+   * @return the JSON payload
+   */
+  static String instanceCollection(int count) {
+    JsonObject instance = template("instance.json");
+    JsonArray instances = new JsonArray();
+    for (int i = 0; i < count; i++) {
+      JsonObject copy = instance.deepCopy();
+      String id = id("0717_1e09281b", i);
+      copy.addProperty("id", id);
+      copy.addProperty("href", HREF_PREFIX + "/instances/" + id);
+      copy.addProperty("name", "my-instance-" + i);
+      instances.add(copy);
+    }
+    JsonObject page = new JsonObject();
+    page.add("first", href(HREF_PREFIX + "/instances?limit=" + count));
+    page.add("instances", instances);
+    page.addProperty("limit", count);
+    page.add("next", href(HREF_PREFIX + "/instances?start=" + id("0717_1e09281b", count) + "&limit=" + count));
+    page.addProperty("total_count", count * 10);
+    return page.toString();
+  }
+
+  /**
+   * Returns a security group containing the specified number of rules, cycling through the "tcp", "udp",
+   * "icmp" and "all" protocols and through the three kinds of remote.
+   *
+   * @param ruleCount the number of rules
+   * @return the JSON payload
+   */
+  static String securityGroup(int ruleCount) {
+    JsonObject securityGroup = template("security_group.json");
+    String sgHref = securityGroup.get("href").getAsString();
+    JsonArray rules = new JsonArray();
+    for (int i = 0; i < ruleCount; i++) {
+      JsonObject rule = new JsonObject();
+      String id = id("6f2a6efe", i);
+      String protocol = new String[] { "tcp", "udp", "icmp", "all" }[i % 4];
+      rule.addProperty("direction", i % 3 == 0 ? "outbound" : "inbound");
+      rule.addProperty("href", sgHref + "/rules/" + id);
+      rule.addProperty("id", id);
+      rule.addProperty("ip_version", "ipv4");
+      if (protocol.equals("icmp")) {
+        rule.addProperty("code", 0);
+      } else if (!protocol.equals("all")) {
+        rule.addProperty("port_max", 1024 + i);
+        rule.addProperty("port_min", 1024 + i);
+      }
+      rule.addProperty("protocol", protocol);
+      rule.add("remote", remote(i));
+      if (protocol.equals("icmp")) {
+        rule.addProperty("type", 8);
+      }
+      rules.add(rule);
+    }
+    securityGroup.add("rules", rules);
+    return securityGroup.toString();
+  }
+
+  /**
+   * Returns a network ACL containing the specified number of rules, chained with their "before" references. Rule
+   * {@code i} applies to the traffic from "10.(i / 256).(i % 256).0/24" to "172.16.(i % 256).0/24", cycling through
+   * the "tcp", "udp", "icmp" and "all" protocols; one rule in five denies the traffic.
+   *
+   * @param ruleCount the number of rules
+   * @return the JSON payload
+   */
+  static String networkAcl(int ruleCount) {
+    String aclHref = HREF_PREFIX + "/network_acls/" + id("a4e28308", 0);
+    JsonArray rules = new JsonArray();
+    for (int i = 0; i < ruleCount; i++) {
+      JsonObject rule = new JsonObject();
+      String id = id("8daca77a", i);
+      String protocol = new String[] { "tcp", "udp", "icmp", "all" }[i % 4];
+      rule.addProperty("action", i % 5 == 0 ? "deny" : "allow");
+      if (i + 1 < ruleCount) {
+        String before = id("8daca77a", i + 1);
+        JsonObject reference = href(aclHref + "/rules/" + before);
+        reference.addProperty("id", before);
+        rule.add("before", reference);
+      }
+      if (protocol.equals("icmp")) {
+        rule.addProperty("code", 0);
+      }
+      rule.addProperty("destination", String.format(Locale.ROOT, "172.16.%d.0/24", i & 0xff));
+      if (protocol.equals("tcp") || protocol.equals("udp")) {
+        int port = 1024 + (i * 97) % 60000;
+        rule.addProperty("destination_port_max", port + i % 10 * 10);
+        rule.addProperty("destination_port_min", port);
+      }
+      rule.addProperty("direction", i % 3 == 0 ? "outbound" : "inbound");
+      rule.addProperty("href", aclHref + "/rules/" + id);
+      rule.addProperty("id", id);
+      rule.addProperty("ip_version", "ipv4");
+      rule.addProperty("name", "my-rule-" + i);
+      rule.addProperty("protocol", protocol);
+      rule.addProperty("source", String.format(Locale.ROOT, "10.%d.%d.0/24", (i >> 8) & 0xff, i & 0xff));
+      if (protocol.equals("tcp") || protocol.equals("udp")) {
+        rule.addProperty("source_port_max", 65535);
+        rule.addProperty("source_port_min", 1);
+      }
+      if (protocol.equals("icmp")) {
+        rule.addProperty("type", 8);
+      }
+      rules.add(rule);
+    }
+    JsonObject networkAcl = new JsonObject();
+    networkAcl.addProperty("href", aclHref);
+    networkAcl.addProperty("id", id("a4e28308", 0));
+    networkAcl.addProperty("name", "my-network-acl");
+    networkAcl.add("rules", rules);
+    return networkAcl.toString();
+  }
+
+  /**
+   * Returns one page of a "listVpcRoutingTableRoutes" response containing the specified number of routes in zone
+   * "us-south-1". Route 0 is the default route; the destination of route {@code i} is a prefix of length
+   * {@code 8 + i % 25} within "10.0.0.0/8", so that the destinations are nested at all depths.
+   *
+   * @param routeCount the number of routes
+   * @return the JSON payload
+   */
+  static String routes(int routeCount) {
+    String tableHref = HREF_PREFIX + "/vpcs/" + id("4727d842", 0) + "/routing_tables/" + id("6885e83f", 0);
+    JsonArray routes = new JsonArray();
+    for (int i = 0; i < routeCount; i++) {
+      String id = id("1a15dca5", i);
+      int length = i == 0 ? 0 : 8 + i % 25;
+      int address = i == 0 ? 0 : 10 << 24 | (i * 0x9E3779B1) >>> 8;
+      address &= length == 0 ? 0 : -1 << (32 - length);
+      JsonObject nextHop = new JsonObject();
+      nextHop.addProperty("address", String.format(Locale.ROOT, "192.168.%d.%d", (i >> 8) & 0xff, i & 0xff));
+      JsonObject zone = href(HREF_PREFIX + "/regions/us-south/zones/us-south-1");
+      zone.addProperty("name", "us-south-1");
+      JsonObject route = new JsonObject();
+      route.addProperty("action", "deliver");
+      route.addProperty("created_at", "2019-01-01T12:00:00.000Z");
+      route.addProperty("destination", String.format(Locale.ROOT, "%d.%d.%d.%d/%d", address >>> 24,
+        (address >> 16) & 0xff, (address >> 8) & 0xff, address & 0xff, length));
+      route.addProperty("href", tableHref + "/routes/" + id);
+      route.addProperty("id", id);
+      route.addProperty("lifecycle_state", "stable");
+      route.addProperty("name", "my-route-" + i);
+      route.add("next_hop", nextHop);
+      route.add("zone", zone);
+      routes.add(route);
+    }
+    JsonObject collection = new JsonObject();
+    collection.add("first", href(tableHref + "/routes?limit=" + Math.max(routeCount, 1)));
+    collection.addProperty("limit", Math.max(routeCount, 1));
+    collection.add("routes", routes);
+    return collection.toString();
+  }
+
+  /**
+   * Returns one page of a "listVpcAddressPrefixes" response with one address prefix "10.z.0.0/16" in each zone
+   * "us-south-z", for z from 1 to {@code zoneCount}.
+   *
+   * @param zoneCount the number of zones
+   * @return the JSON payload
+   */
+  static String addressPrefixes(int zoneCount) {
+    String vpcHref = HREF_PREFIX + "/vpcs/" + id("4727d842", 0);
+    JsonArray prefixes = new JsonArray();
+    for (int z = 1; z <= zoneCount; z++) {
+      String id = id("1a15dca5", z);
+      JsonObject prefix = new JsonObject();
+      prefix.addProperty("cidr", String.format(Locale.ROOT, "10.%d.0.0/16", z));
+      prefix.addProperty("created_at", "2019-01-01T12:00:00.000Z");
+      prefix.addProperty("has_subnets", true);
+      prefix.addProperty("href", vpcHref + "/address_prefixes/" + id);
+      prefix.addProperty("id", id);
+      prefix.addProperty("is_default", false);
+      prefix.addProperty("name", "my-address-prefix-" + z);
+      prefix.add("zone", zone(z));
+      prefixes.add(prefix);
+    }
+    JsonObject collection = new JsonObject();
+    collection.add("address_prefixes", prefixes);
+    collection.add("first", href(vpcHref + "/address_prefixes?limit=" + Math.max(zoneCount, 1)));
+    collection.addProperty("limit", Math.max(zoneCount, 1));
+    return collection.toString();
+  }
+
+  /**
+   * Returns one page of a "listSubnets" response containing the specified number of /28 subnets, spread over the
+   * address prefixes returned by {@link #addressPrefixes(int)}. The subnets of each zone occupy every other /28
+   * block from the start of its prefix, so that the free space of the zone is fragmented.
+   *
+   * @param count the number of subnets
+   * @param zoneCount the number of zones
+   * @return the JSON payload
+   */
+  static String subnets(int count, int zoneCount) {
+    JsonObject vpc = href(HREF_PREFIX + "/vpcs/" + id("4727d842", 0));
+    vpc.addProperty("id", id("4727d842", 0));
+    JsonArray subnets = new JsonArray();
+    for (int i = 0; i < count; i++) {
+      String id = id("7ec86020", i);
+      int z = i % zoneCount + 1;
+      int offset = i / zoneCount * 32;
+      JsonObject subnet = new JsonObject();
+      subnet.addProperty("available_ipv4_address_count", 11);
+      subnet.addProperty("created_at", "2019-01-01T12:00:00.000Z");
+      subnet.addProperty("href", HREF_PREFIX + "/subnets/" + id);
+      subnet.addProperty("id", id);
+      subnet.addProperty("ip_version", "ipv4");
+      subnet.addProperty("ipv4_cidr_block", String.format(Locale.ROOT, "10.%d.%d.%d/28", z, offset >> 8,
+        offset & 0xff));
+      subnet.addProperty("name", "my-subnet-" + i);
+      subnet.addProperty("status", "available");
+      subnet.addProperty("total_ipv4_address_count", 16);
+      subnet.add("vpc", vpc);
+      subnet.add("zone", zone(z));
+      subnets.add(subnet);
+    }
+    JsonObject collection = new JsonObject();
+    collection.add("first", href(HREF_PREFIX + "/subnets?limit=" + Math.max(count, 1)));
+    collection.addProperty("limit", Math.max(count, 1));
+    collection.add("subnets", subnets);
+    return collection.toString();
+  }
+
+  private static JsonObject zone(int z) {
+    JsonObject zone = href(HREF_PREFIX + "/regions/us-south/zones/us-south-" + z);
+    zone.addProperty("name", "us-south-" + z);
+    return zone;
+  }
+
+  private static JsonObject remote(int i) {
+    JsonObject remote = new JsonObject();
+    switch (i % 3) {
+      case 0:
+        remote.addProperty("cidr_block", String.format(Locale.ROOT, "10.%d.%d.0/24", (i >> 8) & 0xff, i & 0xff));
+        break;
+      case 1:
+        remote.addProperty("address", String.format(Locale.ROOT, "192.168.%d.%d", (i >> 8) & 0xff, i & 0xff));
+        break;
+      default:
+        String id = id("be5df5ca", i);
+        remote.addProperty("crn", "crn:v1:bluemix:public:is:us-south:a/123456::security-group:" + id);
+        remote.addProperty("href", HREF_PREFIX + "/security_groups/" + id);
+        remote.addProperty("id", id);
+        remote.addProperty("name", "my-security-group-" + i);
+        break;
+    }
+    return remote;
+  }
+
+  private static JsonObject href(String href) {
+    JsonObject link = new JsonObject();
+    link.addProperty("href", href);
+    return link;
+  }
+}
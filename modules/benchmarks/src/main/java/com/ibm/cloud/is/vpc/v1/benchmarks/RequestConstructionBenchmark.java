@@ -0,0 +1,166 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.benchmarks;
+
+import com.ibm.cloud.is.common.SdkCommon;
+import com.ibm.cloud.is.vpc.v1.Vpc;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceOptions;
+import com.ibm.cloud.is.vpc.v1.model.Instance;
+import com.ibm.cloud.is.vpc.v1.model.InstanceCollection;
+import com.ibm.cloud.is.vpc.v1.model.ListInstancesOptions;
+import com.ibm.cloud.sdk.core.http.RequestBuilder;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.security.NoAuthAuthenticator;
+import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of constructing the {@link ServiceCall} for an operation (building the URL, headers, query
+ * parameters and response converter, without sending the request).
+ * <p>
+ * The "legacy" benchmarks reproduce the code previously generated for each service method, which created a new
+ * SDK header map and a new TypeToken-based response converter on every invocation; the others invoke the
+ * service methods, which use the precomputed operation descriptors.
+ * <p>
+ * Run with {@code java -jar modules/benchmarks/target/benchmarks.jar RequestConstructionBenchmark -prof gc}
+ * to also report the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestConstructionBenchmark {
+
+  private LegacyVpc service;
+  private GetInstanceOptions getInstanceOptions;
+  private ListInstancesOptions listInstancesOptions;
+
+  @Setup
+  public void setup() {
+    service = new LegacyVpc();
+    getInstanceOptions = new GetInstanceOptions.Builder()
+      .id("0717_e21b7391-2ca2-4ab5-84a8-b92157a633b0")
+      .build();
+    listInstancesOptions = new ListInstancesOptions.Builder()
+      .limit(Long.valueOf(100))
+      .vpcId("r006-4727d842-f94f-4a2d-824a-9bc9b02c523b")
+      .start("r006-8c8b8e0c-ff9c-4a31-a11d-d2d9a3d4c3b7")
+      .build();
+  }
+
+  @Benchmark
+  public ServiceCall<Instance> getInstance() {
+    return service.getInstance(getInstanceOptions);
+  }
+
+  @Benchmark
+  public ServiceCall<Instance> getInstanceLegacy() {
+    return service.legacyGetInstance(getInstanceOptions);
+  }
+
+  @Benchmark
+  public ServiceCall<InstanceCollection> listInstances() {
+    return service.listInstances(listInstancesOptions);
+  }
+
+  @Benchmark
+  public ServiceCall<InstanceCollection> listInstancesLegacy() {
+    return service.legacyListInstances(listInstancesOptions);
+  }
+
+  /**
+   * A {@link Vpc} which also contains the previous implementation of the benchmarked service methods.
+   */
+  static class LegacyVpc extends Vpc {
+
+    LegacyVpc() {
+      super("2021-05-06", Vpc.DEFAULT_SERVICE_NAME, new NoAuthAuthenticator());
+    }
+
+    // The previous SdkCommon.getSdkHeaders() built a new map on every invocation.
+    private static Map<String, String> legacySdkHeaders() {
+      Map<String, String> headers = new HashMap<>();
+      headers.putAll(SdkCommon.getSdkHeaders("vpc", "v1", null));
+      return headers;
+    }
+
+    ServiceCall<Instance> legacyGetInstance(GetInstanceOptions getInstanceOptions) {
+      com.ibm.cloud.sdk.core.util.Validator.notNull(getInstanceOptions,
+        "getInstanceOptions cannot be null");
+      Map<String, String> pathParamsMap = new HashMap<String, String>();
+      pathParamsMap.put("id", getInstanceOptions.id());
+      RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{id}", pathParamsMap));
+      Map<String, String> sdkHeaders = legacySdkHeaders();
+      for (Entry<String, String> header : sdkHeaders.entrySet()) {
+        builder.header(header.getKey(), header.getValue());
+      }
+      builder.header("Accept", "application/json");
+      builder.query("version", String.valueOf(getVersion()));
+      builder.query("generation", String.valueOf(getGeneration()));
+      ResponseConverter<Instance> responseConverter =
+        ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Instance>() { }.getType());
+      return createServiceCall(builder.build(), responseConverter);
+    }
+
+    ServiceCall<InstanceCollection> legacyListInstances(ListInstancesOptions listInstancesOptions) {
+      RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances"));
+      Map<String, String> sdkHeaders = legacySdkHeaders();
+      for (Entry<String, String> header : sdkHeaders.entrySet()) {
+        builder.header(header.getKey(), header.getValue());
+      }
+      builder.header("Accept", "application/json");
+      builder.query("version", String.valueOf(getVersion()));
+      builder.query("generation", String.valueOf(getGeneration()));
+      if (listInstancesOptions.start() != null) {
+        builder.query("start", String.valueOf(listInstancesOptions.start()));
+      }
+      if (listInstancesOptions.limit() != null) {
+        builder.query("limit", String.valueOf(listInstancesOptions.limit()));
+      }
+      if (listInstancesOptions.resourceGroupId() != null) {
+        builder.query("resource_group.id", String.valueOf(listInstancesOptions.resourceGroupId()));
+      }
+      if (listInstancesOptions.name() != null) {
+        builder.query("name", String.valueOf(listInstancesOptions.name()));
+      }
+      if (listInstancesOptions.vpcId() != null) {
+        builder.query("vpc.id", String.valueOf(listInstancesOptions.vpcId()));
+      }
+      if (listInstancesOptions.vpcCrn() != null) {
+        builder.query("vpc.crn", String.valueOf(listInstancesOptions.vpcCrn()));
+      }
+      if (listInstancesOptions.vpcName() != null) {
+        builder.query("vpc.name", String.valueOf(listInstancesOptions.vpcName()));
+      }
+      ResponseConverter<InstanceCollection> responseConverter =
+        ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceCollection>() { }.getType());
+      return createServiceCall(builder.build(), responseConverter);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.benchmarks;
+
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+import com.ibm.cloud.is.vpc.v1.analysis.RouteResolver;
+import com.ibm.cloud.is.vpc.v1.analysis.RouteTrie;
+import com.ibm.cloud.is.vpc.v1.model.Route;
+import com.ibm.cloud.is.vpc.v1.model.RouteCollection;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the resolution of destination addresses by the {@link RouteTrie} of a {@link RouteResolver} with a linear
+ * longest-prefix-match scan of the same routes. Each invocation resolves {@link #ADDRESS_COUNT} addresses within
+ * "10.0.0.0/8", so the score is the number of addresses resolved per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteResolutionBenchmark {
+
+  /**
+   * The number of addresses resolved by each invocation.
+   */
+  static final int ADDRESS_COUNT = 4096;
+
+  /**
+   * The number of routes in the routing table.
+   */
+  @Param({ "50", "1000" })
+  public int routeCount;
+
+  private RouteTrie trie;
+  private int[] prefixAddresses;
+  private int[] prefixMasks;
+  private int[] prefixLengths;
+  private Route[] routes;
+  private int[] addresses;
+
+  @Setup
+  public void setup() {
+    List<Route> list = GsonSingleton.getGson().fromJson(Payloads.routes(routeCount), RouteCollection.class)
+      .getRoutes();
+    trie = new RouteResolver.Builder()
+      .addRoutes("table", list)
+      .build()
+      .getTrie("table", "us-south-1");
+    routes = list.toArray(new Route[0]);
+    prefixAddresses = new int[routes.length];
+    prefixMasks = new int[routes.length];
+    prefixLengths = new int[routes.length];
+    for (int i = 0; i < routes.length; i++) {
+      Ipv4Cidr destination = routes[i].getIpv4Destination();
+      prefixAddresses[i] = destination.getAddress();
+      prefixLengths[i] = destination.getLength();
+      prefixMasks[i] = destination.getMask();
+    }
+    Random random = new Random(42);
+    addresses = new int[ADDRESS_COUNT];
+    for (int i = 0; i < ADDRESS_COUNT; i++) {
+      // Half of the addresses fall within a random destination, so that lookups reach every depth.
+      int r = random.nextInt(routes.length);
+      addresses[i] = random.nextBoolean()
+        ? prefixAddresses[r] | random.nextInt() & ~prefixMasks[r]
+        : 10 << 24 | random.nextInt(1 << 24);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ADDRESS_COUNT)
+  public int trie() {
+    int matched = 0;
+    for (int i = 0; i < ADDRESS_COUNT; i++) {
+      if (trie.lookup(addresses[i]) != null) {
+        matched++;
+      }
+    }
+    return matched;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ADDRESS_COUNT)
+  public int linear() {
+    int matched = 0;
+    for (int i = 0; i < ADDRESS_COUNT; i++) {
+      Route best = null;
+      int bestLength = -1;
+      for (int r = 0; r < routes.length; r++) {
+        if ((addresses[i] & prefixMasks[r]) == prefixAddresses[r] && prefixLengths[r] > bestLength) {
+          best = routes[r];
+          bestLength = prefixLengths[r];
+        }
+      }
+      if (best != null) {
+        matched++;
+      }
+    }
+    return matched;
+  }
+}
@@ -15,6 +15,7 @@
 package com.ibm.cloud.is.common;
 
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -33,6 +34,11 @@ public class SdkCommon {
      */
     private static String userAgent;
 
+    /**
+     * The SDK-specific headers, which are the same for every operation.
+     */
+    private static volatile Map<String, String> sdkHeaders;
+
     private static String projectName;
     private static String version;
 
@@ -85,12 +91,8 @@ public class SdkCommon {
      * This function is invoked by generated service methods (i.e. methods which implement the REST API operations
      * defined within the API definition). The purpose of this function is to give the SDK implementor the opportunity
      * to provide SDK-specific HTTP headers that will be sent with an outgoing REST API request.
-     * <p>This function is invoked for <b>each</b> invocation of a generated service method,
-     * so the set of HTTP headers could be request-specific.
-     * As an optimization, if your SDK will be returning the same set of HTTP headers for each invocation of this
-     * function, it is recommended that you initialize the returned map just once (perhaps by using
-     * lazy initialization) and simply return it each time the function is invoked, instead of building it each time
-     * as in the example below.
+     * <p>The headers returned by this SDK do not depend on the operation, so the map is built just once
+     * (using lazy initialization) and the same unmodifiable map is returned each time the function is invoked.
      *
      * If you plan to gather metrics for your SDK, the User-Agent header value must
      * be a string similar to the following:
@@ -112,11 +114,16 @@ public class SdkCommon {
      *            the version of the service as defined in the API definition (e.g. "V1")
      * @param operationId
      *            the operationId as defined in the API definition (e.g. getContext)
-     * @return a Map which contains the set of headers to be included in the REST API request
+     * @return an unmodifiable Map which contains the set of headers to be included in the REST API request
      */
     public static Map<String, String> getSdkHeaders(String serviceName, String serviceVersion, String operationId) {
-        Map<String, String> headers = new HashMap<>();
-        headers.put(HttpHeaders.USER_AGENT, getUserAgent());
+        Map<String, String> headers = sdkHeaders;
+        if (headers == null) {
+            headers = new HashMap<>();
+            headers.put(HttpHeaders.USER_AGENT, getUserAgent());
+            headers = Collections.unmodifiableMap(headers);
+            sdkHeaders = headers;
+        }
         return headers;
     }
 }
@@ -0,0 +1,183 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.async;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of asynchronous operations which are in flight at the same time, without blocking any thread.
+ * <p>
+ * An operation submitted while the limit is reached is queued, and started (in submission order) as soon as an
+ * operation in flight completes. Operations are started on the thread which submits them or on the thread which
+ * completes the previous operation, so starting an operation should be cheap and non-blocking (e.g. enqueuing an
+ * HTTP request). Cancelling the future returned by {@link #submit(Supplier)} removes a queued operation from the
+ * queue, or cancels the future of an operation in flight.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class AsyncLimiter {
+
+    private final int maxInFlight;
+    private final Deque<Task<?>> queue = new ArrayDeque<>();
+    private int inFlight;
+    private boolean draining;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param maxInFlight the maximum number of operations in flight (must be at least 1)
+     */
+    public AsyncLimiter(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Returns the maximum number of operations in flight.
+     *
+     * @return the maximum number of operations in flight
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Returns the number of operations currently in flight.
+     *
+     * @return the number of operations in flight
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of operations waiting to be started.
+     *
+     * @return the number of queued operations
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * Submits an operation, which is started immediately if fewer than the maximum number of operations are in
+     * flight, or queued otherwise. The operation is considered in flight until the stage it returns completes.
+     *
+     * @param <T> the type of the result of the operation
+     * @param operation starts the operation and returns the stage which completes with its result
+     * @return a future which completes with the result of the operation
+     */
+    public <T> CompletableFuture<T> submit(Supplier<? extends CompletionStage<T>> operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("operation cannot be null");
+        }
+        Task<T> task = new Task<>(operation);
+        synchronized (this) {
+            queue.addLast(task);
+        }
+        task.result.whenComplete((r, e) -> {
+            if (task.result.isCancelled()) {
+                synchronized (this) {
+                    queue.remove(task);
+                }
+            }
+        });
+        drain();
+        return task.result;
+    }
+
+    private void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        drain();
+    }
+
+    // Starts queued operations while permits are available. Operations which complete synchronously release
+    // their permit while the loop is running, so the loop picks up the next operation rather than recursing.
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            Task<?> next;
+            synchronized (this) {
+                next = inFlight < maxInFlight ? queue.pollFirst() : null;
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+                inFlight++;
+            }
+            next.start();
+        }
+    }
+
+    /**
+     * An operation and the future which completes with its result.
+     *
+     * @param <T> the type of the result of the operation
+     */
+    private final class Task<T> {
+        private final Supplier<? extends CompletionStage<T>> operation;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Task(Supplier<? extends CompletionStage<T>> operation) {
+            this.operation = operation;
+        }
+
+        void start() {
+            if (result.isDone()) {
+                release();
+                return;
+            }
+            CompletionStage<T> stage;
+            try {
+                stage = operation.get();
+                if (stage == null) {
+                    throw new NullPointerException("The operation returned a null stage");
+                }
+            } catch (Throwable t) {
+                release();
+                result.completeExceptionally(t);
+                return;
+            }
+            result.whenComplete((r, e) -> {
+                if (result.isCancelled()) {
+                    stage.toCompletableFuture().cancel(true);
+                }
+            });
+            stage.whenComplete((r, e) -> {
+                release();
+                if (e == null) {
+                    result.complete(r);
+                } else {
+                    result.completeExceptionally(e instanceof CompletionException && e.getCause() != null
+                        ? e.getCause() : e);
+                }
+            });
+        }
+    }
+}
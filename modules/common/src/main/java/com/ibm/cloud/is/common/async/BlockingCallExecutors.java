@@ -0,0 +1,118 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.async;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors suitable for running blocking service calls (i.e. {@code ServiceCall.execute()}).
+ * <p>
+ * On a JVM which supports virtual threads (Java 21 or later), each call can run on its own virtual thread: a
+ * virtual thread which waits for a response does not hold a platform thread, so the number of concurrent calls is
+ * not bounded by the size of a thread pool. On older JVMs, {@link #newExecutor(int)} falls back to a fixed pool
+ * of platform threads. The SDK is compiled for Java 8, so virtual threads are detected and created reflectively.
+ */
+public final class BlockingCallExecutors {
+
+    private BlockingCallExecutors() {
+    }
+
+    /**
+     * Returns true if the JVM supports virtual threads.
+     *
+     * @return true if virtual threads are available
+     */
+    public static boolean isVirtualThreadAvailable() {
+        return VirtualThreadSupport.FACTORY != null;
+    }
+
+    /**
+     * Creates an executor which runs each task on a new virtual thread.
+     *
+     * @return the executor
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        if (VirtualThreadSupport.FACTORY == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+        }
+        return VirtualThreadSupport.newExecutor(VirtualThreadSupport.FACTORY);
+    }
+
+    /**
+     * Creates an executor which runs each task on a new virtual thread if the JVM supports virtual threads, or
+     * on a fixed pool of the specified number of daemon platform threads otherwise.
+     *
+     * @param fallbackThreads the number of platform threads used if virtual threads are not available
+     * @return the executor
+     */
+    public static ExecutorService newExecutor(int fallbackThreads) {
+        if (fallbackThreads < 1) {
+            throw new IllegalArgumentException("fallbackThreads must be at least 1");
+        }
+        return isVirtualThreadAvailable() ? newVirtualThreadExecutor() : newPlatformThreadExecutor(fallbackThreads);
+    }
+
+    /**
+     * Creates an executor which runs the tasks on a fixed pool of daemon platform threads.
+     *
+     * @param threads the number of threads
+     * @return the executor
+     */
+    public static ExecutorService newPlatformThreadExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "is-sdk-blocking-call-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Lazily looks up {@code Executors.newVirtualThreadPerTaskExecutor()}.
+     */
+    private static final class VirtualThreadSupport {
+        // Null if the method does not exist, or cannot be invoked (e.g. virtual threads are a preview feature).
+        private static final Method FACTORY = findFactory();
+
+        private VirtualThreadSupport() {
+        }
+
+        private static Method findFactory() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                newExecutor(factory).shutdown();
+                return factory;
+            } catch (NoSuchMethodException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        static ExecutorService newExecutor(Method factory) {
+            try {
+                return (ExecutorService) factory.invoke(null);
+            } catch (IllegalAccessException e) {
+                throw new UnsupportedOperationException("Virtual threads are not accessible", e);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new UnsupportedOperationException("Virtual threads are not available", cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.async;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A set of {@link AsyncLimiter}s with the same limit, one per key (e.g. one per region or per host).
+ * <p>
+ * Instances are thread-safe, and are meant to be shared by all the clients whose operations are limited together.
+ */
+public final class KeyedAsyncLimiter {
+
+    private final int maxInFlightPerKey;
+    private final ConcurrentMap<String, AsyncLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a keyed limiter.
+     *
+     * @param maxInFlightPerKey the maximum number of operations in flight for each key (must be at least 1)
+     */
+    public KeyedAsyncLimiter(int maxInFlightPerKey) {
+        if (maxInFlightPerKey < 1) {
+            throw new IllegalArgumentException("maxInFlightPerKey must be at least 1");
+        }
+        this.maxInFlightPerKey = maxInFlightPerKey;
+    }
+
+    /**
+     * Returns the maximum number of operations in flight for each key.
+     *
+     * @return the maximum number of operations in flight for each key
+     */
+    public int getMaxInFlightPerKey() {
+        return maxInFlightPerKey;
+    }
+
+    /**
+     * Returns the limiter for the specified key, creating it if necessary.
+     *
+     * @param key the key
+     * @return the limiter for the key
+     */
+    public AsyncLimiter get(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        return limiters.computeIfAbsent(key, k -> new AsyncLimiter(maxInFlightPerKey));
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.http.ServiceCallback;
+
+/**
+ * Adapts {@link ServiceCall}s to {@link CompletableFuture}s.
+ */
+public final class ServiceCallFutures {
+
+    private ServiceCallFutures() {
+    }
+
+    /**
+     * Enqueues the specified call for asynchronous execution and returns a future which completes with its
+     * response, or exceptionally with the exception that the call reported (e.g. a
+     * {@link com.ibm.cloud.sdk.core.service.exception.ServiceResponseException} for an error status code).
+     * Cancelling the future cancels the call.
+     * <p>
+     * The future is completed on the thread of the HTTP client which executes the call, so stages which perform
+     * significant work should be attached with one of the {@code *Async} methods of {@link CompletableFuture}.
+     *
+     * @param <T> the type of the result of the call
+     * @param call the call to execute
+     * @return a future which completes with the response of the call
+     */
+    public static <T> CompletableFuture<Response<T>> execute(ServiceCall<T> call) {
+        if (call == null) {
+            throw new IllegalArgumentException("call cannot be null");
+        }
+        CompletableFuture<Response<T>> future = new CompletableFuture<>();
+        future.whenComplete((r, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new ServiceCallback<T>() {
+            @Override
+            public void onResponse(Response<T> response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Executes the specified call synchronously on the specified executor, and returns a future which completes
+     * with its response, or exceptionally with the exception that the call threw. Cancelling the future cancels
+     * the call.
+     * <p>
+     * Unlike {@link #execute(ServiceCall)}, each call occupies a thread of the executor while it is in flight, which
+     * is inexpensive on virtual threads (see {@link BlockingCallExecutors}).
+     *
+     * @param <T> the type of the result of the call
+     * @param call the call to execute
+     * @param executor the executor on which the call is executed
+     * @return a future which completes with the response of the call
+     */
+    public static <T> CompletableFuture<Response<T>> execute(ServiceCall<T> call, Executor executor) {
+        if (call == null || executor == null) {
+            throw new IllegalArgumentException("call and executor cannot be null");
+        }
+        CompletableFuture<Response<T>> future = new CompletableFuture<>();
+        future.whenComplete((r, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(call.execute());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+}
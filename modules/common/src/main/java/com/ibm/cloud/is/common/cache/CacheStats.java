@@ -0,0 +1,121 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.cache;
+
+/**
+ * An immutable snapshot of the counters of a {@link TtlCache}.
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long staleHitCount;
+    private final long missCount;
+    private final long loadFailureCount;
+    private final long refreshCount;
+    private final long refreshFailureCount;
+    private final long evictionCount;
+
+    CacheStats(long hitCount, long staleHitCount, long missCount, long loadFailureCount, long refreshCount,
+        long refreshFailureCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.staleHitCount = staleHitCount;
+        this.missCount = missCount;
+        this.loadFailureCount = loadFailureCount;
+        this.refreshCount = refreshCount;
+        this.refreshFailureCount = refreshFailureCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Returns the number of lookups which returned a fresh value.
+     *
+     * @return the number of fresh hits
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups which returned a stale value while it was being refreshed in the background.
+     *
+     * @return the number of stale hits
+     */
+    public long getStaleHitCount() {
+        return staleHitCount;
+    }
+
+    /**
+     * Returns the number of lookups which found no usable value and had to wait for the value to be loaded.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of loads, performed on a miss, which threw an exception.
+     *
+     * @return the number of failed loads
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * Returns the number of background refreshes which replaced a stale value.
+     *
+     * @return the number of successful refreshes
+     */
+    public long getRefreshCount() {
+        return refreshCount;
+    }
+
+    /**
+     * Returns the number of background refreshes which threw an exception (the stale value is kept).
+     *
+     * @return the number of failed refreshes
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailureCount;
+    }
+
+    /**
+     * Returns the number of entries evicted because the cache was full.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the ratio of the lookups which returned a cached value (fresh or stale) to all lookups.
+     *
+     * @return the hit rate, or 1 if there were no lookups
+     */
+    public double getHitRate() {
+        long hits = hitCount + staleHitCount;
+        long lookups = hits + missCount;
+        return lookups == 0 ? 1.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", staleHits=" + staleHitCount + ", misses=" + missCount
+            + ", loadFailures=" + loadFailureCount + ", refreshes=" + refreshCount + ", refreshFailures="
+            + refreshFailureCount + ", evictions=" + evictionCount + "}";
+    }
+}
@@ -0,0 +1,422 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A size-bounded, read-through cache whose entries expire a fixed time after they were loaded, with
+ * stale-while-revalidate refresh.
+ * <p>
+ * A value is fresh for the time-to-live after it was loaded. Once it is older than that, but still within the
+ * stale-while-revalidate window, lookups keep returning it immediately while a single background refresh reloads
+ * it with the loader which originally loaded it; if the refresh fails, the stale value is kept until the end of the
+ * window. Past the window, the value is discarded and the next lookup loads it again, and concurrent lookups of the
+ * same missing key wait for a single load. When the cache holds its maximum number of entries, the least recently
+ * used entry is evicted. Null values are not cached, and exceptions thrown by the loader on a miss are propagated
+ * to the callers waiting for that load.
+ * <p>
+ * Lookups of cached values take a short lock and never block on I/O. Instances are thread-safe.
+ *
+ * @param <K> the type of the keys, which must implement {@code equals()} and {@code hashCode()}
+ * @param <V> the type of the values
+ */
+public final class TtlCache<K, V> {
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier ticker;
+
+    // Guarded by this.
+    private final LinkedHashMap<K, Entry<K, V>> entries;
+    private final Map<K, CompletableFuture<V>> loading = new HashMap<>();
+    private long hitCount;
+    private long staleHitCount;
+    private long missCount;
+    private long loadFailureCount;
+    private long refreshCount;
+    private long refreshFailureCount;
+    private long evictionCount;
+
+    /**
+     * Builder.
+     */
+    public static class Builder {
+        private int maximumSize = 1000;
+        private long ttlNanos = TimeUnit.MINUTES.toNanos(15);
+        private long staleNanos;
+        private Executor refreshExecutor;
+        private LongSupplier ticker = System::nanoTime;
+
+        /**
+         * Builds a TtlCache.
+         *
+         * @param <K> the type of the keys
+         * @param <V> the type of the values
+         * @return the new TtlCache instance
+         */
+        public <K, V> TtlCache<K, V> build() {
+            return new TtlCache<>(this);
+        }
+
+        /**
+         * Set the maximum number of entries. Defaults to 1000.
+         *
+         * @param maximumSize the maximum number of entries (must be at least 1)
+         * @return the TtlCache builder
+         */
+        public Builder maximumSize(int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be at least 1");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Set the time during which a value is fresh after it was loaded. Defaults to 15 minutes.
+         *
+         * @param ttl the time-to-live (must be at least 0)
+         * @param unit the unit of the time-to-live
+         * @return the TtlCache builder
+         */
+        public Builder ttl(long ttl, TimeUnit unit) {
+            this.ttlNanos = toNanos(ttl, unit);
+            return this;
+        }
+
+        /**
+         * Set the time after the expiry of a value during which it is still returned while it is refreshed in the
+         * background. Defaults to 0 (no stale values are returned).
+         *
+         * @param window the stale-while-revalidate window (must be at least 0)
+         * @param unit the unit of the window
+         * @return the TtlCache builder
+         */
+        public Builder staleWhileRevalidate(long window, TimeUnit unit) {
+            this.staleNanos = toNanos(window, unit);
+            return this;
+        }
+
+        /**
+         * Set the executor on which the background refreshes run. Defaults to a shared pool of daemon threads.
+         *
+         * @param executor the executor
+         * @return the TtlCache builder
+         */
+        public Builder refreshExecutor(Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("executor cannot be null");
+            }
+            this.refreshExecutor = executor;
+            return this;
+        }
+
+        /**
+         * Set the source of time, in nanoseconds. Defaults to {@link System#nanoTime()}.
+         *
+         * @param ticker the source of time
+         * @return the TtlCache builder
+         */
+        public Builder ticker(LongSupplier ticker) {
+            if (ticker == null) {
+                throw new IllegalArgumentException("ticker cannot be null");
+            }
+            this.ticker = ticker;
+            return this;
+        }
+
+        private static long toNanos(long duration, TimeUnit unit) {
+            if (duration < 0 || unit == null) {
+                throw new IllegalArgumentException("The duration must be at least 0 and unit cannot be null");
+            }
+            return unit.toNanos(duration);
+        }
+    }
+
+    private TtlCache(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.ttlNanos = builder.ttlNanos;
+        this.staleNanos = builder.staleNanos;
+        this.refreshExecutor = builder.refreshExecutor != null
+            ? builder.refreshExecutor : DefaultExecutorHolder.EXECUTOR;
+        this.ticker = builder.ticker;
+        this.entries = new LinkedHashMap<K, Entry<K, V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<K, V>> eldest) {
+                if (size() > TtlCache.this.maximumSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the value associated with the specified key, loading it with the specified loader if it is not
+     * cached. The loader is also used for the background refreshes of the value.
+     *
+     * @param key the key
+     * @param loader loads the value of a key (may return null, in which case nothing is cached)
+     * @return the cached or loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        if (key == null || loader == null) {
+            throw new IllegalArgumentException("key and loader cannot be null");
+        }
+        CompletableFuture<V> pending = null;
+        boolean owner = false;
+        Entry<K, V> entry;
+        boolean refresh = false;
+        synchronized (this) {
+            entry = lookup(key);
+            if (entry != null) {
+                refresh = claimRefresh(entry);
+            } else {
+                missCount++;
+                pending = loading.get(key);
+                if (pending == null) {
+                    pending = new CompletableFuture<>();
+                    loading.put(key, pending);
+                    owner = true;
+                }
+            }
+        }
+        if (entry != null) {
+            if (refresh) {
+                refresh(key, entry);
+            }
+            return entry.value;
+        }
+        if (!owner) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                loading.remove(key, pending);
+                loadFailureCount++;
+            }
+            pending.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            // A load which was invalidated while in flight may return a value which predates the invalidation: it
+            // is returned to its callers, but not cached.
+            if (loading.remove(key, pending) && value != null) {
+                entries.put(key, new Entry<>(value, ticker.getAsLong(), loader));
+            }
+        }
+        pending.complete(value);
+        return value;
+    }
+
+    /**
+     * Returns the value associated with the specified key if it is cached, without loading it. A stale value is
+     * returned, and refreshed in the background, as by {@link #get(Object, Function)}.
+     *
+     * @param key the key
+     * @return the cached value, or null if the key is not cached
+     */
+    public V getIfPresent(K key) {
+        Entry<K, V> entry;
+        boolean refresh;
+        synchronized (this) {
+            entry = lookup(key);
+            refresh = entry != null && claimRefresh(entry);
+        }
+        if (refresh) {
+            refresh(key, entry);
+        }
+        return entry != null ? entry.value : null;
+    }
+
+    // Must be called with the lock held; counts hits, and marks the value as stale if it is.
+    private Entry<K, V> lookup(K key) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long age = ticker.getAsLong() - entry.loadedAt;
+        if (age < ttlNanos) {
+            hitCount++;
+            return entry;
+        }
+        if (age - ttlNanos < staleNanos && entry.loader != null) {
+            staleHitCount++;
+            entry.stale = true;
+            return entry;
+        }
+        entries.remove(key);
+        return null;
+    }
+
+    // Must be called with the lock held; returns true if the caller must start a refresh of the stale value, which
+    // it does once the lock is released, so that the executor is not called with the lock held.
+    private boolean claimRefresh(Entry<K, V> entry) {
+        if (!entry.stale || entry.refreshing) {
+            return false;
+        }
+        entry.refreshing = true;
+        return true;
+    }
+
+    private void refresh(K key, Entry<K, V> entry) {
+        try {
+            refreshExecutor.execute(() -> {
+                V value = null;
+                try {
+                    value = entry.loader.apply(key);
+                } catch (RuntimeException e) {
+                    // The stale value is kept until the end of the stale-while-revalidate window.
+                } finally {
+                    refreshed(key, entry, value);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshed(key, entry, null);
+        }
+    }
+
+    // Ends the refresh of an entry, with the reloaded value or null if the refresh failed.
+    private synchronized void refreshed(K key, Entry<K, V> entry, V value) {
+        entry.refreshing = false;
+        if (value == null) {
+            refreshFailureCount++;
+        } else if (entries.get(key) == entry) {
+            entries.put(key, new Entry<>(value, ticker.getAsLong(), entry.loader));
+            refreshCount++;
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key. Since no loader is known for the value, it is not
+     * refreshed in the background, and is discarded once its time-to-live has elapsed.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        put(key, value, null);
+    }
+
+    /**
+     * Associates the specified value, loaded by other means (e.g. asynchronously), with the specified key.
+     *
+     * @param key the key
+     * @param value the value
+     * @param loader loads the value of the key when it is refreshed in the background, or null
+     */
+    public synchronized void put(K key, V value, Function<? super K, ? extends V> loader) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("key and value cannot be null");
+        }
+        entries.put(key, new Entry<K, V>(value, ticker.getAsLong(), loader));
+    }
+
+    /**
+     * Removes the value associated with the specified key. A load of the key which is in flight is not cached, and
+     * the next lookup loads the key again.
+     *
+     * @param key the key
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        loading.remove(key);
+    }
+
+    /**
+     * Removes all the values. The loads which are in flight are not cached.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        loading.clear();
+    }
+
+    /**
+     * Returns the number of entries, including the entries which have expired but have not yet been removed.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a snapshot of the counters of this cache.
+     *
+     * @return the counters
+     */
+    public synchronized CacheStats stats() {
+        return new CacheStats(hitCount, staleHitCount, missCount, loadFailureCount, refreshCount,
+            refreshFailureCount, evictionCount);
+    }
+
+    /**
+     * A cached value.
+     */
+    private static final class Entry<K, V> {
+        private final V value;
+        private final long loadedAt;
+        private final Function<? super K, ? extends V> loader;
+        // Guarded by the cache.
+        private boolean stale;
+        private boolean refreshing;
+
+        Entry(V value, long loadedAt, Function<? super K, ? extends V> loader) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.loader = loader;
+        }
+    }
+
+    /**
+     * Lazily creates the default refresh executor.
+     */
+    private static final class DefaultExecutorHolder {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "is-sdk-cache-refresh-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private DefaultExecutorHolder() {
+        }
+    }
+}
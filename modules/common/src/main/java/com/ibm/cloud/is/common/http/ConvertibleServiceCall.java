@@ -0,0 +1,40 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.http;
+
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+
+/**
+ * A {@link ServiceCall} whose request can be re-issued with a different {@link ResponseConverter}.
+ * <p>
+ * This allows a caller to consume the response of an operation in a form other than the model returned by
+ * the service method, for example to process a large collection one element at a time instead of materializing
+ * the whole response.
+ *
+ * @param <T> the type of the response model produced by the operation's default converter
+ */
+public interface ConvertibleServiceCall<T> extends ServiceCall<T> {
+
+    /**
+     * Returns a new {@link ServiceCall} which sends the same request as this call (including any headers added
+     * with {@link #addHeader(String, String)}) and converts the response with the specified converter.
+     *
+     * @param converter the converter used to convert the response
+     * @param <R> the type of the converted response
+     * @return a new {@link ServiceCall}
+     */
+    <R> ServiceCall<R> withConverter(ResponseConverter<R> converter);
+}
@@ -0,0 +1,320 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.http;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.service.BaseService;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+
+/**
+ * An OkHttp interceptor which revalidates the responses of GET requests with their entity tag, and optionally
+ * adds the entity tag of the last known representation of a resource to the requests which update it.
+ * <p>
+ * When a GET response carries an {@code ETag} header, its body is remembered for the request URL. The next GET of
+ * the same URL is sent with an {@code If-None-Match} header, and if the server answers {@code 304 Not Modified},
+ * the interceptor returns the remembered body as a {@code 200 OK} response, so that the service method returns the
+ * same model as before without the server having to send it again. The remembered bodies are bounded in number
+ * (least recently used first) and in size, and the entry of a URL is replaced by the response of a PATCH or PUT
+ * request to that URL, and removed by a DELETE request.
+ * <p>
+ * With {@link Builder#ifMatchOnUpdate(boolean)}, PATCH, PUT and DELETE requests are sent with an {@code If-Match}
+ * header containing the entity tag remembered for their URL, so that the server rejects the update with
+ * {@code 412 Precondition Failed} if the resource has been modified since it was last read, without a
+ * read-before-write. Requests which already have an {@code If-None-Match} or {@code If-Match} header are left
+ * unchanged, which also allows a caller to send an entity tag obtained with {@link #getETag(Response)}.
+ * <p>
+ * Instances are thread-safe and can be shared by several clients.
+ */
+public final class ETagInterceptor implements Interceptor {
+
+    /**
+     * The name of the response header which carries the entity tag.
+     */
+    public static final String ETAG = "ETag";
+
+    /**
+     * The name of the request header used to revalidate a representation.
+     */
+    public static final String IF_NONE_MATCH = "If-None-Match";
+
+    /**
+     * The name of the request header used for optimistic concurrency control.
+     */
+    public static final String IF_MATCH = "If-Match";
+
+    private static final int NOT_MODIFIED = 304;
+
+    private final int maximumEntries;
+    private final long maximumBodyBytes;
+    private final boolean ifMatchOnUpdate;
+
+    // Guarded by this.
+    private final LinkedHashMap<String, Entry> entries;
+    private long notModifiedCount;
+    private long modifiedCount;
+
+    /**
+     * Builder.
+     */
+    public static class Builder {
+        private int maximumEntries = 10000;
+        private long maximumBodyBytes = 1024 * 1024;
+        private boolean ifMatchOnUpdate;
+
+        /**
+         * Builds an ETagInterceptor.
+         *
+         * @return the new ETagInterceptor instance
+         */
+        public ETagInterceptor build() {
+            return new ETagInterceptor(this);
+        }
+
+        /**
+         * Set the maximum number of remembered representations. Defaults to 10000.
+         *
+         * @param maximumEntries the maximum number of entries (must be at least 1)
+         * @return the ETagInterceptor builder
+         */
+        public Builder maximumEntries(int maximumEntries) {
+            if (maximumEntries < 1) {
+                throw new IllegalArgumentException("maximumEntries must be at least 1");
+            }
+            this.maximumEntries = maximumEntries;
+            return this;
+        }
+
+        /**
+         * Set the size of the largest body which is remembered. Defaults to 1 MiB.
+         *
+         * @param maximumBodyBytes the maximum size of a body, in bytes (must be at least 0)
+         * @return the ETagInterceptor builder
+         */
+        public Builder maximumBodyBytes(long maximumBodyBytes) {
+            if (maximumBodyBytes < 0) {
+                throw new IllegalArgumentException("maximumBodyBytes must be at least 0");
+            }
+            this.maximumBodyBytes = maximumBodyBytes;
+            return this;
+        }
+
+        /**
+         * Set whether the remembered entity tag of a resource is sent in an {@code If-Match} header with the
+         * requests which update or delete it. Defaults to false.
+         *
+         * @param ifMatchOnUpdate true to send {@code If-Match} headers
+         * @return the ETagInterceptor builder
+         */
+        public Builder ifMatchOnUpdate(boolean ifMatchOnUpdate) {
+            this.ifMatchOnUpdate = ifMatchOnUpdate;
+            return this;
+        }
+    }
+
+    private ETagInterceptor(Builder builder) {
+        this.maximumEntries = builder.maximumEntries;
+        this.maximumBodyBytes = builder.maximumBodyBytes;
+        this.ifMatchOnUpdate = builder.ifMatchOnUpdate;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ETagInterceptor.this.maximumEntries;
+            }
+        };
+    }
+
+    /**
+     * Adds this interceptor to the HTTP client of the specified service.
+     *
+     * @param service the service
+     */
+    public void install(BaseService service) {
+        if (service == null) {
+            throw new IllegalArgumentException("service cannot be null");
+        }
+        service.setClient(service.getClient().newBuilder().addInterceptor(this).build());
+    }
+
+    /**
+     * Returns the entity tag of the specified response.
+     *
+     * @param response the response of a service call
+     * @return the value of the {@code ETag} header, or null if the response does not have one
+     */
+    public static String getETag(Response<?> response) {
+        return response != null && response.getHeaders() != null ? response.getHeaders().values(ETAG).stream()
+            .findFirst().orElse(null) : null;
+    }
+
+    /**
+     * Returns the entity tag remembered for the specified URL.
+     *
+     * @param url the URL of a resource, including the query parameters
+     * @return the entity tag, or null if no representation of the resource is remembered
+     */
+    public synchronized String getETag(String url) {
+        Entry entry = entries.get(url);
+        return entry != null ? entry.etag : null;
+    }
+
+    /**
+     * Returns the number of GET responses which were served from a remembered body after a
+     * {@code 304 Not Modified} response.
+     *
+     * @return the number of revalidated responses
+     */
+    public synchronized long getNotModifiedCount() {
+        return notModifiedCount;
+    }
+
+    /**
+     * Returns the number of revalidation requests for which the server returned a new representation.
+     *
+     * @return the number of modified responses
+     */
+    public synchronized long getModifiedCount() {
+        return modifiedCount;
+    }
+
+    /**
+     * Forgets all the remembered representations.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public okhttp3.Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String url = request.url().toString();
+        String method = request.method();
+        if ("GET".equals(method)) {
+            return get(chain, request, url);
+        }
+        boolean update = "PATCH".equals(method) || "PUT".equals(method);
+        if (!update && !"DELETE".equals(method)) {
+            return chain.proceed(request);
+        }
+        if (ifMatchOnUpdate && request.header(IF_MATCH) == null) {
+            String etag = getETag(url);
+            if (etag != null) {
+                request = request.newBuilder().header(IF_MATCH, etag).build();
+            }
+        }
+        okhttp3.Response response = chain.proceed(request);
+        if (update && response.isSuccessful()) {
+            remember(url, response);
+        } else if (response.isSuccessful() || response.code() == 404) {
+            forget(url);
+        }
+        return response;
+    }
+
+    private okhttp3.Response get(Chain chain, Request request, String url) throws IOException {
+        if (request.header(IF_NONE_MATCH) != null) {
+            return chain.proceed(request);
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(url);
+        }
+        if (entry == null) {
+            okhttp3.Response response = chain.proceed(request);
+            if (response.isSuccessful()) {
+                remember(url, response);
+            }
+            return response;
+        }
+        okhttp3.Response response = chain.proceed(request.newBuilder().header(IF_NONE_MATCH, entry.etag).build());
+        if (response.code() == NOT_MODIFIED) {
+            response.close();
+            synchronized (this) {
+                notModifiedCount++;
+            }
+            return response.newBuilder()
+                .request(request)
+                .code(200)
+                .message("OK")
+                .headers(entry.headers)
+                .body(ResponseBody.create(entry.contentType, entry.body))
+                .build();
+        }
+        synchronized (this) {
+            modifiedCount++;
+        }
+        if (response.isSuccessful()) {
+            remember(url, response);
+        } else if (response.code() == 404) {
+            forget(url);
+        }
+        return response;
+    }
+
+    private void remember(String url, okhttp3.Response response) throws IOException {
+        String etag = response.header(ETAG);
+        ResponseBody body = response.body();
+        if (etag == null || body == null) {
+            forget(url);
+            return;
+        }
+        long length = body.contentLength();
+        if (length > maximumBodyBytes) {
+            forget(url);
+            return;
+        }
+        // Reads the body without consuming it, up to one byte more than the limit.
+        byte[] bytes = response.peekBody(maximumBodyBytes + 1).bytes();
+        if (bytes.length > maximumBodyBytes) {
+            forget(url);
+            return;
+        }
+        Entry entry = new Entry(etag, response.headers(), body.contentType(), bytes);
+        synchronized (this) {
+            entries.put(url, entry);
+        }
+    }
+
+    private synchronized void forget(String url) {
+        entries.remove(url);
+    }
+
+    /**
+     * A remembered representation.
+     */
+    private static final class Entry {
+        private final String etag;
+        private final Headers headers;
+        private final MediaType contentType;
+        private final byte[] body;
+
+        Entry(String etag, Headers headers, MediaType contentType, byte[] body) {
+            this.etag = etag;
+            this.headers = headers;
+            this.contentType = contentType;
+            this.body = body;
+        }
+    }
+}
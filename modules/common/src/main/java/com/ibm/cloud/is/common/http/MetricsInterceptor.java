@@ -0,0 +1,218 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.http;
+
+import java.io.IOException;
+
+import com.ibm.cloud.is.common.metrics.MetricsRecorder;
+import com.ibm.cloud.sdk.core.service.BaseService;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * An OkHttp interceptor which reports every call to a {@link MetricsRecorder}, keyed by the operationId of the
+ * operation it invokes.
+ * <p>
+ * The operation is identified by the {@link Operation} descriptor attached to the request (see
+ * {@link Operation#buildRequest}); requests without a descriptor are reported as {@value #UNKNOWN_OPERATION}. The
+ * latency of a call is measured from the moment it reaches this interceptor until the response headers have been
+ * received. The size of the response body is reported immediately if the response declares its length, and
+ * otherwise once the body has been read (or closed).
+ * <p>
+ * Retries are counted by a companion network interceptor ({@link #getNetworkInterceptor()}), which sees every
+ * request actually sent: each request after the first one sent for the same call (e.g. after a connection failure
+ * or to follow a redirect) is reported as a retry. {@link #install(BaseService)} adds both interceptors.
+ * <p>
+ * When this interceptor is combined with other application interceptors, it should be added first, so that the
+ * latency includes the time spent in the other interceptors. Instances are thread-safe and can be shared by
+ * several clients.
+ */
+public final class MetricsInterceptor implements Interceptor {
+
+    /**
+     * The operationId reported for the requests which do not carry an {@link Operation} descriptor.
+     */
+    public static final String UNKNOWN_OPERATION = "unknown";
+
+    private final MetricsRecorder recorder;
+    private final Interceptor networkInterceptor = new AttemptCounter();
+
+    /**
+     * Creates an interceptor which reports the calls to the specified recorder.
+     *
+     * @param recorder the recorder (e.g. an {@link com.ibm.cloud.is.common.metrics.InMemoryMetricsRecorder})
+     */
+    public MetricsInterceptor(MetricsRecorder recorder) {
+        if (recorder == null) {
+            throw new IllegalArgumentException("recorder cannot be null");
+        }
+        this.recorder = recorder;
+    }
+
+    /**
+     * Adds this interceptor and its network interceptor to the HTTP client of the specified service.
+     *
+     * @param service the service
+     */
+    public void install(BaseService service) {
+        if (service == null) {
+            throw new IllegalArgumentException("service cannot be null");
+        }
+        service.setClient(service.getClient().newBuilder()
+            .addInterceptor(this)
+            .addNetworkInterceptor(networkInterceptor)
+            .build());
+    }
+
+    /**
+     * Returns the network interceptor which counts the retries, for clients which are not configured with
+     * {@link #install(BaseService)}.
+     *
+     * @return the network interceptor
+     */
+    public Interceptor getNetworkInterceptor() {
+        return networkInterceptor;
+    }
+
+    /**
+     * Returns the recorder to which the calls are reported.
+     *
+     * @return the recorder
+     */
+    public MetricsRecorder getRecorder() {
+        return recorder;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Operation<?> operation = Operation.fromRequest(request);
+        String operationId = operation != null ? operation.getOperationId() : UNKNOWN_OPERATION;
+        RequestBody requestBody = request.body();
+        if (requestBody != null && requestBody.contentLength() >= 0) {
+            recorder.requestPayload(operationId, requestBody.contentLength());
+        }
+
+        recorder.callStarted(operationId);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request.newBuilder().tag(Attempts.class, new Attempts(operationId)).build());
+        } catch (IOException | RuntimeException | Error e) {
+            recorder.callFailed(operationId, e, System.nanoTime() - start);
+            throw e;
+        }
+        recorder.callCompleted(operationId, response.code(), System.nanoTime() - start);
+
+        ResponseBody responseBody = response.body();
+        if (responseBody == null) {
+            return response;
+        }
+        if (responseBody.contentLength() >= 0) {
+            recorder.responsePayload(operationId, responseBody.contentLength());
+            return response;
+        }
+        return response.newBuilder().body(new CountingResponseBody(responseBody, operationId)).build();
+    }
+
+    /**
+     * The number of requests sent for one call. The requests of a call are sent one after the other.
+     */
+    private static final class Attempts {
+        private final String operationId;
+        private int count;
+
+        Attempts(String operationId) {
+            this.operationId = operationId;
+        }
+    }
+
+    /**
+     * Reports each request sent for a call after the first one as a retry.
+     */
+    private final class AttemptCounter implements Interceptor {
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Attempts attempts = chain.request().tag(Attempts.class);
+            if (attempts != null && attempts.count++ > 0) {
+                recorder.retryAttempted(attempts.operationId);
+            }
+            return chain.proceed(chain.request());
+        }
+    }
+
+    /**
+     * A response body which reports its size once it has been read.
+     */
+    private final class CountingResponseBody extends ResponseBody {
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+
+        CountingResponseBody(ResponseBody delegate, String operationId) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                private long count;
+                private boolean reported;
+
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long read = super.read(sink, byteCount);
+                    if (read == -1) {
+                        report();
+                    } else {
+                        count += read;
+                    }
+                    return read;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    report();
+                    super.close();
+                }
+
+                private void report() {
+                    if (!reported) {
+                        reported = true;
+                        recorder.responsePayload(operationId, count);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.escape.Escaper;
+import com.google.common.net.UrlEscapers;
+import com.ibm.cloud.is.common.SdkCommon;
+import com.ibm.cloud.is.common.json.JsonUtils;
+import com.ibm.cloud.sdk.core.http.HttpHeaders;
+import com.ibm.cloud.sdk.core.http.RequestBuilder;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
+
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+
+/**
+ * An immutable descriptor of a REST API operation: its operationId, HTTP method, path template, the headers
+ * sent with every request, and the converter used to convert its response.
+ * <p>
+ * Everything which does not depend on the arguments of an invocation is computed once, when the descriptor is
+ * created, so that a service method only needs to add the per-invocation parameters to the request: the path
+ * template is split into segments up front, and the parsed form of the most recently used service URL is reused
+ * rather than parsed again for every request. Descriptors are thread-safe and are intended to be held in static
+ * final fields.
+ *
+ * @param <T> the type of the response model (Void if the operation does not return a response body)
+ */
+public final class Operation<T> {
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    // The same escaper as the one used by RequestBuilder.resolveRequestUrl().
+    private static final Escaper PATH_SEGMENT_ESCAPER = UrlEscapers.urlPathSegmentEscaper();
+
+    // The most recently parsed service URL; in practice all operations are invoked with the same service URL.
+    private static volatile ServiceUrl lastServiceUrl;
+
+    private final String operationId;
+    private final String method;
+    private final String pathTemplate;
+    private final Class<T> responseType;
+    private final ResponseConverter<T> responseConverter;
+    private final Headers headers;
+    private final List<String[]> pathSegments;
+
+    /**
+     * Creates a descriptor for an operation which returns a JSON response body, or no response body if
+     * {@code responseType} is {@code Void.class}.
+     *
+     * @param serviceName the name of the service (e.g. "vpc")
+     * @param serviceVersion the version of the service (e.g. "v1")
+     * @param operationId the operationId (e.g. "listInstances")
+     * @param method the HTTP method (GET, POST, PUT, PATCH, DELETE or HEAD)
+     * @param pathTemplate the path of the operation, relative to the service URL, which may contain path
+     *        parameter references (e.g. "/instances/{id}")
+     * @param responseType the class of the response model
+     */
+    @SuppressWarnings("unchecked")
+    public Operation(String serviceName, String serviceVersion, String operationId, String method,
+        String pathTemplate, Class<T> responseType) {
+        if (operationId == null || method == null || pathTemplate == null || responseType == null) {
+            throw new IllegalArgumentException("operationId, method, pathTemplate and responseType cannot be null");
+        }
+        if (!method.matches("GET|POST|PUT|PATCH|DELETE|HEAD")) {
+            throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+        this.operationId = operationId;
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.responseType = responseType;
+
+        Headers.Builder headersBuilder = new Headers.Builder();
+        Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders(serviceName, serviceVersion, operationId);
+        for (Map.Entry<String, String> header : sdkHeaders.entrySet()) {
+            headersBuilder.set(header.getKey(), header.getValue());
+        }
+        if (responseType == Void.class) {
+            this.responseConverter = (ResponseConverter<T>) ResponseConverterUtils.getVoid();
+        } else {
+            this.responseConverter = JsonUtils.getValue(responseType);
+            headersBuilder.set(HttpHeaders.ACCEPT, APPLICATION_JSON);
+        }
+        this.headers = headersBuilder.build();
+        this.pathSegments = parsePathTemplate(pathTemplate);
+    }
+
+    /**
+     * Returns the operationId.
+     *
+     * @return the operationId
+     */
+    public String getOperationId() {
+        return operationId;
+    }
+
+    /**
+     * Returns the HTTP method.
+     *
+     * @return the HTTP method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the path template.
+     *
+     * @return the path template
+     */
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * Returns the class of the response model.
+     *
+     * @return the class of the response model
+     */
+    public Class<T> getResponseType() {
+        return responseType;
+    }
+
+    /**
+     * Returns the converter used to convert the response. The converter is shared by all invocations.
+     *
+     * @return the response converter
+     */
+    public ResponseConverter<T> getResponseConverter() {
+        return responseConverter;
+    }
+
+    /**
+     * Returns the headers sent with every request.
+     *
+     * @return the headers
+     */
+    public Headers getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Creates a {@link RequestBuilder} for an operation whose path does not contain any path parameters.
+     *
+     * @param serviceUrl the service URL
+     * @return a {@link RequestBuilder} containing the operation's URL and headers
+     */
+    public RequestBuilder newRequestBuilder(String serviceUrl) {
+        return newRequestBuilder(resolveRequestUrl(serviceUrl, null));
+    }
+
+    /**
+     * Creates a {@link RequestBuilder} for an operation whose path contains path parameters.
+     *
+     * @param serviceUrl the service URL
+     * @param pathParameters the values of the path parameters
+     * @return a {@link RequestBuilder} containing the operation's URL and headers
+     */
+    public RequestBuilder newRequestBuilder(String serviceUrl, Map<String, String> pathParameters) {
+        return newRequestBuilder(resolveRequestUrl(serviceUrl, pathParameters));
+    }
+
+    /**
+     * Resolves the URL of an invocation of this operation. The result is the same as the one returned by
+     * {@link RequestBuilder#resolveRequestUrl(String, String, Map)} for this operation's path template.
+     *
+     * @param serviceUrl the service URL
+     * @param pathParameters the values of the path parameters (may be null if the path has no parameters)
+     * @return the URL
+     */
+    public HttpUrl resolveRequestUrl(String serviceUrl, Map<String, String> pathParameters) {
+        if (serviceUrl == null || serviceUrl.isEmpty()) {
+            throw new IllegalArgumentException("The serviceUrl cannot be null");
+        }
+        ServiceUrl base = lastServiceUrl;
+        if (base == null || !base.url.equals(serviceUrl)) {
+            base = new ServiceUrl(serviceUrl, HttpUrl.get(serviceUrl));
+            lastServiceUrl = base;
+        }
+        HttpUrl.Builder builder = base.parsed.newBuilder();
+        for (String[] segment : pathSegments) {
+            builder.addEncodedPathSegment(segment.length == 1 ? segment[0] : expand(segment, pathParameters));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Builds the request of an invocation of this operation. The request is tagged with this descriptor, so that
+     * interceptors can tell which operation it invokes (see {@link #fromRequest(Request)}).
+     *
+     * @param builder the request builder containing the parameters of the invocation
+     * @return the request
+     */
+    public Request buildRequest(RequestBuilder builder) {
+        return builder.build().newBuilder().tag(Operation.class, this).build();
+    }
+
+    /**
+     * Returns the descriptor of the operation invoked by the specified request.
+     *
+     * @param request the request
+     * @return the operation, or null if the request was not built by {@link #buildRequest(RequestBuilder)}
+     */
+    public static Operation<?> fromRequest(Request request) {
+        return request.tag(Operation.class);
+    }
+
+    private RequestBuilder newRequestBuilder(HttpUrl url) {
+        RequestBuilder builder;
+        switch (method) {
+            case "GET":
+                builder = RequestBuilder.get(url);
+                break;
+            case "POST":
+                builder = RequestBuilder.post(url);
+                break;
+            case "PUT":
+                builder = RequestBuilder.put(url);
+                break;
+            case "PATCH":
+                builder = RequestBuilder.patch(url);
+                break;
+            case "DELETE":
+                builder = RequestBuilder.delete(url);
+                break;
+            default:
+                builder = RequestBuilder.head(url);
+                break;
+        }
+        for (int i = 0, size = headers.size(); i < size; i++) {
+            builder.header(headers.name(i), headers.value(i));
+        }
+        return builder;
+    }
+
+    // Each segment is an array alternating literal text and path parameter names: {literal, name, literal, ...}.
+    private static List<String[]> parsePathTemplate(String pathTemplate) {
+        List<String[]> segments = new ArrayList<>();
+        String path = pathTemplate.startsWith("/") ? pathTemplate.substring(1) : pathTemplate;
+        if (path.isEmpty()) {
+            return segments;
+        }
+        for (String segment : path.split("/", -1)) {
+            List<String> parts = new ArrayList<>();
+            int start = 0;
+            int open = segment.indexOf('{');
+            while (open >= 0 && segment.indexOf('}', open) > open) {
+                int close = segment.indexOf('}', open);
+                parts.add(segment.substring(start, open));
+                parts.add(segment.substring(open + 1, close));
+                start = close + 1;
+                open = segment.indexOf('{', start);
+            }
+            parts.add(segment.substring(start));
+            segments.add(parts.toArray(new String[0]));
+        }
+        return segments;
+    }
+
+    private static String expand(String[] segment, Map<String, String> pathParameters) {
+        StringBuilder sb = new StringBuilder(segment[0]);
+        for (int i = 1; i < segment.length; i += 2) {
+            String name = segment[i];
+            String value = pathParameters != null ? pathParameters.get(name) : null;
+            if (value != null && value.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Path parameter '%s' is empty", name));
+            }
+            sb.append(value != null ? PATH_SEGMENT_ESCAPER.escape(value) : "{" + name + "}");
+            sb.append(segment[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + pathTemplate + " (" + operationId + ")";
+    }
+
+    /**
+     * A service URL and its parsed form.
+     */
+    private static final class ServiceUrl {
+        private final String url;
+        private final HttpUrl parsed;
+
+        ServiceUrl(String url, HttpUrl parsed) {
+            this.url = url;
+            this.parsed = parsed;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.http;
+
+import java.util.Date;
+
+import okhttp3.Headers;
+import okhttp3.Response;
+
+/**
+ * Utility methods for the {@code Retry-After} response header, with which a server indicates how long a client
+ * should wait before sending another request (typically with a 429 or 503 status code).
+ */
+public final class RetryAfter {
+
+    /**
+     * The name of the header.
+     */
+    public static final String RETRY_AFTER = "Retry-After";
+
+    private RetryAfter() {
+    }
+
+    /**
+     * Returns the delay requested by the {@code Retry-After} header of the specified response.
+     *
+     * @param response the response
+     * @return the delay, in milliseconds, or -1 if the response has no valid {@code Retry-After} header
+     */
+    public static long getDelayMillis(Response response) {
+        return getDelayMillis(response.header(RETRY_AFTER), System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the delay requested by the specified value of a {@code Retry-After} header, which is either a number
+     * of seconds or an HTTP date.
+     *
+     * @param value the value of the header (may be null)
+     * @param nowMillis the current time, in milliseconds since the epoch, used to convert a date into a delay
+     * @return the delay, in milliseconds (0 if the date is in the past), or -1 if the value is null or invalid
+     */
+    public static long getDelayMillis(String value, long nowMillis) {
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return seconds < 0 ? -1 : Math.min(seconds, Long.MAX_VALUE / 1000) * 1000;
+        } catch (NumberFormatException e) {
+            Date date = Headers.of(RETRY_AFTER, trimmed).getDate(RETRY_AFTER);
+            return date != null ? Math.max(0, date.getTime() - nowMillis) : -1;
+        }
+    }
+}
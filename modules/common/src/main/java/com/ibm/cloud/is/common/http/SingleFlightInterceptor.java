@@ -0,0 +1,206 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.cloud.sdk.core.service.BaseService;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * An OkHttp interceptor which collapses concurrent identical GET requests into a single HTTP request.
+ * <p>
+ * Two GET requests are identical when they have the same URL (including the query string) and the same
+ * {@code Authorization} header, i.e. they are sent on behalf of the same principal. The first request is sent; the
+ * requests which arrive while it is in flight wait for its response instead of being sent, and each receives its
+ * own copy of that response (the body is read into memory once and shared). If the request fails, the waiting
+ * requests fail with an {@link IOException} whose cause is the original failure; if it is cancelled by its caller,
+ * the waiting requests are sent instead. Requests which arrive after the response has been received are sent
+ * again: no response is cached.
+ * <p>
+ * A waiting request stops waiting when its own call is cancelled, or once the call timeout of its client has
+ * elapsed (or, without a call timeout, the sum of its connect, write and read timeouts), in which case it fails
+ * with a {@link SocketTimeoutException}.
+ * <p>
+ * When this interceptor is combined with other application interceptors (e.g. {@link ETagInterceptor}), it should
+ * be added first, so that the collapsed request is processed by the other interceptors only once.
+ * <p>
+ * Instances are thread-safe and can be shared by several clients.
+ */
+public final class SingleFlightInterceptor implements Interceptor {
+
+    // The interval at which a waiting request checks whether its call was cancelled.
+    private static final long CANCEL_POLL_MILLIS = 10;
+
+    private final ConcurrentMap<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Adds this interceptor to the HTTP client of the specified service.
+     *
+     * @param service the service
+     */
+    public void install(BaseService service) {
+        if (service == null) {
+            throw new IllegalArgumentException("service cannot be null");
+        }
+        service.setClient(service.getClient().newBuilder().addInterceptor(this).build());
+    }
+
+    /**
+     * Returns the number of GET requests which were sent.
+     *
+     * @return the number of requests sent
+     */
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * Returns the number of GET requests which were not sent, and received the response of an identical request.
+     *
+     * @return the number of coalesced requests
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Returns the number of distinct GET requests currently in flight.
+     *
+     * @return the number of requests in flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method())) {
+            return chain.proceed(request);
+        }
+        String key = request.url() + "\n" + request.header("Authorization");
+        CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return await(chain, existing);
+        }
+        executedCount.incrementAndGet();
+        SharedResponse shared;
+        try {
+            shared = new SharedResponse(chain.proceed(request));
+        } catch (IOException | RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            if (chain.call().isCanceled()) {
+                // The cancellation only concerns the caller of this request.
+                flight.cancel(false);
+            } else {
+                flight.completeExceptionally(e);
+            }
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(shared);
+        return shared.copy(request);
+    }
+
+    private Response await(Chain chain, CompletableFuture<SharedResponse> flight) throws IOException {
+        Request request = chain.request();
+        long timeoutNanos = getTimeoutNanos(chain);
+        long start = System.nanoTime();
+        try {
+            while (true) {
+                if (chain.call().isCanceled()) {
+                    throw new IOException("Canceled");
+                }
+                if (timeoutNanos > 0 && System.nanoTime() - start >= timeoutNanos) {
+                    throw new SocketTimeoutException("Timed out waiting for an identical request");
+                }
+                try {
+                    return flight.get(CANCEL_POLL_MILLIS, TimeUnit.MILLISECONDS).copy(request);
+                } catch (TimeoutException e) {
+                    // The identical request is still in flight.
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an identical request");
+        } catch (CancellationException e) {
+            coalescedCount.decrementAndGet();
+            executedCount.incrementAndGet();
+            return chain.proceed(request);
+        } catch (ExecutionException e) {
+            throw new IOException("An identical request failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private static long getTimeoutNanos(Chain chain) {
+        long callTimeoutNanos = chain.call().timeout().timeoutNanos();
+        if (callTimeoutNanos > 0) {
+            return callTimeoutNanos;
+        }
+        if (chain.connectTimeoutMillis() == 0 || chain.writeTimeoutMillis() == 0 || chain.readTimeoutMillis() == 0) {
+            return 0;
+        }
+        return TimeUnit.MILLISECONDS.toNanos((long) chain.connectTimeoutMillis() + chain.writeTimeoutMillis()
+            + chain.readTimeoutMillis());
+    }
+
+    /**
+     * A response whose body has been read into memory, so that it can be copied for each request.
+     */
+    private static final class SharedResponse {
+        private final Response response;
+        private final MediaType contentType;
+        private final byte[] body;
+
+        SharedResponse(Response response) throws IOException {
+            ResponseBody responseBody = response.body();
+            try {
+                this.contentType = responseBody != null ? responseBody.contentType() : null;
+                this.body = responseBody != null ? responseBody.bytes() : null;
+            } finally {
+                response.close();
+            }
+            this.response = response;
+        }
+
+        Response copy(Request request) {
+            Response.Builder builder = response.newBuilder().request(request);
+            if (body != null) {
+                builder.body(ResponseBody.create(contentType, body));
+            }
+            return builder.build();
+        }
+    }
+}
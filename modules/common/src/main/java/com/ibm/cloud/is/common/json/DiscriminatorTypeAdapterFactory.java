@@ -0,0 +1,161 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.json;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A {@link TypeAdapterFactory} which deserializes the base classes of discriminated model hierarchies in a single
+ * pass over the JSON input.
+ * <p>
+ * A base class is recognized by the same static fields as the SDK core's discriminator support: a
+ * {@code discriminatorPropertyName} string, and a {@code discriminatorMapping} map from discriminator values to
+ * subclasses. When a value maps to no subclass, the class named after the value in the base class's package is
+ * used. Rather than parsing each object into a tree in order to find the discriminator, the object is read as a
+ * stream: only the properties which precede the discriminator are recorded, after which the subclass's adapter
+ * reads the recorded properties followed by the rest of the object directly from the input.
+ * <p>
+ * Serialization is delegated to the next adapter registered for the base class.
+ */
+public final class DiscriminatorTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final String DISC_PROPERTY_NAME_FIELD = "discriminatorPropertyName";
+    private static final String DISC_MAPPING_FIELD = "discriminatorMapping";
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        String propertyName = getStaticField(rawType, DISC_PROPERTY_NAME_FIELD, String.class);
+        Map<?, ?> mapping = getStaticField(rawType, DISC_MAPPING_FIELD, Map.class);
+        if (propertyName == null || mapping == null) {
+            return null;
+        }
+        return new Adapter<>(gson, rawType, propertyName, mapping, gson.getDelegateAdapter(this, type));
+    }
+
+    private static <F> F getStaticField(Class<?> clazz, String name, Class<F> fieldType) {
+        try {
+            Field field = clazz.getDeclaredField(name);
+            if (!Modifier.isStatic(field.getModifiers()) || !fieldType.isAssignableFrom(field.getType())) {
+                return null;
+            }
+            field.setAccessible(true);
+            return fieldType.cast(field.get(null));
+        } catch (NoSuchFieldException | IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads an instance of a discriminated base class as an instance of the subclass named by its discriminator.
+     *
+     * @param <T> the base class
+     */
+    private static final class Adapter<T> extends TypeAdapter<T> {
+        private final Gson gson;
+        private final Class<? super T> baseClass;
+        private final String propertyName;
+        private final Map<?, ?> mapping;
+        private final TypeAdapter<T> writeAdapter;
+        private final ConcurrentMap<String, TypeAdapter<? extends T>> subclassAdapters = new ConcurrentHashMap<>();
+
+        Adapter(Gson gson, Class<? super T> baseClass, String propertyName, Map<?, ?> mapping,
+            TypeAdapter<T> writeAdapter) {
+            this.gson = gson;
+            this.baseClass = baseClass;
+            this.propertyName = propertyName;
+            this.mapping = mapping;
+            this.writeAdapter = writeAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            writeAdapter.write(out, value);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            JsonToken token = in.peek();
+            if (token == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            if (token != JsonToken.BEGIN_OBJECT) {
+                throw new IOException("Expected a JSON object for discriminator class " + baseClass.getName()
+                    + " but was " + token + " at path " + in.getPath());
+            }
+            ReplayingJsonReader replay = new ReplayingJsonReader(in);
+            in.beginObject();
+            replay.record(JsonToken.BEGIN_OBJECT, null);
+            while (in.hasNext()) {
+                String name = in.nextName();
+                replay.record(JsonToken.NAME, name);
+                if (propertyName.equals(name)) {
+                    token = in.peek();
+                    String value = token == JsonToken.STRING || token == JsonToken.NUMBER ? in.nextString() : null;
+                    if (value == null || value.isEmpty()) {
+                        throw new IOException("Unable to retrieve discriminator value for property '" + propertyName
+                            + "'");
+                    }
+                    replay.record(token, value);
+                    return getSubclassAdapter(value).read(replay);
+                }
+                replay.recordValue();
+            }
+            throw new IOException("Required discriminator property '" + propertyName + "' not found in JSON object");
+        }
+
+        private TypeAdapter<? extends T> getSubclassAdapter(String value) throws IOException {
+            TypeAdapter<? extends T> adapter = subclassAdapters.get(value);
+            if (adapter == null) {
+                adapter = gson.getAdapter(getSubclass(value));
+                subclassAdapters.putIfAbsent(value, adapter);
+            }
+            return adapter;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Class<? extends T> getSubclass(String value) throws IOException {
+            Object subclass = mapping.get(value);
+            if (subclass == null) {
+                try {
+                    subclass = Class.forName(baseClass.getPackage().getName() + "." + value);
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(
+                        "Unable to determine implicit deserialization target class for discriminator value: " + value);
+                }
+            }
+            if (!(subclass instanceof Class) || subclass == baseClass
+                || !baseClass.isAssignableFrom((Class<?>) subclass)) {
+                throw new IOException("Discriminator value '" + value + "' does not identify a subclass of "
+                    + baseClass.getName());
+            }
+            return (Class<? extends T>) subclass;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.json;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+/**
+ * Provides the {@link Gson} instance used to deserialize response bodies, response converters based on it, and
+ * the construction of JSON merge-patch objects from patch models.
+ * <p>
+ * The instance is configured like the SDK core's {@link GsonSingleton#getGsonWithoutPrettyPrinting()} instance,
+ * with the addition of the {@link DiscriminatorTypeAdapterFactory}, which takes precedence over the core's
+ * discriminator support when reading discriminated models.
+ */
+public final class JsonUtils {
+
+    private JsonUtils() {
+    }
+
+    /**
+     * Returns the {@link Gson} instance used to deserialize response bodies.
+     *
+     * @return the shared {@link Gson} instance
+     */
+    public static Gson getGson() {
+        return GsonHolder.GSON;
+    }
+
+    /**
+     * Returns a {@link ResponseConverter} which deserializes the response body into an instance of the specified
+     * type with {@link #getGson()}, and closes the response body.
+     *
+     * @param <T> the type of the response
+     * @param type the type of the response
+     * @return the response converter
+     */
+    public static <T> ResponseConverter<T> getValue(final Type type) {
+        return response -> {
+            try {
+                JsonReader reader = new JsonReader(response.body().charStream());
+                return getGson().fromJson(reader, type);
+            } finally {
+                response.body().close();
+            }
+        };
+    }
+
+    /**
+     * Constructs a JSON merge-patch object from the specified patch model.
+     * <p>
+     * The result is the same as serializing the model to a JSON string with the SDK core's {@link Gson} instance
+     * and reading the string back into a {@link Map}, but the model's properties are written directly into the map:
+     * properties with null values are omitted, nested models become maps, arrays become lists and numbers become
+     * doubles.
+     *
+     * @param model the patch model
+     * @return a JSON merge-patch for the model
+     * @throws IllegalArgumentException if the model is not serialized as a JSON object
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> toMergePatch(Object model) {
+        MapJsonWriter writer = new MapJsonWriter();
+        GsonSingleton.getGsonWithoutPrettyPrinting().toJson(model, model.getClass(), writer);
+        Object value = writer.getValue();
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException(model.getClass().getName() + " is not serialized as a JSON object");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    /**
+     * Lazily creates the shared {@link Gson} instance.
+     */
+    private static final class GsonHolder {
+        private static final Gson GSON = GsonSingleton.getGsonWithoutPrettyPrinting().newBuilder()
+            .registerTypeAdapterFactory(new DiscriminatorTypeAdapterFactory())
+            .create();
+
+        private GsonHolder() {
+        }
+    }
+}
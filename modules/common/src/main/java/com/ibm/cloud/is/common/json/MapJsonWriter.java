@@ -0,0 +1,205 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.stream.JsonWriter;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+/**
+ * A {@link JsonWriter} which builds the written JSON value as plain Java objects rather than as text.
+ * <p>
+ * Values are represented as Gson represents JSON read into {@code Object}: objects as {@link Map}s which preserve
+ * the order of their properties, arrays as {@link List}s, numbers as {@link Double}s, and strings, booleans and
+ * nulls as themselves. Null properties are only retained if the writer is configured to serialize nulls.
+ */
+final class MapJsonWriter extends JsonWriter {
+
+    private static final Writer UNWRITABLE_WRITER = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    // The objects (Map) and arrays (List) which have been started but not yet ended.
+    private final Deque<Object> stack = new ArrayDeque<>();
+    private String pendingName;
+    private Object root;
+    private boolean complete;
+
+    MapJsonWriter() {
+        super(UNWRITABLE_WRITER);
+    }
+
+    /**
+     * Returns the value which has been written.
+     *
+     * @return the value, or null if a null value has been written
+     * @throws IllegalStateException if the value has not been completely written
+     */
+    Object getValue() {
+        if (!complete) {
+            throw new IllegalStateException("The JSON value is incomplete");
+        }
+        return root;
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapJsonWriter add(Object value) {
+        if (complete) {
+            throw new IllegalStateException("The JSON value is already complete");
+        }
+        Object container = stack.peek();
+        if (container == null) {
+            root = value;
+            complete = !(value instanceof Map || value instanceof List);
+        } else if (container instanceof Map) {
+            if (pendingName == null) {
+                throw new IllegalStateException("Expected a property name");
+            }
+            ((Map<String, Object>) container).put(pendingName, value);
+            pendingName = null;
+        } else {
+            ((List<Object>) container).add(value);
+        }
+        return this;
+    }
+
+    private MapJsonWriter begin(Object container) {
+        add(container);
+        stack.push(container);
+        return this;
+    }
+
+    private MapJsonWriter end(Class<?> containerType) {
+        Object container = stack.peek();
+        if (!containerType.isInstance(container) || pendingName != null) {
+            throw new IllegalStateException("Nesting problem");
+        }
+        stack.pop();
+        complete = stack.isEmpty();
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        return begin(new LinkedHashMap<String, Object>());
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        return end(Map.class);
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        return begin(new ArrayList<Object>());
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        return end(List.class);
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        if (!(stack.peek() instanceof Map) || pendingName != null) {
+            throw new IllegalStateException("Unexpected property name");
+        }
+        pendingName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        return value != null ? add(value) : nullValue();
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        return value != null ? add(GsonSingleton.getGsonWithoutPrettyPrinting().fromJson(value, Object.class))
+            : nullValue();
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (pendingName != null && !getSerializeNulls()) {
+            pendingName = null;
+            return this;
+        }
+        return add(null);
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        return add(value);
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        return value != null ? add(value) : nullValue();
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        return add(value);
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        return add((double) value);
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        return value != null ? value(value.doubleValue()) : nullValue();
+    }
+
+    @Override
+    public void flush() throws IOException {
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!complete) {
+            throw new IOException("Incomplete document");
+        }
+    }
+}
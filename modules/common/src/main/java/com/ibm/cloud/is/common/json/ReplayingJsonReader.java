@@ -0,0 +1,295 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A {@link JsonReader} which first replays a recorded sequence of tokens, then continues with the tokens of
+ * an underlying reader.
+ * <p>
+ * It is used to hand an object to the adapter of a subtype once the discriminator property has been read: the
+ * properties which precede the discriminator are recorded as they are read from the underlying reader, and the
+ * remaining properties are read directly from it. Only the recorded prefix is held in memory.
+ */
+final class ReplayingJsonReader extends JsonReader {
+
+    private static final Reader UNREADABLE_READER = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private final JsonReader delegate;
+    private final List<JsonToken> tokens = new ArrayList<>();
+    private final List<String> values = new ArrayList<>();
+    private int position;
+
+    ReplayingJsonReader(JsonReader delegate) {
+        super(UNREADABLE_READER);
+        this.delegate = delegate;
+    }
+
+    /**
+     * Records a token to be replayed.
+     *
+     * @param token the token
+     * @param value the name or the literal value of the token, or null for the other tokens
+     */
+    void record(JsonToken token, String value) {
+        tokens.add(token);
+        values.add(value);
+    }
+
+    /**
+     * Reads the next complete value (including any nested object or array) from the underlying reader and
+     * records its tokens to be replayed.
+     *
+     * @throws IOException if the value cannot be read
+     */
+    void recordValue() throws IOException {
+        int depth = 0;
+        do {
+            JsonToken token = delegate.peek();
+            String value = null;
+            switch (token) {
+                case BEGIN_OBJECT:
+                    delegate.beginObject();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    delegate.endObject();
+                    depth--;
+                    break;
+                case BEGIN_ARRAY:
+                    delegate.beginArray();
+                    depth++;
+                    break;
+                case END_ARRAY:
+                    delegate.endArray();
+                    depth--;
+                    break;
+                case NAME:
+                    value = delegate.nextName();
+                    break;
+                case STRING:
+                case NUMBER:
+                    value = delegate.nextString();
+                    break;
+                case BOOLEAN:
+                    value = Boolean.toString(delegate.nextBoolean());
+                    break;
+                case NULL:
+                    delegate.nextNull();
+                    break;
+                default:
+                    throw new IOException("Unexpected " + token + " at path " + delegate.getPath());
+            }
+            record(token, value);
+        } while (depth > 0);
+    }
+
+    private boolean replaying() {
+        return position < tokens.size();
+    }
+
+    private String consume(JsonToken expected) {
+        JsonToken actual = tokens.get(position);
+        if (actual != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + actual + " at path " + getPath());
+        }
+        return values.get(position++);
+    }
+
+    private String consumeLiteral(String type) {
+        JsonToken actual = tokens.get(position);
+        if (actual != JsonToken.STRING && actual != JsonToken.NUMBER) {
+            throw new IllegalStateException("Expected " + type + " but was " + actual + " at path " + getPath());
+        }
+        return values.get(position++);
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        return replaying() ? tokens.get(position) : delegate.peek();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (replaying()) {
+            JsonToken token = tokens.get(position);
+            return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY;
+        }
+        return delegate.hasNext();
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        if (replaying()) {
+            consume(JsonToken.BEGIN_ARRAY);
+        } else {
+            delegate.beginArray();
+        }
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        if (replaying()) {
+            consume(JsonToken.END_ARRAY);
+        } else {
+            delegate.endArray();
+        }
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        if (replaying()) {
+            consume(JsonToken.BEGIN_OBJECT);
+        } else {
+            delegate.beginObject();
+        }
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        if (replaying()) {
+            consume(JsonToken.END_OBJECT);
+        } else {
+            delegate.endObject();
+        }
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        return replaying() ? consume(JsonToken.NAME) : delegate.nextName();
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        return replaying() ? consumeLiteral("a string") : delegate.nextString();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        return replaying() ? Boolean.parseBoolean(consume(JsonToken.BOOLEAN)) : delegate.nextBoolean();
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        if (replaying()) {
+            consume(JsonToken.NULL);
+        } else {
+            delegate.nextNull();
+        }
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        return replaying() ? Double.parseDouble(consumeLiteral("a double")) : delegate.nextDouble();
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        if (!replaying()) {
+            return delegate.nextLong();
+        }
+        String literal = consumeLiteral("a long");
+        try {
+            return Long.parseLong(literal);
+        } catch (NumberFormatException e) {
+            double asDouble = Double.parseDouble(literal);
+            long result = (long) asDouble;
+            if (result != asDouble) {
+                throw new NumberFormatException("Expected a long but was " + literal + " at path " + getPath());
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        if (!replaying()) {
+            return delegate.nextInt();
+        }
+        String literal = consumeLiteral("an int");
+        try {
+            return Integer.parseInt(literal);
+        } catch (NumberFormatException e) {
+            double asDouble = Double.parseDouble(literal);
+            int result = (int) asDouble;
+            if (result != asDouble) {
+                throw new NumberFormatException("Expected an int but was " + literal + " at path " + getPath());
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        if (!replaying()) {
+            delegate.skipValue();
+            return;
+        }
+        int depth = 0;
+        do {
+            JsonToken token = tokens.get(position++);
+            if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+                depth++;
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                depth--;
+            }
+        } while (depth > 0 && replaying());
+        // The value started within the recorded tokens and continues in the underlying reader.
+        while (depth > 0) {
+            JsonToken token = delegate.peek();
+            if (token == JsonToken.END_OBJECT) {
+                delegate.endObject();
+                depth--;
+            } else if (token == JsonToken.END_ARRAY) {
+                delegate.endArray();
+                depth--;
+            } else {
+                delegate.skipValue();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    @Override
+    public String getPath() {
+        return delegate.getPath();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " replaying " + delegate;
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MetricsRecorder} which aggregates the events in memory, per operation: latency, request size and
+ * response size histograms, status code counts, failure and retry counts, and the number of calls in flight.
+ * <p>
+ * The metrics of an operation are created when its first call is reported, so memory is only used for the
+ * operations which are actually invoked. {@link #getSlowestOperations(double, int)} ranks the operations by a
+ * latency percentile, to find the operations which dominate the tail latency of an application.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class InMemoryMetricsRecorder implements MetricsRecorder {
+
+    private final ConcurrentMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    private OperationMetrics metrics(String operationId) {
+        OperationMetrics metrics = operations.get(operationId);
+        return metrics != null ? metrics : operations.computeIfAbsent(operationId, OperationMetrics::new);
+    }
+
+    @Override
+    public void callStarted(String operationId) {
+        metrics(operationId).started();
+    }
+
+    @Override
+    public void callCompleted(String operationId, int statusCode, long latencyNanos) {
+        metrics(operationId).completed(statusCode, latencyNanos);
+    }
+
+    @Override
+    public void callFailed(String operationId, Throwable error, long latencyNanos) {
+        metrics(operationId).failed(latencyNanos);
+    }
+
+    @Override
+    public void retryAttempted(String operationId) {
+        metrics(operationId).retried();
+    }
+
+    @Override
+    public void requestPayload(String operationId, long bytes) {
+        metrics(operationId).requestPayload(bytes);
+    }
+
+    @Override
+    public void responsePayload(String operationId, long bytes) {
+        metrics(operationId).responsePayload(bytes);
+    }
+
+    /**
+     * Returns the metrics of the specified operation.
+     *
+     * @param operationId the operationId
+     * @return the metrics of the operation, or null if no call of the operation has been recorded
+     */
+    public OperationMetrics getOperationMetrics(String operationId) {
+        return operations.get(operationId);
+    }
+
+    /**
+     * Returns the metrics of all operations for which a call has been recorded.
+     *
+     * @return the metrics of the operations, in no particular order
+     */
+    public Collection<OperationMetrics> getAllOperationMetrics() {
+        return Collections.unmodifiableCollection(operations.values());
+    }
+
+    /**
+     * Returns the operations with the highest latency at the specified percentile.
+     *
+     * @param percentile the latency percentile, between 0 and 100 (e.g. 99)
+     * @param limit the maximum number of operations to return
+     * @return the metrics of the slowest operations, slowest first
+     */
+    public List<OperationMetrics> getSlowestOperations(double percentile, int limit) {
+        List<OperationMetrics> result = new ArrayList<>(operations.values());
+        result.sort(Comparator.comparingLong(
+            (OperationMetrics m) -> m.getLatency().getValueAtPercentile(percentile)).reversed());
+        return result.subList(0, Math.min(Math.max(limit, 0), result.size()));
+    }
+
+    /**
+     * Discards the metrics recorded so far for all operations. The number of calls in flight is not affected.
+     */
+    public void reset() {
+        for (OperationMetrics metrics : operations.values()) {
+            metrics.reset();
+        }
+    }
+}
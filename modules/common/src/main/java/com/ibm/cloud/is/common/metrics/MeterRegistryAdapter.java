@@ -0,0 +1,155 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link MetricsRecorder} which exports the events to a Micrometer-style meter registry, through a
+ * {@link MeterSink}. The following meters are reported, all tagged with the operationId ({@code operation}):
+ * <ul>
+ * <li>{@code <prefix>.requests}: a timer of the call latencies, also tagged with the status code ({@code status},
+ * or {@code IO_ERROR} if the call failed without receiving a response)</li>
+ * <li>{@code <prefix>.retries}: a counter of the requests which were sent again</li>
+ * <li>{@code <prefix>.request.size} and {@code <prefix>.response.size}: distribution summaries of the payload
+ * sizes, in bytes</li>
+ * <li>{@code <prefix>.active}: a gauge of the number of calls in flight</li>
+ * </ul>
+ * The default prefix is {@value #DEFAULT_PREFIX}. The tag arrays are created once per operation and status code,
+ * so that reporting an event does not allocate.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class MeterRegistryAdapter implements MetricsRecorder {
+
+    /**
+     * The default prefix of the meter names.
+     */
+    public static final String DEFAULT_PREFIX = "ibmcloud.sdk";
+
+    /**
+     * The value of the {@code status} tag of the calls which failed without receiving a response.
+     */
+    public static final String IO_ERROR = "IO_ERROR";
+
+    private final MeterSink sink;
+    private final String requestsName;
+    private final String retriesName;
+    private final String requestSizeName;
+    private final String responseSizeName;
+    private final String activeName;
+    private final ConcurrentMap<String, OperationMeters> operations = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an adapter which uses the default prefix.
+     *
+     * @param sink the sink to which the meters are reported
+     */
+    public MeterRegistryAdapter(MeterSink sink) {
+        this(sink, DEFAULT_PREFIX);
+    }
+
+    /**
+     * Creates an adapter.
+     *
+     * @param sink the sink to which the meters are reported
+     * @param prefix the prefix of the meter names
+     */
+    public MeterRegistryAdapter(MeterSink sink, String prefix) {
+        if (sink == null || prefix == null || prefix.isEmpty()) {
+            throw new IllegalArgumentException("sink and prefix cannot be null or empty");
+        }
+        this.sink = sink;
+        this.requestsName = prefix + ".requests";
+        this.retriesName = prefix + ".retries";
+        this.requestSizeName = prefix + ".request.size";
+        this.responseSizeName = prefix + ".response.size";
+        this.activeName = prefix + ".active";
+    }
+
+    private OperationMeters meters(String operationId) {
+        OperationMeters meters = operations.get(operationId);
+        if (meters == null) {
+            OperationMeters created = new OperationMeters(operationId);
+            meters = operations.putIfAbsent(operationId, created);
+            if (meters == null) {
+                meters = created;
+                sink.registerGauge(activeName, meters.tags, meters.active);
+            }
+        }
+        return meters;
+    }
+
+    @Override
+    public void callStarted(String operationId) {
+        meters(operationId).active.incrementAndGet();
+    }
+
+    @Override
+    public void callCompleted(String operationId, int statusCode, long latencyNanos) {
+        OperationMeters meters = meters(operationId);
+        meters.active.decrementAndGet();
+        sink.recordTimer(requestsName, meters.statusTags(statusCode), latencyNanos);
+    }
+
+    @Override
+    public void callFailed(String operationId, Throwable error, long latencyNanos) {
+        OperationMeters meters = meters(operationId);
+        meters.active.decrementAndGet();
+        sink.recordTimer(requestsName, meters.errorTags, latencyNanos);
+    }
+
+    @Override
+    public void retryAttempted(String operationId) {
+        sink.incrementCounter(retriesName, meters(operationId).tags);
+    }
+
+    @Override
+    public void requestPayload(String operationId, long bytes) {
+        sink.recordSummary(requestSizeName, meters(operationId).tags, bytes);
+    }
+
+    @Override
+    public void responsePayload(String operationId, long bytes) {
+        sink.recordSummary(responseSizeName, meters(operationId).tags, bytes);
+    }
+
+    /**
+     * The tags and the in-flight gauge of one operation.
+     */
+    private static final class OperationMeters {
+        private final String operationId;
+        private final String[] tags;
+        private final String[] errorTags;
+        private final ConcurrentMap<Integer, String[]> statusTags = new ConcurrentHashMap<>();
+        private final AtomicLong active = new AtomicLong();
+
+        OperationMeters(String operationId) {
+            this.operationId = operationId;
+            this.tags = new String[] {"operation", operationId};
+            this.errorTags = new String[] {"operation", operationId, "status", IO_ERROR};
+        }
+
+        String[] statusTags(int statusCode) {
+            String[] result = statusTags.get(statusCode);
+            if (result == null) {
+                result = statusTags.computeIfAbsent(statusCode,
+                    code -> new String[] {"operation", operationId, "status", String.valueOf(code)});
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The meter operations used by a {@link MeterRegistryAdapter}. Their signatures mirror those of the Micrometer
+ * {@code MeterRegistry}, so that a sink can be written without this SDK depending on Micrometer:
+ *
+ * <pre>
+ * MeterSink sink = new MeterSink() {
+ *     public void recordTimer(String name, String[] tags, long nanos) {
+ *         registry.timer(name, tags).record(nanos, TimeUnit.NANOSECONDS);
+ *     }
+ *     public void incrementCounter(String name, String[] tags) {
+ *         registry.counter(name, tags).increment();
+ *     }
+ *     public void recordSummary(String name, String[] tags, double amount) {
+ *         registry.summary(name, tags).record(amount);
+ *     }
+ *     public void registerGauge(String name, String[] tags, AtomicLong value) {
+ *         registry.gauge(name, Tags.of(tags), value);
+ *     }
+ * };
+ * </pre>
+ *
+ * Tags are passed as an array of alternating keys and values. The arrays are shared by successive invocations
+ * and must not be modified.
+ */
+public interface MeterSink {
+
+    /**
+     * Records a duration in the timer identified by the specified name and tags.
+     *
+     * @param name the name of the timer
+     * @param tags the tags of the timer, as alternating keys and values
+     * @param nanos the duration, in nanoseconds
+     */
+    void recordTimer(String name, String[] tags, long nanos);
+
+    /**
+     * Increments the counter identified by the specified name and tags.
+     *
+     * @param name the name of the counter
+     * @param tags the tags of the counter, as alternating keys and values
+     */
+    void incrementCounter(String name, String[] tags);
+
+    /**
+     * Records an amount in the distribution summary identified by the specified name and tags.
+     *
+     * @param name the name of the distribution summary
+     * @param tags the tags of the distribution summary, as alternating keys and values
+     * @param amount the amount
+     */
+    void recordSummary(String name, String[] tags, double amount);
+
+    /**
+     * Registers a gauge which reports the current value of the specified number. Invoked once per gauge.
+     *
+     * @param name the name of the gauge
+     * @param tags the tags of the gauge, as alternating keys and values
+     * @param value the number whose value is reported
+     */
+    void registerGauge(String name, String[] tags, AtomicLong value);
+}
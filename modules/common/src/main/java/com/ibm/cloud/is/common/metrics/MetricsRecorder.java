@@ -0,0 +1,94 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.metrics;
+
+/**
+ * The service provider interface through which the SDK reports the calls it makes.
+ * <p>
+ * Each call is identified by the operationId of the API operation it invokes (e.g. "listInstances"). A call is
+ * reported by {@link #callStarted(String)} followed by exactly one of {@link #callCompleted(String, int, long)} or
+ * {@link #callFailed(String, Throwable, long)}; the other methods may be invoked while the call is in progress, and
+ * {@link #responsePayload(String, long)} may be invoked after it completed, once the response body has been read.
+ * <p>
+ * All methods have an empty default implementation, so that an implementation only needs to override the events
+ * it is interested in. Implementations must be thread-safe, and should return quickly since they are invoked on the
+ * thread which executes the call. {@link #NOOP} discards all events.
+ *
+ * @see InMemoryMetricsRecorder
+ * @see MeterRegistryAdapter
+ */
+public interface MetricsRecorder {
+
+    /**
+     * A recorder which discards all events.
+     */
+    MetricsRecorder NOOP = new MetricsRecorder() {
+    };
+
+    /**
+     * Invoked when a call is started.
+     *
+     * @param operationId the operationId
+     */
+    default void callStarted(String operationId) {
+    }
+
+    /**
+     * Invoked when the response of a call has been received.
+     *
+     * @param operationId the operationId
+     * @param statusCode the HTTP status code of the response
+     * @param latencyNanos the time elapsed between the start of the call and the receipt of the response headers,
+     *        in nanoseconds
+     */
+    default void callCompleted(String operationId, int statusCode, long latencyNanos) {
+    }
+
+    /**
+     * Invoked when a call failed without receiving a response (e.g. because of a connection failure or a timeout).
+     *
+     * @param operationId the operationId
+     * @param error the exception raised by the call
+     * @param latencyNanos the time elapsed between the start of the call and the failure, in nanoseconds
+     */
+    default void callFailed(String operationId, Throwable error, long latencyNanos) {
+    }
+
+    /**
+     * Invoked each time a call sends its request again (e.g. after a connection failure or to follow a redirect).
+     *
+     * @param operationId the operationId
+     */
+    default void retryAttempted(String operationId) {
+    }
+
+    /**
+     * Invoked when the size of the request body of a call is known.
+     *
+     * @param operationId the operationId
+     * @param bytes the size of the request body, in bytes
+     */
+    default void requestPayload(String operationId, long bytes) {
+    }
+
+    /**
+     * Invoked when the size of the response body of a call is known: when the response is received if it declares
+     * its length, or else once the body has been read.
+     *
+     * @param operationId the operationId
+     * @param bytes the size of the response body, in bytes
+     */
+    default void responsePayload(String operationId, long bytes) {
+    }
+}
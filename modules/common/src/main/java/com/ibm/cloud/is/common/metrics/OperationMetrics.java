@@ -0,0 +1,192 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics recorded by an {@link InMemoryMetricsRecorder} for one operation.
+ * <p>
+ * Latencies are recorded in microseconds, up to one hour, and payload sizes in bytes, up to 256 MiB; larger values
+ * are counted in the last bucket of their histogram.
+ */
+public final class OperationMetrics {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final long MAX_PAYLOAD_BYTES = 256L * 1024 * 1024;
+
+    private final String operationId;
+    private final Histogram latency = new Histogram(MAX_LATENCY_MICROS);
+    private final Histogram requestSizes = new Histogram(MAX_PAYLOAD_BYTES);
+    private final Histogram responseSizes = new Histogram(MAX_PAYLOAD_BYTES);
+    private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    OperationMetrics(String operationId) {
+        this.operationId = operationId;
+    }
+
+    void started() {
+        inFlight.incrementAndGet();
+    }
+
+    void completed(int statusCode, long latencyNanos) {
+        inFlight.decrementAndGet();
+        latency.record(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        LongAdder count = statusCounts.get(statusCode);
+        if (count == null) {
+            count = statusCounts.computeIfAbsent(statusCode, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    void failed(long latencyNanos) {
+        inFlight.decrementAndGet();
+        latency.record(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        failureCount.increment();
+    }
+
+    void retried() {
+        retryCount.increment();
+    }
+
+    void requestPayload(long bytes) {
+        requestSizes.record(bytes);
+    }
+
+    void responsePayload(long bytes) {
+        responseSizes.record(bytes);
+    }
+
+    void reset() {
+        latency.reset();
+        requestSizes.reset();
+        responseSizes.reset();
+        statusCounts.clear();
+        failureCount.reset();
+        retryCount.reset();
+    }
+
+    /**
+     * Returns the operationId.
+     *
+     * @return the operationId
+     */
+    public String getOperationId() {
+        return operationId;
+    }
+
+    /**
+     * Returns the histogram of the latencies of the calls (whether they completed or failed), in microseconds.
+     *
+     * @return the latency histogram
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Returns the histogram of the sizes of the request bodies, in bytes.
+     *
+     * @return the request size histogram
+     */
+    public Histogram getRequestSizes() {
+        return requestSizes;
+    }
+
+    /**
+     * Returns the histogram of the sizes of the response bodies, in bytes.
+     *
+     * @return the response size histogram
+     */
+    public Histogram getResponseSizes() {
+        return responseSizes;
+    }
+
+    /**
+     * Returns the number of calls which completed or failed.
+     *
+     * @return the number of calls
+     */
+    public long getCallCount() {
+        return latency.getCount();
+    }
+
+    /**
+     * Returns the number of responses received with each status code.
+     *
+     * @return a map from status code to number of responses, sorted by status code
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        for (Map.Entry<Integer, LongAdder> entry : statusCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of responses received with the specified status code.
+     *
+     * @param statusCode the HTTP status code
+     * @return the number of responses
+     */
+    public long getStatusCount(int statusCode) {
+        LongAdder count = statusCounts.get(statusCode);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * Returns the number of calls which failed without receiving a response.
+     *
+     * @return the number of failed calls
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * Returns the number of times a request was sent again.
+     *
+     * @return the number of retries
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Returns the number of calls currently in progress.
+     *
+     * @return the number of calls in flight
+     */
+    public long getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public String toString() {
+        return operationId + ": calls=" + getCallCount() + ", p50=" + latency.getValueAtPercentile(50)
+            + "us, p99=" + latency.getValueAtPercentile(99) + "us, max=" + latency.getMax() + "us, statuses="
+            + getStatusCounts() + ", failures=" + getFailureCount() + ", retries=" + getRetryCount()
+            + ", inFlight=" + getInFlight();
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.net;
+
+/**
+ * An IPv4 address, backed by an {@code int}.
+ * <p>
+ * The static methods {@link #parseInt(String)} and {@link #format(int)} convert between the dotted-decimal notation
+ * used by the service and the {@code int} representation, so that code which handles many addresses can store and
+ * compare them without allocating objects. {@link #parse(String)} caches the addresses it has recently parsed, so
+ * the same text is only parsed once. Addresses are ordered as unsigned values, i.e. "10.0.0.0" comes before
+ * "192.168.0.0".
+ */
+public final class Ipv4Address implements Comparable<Ipv4Address> {
+
+    private static final ParsingCache<Ipv4Address> CACHE = new ParsingCache<>(1024);
+
+    private final int value;
+
+    private Ipv4Address(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the address represented by the specified int.
+     *
+     * @param value the address as an int
+     * @return the address
+     */
+    public static Ipv4Address of(int value) {
+        return new Ipv4Address(value);
+    }
+
+    /**
+     * Parses an IPv4 address in dotted-decimal notation.
+     *
+     * @param address the address (e.g. "10.0.0.1")
+     * @return the address
+     * @throws IllegalArgumentException if the address is not a valid IPv4 address
+     */
+    public static Ipv4Address parse(String address) {
+        if (address == null) {
+            throw new IllegalArgumentException("address cannot be null");
+        }
+        Ipv4Address cached = CACHE.get(address);
+        return cached != null ? cached : CACHE.put(address, new Ipv4Address(parseInt(address)));
+    }
+
+    /**
+     * Parses an IPv4 address, returning null rather than throwing an exception if it is not a valid IPv4 address
+     * (e.g. because it is an IPv6 address).
+     *
+     * @param address the address, or null
+     * @return the address, or null if the address is null or not a valid IPv4 address
+     */
+    public static Ipv4Address parseOrNull(String address) {
+        if (address == null || isIpv6(address)) {
+            return null;
+        }
+        Ipv4Address cached = CACHE.get(address);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            return CACHE.put(address, new Ipv4Address(parseInt(address)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses an IPv4 address in dotted-decimal notation into an int, without allocating memory.
+     *
+     * @param address the address (e.g. "10.0.0.1")
+     * @return the address as an int
+     * @throws IllegalArgumentException if the address is not a valid IPv4 address
+     */
+    public static int parseInt(String address) {
+        if (address == null) {
+            throw new IllegalArgumentException("address cannot be null");
+        }
+        return parseInt(address, 0, address.length());
+    }
+
+    /**
+     * Parses the IPv4 address contained in a range of a string.
+     */
+    static int parseInt(String text, int start, int end) {
+        int result = 0;
+        int octets = 0;
+        int value = -1;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? text.charAt(i) : '.';
+            if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > 255) {
+                    throw invalid(text);
+                }
+            } else if (c == '.' && value >= 0 && octets < 4) {
+                result = result << 8 | value;
+                octets++;
+                value = -1;
+            } else {
+                throw invalid(text);
+            }
+        }
+        if (octets != 4) {
+            throw invalid(text);
+        }
+        return result;
+    }
+
+    /**
+     * Formats an IPv4 address in dotted-decimal notation.
+     *
+     * @param address the address as an int
+     * @return the formatted address
+     */
+    public static String format(int address) {
+        return (address >>> 24) + "." + (address >>> 16 & 0xff) + "." + (address >>> 8 & 0xff) + "."
+            + (address & 0xff);
+    }
+
+    /**
+     * Returns true if the specified address or CIDR block is an IPv6 address or CIDR block.
+     *
+     * @param value the address or CIDR block
+     * @return true for IPv6
+     */
+    public static boolean isIpv6(String value) {
+        return value != null && value.indexOf(':') >= 0;
+    }
+
+    private static IllegalArgumentException invalid(String address) {
+        return new IllegalArgumentException("Invalid IPv4 address: " + address);
+    }
+
+    /**
+     * Returns the address as an int.
+     *
+     * @return the address as an int
+     */
+    public int toInt() {
+        return value;
+    }
+
+    /**
+     * Returns the address as a non-negative long, e.g. to compute the distance between two addresses.
+     *
+     * @return the address as an unsigned value
+     */
+    public long toUnsignedLong() {
+        return value & 0xffffffffL;
+    }
+
+    @Override
+    public int compareTo(Ipv4Address other) {
+        return Integer.compare(value ^ Integer.MIN_VALUE, other.value ^ Integer.MIN_VALUE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Ipv4Address && ((Ipv4Address) other).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return format(value);
+    }
+}
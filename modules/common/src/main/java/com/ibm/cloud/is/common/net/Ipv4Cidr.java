@@ -0,0 +1,261 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.net;
+
+/**
+ * An IPv4 CIDR block, backed by an {@code int} address and prefix length. The address of a block has no bits set
+ * beyond the prefix length.
+ * <p>
+ * Besides the instance methods, the static methods {@link #mask(int)}, {@link #contains(int, int, int)} and
+ * {@link #overlaps(int, int, int, int)} operate on the {@code int} representation, so that code which checks the
+ * containment and overlap of many blocks can do so without allocating objects. {@link #parse(String)} caches the
+ * blocks it has recently parsed, so the same text is only parsed once. Blocks are ordered by address (as unsigned
+ * values), then by prefix length.
+ */
+public final class Ipv4Cidr implements Comparable<Ipv4Cidr> {
+
+    private static final ParsingCache<Ipv4Cidr> CACHE = new ParsingCache<>(1024);
+
+    private final int address;
+    private final int length;
+
+    private Ipv4Cidr(int address, int length) {
+        this.address = address & mask(length);
+        this.length = length;
+    }
+
+    /**
+     * Returns the CIDR block with the specified address and prefix length. The bits of the address beyond the prefix
+     * length are cleared.
+     *
+     * @param address the address as an int
+     * @param length the prefix length, between 0 and 32
+     * @return the CIDR block
+     */
+    public static Ipv4Cidr of(int address, int length) {
+        if (length < 0 || length > 32) {
+            throw new IllegalArgumentException("Invalid IPv4 prefix length: " + length);
+        }
+        return new Ipv4Cidr(address, length);
+    }
+
+    /**
+     * Parses an IPv4 CIDR block. An address without a prefix length is parsed as a /32 block.
+     *
+     * @param cidr the CIDR block (e.g. "10.0.0.0/16")
+     * @return the CIDR block
+     * @throws IllegalArgumentException if the CIDR block is not a valid IPv4 CIDR block
+     */
+    public static Ipv4Cidr parse(String cidr) {
+        if (cidr == null) {
+            throw new IllegalArgumentException("cidr cannot be null");
+        }
+        Ipv4Cidr cached = CACHE.get(cidr);
+        return cached != null ? cached : CACHE.put(cidr, parseUncached(cidr));
+    }
+
+    /**
+     * Parses an IPv4 CIDR block, returning null rather than throwing an exception if it is not a valid IPv4 CIDR
+     * block (e.g. because it is an IPv6 CIDR block).
+     *
+     * @param cidr the CIDR block, or null
+     * @return the CIDR block, or null if the CIDR block is null or not a valid IPv4 CIDR block
+     */
+    public static Ipv4Cidr parseOrNull(String cidr) {
+        if (cidr == null || Ipv4Address.isIpv6(cidr)) {
+            return null;
+        }
+        Ipv4Cidr cached = CACHE.get(cidr);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            return CACHE.put(cidr, parseUncached(cidr));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Ipv4Cidr parseUncached(String cidr) {
+        int slash = cidr.indexOf('/');
+        if (slash < 0) {
+            return new Ipv4Cidr(Ipv4Address.parseInt(cidr), 32);
+        }
+        int length = 0;
+        for (int i = slash + 1; i < cidr.length(); i++) {
+            char c = cidr.charAt(i);
+            if (c < '0' || c > '9' || length > 32) {
+                throw invalid(cidr);
+            }
+            length = length * 10 + (c - '0');
+        }
+        if (slash + 1 == cidr.length() || length > 32) {
+            throw invalid(cidr);
+        }
+        try {
+            return new Ipv4Cidr(Ipv4Address.parseInt(cidr, 0, slash), length);
+        } catch (IllegalArgumentException e) {
+            throw invalid(cidr);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String cidr) {
+        return new IllegalArgumentException("Invalid IPv4 CIDR block: " + cidr);
+    }
+
+    /**
+     * Returns the network mask of the specified prefix length, e.g. 0xffffff00 for 24.
+     *
+     * @param length the prefix length, between 0 and 32
+     * @return the network mask
+     */
+    public static int mask(int length) {
+        return length == 0 ? 0 : -1 << (32 - length);
+    }
+
+    /**
+     * Returns true if the specified CIDR block contains an address.
+     *
+     * @param address the address of the CIDR block
+     * @param length the prefix length of the CIDR block
+     * @param other the address
+     * @return true if the block contains the address
+     */
+    public static boolean contains(int address, int length, int other) {
+        return ((address ^ other) & mask(length)) == 0;
+    }
+
+    /**
+     * Returns true if two CIDR blocks have at least one address in common, i.e. if one contains the other.
+     *
+     * @param address the address of the first CIDR block
+     * @param length the prefix length of the first CIDR block
+     * @param otherAddress the address of the second CIDR block
+     * @param otherLength the prefix length of the second CIDR block
+     * @return true if the blocks overlap
+     */
+    public static boolean overlaps(int address, int length, int otherAddress, int otherLength) {
+        return ((address ^ otherAddress) & mask(Math.min(length, otherLength))) == 0;
+    }
+
+    /**
+     * Returns the address of the block, i.e. its first address.
+     *
+     * @return the address as an int
+     */
+    public int getAddress() {
+        return address;
+    }
+
+    /**
+     * Returns the prefix length of the block.
+     *
+     * @return the prefix length, between 0 and 32
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the network mask of the block.
+     *
+     * @return the network mask
+     */
+    public int getMask() {
+        return mask(length);
+    }
+
+    /**
+     * Returns the last address of the block.
+     *
+     * @return the last address as an int
+     */
+    public int getLastAddress() {
+        return address | ~mask(length);
+    }
+
+    /**
+     * Returns the number of addresses in the block.
+     *
+     * @return the number of addresses, between 1 and 2^32
+     */
+    public long getSize() {
+        return 1L << (32 - length);
+    }
+
+    /**
+     * Returns true if the block contains an address.
+     *
+     * @param other the address as an int
+     * @return true if the block contains the address
+     */
+    public boolean contains(int other) {
+        return contains(address, length, other);
+    }
+
+    /**
+     * Returns true if the block contains an address.
+     *
+     * @param other the address
+     * @return true if the block contains the address
+     */
+    public boolean contains(Ipv4Address other) {
+        return contains(address, length, other.toInt());
+    }
+
+    /**
+     * Returns true if the block contains another block, i.e. all its addresses.
+     *
+     * @param other the other block
+     * @return true if the block contains the other block
+     */
+    public boolean contains(Ipv4Cidr other) {
+        return length <= other.length && contains(address, length, other.address);
+    }
+
+    /**
+     * Returns true if the block has at least one address in common with another block.
+     *
+     * @param other the other block
+     * @return true if the blocks overlap
+     */
+    public boolean overlaps(Ipv4Cidr other) {
+        return overlaps(address, length, other.address, other.length);
+    }
+
+    @Override
+    public int compareTo(Ipv4Cidr other) {
+        int result = Integer.compare(address ^ Integer.MIN_VALUE, other.address ^ Integer.MIN_VALUE);
+        return result != 0 ? result : Integer.compare(length, other.length);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Ipv4Cidr)) {
+            return false;
+        }
+        Ipv4Cidr cidr = (Ipv4Cidr) other;
+        return cidr.address == address && cidr.length == length;
+    }
+
+    @Override
+    public int hashCode() {
+        return address * 31 + length;
+    }
+
+    @Override
+    public String toString() {
+        return Ipv4Address.format(address) + "/" + length;
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.net;
+
+/**
+ * A small, lossy cache of parsed values keyed by their text, used by {@link Ipv4Address#parse(String)} and
+ * {@link Ipv4Cidr#parse(String)}.
+ * <p>
+ * The cache is a direct-mapped table indexed by the hash code of the text: a lookup reads one slot and compares its
+ * key, so a hit does not allocate memory, and a miss replaces the previous entry of the slot. Entries are immutable
+ * and published through final fields, so the table is shared by all threads without locking; concurrent misses may
+ * overwrite each other, which only costs a later reparse.
+ *
+ * @param <T> the type of the parsed values
+ */
+final class ParsingCache<T> {
+
+    private final Entry<T>[] entries;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    ParsingCache(int size) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("The cache size must be a power of 2");
+        }
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the value cached for the specified text.
+     *
+     * @param text the text
+     * @return the cached value, or null if the value is not cached
+     */
+    T get(String text) {
+        Entry<T> entry = entries[index(text)];
+        return entry != null && entry.text.equals(text) ? entry.value : null;
+    }
+
+    /**
+     * Caches the value parsed from the specified text, replacing the value cached in the same slot if any.
+     *
+     * @param text the text
+     * @param value the value
+     * @return the value
+     */
+    T put(String text, T value) {
+        entries[index(text)] = new Entry<>(text, value);
+        return value;
+    }
+
+    private int index(String text) {
+        int h = text.hashCode();
+        return (h ^ h >>> 16) & mask;
+    }
+
+    private static final class Entry<T> {
+        private final String text;
+        private final T value;
+
+        Entry(String text, T value) {
+            this.text = text;
+            this.value = value;
+        }
+    }
+}
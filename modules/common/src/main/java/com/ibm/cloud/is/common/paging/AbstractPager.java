@@ -0,0 +1,329 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.paging;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.ibm.cloud.is.common.http.ConvertibleServiceCall;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+
+import okhttp3.HttpUrl;
+
+/**
+ * Base class for the pagers which traverse the results of a paginated "list" operation.
+ * <p>
+ * A pager retrieves one page at a time, starting with the first page and following the "start" token contained
+ * in the "next" link of each page until the last page has been retrieved. Pages are only requested as the
+ * consumer advances, so {@link #iterator()} and {@link #stream()} can be used to scan arbitrarily large collections
+ * while holding at most one page in memory, and a short-circuiting stream operation (e.g. {@code findFirst()})
+ * stops requesting pages as soon as it completes.
+ * <p>
+ * A pager instance maintains its position within the collection and is therefore single-use and not thread-safe:
+ * {@link #getNext()}, {@link #getAll()}, {@link #iterator()} and {@link #stream()} all advance the same position.
+ * <p>
+ * By default each page is requested only once the consumer asks for it. {@link #withPrefetch(int)} enables a
+ * pipelined mode in which the request for the next page is issued in the background as soon as the token of the
+ * previous page is known, so that the processing of one page overlaps with the retrieval of the following ones.
+ * The number of pages retrieved ahead of the consumer is bounded by the prefetch depth; the total number of
+ * requests is the same as in the default mode.
+ * <p>
+ * {@link #withStreaming()} enables a mode in which {@link #iterator()} and {@link #stream()} deserialize the
+ * resources of each page one at a time directly from the response body (see {@link StreamingPage}), so that at
+ * most one resource rather than one page is held in memory.
+ *
+ * @param <C> the type of the collection model returned by the "list" operation (i.e. one page)
+ * @param <T> the type of the resources contained in each page
+ */
+public abstract class AbstractPager<C, T> implements Iterable<T> {
+
+    /**
+     * The name of the query parameter which carries the page token.
+     */
+    public static final String START_PARAM = "start";
+
+    // Used to resolve "next" links which are expressed as a relative URL.
+    private static final HttpUrl BASE_URL = HttpUrl.parse("https://localhost/");
+
+    private boolean hasNext = true;
+    private String pageToken;
+    private int prefetchDepth;
+    private Executor prefetchExecutor;
+    private PagePrefetcher<C, T> prefetcher;
+    private boolean streaming;
+
+    /**
+     * Creates the {@link ServiceCall} which retrieves the page identified by the specified page token.
+     *
+     * @param start the page token, or null to retrieve the first page
+     * @return the {@link ServiceCall} used to retrieve the page
+     */
+    protected abstract ServiceCall<C> createPageCall(String start);
+
+    /**
+     * Returns the resources contained in the specified page.
+     *
+     * @param page the page returned by the "list" operation
+     * @return the resources contained in the page (may be null)
+     */
+    protected abstract List<T> getItems(C page);
+
+    /**
+     * Returns the URL of the page which follows the specified page.
+     *
+     * @param page the page returned by the "list" operation
+     * @return the URL of the next page, or null if the specified page is the last page
+     */
+    protected abstract String getNextHref(C page);
+
+    /**
+     * Returns the converter used to deserialize the resources of a page one at a time when streaming is enabled.
+     * Pagers which do not support streaming return null (the default).
+     *
+     * @return the streaming converter, or null if streaming is not supported
+     */
+    protected ResponseConverter<StreamingPage<T>> getStreamingConverter() {
+        return null;
+    }
+
+    /**
+     * Enables prefetching, using a shared pool of daemon threads to retrieve the pages.
+     *
+     * @param depth the maximum number of pages retrieved ahead of the consumer (must be at least 1)
+     * @return this pager
+     * @see #withPrefetch(int, Executor)
+     */
+    public AbstractPager<C, T> withPrefetch(int depth) {
+        return withPrefetch(depth, PagePrefetcher.defaultExecutor());
+    }
+
+    /**
+     * Enables prefetching: the request for the next page is issued on the specified executor as soon as the
+     * "next" link of the current page is known, rather than when the consumer asks for the next page.
+     * <p>
+     * At most {@code depth} pages are buffered ahead of the consumer; once that many pages are waiting, no further
+     * requests are issued until the consumer takes a page. Since each request depends on the token returned by
+     * the previous one, at most one request is in flight at any time. Exceptions raised while retrieving a page are
+     * rethrown to the consumer when it reaches that page.
+     * <p>
+     * This method must be invoked before the first page is retrieved.
+     *
+     * @param depth the maximum number of pages retrieved ahead of the consumer (must be at least 1)
+     * @param executor the executor used to retrieve the pages
+     * @return this pager
+     */
+    public AbstractPager<C, T> withPrefetch(int depth, Executor executor) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("The prefetch depth must be at least 1");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        if (prefetcher != null) {
+            throw new IllegalStateException("Prefetching must be enabled before the first page is retrieved");
+        }
+        if (streaming) {
+            throw new IllegalStateException("Prefetching cannot be combined with streaming");
+        }
+        this.prefetchDepth = depth;
+        this.prefetchExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Enables streaming: {@link #iterator()} and {@link #stream()} deserialize the resources of each page one at a
+     * time as they are consumed, rather than materializing the whole page first. {@link #getNext()} and
+     * {@link #getAll()} are not affected, since they return the resources as a list.
+     * <p>
+     * A stream which is not fully consumed should be closed (e.g. with a try-with-resources statement) so that the
+     * response body of the current page is released. If the pager or the service call does not support streaming,
+     * pages are materialized as usual.
+     *
+     * @return this pager
+     */
+    public AbstractPager<C, T> withStreaming() {
+        if (prefetchDepth > 0) {
+            throw new IllegalStateException("Streaming cannot be combined with prefetching");
+        }
+        this.streaming = true;
+        return this;
+    }
+
+    /**
+     * Returns true if there are potentially more results to be retrieved.
+     *
+     * @return true if there are more results available
+     */
+    public boolean hasNext() {
+        return prefetcher != null ? prefetcher.hasNext() : hasNext;
+    }
+
+    /**
+     * Returns the next page of results.
+     *
+     * @return a List&lt;T&gt; that contains the next page of results
+     * @throws NoSuchElementException if all pages have already been retrieved
+     */
+    public List<T> getNext() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more results available");
+        }
+        if (prefetchDepth > 0) {
+            if (prefetcher == null) {
+                prefetcher = new PagePrefetcher<>(this, pageToken, prefetchDepth, prefetchExecutor);
+            }
+            return prefetcher.next();
+        }
+        return readPage(createPageCall(pageToken));
+    }
+
+    private List<T> readPage(ServiceCall<C> call) {
+        C page = call.execute().getResult();
+        setNextHref(getNextHref(page));
+        List<T> items = getItems(page);
+        return items != null ? items : Collections.<T>emptyList();
+    }
+
+    /**
+     * Returns all results by invoking {@link #getNext()} repeatedly until all pages of results have been retrieved.
+     *
+     * @return a List&lt;T&gt; containing all results returned by the "list" operation
+     */
+    public List<T> getAll() {
+        List<T> results = new ArrayList<>();
+        while (hasNext()) {
+            results.addAll(getNext());
+        }
+        return results;
+    }
+
+    /**
+     * Returns an iterator over the remaining results. Pages are retrieved lazily as the iterator advances.
+     *
+     * @return an {@link Iterator} over the remaining results
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ResultIterator();
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the remaining results. Pages are retrieved lazily as the stream is
+     * consumed, and no further pages are retrieved once a short-circuiting operation has completed. Closing the
+     * stream releases the page currently being streamed, if any.
+     *
+     * @return a {@link Stream} over the remaining results
+     */
+    public Stream<T> stream() {
+        ResultIterator iterator = new ResultIterator();
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::close);
+    }
+
+    /**
+     * Records the "next" link of the page that was just retrieved.
+     *
+     * @param nextHref the URL of the next page, or null if the last page has been retrieved
+     */
+    protected void setNextHref(String nextHref) {
+        pageToken = getStartToken(nextHref);
+        hasNext = pageToken != null;
+    }
+
+    /**
+     * Returns the page token to be used to retrieve the next page of results.
+     *
+     * @return the page token, or null if the first page has not yet been retrieved
+     */
+    protected String getPageToken() {
+        return pageToken;
+    }
+
+    /**
+     * Extracts the value of the "start" query parameter from the specified "next" link. The link may be an
+     * absolute or a relative URL, and the value is returned in its decoded form.
+     *
+     * @param href the URL of a page of results
+     * @return the page token contained in the URL, or null if the URL is null or does not contain one
+     */
+    public static String getStartToken(String href) {
+        if (href == null || href.isEmpty()) {
+            return null;
+        }
+        HttpUrl url = BASE_URL.resolve(href);
+        return url != null ? url.queryParameter(START_PARAM) : null;
+    }
+
+    /**
+     * Iterates over the results, retrieving the next page when the current page has been exhausted.
+     */
+    private class ResultIterator implements Iterator<T>, Closeable {
+        private Iterator<T> current = Collections.emptyIterator();
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (current instanceof StreamingPage) {
+                    // The "next" link is only known once all resources of a streamed page have been read.
+                    setNextHref(((StreamingPage<T>) current).getNextHref());
+                    current = Collections.emptyIterator();
+                }
+                if (!AbstractPager.this.hasNext()) {
+                    return false;
+                }
+                current = nextPage();
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Iterator<T> nextPage() {
+            ResponseConverter<StreamingPage<T>> converter = streaming ? getStreamingConverter() : null;
+            if (converter == null) {
+                return getNext().iterator();
+            }
+            ServiceCall<C> call = createPageCall(pageToken);
+            if (call instanceof ConvertibleServiceCall) {
+                return ((ConvertibleServiceCall<C>) call).withConverter(converter).execute().getResult();
+            }
+            return readPage(call).iterator();
+        }
+
+        @Override
+        public void close() {
+            if (current instanceof StreamingPage) {
+                ((StreamingPage<T>) current).close();
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.paging;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retrieves the pages of an {@link AbstractPager} ahead of the consumer.
+ * <p>
+ * The request for the next page is issued as soon as the page token of the previous page is known, on the
+ * specified executor. At most one page request is in flight at any time (each request depends on the token
+ * returned by the previous one), and at most {@code depth} retrieved pages are buffered: once the buffer is full,
+ * no further requests are issued until the consumer takes a page. No thread is ever blocked waiting for buffer
+ * space, so a consumer which abandons the traversal leaves behind at most one in-flight request.
+ *
+ * @param <C> the type of the collection model returned by the "list" operation
+ * @param <T> the type of the resources contained in each page
+ */
+final class PagePrefetcher<C, T> {
+
+    private final AbstractPager<C, T> pager;
+    private final int depth;
+    private final Executor executor;
+
+    // Each element is either a List<T> containing the items of a page, or the Throwable raised while retrieving it.
+    private final Deque<Object> buffer = new ArrayDeque<>();
+    private String pageToken;
+    private boolean exhausted;
+    private boolean inFlight;
+
+    PagePrefetcher(AbstractPager<C, T> pager, String pageToken, int depth, Executor executor) {
+        this.pager = pager;
+        this.pageToken = pageToken;
+        this.depth = depth;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a shared executor backed by daemon threads, used when no executor is specified.
+     *
+     * @return the default prefetch executor
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    synchronized boolean hasNext() {
+        return !buffer.isEmpty() || inFlight || !exhausted;
+    }
+
+    /**
+     * Returns the items of the next page, waiting for it to be retrieved if necessary.
+     *
+     * @return the items of the next page
+     */
+    @SuppressWarnings("unchecked")
+    List<T> next() {
+        fetchIfNeeded();
+        Object head;
+        synchronized (this) {
+            while (buffer.isEmpty()) {
+                if (!inFlight && exhausted) {
+                    throw new NoSuchElementException("No more results available");
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            head = buffer.removeFirst();
+        }
+        fetchIfNeeded();
+        if (head instanceof RuntimeException) {
+            throw (RuntimeException) head;
+        } else if (head instanceof Error) {
+            throw (Error) head;
+        } else if (head instanceof Throwable) {
+            throw new RuntimeException((Throwable) head);
+        }
+        return (List<T>) head;
+    }
+
+    private void fetchIfNeeded() {
+        final String token;
+        synchronized (this) {
+            if (inFlight || exhausted || buffer.size() >= depth) {
+                return;
+            }
+            inFlight = true;
+            token = pageToken;
+        }
+        try {
+            executor.execute(() -> fetch(token));
+        } catch (RuntimeException e) {
+            complete(e, null);
+        }
+    }
+
+    private void fetch(String token) {
+        Object result;
+        String nextToken = null;
+        try {
+            C page = pager.createPageCall(token).execute().getResult();
+            nextToken = AbstractPager.getStartToken(pager.getNextHref(page));
+            List<T> items = pager.getItems(page);
+            result = items != null ? items : Collections.<T>emptyList();
+        } catch (Throwable t) {
+            result = t;
+        }
+        complete(result, nextToken);
+        fetchIfNeeded();
+    }
+
+    private synchronized void complete(Object result, String nextToken) {
+        buffer.addLast(result);
+        pageToken = nextToken;
+        exhausted = nextToken == null;
+        inFlight = false;
+        notifyAll();
+    }
+
+    /**
+     * Lazily creates the default executor.
+     */
+    private static final class DefaultExecutorHolder {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "is-sdk-page-prefetch-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private DefaultExecutorHolder() {
+        }
+    }
+}
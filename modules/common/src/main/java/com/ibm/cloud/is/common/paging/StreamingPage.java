@@ -0,0 +1,160 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.paging;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * One page of a paginated "list" operation, whose resources are deserialized one at a time as the page is
+ * iterated, directly from the response body.
+ * <p>
+ * Only the resource currently being returned is held in memory; the properties of the page which precede the
+ * resources are read when the page is opened, and those which follow them are read once the last resource has
+ * been returned. The "next" link of the page is therefore only guaranteed to be available once {@link #hasNext()}
+ * has returned false.
+ * <p>
+ * The response body is closed once all resources have been read. A page which is abandoned before that point
+ * must be closed explicitly, otherwise the underlying connection is not released.
+ *
+ * @param <T> the type of the resources contained in the page
+ */
+public class StreamingPage<T> implements Iterator<T>, Closeable {
+
+    private static final String NEXT_PROPERTY = "next";
+    private static final String HREF_PROPERTY = "href";
+
+    private final JsonReader reader;
+    private final String itemsProperty;
+    private final TypeAdapter<T> itemAdapter;
+    private String nextHref;
+    private boolean inItems;
+    private boolean closed;
+
+    /**
+     * Opens a page, reading the properties which precede the resources.
+     *
+     * @param reader the reader positioned at the beginning of the response body
+     * @param itemsProperty the name of the property which contains the resources
+     * @param itemAdapter the adapter used to deserialize each resource
+     * @throws IOException if the response body cannot be read
+     */
+    StreamingPage(JsonReader reader, String itemsProperty, TypeAdapter<T> itemAdapter) throws IOException {
+        this.reader = reader;
+        this.itemsProperty = itemsProperty;
+        this.itemAdapter = itemAdapter;
+        reader.beginObject();
+        readProperties();
+    }
+
+    /**
+     * Returns true if the page contains more resources.
+     *
+     * @return true if there are more resources available
+     */
+    @Override
+    public boolean hasNext() {
+        if (!inItems) {
+            return false;
+        }
+        try {
+            if (reader.hasNext()) {
+                return true;
+            }
+            reader.endArray();
+            inItems = false;
+            readProperties();
+            return false;
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Deserializes and returns the next resource.
+     *
+     * @return the next resource
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return itemAdapter.read(reader);
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the URL of the page which follows this page.
+     *
+     * @return the URL of the next page, or null if this is the last page or if the "next" link has not been read yet
+     */
+    public String getNextHref() {
+        return nextHref;
+    }
+
+    /**
+     * Closes the response body. Any resources which have not been read yet are discarded.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            inItems = false;
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // Nothing can be done about it, and the response body is no longer needed.
+            }
+        }
+    }
+
+    // Reads properties until the resources (or the end of the page) are reached.
+    private void readProperties() throws IOException {
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals(itemsProperty) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                inItems = true;
+                return;
+            } else if (name.equals(NEXT_PROPERTY) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (reader.nextName().equals(HREF_PROPERTY) && reader.peek() == JsonToken.STRING) {
+                        nextHref = reader.nextString();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        close();
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.paging;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.ibm.cloud.is.common.json.JsonUtils;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+
+import okhttp3.Response;
+
+/**
+ * A {@link ResponseConverter} which converts the response of a paginated "list" operation into a
+ * {@link StreamingPage}, without materializing the resources contained in the page.
+ * <p>
+ * The converter is immutable and can be shared by any number of calls.
+ *
+ * @param <T> the type of the resources contained in the page
+ */
+public class StreamingPageConverter<T> implements ResponseConverter<StreamingPage<T>> {
+
+    private final String itemsProperty;
+    private final TypeAdapter<T> itemAdapter;
+
+    /**
+     * Creates a converter which deserializes the resources with the {@link Gson} instance used to deserialize
+     * response bodies (see {@link JsonUtils#getGson()}).
+     *
+     * @param itemsProperty the name of the property of the page which contains the resources (e.g. "instances")
+     * @param itemType the type of the resources
+     */
+    public StreamingPageConverter(String itemsProperty, Type itemType) {
+        this(itemsProperty, itemType, JsonUtils.getGson());
+    }
+
+    /**
+     * Creates a converter which deserializes the resources with the specified {@link Gson} instance.
+     *
+     * @param itemsProperty the name of the property of the page which contains the resources (e.g. "instances")
+     * @param itemType the type of the resources
+     * @param gson the {@link Gson} instance used to deserialize the resources
+     */
+    @SuppressWarnings("unchecked")
+    public StreamingPageConverter(String itemsProperty, Type itemType, Gson gson) {
+        if (itemsProperty == null || itemType == null || gson == null) {
+            throw new IllegalArgumentException("itemsProperty, itemType and gson cannot be null");
+        }
+        this.itemsProperty = itemsProperty;
+        this.itemAdapter = (TypeAdapter<T>) gson.getAdapter(TypeToken.get(itemType));
+    }
+
+    @Override
+    public StreamingPage<T> convert(Response response) {
+        JsonReader reader = new JsonReader(response.body().charStream());
+        reader.setLenient(true);
+        try {
+            return new StreamingPage<>(reader, itemsProperty, itemAdapter);
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+        }
+    }
+}
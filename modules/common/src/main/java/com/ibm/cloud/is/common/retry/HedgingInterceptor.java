@@ -0,0 +1,486 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.retry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.ibm.cloud.is.common.http.Operation;
+import com.ibm.cloud.sdk.core.service.BaseService;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * An OkHttp interceptor which hedges slow GET requests: if a request has not completed after the configured
+ * percentile of the recent latencies of its operation, a duplicate request is sent, and whichever response is
+ * received first is returned while the other request is cancelled.
+ * <p>
+ * The latencies are tracked per operation (identified by the {@link Operation} descriptor attached to the
+ * request), over a sliding window of recent responses; an operation is not hedged until enough responses have
+ * been recorded. Hedges are limited by a {@link RetryBudget}, by default to 5% of the requests, so that hedging
+ * increases the load on the server by at most that fraction even when the server is slow across the board. A
+ * request which fails (rather than responding slowly) is not hedged: if both requests are sent, the first
+ * response is returned, and an exception is only raised if both requests fail.
+ * <p>
+ * Both requests are sent with the client to which the interceptor was added (see {@link #install(BaseService)}
+ * and {@link #wrap(OkHttpClient)}), so they go through the other interceptors of that client; this interceptor is
+ * therefore added before them. The original request is sent on the calling thread, and the hedge on a thread of
+ * the configured executor. A request which cannot be hedged yet, because not enough latencies of its operation have
+ * been recorded, is simply sent through the chain. The cancellation of the call which sent a request is checked when
+ * the hedge would be sent, and polled from then on until the response is received; both requests are then cancelled.
+ * <p>
+ * Since the requests of the hedged operations are sent with the client to which the interceptor was added rather
+ * than through the chain of the client returned by {@link #wrap(OkHttpClient)}, the interceptor must be installed
+ * last: interceptors added afterwards to the returned client, or to a client derived from it (e.g. with
+ * {@link OkHttpClient#newBuilder()}), are skipped by those requests, and a client derived from it with another
+ * connection pool or dispatcher still sends them with the pool and dispatcher of the original client.
+ * <p>
+ * Instances are thread-safe. An instance is bound to a single client.
+ */
+public final class HedgingInterceptor implements Interceptor {
+
+    // The interval at which the cancellation of the call which sent a hedged request is checked.
+    private static final long CANCEL_POLL_MILLIS = 20;
+
+    private final double percentile;
+    private final int minSamples;
+    private final int windowSize;
+    private final long minDelayNanos;
+    private final RetryBudget budget;
+    private final Set<String> operationIds;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final ConcurrentMap<String, RecentLatencies> latencies = new ConcurrentHashMap<>();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+    private volatile OkHttpClient client;
+
+    /**
+     * Builder.
+     */
+    public static class Builder {
+        private double percentile = 95;
+        private int minSamples = 20;
+        private int windowSize = 1000;
+        private long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(10);
+        private RetryBudget budget;
+        private Set<String> operationIds;
+        private Executor executor;
+
+        /**
+         * Builds a HedgingInterceptor.
+         *
+         * @return the new HedgingInterceptor instance
+         */
+        public HedgingInterceptor build() {
+            return new HedgingInterceptor(this);
+        }
+
+        /**
+         * Set the percentile of the recent latencies after which a request is hedged. Defaults to 95.
+         *
+         * @param percentile the percentile (between 0 and 100)
+         * @return the HedgingInterceptor builder
+         */
+        public Builder percentile(double percentile) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100");
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Set the number of responses of an operation which must be recorded before its requests are hedged.
+         * Defaults to 20.
+         *
+         * @param minSamples the minimum number of samples (must be at least 1)
+         * @return the HedgingInterceptor builder
+         */
+        public Builder minSamples(int minSamples) {
+            if (minSamples < 1) {
+                throw new IllegalArgumentException("minSamples must be at least 1");
+            }
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Set the number of responses over which the percentile is computed. Defaults to 1000.
+         *
+         * @param windowSize the size of the sliding window (must be at least 1)
+         * @return the HedgingInterceptor builder
+         */
+        public Builder windowSize(int windowSize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("windowSize must be at least 1");
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Set the shortest delay after which a request is hedged. Defaults to 10 milliseconds.
+         *
+         * @param duration the shortest delay (must be at least 0)
+         * @param unit the unit of the duration
+         * @return the HedgingInterceptor builder
+         */
+        public Builder minDelay(long duration, TimeUnit unit) {
+            if (duration < 0 || unit == null) {
+                throw new IllegalArgumentException("duration must be at least 0 and unit cannot be null");
+            }
+            this.minDelayNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Set the budget which limits the number of hedges. Defaults to a budget of its own which allows hedges for
+         * 5% of the requests, with a reserve of 10 hedges.
+         *
+         * @param budget the hedging budget
+         * @return the HedgingInterceptor builder
+         */
+        public Builder budget(RetryBudget budget) {
+            if (budget == null) {
+                throw new IllegalArgumentException("budget cannot be null");
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Set the operations whose requests are hedged. Defaults to all the operations which use the GET method.
+         *
+         * @param operationIds the operationIds (e.g. "getInstance", "listSubnets")
+         * @return the HedgingInterceptor builder
+         */
+        public Builder operations(String... operationIds) {
+            if (operationIds == null || operationIds.length == 0) {
+                throw new IllegalArgumentException("operationIds cannot be null or empty");
+            }
+            this.operationIds = new HashSet<>(Arrays.asList(operationIds));
+            return this;
+        }
+
+        /**
+         * Set the executor on which the hedges are sent. Defaults to a shared pool of daemon threads.
+         *
+         * @param executor the executor
+         * @return the HedgingInterceptor builder
+         */
+        public Builder executor(Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("executor cannot be null");
+            }
+            this.executor = executor;
+            return this;
+        }
+    }
+
+    private HedgingInterceptor(Builder builder) {
+        this.percentile = builder.percentile;
+        this.minSamples = builder.minSamples;
+        this.windowSize = builder.windowSize;
+        this.minDelayNanos = builder.minDelayNanos;
+        this.budget = builder.budget != null ? builder.budget : new RetryBudget(0.05, 10);
+        this.operationIds = builder.operationIds;
+        this.scheduler = DefaultExecutorHolder.SCHEDULER;
+        this.executor = builder.executor != null ? builder.executor : DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Adds this interceptor to the HTTP client of the specified service, before its other interceptors. The
+     * other interceptors must already have been added to the client (see the class documentation).
+     *
+     * @param service the service
+     */
+    public void install(BaseService service) {
+        if (service == null) {
+            throw new IllegalArgumentException("service cannot be null");
+        }
+        service.setClient(wrap(service.getClient()));
+    }
+
+    /**
+     * Returns a client which hedges the requests sent with the specified client: the returned client has the
+     * same configuration, with this interceptor added before its other interceptors. The returned client must not
+     * be used to derive other clients, since their hedged requests would still be sent with the specified client
+     * (see the class documentation).
+     *
+     * @param delegate the client used to send the requests and their hedges
+     * @return the hedging client
+     */
+    public synchronized OkHttpClient wrap(OkHttpClient delegate) {
+        if (client != null) {
+            throw new IllegalStateException("This interceptor is already bound to a client");
+        }
+        client = delegate;
+        OkHttpClient.Builder builder = delegate.newBuilder();
+        builder.interceptors().add(0, this);
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of hedges sent.
+     *
+     * @return the number of hedges
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * Returns the number of hedges whose response was received before the response of the original request.
+     *
+     * @return the number of hedges which won
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        OkHttpClient delegate = client;
+        Operation<?> operation = Operation.fromRequest(request);
+        if (delegate == null || operation == null || !"GET".equals(request.method())
+            || operationIds != null && !operationIds.contains(operation.getOperationId())) {
+            return chain.proceed(request);
+        }
+        if (chain.call().isCanceled()) {
+            throw new IOException("Canceled");
+        }
+        RecentLatencies recent = latencies.get(operation.getOperationId());
+        if (recent == null) {
+            recent = latencies.computeIfAbsent(operation.getOperationId(),
+                k -> new RecentLatencies(windowSize, percentile));
+        }
+        budget.deposit();
+        long delayNanos = recent.getPercentileNanos(minSamples);
+        if (delayNanos < 0) {
+            // Not enough latencies have been recorded to hedge the request.
+            long start = System.nanoTime();
+            Response response = chain.proceed(request);
+            recent.record(System.nanoTime() - start);
+            return response;
+        }
+        Race race = new Race(delegate.newCall(request), recent, chain.call());
+        race.timer = scheduler.schedule(() -> hedge(delegate, request, race), Math.max(delayNanos, minDelayNanos),
+            TimeUnit.NANOSECONDS);
+        try {
+            return race.runPrimary();
+        } finally {
+            race.finish();
+        }
+    }
+
+    private void hedge(OkHttpClient delegate, Request request, Race race) {
+        if (race.caller.isCanceled()) {
+            race.cancel();
+        }
+        if (race.canceled || race.winner.get() != null || !budget.tryWithdraw()) {
+            race.hedgeResult.completeExceptionally(new IOException("The request was not hedged"));
+            return;
+        }
+        hedgeCount.incrementAndGet();
+        Call call = delegate.newCall(request);
+        race.hedge = call;
+        if (race.canceled) {
+            call.cancel();
+        }
+        try {
+            executor.execute(() -> race.runHedge(call));
+        } catch (RuntimeException e) {
+            race.hedgeResult.completeExceptionally(e);
+            return;
+        }
+        // From now on, the cancellation of the caller is polled until the race is finished.
+        race.watch = scheduler.scheduleWithFixedDelay(() -> {
+            if (race.caller.isCanceled()) {
+                race.cancel();
+            }
+        }, CANCEL_POLL_MILLIS, CANCEL_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (race.finished) {
+            race.watch.cancel(false);
+        }
+    }
+
+    /**
+     * An original request and its hedge, racing for the first response.
+     */
+    private final class Race {
+        private final Call primary;
+        private final RecentLatencies recent;
+        private final Call caller;
+        private final AtomicReference<Call> winner = new AtomicReference<>();
+        private final CompletableFuture<Response> hedgeResult = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timer;
+        private volatile Call hedge;
+        private volatile boolean canceled;
+        private volatile ScheduledFuture<?> watch;
+        private volatile boolean finished;
+
+        Race(Call primary, RecentLatencies recent, Call caller) {
+            this.primary = primary;
+            this.recent = recent;
+            this.caller = caller;
+        }
+
+        Response runPrimary() throws IOException {
+            long start = System.nanoTime();
+            Response response;
+            try {
+                response = primary.execute();
+            } catch (IOException | RuntimeException e) {
+                return primaryFailed(e);
+            }
+            recent.record(System.nanoTime() - start);
+            if (winner.compareAndSet(null, primary)) {
+                ScheduledFuture<?> pending = timer;
+                if (pending != null) {
+                    pending.cancel(false);
+                }
+                Call hedgeCall = hedge;
+                if (hedgeCall != null) {
+                    hedgeCall.cancel();
+                }
+                return response;
+            }
+            response.close();
+            return awaitHedge(null);
+        }
+
+        private Response primaryFailed(Exception failure) throws IOException {
+            if (winner.get() == null && hedge == null) {
+                ScheduledFuture<?> pending = timer;
+                if (pending == null || pending.cancel(false)) {
+                    throw rethrow(failure);
+                }
+            }
+            // A hedge was (or is being) sent: its response is the only one left.
+            return awaitHedge(failure);
+        }
+
+        private Response awaitHedge(Exception primaryFailure) throws IOException {
+            try {
+                return hedgeResult.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelHedge();
+                throw new InterruptedIOException("Interrupted while waiting for the hedged request");
+            } catch (ExecutionException e) {
+                throw rethrow(primaryFailure != null ? primaryFailure : e.getCause());
+            }
+        }
+
+        /**
+         * Stops polling the cancellation of the caller, once its call has returned.
+         */
+        void finish() {
+            finished = true;
+            ScheduledFuture<?> pending = watch;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        }
+
+        /**
+         * Cancels both requests, when the call which sent the original request has been cancelled.
+         */
+        void cancel() {
+            canceled = true;
+            primary.cancel();
+            cancelHedge();
+        }
+
+        private void cancelHedge() {
+            Call hedgeCall = hedge;
+            if (hedgeCall != null) {
+                hedgeCall.cancel();
+            }
+        }
+
+        void runHedge(Call call) {
+            long start = System.nanoTime();
+            Response response;
+            try {
+                response = call.execute();
+            } catch (IOException | RuntimeException e) {
+                hedgeResult.completeExceptionally(e);
+                return;
+            }
+            recent.record(System.nanoTime() - start);
+            if (winner.compareAndSet(null, call)) {
+                hedgeWinCount.incrementAndGet();
+                hedgeResult.complete(response);
+                primary.cancel();
+            } else {
+                response.close();
+                hedgeResult.completeExceptionally(new IOException("Canceled"));
+            }
+        }
+    }
+
+    private static IOException rethrow(Throwable t) {
+        if (t instanceof IOException) {
+            return (IOException) t;
+        } else if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IOException(t);
+    }
+
+    /**
+     * Lazily creates the default executors.
+     */
+    private static final class DefaultExecutorHolder {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "is-sdk-hedge-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "is-sdk-hedge-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private DefaultExecutorHolder() {
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.retry;
+
+/**
+ * How safely an operation can be sent again after an attempt which may have been processed by the server (e.g.
+ * a timeout or a 500 status code), which determines how a {@link RetryInterceptor} retries it.
+ */
+public enum Idempotency {
+
+    /**
+     * The operation does not modify any resource (GET and HEAD requests): it is always retried.
+     */
+    SAFE,
+
+    /**
+     * The operation has the same effect whether it is applied once or several times (PUT and PATCH requests):
+     * it is always retried.
+     */
+    IDEMPOTENT,
+
+    /**
+     * The operation deletes a resource (DELETE requests): it is always retried, and a 404 response to a retry is
+     * reported as a success, since the resource was deleted by an earlier attempt.
+     */
+    DELETE,
+
+    /**
+     * The operation creates a named resource (POST requests of the "create" operations): before it is retried,
+     * the collection is searched for a resource with the requested name, which is returned instead if an earlier
+     * attempt created it.
+     */
+    CREATE,
+
+    /**
+     * The operation is not idempotent (the other POST requests, e.g. instance actions): it is only retried if
+     * the server did not process the earlier attempt (e.g. a 429 status code or a connection failure).
+     */
+    UNSAFE;
+
+    /**
+     * Classifies an operation by its HTTP method and operationId.
+     *
+     * @param method the HTTP method
+     * @param operationId the operationId (e.g. "createVpc"), or null if it is not known
+     * @return the idempotency of the operation
+     */
+    public static Idempotency of(String method, String operationId) {
+        switch (method) {
+            case "GET":
+            case "HEAD":
+                return SAFE;
+            case "PUT":
+            case "PATCH":
+                return IDEMPOTENT;
+            case "DELETE":
+                return DELETE;
+            default:
+                return operationId != null && operationId.startsWith("create") ? CREATE : UNSAFE;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.cloud.is.common.metrics.Histogram;
+
+/**
+ * The latencies of the most recent responses of one operation, from which a {@link HedgingInterceptor} derives
+ * the delay after which a request is hedged.
+ * <p>
+ * Latencies are recorded in a histogram which is replaced by a new one every {@code windowSize} samples; the
+ * percentile is computed over the last complete window (or over the current one, until a window is complete), so
+ * it follows changes in the latency of the operation. The percentile is recomputed every 16 samples rather than
+ * for every request.
+ */
+final class RecentLatencies {
+
+    private static final long MAX_LATENCY_NANOS = 3_600_000_000_000L;
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final int windowSize;
+    private final double percentile;
+    private final AtomicLong samples = new AtomicLong();
+    private volatile Histogram current = new Histogram(MAX_LATENCY_NANOS);
+    private volatile Histogram previous;
+    private volatile long percentileNanos = -1;
+
+    RecentLatencies(int windowSize, double percentile) {
+        this.windowSize = windowSize;
+        this.percentile = percentile;
+    }
+
+    void record(long latencyNanos) {
+        current.record(latencyNanos);
+        long count = samples.incrementAndGet();
+        if (count % windowSize == 0) {
+            previous = current;
+            current = new Histogram(MAX_LATENCY_NANOS);
+        }
+        if (count % RECOMPUTE_INTERVAL == 0) {
+            Histogram histogram = previous != null ? previous : current;
+            percentileNanos = histogram.getValueAtPercentile(percentile);
+        }
+    }
+
+    /**
+     * Returns the latency at the percentile.
+     *
+     * @param minSamples the minimum number of samples required
+     * @return the latency at the percentile, in nanoseconds, or -1 if fewer samples have been recorded
+     */
+    long getPercentileNanos(int minSamples) {
+        return samples.get() >= Math.max(minSamples, RECOMPUTE_INTERVAL) ? percentileNanos : -1;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.retry;
+
+/**
+ * Limits the number of retries to a fraction of the number of requests, so that retries cannot multiply the load
+ * on a server which is failing.
+ * <p>
+ * Each request (not counting its retries) deposits {@code ratio} tokens, up to {@code maxTokens}, and each retry
+ * withdraws one token; a retry is not attempted when less than one token is available. The budget starts full,
+ * so isolated failures are always retried, while a sustained failure rate only increases the load by
+ * {@code ratio}.
+ * <p>
+ * Instances are thread-safe, and can be shared by several clients.
+ */
+public final class RetryBudget {
+
+    /**
+     * The default ratio of retries to requests.
+     */
+    public static final double DEFAULT_RATIO = 0.1;
+
+    /**
+     * The default maximum number of tokens.
+     */
+    public static final int DEFAULT_MAX_TOKENS = 100;
+
+    private final double ratio;
+    private final int maxTokens;
+    private double tokens;
+
+    /**
+     * Creates a budget which allows retries for 10% of the requests, with a reserve of 100 retries.
+     */
+    public RetryBudget() {
+        this(DEFAULT_RATIO, DEFAULT_MAX_TOKENS);
+    }
+
+    /**
+     * Creates a budget.
+     *
+     * @param ratio the number of tokens deposited by each request (must be at least 0)
+     * @param maxTokens the maximum number of tokens, i.e. the number of retries allowed in a burst of failures
+     *        (must be at least 0)
+     */
+    public RetryBudget(double ratio, int maxTokens) {
+        if (!(ratio >= 0) || maxTokens < 0) {
+            throw new IllegalArgumentException("ratio and maxTokens must be at least 0");
+        }
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * Records a request.
+     */
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * Withdraws the token of a retry, if one is available.
+     *
+     * @return true if the retry can be attempted
+     */
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * Returns the number of tokens available.
+     *
+     * @return the number of retries which can currently be attempted
+     */
+    public synchronized double getTokens() {
+        return tokens;
+    }
+}
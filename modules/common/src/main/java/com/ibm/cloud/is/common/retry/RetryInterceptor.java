@@ -0,0 +1,544 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.retry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.ibm.cloud.is.common.http.Operation;
+import com.ibm.cloud.is.common.http.RetryAfter;
+import com.ibm.cloud.is.common.waiters.Backoff;
+import com.ibm.cloud.is.common.waiters.WaiterClock;
+import com.ibm.cloud.sdk.core.service.BaseService;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+/**
+ * An OkHttp interceptor which retries the requests which failed transiently, according to the
+ * {@link Idempotency} of the operation they invoke.
+ * <p>
+ * A request is retried when it fails with an {@link IOException} or when the response has a 429, 500, 502, 503
+ * or 504 status code. A 429 response or a connection failure means that the server did not process the request,
+ * so any request is retried; after the other failures the request may have been processed, and it is retried
+ * according to the idempotency of its operation:
+ * <ul>
+ * <li>reads, updates and deletions are retried, and a 404 response to a retried deletion is reported as a 204
+ * (No Content) response, since the resource was deleted by an earlier attempt;</li>
+ * <li>before a creation is retried, the collection it was posted to is searched for a resource with the name of
+ * the request body, and a resource which is found is returned in a 201 (Created) response instead of creating a
+ * duplicate. Since names are only unique within a scope, the resource must also be in the VPC, zone and resource
+ * group designated by the request body (when it designates them), and must not have been created before the first
+ * attempt. The time of the first attempt is taken on the clock of the server, from the {@code Date} header of the
+ * failed response when it has one, and otherwise from the local clock minus the configured maximum clock skew. A creation without a name, or whose collection cannot be searched, is not retried;</li>
+ * <li>other operations are not retried.</li>
+ * </ul>
+ * Retries are delayed by a jittered exponential {@link Backoff}, or by the {@code Retry-After} header of the
+ * response if it is longer (a request whose {@code Retry-After} exceeds {@link Builder#maxRetryAfter} is not
+ * retried), and are limited by a maximum number of attempts and by a {@link RetryBudget}. The operation is
+ * identified by the {@link Operation} descriptor attached to the request; requests without a descriptor are
+ * classified by their HTTP method only, so their POST requests are treated as unsafe.
+ * <p>
+ * When this interceptor is combined with other application interceptors, the interceptors which should see every
+ * attempt (e.g. a {@link com.ibm.cloud.is.common.throttle.ThrottlingInterceptor}) should be added after it.
+ * Instances are thread-safe and can be shared by several clients.
+ */
+public final class RetryInterceptor implements Interceptor {
+
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int NOT_FOUND = 404;
+    // The properties of a creation request which designate the scope within which the name of a resource is unique.
+    private static final String[] SCOPE_PROPERTIES = { "vpc", "zone", "resource_group" };
+    private static final String[] IDENTITY_PROPERTIES = { "id", "crn", "href", "name" };
+
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final RetryBudget budget;
+    private final long maxRetryAfterMillis;
+    private final int maxLookupPages;
+    private final long maxClockSkewMillis;
+    private final WaiterClock clock;
+    private final Map<String, Idempotency> overrides;
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+    private final AtomicLong deduplicatedCount = new AtomicLong();
+
+    /**
+     * Builder.
+     */
+    public static class Builder {
+        private int maxAttempts = 4;
+        private Backoff backoff = new Backoff(250, 10000, 2.0);
+        private RetryBudget budget = new RetryBudget();
+        private long maxRetryAfterMillis = TimeUnit.MINUTES.toMillis(1);
+        private int maxLookupPages = 10;
+        private long maxClockSkewMillis = TimeUnit.MINUTES.toMillis(5);
+        private WaiterClock clock = WaiterClock.SYSTEM;
+        private final Map<String, Idempotency> overrides = new HashMap<>();
+
+        /**
+         * Builds a RetryInterceptor.
+         *
+         * @return the new RetryInterceptor instance
+         */
+        public RetryInterceptor build() {
+            return new RetryInterceptor(this);
+        }
+
+        /**
+         * Set the maximum number of attempts of a request, including the first one. Defaults to 4.
+         *
+         * @param maxAttempts the maximum number of attempts (must be at least 1)
+         * @return the RetryInterceptor builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Set the policy which determines the delay before each retry. Defaults to a random delay between 250
+         * milliseconds and a ceiling which doubles after each retry, up to 10 seconds.
+         *
+         * @param backoff the backoff policy
+         * @return the RetryInterceptor builder
+         */
+        public Builder backoff(Backoff backoff) {
+            if (backoff == null) {
+                throw new IllegalArgumentException("backoff cannot be null");
+            }
+            this.backoff = backoff;
+            return this;
+        }
+
+        /**
+         * Set the budget which limits the number of retries. Defaults to a budget of its own which allows retries
+         * for 10% of the requests; a budget can be shared by several interceptors.
+         *
+         * @param budget the retry budget
+         * @return the RetryInterceptor builder
+         */
+        public Builder budget(RetryBudget budget) {
+            if (budget == null) {
+                throw new IllegalArgumentException("budget cannot be null");
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Set the longest {@code Retry-After} delay for which a request is retried. Defaults to 1 minute.
+         *
+         * @param duration the longest delay (must be at least 0)
+         * @param unit the unit of the duration
+         * @return the RetryInterceptor builder
+         */
+        public Builder maxRetryAfter(long duration, TimeUnit unit) {
+            if (duration < 0 || unit == null) {
+                throw new IllegalArgumentException("duration must be at least 0 and unit cannot be null");
+            }
+            this.maxRetryAfterMillis = unit.toMillis(duration);
+            return this;
+        }
+
+        /**
+         * Set the maximum number of pages of a collection searched for the resource of a creation before it is
+         * retried. Defaults to 10 (of 100 resources each).
+         *
+         * @param maxLookupPages the maximum number of pages (must be at least 1)
+         * @return the RetryInterceptor builder
+         */
+        public Builder maxLookupPages(int maxLookupPages) {
+            if (maxLookupPages < 1) {
+                throw new IllegalArgumentException("maxLookupPages must be at least 1");
+            }
+            this.maxLookupPages = maxLookupPages;
+            return this;
+        }
+
+        /**
+         * Set the idempotency of an operation, overriding the classification by HTTP method and operationId.
+         *
+         * @param operationId the operationId
+         * @param idempotency the idempotency of the operation
+         * @return the RetryInterceptor builder
+         */
+        public Builder idempotency(String operationId, Idempotency idempotency) {
+            if (operationId == null || idempotency == null) {
+                throw new IllegalArgumentException("operationId and idempotency cannot be null");
+            }
+            this.overrides.put(operationId, idempotency);
+            return this;
+        }
+
+        /**
+         * Set the maximum difference between the local clock and the clock of the server, by which the search for a
+         * resource created by an earlier attempt extends before the first attempt when the failed response has no
+         * {@code Date} header. Defaults to 5 minutes.
+         *
+         * @param duration the maximum clock skew (must be at least 0)
+         * @param unit the unit of the duration
+         * @return the RetryInterceptor builder
+         */
+        public Builder maxClockSkew(long duration, TimeUnit unit) {
+            if (duration < 0 || unit == null) {
+                throw new IllegalArgumentException("duration must be at least 0 and unit cannot be null");
+            }
+            this.maxClockSkewMillis = unit.toMillis(duration);
+            return this;
+        }
+
+        /**
+         * Set the clock used to wait between attempts and to measure the time elapsed since the first attempt.
+         * Defaults to the system clock.
+         *
+         * @param clock the clock
+         * @return the RetryInterceptor builder
+         */
+        public Builder clock(WaiterClock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("clock cannot be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+    }
+
+    private RetryInterceptor(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.backoff = builder.backoff;
+        this.budget = builder.budget;
+        this.maxRetryAfterMillis = builder.maxRetryAfterMillis;
+        this.maxLookupPages = builder.maxLookupPages;
+        this.maxClockSkewMillis = builder.maxClockSkewMillis;
+        this.clock = builder.clock;
+        this.overrides = new HashMap<>(builder.overrides);
+    }
+
+    /**
+     * Adds this interceptor to the HTTP client of the specified service.
+     *
+     * @param service the service
+     */
+    public void install(BaseService service) {
+        if (service == null) {
+            throw new IllegalArgumentException("service cannot be null");
+        }
+        service.setClient(service.getClient().newBuilder().addInterceptor(this).build());
+    }
+
+    /**
+     * Returns the number of retries attempted.
+     *
+     * @return the number of retries
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * Returns the number of retries which were not attempted because the retry budget was exhausted.
+     *
+     * @return the number of retries denied by the budget
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.get();
+    }
+
+    /**
+     * Returns the number of creations which were not retried because an earlier attempt had created the resource.
+     *
+     * @return the number of deduplicated creations
+     */
+    public long getDeduplicatedCount() {
+        return deduplicatedCount.get();
+    }
+
+    /**
+     * Returns the idempotency of the operation invoked by the specified request.
+     *
+     * @param request the request
+     * @return the idempotency of the operation
+     */
+    public Idempotency classify(Request request) {
+        Operation<?> operation = Operation.fromRequest(request);
+        String operationId = operation != null ? operation.getOperationId() : null;
+        Idempotency override = operationId != null ? overrides.get(operationId) : null;
+        return override != null ? override : Idempotency.of(request.method(), operationId);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Idempotency idempotency = classify(request);
+        JsonObject body = idempotency == Idempotency.CREATE ? getJsonBody(request.body()) : null;
+        String name = body != null ? getString(body, "name") : null;
+        long firstAttemptMillis = System.currentTimeMillis();
+        long firstAttemptNanos = clock.nanoTime();
+        budget.deposit();
+
+        boolean mayHaveBeenProcessed = false;
+        for (int attempt = 1;; attempt++) {
+            Response response = null;
+            IOException failure = null;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                failure = e;
+            }
+            long elapsedNanos = clock.nanoTime() - firstAttemptNanos;
+
+            if (response != null) {
+                if (idempotency == Idempotency.DELETE && mayHaveBeenProcessed && response.code() == NOT_FOUND) {
+                    response.close();
+                    return response.newBuilder().code(204).message("No Content")
+                        .body(ResponseBody.create(null, new byte[0])).build();
+                }
+                if (!isRetryable(response.code())) {
+                    return response;
+                }
+                response = buffer(response);
+            } else if (chain.call().isCanceled()) {
+                throw failure;
+            }
+
+            boolean processed = response != null ? response.code() != TOO_MANY_REQUESTS : !isConnectFailure(failure);
+            long delayMillis = backoff.getDelayMillis(attempt - 1);
+            long retryAfterMillis = response != null ? RetryAfter.getDelayMillis(response) : -1;
+            boolean retry = attempt < maxAttempts && retryAfterMillis <= maxRetryAfterMillis
+                && (!processed || isReplayable(idempotency, name));
+            if (retry && !budget.tryWithdraw()) {
+                budgetExhaustedCount.incrementAndGet();
+                retry = false;
+            }
+            if (!retry) {
+                if (response != null) {
+                    return response;
+                }
+                throw failure;
+            }
+
+            sleep(Math.max(delayMillis, retryAfterMillis));
+            if (idempotency == Idempotency.CREATE && processed) {
+                JsonObject created;
+                try {
+                    long createdAfterMillis = getCreatedAfterMillis(response, firstAttemptMillis, elapsedNanos);
+                    created = findCreated(chain, request, body, name, createdAfterMillis);
+                } catch (IOException | RuntimeException e) {
+                    // The collection cannot be searched, so a retry might create a duplicate.
+                    if (response != null) {
+                        return response;
+                    }
+                    throw failure;
+                }
+                if (created != null) {
+                    deduplicatedCount.incrementAndGet();
+                    return new Response.Builder()
+                        .request(request)
+                        .protocol(response != null ? response.protocol() : Protocol.HTTP_1_1)
+                        .code(201)
+                        .message("Created")
+                        .body(ResponseBody.create(JSON, created.toString()))
+                        .build();
+                }
+            }
+            mayHaveBeenProcessed |= processed;
+            retryCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the earliest time, on the clock of the server, at which an attempt of a request may have been
+     * processed: the time of the first attempt, derived from the {@code Date} header of a failed response and the
+     * time elapsed since the first attempt, or from the local clock.
+     */
+    private long getCreatedAfterMillis(Response response, long firstAttemptMillis, long elapsedNanos) {
+        Date date = response != null ? response.headers().getDate("Date") : null;
+        if (date != null) {
+            // The Date header has a precision of one second.
+            return date.getTime() - TimeUnit.NANOSECONDS.toMillis(elapsedNanos) - 1000;
+        }
+        return firstAttemptMillis - maxClockSkewMillis;
+    }
+
+    // Whether a request which may have been processed can be sent again.
+    private static boolean isReplayable(Idempotency idempotency, String name) {
+        switch (idempotency) {
+            case UNSAFE:
+                return false;
+            case CREATE:
+                return name != null;
+            default:
+                return true;
+        }
+    }
+
+    private static boolean isRetryable(int code) {
+        return code == TOO_MANY_REQUESTS || code == 500 || code == 502 || code == 503 || code == 504;
+    }
+
+    // The request was not sent if the connection could not be established.
+    private static boolean isConnectFailure(IOException e) {
+        return e instanceof ConnectException || e instanceof UnknownHostException
+            || e instanceof NoRouteToHostException;
+    }
+
+    // Reads the (error) body into memory, so that the connection is released while waiting to retry.
+    private static Response buffer(Response response) throws IOException {
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+        try {
+            return response.newBuilder().body(ResponseBody.create(body.contentType(), body.bytes())).build();
+        } finally {
+            response.close();
+        }
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+        try {
+            clock.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry the request");
+        }
+    }
+
+    private static JsonObject getJsonBody(RequestBody body) throws IOException {
+        if (body == null || body.contentType() == null || !"json".equals(body.contentType().subtype())) {
+            return null;
+        }
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        try {
+            JsonElement json = JsonParser.parseString(buffer.readUtf8());
+            return json.isJsonObject() ? json.getAsJsonObject() : null;
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    private static String getString(JsonObject object, String property) {
+        JsonElement value = object.get(property);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+
+    /**
+     * Returns true if a resource found in the collection may have been created by the specified creation request:
+     * it must be in the scopes designated by the request body, and must not predate the first attempt.
+     */
+    private static boolean isCreatedBy(JsonObject resource, JsonObject body, long createdAfterMillis) {
+        for (String scope : SCOPE_PROPERTIES) {
+            JsonElement requested = body.get(scope);
+            if (requested == null || !requested.isJsonObject()) {
+                continue;
+            }
+            JsonElement actual = resource.get(scope);
+            if (actual == null || !actual.isJsonObject()) {
+                return false;
+            }
+            boolean compared = false;
+            for (String identity : IDENTITY_PROPERTIES) {
+                String expected = getString(requested.getAsJsonObject(), identity);
+                String value = getString(actual.getAsJsonObject(), identity);
+                if (expected != null && value != null) {
+                    if (!expected.equals(value)) {
+                        return false;
+                    }
+                    compared = true;
+                }
+            }
+            if (!compared) {
+                return false;
+            }
+        }
+        String createdAt = getString(resource, "created_at");
+        if (createdAt != null) {
+            try {
+                long created = OffsetDateTime.parse(createdAt).toInstant().toEpochMilli();
+                // Creation dates may be reported with a precision of one second.
+                return created >= createdAfterMillis / 1000 * 1000;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Searches the collection to which a creation request was posted for a resource which an earlier attempt of the
+     * request may have created: a resource with the specified name, in the scopes designated by the request body.
+     *
+     * @return the resource, or null if the collection does not contain such a resource
+     * @throws IOException if the collection cannot be retrieved
+     */
+    private JsonObject findCreated(Chain chain, Request request, JsonObject body, String name, long createdAfterMillis)
+        throws IOException {
+        HttpUrl url = request.url().newBuilder().setQueryParameter("limit", "100").build();
+        for (int page = 0; url != null && page < maxLookupPages; page++) {
+            Request lookup = request.newBuilder().url(url).get().tag(Operation.class, null).build();
+            JsonObject collection;
+            try (Response response = chain.proceed(lookup)) {
+                if (!response.isSuccessful() || response.body() == null) {
+                    throw new IOException("Unable to list " + url + ": status code " + response.code());
+                }
+                collection = JsonParser.parseReader(response.body().charStream()).getAsJsonObject();
+            }
+            for (Map.Entry<String, JsonElement> member : collection.entrySet()) {
+                if (!member.getValue().isJsonArray()) {
+                    continue;
+                }
+                for (JsonElement element : member.getValue().getAsJsonArray()) {
+                    if (element.isJsonObject() && name.equals(getString(element.getAsJsonObject(), "name"))
+                        && isCreatedBy(element.getAsJsonObject(), body, createdAfterMillis)) {
+                        return element.getAsJsonObject();
+                    }
+                }
+            }
+            JsonElement next = collection.get("next");
+            JsonElement href = next != null && next.isJsonObject() ? next.getAsJsonObject().get("href") : null;
+            url = href != null && href.isJsonPrimitive() ? request.url().resolve(href.getAsString()) : null;
+        }
+        if (url != null) {
+            throw new IOException("The resource " + name + " was not found in the first " + maxLookupPages + " pages");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.throttle;
+
+/**
+ * Limits the number of requests in flight to a limit which adapts to the capacity of the server, using the
+ * additive-increase/multiplicative-decrease (AIMD) algorithm of TCP congestion control.
+ * <p>
+ * Each request which completes without being throttled raises the limit by {@code 1 / limit}, i.e. by about one
+ * per round of requests, as long as the limit is actually being used (at least half of it is in flight). A request
+ * which is throttled by the server (e.g. with a 429 status code) multiplies the limit by the backoff ratio. Since
+ * the requests which are in flight when the server starts throttling are usually all throttled, only the first of
+ * the requests started before a decrease reduces the limit again: the limit is reduced once per congestion event
+ * rather than once per throttled request. The limit therefore converges to, and oscillates slightly below, the
+ * concurrency the server accepts.
+ * <p>
+ * A caller takes a permit with {@link #acquire()}, waiting while the limit is reached, and must return it with
+ * exactly one of {@link #onSuccess(long)}, {@link #onThrottled(long)} or {@link #onIgnored(long)}.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private long epoch;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param initialLimit the initial limit
+     * @param minLimit the lowest limit (must be at least 1)
+     * @param maxLimit the highest limit (must be at least {@code minLimit})
+     * @param backoffRatio the factor applied to the limit when a request is throttled (between 0 and 1, exclusive)
+     */
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("minLimit must be at least 1 and maxLimit at least minLimit");
+        }
+        if (!(backoffRatio > 0 && backoffRatio < 1)) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return the maximum number of requests in flight
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Returns the number of requests currently in flight.
+     *
+     * @return the number of requests in flight
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Takes a permit, waiting while the limit is reached.
+     *
+     * @return the token to be passed to the method which returns the permit
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public synchronized long acquire() throws InterruptedException {
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+        inFlight++;
+        return epoch;
+    }
+
+    /**
+     * Takes a permit if the limit is not reached.
+     *
+     * @return the token to be passed to the method which returns the permit, or -1 if the limit is reached
+     */
+    public synchronized long tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return -1;
+        }
+        inFlight++;
+        return epoch;
+    }
+
+    /**
+     * Returns a permit whose request completed without being throttled, and raises the limit.
+     *
+     * @param token the token returned when the permit was taken
+     */
+    public synchronized void onSuccess(long token) {
+        if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+        release();
+    }
+
+    /**
+     * Returns a permit whose request was throttled by the server, and lowers the limit unless it has already been
+     * lowered since the permit was taken.
+     *
+     * @param token the token returned when the permit was taken
+     */
+    public synchronized void onThrottled(long token) {
+        if (token == epoch) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            epoch++;
+        }
+        release();
+    }
+
+    /**
+     * Returns a permit without changing the limit (e.g. because the request failed for an unrelated reason).
+     *
+     * @param token the token returned when the permit was taken
+     */
+    public synchronized void onIgnored(long token) {
+        release();
+    }
+
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+}
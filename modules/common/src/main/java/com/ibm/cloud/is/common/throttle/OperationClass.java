@@ -0,0 +1,41 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.throttle;
+
+/**
+ * The class of an operation, which determines the limits applied to it: reads can usually be sent at a much higher
+ * rate than mutations.
+ */
+public enum OperationClass {
+
+    /**
+     * An operation which does not modify any resource (GET and HEAD requests).
+     */
+    READ,
+
+    /**
+     * An operation which creates, modifies or deletes a resource (POST, PUT, PATCH and DELETE requests).
+     */
+    MUTATE;
+
+    /**
+     * Returns the class of the operations which use the specified HTTP method.
+     *
+     * @param method the HTTP method
+     * @return the class of the operation
+     */
+    public static OperationClass of(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) ? READ : MUTATE;
+    }
+}
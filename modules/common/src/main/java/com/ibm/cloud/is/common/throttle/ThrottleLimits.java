@@ -0,0 +1,208 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.throttle;
+
+/**
+ * The limits applied by a {@link ThrottlingInterceptor} to one class of operations of one endpoint: the rate at
+ * which requests are sent (a {@link TokenBucket}) and the bounds of the adaptive concurrency limit (an
+ * {@link AimdConcurrencyLimiter}).
+ */
+public final class ThrottleLimits {
+
+    /**
+     * The default limits of the read operations: 50 requests per second, and up to 100 requests in flight,
+     * starting with 10.
+     */
+    public static final ThrottleLimits DEFAULT_READ = new Builder()
+        .requestsPerSecond(50).burst(50).initialConcurrency(10).maxConcurrency(100).build();
+
+    /**
+     * The default limits of the mutating operations: 10 requests per second, and up to 20 requests in flight,
+     * starting with 4.
+     */
+    public static final ThrottleLimits DEFAULT_MUTATE = new Builder()
+        .requestsPerSecond(10).burst(10).initialConcurrency(4).maxConcurrency(20).build();
+
+    private final double requestsPerSecond;
+    private final int burst;
+    private final int initialConcurrency;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final double backoffRatio;
+
+    /**
+     * Builder.
+     */
+    public static class Builder {
+        private double requestsPerSecond;
+        private int burst = 1;
+        private int initialConcurrency = 10;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 100;
+        private double backoffRatio = 0.75;
+
+        /**
+         * Builds a ThrottleLimits.
+         *
+         * @return the new ThrottleLimits instance
+         */
+        public ThrottleLimits build() {
+            if (maxConcurrency < minConcurrency) {
+                throw new IllegalArgumentException("maxConcurrency must be at least minConcurrency");
+            }
+            return new ThrottleLimits(this);
+        }
+
+        /**
+         * Set the maximum rate of requests. Defaults to 0, i.e. the rate is not limited.
+         *
+         * @param requestsPerSecond the maximum number of requests per second, or 0 for no limit
+         * @return the ThrottleLimits builder
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            if (!(requestsPerSecond >= 0)) {
+                throw new IllegalArgumentException("requestsPerSecond must be at least 0");
+            }
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Set the number of requests which can be sent at once after a period of inactivity. Defaults to 1.
+         *
+         * @param burst the capacity of the token bucket (must be at least 1)
+         * @return the ThrottleLimits builder
+         */
+        public Builder burst(int burst) {
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be at least 1");
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Set the initial concurrency limit. Defaults to 10.
+         *
+         * @param initialConcurrency the initial maximum number of requests in flight
+         * @return the ThrottleLimits builder
+         */
+        public Builder initialConcurrency(int initialConcurrency) {
+            this.initialConcurrency = initialConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the lowest concurrency limit. Defaults to 1.
+         *
+         * @param minConcurrency the lowest maximum number of requests in flight (must be at least 1)
+         * @return the ThrottleLimits builder
+         */
+        public Builder minConcurrency(int minConcurrency) {
+            if (minConcurrency < 1) {
+                throw new IllegalArgumentException("minConcurrency must be at least 1");
+            }
+            this.minConcurrency = minConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the highest concurrency limit. Defaults to 100.
+         *
+         * @param maxConcurrency the highest maximum number of requests in flight
+         * @return the ThrottleLimits builder
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the factor applied to the concurrency limit when a request is throttled. Defaults to 0.75.
+         *
+         * @param backoffRatio the backoff ratio (between 0 and 1, exclusive)
+         * @return the ThrottleLimits builder
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (!(backoffRatio > 0 && backoffRatio < 1)) {
+                throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+    }
+
+    private ThrottleLimits(Builder builder) {
+        this.requestsPerSecond = builder.requestsPerSecond;
+        this.burst = builder.burst;
+        this.initialConcurrency = builder.initialConcurrency;
+        this.minConcurrency = builder.minConcurrency;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.backoffRatio = builder.backoffRatio;
+    }
+
+    /**
+     * Returns the maximum rate of requests.
+     *
+     * @return the maximum number of requests per second, or 0 if the rate is not limited
+     */
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Returns the number of requests which can be sent at once after a period of inactivity.
+     *
+     * @return the capacity of the token bucket
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Returns the initial concurrency limit.
+     *
+     * @return the initial maximum number of requests in flight
+     */
+    public int getInitialConcurrency() {
+        return initialConcurrency;
+    }
+
+    /**
+     * Returns the lowest concurrency limit.
+     *
+     * @return the lowest maximum number of requests in flight
+     */
+    public int getMinConcurrency() {
+        return minConcurrency;
+    }
+
+    /**
+     * Returns the highest concurrency limit.
+     *
+     * @return the highest maximum number of requests in flight
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the factor applied to the concurrency limit when a request is throttled.
+     *
+     * @return the backoff ratio
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+}
@@ -0,0 +1,301 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.throttle;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.cloud.is.common.http.RetryAfter;
+import com.ibm.cloud.is.common.waiters.WaiterClock;
+import com.ibm.cloud.sdk.core.service.BaseService;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * An OkHttp interceptor which limits the rate and the concurrency of the requests sent to each endpoint, and
+ * adapts them to the throttling responses of the server.
+ * <p>
+ * Requests are grouped by endpoint (the scheme, host and port of their URL, e.g. one group per regional endpoint)
+ * and by {@link OperationClass} (reads and mutations). Each group has a {@link TokenBucket} which limits the rate of
+ * its requests, and an {@link AimdConcurrencyLimiter} which limits the number of its requests in flight. A request
+ * waits for a permit from both before it is sent, on the thread which executes the call.
+ * <p>
+ * A response with a 429 or 503 status code lowers the concurrency limit of its group; any other response raises
+ * it, so the concurrency converges to the level the server accepts instead of alternating between bursts and
+ * throttling. If the response has a {@code Retry-After} header, the group sends no further request until the
+ * indicated time (at most {@link Builder#maxRetryAfter(long, TimeUnit)}). The throttling response itself is
+ * returned to the caller: this interceptor does not retry requests.
+ * <p>
+ * Instances are thread-safe, and should be shared by all the clients which send requests to the same endpoints
+ * so that their requests are limited together.
+ */
+public final class ThrottlingInterceptor implements Interceptor {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final Map<OperationClass, ThrottleLimits> defaultLimits;
+    private final Map<String, Map<OperationClass, ThrottleLimits>> endpointLimits;
+    private final long maxRetryAfterNanos;
+    private final WaiterClock clock;
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    /**
+     * Builder.
+     */
+    public static class Builder {
+        private final Map<OperationClass, ThrottleLimits> defaultLimits = new EnumMap<>(OperationClass.class);
+        private final Map<String, Map<OperationClass, ThrottleLimits>> endpointLimits = new HashMap<>();
+        private long maxRetryAfterNanos = TimeUnit.MINUTES.toNanos(1);
+        private WaiterClock clock = WaiterClock.SYSTEM;
+
+        /**
+         * Creates a builder with the default limits ({@link ThrottleLimits#DEFAULT_READ} and
+         * {@link ThrottleLimits#DEFAULT_MUTATE}).
+         */
+        public Builder() {
+            defaultLimits.put(OperationClass.READ, ThrottleLimits.DEFAULT_READ);
+            defaultLimits.put(OperationClass.MUTATE, ThrottleLimits.DEFAULT_MUTATE);
+        }
+
+        /**
+         * Builds a ThrottlingInterceptor.
+         *
+         * @return the new ThrottlingInterceptor instance
+         */
+        public ThrottlingInterceptor build() {
+            return new ThrottlingInterceptor(this);
+        }
+
+        /**
+         * Set the limits of a class of operations, for the endpoints which have no specific limits.
+         *
+         * @param operationClass the class of operations
+         * @param limits the limits
+         * @return the ThrottlingInterceptor builder
+         */
+        public Builder limits(OperationClass operationClass, ThrottleLimits limits) {
+            if (operationClass == null || limits == null) {
+                throw new IllegalArgumentException("operationClass and limits cannot be null");
+            }
+            defaultLimits.put(operationClass, limits);
+            return this;
+        }
+
+        /**
+         * Set the limits of a class of operations for the endpoint of the specified service URL.
+         *
+         * @param serviceUrl the service URL (e.g. "https://us-south.iaas.cloud.ibm.com/v1"); only its scheme, host
+         *        and port are significant
+         * @param operationClass the class of operations
+         * @param limits the limits
+         * @return the ThrottlingInterceptor builder
+         */
+        public Builder limits(String serviceUrl, OperationClass operationClass, ThrottleLimits limits) {
+            if (serviceUrl == null || operationClass == null || limits == null) {
+                throw new IllegalArgumentException("serviceUrl, operationClass and limits cannot be null");
+            }
+            endpointLimits.computeIfAbsent(origin(HttpUrl.get(serviceUrl)), k -> new EnumMap<>(OperationClass.class))
+                .put(operationClass, limits);
+            return this;
+        }
+
+        /**
+         * Set the longest pause honored for a {@code Retry-After} header. Defaults to 1 minute.
+         *
+         * @param duration the longest pause (must be at least 0)
+         * @param unit the unit of the duration
+         * @return the ThrottlingInterceptor builder
+         */
+        public Builder maxRetryAfter(long duration, TimeUnit unit) {
+            if (duration < 0 || unit == null) {
+                throw new IllegalArgumentException("duration must be at least 0 and unit cannot be null");
+            }
+            this.maxRetryAfterNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Set the clock used to measure time and to wait for permits. Defaults to the system clock.
+         *
+         * @param clock the clock
+         * @return the ThrottlingInterceptor builder
+         */
+        public Builder clock(WaiterClock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("clock cannot be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+    }
+
+    private ThrottlingInterceptor(Builder builder) {
+        this.defaultLimits = new EnumMap<>(builder.defaultLimits);
+        this.endpointLimits = new HashMap<>();
+        for (Map.Entry<String, Map<OperationClass, ThrottleLimits>> entry : builder.endpointLimits.entrySet()) {
+            endpointLimits.put(entry.getKey(), new EnumMap<>(entry.getValue()));
+        }
+        this.maxRetryAfterNanos = builder.maxRetryAfterNanos;
+        this.clock = builder.clock;
+    }
+
+    private static String origin(HttpUrl url) {
+        return url.scheme() + "://" + url.host() + ":" + url.port();
+    }
+
+    /**
+     * Adds this interceptor to the HTTP client of the specified service.
+     *
+     * @param service the service
+     */
+    public void install(BaseService service) {
+        if (service == null) {
+            throw new IllegalArgumentException("service cannot be null");
+        }
+        service.setClient(service.getClient().newBuilder().addInterceptor(this).build());
+    }
+
+    /**
+     * Returns the concurrency limiter of a class of operations of the endpoint of the specified service URL.
+     *
+     * @param serviceUrl the service URL
+     * @param operationClass the class of operations
+     * @return the concurrency limiter
+     */
+    public AimdConcurrencyLimiter getConcurrencyLimiter(String serviceUrl, OperationClass operationClass) {
+        return endpoint(HttpUrl.get(serviceUrl), operationClass).limiter;
+    }
+
+    /**
+     * Returns the token bucket of a class of operations of the endpoint of the specified service URL.
+     *
+     * @param serviceUrl the service URL
+     * @param operationClass the class of operations
+     * @return the token bucket, or null if the rate of the operations is not limited
+     */
+    public TokenBucket getTokenBucket(String serviceUrl, OperationClass operationClass) {
+        return endpoint(HttpUrl.get(serviceUrl), operationClass).bucket;
+    }
+
+    /**
+     * Returns the number of responses which indicated that a request was throttled.
+     *
+     * @return the number of throttled requests
+     */
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    private Endpoint endpoint(HttpUrl url, OperationClass operationClass) {
+        String origin = origin(url);
+        String key = origin + " " + operationClass;
+        Endpoint endpoint = endpoints.get(key);
+        if (endpoint == null) {
+            Map<OperationClass, ThrottleLimits> limits = endpointLimits.get(origin);
+            ThrottleLimits endpointLimit = limits != null ? limits.get(operationClass) : null;
+            endpoint = endpoints.computeIfAbsent(key,
+                k -> new Endpoint(endpointLimit != null ? endpointLimit : defaultLimits.get(operationClass)));
+        }
+        return endpoint;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Endpoint endpoint = endpoint(request.url(), OperationClass.of(request.method()));
+        long token;
+        try {
+            endpoint.awaitRate();
+            token = endpoint.limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a permit to send the request");
+        }
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException | Error e) {
+            endpoint.limiter.onIgnored(token);
+            throw e;
+        }
+        if (response.code() == TOO_MANY_REQUESTS || response.code() == SERVICE_UNAVAILABLE) {
+            throttledCount.incrementAndGet();
+            endpoint.limiter.onThrottled(token);
+            long delayMillis = RetryAfter.getDelayMillis(response);
+            if (delayMillis > 0) {
+                endpoint.pause(Math.min(TimeUnit.MILLISECONDS.toNanos(delayMillis), maxRetryAfterNanos));
+            }
+        } else {
+            endpoint.limiter.onSuccess(token);
+        }
+        return response;
+    }
+
+    /**
+     * The limiters of one class of operations of one endpoint.
+     */
+    private final class Endpoint {
+        private final TokenBucket bucket;
+        private final AimdConcurrencyLimiter limiter;
+
+        // Only used when the rate is not limited: the token bucket handles the pauses otherwise.
+        private volatile long pausedUntil;
+        private volatile boolean paused;
+
+        Endpoint(ThrottleLimits limits) {
+            this.bucket = limits.getRequestsPerSecond() > 0
+                ? new TokenBucket(limits.getRequestsPerSecond(), limits.getBurst(), clock) : null;
+            this.limiter = new AimdConcurrencyLimiter(limits.getInitialConcurrency(), limits.getMinConcurrency(),
+                limits.getMaxConcurrency(), limits.getBackoffRatio());
+        }
+
+        void awaitRate() throws InterruptedException {
+            if (bucket != null) {
+                bucket.acquire();
+                return;
+            }
+            long remaining;
+            while (paused && (remaining = pausedUntil - clock.nanoTime()) > 0) {
+                clock.sleep(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+            }
+        }
+
+        void pause(long nanos) {
+            long until = clock.nanoTime() + nanos;
+            if (bucket != null) {
+                bucket.pauseUntil(until);
+                return;
+            }
+            synchronized (this) {
+                if (!paused || until - pausedUntil > 0) {
+                    pausedUntil = until;
+                    paused = true;
+                }
+            }
+        }
+    }
+}
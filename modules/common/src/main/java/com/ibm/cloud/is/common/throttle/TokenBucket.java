@@ -0,0 +1,169 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.common.throttle;
+
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.cloud.is.common.waiters.WaiterClock;
+
+/**
+ * A token bucket which limits the rate at which requests are sent.
+ * <p>
+ * The bucket holds up to {@code burst} permits and is refilled continuously at {@code permitsPerSecond}. A caller
+ * which finds the bucket empty reserves the next permit to be added and waits for it, so waiting callers are served
+ * in order and the rate is never exceeded, however many callers are waiting. {@link #pauseUntil(long)} stops handing
+ * out permits until the specified time (e.g. the time indicated by a {@code Retry-After} header), and no permits
+ * accumulate during the pause, so requests resume at the configured rate rather than in a burst.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final WaiterClock clock;
+
+    // May be negative: a negative value is the number of permits reserved by waiting callers.
+    private double permits;
+    private long refilledAt;
+    private long pausedUntil;
+
+    /**
+     * Creates a full bucket which uses the system clock.
+     *
+     * @param permitsPerSecond the rate at which the bucket is refilled (must be positive)
+     * @param burst the capacity of the bucket (must be at least 1)
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, WaiterClock.SYSTEM);
+    }
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param permitsPerSecond the rate at which the bucket is refilled (must be positive)
+     * @param burst the capacity of the bucket (must be at least 1)
+     * @param clock the clock used to measure time and to wait for permits
+     */
+    public TokenBucket(double permitsPerSecond, int burst, WaiterClock clock) {
+        if (!(permitsPerSecond > 0) || burst < 1 || clock == null) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive, burst at least 1 and clock not null");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.clock = clock;
+        this.permits = burst;
+        this.refilledAt = clock.nanoTime();
+        this.pausedUntil = refilledAt;
+    }
+
+    /**
+     * Returns the rate at which the bucket is refilled.
+     *
+     * @return the number of permits added per second
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Returns the capacity of the bucket.
+     *
+     * @return the maximum number of permits
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Takes a permit, waiting until one is available.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        while (waitNanos > 0) {
+            clock.sleep(TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1);
+            // A pause may have been requested while this caller was waiting for its permit.
+            synchronized (this) {
+                waitNanos = pausedUntil - clock.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Takes a permit if one is available immediately.
+     *
+     * @return true if a permit was taken
+     */
+    public synchronized boolean tryAcquire() {
+        long now = clock.nanoTime();
+        refill(now);
+        if (now < pausedUntil || permits < 1) {
+            return false;
+        }
+        permits--;
+        return true;
+    }
+
+    /**
+     * Reserves a permit.
+     *
+     * @return the time to wait before the permit can be used, in nanoseconds
+     */
+    synchronized long reserve() {
+        long now = clock.nanoTime();
+        refill(now);
+        permits--;
+        if (permits >= 0 && now - pausedUntil >= 0) {
+            return 0;
+        }
+        // The bucket is refilled from refilledAt onwards, which is in the future during a pause.
+        long deficitNanos = permits >= 0 ? 0 : (long) (-permits * NANOS_PER_SECOND / permitsPerSecond);
+        return Math.max(refilledAt - now, 0) + deficitNanos;
+    }
+
+    /**
+     * Stops handing out permits until the specified time. The bucket is emptied, so that permits are handed out at
+     * the configured rate once the pause is over.
+     *
+     * @param nanoTime the end of the pause, as a value of the clock's {@link WaiterClock#nanoTime()}
+     */
+    public synchronized void pauseUntil(long nanoTime) {
+        if (nanoTime - pausedUntil > 0) {
+            refill(clock.nanoTime());
+            pausedUntil = nanoTime;
+            permits = Math.min(permits, 0);
+            refilledAt = Math.max(refilledAt, nanoTime);
+        }
+    }
+
+    /**
+     * Returns the number of nanoseconds until the end of the current pause.
+     *
+     * @return the remaining duration of the pause, or 0 if the bucket is not paused
+     */
+    public synchronized long getPauseRemainingNanos() {
+        return Math.max(0, pausedUntil - clock.nanoTime());
+    }
+
+    private void refill(long now) {
+        if (now > refilledAt) {
+            permits = Math.min(burst, permits + (now - refilledAt) * permitsPerSecond / NANOS_PER_SECOND);
+            refilledAt = now;
+        }
+    }
+}
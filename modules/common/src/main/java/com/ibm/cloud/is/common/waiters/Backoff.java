@@ -0,0 +1,112 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.waiters;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An exponential backoff policy with jitter, used by {@link Waiter} to space out successive polls.
+ * <p>
+ * The delay before poll number {@code n} (starting at 0) is drawn uniformly between the initial delay and
+ * {@code min(maxDelay, initialDelay * multiplier^n)}: the first poll happens after exactly the initial delay, and
+ * the ceiling then grows geometrically up to the maximum delay. The jitter spreads out the polls of waiters that
+ * were started at the same time (e.g. after a batch of create requests), instead of having them all hit the API at
+ * the same instants.
+ * <p>
+ * Instances are immutable.
+ */
+public final class Backoff {
+
+    /**
+     * The default policy: an initial delay of 1 second, doubling up to a maximum of 15 seconds.
+     */
+    public static final Backoff DEFAULT = new Backoff(1000, 15000, 2.0);
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final double multiplier;
+
+    /**
+     * Creates a backoff policy.
+     *
+     * @param initialDelayMillis the delay before the first poll, in milliseconds (must be at least 0)
+     * @param maxDelayMillis the maximum delay between two polls, in milliseconds (must be at least the initial delay)
+     * @param multiplier the factor by which the ceiling of the delay grows after each poll (must be at least 1)
+     */
+    public Backoff(long initialDelayMillis, long maxDelayMillis, double multiplier) {
+        if (initialDelayMillis < 0 || maxDelayMillis < initialDelayMillis) {
+            throw new IllegalArgumentException("The delays must satisfy 0 <= initialDelayMillis <= maxDelayMillis");
+        }
+        if (!(multiplier >= 1.0)) {
+            throw new IllegalArgumentException("multiplier must be at least 1");
+        }
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Returns the delay before the first poll.
+     *
+     * @return the initial delay, in milliseconds
+     */
+    public long getInitialDelayMillis() {
+        return initialDelayMillis;
+    }
+
+    /**
+     * Returns the maximum delay between two polls.
+     *
+     * @return the maximum delay, in milliseconds
+     */
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    /**
+     * Returns the factor by which the ceiling of the delay grows after each poll.
+     *
+     * @return the multiplier
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * Returns the upper bound of the delay before the specified poll, without jitter.
+     *
+     * @param attempt the number of the poll, starting at 0
+     * @return the ceiling of the delay, in milliseconds
+     */
+    public long getCeilingMillis(int attempt) {
+        double ceiling = initialDelayMillis * Math.pow(multiplier, Math.max(attempt, 0));
+        return ceiling >= maxDelayMillis ? maxDelayMillis : (long) ceiling;
+    }
+
+    /**
+     * Returns a randomized delay before the specified poll, between the initial delay and
+     * {@link #getCeilingMillis(int)}.
+     *
+     * @param attempt the number of the poll, starting at 0
+     * @return the delay, in milliseconds
+     */
+    public long getDelayMillis(int attempt) {
+        long ceiling = getCeilingMillis(attempt);
+        if (ceiling <= initialDelayMillis) {
+            return initialDelayMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(initialDelayMillis, ceiling + 1);
+    }
+}
@@ -0,0 +1,473 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.waiters;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+
+/**
+ * Waits for many resources of the same type at once, by periodically scanning a "list" operation rather than
+ * polling each resource with its own "get" operation.
+ * <p>
+ * Each wait belongs to a scope (e.g. a VPC, for resources listed with a {@code vpc.id} filter). While a scope has
+ * pending waits, the coordinator scans it once per interval: the scan lists the resources of the scope (typically
+ * through a pager, one request per page) and completes the future of each wait whose resource is found in a
+ * success or failure state. The number of requests per interval is therefore proportional to the number of pages
+ * in the scope rather than to the number of waits. A scan stops requesting pages as soon as all the resources it
+ * is waiting for have been found, unless a deletion wait requires the whole scope to be listed: a deletion wait
+ * succeeds when its resource is absent from a complete scan.
+ * <p>
+ * A wait whose deadline has passed is completed exceptionally with a {@link WaiterTimeoutException} after the next
+ * scan, and a wait in a failure state with a {@link WaiterFailureException}. A failed scan (e.g. a 429 or 5xx
+ * response, or a timeout) is counted and retried at the next interval, the waits of its scope keeping their
+ * deadlines; the waits are only completed exceptionally with the exception when the scan fails with an error
+ * status code other than 429 (e.g. 404 when the scope no longer exists), or after the configured number of
+ * consecutive failures. Cancelling the future of a wait removes it.
+ * <p>
+ * Scans run on the scheduler, one scope at a time per scheduler thread; the futures are completed on the scheduler
+ * threads. Instances are thread-safe.
+ *
+ * @param <S> the type of the scope keys, which must implement {@code equals()} and {@code hashCode()}
+ * @param <T> the type of the resources
+ */
+public final class WaitCoordinator<S, T> {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final Function<? super S, ? extends Stream<? extends T>> scan;
+    private final Function<? super T, String> id;
+    private final Function<? super T, String> status;
+    private final ScheduledExecutorService scheduler;
+    private final long intervalMillis;
+    private final WaiterClock clock;
+    private final int maxScanFailures;
+    private final AtomicLong scanFailureCount = new AtomicLong();
+
+    // Guarded by this.
+    private final Map<S, Map<String, List<PendingWait>>> scopes = new HashMap<>();
+    // Guarded by this: the number of consecutive failed scans of each scope.
+    private final Map<S, Integer> scanFailures = new HashMap<>();
+
+    /**
+     * Builder.
+     *
+     * @param <S> the type of the scope keys
+     * @param <T> the type of the resources
+     */
+    public static class Builder<S, T> {
+        private final Function<? super S, ? extends Stream<? extends T>> scan;
+        private final Function<? super T, String> id;
+        private final Function<? super T, String> status;
+        private ScheduledExecutorService scheduler;
+        private long intervalMillis = 5000;
+        private WaiterClock clock = WaiterClock.SYSTEM;
+        private int maxScanFailures = 3;
+
+        /**
+         * Instantiates a new builder with required properties.
+         *
+         * @param scan lists the resources of a scope (the stream is closed once the scan is complete)
+         * @param id returns the identifier of a resource
+         * @param status returns the status of a resource
+         */
+        public Builder(Function<? super S, ? extends Stream<? extends T>> scan, Function<? super T, String> id,
+            Function<? super T, String> status) {
+            if (scan == null || id == null || status == null) {
+                throw new IllegalArgumentException("scan, id and status cannot be null");
+            }
+            this.scan = scan;
+            this.id = id;
+            this.status = status;
+        }
+
+        /**
+         * Builds a WaitCoordinator.
+         *
+         * @return the new WaitCoordinator instance
+         */
+        public WaitCoordinator<S, T> build() {
+            return new WaitCoordinator<>(this);
+        }
+
+        /**
+         * Set the scheduler on which the scans run. Defaults to a shared scheduler backed by a single daemon thread.
+         *
+         * @param scheduler the scheduler
+         * @return the WaitCoordinator builder
+         */
+        public Builder<S, T> scheduler(ScheduledExecutorService scheduler) {
+            if (scheduler == null) {
+                throw new IllegalArgumentException("scheduler cannot be null");
+            }
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Set the interval between two scans of a scope. Each interval is extended by a random jitter of up to
+         * 10%, so that the scans of different scopes do not stay aligned. Defaults to 5 seconds.
+         *
+         * @param interval the interval (must be at least 1 millisecond)
+         * @param unit the unit of the interval
+         * @return the WaitCoordinator builder
+         */
+        public Builder<S, T> interval(long interval, TimeUnit unit) {
+            if (unit == null || unit.toMillis(interval) < 1) {
+                throw new IllegalArgumentException("The interval must be at least 1 millisecond");
+            }
+            this.intervalMillis = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * Set the clock used to measure the deadlines of the waits. Defaults to {@link WaiterClock#SYSTEM}.
+         *
+         * @param clock the clock
+         * @return the WaitCoordinator builder
+         */
+        public Builder<S, T> clock(WaiterClock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("clock cannot be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Set the number of consecutive failed scans of a scope after which its waits are completed exceptionally.
+         * Defaults to 3.
+         *
+         * @param maxScanFailures the maximum number of consecutive failures (must be at least 1)
+         * @return the WaitCoordinator builder
+         */
+        public Builder<S, T> maxScanFailures(int maxScanFailures) {
+            if (maxScanFailures < 1) {
+                throw new IllegalArgumentException("maxScanFailures must be at least 1");
+            }
+            this.maxScanFailures = maxScanFailures;
+            return this;
+        }
+    }
+
+    private WaitCoordinator(Builder<S, T> builder) {
+        this.scan = builder.scan;
+        this.id = builder.id;
+        this.status = builder.status;
+        this.scheduler = builder.scheduler != null ? builder.scheduler : DefaultSchedulerHolder.SCHEDULER;
+        this.intervalMillis = builder.intervalMillis;
+        this.clock = builder.clock;
+        this.maxScanFailures = builder.maxScanFailures;
+    }
+
+    /**
+     * Waits for a resource to reach one of the specified success states.
+     *
+     * @param scope the scope in which the resource is listed
+     * @param resourceId the identifier of the resource
+     * @param successStates the states in which the wait succeeds
+     * @param failureStates the states in which the wait fails
+     * @param timeout the maximum duration of the wait
+     * @param unit the unit of the duration
+     * @return a future which completes with the resource in its success state
+     */
+    public CompletableFuture<T> waitFor(S scope, String resourceId, Collection<String> successStates,
+        Collection<String> failureStates, long timeout, TimeUnit unit) {
+        if (successStates == null || successStates.isEmpty()) {
+            throw new IllegalArgumentException("At least one success state is required");
+        }
+        return add(scope, resourceId, successStates, failureStates, false, timeout, unit);
+    }
+
+    /**
+     * Waits for a resource to be deleted, i.e. to be absent from a complete scan of its scope.
+     *
+     * @param scope the scope in which the resource is listed
+     * @param resourceId the identifier of the resource
+     * @param failureStates the states in which the wait fails
+     * @param timeout the maximum duration of the wait
+     * @param unit the unit of the duration
+     * @return a future which completes with null once the resource has been deleted
+     */
+    public CompletableFuture<T> waitForDeletion(S scope, String resourceId, Collection<String> failureStates,
+        long timeout, TimeUnit unit) {
+        return add(scope, resourceId, Collections.<String>emptySet(), failureStates, true, timeout, unit);
+    }
+
+    /**
+     * Returns the number of waits which have not yet completed.
+     *
+     * @return the number of pending waits
+     */
+    public synchronized int getPendingCount() {
+        int count = 0;
+        for (Map<String, List<PendingWait>> waits : scopes.values()) {
+            for (List<PendingWait> list : waits.values()) {
+                // A completed wait is only removed by the next scan of its scope.
+                for (PendingWait wait : list) {
+                    if (!wait.future.isDone()) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of scans which failed, including those which were retried.
+     *
+     * @return the number of failed scans
+     */
+    public long getScanFailureCount() {
+        return scanFailureCount.get();
+    }
+
+    private CompletableFuture<T> add(S scope, String resourceId, Collection<String> successStates,
+        Collection<String> failureStates, boolean deletion, long timeout, TimeUnit unit) {
+        if (scope == null || resourceId == null || unit == null || timeout < 0) {
+            throw new IllegalArgumentException("scope, resourceId and unit cannot be null and timeout must be at least 0");
+        }
+        PendingWait wait = new PendingWait(resourceId, successStates, failureStates, deletion,
+            clock.nanoTime() + unit.toNanos(timeout));
+        boolean schedule;
+        synchronized (this) {
+            Map<String, List<PendingWait>> waits = scopes.get(scope);
+            schedule = waits == null;
+            if (schedule) {
+                waits = new HashMap<>();
+                scopes.put(scope, waits);
+            }
+            waits.computeIfAbsent(resourceId, k -> new ArrayList<>()).add(wait);
+        }
+        wait.future.whenComplete((r, e) -> {
+            if (wait.future.isCancelled()) {
+                remove(scope, wait);
+            }
+        });
+        if (schedule) {
+            scheduleScan(scope);
+        }
+        return wait.future;
+    }
+
+    private synchronized void remove(S scope, PendingWait wait) {
+        Map<String, List<PendingWait>> waits = scopes.get(scope);
+        List<PendingWait> list = waits != null ? waits.get(wait.resourceId) : null;
+        if (list != null && list.remove(wait) && list.isEmpty()) {
+            waits.remove(wait.resourceId);
+        }
+    }
+
+    private void scheduleScan(S scope) {
+        long delay = intervalMillis + ThreadLocalRandom.current().nextLong(intervalMillis / 10 + 1);
+        try {
+            scheduler.schedule(() -> scan(scope), delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            for (PendingWait wait : takeAll(scope)) {
+                wait.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void scan(S scope) {
+        Map<String, List<PendingWait>> waits;
+        synchronized (this) {
+            waits = new HashMap<>();
+            for (Map.Entry<String, List<PendingWait>> entry : scopes.get(scope).entrySet()) {
+                waits.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+        }
+        boolean fullScan = false;
+        for (List<PendingWait> list : waits.values()) {
+            for (PendingWait wait : list) {
+                fullScan |= wait.deletion;
+            }
+        }
+        try (Stream<? extends T> resources = scan.apply(scope)) {
+            Set<String> found = new HashSet<>();
+            Iterator<? extends T> iterator = resources.iterator();
+            // hasNext() is checked last, since it may request the next page.
+            while ((fullScan || found.size() < waits.size()) && iterator.hasNext()) {
+                T resource = iterator.next();
+                String resourceId = id.apply(resource);
+                List<PendingWait> list = waits.get(resourceId);
+                if (list != null) {
+                    found.add(resourceId);
+                    String resourceStatus = status.apply(resource);
+                    for (PendingWait wait : list) {
+                        wait.observe(resource, resourceStatus);
+                    }
+                }
+            }
+            if (fullScan) {
+                for (Map.Entry<String, List<PendingWait>> entry : waits.entrySet()) {
+                    if (!found.contains(entry.getKey())) {
+                        for (PendingWait wait : entry.getValue()) {
+                            if (wait.deletion) {
+                                wait.future.complete(null);
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            scanFailureCount.incrementAndGet();
+            if (!isRetryable(t) || countScanFailure(scope) >= maxScanFailures) {
+                for (PendingWait wait : takeAll(scope)) {
+                    wait.future.completeExceptionally(t);
+                }
+                return;
+            }
+            // The next interval retries the scan; the deadlines of the waits still apply.
+            finishScan(scope);
+            return;
+        }
+        synchronized (this) {
+            scanFailures.remove(scope);
+        }
+        finishScan(scope);
+    }
+
+    private static boolean isRetryable(Throwable t) {
+        if (t instanceof ServiceResponseException) {
+            int code = ((ServiceResponseException) t).getStatusCode();
+            return code == TOO_MANY_REQUESTS || code < 400 || code >= 500;
+        }
+        return t instanceof RuntimeException;
+    }
+
+    private synchronized int countScanFailure(S scope) {
+        return scanFailures.merge(scope, 1, Integer::sum);
+    }
+
+    private void finishScan(S scope) {
+        List<PendingWait> expired = new ArrayList<>();
+        boolean reschedule;
+        synchronized (this) {
+            Map<String, List<PendingWait>> waits = scopes.get(scope);
+            long now = clock.nanoTime();
+            for (Iterator<List<PendingWait>> lists = waits.values().iterator(); lists.hasNext();) {
+                List<PendingWait> list = lists.next();
+                for (Iterator<PendingWait> iterator = list.iterator(); iterator.hasNext();) {
+                    PendingWait wait = iterator.next();
+                    if (wait.future.isDone()) {
+                        iterator.remove();
+                    } else if (now - wait.deadline >= 0) {
+                        iterator.remove();
+                        expired.add(wait);
+                    }
+                }
+                if (list.isEmpty()) {
+                    lists.remove();
+                }
+            }
+            reschedule = !waits.isEmpty();
+            if (!reschedule) {
+                scopes.remove(scope);
+                scanFailures.remove(scope);
+            }
+        }
+        for (PendingWait wait : expired) {
+            wait.future.completeExceptionally(new WaiterTimeoutException("The resource '" + wait.resourceId
+                + "' did not reach a terminal state before the deadline (last status: " + wait.lastStatus + ")",
+                wait.lastResource, wait.lastStatus, wait.scans));
+        }
+        if (reschedule) {
+            scheduleScan(scope);
+        }
+    }
+
+    private synchronized List<PendingWait> takeAll(S scope) {
+        List<PendingWait> all = new ArrayList<>();
+        Map<String, List<PendingWait>> waits = scopes.remove(scope);
+        scanFailures.remove(scope);
+        if (waits != null) {
+            for (List<PendingWait> list : waits.values()) {
+                all.addAll(list);
+            }
+        }
+        return all;
+    }
+
+    /**
+     * A wait for one resource.
+     */
+    private final class PendingWait {
+        private final String resourceId;
+        private final Set<String> successStates;
+        private final Set<String> failureStates;
+        private final boolean deletion;
+        private final long deadline;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        // Only accessed by the scans, which are serialized by the scheduling of the scope.
+        private T lastResource;
+        private String lastStatus;
+        private int scans;
+
+        PendingWait(String resourceId, Collection<String> successStates, Collection<String> failureStates,
+            boolean deletion, long deadline) {
+            this.resourceId = resourceId;
+            this.successStates = new HashSet<>(successStates);
+            this.failureStates = failureStates != null ? new HashSet<>(failureStates) : Collections.<String>emptySet();
+            this.deletion = deletion;
+            this.deadline = deadline;
+        }
+
+        void observe(T resource, String resourceStatus) {
+            lastResource = resource;
+            lastStatus = resourceStatus;
+            scans++;
+            if (successStates.contains(resourceStatus)) {
+                future.complete(resource);
+            } else if (failureStates.contains(resourceStatus)) {
+                future.completeExceptionally(new WaiterFailureException("The resource '" + resourceId
+                    + "' reached the failure state '" + resourceStatus + "'", resource, resourceStatus, scans));
+            }
+        }
+    }
+
+    /**
+     * Lazily creates the default scheduler.
+     */
+    private static final class DefaultSchedulerHolder {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "is-sdk-wait-coordinator-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private DefaultSchedulerHolder() {
+        }
+    }
+}
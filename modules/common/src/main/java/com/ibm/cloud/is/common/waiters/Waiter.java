@@ -0,0 +1,253 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.waiters;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.service.exception.NotFoundException;
+
+/**
+ * Waits for a resource to reach a terminal state by polling its status field, e.g. after a "create" request
+ * returned a resource whose status is "pending".
+ * <p>
+ * Each poll executes a new {@link ServiceCall} obtained from the poll supplier (typically a "get" operation) and
+ * reads the status of the returned resource. {@link #run()} returns as soon as the status is one of the success
+ * states, and throws a {@link WaiterFailureException} as soon as it is one of the failure states, so that a
+ * resource which will never become ready is detected at the first poll which observes it rather than at the
+ * deadline. Any other status is considered transitional. A waiter built with {@link Builder#untilNotFound()}
+ * waits for the resource to be deleted instead, and succeeds when the poll fails with a {@link NotFoundException}.
+ * <p>
+ * Polls are spaced out according to a {@link Backoff} policy, starting with the initial delay (a resource which
+ * was just created or modified is rarely ready immediately). The waiter never sleeps past its deadline: the last
+ * poll happens at the deadline, after which a {@link WaiterTimeoutException} is thrown. Exceptions thrown by a
+ * poll other than the {@link NotFoundException} of a deletion waiter are propagated.
+ * <p>
+ * Instances are immutable and can be run any number of times, including concurrently.
+ *
+ * @param <T> the type of the polled resource
+ */
+public final class Waiter<T> {
+
+    private final Supplier<ServiceCall<T>> poll;
+    private final Function<? super T, String> status;
+    private final Set<String> successStates;
+    private final Set<String> failureStates;
+    private final boolean untilNotFound;
+    private final Backoff backoff;
+    private final long timeoutNanos;
+    private final WaiterClock clock;
+
+    /**
+     * Builder.
+     *
+     * @param <T> the type of the polled resource
+     */
+    public static class Builder<T> {
+        private final Supplier<ServiceCall<T>> poll;
+        private final Function<? super T, String> status;
+        private final Set<String> successStates = new HashSet<>();
+        private final Set<String> failureStates = new HashSet<>();
+        private boolean untilNotFound;
+        private Backoff backoff = Backoff.DEFAULT;
+        private long timeoutNanos = TimeUnit.MINUTES.toNanos(30);
+        private WaiterClock clock = WaiterClock.SYSTEM;
+
+        /**
+         * Instantiates a new builder with required properties.
+         *
+         * @param poll creates the call which retrieves the resource (a new call is created for each poll)
+         * @param status returns the status of the resource
+         */
+        public Builder(Supplier<ServiceCall<T>> poll, Function<? super T, String> status) {
+            if (poll == null || status == null) {
+                throw new IllegalArgumentException("poll and status cannot be null");
+            }
+            this.poll = poll;
+            this.status = status;
+        }
+
+        /**
+         * Builds a Waiter.
+         *
+         * @return the new Waiter instance
+         */
+        public Waiter<T> build() {
+            if (successStates.isEmpty() && !untilNotFound) {
+                throw new IllegalStateException("At least one success state is required unless waiting for deletion");
+            }
+            return new Waiter<>(this);
+        }
+
+        /**
+         * Adds states in which the wait succeeds.
+         *
+         * @param states the success states
+         * @return the Waiter builder
+         */
+        public Builder<T> successStates(String... states) {
+            successStates.addAll(Arrays.asList(states));
+            return this;
+        }
+
+        /**
+         * Adds states in which the wait fails immediately.
+         *
+         * @param states the failure states
+         * @return the Waiter builder
+         */
+        public Builder<T> failureStates(String... states) {
+            failureStates.addAll(Arrays.asList(states));
+            return this;
+        }
+
+        /**
+         * Waits for the resource to be deleted: the wait succeeds when a poll fails with a
+         * {@link NotFoundException}.
+         *
+         * @return the Waiter builder
+         */
+        public Builder<T> untilNotFound() {
+            this.untilNotFound = true;
+            return this;
+        }
+
+        /**
+         * Set the backoff policy. Defaults to {@link Backoff#DEFAULT}.
+         *
+         * @param backoff the backoff policy
+         * @return the Waiter builder
+         */
+        public Builder<T> backoff(Backoff backoff) {
+            if (backoff == null) {
+                throw new IllegalArgumentException("backoff cannot be null");
+            }
+            this.backoff = backoff;
+            return this;
+        }
+
+        /**
+         * Set the maximum duration of the wait. Defaults to 30 minutes.
+         *
+         * @param timeout the maximum duration (must be at least 0)
+         * @param unit the unit of the duration
+         * @return the Waiter builder
+         */
+        public Builder<T> timeout(long timeout, TimeUnit unit) {
+            if (timeout < 0 || unit == null) {
+                throw new IllegalArgumentException("timeout must be at least 0 and unit cannot be null");
+            }
+            this.timeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * Set the clock used to measure the deadline and to wait between polls. Defaults to
+         * {@link WaiterClock#SYSTEM}.
+         *
+         * @param clock the clock
+         * @return the Waiter builder
+         */
+        public Builder<T> clock(WaiterClock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("clock cannot be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+    }
+
+    private Waiter(Builder<T> builder) {
+        this.poll = builder.poll;
+        this.status = builder.status;
+        this.successStates = Collections.unmodifiableSet(new HashSet<>(builder.successStates));
+        this.failureStates = Collections.unmodifiableSet(new HashSet<>(builder.failureStates));
+        this.untilNotFound = builder.untilNotFound;
+        this.backoff = builder.backoff;
+        this.timeoutNanos = builder.timeoutNanos;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Returns the states in which the wait succeeds.
+     *
+     * @return the success states
+     */
+    public Set<String> getSuccessStates() {
+        return successStates;
+    }
+
+    /**
+     * Returns the states in which the wait fails immediately.
+     *
+     * @return the failure states
+     */
+    public Set<String> getFailureStates() {
+        return failureStates;
+    }
+
+    /**
+     * Polls the resource until it reaches a success state, or until it is deleted for a deletion waiter.
+     *
+     * @return the resource in its success state, or null if the resource was deleted
+     * @throws WaiterFailureException if the resource reaches a failure state
+     * @throws WaiterTimeoutException if the deadline is reached first
+     * @throws WaiterException if the current thread is interrupted while waiting
+     */
+    public T run() {
+        long deadline = clock.nanoTime() + timeoutNanos;
+        T resource = null;
+        String lastStatus = null;
+        for (int attempt = 0;; attempt++) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - clock.nanoTime());
+            if (remainingMillis <= 0 && attempt > 0) {
+                throw new WaiterTimeoutException("The resource did not reach a terminal state before the deadline"
+                    + " (last status: " + lastStatus + ", polls: " + attempt + ")", resource, lastStatus, attempt);
+            }
+            long delay = Math.min(backoff.getDelayMillis(attempt), Math.max(remainingMillis, 0));
+            try {
+                if (delay > 0) {
+                    clock.sleep(delay);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WaiterException("Interrupted while waiting for the resource", resource, lastStatus,
+                    attempt, e);
+            }
+            try {
+                resource = poll.get().execute().getResult();
+            } catch (NotFoundException e) {
+                if (untilNotFound) {
+                    return null;
+                }
+                throw e;
+            }
+            lastStatus = resource != null ? status.apply(resource) : null;
+            if (successStates.contains(lastStatus)) {
+                return resource;
+            }
+            if (failureStates.contains(lastStatus)) {
+                throw new WaiterFailureException("The resource reached the failure state '" + lastStatus + "'",
+                    resource, lastStatus, attempt + 1);
+            }
+        }
+    }
+}
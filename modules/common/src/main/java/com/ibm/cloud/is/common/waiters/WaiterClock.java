@@ -0,0 +1,52 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.waiters;
+
+/**
+ * The source of time used by a {@link Waiter} to measure its deadline and to wait between polls. Tests can supply
+ * an implementation which advances a simulated clock instead of sleeping.
+ */
+public interface WaiterClock {
+
+    /**
+     * The system clock: {@link System#nanoTime()} and {@link Thread#sleep(long)}.
+     */
+    WaiterClock SYSTEM = new WaiterClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void sleep(long millis) throws InterruptedException {
+            Thread.sleep(millis);
+        }
+    };
+
+    /**
+     * Returns the current value of a monotonic clock, in nanoseconds.
+     *
+     * @return the current time, in nanoseconds
+     */
+    long nanoTime();
+
+    /**
+     * Waits for the specified duration.
+     *
+     * @param millis the duration, in milliseconds
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    void sleep(long millis) throws InterruptedException;
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.waiters;
+
+/**
+ * Thrown when a {@link Waiter} stops before the resource has reached one of its success states.
+ */
+public class WaiterException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object lastResource;
+    /** The status of the resource returned by the last poll, or null if no poll succeeded. */
+    private final String lastStatus;
+    /** The number of polls performed. */
+    private final int attempts;
+
+    /**
+     * Creates an exception.
+     *
+     * @param message the detail message
+     * @param lastResource the resource returned by the last poll, or null if no poll succeeded
+     * @param lastStatus the status of the resource returned by the last poll, or null if no poll succeeded
+     * @param attempts the number of polls performed
+     * @param cause the cause, or null
+     */
+    public WaiterException(String message, Object lastResource, String lastStatus, int attempts, Throwable cause) {
+        super(message, cause);
+        this.lastResource = lastResource;
+        this.lastStatus = lastStatus;
+        this.attempts = attempts;
+    }
+
+    /**
+     * Returns the resource returned by the last poll.
+     *
+     * @return the last resource, or null if no poll succeeded
+     */
+    public Object getLastResource() {
+        return lastResource;
+    }
+
+    /**
+     * Returns the status of the resource returned by the last poll.
+     *
+     * @return the last status, or null if no poll succeeded
+     */
+    public String getLastStatus() {
+        return lastStatus;
+    }
+
+    /**
+     * Returns the number of polls performed.
+     *
+     * @return the number of polls
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+}
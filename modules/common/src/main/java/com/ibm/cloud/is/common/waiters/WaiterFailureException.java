@@ -0,0 +1,36 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.waiters;
+
+/**
+ * Thrown when the resource polled by a {@link Waiter} reaches one of its failure states, from which it cannot
+ * reach a success state.
+ */
+public class WaiterFailureException extends WaiterException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an exception.
+     *
+     * @param message the detail message
+     * @param lastResource the resource in the failure state
+     * @param lastStatus the failure state
+     * @param attempts the number of polls performed
+     */
+    public WaiterFailureException(String message, Object lastResource, String lastStatus, int attempts) {
+        super(message, lastResource, lastStatus, attempts, null);
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.common.waiters;
+
+/**
+ * Thrown when a {@link Waiter} reaches its deadline before the resource has reached a terminal state.
+ */
+public class WaiterTimeoutException extends WaiterException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an exception.
+     *
+     * @param message the detail message
+     * @param lastResource the resource returned by the last poll, or null if no poll succeeded
+     * @param lastStatus the status of the resource returned by the last poll, or null if no poll succeeded
+     * @param attempts the number of polls performed
+     */
+    public WaiterTimeoutException(String message, Object lastResource, String lastStatus, int attempts) {
+        super(message, lastResource, lastStatus, attempts, null);
+    }
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.paging.AbstractPager;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+
+/**
+ * This class contains tests for the AbstractPager class.
+ */
+public class AbstractPagerTest {
+
+    /**
+     * A page of integers; the next link points at the following page until the last page is reached.
+     */
+    static class Page {
+        final List<Integer> items;
+        final String next;
+
+        Page(List<Integer> items, String next) {
+            this.items = items;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A pager over pages of "pageSize" consecutive integers, recording the page tokens it was asked for.
+     */
+    static class IntegerPager extends AbstractPager<Page, Integer> {
+        final int pageSize;
+        final int pageCount;
+        final List<String> requested = Collections.synchronizedList(new ArrayList<>());
+        int failAt = -1;
+
+        IntegerPager(int pageSize, int pageCount) {
+            this.pageSize = pageSize;
+            this.pageCount = pageCount;
+        }
+
+        @Override
+        protected ServiceCall<Page> createPageCall(String start) {
+            requested.add(start);
+            int index = start == null ? 0 : Integer.parseInt(start);
+            if (index == failAt) {
+                throw new IllegalStateException("page " + index);
+            }
+            List<Integer> items = new ArrayList<>();
+            for (int i = 0; i < pageSize; i++) {
+                items.add(index * pageSize + i);
+            }
+            String next = index + 1 < pageCount ? "https://localhost/v1/things?limit=" + pageSize + "&start=" + (index + 1) : null;
+            return new MockServiceCall<>(new Page(items, next));
+        }
+
+        @Override
+        protected List<Integer> getItems(Page page) {
+            return page.items;
+        }
+
+        @Override
+        protected String getNextHref(Page page) {
+            return page.next;
+        }
+    }
+
+    @Test
+    public void testGetStartToken() {
+        assertEquals(AbstractPager.getStartToken("https://us-south.iaas.cloud.ibm.com/v1/vpcs?start=abc&limit=20"), "abc");
+        assertEquals(AbstractPager.getStartToken("https://us-south.iaas.cloud.ibm.com/v1/vpcs?limit=20&start=a%2Bb%3D"), "a+b=");
+        assertEquals(AbstractPager.getStartToken("/v1/vpcs?limit=20&start=xyz"), "xyz");
+        assertNull(AbstractPager.getStartToken("https://us-south.iaas.cloud.ibm.com/v1/vpcs?limit=20"));
+        assertNull(AbstractPager.getStartToken(null));
+        assertNull(AbstractPager.getStartToken(""));
+    }
+
+    @Test
+    public void testGetNextAndGetAll() {
+        IntegerPager pager = new IntegerPager(2, 3);
+        assertTrue(pager.hasNext());
+        assertEquals(pager.getNext(), Arrays.asList(0, 1));
+        assertEquals(pager.getAll(), Arrays.asList(2, 3, 4, 5));
+        assertFalse(pager.hasNext());
+        assertEquals(pager.requested, Arrays.asList(null, "1", "2"));
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testGetNextAfterLastPage() {
+        IntegerPager pager = new IntegerPager(2, 1);
+        pager.getNext();
+        pager.getNext();
+    }
+
+    @Test
+    public void testIteratorIsLazy() {
+        IntegerPager pager = new IntegerPager(3, 100);
+        Iterator<Integer> iterator = pager.iterator();
+        assertTrue(pager.requested.isEmpty());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(iterator.next(), Integer.valueOf(i));
+        }
+        assertEquals(pager.requested.size(), 2);
+    }
+
+    @Test
+    public void testStreamShortCircuits() {
+        IntegerPager pager = new IntegerPager(10, 1000);
+        assertEquals(pager.stream().filter(i -> i >= 25).findFirst().get(), Integer.valueOf(25));
+        assertEquals(pager.requested.size(), 3);
+        assertTrue(pager.hasNext());
+    }
+
+    @Test
+    public void testStreamAll() {
+        IntegerPager pager = new IntegerPager(4, 5);
+        List<Integer> all = pager.stream().collect(Collectors.toList());
+        assertEquals(all.size(), 20);
+        assertEquals(all.get(19), Integer.valueOf(19));
+        assertFalse(pager.iterator().hasNext());
+    }
+
+    @Test
+    public void testPrefetchIsBounded() {
+        IntegerPager pager = new IntegerPager(2, 10);
+        pager.withPrefetch(2, Runnable::run);
+        assertEquals(pager.getNext(), Arrays.asList(0, 1));
+        // The first page has been consumed and two more pages are buffered.
+        assertEquals(pager.requested, Arrays.asList(null, "1", "2"));
+        assertEquals(pager.getNext(), Arrays.asList(2, 3));
+        assertEquals(pager.requested.size(), 4);
+    }
+
+    @Test
+    public void testPrefetchGetAll() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            IntegerPager pager = new IntegerPager(3, 40);
+            pager.withPrefetch(4, executor);
+            List<Integer> all = pager.getAll();
+            assertEquals(all.size(), 120);
+            for (int i = 0; i < all.size(); i++) {
+                assertEquals(all.get(i), Integer.valueOf(i));
+            }
+            assertFalse(pager.hasNext());
+            assertEquals(pager.requested.size(), 40);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPrefetchDefaultExecutorStream() {
+        IntegerPager pager = new IntegerPager(10, 1000);
+        pager.withPrefetch(3);
+        assertEquals(pager.stream().filter(i -> i >= 25).findFirst().get(), Integer.valueOf(25));
+        // At most the consumed pages, the buffered pages and one in-flight request.
+        assertTrue(pager.requested.size() <= 3 + 3 + 1);
+        assertTrue(pager.hasNext());
+    }
+
+    @Test
+    public void testPrefetchPropagatesFailure() {
+        IntegerPager pager = new IntegerPager(2, 5);
+        pager.failAt = 1;
+        pager.withPrefetch(2, Runnable::run);
+        assertEquals(pager.getNext(), Arrays.asList(0, 1));
+        try {
+            pager.getNext();
+            throw new AssertionError("Expected an IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals(e.getMessage(), "page 1");
+        }
+        assertFalse(pager.hasNext());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testPrefetchInvalidDepth() {
+        new IntegerPager(2, 5).withPrefetch(0);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testPrefetchAfterStart() {
+        IntegerPager pager = new IntegerPager(2, 5);
+        pager.withPrefetch(1, Runnable::run);
+        pager.getNext();
+        pager.withPrefetch(2);
+    }
+
+    @Test
+    public void testStreamingFallsBackToPages() {
+        IntegerPager pager = new IntegerPager(4, 3);
+        pager.withStreaming();
+        assertEquals(pager.stream().count(), 12);
+        assertFalse(pager.hasNext());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testStreamingWithPrefetch() {
+        new IntegerPager(2, 5).withPrefetch(2).withStreaming();
+    }
+}
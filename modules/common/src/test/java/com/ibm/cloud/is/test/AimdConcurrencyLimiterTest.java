@@ -0,0 +1,98 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.throttle.AimdConcurrencyLimiter;
+
+/**
+ * This class contains tests for the AimdConcurrencyLimiter class.
+ */
+public class AimdConcurrencyLimiterTest {
+
+    @Test
+    public void testAdditiveIncrease() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 5, 0.5);
+        for (int round = 0; round < 20; round++) {
+            int limit = limiter.getLimit();
+            long[] tokens = new long[limit];
+            for (int i = 0; i < limit; i++) {
+                tokens[i] = limiter.tryAcquire();
+            }
+            assertEquals(limiter.tryAcquire(), -1);
+            for (long token : tokens) {
+                limiter.onSuccess(token);
+            }
+        }
+        assertEquals(limiter.getLimit(), 5);
+        assertEquals(limiter.getInFlight(), 0);
+    }
+
+    @Test
+    public void testIdleLimitDoesNotIncrease() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 100, 0.5);
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess(limiter.tryAcquire());
+        }
+        assertEquals(limiter.getLimit(), 10);
+    }
+
+    @Test
+    public void testMultiplicativeDecreaseOncePerCongestionEvent() throws InterruptedException {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 2, 100, 0.5);
+        long first = limiter.acquire();
+        long second = limiter.acquire();
+        limiter.onThrottled(first);
+        assertEquals(limiter.getLimit(), 5);
+        // Started before the decrease: does not decrease the limit again.
+        limiter.onThrottled(second);
+        assertEquals(limiter.getLimit(), 5);
+
+        limiter.onThrottled(limiter.acquire());
+        assertEquals(limiter.getLimit(), 2);
+        limiter.onThrottled(limiter.acquire());
+        assertEquals(limiter.getLimit(), 2);
+        assertEquals(limiter.getInFlight(), 0);
+    }
+
+    @Test
+    public void testAcquireWaitsForPermit() throws Exception {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 1, 0.5);
+        long token = limiter.acquire();
+        CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(waiting.isDone());
+        limiter.onIgnored(token);
+        limiter.onSuccess(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(limiter.getInFlight(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidBackoffRatio() {
+        new AimdConcurrencyLimiter(1, 1, 1, 1.0);
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.async.AsyncLimiter;
+import com.ibm.cloud.is.common.async.KeyedAsyncLimiter;
+import com.ibm.cloud.is.common.async.ServiceCallFutures;
+import com.ibm.cloud.sdk.core.http.Response;
+
+/**
+ * This class contains tests for the AsyncLimiter, KeyedAsyncLimiter and ServiceCallFutures classes.
+ */
+public class AsyncLimiterTest {
+
+    @Test
+    public void testQueuesBeyondLimit() {
+        AsyncLimiter limiter = new AsyncLimiter(2);
+        List<CompletableFuture<Integer>> operations = new ArrayList<>();
+        List<Integer> started = new ArrayList<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            CompletableFuture<Integer> operation = new CompletableFuture<>();
+            operations.add(operation);
+            results.add(limiter.submit(() -> {
+                started.add(id);
+                return operation;
+            }));
+        }
+        assertEquals(started, Arrays.asList(0, 1));
+        assertEquals(limiter.getInFlight(), 2);
+        assertEquals(limiter.getQueued(), 3);
+
+        operations.get(1).complete(1);
+        assertEquals(results.get(1).join(), Integer.valueOf(1));
+        assertEquals(started, Arrays.asList(0, 1, 2));
+        operations.get(0).completeExceptionally(new IllegalStateException("failed"));
+        assertEquals(started, Arrays.asList(0, 1, 2, 3));
+        try {
+            results.get(0).join();
+            fail("Expected a CompletionException");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        operations.get(2).complete(2);
+        operations.get(3).complete(3);
+        operations.get(4).complete(4);
+        assertEquals(started, Arrays.asList(0, 1, 2, 3, 4));
+        assertEquals(results.get(4).join(), Integer.valueOf(4));
+        assertEquals(limiter.getInFlight(), 0);
+        assertEquals(limiter.getQueued(), 0);
+    }
+
+    @Test
+    public void testSynchronousCompletion() {
+        // Many operations which complete synchronously must not cause deep recursion.
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<Integer> blocker = new CompletableFuture<>();
+        limiter.submit(() -> blocker);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            int id = i;
+            results.add(limiter.submit(() -> CompletableFuture.completedFuture(id)));
+        }
+        blocker.complete(-1);
+        assertEquals(results.get(99999).join(), Integer.valueOf(99999));
+        assertEquals(limiter.getInFlight(), 0);
+    }
+
+    @Test
+    public void testOperationThrows() throws Exception {
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<Integer> result = limiter.submit(() -> {
+            throw new IllegalArgumentException("invalid");
+        });
+        try {
+            result.get();
+            fail("Expected an ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        assertEquals(limiter.submit(() -> CompletableFuture.completedFuture(1)).join(), Integer.valueOf(1));
+    }
+
+    @Test
+    public void testCancelQueued() {
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<Integer> blocker = new CompletableFuture<>();
+        limiter.submit(() -> blocker);
+        AtomicInteger starts = new AtomicInteger();
+        CompletableFuture<Integer> queued = limiter.submit(() -> {
+            starts.incrementAndGet();
+            return CompletableFuture.completedFuture(1);
+        });
+        assertEquals(limiter.getQueued(), 1);
+        queued.cancel(true);
+        assertEquals(limiter.getQueued(), 0);
+        blocker.complete(0);
+        assertEquals(starts.get(), 0);
+        assertEquals(limiter.getInFlight(), 0);
+    }
+
+    @Test
+    public void testCancelInFlight() {
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<Integer> operation = new CompletableFuture<>();
+        CompletableFuture<Integer> result = limiter.submit(() -> operation);
+        result.cancel(true);
+        assertTrue(operation.isCancelled());
+        assertEquals(limiter.getInFlight(), 0);
+    }
+
+    @Test
+    public void testConcurrentSubmissions() throws Exception {
+        AsyncLimiter limiter = new AsyncLimiter(8);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        try {
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                results.add(limiter.submit(() -> CompletableFuture.supplyAsync(() -> {
+                    int now = current.incrementAndGet();
+                    peak.accumulateAndGet(now, Math::max);
+                    Thread.yield();
+                    current.decrementAndGet();
+                    return now;
+                }, executor)));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(peak.get() <= 8);
+        assertEquals(limiter.getInFlight(), 0);
+    }
+
+    @Test
+    public void testKeyedLimiter() {
+        KeyedAsyncLimiter limiters = new KeyedAsyncLimiter(3);
+        assertSame(limiters.get("us-south"), limiters.get("us-south"));
+        assertFalse(limiters.get("us-south") == limiters.get("eu-de"));
+        assertEquals(limiters.get("eu-de").getMaxInFlight(), 3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidLimit() {
+        new AsyncLimiter(0);
+    }
+
+    @Test
+    public void testServiceCallFutures() {
+        CompletableFuture<Response<String>> future = ServiceCallFutures.execute(new MockServiceCall<>("result"));
+        assertEquals(future.join().getResult(), "result");
+    }
+}
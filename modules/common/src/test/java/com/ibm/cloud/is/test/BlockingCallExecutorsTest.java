@@ -0,0 +1,101 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.async.BlockingCallExecutors;
+import com.ibm.cloud.is.common.async.ServiceCallFutures;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+
+/**
+ * This class contains tests for the BlockingCallExecutors class.
+ */
+public class BlockingCallExecutorsTest {
+
+    private static boolean hasVirtualThreads() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testVirtualThreadDetection() {
+        assertEquals(BlockingCallExecutors.isVirtualThreadAvailable(), hasVirtualThreads());
+        if (!BlockingCallExecutors.isVirtualThreadAvailable()) {
+            try {
+                BlockingCallExecutors.newVirtualThreadExecutor();
+                fail("Expected an UnsupportedOperationException");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testExecuteOnExecutor() throws Exception {
+        ExecutorService executor = BlockingCallExecutors.newExecutor(2);
+        try {
+            Response<String> response = ServiceCallFutures.execute(new MockServiceCall<>("result"), executor)
+                .get(10, TimeUnit.SECONDS);
+            assertEquals(response.getResult(), "result");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testExecuteFailure() throws Exception {
+        ExecutorService executor = BlockingCallExecutors.newPlatformThreadExecutor(1);
+        ServiceCall<String> call = new MockServiceCall<String>("result") {
+            @Override
+            public Response<String> execute() {
+                throw new IllegalStateException("failed");
+            }
+        };
+        try {
+            ServiceCallFutures.execute(call, executor).get(10, TimeUnit.SECONDS);
+            fail("Expected an ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testExecuteRejected() throws Exception {
+        ExecutorService executor = BlockingCallExecutors.newPlatformThreadExecutor(1);
+        executor.shutdown();
+        assertTrue(ServiceCallFutures.execute(new MockServiceCall<>("result"), executor).isCompletedExceptionally());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidFallbackThreads() {
+        BlockingCallExecutors.newExecutor(0);
+    }
+}
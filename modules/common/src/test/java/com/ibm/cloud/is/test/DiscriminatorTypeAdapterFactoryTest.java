@@ -0,0 +1,191 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.ibm.cloud.is.common.json.DiscriminatorTypeAdapterFactory;
+import com.ibm.cloud.is.common.json.JsonUtils;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+/**
+ * This class contains tests for the DiscriminatorTypeAdapterFactory class.
+ */
+public class DiscriminatorTypeAdapterFactoryTest {
+
+    /**
+     * A discriminated base class.
+     */
+    static class Rule {
+        protected static String discriminatorPropertyName = "protocol";
+        protected static Map<String, Class<?>> discriminatorMapping;
+        static {
+            discriminatorMapping = new java.util.HashMap<>();
+            discriminatorMapping.put("tcp", RuleTcpUdp.class);
+            discriminatorMapping.put("udp", RuleTcpUdp.class);
+            discriminatorMapping.put("icmp", RuleIcmp.class);
+            discriminatorMapping.put("all", Rule.class);
+        }
+
+        String direction;
+        String protocol;
+        Remote remote;
+        List<String> tags;
+        Boolean enabled;
+        @SerializedName("ip_version")
+        String ipVersion;
+    }
+
+    /**
+     * A subclass for the "tcp" and "udp" protocols.
+     */
+    static class RuleTcpUdp extends Rule {
+        @SerializedName("port_min")
+        Long portMin;
+        @SerializedName("port_max")
+        Long portMax;
+    }
+
+    /**
+     * A subclass for the "icmp" protocol.
+     */
+    static class RuleIcmp extends Rule {
+        Integer code;
+        Integer type;
+    }
+
+    /**
+     * A nested model.
+     */
+    static class Remote {
+        String address;
+    }
+
+    /**
+     * A model which contains discriminated models.
+     */
+    static class Group {
+        String id;
+        List<Rule> rules;
+    }
+
+    private final Gson gson = JsonUtils.getGson();
+
+    @Test
+    public void testDiscriminatorAfterOtherProperties() {
+        Rule rule = gson.fromJson("{\"direction\":\"inbound\",\"enabled\":true,\"ip_version\":null,"
+            + "\"remote\":{\"address\":\"10.0.0.1\"},\"tags\":[\"a\",\"b\"],"
+            + "\"port_min\":22,\"protocol\":\"tcp\",\"port_max\":2.2e1}", Rule.class);
+        assertTrue(rule instanceof RuleTcpUdp);
+        RuleTcpUdp tcp = (RuleTcpUdp) rule;
+        assertEquals(tcp.direction, "inbound");
+        assertEquals(tcp.enabled, Boolean.TRUE);
+        assertNull(tcp.ipVersion);
+        assertEquals(tcp.remote.address, "10.0.0.1");
+        assertEquals(tcp.tags, Arrays.asList("a", "b"));
+        assertEquals(tcp.protocol, "tcp");
+        assertEquals(tcp.portMin, Long.valueOf(22));
+        assertEquals(tcp.portMax, Long.valueOf(22));
+    }
+
+    @Test
+    public void testDiscriminatorFirst() {
+        Rule rule = gson.fromJson("{\"protocol\":\"icmp\",\"code\":0,\"type\":8}", Rule.class);
+        assertTrue(rule instanceof RuleIcmp);
+        assertEquals(((RuleIcmp) rule).code, Integer.valueOf(0));
+        assertEquals(((RuleIcmp) rule).type, Integer.valueOf(8));
+    }
+
+    @Test
+    public void testUnknownPropertiesAreSkipped() {
+        Rule rule = gson.fromJson("{\"extra\":{\"nested\":[1,{\"x\":[]}]},\"code\":\"1\",\"protocol\":\"icmp\","
+            + "\"more\":[{\"y\":null}],\"type\":3}", Rule.class);
+        assertEquals(((RuleIcmp) rule).code, Integer.valueOf(1));
+        assertEquals(((RuleIcmp) rule).type, Integer.valueOf(3));
+    }
+
+    @Test
+    public void testNestedInCollection() {
+        Group group = gson.fromJson("{\"id\":\"g1\",\"rules\":[{\"direction\":\"inbound\",\"protocol\":\"udp\","
+            + "\"port_min\":53},null,{\"protocol\":\"icmp\"}],\"total\":2}", Group.class);
+        assertEquals(group.id, "g1");
+        assertEquals(group.rules.size(), 3);
+        assertEquals(((RuleTcpUdp) group.rules.get(0)).portMin, Long.valueOf(53));
+        assertNull(group.rules.get(1));
+        assertTrue(group.rules.get(2) instanceof RuleIcmp);
+    }
+
+    @Test
+    public void testMatchesCoreDeserialization() {
+        String json = "[{\"direction\":\"outbound\",\"ip_version\":\"ipv4\",\"protocol\":\"tcp\",\"port_min\":1,"
+            + "\"port_max\":65535,\"remote\":{\"address\":\"192.168.0.0\"}},{\"protocol\":\"icmp\",\"type\":8}]";
+        TypeToken<List<Rule>> listType = new TypeToken<List<Rule>>() { };
+        List<Rule> expected = GsonSingleton.getGson().fromJson(json, listType.getType());
+        List<Rule> actual = gson.fromJson(json, listType.getType());
+        assertEquals(gson.toJson(actual), GsonSingleton.getGsonWithoutPrettyPrinting().toJson(expected));
+    }
+
+    @Test
+    public void testSerializationIsDelegated() {
+        RuleIcmp rule = new RuleIcmp();
+        rule.protocol = "icmp";
+        rule.code = 0;
+        String expected = GsonSingleton.getGsonWithoutPrettyPrinting().toJson(rule, Rule.class);
+        assertEquals(gson.toJson(rule, Rule.class), expected);
+    }
+
+    @Test(expectedExceptions = JsonSyntaxException.class)
+    public void testMissingDiscriminator() {
+        gson.fromJson("{\"direction\":\"inbound\"}", Rule.class);
+    }
+
+    @Test(expectedExceptions = JsonSyntaxException.class)
+    public void testEmptyDiscriminator() {
+        gson.fromJson("{\"protocol\":\"\"}", Rule.class);
+    }
+
+    @Test(expectedExceptions = JsonSyntaxException.class)
+    public void testUnknownDiscriminator() {
+        gson.fromJson("{\"protocol\":\"gre\"}", Rule.class);
+    }
+
+    @Test(expectedExceptions = JsonSyntaxException.class)
+    public void testDiscriminatorMappedToBaseClass() {
+        gson.fromJson("{\"protocol\":\"all\"}", Rule.class);
+    }
+
+    @Test(expectedExceptions = JsonSyntaxException.class)
+    public void testNotAnObject() {
+        gson.fromJson("[]", Rule.class);
+    }
+
+    @Test
+    public void testIgnoresClassesWithoutMetadata() {
+        assertNull(new DiscriminatorTypeAdapterFactory().create(gson, TypeToken.get(RuleIcmp.class)));
+        assertNull(new DiscriminatorTypeAdapterFactory().create(gson, TypeToken.get(Group.class)));
+    }
+}
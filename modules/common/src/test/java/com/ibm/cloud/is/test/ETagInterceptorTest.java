@@ -0,0 +1,151 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.http.ETagInterceptor;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * This class contains tests for the ETagInterceptor class.
+ */
+public class ETagInterceptorTest {
+
+    private static final String URL = "https://localhost/v1/security_groups/sg-1?version=2021-05-06&generation=2";
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final List<Request> requests = new ArrayList<>();
+    private String etag;
+    private String body;
+
+    // Answers like a server which supports entity tags, without a network connection.
+    private final Interceptor server = chain -> {
+        Request request = chain.request();
+        requests.add(request);
+        Response.Builder response = new Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .header(ETagInterceptor.ETAG, etag);
+        String ifMatch = request.header(ETagInterceptor.IF_MATCH);
+        if (ifMatch != null && !ifMatch.equals(etag)) {
+            return response.code(412).message("Precondition Failed").body(ResponseBody.create(JSON, "{}")).build();
+        }
+        if (etag.equals(request.header(ETagInterceptor.IF_NONE_MATCH))) {
+            return response.code(304).message("Not Modified").body(ResponseBody.create(null, "")).build();
+        }
+        return response.code(200).message("OK").body(ResponseBody.create(JSON, body)).build();
+    };
+
+    private ETagInterceptor interceptor;
+    private OkHttpClient client;
+
+    @BeforeMethod
+    public void setUp() {
+        requests.clear();
+        etag = "W/\"1\"";
+        body = "{\"name\": \"v1\"}";
+        interceptor = new ETagInterceptor.Builder().ifMatchOnUpdate(true).build();
+        client = new OkHttpClient.Builder().addInterceptor(interceptor).addInterceptor(server).build();
+    }
+
+    private Response execute(Request request) throws IOException {
+        return client.newCall(request).execute();
+    }
+
+    private String get() throws IOException {
+        try (Response response = execute(new Request.Builder().url(URL).build())) {
+            assertEquals(response.code(), 200);
+            return response.body().string();
+        }
+    }
+
+    @Test
+    public void testRevalidation() throws IOException {
+        assertEquals(get(), "{\"name\": \"v1\"}");
+        assertNull(requests.get(0).header(ETagInterceptor.IF_NONE_MATCH));
+        assertEquals(interceptor.getETag(URL), "W/\"1\"");
+
+        // Not modified: the remembered body is returned.
+        assertEquals(get(), "{\"name\": \"v1\"}");
+        assertEquals(requests.get(1).header(ETagInterceptor.IF_NONE_MATCH), "W/\"1\"");
+        assertEquals(interceptor.getNotModifiedCount(), 1);
+
+        // Modified: the new body is returned and remembered.
+        etag = "W/\"2\"";
+        body = "{\"name\": \"v2\"}";
+        assertEquals(get(), "{\"name\": \"v2\"}");
+        assertEquals(interceptor.getModifiedCount(), 1);
+        assertEquals(interceptor.getETag(URL), "W/\"2\"");
+    }
+
+    @Test
+    public void testIfMatchOnUpdate() throws IOException {
+        get();
+        // The resource is modified by another client.
+        etag = "W/\"2\"";
+        Request patch = new Request.Builder().url(URL)
+            .patch(RequestBody.create(MediaType.parse("application/merge-patch+json"), "{\"name\": \"v3\"}"))
+            .build();
+        try (Response response = execute(patch)) {
+            assertEquals(response.code(), 412);
+        }
+        assertEquals(requests.get(1).header(ETagInterceptor.IF_MATCH), "W/\"1\"");
+
+        // Once the resource has been read again, the update succeeds and its response is remembered.
+        get();
+        etag = "W/\"3\"";
+        try (Response response = execute(patch.newBuilder().header(ETagInterceptor.IF_MATCH, "W/\"3\"").build())) {
+            // A caller-supplied If-Match header is left unchanged.
+            assertEquals(response.code(), 200);
+        }
+        assertEquals(interceptor.getETag(URL), "W/\"3\"");
+        try (Response response = execute(patch)) {
+            assertEquals(response.code(), 200);
+        }
+        assertEquals(requests.get(requests.size() - 1).header(ETagInterceptor.IF_MATCH), "W/\"3\"");
+
+        try (Response response = execute(new Request.Builder().url(URL).delete().build())) {
+            assertEquals(response.code(), 200);
+        }
+        assertNull(interceptor.getETag(URL));
+    }
+
+    @Test
+    public void testLargeBodiesAreNotRemembered() throws IOException {
+        interceptor = new ETagInterceptor.Builder().maximumBodyBytes(4).build();
+        client = new OkHttpClient.Builder().addInterceptor(interceptor).addInterceptor(server).build();
+        assertEquals(get(), "{\"name\": \"v1\"}");
+        assertNull(interceptor.getETag(URL));
+        get();
+        assertNull(requests.get(1).header(ETagInterceptor.IF_NONE_MATCH));
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.cloud.is.common.waiters.WaiterClock;
+
+/**
+ * A simulated {@link WaiterClock} which records the requested delays instead of sleeping, for use by tests of the
+ * classes which wait.
+ */
+public class FakeClock implements WaiterClock {
+
+    private long nanos;
+    private final List<Long> sleeps = new ArrayList<>();
+
+    @Override
+    public long nanoTime() {
+        return nanos;
+    }
+
+    @Override
+    public void sleep(long millis) {
+        sleeps.add(millis);
+        nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Advances the clock without sleeping.
+     *
+     * @param duration the duration by which the clock is advanced
+     * @param unit the unit of the duration
+     */
+    public void advance(long duration, TimeUnit unit) {
+        nanos += unit.toNanos(duration);
+    }
+
+    /**
+     * Returns the delays requested so far, in milliseconds.
+     *
+     * @return the delays
+     */
+    public List<Long> getSleeps() {
+        return sleeps;
+    }
+}
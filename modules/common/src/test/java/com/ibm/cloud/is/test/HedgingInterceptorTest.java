@@ -0,0 +1,266 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.http.Operation;
+import com.ibm.cloud.is.common.retry.HedgingInterceptor;
+import com.ibm.cloud.is.common.retry.RetryBudget;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * This class contains tests for the HedgingInterceptor class.
+ */
+public class HedgingInterceptorTest {
+
+    private static final String SERVICE_URL = "https://localhost/v1";
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final Operation<Void> GET_THING =
+        new Operation<>("service1", "v1", "getThing", "GET", "/things/{id}", Void.class);
+    private static final Operation<Void> LIST_THINGS =
+        new Operation<>("service1", "v1", "listThings", "GET", "/things", Void.class);
+
+    // The delays of the next requests, in milliseconds (0 when the queue is empty).
+    private final Deque<Long> delays = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger cancelCount = new AtomicInteger();
+
+    // Answers after the queued delay, without a network connection; a cancelled request fails like a closed socket.
+    private final Interceptor server = chain -> {
+        int number = requestCount.incrementAndGet();
+        Long delay = delays.pollFirst();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay != null ? delay : 0);
+        while (System.nanoTime() < deadline) {
+            if (chain.call().isCanceled()) {
+                cancelCount.incrementAndGet();
+                throw new IOException("Canceled");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+        return new Response.Builder()
+            .request(chain.request())
+            .protocol(Protocol.HTTP_1_1)
+            .code(200)
+            .message("OK")
+            .body(ResponseBody.create(JSON, "request " + number))
+            .build();
+    };
+
+    @BeforeMethod
+    public void setUp() {
+        delays.clear();
+        requestCount.set(0);
+        cancelCount.set(0);
+    }
+
+    private OkHttpClient client(HedgingInterceptor interceptor) {
+        return interceptor.wrap(new OkHttpClient.Builder().addInterceptor(server).build());
+    }
+
+    private static Request request(Operation<Void> operation) {
+        return operation.buildRequest(operation.newRequestBuilder(SERVICE_URL, Collections.singletonMap("id", "a")));
+    }
+
+    private static String execute(OkHttpClient client, Request request) throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            return response.body().string();
+        }
+    }
+
+    private static void warmUp(OkHttpClient client, Operation<Void> operation) throws IOException {
+        for (int i = 0; i < 16; i++) {
+            execute(client, request(operation));
+        }
+    }
+
+    @Test
+    public void testSlowRequestIsHedged() throws IOException {
+        HedgingInterceptor interceptor = new HedgingInterceptor.Builder()
+            .minSamples(5)
+            .minDelay(50, TimeUnit.MILLISECONDS)
+            .build();
+        OkHttpClient client = client(interceptor);
+        warmUp(client, GET_THING);
+        assertEquals(interceptor.getHedgeCount(), 0);
+
+        delays.add(5000L);
+        long start = System.nanoTime();
+        assertEquals(execute(client, request(GET_THING)), "request 18");
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(3));
+        assertEquals(interceptor.getHedgeCount(), 1);
+        assertEquals(interceptor.getHedgeWinCount(), 1);
+    }
+
+    @Test
+    public void testOriginalResponseWinsIfFirst() throws IOException {
+        HedgingInterceptor interceptor = new HedgingInterceptor.Builder()
+            .minSamples(5)
+            .minDelay(50, TimeUnit.MILLISECONDS)
+            .build();
+        OkHttpClient client = client(interceptor);
+        warmUp(client, GET_THING);
+
+        delays.add(300L);
+        delays.add(5000L);
+        assertEquals(execute(client, request(GET_THING)), "request 17");
+        assertEquals(interceptor.getHedgeCount(), 1);
+        assertEquals(interceptor.getHedgeWinCount(), 0);
+    }
+
+    @Test
+    public void testNoHedgingWithoutHistoryOrBudget() throws IOException {
+        HedgingInterceptor interceptor = new HedgingInterceptor.Builder()
+            .minSamples(5)
+            .minDelay(10, TimeUnit.MILLISECONDS)
+            .budget(new RetryBudget(0, 0))
+            .build();
+        OkHttpClient client = client(interceptor);
+
+        // No latency has been recorded for the operation yet.
+        delays.add(200L);
+        assertEquals(execute(client, request(GET_THING)), "request 1");
+
+        // The budget does not allow any hedge.
+        warmUp(client, GET_THING);
+        delays.add(200L);
+        assertEquals(execute(client, request(GET_THING)), "request 18");
+        assertEquals(interceptor.getHedgeCount(), 0);
+    }
+
+    @Test
+    public void testOnlySelectedReadsAreHedged() throws IOException {
+        HedgingInterceptor interceptor = new HedgingInterceptor.Builder()
+            .minSamples(5)
+            .minDelay(10, TimeUnit.MILLISECONDS)
+            .operations("getThing")
+            .build();
+        OkHttpClient client = client(interceptor);
+        warmUp(client, LIST_THINGS);
+        delays.add(200L);
+        execute(client, request(LIST_THINGS));
+
+        Request post = new Request.Builder().url(SERVICE_URL + "/things").post(RequestBody.create(JSON, "{}")).build();
+        delays.add(200L);
+        execute(client, post);
+        assertEquals(interceptor.getHedgeCount(), 0);
+        assertEquals(requestCount.get(), 18);
+    }
+
+    @Test
+    public void testCancellationIsPropagated() throws Exception {
+        HedgingInterceptor interceptor = new HedgingInterceptor.Builder()
+            .minSamples(5)
+            .minDelay(50, TimeUnit.MILLISECONDS)
+            .build();
+        OkHttpClient client = client(interceptor);
+        warmUp(client, GET_THING);
+
+        delays.add(5000L);
+        delays.add(5000L);
+        Call call = client.newCall(request(GET_THING));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Response> result = executor.submit(call::execute);
+            // Both the original request and its hedge are in flight.
+            awaitCount(requestCount, 18);
+            call.cancel();
+            try {
+                result.get(3, TimeUnit.SECONDS).close();
+                fail("The call was not cancelled");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        awaitCount(cancelCount, 2);
+        assertEquals(interceptor.getHedgeCount(), 1);
+        assertEquals(interceptor.getHedgeWinCount(), 0);
+    }
+
+    @Test
+    public void testCancellationBeforeHedgeIsNotHedged() throws Exception {
+        HedgingInterceptor interceptor = new HedgingInterceptor.Builder()
+            .minSamples(5)
+            .minDelay(300, TimeUnit.MILLISECONDS)
+            .build();
+        OkHttpClient client = client(interceptor);
+        warmUp(client, GET_THING);
+
+        delays.add(5000L);
+        Call call = client.newCall(request(GET_THING));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Response> result = executor.submit(call::execute);
+            awaitCount(requestCount, 17);
+            call.cancel();
+            try {
+                result.get(3, TimeUnit.SECONDS).close();
+                fail("The call was not cancelled");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        awaitCount(cancelCount, 1);
+        assertEquals(interceptor.getHedgeCount(), 0);
+        assertEquals(requestCount.get(), 17);
+    }
+
+    private static void awaitCount(AtomicInteger count, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while (count.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count.get(), expected);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testBoundToOneClient() {
+        HedgingInterceptor interceptor = new HedgingInterceptor.Builder().build();
+        client(interceptor);
+        client(interceptor);
+    }
+}
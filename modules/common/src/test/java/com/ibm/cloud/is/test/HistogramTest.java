@@ -0,0 +1,86 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.metrics.Histogram;
+
+/**
+ * This class contains tests for the Histogram class.
+ */
+public class HistogramTest {
+
+    @Test
+    public void testEmpty() {
+        Histogram histogram = new Histogram(1000);
+        assertEquals(histogram.getCount(), 0);
+        assertEquals(histogram.getMax(), 0);
+        assertEquals(histogram.getMean(), 0.0);
+        assertEquals(histogram.getValueAtPercentile(99), 0);
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        Histogram histogram = new Histogram(1000);
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(histogram.getCount(), 10);
+        assertEquals(histogram.getSum(), 55);
+        assertEquals(histogram.getMean(), 5.5);
+        assertEquals(histogram.getValueAtPercentile(50), 5);
+        assertEquals(histogram.getValueAtPercentile(90), 9);
+        assertEquals(histogram.getValueAtPercentile(100), 10);
+        assertEquals(histogram.getValueAtPercentile(0), 1);
+    }
+
+    @Test
+    public void testRelativeError() {
+        Histogram histogram = new Histogram(60_000_000L);
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 100);
+        }
+        assertEquals(histogram.getMax(), 10_000_000L);
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            long exact = (long) (percentile * 100_000);
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact && reported <= exact * 1.04, percentile + ": " + reported);
+        }
+    }
+
+    @Test
+    public void testValuesAboveHighestTrackableValue() {
+        Histogram histogram = new Histogram(100);
+        histogram.record(50);
+        histogram.record(5000);
+        histogram.record(-1);
+        assertEquals(histogram.getCount(), 3);
+        assertEquals(histogram.getMax(), 5000);
+        assertEquals(histogram.getValueAtPercentile(100), 5000);
+        assertEquals(histogram.getValueAtPercentile(10), 0);
+
+        histogram.reset();
+        assertEquals(histogram.getCount(), 0);
+        assertEquals(histogram.getValueAtPercentile(100), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new Histogram(100).getValueAtPercentile(101);
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.net.Ipv4Address;
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+
+/**
+ * This class contains tests for the Ipv4Address and Ipv4Cidr classes.
+ */
+public class Ipv4CidrTest {
+
+    @Test
+    public void testParseAddress() {
+        assertEquals(Ipv4Address.parseInt("10.1.2.3"), 0x0A010203);
+        assertEquals(Ipv4Address.parseInt("255.255.255.255"), -1);
+        assertEquals(Ipv4Address.format(0xC0A80001), "192.168.0.1");
+        assertEquals(Ipv4Address.parse("192.168.0.1").toUnsignedLong(), 0xC0A80001L);
+        assertEquals(Ipv4Address.parse("10.0.0.1"), Ipv4Address.of(0x0A000001));
+        assertSame(Ipv4Address.parse("10.0.0.1"), Ipv4Address.parse("10.0.0.1"));
+        assertNull(Ipv4Address.parseOrNull("2001:db8::1"));
+        assertNull(Ipv4Address.parseOrNull("10.0.0"));
+        assertNull(Ipv4Address.parseOrNull(null));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidAddress() {
+        Ipv4Address.parse("10.0.0.256");
+    }
+
+    @Test
+    public void testParseCidr() {
+        Ipv4Cidr cidr = Ipv4Cidr.parse("10.1.2.3/16");
+        assertEquals(cidr.getAddress(), 0x0A010000);
+        assertEquals(cidr.getLength(), 16);
+        assertEquals(cidr.getMask(), 0xFFFF0000);
+        assertEquals(cidr.getLastAddress(), 0x0A01FFFF);
+        assertEquals(cidr.getSize(), 65536);
+        assertEquals(cidr.toString(), "10.1.0.0/16");
+        assertEquals(cidr, Ipv4Cidr.of(0x0A01FFFF, 16));
+        assertSame(Ipv4Cidr.parse("10.1.2.3/16"), cidr);
+        assertEquals(Ipv4Cidr.parse("10.0.0.1"), Ipv4Cidr.of(0x0A000001, 32));
+        assertEquals(Ipv4Cidr.parse("0.0.0.0/0").getSize(), 1L << 32);
+        for (String invalid : new String[] { "10.0.0.0/33", "10.0.0.0/", "10.0.0.0/-1", "10.0.0/8", "2001:db8::/32" }) {
+            assertNull(Ipv4Cidr.parseOrNull(invalid), invalid);
+        }
+    }
+
+    @Test
+    public void testContainsAndOverlaps() {
+        Ipv4Cidr wide = Ipv4Cidr.parse("10.0.0.0/8");
+        Ipv4Cidr narrow = Ipv4Cidr.parse("10.20.0.0/16");
+        Ipv4Cidr other = Ipv4Cidr.parse("192.168.0.0/16");
+        assertTrue(wide.contains(narrow));
+        assertFalse(narrow.contains(wide));
+        assertTrue(wide.overlaps(narrow));
+        assertTrue(narrow.overlaps(wide));
+        assertFalse(wide.overlaps(other));
+        assertTrue(narrow.contains(Ipv4Address.parse("10.20.255.255")));
+        assertFalse(narrow.contains(Ipv4Address.parseInt("10.21.0.0")));
+        assertTrue(Ipv4Cidr.parse("0.0.0.0/0").contains(other));
+        assertTrue(Ipv4Cidr.contains(0x0A000000, 8, 0x0AFFFFFF));
+        assertFalse(Ipv4Cidr.overlaps(0x0A000000, 16, 0x0A010000, 16));
+    }
+
+    @Test
+    public void testOrdering() {
+        List<Ipv4Cidr> cidrs = Arrays.asList(Ipv4Cidr.parse("192.168.0.0/16"), Ipv4Cidr.parse("10.0.0.0/16"),
+            Ipv4Cidr.parse("10.0.0.0/8"));
+        Collections.sort(cidrs);
+        assertEquals(cidrs.toString(), "[10.0.0.0/8, 10.0.0.0/16, 192.168.0.0/16]");
+        assertTrue(Ipv4Address.parse("192.168.0.1").compareTo(Ipv4Address.parse("10.0.0.1")) > 0);
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.is.common.json.JsonUtils;
+import com.ibm.cloud.sdk.core.service.model.GenericModel;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+
+/**
+ * This class contains tests for the JsonUtils class.
+ */
+public class JsonUtilsTest {
+
+    /**
+     * A patch model with properties of various types.
+     */
+    static class ThingPatch extends GenericModel {
+        String name;
+        @SerializedName("port_min")
+        Long portMin;
+        Double ratio;
+        Boolean enabled;
+        @SerializedName("created_at")
+        Date createdAt;
+        List<String> tags;
+        List<ReferencePatch> references;
+        ReferencePatch reference;
+        String description;
+    }
+
+    /**
+     * A nested patch model.
+     */
+    static class ReferencePatch extends GenericModel {
+        String id;
+        Long weight;
+
+        ReferencePatch(String id, Long weight) {
+            this.id = id;
+            this.weight = weight;
+        }
+    }
+
+    // The implementation of asPatch() which toMergePatch() replaces.
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> roundTrip(GenericModel model) {
+        return GsonSingleton.getGson().fromJson(model.toString(), Map.class);
+    }
+
+    @Test
+    public void testToMergePatchMatchesRoundTrip() {
+        ThingPatch patch = new ThingPatch();
+        patch.name = "my-thing \"quoted\" <html> é\n";
+        patch.portMin = 9007199254740993L;
+        patch.ratio = 0.1;
+        patch.enabled = false;
+        patch.createdAt = new Date(1546344000000L);
+        patch.tags = Arrays.asList("a", null, "b");
+        patch.references = Arrays.asList(new ReferencePatch("r1", 1L), new ReferencePatch(null, null));
+        patch.reference = new ReferencePatch("r2", 22L);
+
+        Map<String, Object> mergePatch = JsonUtils.toMergePatch(patch);
+        assertEquals(mergePatch, roundTrip(patch));
+        // The properties are in the same order.
+        assertEquals(Arrays.asList(mergePatch.keySet().toArray()), Arrays.asList(roundTrip(patch).keySet().toArray()));
+        assertFalse(mergePatch.containsKey("description"));
+        assertEquals(mergePatch.get("port_min"), Double.valueOf(9007199254740993L));
+        assertEquals(((Map<?, ?>) mergePatch.get("reference")).get("weight"), Double.valueOf(22));
+        assertEquals(((List<?>) mergePatch.get("references")).get(1), Collections.emptyMap());
+    }
+
+    @Test
+    public void testToMergePatchOfEmptyModel() {
+        ThingPatch patch = new ThingPatch();
+        assertEquals(JsonUtils.toMergePatch(patch), roundTrip(patch));
+        assertTrue(JsonUtils.toMergePatch(patch).isEmpty());
+    }
+
+    @Test
+    public void testToMergePatchIsMutable() {
+        ThingPatch patch = new ThingPatch();
+        patch.name = "my-thing";
+        Map<String, Object> mergePatch = JsonUtils.toMergePatch(patch);
+        // A null value signifies the deletion of a property.
+        mergePatch.put("description", null);
+        assertTrue(mergePatch.containsKey("description"));
+        assertNull(mergePatch.get("description"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testToMergePatchOfNonObject() {
+        JsonUtils.toMergePatch("not an object");
+    }
+}
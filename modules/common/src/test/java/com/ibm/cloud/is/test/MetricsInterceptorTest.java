@@ -0,0 +1,216 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.http.MetricsInterceptor;
+import com.ibm.cloud.is.common.http.Operation;
+import com.ibm.cloud.is.common.metrics.InMemoryMetricsRecorder;
+import com.ibm.cloud.is.common.metrics.MeterRegistryAdapter;
+import com.ibm.cloud.is.common.metrics.MeterSink;
+import com.ibm.cloud.is.common.metrics.MetricsRecorder;
+import com.ibm.cloud.is.common.metrics.OperationMetrics;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+/**
+ * This class contains tests for the MetricsInterceptor class and the metrics recorders.
+ */
+public class MetricsInterceptorTest {
+
+    private static final String SERVICE_URL = "https://localhost/v1";
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final Operation<Void> GET_THING =
+        new Operation<>("service1", "v1", "getThing", "GET", "/things/{id}", Void.class);
+    private static final Operation<Void> CREATE_THING =
+        new Operation<>("service1", "v1", "createThing", "POST", "/things", Void.class);
+
+    private int statusCode;
+    private boolean chunked;
+    private boolean fail;
+
+    // Answers like a server, without a network connection.
+    private final Interceptor server = chain -> {
+        if (fail) {
+            throw new IOException("connection reset");
+        }
+        ResponseBody body = ResponseBody.create(JSON, "{\"id\": \"abc\"}");
+        if (chunked) {
+            body = ResponseBody.create(JSON, -1, new Buffer().writeUtf8("{\"id\": \"abc\"}"));
+        }
+        return new Response.Builder()
+            .request(chain.request())
+            .protocol(Protocol.HTTP_1_1)
+            .code(statusCode)
+            .message("mock")
+            .body(body)
+            .build();
+    };
+
+    private InMemoryMetricsRecorder recorder;
+    private OkHttpClient client;
+
+    @BeforeMethod
+    public void setUp() {
+        statusCode = 200;
+        chunked = false;
+        fail = false;
+        recorder = new InMemoryMetricsRecorder();
+        client = newClient(recorder);
+    }
+
+    private OkHttpClient newClient(MetricsRecorder metricsRecorder) {
+        return new OkHttpClient.Builder()
+            .addInterceptor(new MetricsInterceptor(metricsRecorder))
+            .addInterceptor(server)
+            .build();
+    }
+
+    private static Request getThing() {
+        return GET_THING.buildRequest(GET_THING.newRequestBuilder(SERVICE_URL, Collections.singletonMap("id", "abc")));
+    }
+
+    private void execute(OkHttpClient httpClient, Request request) throws IOException {
+        try (Response response = httpClient.newCall(request).execute()) {
+            response.body().string();
+        }
+    }
+
+    @Test
+    public void testCallsAreRecordedPerOperation() throws IOException {
+        execute(client, getThing());
+        statusCode = 404;
+        execute(client, getThing());
+        Request create = CREATE_THING.buildRequest(CREATE_THING.newRequestBuilder(SERVICE_URL)
+            .bodyContent("{\"name\": \"thing\"}", "application/json"));
+        statusCode = 201;
+        execute(client, create);
+
+        OperationMetrics get = recorder.getOperationMetrics("getThing");
+        assertEquals(get.getCallCount(), 2);
+        assertEquals(get.getStatusCount(200), 1);
+        assertEquals(get.getStatusCount(404), 1);
+        assertEquals(get.getResponseSizes().getCount(), 2);
+        assertEquals(get.getResponseSizes().getMax(), 13);
+        assertEquals(get.getRequestSizes().getCount(), 0);
+        assertEquals(get.getInFlight(), 0);
+
+        OperationMetrics createMetrics = recorder.getOperationMetrics("createThing");
+        assertEquals(createMetrics.getStatusCounts().toString(), "{201=1}");
+        assertEquals(createMetrics.getRequestSizes().getMax(), 17);
+        assertEquals(recorder.getAllOperationMetrics().size(), 2);
+        assertEquals(recorder.getSlowestOperations(99, 1).size(), 1);
+
+        recorder.reset();
+        assertEquals(recorder.getOperationMetrics("getThing").getCallCount(), 0);
+    }
+
+    @Test
+    public void testFailuresAndUnknownOperations() throws IOException {
+        fail = true;
+        try {
+            execute(client, getThing());
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            assertEquals(e.getMessage(), "connection reset");
+        }
+        assertEquals(recorder.getOperationMetrics("getThing").getFailureCount(), 1);
+        assertEquals(recorder.getOperationMetrics("getThing").getInFlight(), 0);
+
+        fail = false;
+        execute(client, new Request.Builder().url(SERVICE_URL + "/other").build());
+        assertEquals(recorder.getOperationMetrics(MetricsInterceptor.UNKNOWN_OPERATION).getCallCount(), 1);
+    }
+
+    @Test
+    public void testResponseSizeIsCountedWhenUnknown() throws IOException {
+        chunked = true;
+        execute(client, getThing());
+        assertEquals(recorder.getOperationMetrics("getThing").getResponseSizes().getMax(), 13);
+    }
+
+    @Test
+    public void testMeterRegistryAdapter() throws IOException {
+        List<String> events = new ArrayList<>();
+        List<AtomicLong> gauges = new ArrayList<>();
+        MeterSink sink = new MeterSink() {
+            @Override
+            public void recordTimer(String name, String[] tags, long nanos) {
+                assertTrue(nanos >= 0);
+                events.add("timer " + name + " " + Arrays.toString(tags));
+            }
+
+            @Override
+            public void incrementCounter(String name, String[] tags) {
+                events.add("counter " + name + " " + Arrays.toString(tags));
+            }
+
+            @Override
+            public void recordSummary(String name, String[] tags, double amount) {
+                events.add("summary " + name + " " + Arrays.toString(tags) + " " + amount);
+            }
+
+            @Override
+            public void registerGauge(String name, String[] tags, AtomicLong value) {
+                gauges.add(value);
+                events.add("gauge " + name + " " + Arrays.toString(tags));
+            }
+        };
+        OkHttpClient adapterClient = newClient(new MeterRegistryAdapter(sink, "test"));
+        execute(adapterClient, getThing());
+        execute(adapterClient, getThing());
+        fail = true;
+        try {
+            execute(adapterClient, getThing());
+        } catch (IOException e) {
+            // Expected.
+        }
+
+        assertEquals(events, Arrays.asList(
+            "gauge test.active [operation, getThing]",
+            "timer test.requests [operation, getThing, status, 200]",
+            "summary test.response.size [operation, getThing] 13.0",
+            "timer test.requests [operation, getThing, status, 200]",
+            "summary test.response.size [operation, getThing] 13.0",
+            "timer test.requests [operation, getThing, status, IO_ERROR]"));
+        assertEquals(gauges.get(0).get(), 0);
+    }
+
+    @Test
+    public void testNoopRecorder() throws IOException {
+        execute(newClient(MetricsRecorder.NOOP), getThing());
+        assertNull(recorder.getOperationMetrics("getThing"));
+    }
+}
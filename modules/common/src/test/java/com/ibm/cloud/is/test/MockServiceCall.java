@@ -0,0 +1,82 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.http.ServiceCallback;
+
+import io.reactivex.Single;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+/**
+ * A {@link ServiceCall} which completes immediately with a fixed result, for use by tests which do not need
+ * a mock HTTP server.
+ *
+ * @param <T> the type of the result
+ */
+public class MockServiceCall<T> implements ServiceCall<T> {
+
+    private final T result;
+    private final int statusCode;
+
+    public MockServiceCall(T result) {
+        this(result, 200);
+    }
+
+    public MockServiceCall(T result, int statusCode) {
+        this.result = result;
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Builds an okhttp response with the specified status code, suitable for constructing a {@link Response}.
+     *
+     * @param statusCode the HTTP status code
+     * @return the okhttp response
+     */
+    public static okhttp3.Response httpResponse(int statusCode) {
+        return new okhttp3.Response.Builder()
+            .request(new Request.Builder().url("https://localhost/v1/mock").build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(statusCode)
+            .message("mock")
+            .build();
+    }
+
+    @Override
+    public ServiceCall<T> addHeader(String name, String value) {
+        return this;
+    }
+
+    @Override
+    public Response<T> execute() {
+        return new Response<>(result, httpResponse(statusCode));
+    }
+
+    @Override
+    public void enqueue(ServiceCallback<T> callback) {
+        callback.onResponse(execute());
+    }
+
+    @Override
+    public Single<Response<T>> reactiveRequest() {
+        return Single.just(execute());
+    }
+
+    @Override
+    public void cancel() {
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.http.Operation;
+import com.ibm.cloud.sdk.core.http.RequestBuilder;
+import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
+
+import okhttp3.Request;
+
+/**
+ * This class contains tests for the Operation class.
+ */
+public class OperationTest {
+
+    /**
+     * A minimal response model.
+     */
+    static class Thing {
+        String id;
+    }
+
+    private static final Operation<Thing> GET_THING =
+        new Operation<>("service1", "v1", "getThing", "GET", "/things/{id}", Thing.class);
+    private static final Operation<Thing> GET_PART =
+        new Operation<>("service1", "v1", "getPart", "GET", "/things/{thing_id}/parts/p-{id}.json", Thing.class);
+    private static final Operation<Void> DELETE_THINGS =
+        new Operation<>("service1", "v1", "deleteThings", "DELETE", "/things", Void.class);
+
+    private static Map<String, String> params(String... namesAndValues) {
+        Map<String, String> params = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            params.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return params;
+    }
+
+    private static void assertSameUrl(Operation<?> operation, String serviceUrl, Map<String, String> params) {
+        assertEquals(operation.resolveRequestUrl(serviceUrl, params),
+            RequestBuilder.resolveRequestUrl(serviceUrl, operation.getPathTemplate(), params));
+    }
+
+    @Test
+    public void testResolveRequestUrl() {
+        for (String serviceUrl : new String[] { "https://us-south.iaas.cloud.ibm.com/v1",
+            "https://us-south.iaas.cloud.ibm.com/v1/", "http://localhost:1234", "http://localhost:1234/" }) {
+            assertSameUrl(GET_THING, serviceUrl, params("id", "abc"));
+            assertSameUrl(GET_THING, serviceUrl, params("id", "a b/c?d#e%f+g:h@i[j]é"));
+            assertSameUrl(GET_THING, serviceUrl, params());
+            assertSameUrl(GET_PART, serviceUrl, params("thing_id", "t1", "id", "p/1"));
+            assertSameUrl(DELETE_THINGS, serviceUrl, null);
+        }
+        assertEquals(GET_THING.resolveRequestUrl("https://host/v1", params("id", "abc")).toString(),
+            "https://host/v1/things/abc");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testEmptyPathParameter() {
+        GET_THING.resolveRequestUrl("https://host/v1", params("id", ""));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMissingServiceUrl() {
+        GET_THING.newRequestBuilder(null, params("id", "abc"));
+    }
+
+    @Test
+    public void testNewRequestBuilder() {
+        Request request = GET_THING.newRequestBuilder("https://host/v1", params("id", "abc")).build();
+        assertEquals(request.method(), "GET");
+        assertEquals(request.url().toString(), "https://host/v1/things/abc");
+        assertEquals(request.header("Accept"), "application/json");
+        assertEquals(request.header("User-Agent"), GET_THING.getHeaders().get("User-Agent"));
+
+        request = DELETE_THINGS.newRequestBuilder("https://host/v1").build();
+        assertEquals(request.method(), "DELETE");
+        assertNull(DELETE_THINGS.getHeaders().get("Accept"));
+    }
+
+    @Test
+    public void testBuildRequest() {
+        Request request = GET_THING.buildRequest(GET_THING.newRequestBuilder("https://host/v1", params("id", "abc")));
+        assertEquals(request.url().toString(), "https://host/v1/things/abc");
+        assertSame(Operation.fromRequest(request), GET_THING);
+        assertNull(Operation.fromRequest(new Request.Builder().url("https://host/v1").build()));
+    }
+
+    @Test
+    public void testResponseConverter() {
+        assertSame(GET_THING.getResponseConverter(), GET_THING.getResponseConverter());
+        assertEquals(GET_THING.getResponseType(), Thing.class);
+        assertEquals(DELETE_THINGS.getResponseConverter().getClass(), ResponseConverterUtils.getVoid().getClass());
+        assertEquals(GET_THING.toString(), "GET /things/{id} (getThing)");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnsupportedMethod() {
+        new Operation<>("service1", "v1", "traceThing", "TRACE", "/things", Thing.class);
+    }
+}
@@ -0,0 +1,342 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.http.Operation;
+import com.ibm.cloud.is.common.retry.Idempotency;
+import com.ibm.cloud.is.common.retry.RetryBudget;
+import com.ibm.cloud.is.common.retry.RetryInterceptor;
+import com.ibm.cloud.is.common.waiters.Backoff;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * This class contains tests for the RetryInterceptor, RetryBudget and Idempotency classes.
+ */
+public class RetryInterceptorTest {
+
+    private static final String SERVICE_URL = "https://localhost/v1";
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final Operation<Void> CREATE_THING =
+        new Operation<>("service1", "v1", "createThing", "POST", "/things", Void.class);
+    private static final Operation<Void> START_THING =
+        new Operation<>("service1", "v1", "startThing", "POST", "/things/{id}/actions", Void.class);
+
+    // Each element is either a status code, a response body (for a 200 response) or an IOException.
+    private final Deque<Object> answers = new ArrayDeque<>();
+    private final List<Request> requests = new ArrayList<>();
+    // The Date header of the error responses, if any.
+    private Instant serverDate;
+
+    // Answers with the queued answers, without a network connection.
+    private final Interceptor server = chain -> {
+        requests.add(chain.request());
+        Object answer = answers.isEmpty() ? 200 : answers.removeFirst();
+        if (answer instanceof IOException) {
+            throw (IOException) answer;
+        }
+        Response.Builder response = new Response.Builder()
+            .request(chain.request())
+            .protocol(Protocol.HTTP_1_1)
+            .message("mock");
+        if (answer instanceof String) {
+            return response.code(200).body(ResponseBody.create(JSON, (String) answer)).build();
+        }
+        int code = (Integer) answer;
+        if (code == 429) {
+            response.header("Retry-After", "3");
+        }
+        if (serverDate != null) {
+            response.header("Date",
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(serverDate, ZoneOffset.UTC)));
+        }
+        return response.code(code).body(ResponseBody.create(JSON, "{\"errors\": []}")).build();
+    };
+
+    private FakeClock clock;
+
+    @BeforeMethod
+    public void setUp() {
+        answers.clear();
+        requests.clear();
+        serverDate = null;
+        clock = new FakeClock();
+    }
+
+    private RetryInterceptor.Builder builder() {
+        return new RetryInterceptor.Builder().backoff(new Backoff(100, 100, 1.0)).clock(clock);
+    }
+
+    private OkHttpClient client(RetryInterceptor interceptor) {
+        return new OkHttpClient.Builder().addInterceptor(interceptor).addInterceptor(server).build();
+    }
+
+    private Response execute(RetryInterceptor interceptor, Request request) throws IOException {
+        Response response = client(interceptor).newCall(request).execute();
+        response.body().string();
+        return response;
+    }
+
+    private static Request get() {
+        return new Request.Builder().url(SERVICE_URL + "/things/abc").build();
+    }
+
+    private static Request create(String body) {
+        return CREATE_THING.buildRequest(CREATE_THING.newRequestBuilder(SERVICE_URL).bodyContent(body,
+            "application/json"));
+    }
+
+    @Test
+    public void testReadsAreRetried() throws IOException {
+        RetryInterceptor interceptor = builder().build();
+        answers.addAll(Arrays.asList(503, new SocketTimeoutException("timeout"), 429, "{\"id\": \"abc\"}"));
+        assertEquals(execute(interceptor, get()).code(), 200);
+        assertEquals(requests.size(), 4);
+        assertEquals(interceptor.getRetryCount(), 3);
+        // The Retry-After header of the 429 response is longer than the backoff delay.
+        assertEquals(clock.getSleeps(), Arrays.asList(100L, 100L, 3000L));
+    }
+
+    @Test
+    public void testMaxAttempts() throws IOException {
+        RetryInterceptor interceptor = builder().maxAttempts(2).build();
+        answers.addAll(Arrays.asList(500, 500, 500));
+        assertEquals(execute(interceptor, get()).code(), 500);
+        assertEquals(requests.size(), 2);
+
+        answers.clear();
+        answers.add(new SocketTimeoutException("timeout"));
+        answers.add(new SocketTimeoutException("timeout again"));
+        try {
+            execute(interceptor, get());
+            fail("Expected an IOException");
+        } catch (SocketTimeoutException e) {
+            assertEquals(e.getMessage(), "timeout again");
+        }
+    }
+
+    @Test
+    public void testClientErrorsAreNotRetried() throws IOException {
+        RetryInterceptor interceptor = builder().build();
+        answers.add(400);
+        assertEquals(execute(interceptor, get()).code(), 400);
+        assertEquals(requests.size(), 1);
+        assertEquals(clock.getSleeps(), Collections.emptyList());
+    }
+
+    @Test
+    public void testRetriedDeleteTreats404AsSuccess() throws IOException {
+        RetryInterceptor interceptor = builder().build();
+        Request delete = new Request.Builder().url(SERVICE_URL + "/things/abc").delete().build();
+        answers.addAll(Arrays.asList(504, 404));
+        assertEquals(execute(interceptor, delete).code(), 204);
+
+        // A 404 to the first attempt is reported as is.
+        answers.add(404);
+        assertEquals(execute(interceptor, delete).code(), 404);
+    }
+
+    @Test
+    public void testUnsafeOperationsAreOnlyRetriedIfNotProcessed() throws IOException {
+        RetryInterceptor interceptor = builder().build();
+        Request start = START_THING.buildRequest(START_THING.newRequestBuilder(SERVICE_URL,
+            Collections.singletonMap("id", "abc")).bodyContent("{\"type\": \"start\"}", "application/json"));
+        assertEquals(interceptor.classify(start), Idempotency.UNSAFE);
+
+        answers.add(500);
+        assertEquals(execute(interceptor, start).code(), 500);
+        assertEquals(requests.size(), 1);
+
+        answers.addAll(Arrays.asList(new ConnectException("refused"), 429, 201));
+        assertEquals(execute(interceptor, start).code(), 201);
+        assertEquals(requests.size(), 4);
+    }
+
+    @Test
+    public void testCreateIsDeduplicatedByName() throws IOException {
+        RetryInterceptor interceptor = builder().build();
+        answers.add(502);
+        answers.add("{\"things\": [{\"id\": \"1\", \"name\": \"other\"}], "
+            + "\"next\": {\"href\": \"" + SERVICE_URL + "/things?limit=100&start=abc\"}}");
+        answers.add("{\"things\": [{\"id\": \"2\", \"name\": \"my-thing\"}]}");
+        Response response = execute(interceptor, create("{\"name\": \"my-thing\"}"));
+
+        assertEquals(response.code(), 201);
+        assertEquals(interceptor.getDeduplicatedCount(), 1);
+        assertEquals(requests.size(), 3);
+        assertEquals(requests.get(1).method(), "GET");
+        assertEquals(requests.get(1).url().queryParameter("limit"), "100");
+        assertEquals(requests.get(2).url().queryParameter("start"), "abc");
+    }
+
+    @Test
+    public void testCreateIsRetriedIfNotFound() throws IOException {
+        RetryInterceptor interceptor = builder().build();
+        answers.addAll(Arrays.asList(500, "{\"things\": []}", 201));
+        assertEquals(execute(interceptor, create("{\"name\": \"my-thing\"}")).code(), 201);
+        assertEquals(requests.size(), 3);
+        assertEquals(requests.get(2).method(), "POST");
+        assertEquals(interceptor.getDeduplicatedCount(), 0);
+
+        // Without a name, the creation cannot be deduplicated and is not retried.
+        requests.clear();
+        answers.add(500);
+        assertEquals(execute(interceptor, create("{\"zone\": \"us-south-1\"}")).code(), 500);
+        assertEquals(requests.size(), 1);
+
+        // If the collection cannot be searched, the creation is not retried.
+        requests.clear();
+        answers.addAll(Arrays.asList(500, 403));
+        assertEquals(execute(interceptor, create("{\"name\": \"my-thing\"}")).code(), 500);
+        assertEquals(requests.size(), 2);
+    }
+
+    @Test
+    public void testCreateIsOnlyDeduplicatedWithinItsScope() throws IOException {
+        RetryInterceptor interceptor = builder().build();
+        String body = "{\"name\": \"my-subnet\", \"vpc\": {\"id\": \"vpc-1\"}, "
+            + "\"zone\": {\"name\": \"us-south-1\"}}";
+        String now = Instant.now().plusSeconds(1).toString();
+
+        // A resource with the same name in another VPC, or created before the first attempt, is not the one which
+        // the request created, so the creation is retried.
+        answers.add(502);
+        answers.add("{\"things\": [{\"id\": \"1\", \"name\": \"my-subnet\", \"created_at\": \"" + now
+            + "\", \"vpc\": {\"id\": \"vpc-2\"}, \"zone\": {\"name\": \"us-south-1\"}}, "
+            + "{\"id\": \"2\", \"name\": \"my-subnet\", \"created_at\": \"2019-01-01T12:00:00.000Z\", "
+            + "\"vpc\": {\"id\": \"vpc-1\"}, \"zone\": {\"name\": \"us-south-1\"}}, "
+            + "{\"id\": \"3\", \"name\": \"my-subnet\", \"created_at\": \"" + now + "\"}]}");
+        answers.add(201);
+        Response response = execute(interceptor, create(body));
+        assertEquals(response.code(), 201);
+        assertEquals(interceptor.getDeduplicatedCount(), 0);
+        assertEquals(requests.size(), 3);
+        assertEquals(requests.get(2).method(), "POST");
+
+        // The resource in the same VPC and zone, created after the first attempt, is returned.
+        requests.clear();
+        answers.add(502);
+        answers.add("{\"things\": [{\"id\": \"1\", \"name\": \"my-subnet\", \"created_at\": \"" + now
+            + "\", \"vpc\": {\"id\": \"vpc-2\"}, \"zone\": {\"name\": \"us-south-1\"}}, "
+            + "{\"id\": \"4\", \"name\": \"my-subnet\", \"created_at\": \"" + now
+            + "\", \"vpc\": {\"crn\": \"crn:vpc-1\", \"id\": \"vpc-1\"}, \"zone\": {\"name\": \"us-south-1\"}}]}");
+        response = client(interceptor).newCall(create(body)).execute();
+        assertEquals(response.code(), 201);
+        assertTrue(response.body().string().contains("\"id\":\"4\""));
+        assertEquals(interceptor.getDeduplicatedCount(), 1);
+        assertEquals(requests.size(), 2);
+    }
+
+    @Test
+    public void testCreationDateIsComparedOnTheServerClock() throws IOException {
+        // The local clock is an hour ahead of the clock of the server.
+        Instant serverNow = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+        serverDate = serverNow;
+        String things = "{\"things\": [{\"id\": \"1\", \"name\": \"my-thing\", \"created_at\": \""
+            + serverNow.minus(1, ChronoUnit.HOURS) + "\"}, {\"id\": \"2\", \"name\": \"my-thing\", "
+            + "\"created_at\": \"" + serverNow + "\"}]}";
+        RetryInterceptor interceptor = builder().build();
+        answers.addAll(Arrays.asList(502, things));
+        Response response = client(interceptor).newCall(create("{\"name\": \"my-thing\"}")).execute();
+        assertEquals(response.code(), 201);
+        assertTrue(response.body().string().contains("\"id\":\"2\""));
+        assertEquals(interceptor.getDeduplicatedCount(), 1);
+
+        // Without a Date header, the creation date is compared with the local clock, minus the maximum skew.
+        serverDate = null;
+        requests.clear();
+        answers.addAll(Arrays.asList(502, things, 201));
+        assertEquals(execute(interceptor, create("{\"name\": \"my-thing\"}")).code(), 201);
+        assertEquals(requests.get(2).method(), "POST");
+        assertEquals(interceptor.getDeduplicatedCount(), 1);
+
+        RetryInterceptor tolerant = builder().maxClockSkew(2, TimeUnit.HOURS).build();
+        answers.addAll(Arrays.asList(502, things));
+        response = client(tolerant).newCall(create("{\"name\": \"my-thing\"}")).execute();
+        assertEquals(response.code(), 201);
+        assertEquals(tolerant.getDeduplicatedCount(), 1);
+    }
+
+    @Test
+    public void testBudget() throws IOException {
+        RetryBudget budget = new RetryBudget(0.5, 1);
+        RetryInterceptor interceptor = builder().budget(budget).build();
+        answers.addAll(Arrays.asList(500, 500, 500));
+        assertEquals(execute(interceptor, get()).code(), 500);
+        assertEquals(requests.size(), 2);
+        assertEquals(interceptor.getBudgetExhaustedCount(), 1);
+
+        // The deposit of the request could not exceed the maximum; each request deposits half a token.
+        assertEquals(budget.getTokens(), 0.0);
+        budget.deposit();
+        assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    public void testClassification() {
+        assertEquals(Idempotency.of("GET", "listThings"), Idempotency.SAFE);
+        assertEquals(Idempotency.of("PATCH", "updateThing"), Idempotency.IDEMPOTENT);
+        assertEquals(Idempotency.of("PUT", "addThingPort"), Idempotency.IDEMPOTENT);
+        assertEquals(Idempotency.of("DELETE", "deleteThing"), Idempotency.DELETE);
+        assertEquals(Idempotency.of("POST", "createThing"), Idempotency.CREATE);
+        assertEquals(Idempotency.of("POST", null), Idempotency.UNSAFE);
+
+        RetryInterceptor interceptor = builder().idempotency("createThing", Idempotency.UNSAFE).build();
+        assertEquals(interceptor.classify(create("{}")), Idempotency.UNSAFE);
+        assertEquals(interceptor.classify(new Request.Builder().url(SERVICE_URL).post(RequestBody.create(JSON, "{}"))
+            .build()), Idempotency.UNSAFE);
+    }
+
+    @Test
+    public void testRetryAfterAboveMaximumIsNotRetried() throws IOException {
+        RetryInterceptor interceptor = builder().maxRetryAfter(1, TimeUnit.SECONDS).build();
+        answers.add(429);
+        assertEquals(execute(interceptor, get()).code(), 429);
+        assertEquals(requests.size(), 1);
+    }
+}
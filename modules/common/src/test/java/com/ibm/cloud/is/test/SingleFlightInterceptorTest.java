@@ -0,0 +1,244 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.http.SingleFlightInterceptor;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * This class contains tests for the SingleFlightInterceptor class.
+ */
+public class SingleFlightInterceptorTest {
+
+    private static final String URL = "https://localhost/v1/vpcs/vpc-1?version=2021-05-06&generation=2";
+
+    private final AtomicInteger sent = new AtomicInteger();
+    private volatile CountDownLatch release;
+    private volatile boolean fail;
+    private SingleFlightInterceptor interceptor;
+    private OkHttpClient client;
+    private ExecutorService executor;
+
+    // Answers like a server, without a network connection, once the test releases the latch; a cancelled request
+    // fails like a closed socket.
+    private final Interceptor server = chain -> {
+        sent.incrementAndGet();
+        try {
+            for (int i = 0; i < 2000 && !release.await(5, TimeUnit.MILLISECONDS); i++) {
+                if (chain.call().isCanceled()) {
+                    throw new IOException("Canceled");
+                }
+            }
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+        if (fail) {
+            throw new IOException("connection reset");
+        }
+        return new Response.Builder()
+            .request(chain.request())
+            .protocol(Protocol.HTTP_1_1)
+            .code(200)
+            .message("OK")
+            .body(ResponseBody.create(MediaType.parse("application/json"), "{\"id\": \"vpc-1\"}"))
+            .build();
+    };
+
+    @BeforeMethod
+    public void setUp() {
+        sent.set(0);
+        release = new CountDownLatch(1);
+        fail = false;
+        interceptor = new SingleFlightInterceptor();
+        client = new OkHttpClient.Builder().addInterceptor(interceptor).addInterceptor(server).build();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Future<String> get(String authorization) {
+        return execute(newCall(client, authorization));
+    }
+
+    private static Call newCall(OkHttpClient client, String authorization) {
+        return client.newCall(new Request.Builder().url(URL).header("Authorization", authorization).build());
+    }
+
+    private Future<String> execute(Call call) {
+        return executor.submit(() -> {
+            try (Response response = call.execute()) {
+                return response.body().string();
+            }
+        });
+    }
+
+    private static void assertFails(Future<String> response, Class<? extends IOException> type) throws Exception {
+        try {
+            response.get(5, TimeUnit.SECONDS);
+            fail("Expected an ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(type.isInstance(e.getCause()), String.valueOf(e.getCause()));
+        }
+    }
+
+    private void awaitCoalesced(long count) throws InterruptedException {
+        for (int i = 0; i < 1000 && interceptor.getCoalescedCount() < count; i++) {
+            Thread.sleep(5);
+        }
+        assertEquals(interceptor.getCoalescedCount(), count);
+    }
+
+    @Test
+    public void testIdenticalRequestsAreCoalesced() throws Exception {
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            responses.add(get("Bearer a"));
+        }
+        awaitCoalesced(4);
+        release.countDown();
+        for (Future<String> response : responses) {
+            assertEquals(response.get(10, TimeUnit.SECONDS), "{\"id\": \"vpc-1\"}");
+        }
+        assertEquals(sent.get(), 1);
+        assertEquals(interceptor.getExecutedCount(), 1);
+        assertEquals(interceptor.getInFlightCount(), 0);
+
+        // Once the response has been received, the next request is sent again.
+        assertEquals(get("Bearer a").get(10, TimeUnit.SECONDS), "{\"id\": \"vpc-1\"}");
+        assertEquals(sent.get(), 2);
+    }
+
+    @Test
+    public void testDifferentPrincipalsAreNotCoalesced() throws Exception {
+        Future<String> first = get("Bearer a");
+        Future<String> second = get("Bearer b");
+        for (int i = 0; i < 1000 && sent.get() < 2; i++) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        assertEquals(sent.get(), 2);
+        assertEquals(interceptor.getCoalescedCount(), 0);
+    }
+
+    @Test
+    public void testFailureIsShared() throws Exception {
+        fail = true;
+        Future<String> first = get("Bearer a");
+        Future<String> second = get("Bearer a");
+        awaitCoalesced(1);
+        release.countDown();
+        for (Future<String> response : Arrays.asList(first, second)) {
+            try {
+                response.get(10, TimeUnit.SECONDS);
+                fail("Expected an ExecutionException");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        }
+        assertEquals(sent.get(), 1);
+    }
+
+    @Test
+    public void testCancelledRequestStopsWaiting() throws Exception {
+        Future<String> first = get("Bearer a");
+        awaitSent(1);
+        Call call = newCall(client, "Bearer a");
+        Future<String> second = execute(call);
+        awaitCoalesced(1);
+        call.cancel();
+        assertFails(second, IOException.class);
+        assertFalse(first.isDone());
+
+        release.countDown();
+        assertEquals(first.get(10, TimeUnit.SECONDS), "{\"id\": \"vpc-1\"}");
+        assertEquals(sent.get(), 1);
+    }
+
+    @Test
+    public void testWaitIsBoundedByTimeouts() throws Exception {
+        Future<String> first = get("Bearer a");
+        awaitSent(1);
+        OkHttpClient impatient = client.newBuilder()
+            .connectTimeout(100, TimeUnit.MILLISECONDS)
+            .writeTimeout(100, TimeUnit.MILLISECONDS)
+            .readTimeout(100, TimeUnit.MILLISECONDS)
+            .build();
+        Future<String> second = execute(newCall(impatient, "Bearer a"));
+        assertFails(second, SocketTimeoutException.class);
+        assertFalse(first.isDone());
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testLeaderCancellationIsNotShared() throws Exception {
+        Call call = newCall(client, "Bearer a");
+        Future<String> first = execute(call);
+        awaitSent(1);
+        Future<String> second = get("Bearer a");
+        awaitCoalesced(1);
+        call.cancel();
+        assertFails(first, IOException.class);
+
+        // The waiting request is sent instead.
+        awaitSent(2);
+        release.countDown();
+        assertEquals(second.get(10, TimeUnit.SECONDS), "{\"id\": \"vpc-1\"}");
+        assertEquals(interceptor.getExecutedCount(), 2);
+        assertEquals(interceptor.getCoalescedCount(), 0);
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        for (int i = 0; i < 1000 && sent.get() < count; i++) {
+            Thread.sleep(5);
+        }
+        assertEquals(sent.get(), count);
+    }
+}
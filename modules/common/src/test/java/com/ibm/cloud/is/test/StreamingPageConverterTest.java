@@ -0,0 +1,125 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.paging.StreamingPage;
+import com.ibm.cloud.is.common.paging.StreamingPageConverter;
+
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * This class contains tests for the StreamingPageConverter and StreamingPage classes.
+ */
+public class StreamingPageConverterTest {
+
+    /**
+     * A minimal resource model.
+     */
+    static class Thing {
+        String id;
+        Long size;
+    }
+
+    private final StreamingPageConverter<Thing> converter = new StreamingPageConverter<>("things", Thing.class);
+
+    private static Response response(BufferedSource source) {
+        return MockServiceCall.httpResponse(200).newBuilder()
+            .body(ResponseBody.create(MediaType.parse("application/json"), -1, source))
+            .build();
+    }
+
+    private static BufferedSource source(String json) {
+        Source body = new Buffer().writeUtf8(json);
+        return Okio.buffer(body);
+    }
+
+    private static List<String> ids(StreamingPage<Thing> page) {
+        List<String> ids = new ArrayList<>();
+        while (page.hasNext()) {
+            ids.add(page.next().id);
+        }
+        return ids;
+    }
+
+    @Test
+    public void testNextBeforeItems() {
+        StreamingPage<Thing> page = converter.convert(response(source(
+            "{\"limit\":2,\"next\":{\"href\":\"https://localhost/v1/things?start=abc\"},"
+            + "\"things\":[{\"id\":\"a\",\"size\":1},{\"id\":\"b\"}],\"total_count\":3}")));
+        assertEquals(page.getNextHref(), "https://localhost/v1/things?start=abc");
+        assertEquals(ids(page), Arrays.asList("a", "b"));
+        assertEquals(page.getNextHref(), "https://localhost/v1/things?start=abc");
+    }
+
+    @Test
+    public void testNextAfterItems() {
+        StreamingPage<Thing> page = converter.convert(response(source(
+            "{\"things\":[{\"id\":\"a\",\"nested\":{\"things\":[1,2]}},{\"id\":\"b\"}],"
+            + "\"next\":{\"extra\":true,\"href\":\"/v1/things?start=def\"},\"first\":{\"href\":\"x\"}}")));
+        assertTrue(page.hasNext());
+        assertEquals(page.next().id, "a");
+        assertNull(page.getNextHref());
+        assertEquals(page.next().id, "b");
+        assertFalse(page.hasNext());
+        assertEquals(page.getNextHref(), "/v1/things?start=def");
+    }
+
+    @Test
+    public void testLastPage() {
+        StreamingPage<Thing> page = converter.convert(response(source("{\"things\":[{\"id\":\"a\"}],\"limit\":50}")));
+        assertEquals(ids(page), Arrays.asList("a"));
+        assertNull(page.getNextHref());
+    }
+
+    @Test
+    public void testMissingOrNullItems() {
+        assertFalse(converter.convert(response(source("{\"limit\":50}"))).hasNext());
+        assertFalse(converter.convert(response(source("{\"things\":null,\"limit\":50}"))).hasNext());
+        assertFalse(converter.convert(response(source("{\"things\":[]}"))).hasNext());
+    }
+
+    @Test
+    public void testBodyClosed() {
+        BufferedSource exhausted = source("{\"things\":[{\"id\":\"a\"}]}");
+        StreamingPage<Thing> page = converter.convert(response(exhausted));
+        ids(page);
+        assertFalse(exhausted.isOpen());
+
+        BufferedSource abandoned = source("{\"things\":[{\"id\":\"a\"},{\"id\":\"b\"}]}");
+        page = converter.convert(response(abandoned));
+        assertEquals(page.next().id, "a");
+        assertTrue(abandoned.isOpen());
+        page.close();
+        assertFalse(abandoned.isOpen());
+        assertFalse(page.hasNext());
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.http.RetryAfter;
+import com.ibm.cloud.is.common.throttle.OperationClass;
+import com.ibm.cloud.is.common.throttle.ThrottleLimits;
+import com.ibm.cloud.is.common.throttle.ThrottlingInterceptor;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * This class contains tests for the ThrottlingInterceptor and RetryAfter classes.
+ */
+public class ThrottlingInterceptorTest {
+
+    private static final String US_SOUTH = "https://us-south.iaas.cloud.ibm.com/v1";
+    private static final String EU_DE = "https://eu-de.iaas.cloud.ibm.com/v1";
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final List<Integer> statusCodes = new ArrayList<>();
+    private String retryAfter;
+
+    // Answers with the queued status codes (200 when the queue is empty), without a network connection.
+    private final Interceptor server = chain -> {
+        int code = statusCodes.isEmpty() ? 200 : statusCodes.remove(0);
+        Response.Builder response = new Response.Builder()
+            .request(chain.request())
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("mock")
+            .body(ResponseBody.create(JSON, "{}"));
+        if (code == 429 && retryAfter != null) {
+            response.header(RetryAfter.RETRY_AFTER, retryAfter);
+        }
+        return response.build();
+    };
+
+    private FakeClock clock;
+
+    @BeforeMethod
+    public void setUp() {
+        statusCodes.clear();
+        retryAfter = null;
+        clock = new FakeClock();
+    }
+
+    private OkHttpClient client(ThrottlingInterceptor interceptor) {
+        return new OkHttpClient.Builder().addInterceptor(interceptor).addInterceptor(server).build();
+    }
+
+    private static int execute(OkHttpClient client, Request request) throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            return response.code();
+        }
+    }
+
+    private static Request get(String serviceUrl) {
+        return new Request.Builder().url(serviceUrl + "/vpcs").build();
+    }
+
+    private static Request post(String serviceUrl) {
+        return new Request.Builder().url(serviceUrl + "/vpcs").post(RequestBody.create(JSON, "{}")).build();
+    }
+
+    @Test
+    public void testRetryAfterPausesEndpoint() throws IOException {
+        ThrottleLimits unlimitedRate = new ThrottleLimits.Builder().initialConcurrency(8).build();
+        ThrottlingInterceptor interceptor = new ThrottlingInterceptor.Builder()
+            .limits(OperationClass.READ, unlimitedRate)
+            .clock(clock)
+            .build();
+        OkHttpClient client = client(interceptor);
+        statusCodes.add(429);
+        retryAfter = "2";
+
+        assertEquals(execute(client, get(US_SOUTH)), 429);
+        assertEquals(interceptor.getThrottledCount(), 1);
+        assertEquals(interceptor.getConcurrencyLimiter(US_SOUTH, OperationClass.READ).getLimit(), 6);
+        assertNull(interceptor.getTokenBucket(US_SOUTH, OperationClass.READ));
+
+        // Other endpoints are not paused.
+        assertEquals(execute(client, get(EU_DE)), 200);
+        assertEquals(clock.getSleeps(), Collections.emptyList());
+
+        assertEquals(execute(client, get(US_SOUTH)), 200);
+        assertEquals(clock.getSleeps(), Arrays.asList(2001L));
+        assertEquals(interceptor.getConcurrencyLimiter(US_SOUTH, OperationClass.READ).getInFlight(), 0);
+    }
+
+    @Test
+    public void testRateLimitsPerEndpointAndOperationClass() throws IOException {
+        ThrottlingInterceptor interceptor = new ThrottlingInterceptor.Builder()
+            .limits(US_SOUTH, OperationClass.MUTATE, new ThrottleLimits.Builder().requestsPerSecond(1).build())
+            .clock(clock)
+            .build();
+        OkHttpClient client = client(interceptor);
+
+        execute(client, post(US_SOUTH));
+        execute(client, get(US_SOUTH));
+        execute(client, post(EU_DE));
+        execute(client, post(EU_DE));
+        assertEquals(clock.getSleeps(), Collections.emptyList());
+
+        execute(client, post(US_SOUTH));
+        assertEquals(clock.getSleeps(), Arrays.asList(1001L));
+        assertEquals(interceptor.getTokenBucket(US_SOUTH, OperationClass.MUTATE).getPermitsPerSecond(), 1.0);
+        assertEquals(interceptor.getTokenBucket(EU_DE, OperationClass.MUTATE).getPermitsPerSecond(), 10.0);
+    }
+
+    @Test
+    public void testRetryAfterIsCapped() throws IOException {
+        ThrottlingInterceptor interceptor = new ThrottlingInterceptor.Builder()
+            .maxRetryAfter(5, TimeUnit.SECONDS)
+            .clock(clock)
+            .build();
+        OkHttpClient client = client(interceptor);
+        statusCodes.add(429);
+        retryAfter = "3600";
+
+        execute(client, get(US_SOUTH));
+        execute(client, get(US_SOUTH));
+        assertEquals(clock.getSleeps(), Arrays.asList(5021L));
+    }
+
+    @Test
+    public void testRetryAfterValues() {
+        long now = 1445412480000L;
+        assertEquals(RetryAfter.getDelayMillis("120", now), 120000);
+        assertEquals(RetryAfter.getDelayMillis("Wed, 21 Oct 2015 07:28:05 GMT", now), 5000);
+        assertEquals(RetryAfter.getDelayMillis("Wed, 21 Oct 2015 07:27:00 GMT", now), 0);
+        assertEquals(RetryAfter.getDelayMillis("soon", now), -1);
+        assertEquals(RetryAfter.getDelayMillis("-1", now), -1);
+        assertEquals(RetryAfter.getDelayMillis(null, now), -1);
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.throttle.TokenBucket;
+
+/**
+ * This class contains tests for the TokenBucket class.
+ */
+public class TokenBucketTest {
+
+    @Test
+    public void testBurstThenRate() throws InterruptedException {
+        FakeClock clock = new FakeClock();
+        TokenBucket bucket = new TokenBucket(10, 2, clock);
+        bucket.acquire();
+        bucket.acquire();
+        assertEquals(clock.getSleeps(), Collections.emptyList());
+        bucket.acquire();
+        assertEquals(clock.getSleeps(), Arrays.asList(101L));
+        assertFalse(bucket.tryAcquire());
+
+        // The bucket does not hold more than its capacity, however long it was idle.
+        clock.advance(10, TimeUnit.SECONDS);
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    public void testPause() throws InterruptedException {
+        FakeClock clock = new FakeClock();
+        TokenBucket bucket = new TokenBucket(10, 2, clock);
+        bucket.pauseUntil(clock.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+        assertEquals(bucket.getPauseRemainingNanos(), TimeUnit.SECONDS.toNanos(1));
+        assertFalse(bucket.tryAcquire());
+
+        // No permits accumulate during the pause: the first one is available one interval after its end.
+        bucket.acquire();
+        assertEquals(clock.getSleeps(), Arrays.asList(1101L));
+        assertEquals(bucket.getPauseRemainingNanos(), 0);
+
+        // An earlier pause does not shorten the current one.
+        bucket.pauseUntil(clock.nanoTime() + TimeUnit.SECONDS.toNanos(2));
+        bucket.pauseUntil(clock.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+        assertEquals(bucket.getPauseRemainingNanos(), TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidRate() {
+        new TokenBucket(0, 1);
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.cache.CacheStats;
+import com.ibm.cloud.is.common.cache.TtlCache;
+
+/**
+ * This class contains tests for the TtlCache class.
+ */
+public class TtlCacheTest {
+
+    private long now;
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    private TtlCache<String, String> newCache(int maximumSize, long staleSeconds) {
+        now = 0;
+        refreshes.clear();
+        return new TtlCache.Builder()
+            .maximumSize(maximumSize)
+            .ttl(10, TimeUnit.SECONDS)
+            .staleWhileRevalidate(staleSeconds, TimeUnit.SECONDS)
+            .refreshExecutor(refreshes::add)
+            .ticker(() -> now)
+            .build();
+    }
+
+    private static Function<String, String> counting(AtomicInteger loads) {
+        return key -> key + "-" + loads.incrementAndGet();
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        TtlCache<String, String> cache = newCache(10, 0);
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals(cache.get("a", counting(loads)), "a-1");
+        assertEquals(cache.get("a", counting(loads)), "a-1");
+        assertEquals(cache.getIfPresent("a"), "a-1");
+        assertNull(cache.getIfPresent("b"));
+        CacheStats stats = cache.stats();
+        assertEquals(stats.getMissCount(), 1);
+        assertEquals(stats.getHitCount(), 2);
+        assertEquals(stats.getHitRate(), 2.0 / 3);
+    }
+
+    @Test
+    public void testExpiry() {
+        TtlCache<String, String> cache = newCache(10, 0);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", counting(loads));
+        now = TimeUnit.SECONDS.toNanos(10);
+        assertEquals(cache.get("a", counting(loads)), "a-2");
+        assertEquals(cache.stats().getMissCount(), 2);
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() {
+        TtlCache<String, String> cache = newCache(10, 60);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", counting(loads));
+        now = TimeUnit.SECONDS.toNanos(15);
+        // The stale value is returned, and a single refresh is scheduled.
+        assertEquals(cache.get("a", counting(loads)), "a-1");
+        assertEquals(cache.getIfPresent("a"), "a-1");
+        assertEquals(refreshes.size(), 1);
+        refreshes.get(0).run();
+        assertEquals(cache.get("a", counting(loads)), "a-2");
+        CacheStats stats = cache.stats();
+        assertEquals(stats.getStaleHitCount(), 2);
+        assertEquals(stats.getRefreshCount(), 1);
+        assertEquals(stats.getHitCount(), 1);
+
+        // Past the stale-while-revalidate window, the value is loaded again.
+        now += TimeUnit.SECONDS.toNanos(70);
+        assertEquals(cache.get("a", counting(loads)), "a-3");
+    }
+
+    @Test
+    public void testRefreshFailureKeepsStaleValue() {
+        TtlCache<String, String> cache = newCache(10, 60);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IllegalStateException("unavailable");
+            }
+            return "a";
+        });
+        now = TimeUnit.SECONDS.toNanos(15);
+        assertEquals(cache.getIfPresent("a"), "a");
+        refreshes.get(0).run();
+        assertEquals(cache.getIfPresent("a"), "a");
+        assertEquals(cache.stats().getRefreshFailureCount(), 1);
+        // A new refresh is attempted by the next lookup.
+        assertEquals(refreshes.size(), 2);
+    }
+
+    @Test
+    public void testRefreshErrorKeepsStaleValue() {
+        TtlCache<String, String> cache = newCache(10, 60);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> {
+            if (loads.incrementAndGet() == 2) {
+                throw new OutOfMemoryError();
+            }
+            return "a-" + loads.get();
+        });
+        now = TimeUnit.SECONDS.toNanos(15);
+        assertEquals(cache.getIfPresent("a"), "a-1");
+        try {
+            refreshes.get(0).run();
+            fail("The error was not propagated");
+        } catch (OutOfMemoryError e) {
+            // expected
+        }
+        assertEquals(cache.stats().getRefreshFailureCount(), 1);
+        // The entry is no longer being refreshed, so the next lookup refreshes it again.
+        assertEquals(cache.getIfPresent("a"), "a-1");
+        assertEquals(refreshes.size(), 2);
+        refreshes.get(1).run();
+        assertEquals(cache.getIfPresent("a"), "a-3");
+    }
+
+    @Test
+    public void testRefreshIsSubmittedWithoutTheLock() {
+        List<TtlCache<String, String>> caches = new ArrayList<>();
+        List<Boolean> lockHeld = new ArrayList<>();
+        TtlCache<String, String> cache = new TtlCache.Builder()
+            .ttl(10, TimeUnit.SECONDS)
+            .staleWhileRevalidate(60, TimeUnit.SECONDS)
+            .refreshExecutor(refresh -> lockHeld.add(Thread.holdsLock(caches.get(0))))
+            .ticker(() -> now)
+            .build();
+        caches.add(cache);
+        now = 0;
+        cache.get("a", key -> "a");
+        now = TimeUnit.SECONDS.toNanos(15);
+        cache.get("a", key -> "a");
+        assertEquals(lockHeld, Collections.singletonList(false));
+    }
+
+    @Test
+    public void testLoadInvalidatedInFlightIsNotCached() {
+        TtlCache<String, String> cache = newCache(10, 0);
+        AtomicInteger loads = new AtomicInteger();
+        // The value is invalidated (e.g. after a mutation) while it is being loaded.
+        assertEquals(cache.get("a", key -> {
+            cache.invalidate(key);
+            return key + "-" + loads.incrementAndGet();
+        }), "a-1");
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(cache.get("a", counting(loads)), "a-2");
+
+        assertEquals(cache.get("b", key -> {
+            cache.invalidateAll();
+            return key + "-" + loads.incrementAndGet();
+        }), "b-3");
+        assertNull(cache.getIfPresent("b"));
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        TtlCache<String, String> cache = newCache(2, 0);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", counting(loads));
+        cache.get("b", counting(loads));
+        cache.get("a", counting(loads));
+        cache.get("c", counting(loads));
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.getIfPresent("a"), "a-1");
+        assertNull(cache.getIfPresent("b"));
+        assertEquals(cache.stats().getEvictionCount(), 1);
+    }
+
+    @Test
+    public void testLoadFailure() {
+        TtlCache<String, String> cache = newCache(10, 0);
+        try {
+            cache.get("a", key -> {
+                throw new IllegalStateException("unavailable");
+            });
+            fail("Expected an IllegalStateException");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(cache.stats().getLoadFailureCount(), 1);
+        assertNull(cache.get("a", key -> null));
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testInvalidate() {
+        TtlCache<String, String> cache = newCache(10, 0);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.invalidate("a");
+        assertNull(cache.getIfPresent("a"));
+        cache.invalidateAll();
+        assertEquals(cache.size(), 0);
+    }
+}
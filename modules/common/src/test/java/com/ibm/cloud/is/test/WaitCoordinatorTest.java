@@ -0,0 +1,210 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.waiters.WaitCoordinator;
+import com.ibm.cloud.is.common.waiters.WaiterFailureException;
+import com.ibm.cloud.is.common.waiters.WaiterTimeoutException;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+
+/**
+ * This class contains tests for the WaitCoordinator class.
+ */
+public class WaitCoordinatorTest {
+
+    // The resources are the entries of the map: the key is the id and the value the status.
+    private final Map<String, String> resources = new ConcurrentHashMap<>();
+    private final AtomicInteger scans = new AtomicInteger();
+    private final AtomicInteger listed = new AtomicInteger();
+    // The status codes with which the next scans of the "flaky" scope fail.
+    private final Deque<Integer> scanErrors = new ConcurrentLinkedDeque<>();
+    private ScheduledExecutorService scheduler;
+    private WaitCoordinator<String, Map.Entry<String, String>> coordinator;
+
+    @BeforeMethod
+    public void setUp() {
+        resources.clear();
+        scans.set(0);
+        listed.set(0);
+        scanErrors.clear();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        coordinator = new WaitCoordinator.Builder<String, Map.Entry<String, String>>(scope -> {
+            scans.incrementAndGet();
+            if ("broken".equals(scope)) {
+                throw new IllegalStateException("scan failed");
+            }
+            Integer error = "flaky".equals(scope) ? scanErrors.pollFirst() : null;
+            if (error != null) {
+                throw new ServiceResponseException(error, MockServiceCall.httpResponse(error).newBuilder()
+                    .body(ResponseBody.create(MediaType.parse("application/json"), "{\"errors\": []}"))
+                    .build());
+            }
+            return new ArrayList<>(resources.entrySet()).stream().peek(e -> listed.incrementAndGet());
+        }, Map.Entry::getKey, Map.Entry::getValue)
+            .scheduler(scheduler)
+            .interval(5, TimeUnit.MILLISECONDS)
+            .build();
+    }
+
+    @AfterMethod
+    public void tearDown() throws InterruptedException {
+        // A scan which is still running would otherwise count in the next test.
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private CompletableFuture<Map.Entry<String, String>> waitUntilRunning(String scope, String id) {
+        return coordinator.waitFor(scope, id, Collections.singleton("running"), Collections.singleton("failed"),
+            1, TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void testWaitsShareScans() throws Exception {
+        List<CompletableFuture<Map.Entry<String, String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            resources.put("r" + i, "pending");
+            futures.add(waitUntilRunning("vpc", "r" + i));
+        }
+        assertEquals(coordinator.getPendingCount(), 50);
+        Thread.sleep(50);
+        for (int i = 0; i < 50; i++) {
+            resources.put("r" + i, "running");
+        }
+        for (CompletableFuture<Map.Entry<String, String>> future : futures) {
+            assertEquals(future.get(10, TimeUnit.SECONDS).getValue(), "running");
+        }
+        assertTrue(scans.get() < 50, "scans: " + scans.get());
+        assertEquals(coordinator.getPendingCount(), 0);
+    }
+
+    @Test
+    public void testScanStopsWhenAllResourcesFound() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            resources.put("r" + i, "running");
+        }
+        String first = resources.keySet().iterator().next();
+        waitUntilRunning("vpc", first).get(10, TimeUnit.SECONDS);
+        assertEquals(scans.get(), 1);
+        assertEquals(listed.get(), 1);
+    }
+
+    @Test
+    public void testFailureState() throws Exception {
+        resources.put("r1", "failed");
+        try {
+            waitUntilRunning("vpc", "r1").get(10, TimeUnit.SECONDS);
+            fail("Expected an ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof WaiterFailureException);
+            assertEquals(((WaiterFailureException) e.getCause()).getLastStatus(), "failed");
+        }
+    }
+
+    @Test
+    public void testDeletion() throws Exception {
+        resources.put("r1", "deleting");
+        resources.put("r2", "running");
+        CompletableFuture<Map.Entry<String, String>> deletion =
+            coordinator.waitForDeletion("vpc", "r1", Collections.singleton("failed"), 1, TimeUnit.MINUTES);
+        Thread.sleep(30);
+        assertTrue(!deletion.isDone());
+        resources.remove("r1");
+        assertNull(deletion.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        resources.put("r1", "pending");
+        try {
+            coordinator.waitFor("vpc", "r1", Collections.singleton("running"), null, 0, TimeUnit.SECONDS)
+                .get(10, TimeUnit.SECONDS);
+            fail("Expected an ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof WaiterTimeoutException);
+            assertEquals(((WaiterTimeoutException) e.getCause()).getLastStatus(), "pending");
+        }
+        assertEquals(coordinator.getPendingCount(), 0);
+    }
+
+    @Test
+    public void testScanFailure() throws Exception {
+        try {
+            waitUntilRunning("broken", "r1").get(10, TimeUnit.SECONDS);
+            fail("Expected an ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        // The waits only fail after the default number of consecutive failures.
+        assertEquals(scans.get(), 3);
+        assertEquals(coordinator.getScanFailureCount(), 3);
+    }
+
+    @Test
+    public void testTransientScanFailureIsRetried() throws Exception {
+        resources.put("r1", "running");
+        scanErrors.add(503);
+        scanErrors.add(429);
+        assertEquals(waitUntilRunning("flaky", "r1").get(10, TimeUnit.SECONDS).getValue(), "running");
+        assertEquals(scans.get(), 3);
+        assertEquals(coordinator.getScanFailureCount(), 2);
+    }
+
+    @Test
+    public void testClientErrorFailsScan() throws Exception {
+        resources.put("r1", "running");
+        scanErrors.add(404);
+        try {
+            waitUntilRunning("flaky", "r1").get(10, TimeUnit.SECONDS);
+            fail("Expected an ExecutionException");
+        } catch (ExecutionException e) {
+            assertEquals(((ServiceResponseException) e.getCause()).getStatusCode(), 404);
+        }
+        assertEquals(scans.get(), 1);
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        resources.put("r1", "pending");
+        CompletableFuture<Map.Entry<String, String>> future = waitUntilRunning("vpc", "r1");
+        future.cancel(false);
+        assertEquals(coordinator.getPendingCount(), 0);
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright 2021 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package com.ibm.cloud.is.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.is.common.waiters.Backoff;
+import com.ibm.cloud.is.common.waiters.Waiter;
+import com.ibm.cloud.is.common.waiters.WaiterFailureException;
+import com.ibm.cloud.is.common.waiters.WaiterTimeoutException;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.service.exception.NotFoundException;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+
+/**
+ * This class contains tests for the Waiter and Backoff classes.
+ */
+public class WaiterTest {
+
+    private static Waiter.Builder<String> waiter(FakeClock clock, String... statuses) {
+        Iterator<String> iterator = Arrays.asList(statuses).iterator();
+        return new Waiter.Builder<String>(() -> {
+            String status = iterator.next();
+            if (status == null) {
+                return notFound();
+            }
+            return new MockServiceCall<>(status);
+        }, Function.identity()).backoff(new Backoff(100, 400, 2.0)).clock(clock);
+    }
+
+    private static ServiceCall<String> notFound() {
+        return new MockServiceCall<String>(null) {
+            @Override
+            public Response<String> execute() {
+                throw new NotFoundException(new okhttp3.Response.Builder()
+                    .request(MockServiceCall.httpResponse(404).request())
+                    .protocol(okhttp3.Protocol.HTTP_1_1)
+                    .code(404)
+                    .message("Not Found")
+                    .body(ResponseBody.create(MediaType.parse("application/json"),
+                        "{\"errors\":[{\"message\":\"not found\"}]}"))
+                    .build());
+            }
+        };
+    }
+
+    @Test
+    public void testSuccess() {
+        FakeClock clock = new FakeClock();
+        String result = waiter(clock, "pending", "starting", "running")
+            .successStates("running")
+            .failureStates("failed")
+            .build().run();
+        assertEquals(result, "running");
+        assertEquals(clock.getSleeps().size(), 3);
+        assertEquals(clock.getSleeps().get(0), Long.valueOf(100));
+        assertTrue(clock.getSleeps().get(1) >= 100 && clock.getSleeps().get(1) <= 200);
+        assertTrue(clock.getSleeps().get(2) >= 100 && clock.getSleeps().get(2) <= 400);
+    }
+
+    @Test
+    public void testFailureStateStopsImmediately() {
+        FakeClock clock = new FakeClock();
+        try {
+            waiter(clock, "pending", "failed", "running")
+                .successStates("running")
+                .failureStates("failed")
+                .build().run();
+            fail("Expected a WaiterFailureException");
+        } catch (WaiterFailureException e) {
+            assertEquals(e.getLastStatus(), "failed");
+            assertEquals(e.getLastResource(), "failed");
+            assertEquals(e.getAttempts(), 2);
+        }
+    }
+
+    @Test
+    public void testTimeout() {
+        FakeClock clock = new FakeClock();
+        String[] statuses = new String[100];
+        Arrays.fill(statuses, "pending");
+        try {
+            waiter(clock, statuses)
+                .successStates("running")
+                .timeout(1, TimeUnit.SECONDS)
+                .build().run();
+            fail("Expected a WaiterTimeoutException");
+        } catch (WaiterTimeoutException e) {
+            assertEquals(e.getLastStatus(), "pending");
+            assertEquals(e.getAttempts(), clock.getSleeps().size());
+        }
+        // The waiter never sleeps past the deadline, and the last poll happens at the deadline.
+        assertEquals(clock.nanoTime(), TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    public void testUntilNotFound() {
+        FakeClock clock = new FakeClock();
+        String result = waiter(clock, "deleting", "deleting", null)
+            .failureStates("failed")
+            .untilNotFound()
+            .build().run();
+        assertNull(result);
+        assertEquals(clock.getSleeps().size(), 3);
+    }
+
+    @Test(expectedExceptions = NotFoundException.class)
+    public void testNotFoundPropagated() {
+        waiter(new FakeClock(), "pending", null)
+            .successStates("running")
+            .build().run();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testSuccessStateRequired() {
+        waiter(new FakeClock()).build();
+    }
+
+    @Test
+    public void testBackoff() {
+        Backoff backoff = new Backoff(1000, 15000, 2.0);
+        assertEquals(backoff.getCeilingMillis(0), 1000);
+        assertEquals(backoff.getCeilingMillis(3), 8000);
+        assertEquals(backoff.getCeilingMillis(4), 15000);
+        assertEquals(backoff.getCeilingMillis(1000), 15000);
+        for (int attempt = 0; attempt < 10; attempt++) {
+            long delay = backoff.getDelayMillis(attempt);
+            assertTrue(delay >= 1000 && delay <= backoff.getCeilingMillis(attempt));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidBackoff() {
+        new Backoff(1000, 500, 2.0);
+    }
+}
@@ -0,0 +1,3707 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+import com.ibm.cloud.is.common.async.AsyncLimiter;
+import com.ibm.cloud.is.common.async.BlockingCallExecutors;
+import com.ibm.cloud.is.common.async.KeyedAsyncLimiter;
+import com.ibm.cloud.is.common.async.ServiceCallFutures;
+import com.ibm.cloud.is.vpc.v1.model.AddEndpointGatewayIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.AddInstanceNetworkInterfaceFloatingIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.AddSecurityGroupNetworkInterfaceOptions;
+import com.ibm.cloud.is.vpc.v1.model.AddVpnGatewayConnectionLocalCidrOptions;
+import com.ibm.cloud.is.vpc.v1.model.AddVpnGatewayConnectionPeerCidrOptions;
+import com.ibm.cloud.is.vpc.v1.model.AddressPrefix;
+import com.ibm.cloud.is.vpc.v1.model.AddressPrefixCollection;
+import com.ibm.cloud.is.vpc.v1.model.CheckVpnGatewayConnectionLocalCidrOptions;
+import com.ibm.cloud.is.vpc.v1.model.CheckVpnGatewayConnectionPeerCidrOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateDedicatedHostGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateDedicatedHostOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateEndpointGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateFloatingIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateFlowLogCollectorOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateIkePolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateImageOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceActionOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceConsoleAccessTokenOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceGroupManagerActionOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceGroupManagerOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceGroupManagerPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceNetworkInterfaceOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceTemplateOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateInstanceVolumeAttachmentOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateIpsecPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateKeyOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateLoadBalancerListenerOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateLoadBalancerListenerPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateLoadBalancerListenerPolicyRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateLoadBalancerOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateLoadBalancerPoolMemberOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateLoadBalancerPoolOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateNetworkAclOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateNetworkAclRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreatePublicGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateSecurityGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateSecurityGroupRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateSecurityGroupTargetBindingOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateSubnetOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateSubnetReservedIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateVolumeOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateVpcAddressPrefixOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateVpcOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateVpcRouteOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateVpcRoutingTableOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateVpcRoutingTableRouteOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateVpnGatewayConnectionOptions;
+import com.ibm.cloud.is.vpc.v1.model.CreateVpnGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHost;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostCollection;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostDisk;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostDiskCollection;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostGroup;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostGroupCollection;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostProfile;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.DefaultNetworkACL;
+import com.ibm.cloud.is.vpc.v1.model.DefaultRoutingTable;
+import com.ibm.cloud.is.vpc.v1.model.DefaultSecurityGroup;
+import com.ibm.cloud.is.vpc.v1.model.DeleteDedicatedHostGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteDedicatedHostOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteEndpointGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteFloatingIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteFlowLogCollectorOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteIkePolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteImageOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceGroupLoadBalancerOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceGroupManagerActionOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceGroupManagerOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceGroupManagerPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceGroupMembershipOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceGroupMembershipsOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceNetworkInterfaceOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceTemplateOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteInstanceVolumeAttachmentOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteIpsecPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteKeyOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteLoadBalancerListenerOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteLoadBalancerListenerPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteLoadBalancerListenerPolicyRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteLoadBalancerOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteLoadBalancerPoolMemberOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteLoadBalancerPoolOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteNetworkAclOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteNetworkAclRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeletePublicGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteSecurityGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteSecurityGroupRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteSecurityGroupTargetBindingOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteSubnetOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteSubnetReservedIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteVolumeOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteVpcAddressPrefixOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteVpcOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteVpcRouteOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteVpcRoutingTableOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteVpcRoutingTableRouteOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteVpnGatewayConnectionOptions;
+import com.ibm.cloud.is.vpc.v1.model.DeleteVpnGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.EndpointGateway;
+import com.ibm.cloud.is.vpc.v1.model.EndpointGatewayCollection;
+import com.ibm.cloud.is.vpc.v1.model.FloatingIP;
+import com.ibm.cloud.is.vpc.v1.model.FloatingIPCollection;
+import com.ibm.cloud.is.vpc.v1.model.FloatingIPUnpaginatedCollection;
+import com.ibm.cloud.is.vpc.v1.model.FlowLogCollector;
+import com.ibm.cloud.is.vpc.v1.model.FlowLogCollectorCollection;
+import com.ibm.cloud.is.vpc.v1.model.GetDedicatedHostDiskOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetDedicatedHostGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetDedicatedHostOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetDedicatedHostProfileOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetEndpointGatewayIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetEndpointGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetFloatingIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetFlowLogCollectorOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetIkePolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetImageOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceDiskOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceGroupManagerActionOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceGroupManagerOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceGroupManagerPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceGroupMembershipOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceInitializationOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceNetworkInterfaceFloatingIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceNetworkInterfaceOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceProfileOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceTemplateOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceVolumeAttachmentOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetIpsecPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetKeyOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerListenerOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerListenerPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerListenerPolicyRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerPoolMemberOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerPoolOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerProfileOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerStatisticsOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetNetworkAclOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetNetworkAclRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetOperatingSystemOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetPublicGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetRegionOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetRegionZoneOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetSecurityGroupNetworkInterfaceOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetSecurityGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetSecurityGroupRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetSecurityGroupTargetOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetSubnetNetworkAclOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetSubnetOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetSubnetPublicGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetSubnetReservedIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetSubnetRoutingTableOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVolumeOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVolumeProfileOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpcAddressPrefixOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpcDefaultNetworkAclOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpcDefaultRoutingTableOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpcDefaultSecurityGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpcOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpcRouteOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpcRoutingTableOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpcRoutingTableRouteOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpnGatewayConnectionOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpnGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.IKEPolicy;
+import com.ibm.cloud.is.vpc.v1.model.IKEPolicyCollection;
+import com.ibm.cloud.is.vpc.v1.model.IPsecPolicy;
+import com.ibm.cloud.is.vpc.v1.model.IPsecPolicyCollection;
+import com.ibm.cloud.is.vpc.v1.model.Image;
+import com.ibm.cloud.is.vpc.v1.model.ImageCollection;
+import com.ibm.cloud.is.vpc.v1.model.Instance;
+import com.ibm.cloud.is.vpc.v1.model.InstanceAction;
+import com.ibm.cloud.is.vpc.v1.model.InstanceCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceConsoleAccessToken;
+import com.ibm.cloud.is.vpc.v1.model.InstanceDisk;
+import com.ibm.cloud.is.vpc.v1.model.InstanceDiskCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroup;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManager;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerAction;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerActionsCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerPolicy;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerPolicyCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupMembership;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupMembershipCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceInitialization;
+import com.ibm.cloud.is.vpc.v1.model.InstanceProfile;
+import com.ibm.cloud.is.vpc.v1.model.InstanceProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceTemplate;
+import com.ibm.cloud.is.vpc.v1.model.InstanceTemplateCollection;
+import com.ibm.cloud.is.vpc.v1.model.Key;
+import com.ibm.cloud.is.vpc.v1.model.KeyCollection;
+import com.ibm.cloud.is.vpc.v1.model.ListDedicatedHostDisksOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListDedicatedHostGroupsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListDedicatedHostProfilesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListDedicatedHostsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListEndpointGatewayIpsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListEndpointGatewaysOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListFloatingIpsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListFlowLogCollectorsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListIkePoliciesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListIkePolicyConnectionsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListImagesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceDisksOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceGroupManagerActionsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceGroupManagerPoliciesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceGroupManagersOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceGroupMembershipsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceGroupsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceNetworkInterfaceFloatingIpsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceNetworkInterfacesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceProfilesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceTemplatesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceVolumeAttachmentsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstancesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListIpsecPoliciesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListIpsecPolicyConnectionsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListKeysOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListLoadBalancerListenerPoliciesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListLoadBalancerListenerPolicyRulesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListLoadBalancerListenersOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListLoadBalancerPoolMembersOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListLoadBalancerPoolsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListLoadBalancerProfilesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListLoadBalancersOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListNetworkAclRulesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListNetworkAclsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListOperatingSystemsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListPublicGatewaysOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListRegionZonesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListRegionsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListSecurityGroupNetworkInterfacesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListSecurityGroupRulesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListSecurityGroupTargetsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListSecurityGroupsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListSubnetReservedIpsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListSubnetsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVolumeProfilesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVolumesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpcAddressPrefixesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpcRoutesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpcRoutingTableRoutesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpcRoutingTablesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpcsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpnGatewayConnectionLocalCidrsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpnGatewayConnectionPeerCidrsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpnGatewayConnectionsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpnGatewaysOptions;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancer;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListener;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerPolicy;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerPolicyCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerPolicyRule;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerPolicyRuleCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerPool;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerPoolCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerPoolMember;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerPoolMemberCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerProfile;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerStatistics;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACL;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLCollection;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRule;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRuleCollection;
+import com.ibm.cloud.is.vpc.v1.model.NetworkInterface;
+import com.ibm.cloud.is.vpc.v1.model.NetworkInterfaceCollection;
+import com.ibm.cloud.is.vpc.v1.model.NetworkInterfaceUnpaginatedCollection;
+import com.ibm.cloud.is.vpc.v1.model.OperatingSystem;
+import com.ibm.cloud.is.vpc.v1.model.OperatingSystemCollection;
+import com.ibm.cloud.is.vpc.v1.model.PublicGateway;
+import com.ibm.cloud.is.vpc.v1.model.PublicGatewayCollection;
+import com.ibm.cloud.is.vpc.v1.model.Region;
+import com.ibm.cloud.is.vpc.v1.model.RegionCollection;
+import com.ibm.cloud.is.vpc.v1.model.RemoveEndpointGatewayIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.RemoveInstanceNetworkInterfaceFloatingIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.RemoveSecurityGroupNetworkInterfaceOptions;
+import com.ibm.cloud.is.vpc.v1.model.RemoveVpnGatewayConnectionLocalCidrOptions;
+import com.ibm.cloud.is.vpc.v1.model.RemoveVpnGatewayConnectionPeerCidrOptions;
+import com.ibm.cloud.is.vpc.v1.model.ReplaceLoadBalancerPoolMembersOptions;
+import com.ibm.cloud.is.vpc.v1.model.ReplaceSubnetNetworkAclOptions;
+import com.ibm.cloud.is.vpc.v1.model.ReplaceSubnetRoutingTableOptions;
+import com.ibm.cloud.is.vpc.v1.model.ReservedIP;
+import com.ibm.cloud.is.vpc.v1.model.ReservedIPCollection;
+import com.ibm.cloud.is.vpc.v1.model.ReservedIPCollectionEndpointGatewayContext;
+import com.ibm.cloud.is.vpc.v1.model.Route;
+import com.ibm.cloud.is.vpc.v1.model.RouteCollection;
+import com.ibm.cloud.is.vpc.v1.model.RoutingTable;
+import com.ibm.cloud.is.vpc.v1.model.RoutingTableCollection;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroup;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupCollection;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRule;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRuleCollection;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupTargetCollection;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupTargetReference;
+import com.ibm.cloud.is.vpc.v1.model.SetSubnetPublicGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.Subnet;
+import com.ibm.cloud.is.vpc.v1.model.SubnetCollection;
+import com.ibm.cloud.is.vpc.v1.model.UnsetSubnetPublicGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateDedicatedHostDiskOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateDedicatedHostGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateDedicatedHostOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateEndpointGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateFloatingIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateFlowLogCollectorOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateIkePolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateImageOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceDiskOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceGroupManagerActionOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceGroupManagerOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceGroupManagerPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceGroupMembershipOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceNetworkInterfaceOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceTemplateOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateInstanceVolumeAttachmentOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateIpsecPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateKeyOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateLoadBalancerListenerOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateLoadBalancerListenerPolicyOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateLoadBalancerListenerPolicyRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateLoadBalancerOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateLoadBalancerPoolMemberOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateLoadBalancerPoolOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateNetworkAclOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateNetworkAclRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdatePublicGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateSecurityGroupOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateSecurityGroupRuleOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateSubnetOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateSubnetReservedIpOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateVolumeOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateVpcAddressPrefixOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateVpcOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateVpcRouteOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateVpcRoutingTableOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateVpcRoutingTableRouteOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateVpnGatewayConnectionOptions;
+import com.ibm.cloud.is.vpc.v1.model.UpdateVpnGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.VPC;
+import com.ibm.cloud.is.vpc.v1.model.VPCCollection;
+import com.ibm.cloud.is.vpc.v1.model.VPNGateway;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayCollection;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayConnection;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayConnectionCollection;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayConnectionLocalCIDRs;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayConnectionPeerCIDRs;
+import com.ibm.cloud.is.vpc.v1.model.Volume;
+import com.ibm.cloud.is.vpc.v1.model.VolumeAttachment;
+import com.ibm.cloud.is.vpc.v1.model.VolumeAttachmentCollection;
+import com.ibm.cloud.is.vpc.v1.model.VolumeCollection;
+import com.ibm.cloud.is.vpc.v1.model.VolumeProfile;
+import com.ibm.cloud.is.vpc.v1.model.VolumeProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.Zone;
+import com.ibm.cloud.is.vpc.v1.model.ZoneCollection;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+
+/**
+ * An asynchronous client for the VPC API, which wraps a {@link Vpc} instance and exposes each of its operations
+ * as a method which returns a {@link CompletableFuture} of the {@link Response}.
+ * <p>
+ * Calls are executed asynchronously by the HTTP client of the {@link Vpc} instance, so no caller thread is blocked
+ * while they are in flight. The number of calls in flight is bounded at two levels: per client (see
+ * {@link Builder#maxInFlight(int)}), and per region, across all the clients which share the same
+ * {@link KeyedAsyncLimiter} (see {@link Builder#regionLimiter(KeyedAsyncLimiter)}). Calls beyond either limit are
+ * queued without blocking, and their request is only built once they are started.
+ * <p>
+ * By default, calls are enqueued on the HTTP client, whose dispatcher executes them on its own threads. Alternatively,
+ * {@link Builder#executor(Executor)} executes each call synchronously on the specified executor, e.g. one created by
+ * {@link BlockingCallExecutors#newExecutor(int)}, which runs each call on a virtual thread when the JVM supports them.
+ * <p>
+ * Futures are completed on the threads of the HTTP client (or of the executor): dependent stages which perform
+ * significant work should be attached with one of the {@code *Async} methods of {@link CompletableFuture}. A call
+ * which fails, including one whose options are invalid, completes its future exceptionally. Cancelling a future
+ * cancels the call, or removes it from the queue if it has not yet been started.
+ */
+public class AsyncVpc {
+
+  /**
+   * The default maximum number of calls in flight for a client.
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+  /**
+   * The default maximum number of calls in flight for a region.
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT_PER_REGION = 64;
+
+  private static final KeyedAsyncLimiter DEFAULT_REGION_LIMITER =
+    new KeyedAsyncLimiter(DEFAULT_MAX_IN_FLIGHT_PER_REGION);
+
+  private final Vpc vpc;
+  private final String region;
+  private final AsyncLimiter limiter;
+  private final AsyncLimiter regionLimiter;
+  private final Executor executor;
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private Vpc vpc;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private KeyedAsyncLimiter regionLimiter = DEFAULT_REGION_LIMITER;
+    private String region;
+    private Executor executor;
+
+    /**
+     * Instantiates a new builder with required properties.
+     *
+     * @param vpc the {@link Vpc} instance used to execute the calls
+     */
+    public Builder(Vpc vpc) {
+      this.vpc = vpc;
+    }
+
+    /**
+     * Builds an AsyncVpc.
+     *
+     * @return the new AsyncVpc instance
+     */
+    public AsyncVpc build() {
+      return new AsyncVpc(this);
+    }
+
+    /**
+     * Set the maximum number of calls of this client in flight (defaults to
+     * {@link AsyncVpc#DEFAULT_MAX_IN_FLIGHT}).
+     *
+     * @param maxInFlight the maximum number of calls in flight
+     * @return the AsyncVpc builder
+     */
+    public Builder maxInFlight(int maxInFlight) {
+      this.maxInFlight = maxInFlight;
+      return this;
+    }
+
+    /**
+     * Set the limiter which bounds the number of calls in flight per region. By default, a limiter shared by all
+     * the clients which do not specify one is used, with a limit of {@link AsyncVpc#DEFAULT_MAX_IN_FLIGHT_PER_REGION}.
+     *
+     * @param regionLimiter the per-region limiter
+     * @return the AsyncVpc builder
+     */
+    public Builder regionLimiter(KeyedAsyncLimiter regionLimiter) {
+      this.regionLimiter = regionLimiter;
+      return this;
+    }
+
+    /**
+     * Set the region of the {@link Vpc} instance. By default, the region is identified by the host of its service
+     * URL (e.g. "us-south.iaas.cloud.ibm.com").
+     *
+     * @param region the region
+     * @return the AsyncVpc builder
+     */
+    public Builder region(String region) {
+      this.region = region;
+      return this;
+    }
+
+    /**
+     * Set the executor on which the calls are executed synchronously. By default, calls are executed
+     * asynchronously by the dispatcher of the HTTP client.
+     *
+     * @param executor the executor
+     * @return the AsyncVpc builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+  }
+
+  /**
+   * Creates a client from a builder.
+   * <p>
+   * The limits of the dispatcher of the HTTP client of the {@link Vpc} instance are raised if necessary, so that
+   * it does not queue calls which have been started by this client: its maximum number of requests is raised to
+   * at least the client limit, and its maximum number of requests per host to at least the region limit. Since
+   * the dispatcher may be shared with other service instances, the new limits also apply to them.
+   *
+   * @param builder the builder
+   */
+  protected AsyncVpc(Builder builder) {
+    Validator.notNull(builder.vpc, "vpc cannot be null");
+    Validator.notNull(builder.regionLimiter, "regionLimiter cannot be null");
+    this.vpc = builder.vpc;
+    this.region = builder.region != null ? builder.region : HttpUrl.get(vpc.getServiceUrl()).host();
+    this.limiter = new AsyncLimiter(builder.maxInFlight);
+    this.regionLimiter = builder.regionLimiter.get(region);
+    this.executor = builder.executor;
+
+    Dispatcher dispatcher = vpc.getClient().dispatcher();
+    synchronized (dispatcher) {
+      if (dispatcher.getMaxRequests() < limiter.getMaxInFlight()) {
+        dispatcher.setMaxRequests(limiter.getMaxInFlight());
+      }
+      if (dispatcher.getMaxRequestsPerHost() < regionLimiter.getMaxInFlight()) {
+        dispatcher.setMaxRequestsPerHost(regionLimiter.getMaxInFlight());
+      }
+    }
+  }
+
+  /**
+   * Returns the {@link Vpc} instance used to execute the calls.
+   *
+   * @return the {@link Vpc} instance
+   */
+  public Vpc getVpc() {
+    return vpc;
+  }
+
+  /**
+   * Returns the region of the {@link Vpc} instance.
+   *
+   * @return the region
+   */
+  public String getRegion() {
+    return region;
+  }
+
+  /**
+   * Returns the limiter which bounds the number of calls of this client in flight.
+   *
+   * @return the client limiter
+   */
+  public AsyncLimiter getLimiter() {
+    return limiter;
+  }
+
+  /**
+   * Returns the limiter which bounds the number of calls in flight in the region of this client.
+   *
+   * @return the region limiter
+   */
+  public AsyncLimiter getRegionLimiter() {
+    return regionLimiter;
+  }
+
+  /**
+   * Executes a call asynchronously, subject to the limits of this client. The call is created from the
+   * {@link Vpc} instance once it is started, e.g. {@code asyncVpc.submit(vpc -> vpc.getInstance(options))}.
+   *
+   * @param <T> the type of the result of the call
+   * @param operation creates the call from the {@link Vpc} instance
+   * @return a future which completes with the response of the call
+   */
+  public <T> CompletableFuture<Response<T>> submit(Function<? super Vpc, ServiceCall<T>> operation) {
+    Validator.notNull(operation, "operation cannot be null");
+    return limiter.submit(() -> regionLimiter.submit(() -> executor != null
+      ? ServiceCallFutures.execute(operation.apply(vpc), executor)
+      : ServiceCallFutures.execute(operation.apply(vpc))));
+  }
+
+  /**
+   * List all VPCs.
+   *
+   * @param listVpcsOptions the {@link ListVpcsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPCCollection}
+   * @see Vpc#listVpcs(ListVpcsOptions)
+   */
+  public CompletableFuture<Response<VPCCollection>> listVpcs(ListVpcsOptions listVpcsOptions) {
+    return submit(vpc -> vpc.listVpcs(listVpcsOptions));
+  }
+
+  /**
+   * List all VPCs.
+   *
+   * @return a future which completes with a response with a result of type {@link VPCCollection}
+   * @see Vpc#listVpcs()
+   */
+  public CompletableFuture<Response<VPCCollection>> listVpcs() {
+    return submit(vpc -> vpc.listVpcs());
+  }
+
+  /**
+   * Create a VPC.
+   *
+   * @param createVpcOptions the {@link CreateVpcOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPC}
+   * @see Vpc#createVpc(CreateVpcOptions)
+   */
+  public CompletableFuture<Response<VPC>> createVpc(CreateVpcOptions createVpcOptions) {
+    return submit(vpc -> vpc.createVpc(createVpcOptions));
+  }
+
+  /**
+   * Create a VPC.
+   *
+   * @return a future which completes with a response with a result of type {@link VPC}
+   * @see Vpc#createVpc()
+   */
+  public CompletableFuture<Response<VPC>> createVpc() {
+    return submit(vpc -> vpc.createVpc());
+  }
+
+  /**
+   * Delete a VPC.
+   *
+   * @param deleteVpcOptions the {@link DeleteVpcOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteVpc(DeleteVpcOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteVpc(DeleteVpcOptions deleteVpcOptions) {
+    return submit(vpc -> vpc.deleteVpc(deleteVpcOptions));
+  }
+
+  /**
+   * Retrieve a VPC.
+   *
+   * @param getVpcOptions the {@link GetVpcOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPC}
+   * @see Vpc#getVpc(GetVpcOptions)
+   */
+  public CompletableFuture<Response<VPC>> getVpc(GetVpcOptions getVpcOptions) {
+    return submit(vpc -> vpc.getVpc(getVpcOptions));
+  }
+
+  /**
+   * Update a VPC.
+   *
+   * @param updateVpcOptions the {@link UpdateVpcOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPC}
+   * @see Vpc#updateVpc(UpdateVpcOptions)
+   */
+  public CompletableFuture<Response<VPC>> updateVpc(UpdateVpcOptions updateVpcOptions) {
+    return submit(vpc -> vpc.updateVpc(updateVpcOptions));
+  }
+
+  /**
+   * Retrieve a VPC's default network ACL.
+   *
+   * @param getVpcDefaultNetworkAclOptions the {@link GetVpcDefaultNetworkAclOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DefaultNetworkACL}
+   * @see Vpc#getVpcDefaultNetworkAcl(GetVpcDefaultNetworkAclOptions)
+   */
+  public CompletableFuture<Response<DefaultNetworkACL>> getVpcDefaultNetworkAcl(GetVpcDefaultNetworkAclOptions getVpcDefaultNetworkAclOptions) {
+    return submit(vpc -> vpc.getVpcDefaultNetworkAcl(getVpcDefaultNetworkAclOptions));
+  }
+
+  /**
+   * Retrieve a VPC's default routing table.
+   *
+   * @param getVpcDefaultRoutingTableOptions the {@link GetVpcDefaultRoutingTableOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DefaultRoutingTable}
+   * @see Vpc#getVpcDefaultRoutingTable(GetVpcDefaultRoutingTableOptions)
+   */
+  public CompletableFuture<Response<DefaultRoutingTable>> getVpcDefaultRoutingTable(GetVpcDefaultRoutingTableOptions getVpcDefaultRoutingTableOptions) {
+    return submit(vpc -> vpc.getVpcDefaultRoutingTable(getVpcDefaultRoutingTableOptions));
+  }
+
+  /**
+   * Retrieve a VPC's default security group.
+   *
+   * @param getVpcDefaultSecurityGroupOptions the {@link GetVpcDefaultSecurityGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DefaultSecurityGroup}
+   * @see Vpc#getVpcDefaultSecurityGroup(GetVpcDefaultSecurityGroupOptions)
+   */
+  public CompletableFuture<Response<DefaultSecurityGroup>> getVpcDefaultSecurityGroup(GetVpcDefaultSecurityGroupOptions getVpcDefaultSecurityGroupOptions) {
+    return submit(vpc -> vpc.getVpcDefaultSecurityGroup(getVpcDefaultSecurityGroupOptions));
+  }
+
+  /**
+   * List all address prefixes for a VPC.
+   *
+   * @param listVpcAddressPrefixesOptions the {@link ListVpcAddressPrefixesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link AddressPrefixCollection}
+   * @see Vpc#listVpcAddressPrefixes(ListVpcAddressPrefixesOptions)
+   */
+  public CompletableFuture<Response<AddressPrefixCollection>> listVpcAddressPrefixes(ListVpcAddressPrefixesOptions listVpcAddressPrefixesOptions) {
+    return submit(vpc -> vpc.listVpcAddressPrefixes(listVpcAddressPrefixesOptions));
+  }
+
+  /**
+   * Create an address prefix for a VPC.
+   *
+   * @param createVpcAddressPrefixOptions the {@link CreateVpcAddressPrefixOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link AddressPrefix}
+   * @see Vpc#createVpcAddressPrefix(CreateVpcAddressPrefixOptions)
+   */
+  public CompletableFuture<Response<AddressPrefix>> createVpcAddressPrefix(CreateVpcAddressPrefixOptions createVpcAddressPrefixOptions) {
+    return submit(vpc -> vpc.createVpcAddressPrefix(createVpcAddressPrefixOptions));
+  }
+
+  /**
+   * Delete an address prefix.
+   *
+   * @param deleteVpcAddressPrefixOptions the {@link DeleteVpcAddressPrefixOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteVpcAddressPrefix(DeleteVpcAddressPrefixOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteVpcAddressPrefix(DeleteVpcAddressPrefixOptions deleteVpcAddressPrefixOptions) {
+    return submit(vpc -> vpc.deleteVpcAddressPrefix(deleteVpcAddressPrefixOptions));
+  }
+
+  /**
+   * Retrieve an address prefix.
+   *
+   * @param getVpcAddressPrefixOptions the {@link GetVpcAddressPrefixOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link AddressPrefix}
+   * @see Vpc#getVpcAddressPrefix(GetVpcAddressPrefixOptions)
+   */
+  public CompletableFuture<Response<AddressPrefix>> getVpcAddressPrefix(GetVpcAddressPrefixOptions getVpcAddressPrefixOptions) {
+    return submit(vpc -> vpc.getVpcAddressPrefix(getVpcAddressPrefixOptions));
+  }
+
+  /**
+   * Update an address prefix.
+   *
+   * @param updateVpcAddressPrefixOptions the {@link UpdateVpcAddressPrefixOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link AddressPrefix}
+   * @see Vpc#updateVpcAddressPrefix(UpdateVpcAddressPrefixOptions)
+   */
+  public CompletableFuture<Response<AddressPrefix>> updateVpcAddressPrefix(UpdateVpcAddressPrefixOptions updateVpcAddressPrefixOptions) {
+    return submit(vpc -> vpc.updateVpcAddressPrefix(updateVpcAddressPrefixOptions));
+  }
+
+  /**
+   * List all routes in a VPC's default routing table.
+   *
+   * @param listVpcRoutesOptions the {@link ListVpcRoutesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link RouteCollection}
+   * @see Vpc#listVpcRoutes(ListVpcRoutesOptions)
+   */
+  public CompletableFuture<Response<RouteCollection>> listVpcRoutes(ListVpcRoutesOptions listVpcRoutesOptions) {
+    return submit(vpc -> vpc.listVpcRoutes(listVpcRoutesOptions));
+  }
+
+  /**
+   * Create a route in a VPC's default routing table.
+   *
+   * @param createVpcRouteOptions the {@link CreateVpcRouteOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Route}
+   * @see Vpc#createVpcRoute(CreateVpcRouteOptions)
+   */
+  public CompletableFuture<Response<Route>> createVpcRoute(CreateVpcRouteOptions createVpcRouteOptions) {
+    return submit(vpc -> vpc.createVpcRoute(createVpcRouteOptions));
+  }
+
+  /**
+   * Delete a VPC route.
+   *
+   * @param deleteVpcRouteOptions the {@link DeleteVpcRouteOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteVpcRoute(DeleteVpcRouteOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteVpcRoute(DeleteVpcRouteOptions deleteVpcRouteOptions) {
+    return submit(vpc -> vpc.deleteVpcRoute(deleteVpcRouteOptions));
+  }
+
+  /**
+   * Retrieve a VPC route.
+   *
+   * @param getVpcRouteOptions the {@link GetVpcRouteOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Route}
+   * @see Vpc#getVpcRoute(GetVpcRouteOptions)
+   */
+  public CompletableFuture<Response<Route>> getVpcRoute(GetVpcRouteOptions getVpcRouteOptions) {
+    return submit(vpc -> vpc.getVpcRoute(getVpcRouteOptions));
+  }
+
+  /**
+   * Update a VPC route.
+   *
+   * @param updateVpcRouteOptions the {@link UpdateVpcRouteOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Route}
+   * @see Vpc#updateVpcRoute(UpdateVpcRouteOptions)
+   */
+  public CompletableFuture<Response<Route>> updateVpcRoute(UpdateVpcRouteOptions updateVpcRouteOptions) {
+    return submit(vpc -> vpc.updateVpcRoute(updateVpcRouteOptions));
+  }
+
+  /**
+   * List all routing tables for a VPC.
+   *
+   * @param listVpcRoutingTablesOptions the {@link ListVpcRoutingTablesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link RoutingTableCollection}
+   * @see Vpc#listVpcRoutingTables(ListVpcRoutingTablesOptions)
+   */
+  public CompletableFuture<Response<RoutingTableCollection>> listVpcRoutingTables(ListVpcRoutingTablesOptions listVpcRoutingTablesOptions) {
+    return submit(vpc -> vpc.listVpcRoutingTables(listVpcRoutingTablesOptions));
+  }
+
+  /**
+   * Create a routing table for a VPC.
+   *
+   * @param createVpcRoutingTableOptions the {@link CreateVpcRoutingTableOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link RoutingTable}
+   * @see Vpc#createVpcRoutingTable(CreateVpcRoutingTableOptions)
+   */
+  public CompletableFuture<Response<RoutingTable>> createVpcRoutingTable(CreateVpcRoutingTableOptions createVpcRoutingTableOptions) {
+    return submit(vpc -> vpc.createVpcRoutingTable(createVpcRoutingTableOptions));
+  }
+
+  /**
+   * Delete a VPC routing table.
+   *
+   * @param deleteVpcRoutingTableOptions the {@link DeleteVpcRoutingTableOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteVpcRoutingTable(DeleteVpcRoutingTableOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteVpcRoutingTable(DeleteVpcRoutingTableOptions deleteVpcRoutingTableOptions) {
+    return submit(vpc -> vpc.deleteVpcRoutingTable(deleteVpcRoutingTableOptions));
+  }
+
+  /**
+   * Retrieve a VPC routing table.
+   *
+   * @param getVpcRoutingTableOptions the {@link GetVpcRoutingTableOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link RoutingTable}
+   * @see Vpc#getVpcRoutingTable(GetVpcRoutingTableOptions)
+   */
+  public CompletableFuture<Response<RoutingTable>> getVpcRoutingTable(GetVpcRoutingTableOptions getVpcRoutingTableOptions) {
+    return submit(vpc -> vpc.getVpcRoutingTable(getVpcRoutingTableOptions));
+  }
+
+  /**
+   * Update a VPC routing table.
+   *
+   * @param updateVpcRoutingTableOptions the {@link UpdateVpcRoutingTableOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link RoutingTable}
+   * @see Vpc#updateVpcRoutingTable(UpdateVpcRoutingTableOptions)
+   */
+  public CompletableFuture<Response<RoutingTable>> updateVpcRoutingTable(UpdateVpcRoutingTableOptions updateVpcRoutingTableOptions) {
+    return submit(vpc -> vpc.updateVpcRoutingTable(updateVpcRoutingTableOptions));
+  }
+
+  /**
+   * List all routes in a VPC routing table.
+   *
+   * @param listVpcRoutingTableRoutesOptions the {@link ListVpcRoutingTableRoutesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link RouteCollection}
+   * @see Vpc#listVpcRoutingTableRoutes(ListVpcRoutingTableRoutesOptions)
+   */
+  public CompletableFuture<Response<RouteCollection>> listVpcRoutingTableRoutes(ListVpcRoutingTableRoutesOptions listVpcRoutingTableRoutesOptions) {
+    return submit(vpc -> vpc.listVpcRoutingTableRoutes(listVpcRoutingTableRoutesOptions));
+  }
+
+  /**
+   * Create a route in a VPC routing table.
+   *
+   * @param createVpcRoutingTableRouteOptions the {@link CreateVpcRoutingTableRouteOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Route}
+   * @see Vpc#createVpcRoutingTableRoute(CreateVpcRoutingTableRouteOptions)
+   */
+  public CompletableFuture<Response<Route>> createVpcRoutingTableRoute(CreateVpcRoutingTableRouteOptions createVpcRoutingTableRouteOptions) {
+    return submit(vpc -> vpc.createVpcRoutingTableRoute(createVpcRoutingTableRouteOptions));
+  }
+
+  /**
+   * Delete a VPC routing table route.
+   *
+   * @param deleteVpcRoutingTableRouteOptions the {@link DeleteVpcRoutingTableRouteOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteVpcRoutingTableRoute(DeleteVpcRoutingTableRouteOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteVpcRoutingTableRoute(DeleteVpcRoutingTableRouteOptions deleteVpcRoutingTableRouteOptions) {
+    return submit(vpc -> vpc.deleteVpcRoutingTableRoute(deleteVpcRoutingTableRouteOptions));
+  }
+
+  /**
+   * Retrieve a VPC routing table route.
+   *
+   * @param getVpcRoutingTableRouteOptions the {@link GetVpcRoutingTableRouteOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Route}
+   * @see Vpc#getVpcRoutingTableRoute(GetVpcRoutingTableRouteOptions)
+   */
+  public CompletableFuture<Response<Route>> getVpcRoutingTableRoute(GetVpcRoutingTableRouteOptions getVpcRoutingTableRouteOptions) {
+    return submit(vpc -> vpc.getVpcRoutingTableRoute(getVpcRoutingTableRouteOptions));
+  }
+
+  /**
+   * Update a VPC routing table route.
+   *
+   * @param updateVpcRoutingTableRouteOptions the {@link UpdateVpcRoutingTableRouteOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Route}
+   * @see Vpc#updateVpcRoutingTableRoute(UpdateVpcRoutingTableRouteOptions)
+   */
+  public CompletableFuture<Response<Route>> updateVpcRoutingTableRoute(UpdateVpcRoutingTableRouteOptions updateVpcRoutingTableRouteOptions) {
+    return submit(vpc -> vpc.updateVpcRoutingTableRoute(updateVpcRoutingTableRouteOptions));
+  }
+
+  /**
+   * List all subnets.
+   *
+   * @param listSubnetsOptions the {@link ListSubnetsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SubnetCollection}
+   * @see Vpc#listSubnets(ListSubnetsOptions)
+   */
+  public CompletableFuture<Response<SubnetCollection>> listSubnets(ListSubnetsOptions listSubnetsOptions) {
+    return submit(vpc -> vpc.listSubnets(listSubnetsOptions));
+  }
+
+  /**
+   * List all subnets.
+   *
+   * @return a future which completes with a response with a result of type {@link SubnetCollection}
+   * @see Vpc#listSubnets()
+   */
+  public CompletableFuture<Response<SubnetCollection>> listSubnets() {
+    return submit(vpc -> vpc.listSubnets());
+  }
+
+  /**
+   * Create a subnet.
+   *
+   * @param createSubnetOptions the {@link CreateSubnetOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Subnet}
+   * @see Vpc#createSubnet(CreateSubnetOptions)
+   */
+  public CompletableFuture<Response<Subnet>> createSubnet(CreateSubnetOptions createSubnetOptions) {
+    return submit(vpc -> vpc.createSubnet(createSubnetOptions));
+  }
+
+  /**
+   * Delete a subnet.
+   *
+   * @param deleteSubnetOptions the {@link DeleteSubnetOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteSubnet(DeleteSubnetOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteSubnet(DeleteSubnetOptions deleteSubnetOptions) {
+    return submit(vpc -> vpc.deleteSubnet(deleteSubnetOptions));
+  }
+
+  /**
+   * Retrieve a subnet.
+   *
+   * @param getSubnetOptions the {@link GetSubnetOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Subnet}
+   * @see Vpc#getSubnet(GetSubnetOptions)
+   */
+  public CompletableFuture<Response<Subnet>> getSubnet(GetSubnetOptions getSubnetOptions) {
+    return submit(vpc -> vpc.getSubnet(getSubnetOptions));
+  }
+
+  /**
+   * Update a subnet.
+   *
+   * @param updateSubnetOptions the {@link UpdateSubnetOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Subnet}
+   * @see Vpc#updateSubnet(UpdateSubnetOptions)
+   */
+  public CompletableFuture<Response<Subnet>> updateSubnet(UpdateSubnetOptions updateSubnetOptions) {
+    return submit(vpc -> vpc.updateSubnet(updateSubnetOptions));
+  }
+
+  /**
+   * Retrieve a subnet's attached network ACL.
+   *
+   * @param getSubnetNetworkAclOptions the {@link GetSubnetNetworkAclOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACL}
+   * @see Vpc#getSubnetNetworkAcl(GetSubnetNetworkAclOptions)
+   */
+  public CompletableFuture<Response<NetworkACL>> getSubnetNetworkAcl(GetSubnetNetworkAclOptions getSubnetNetworkAclOptions) {
+    return submit(vpc -> vpc.getSubnetNetworkAcl(getSubnetNetworkAclOptions));
+  }
+
+  /**
+   * Attach a network ACL to a subnet.
+   *
+   * @param replaceSubnetNetworkAclOptions the {@link ReplaceSubnetNetworkAclOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACL}
+   * @see Vpc#replaceSubnetNetworkAcl(ReplaceSubnetNetworkAclOptions)
+   */
+  public CompletableFuture<Response<NetworkACL>> replaceSubnetNetworkAcl(ReplaceSubnetNetworkAclOptions replaceSubnetNetworkAclOptions) {
+    return submit(vpc -> vpc.replaceSubnetNetworkAcl(replaceSubnetNetworkAclOptions));
+  }
+
+  /**
+   * Detach a public gateway from a subnet.
+   *
+   * @param unsetSubnetPublicGatewayOptions the {@link UnsetSubnetPublicGatewayOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#unsetSubnetPublicGateway(UnsetSubnetPublicGatewayOptions)
+   */
+  public CompletableFuture<Response<Void>> unsetSubnetPublicGateway(UnsetSubnetPublicGatewayOptions unsetSubnetPublicGatewayOptions) {
+    return submit(vpc -> vpc.unsetSubnetPublicGateway(unsetSubnetPublicGatewayOptions));
+  }
+
+  /**
+   * Retrieve a subnet's attached public gateway.
+   *
+   * @param getSubnetPublicGatewayOptions the {@link GetSubnetPublicGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link PublicGateway}
+   * @see Vpc#getSubnetPublicGateway(GetSubnetPublicGatewayOptions)
+   */
+  public CompletableFuture<Response<PublicGateway>> getSubnetPublicGateway(GetSubnetPublicGatewayOptions getSubnetPublicGatewayOptions) {
+    return submit(vpc -> vpc.getSubnetPublicGateway(getSubnetPublicGatewayOptions));
+  }
+
+  /**
+   * Attach a public gateway to a subnet.
+   *
+   * @param setSubnetPublicGatewayOptions the {@link SetSubnetPublicGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link PublicGateway}
+   * @see Vpc#setSubnetPublicGateway(SetSubnetPublicGatewayOptions)
+   */
+  public CompletableFuture<Response<PublicGateway>> setSubnetPublicGateway(SetSubnetPublicGatewayOptions setSubnetPublicGatewayOptions) {
+    return submit(vpc -> vpc.setSubnetPublicGateway(setSubnetPublicGatewayOptions));
+  }
+
+  /**
+   * Retrieve a subnet's attached routing table.
+   *
+   * @param getSubnetRoutingTableOptions the {@link GetSubnetRoutingTableOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link RoutingTable}
+   * @see Vpc#getSubnetRoutingTable(GetSubnetRoutingTableOptions)
+   */
+  public CompletableFuture<Response<RoutingTable>> getSubnetRoutingTable(GetSubnetRoutingTableOptions getSubnetRoutingTableOptions) {
+    return submit(vpc -> vpc.getSubnetRoutingTable(getSubnetRoutingTableOptions));
+  }
+
+  /**
+   * Attach a routing table to a subnet.
+   *
+   * @param replaceSubnetRoutingTableOptions the {@link ReplaceSubnetRoutingTableOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link RoutingTable}
+   * @see Vpc#replaceSubnetRoutingTable(ReplaceSubnetRoutingTableOptions)
+   */
+  public CompletableFuture<Response<RoutingTable>> replaceSubnetRoutingTable(ReplaceSubnetRoutingTableOptions replaceSubnetRoutingTableOptions) {
+    return submit(vpc -> vpc.replaceSubnetRoutingTable(replaceSubnetRoutingTableOptions));
+  }
+
+  /**
+   * List all reserved IPs in a subnet.
+   *
+   * @param listSubnetReservedIpsOptions the {@link ListSubnetReservedIpsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link ReservedIPCollection}
+   * @see Vpc#listSubnetReservedIps(ListSubnetReservedIpsOptions)
+   */
+  public CompletableFuture<Response<ReservedIPCollection>> listSubnetReservedIps(ListSubnetReservedIpsOptions listSubnetReservedIpsOptions) {
+    return submit(vpc -> vpc.listSubnetReservedIps(listSubnetReservedIpsOptions));
+  }
+
+  /**
+   * Reserve an IP in a subnet.
+   *
+   * @param createSubnetReservedIpOptions the {@link CreateSubnetReservedIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link ReservedIP}
+   * @see Vpc#createSubnetReservedIp(CreateSubnetReservedIpOptions)
+   */
+  public CompletableFuture<Response<ReservedIP>> createSubnetReservedIp(CreateSubnetReservedIpOptions createSubnetReservedIpOptions) {
+    return submit(vpc -> vpc.createSubnetReservedIp(createSubnetReservedIpOptions));
+  }
+
+  /**
+   * Release a reserved IP.
+   *
+   * @param deleteSubnetReservedIpOptions the {@link DeleteSubnetReservedIpOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteSubnetReservedIp(DeleteSubnetReservedIpOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteSubnetReservedIp(DeleteSubnetReservedIpOptions deleteSubnetReservedIpOptions) {
+    return submit(vpc -> vpc.deleteSubnetReservedIp(deleteSubnetReservedIpOptions));
+  }
+
+  /**
+   * Retrieve a reserved IP.
+   *
+   * @param getSubnetReservedIpOptions the {@link GetSubnetReservedIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link ReservedIP}
+   * @see Vpc#getSubnetReservedIp(GetSubnetReservedIpOptions)
+   */
+  public CompletableFuture<Response<ReservedIP>> getSubnetReservedIp(GetSubnetReservedIpOptions getSubnetReservedIpOptions) {
+    return submit(vpc -> vpc.getSubnetReservedIp(getSubnetReservedIpOptions));
+  }
+
+  /**
+   * Update a reserved IP.
+   *
+   * @param updateSubnetReservedIpOptions the {@link UpdateSubnetReservedIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link ReservedIP}
+   * @see Vpc#updateSubnetReservedIp(UpdateSubnetReservedIpOptions)
+   */
+  public CompletableFuture<Response<ReservedIP>> updateSubnetReservedIp(UpdateSubnetReservedIpOptions updateSubnetReservedIpOptions) {
+    return submit(vpc -> vpc.updateSubnetReservedIp(updateSubnetReservedIpOptions));
+  }
+
+  /**
+   * List all images.
+   *
+   * @param listImagesOptions the {@link ListImagesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link ImageCollection}
+   * @see Vpc#listImages(ListImagesOptions)
+   */
+  public CompletableFuture<Response<ImageCollection>> listImages(ListImagesOptions listImagesOptions) {
+    return submit(vpc -> vpc.listImages(listImagesOptions));
+  }
+
+  /**
+   * List all images.
+   *
+   * @return a future which completes with a response with a result of type {@link ImageCollection}
+   * @see Vpc#listImages()
+   */
+  public CompletableFuture<Response<ImageCollection>> listImages() {
+    return submit(vpc -> vpc.listImages());
+  }
+
+  /**
+   * Create an image.
+   *
+   * @param createImageOptions the {@link CreateImageOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Image}
+   * @see Vpc#createImage(CreateImageOptions)
+   */
+  public CompletableFuture<Response<Image>> createImage(CreateImageOptions createImageOptions) {
+    return submit(vpc -> vpc.createImage(createImageOptions));
+  }
+
+  /**
+   * Delete an image.
+   *
+   * @param deleteImageOptions the {@link DeleteImageOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteImage(DeleteImageOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteImage(DeleteImageOptions deleteImageOptions) {
+    return submit(vpc -> vpc.deleteImage(deleteImageOptions));
+  }
+
+  /**
+   * Retrieve an image.
+   *
+   * @param getImageOptions the {@link GetImageOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Image}
+   * @see Vpc#getImage(GetImageOptions)
+   */
+  public CompletableFuture<Response<Image>> getImage(GetImageOptions getImageOptions) {
+    return submit(vpc -> vpc.getImage(getImageOptions));
+  }
+
+  /**
+   * Update an image.
+   *
+   * @param updateImageOptions the {@link UpdateImageOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Image}
+   * @see Vpc#updateImage(UpdateImageOptions)
+   */
+  public CompletableFuture<Response<Image>> updateImage(UpdateImageOptions updateImageOptions) {
+    return submit(vpc -> vpc.updateImage(updateImageOptions));
+  }
+
+  /**
+   * List all operating systems.
+   *
+   * @param listOperatingSystemsOptions the {@link ListOperatingSystemsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link OperatingSystemCollection}
+   * @see Vpc#listOperatingSystems(ListOperatingSystemsOptions)
+   */
+  public CompletableFuture<Response<OperatingSystemCollection>> listOperatingSystems(ListOperatingSystemsOptions listOperatingSystemsOptions) {
+    return submit(vpc -> vpc.listOperatingSystems(listOperatingSystemsOptions));
+  }
+
+  /**
+   * List all operating systems.
+   *
+   * @return a future which completes with a response with a result of type {@link OperatingSystemCollection}
+   * @see Vpc#listOperatingSystems()
+   */
+  public CompletableFuture<Response<OperatingSystemCollection>> listOperatingSystems() {
+    return submit(vpc -> vpc.listOperatingSystems());
+  }
+
+  /**
+   * Retrieve an operating system.
+   *
+   * @param getOperatingSystemOptions the {@link GetOperatingSystemOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link OperatingSystem}
+   * @see Vpc#getOperatingSystem(GetOperatingSystemOptions)
+   */
+  public CompletableFuture<Response<OperatingSystem>> getOperatingSystem(GetOperatingSystemOptions getOperatingSystemOptions) {
+    return submit(vpc -> vpc.getOperatingSystem(getOperatingSystemOptions));
+  }
+
+  /**
+   * List all keys.
+   *
+   * @param listKeysOptions the {@link ListKeysOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link KeyCollection}
+   * @see Vpc#listKeys(ListKeysOptions)
+   */
+  public CompletableFuture<Response<KeyCollection>> listKeys(ListKeysOptions listKeysOptions) {
+    return submit(vpc -> vpc.listKeys(listKeysOptions));
+  }
+
+  /**
+   * List all keys.
+   *
+   * @return a future which completes with a response with a result of type {@link KeyCollection}
+   * @see Vpc#listKeys()
+   */
+  public CompletableFuture<Response<KeyCollection>> listKeys() {
+    return submit(vpc -> vpc.listKeys());
+  }
+
+  /**
+   * Create a key.
+   *
+   * @param createKeyOptions the {@link CreateKeyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Key}
+   * @see Vpc#createKey(CreateKeyOptions)
+   */
+  public CompletableFuture<Response<Key>> createKey(CreateKeyOptions createKeyOptions) {
+    return submit(vpc -> vpc.createKey(createKeyOptions));
+  }
+
+  /**
+   * Delete a key.
+   *
+   * @param deleteKeyOptions the {@link DeleteKeyOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteKey(DeleteKeyOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteKey(DeleteKeyOptions deleteKeyOptions) {
+    return submit(vpc -> vpc.deleteKey(deleteKeyOptions));
+  }
+
+  /**
+   * Retrieve a key.
+   *
+   * @param getKeyOptions the {@link GetKeyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Key}
+   * @see Vpc#getKey(GetKeyOptions)
+   */
+  public CompletableFuture<Response<Key>> getKey(GetKeyOptions getKeyOptions) {
+    return submit(vpc -> vpc.getKey(getKeyOptions));
+  }
+
+  /**
+   * Update a key.
+   *
+   * @param updateKeyOptions the {@link UpdateKeyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Key}
+   * @see Vpc#updateKey(UpdateKeyOptions)
+   */
+  public CompletableFuture<Response<Key>> updateKey(UpdateKeyOptions updateKeyOptions) {
+    return submit(vpc -> vpc.updateKey(updateKeyOptions));
+  }
+
+  /**
+   * List all instance profiles.
+   *
+   * @param listInstanceProfilesOptions the {@link ListInstanceProfilesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceProfileCollection}
+   * @see Vpc#listInstanceProfiles(ListInstanceProfilesOptions)
+   */
+  public CompletableFuture<Response<InstanceProfileCollection>> listInstanceProfiles(ListInstanceProfilesOptions listInstanceProfilesOptions) {
+    return submit(vpc -> vpc.listInstanceProfiles(listInstanceProfilesOptions));
+  }
+
+  /**
+   * List all instance profiles.
+   *
+   * @return a future which completes with a response with a result of type {@link InstanceProfileCollection}
+   * @see Vpc#listInstanceProfiles()
+   */
+  public CompletableFuture<Response<InstanceProfileCollection>> listInstanceProfiles() {
+    return submit(vpc -> vpc.listInstanceProfiles());
+  }
+
+  /**
+   * Retrieve an instance profile.
+   *
+   * @param getInstanceProfileOptions the {@link GetInstanceProfileOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceProfile}
+   * @see Vpc#getInstanceProfile(GetInstanceProfileOptions)
+   */
+  public CompletableFuture<Response<InstanceProfile>> getInstanceProfile(GetInstanceProfileOptions getInstanceProfileOptions) {
+    return submit(vpc -> vpc.getInstanceProfile(getInstanceProfileOptions));
+  }
+
+  /**
+   * List all instance templates.
+   *
+   * @param listInstanceTemplatesOptions the {@link ListInstanceTemplatesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceTemplateCollection}
+   * @see Vpc#listInstanceTemplates(ListInstanceTemplatesOptions)
+   */
+  public CompletableFuture<Response<InstanceTemplateCollection>> listInstanceTemplates(ListInstanceTemplatesOptions listInstanceTemplatesOptions) {
+    return submit(vpc -> vpc.listInstanceTemplates(listInstanceTemplatesOptions));
+  }
+
+  /**
+   * List all instance templates.
+   *
+   * @return a future which completes with a response with a result of type {@link InstanceTemplateCollection}
+   * @see Vpc#listInstanceTemplates()
+   */
+  public CompletableFuture<Response<InstanceTemplateCollection>> listInstanceTemplates() {
+    return submit(vpc -> vpc.listInstanceTemplates());
+  }
+
+  /**
+   * Create an instance template.
+   *
+   * @param createInstanceTemplateOptions the {@link CreateInstanceTemplateOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceTemplate}
+   * @see Vpc#createInstanceTemplate(CreateInstanceTemplateOptions)
+   */
+  public CompletableFuture<Response<InstanceTemplate>> createInstanceTemplate(CreateInstanceTemplateOptions createInstanceTemplateOptions) {
+    return submit(vpc -> vpc.createInstanceTemplate(createInstanceTemplateOptions));
+  }
+
+  /**
+   * Delete an instance template.
+   *
+   * @param deleteInstanceTemplateOptions the {@link DeleteInstanceTemplateOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceTemplate(DeleteInstanceTemplateOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceTemplate(DeleteInstanceTemplateOptions deleteInstanceTemplateOptions) {
+    return submit(vpc -> vpc.deleteInstanceTemplate(deleteInstanceTemplateOptions));
+  }
+
+  /**
+   * Retrieve an instance template.
+   *
+   * @param getInstanceTemplateOptions the {@link GetInstanceTemplateOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceTemplate}
+   * @see Vpc#getInstanceTemplate(GetInstanceTemplateOptions)
+   */
+  public CompletableFuture<Response<InstanceTemplate>> getInstanceTemplate(GetInstanceTemplateOptions getInstanceTemplateOptions) {
+    return submit(vpc -> vpc.getInstanceTemplate(getInstanceTemplateOptions));
+  }
+
+  /**
+   * Update an instance template.
+   *
+   * @param updateInstanceTemplateOptions the {@link UpdateInstanceTemplateOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceTemplate}
+   * @see Vpc#updateInstanceTemplate(UpdateInstanceTemplateOptions)
+   */
+  public CompletableFuture<Response<InstanceTemplate>> updateInstanceTemplate(UpdateInstanceTemplateOptions updateInstanceTemplateOptions) {
+    return submit(vpc -> vpc.updateInstanceTemplate(updateInstanceTemplateOptions));
+  }
+
+  /**
+   * List all instances.
+   *
+   * @param listInstancesOptions the {@link ListInstancesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceCollection}
+   * @see Vpc#listInstances(ListInstancesOptions)
+   */
+  public CompletableFuture<Response<InstanceCollection>> listInstances(ListInstancesOptions listInstancesOptions) {
+    return submit(vpc -> vpc.listInstances(listInstancesOptions));
+  }
+
+  /**
+   * List all instances.
+   *
+   * @return a future which completes with a response with a result of type {@link InstanceCollection}
+   * @see Vpc#listInstances()
+   */
+  public CompletableFuture<Response<InstanceCollection>> listInstances() {
+    return submit(vpc -> vpc.listInstances());
+  }
+
+  /**
+   * Create an instance.
+   *
+   * @param createInstanceOptions the {@link CreateInstanceOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Instance}
+   * @see Vpc#createInstance(CreateInstanceOptions)
+   */
+  public CompletableFuture<Response<Instance>> createInstance(CreateInstanceOptions createInstanceOptions) {
+    return submit(vpc -> vpc.createInstance(createInstanceOptions));
+  }
+
+  /**
+   * Delete an instance.
+   *
+   * @param deleteInstanceOptions the {@link DeleteInstanceOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstance(DeleteInstanceOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstance(DeleteInstanceOptions deleteInstanceOptions) {
+    return submit(vpc -> vpc.deleteInstance(deleteInstanceOptions));
+  }
+
+  /**
+   * Retrieve an instance.
+   *
+   * @param getInstanceOptions the {@link GetInstanceOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Instance}
+   * @see Vpc#getInstance(GetInstanceOptions)
+   */
+  public CompletableFuture<Response<Instance>> getInstance(GetInstanceOptions getInstanceOptions) {
+    return submit(vpc -> vpc.getInstance(getInstanceOptions));
+  }
+
+  /**
+   * Update an instance.
+   *
+   * @param updateInstanceOptions the {@link UpdateInstanceOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Instance}
+   * @see Vpc#updateInstance(UpdateInstanceOptions)
+   */
+  public CompletableFuture<Response<Instance>> updateInstance(UpdateInstanceOptions updateInstanceOptions) {
+    return submit(vpc -> vpc.updateInstance(updateInstanceOptions));
+  }
+
+  /**
+   * Retrieve initialization configuration for an instance.
+   *
+   * @param getInstanceInitializationOptions the {@link GetInstanceInitializationOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceInitialization}
+   * @see Vpc#getInstanceInitialization(GetInstanceInitializationOptions)
+   */
+  public CompletableFuture<Response<InstanceInitialization>> getInstanceInitialization(GetInstanceInitializationOptions getInstanceInitializationOptions) {
+    return submit(vpc -> vpc.getInstanceInitialization(getInstanceInitializationOptions));
+  }
+
+  /**
+   * Create an instance action.
+   *
+   * @param createInstanceActionOptions the {@link CreateInstanceActionOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceAction}
+   * @see Vpc#createInstanceAction(CreateInstanceActionOptions)
+   */
+  public CompletableFuture<Response<InstanceAction>> createInstanceAction(CreateInstanceActionOptions createInstanceActionOptions) {
+    return submit(vpc -> vpc.createInstanceAction(createInstanceActionOptions));
+  }
+
+  /**
+   * Create a console access token for an instance.
+   *
+   * @param createInstanceConsoleAccessTokenOptions the {@link CreateInstanceConsoleAccessTokenOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceConsoleAccessToken}
+   * @see Vpc#createInstanceConsoleAccessToken(CreateInstanceConsoleAccessTokenOptions)
+   */
+  public CompletableFuture<Response<InstanceConsoleAccessToken>> createInstanceConsoleAccessToken(CreateInstanceConsoleAccessTokenOptions createInstanceConsoleAccessTokenOptions) {
+    return submit(vpc -> vpc.createInstanceConsoleAccessToken(createInstanceConsoleAccessTokenOptions));
+  }
+
+  /**
+   * List all disks on an instance.
+   *
+   * @param listInstanceDisksOptions the {@link ListInstanceDisksOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceDiskCollection}
+   * @see Vpc#listInstanceDisks(ListInstanceDisksOptions)
+   */
+  public CompletableFuture<Response<InstanceDiskCollection>> listInstanceDisks(ListInstanceDisksOptions listInstanceDisksOptions) {
+    return submit(vpc -> vpc.listInstanceDisks(listInstanceDisksOptions));
+  }
+
+  /**
+   * Retrieve an instance disk.
+   *
+   * @param getInstanceDiskOptions the {@link GetInstanceDiskOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceDisk}
+   * @see Vpc#getInstanceDisk(GetInstanceDiskOptions)
+   */
+  public CompletableFuture<Response<InstanceDisk>> getInstanceDisk(GetInstanceDiskOptions getInstanceDiskOptions) {
+    return submit(vpc -> vpc.getInstanceDisk(getInstanceDiskOptions));
+  }
+
+  /**
+   * Update an instance disk.
+   *
+   * @param updateInstanceDiskOptions the {@link UpdateInstanceDiskOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceDisk}
+   * @see Vpc#updateInstanceDisk(UpdateInstanceDiskOptions)
+   */
+  public CompletableFuture<Response<InstanceDisk>> updateInstanceDisk(UpdateInstanceDiskOptions updateInstanceDiskOptions) {
+    return submit(vpc -> vpc.updateInstanceDisk(updateInstanceDiskOptions));
+  }
+
+  /**
+   * List all network interfaces on an instance.
+   *
+   * @param listInstanceNetworkInterfacesOptions the {@link ListInstanceNetworkInterfacesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkInterfaceUnpaginatedCollection}
+   * @see Vpc#listInstanceNetworkInterfaces(ListInstanceNetworkInterfacesOptions)
+   */
+  public CompletableFuture<Response<NetworkInterfaceUnpaginatedCollection>> listInstanceNetworkInterfaces(ListInstanceNetworkInterfacesOptions listInstanceNetworkInterfacesOptions) {
+    return submit(vpc -> vpc.listInstanceNetworkInterfaces(listInstanceNetworkInterfacesOptions));
+  }
+
+  /**
+   * Create a network interface on an instance.
+   *
+   * @param createInstanceNetworkInterfaceOptions the {@link CreateInstanceNetworkInterfaceOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkInterface}
+   * @see Vpc#createInstanceNetworkInterface(CreateInstanceNetworkInterfaceOptions)
+   */
+  public CompletableFuture<Response<NetworkInterface>> createInstanceNetworkInterface(CreateInstanceNetworkInterfaceOptions createInstanceNetworkInterfaceOptions) {
+    return submit(vpc -> vpc.createInstanceNetworkInterface(createInstanceNetworkInterfaceOptions));
+  }
+
+  /**
+   * Delete a network interface.
+   *
+   * @param deleteInstanceNetworkInterfaceOptions the {@link DeleteInstanceNetworkInterfaceOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceNetworkInterface(DeleteInstanceNetworkInterfaceOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceNetworkInterface(DeleteInstanceNetworkInterfaceOptions deleteInstanceNetworkInterfaceOptions) {
+    return submit(vpc -> vpc.deleteInstanceNetworkInterface(deleteInstanceNetworkInterfaceOptions));
+  }
+
+  /**
+   * Retrieve a network interface.
+   *
+   * @param getInstanceNetworkInterfaceOptions the {@link GetInstanceNetworkInterfaceOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkInterface}
+   * @see Vpc#getInstanceNetworkInterface(GetInstanceNetworkInterfaceOptions)
+   */
+  public CompletableFuture<Response<NetworkInterface>> getInstanceNetworkInterface(GetInstanceNetworkInterfaceOptions getInstanceNetworkInterfaceOptions) {
+    return submit(vpc -> vpc.getInstanceNetworkInterface(getInstanceNetworkInterfaceOptions));
+  }
+
+  /**
+   * Update a network interface.
+   *
+   * @param updateInstanceNetworkInterfaceOptions the {@link UpdateInstanceNetworkInterfaceOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkInterface}
+   * @see Vpc#updateInstanceNetworkInterface(UpdateInstanceNetworkInterfaceOptions)
+   */
+  public CompletableFuture<Response<NetworkInterface>> updateInstanceNetworkInterface(UpdateInstanceNetworkInterfaceOptions updateInstanceNetworkInterfaceOptions) {
+    return submit(vpc -> vpc.updateInstanceNetworkInterface(updateInstanceNetworkInterfaceOptions));
+  }
+
+  /**
+   * List all floating IPs associated with a network interface.
+   *
+   * @param listInstanceNetworkInterfaceFloatingIpsOptions the {@link ListInstanceNetworkInterfaceFloatingIpsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FloatingIPUnpaginatedCollection}
+   * @see Vpc#listInstanceNetworkInterfaceFloatingIps(ListInstanceNetworkInterfaceFloatingIpsOptions)
+   */
+  public CompletableFuture<Response<FloatingIPUnpaginatedCollection>> listInstanceNetworkInterfaceFloatingIps(ListInstanceNetworkInterfaceFloatingIpsOptions listInstanceNetworkInterfaceFloatingIpsOptions) {
+    return submit(vpc -> vpc.listInstanceNetworkInterfaceFloatingIps(listInstanceNetworkInterfaceFloatingIpsOptions));
+  }
+
+  /**
+   * Disassociate a floating IP from a network interface.
+   *
+   * @param removeInstanceNetworkInterfaceFloatingIpOptions the {@link RemoveInstanceNetworkInterfaceFloatingIpOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#removeInstanceNetworkInterfaceFloatingIp(RemoveInstanceNetworkInterfaceFloatingIpOptions)
+   */
+  public CompletableFuture<Response<Void>> removeInstanceNetworkInterfaceFloatingIp(RemoveInstanceNetworkInterfaceFloatingIpOptions removeInstanceNetworkInterfaceFloatingIpOptions) {
+    return submit(vpc -> vpc.removeInstanceNetworkInterfaceFloatingIp(removeInstanceNetworkInterfaceFloatingIpOptions));
+  }
+
+  /**
+   * Retrieve associated floating IP.
+   *
+   * @param getInstanceNetworkInterfaceFloatingIpOptions the {@link GetInstanceNetworkInterfaceFloatingIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FloatingIP}
+   * @see Vpc#getInstanceNetworkInterfaceFloatingIp(GetInstanceNetworkInterfaceFloatingIpOptions)
+   */
+  public CompletableFuture<Response<FloatingIP>> getInstanceNetworkInterfaceFloatingIp(GetInstanceNetworkInterfaceFloatingIpOptions getInstanceNetworkInterfaceFloatingIpOptions) {
+    return submit(vpc -> vpc.getInstanceNetworkInterfaceFloatingIp(getInstanceNetworkInterfaceFloatingIpOptions));
+  }
+
+  /**
+   * Associate a floating IP with a network interface.
+   *
+   * @param addInstanceNetworkInterfaceFloatingIpOptions the {@link AddInstanceNetworkInterfaceFloatingIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FloatingIP}
+   * @see Vpc#addInstanceNetworkInterfaceFloatingIp(AddInstanceNetworkInterfaceFloatingIpOptions)
+   */
+  public CompletableFuture<Response<FloatingIP>> addInstanceNetworkInterfaceFloatingIp(AddInstanceNetworkInterfaceFloatingIpOptions addInstanceNetworkInterfaceFloatingIpOptions) {
+    return submit(vpc -> vpc.addInstanceNetworkInterfaceFloatingIp(addInstanceNetworkInterfaceFloatingIpOptions));
+  }
+
+  /**
+   * List all volumes attachments on an instance.
+   *
+   * @param listInstanceVolumeAttachmentsOptions the {@link ListInstanceVolumeAttachmentsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VolumeAttachmentCollection}
+   * @see Vpc#listInstanceVolumeAttachments(ListInstanceVolumeAttachmentsOptions)
+   */
+  public CompletableFuture<Response<VolumeAttachmentCollection>> listInstanceVolumeAttachments(ListInstanceVolumeAttachmentsOptions listInstanceVolumeAttachmentsOptions) {
+    return submit(vpc -> vpc.listInstanceVolumeAttachments(listInstanceVolumeAttachmentsOptions));
+  }
+
+  /**
+   * Create a volume attachment on an instance.
+   *
+   * @param createInstanceVolumeAttachmentOptions the {@link CreateInstanceVolumeAttachmentOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VolumeAttachment}
+   * @see Vpc#createInstanceVolumeAttachment(CreateInstanceVolumeAttachmentOptions)
+   */
+  public CompletableFuture<Response<VolumeAttachment>> createInstanceVolumeAttachment(CreateInstanceVolumeAttachmentOptions createInstanceVolumeAttachmentOptions) {
+    return submit(vpc -> vpc.createInstanceVolumeAttachment(createInstanceVolumeAttachmentOptions));
+  }
+
+  /**
+   * Delete a volume attachment.
+   *
+   * @param deleteInstanceVolumeAttachmentOptions the {@link DeleteInstanceVolumeAttachmentOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceVolumeAttachment(DeleteInstanceVolumeAttachmentOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceVolumeAttachment(DeleteInstanceVolumeAttachmentOptions deleteInstanceVolumeAttachmentOptions) {
+    return submit(vpc -> vpc.deleteInstanceVolumeAttachment(deleteInstanceVolumeAttachmentOptions));
+  }
+
+  /**
+   * Retrieve a volume attachment.
+   *
+   * @param getInstanceVolumeAttachmentOptions the {@link GetInstanceVolumeAttachmentOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VolumeAttachment}
+   * @see Vpc#getInstanceVolumeAttachment(GetInstanceVolumeAttachmentOptions)
+   */
+  public CompletableFuture<Response<VolumeAttachment>> getInstanceVolumeAttachment(GetInstanceVolumeAttachmentOptions getInstanceVolumeAttachmentOptions) {
+    return submit(vpc -> vpc.getInstanceVolumeAttachment(getInstanceVolumeAttachmentOptions));
+  }
+
+  /**
+   * Update a volume attachment.
+   *
+   * @param updateInstanceVolumeAttachmentOptions the {@link UpdateInstanceVolumeAttachmentOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VolumeAttachment}
+   * @see Vpc#updateInstanceVolumeAttachment(UpdateInstanceVolumeAttachmentOptions)
+   */
+  public CompletableFuture<Response<VolumeAttachment>> updateInstanceVolumeAttachment(UpdateInstanceVolumeAttachmentOptions updateInstanceVolumeAttachmentOptions) {
+    return submit(vpc -> vpc.updateInstanceVolumeAttachment(updateInstanceVolumeAttachmentOptions));
+  }
+
+  /**
+   * List all instance groups.
+   *
+   * @param listInstanceGroupsOptions the {@link ListInstanceGroupsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupCollection}
+   * @see Vpc#listInstanceGroups(ListInstanceGroupsOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupCollection>> listInstanceGroups(ListInstanceGroupsOptions listInstanceGroupsOptions) {
+    return submit(vpc -> vpc.listInstanceGroups(listInstanceGroupsOptions));
+  }
+
+  /**
+   * List all instance groups.
+   *
+   * @return a future which completes with a response with a result of type {@link InstanceGroupCollection}
+   * @see Vpc#listInstanceGroups()
+   */
+  public CompletableFuture<Response<InstanceGroupCollection>> listInstanceGroups() {
+    return submit(vpc -> vpc.listInstanceGroups());
+  }
+
+  /**
+   * Create an instance group.
+   *
+   * @param createInstanceGroupOptions the {@link CreateInstanceGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroup}
+   * @see Vpc#createInstanceGroup(CreateInstanceGroupOptions)
+   */
+  public CompletableFuture<Response<InstanceGroup>> createInstanceGroup(CreateInstanceGroupOptions createInstanceGroupOptions) {
+    return submit(vpc -> vpc.createInstanceGroup(createInstanceGroupOptions));
+  }
+
+  /**
+   * Delete an instance group.
+   *
+   * @param deleteInstanceGroupOptions the {@link DeleteInstanceGroupOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceGroup(DeleteInstanceGroupOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceGroup(DeleteInstanceGroupOptions deleteInstanceGroupOptions) {
+    return submit(vpc -> vpc.deleteInstanceGroup(deleteInstanceGroupOptions));
+  }
+
+  /**
+   * Retrieve an instance group.
+   *
+   * @param getInstanceGroupOptions the {@link GetInstanceGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroup}
+   * @see Vpc#getInstanceGroup(GetInstanceGroupOptions)
+   */
+  public CompletableFuture<Response<InstanceGroup>> getInstanceGroup(GetInstanceGroupOptions getInstanceGroupOptions) {
+    return submit(vpc -> vpc.getInstanceGroup(getInstanceGroupOptions));
+  }
+
+  /**
+   * Update an instance group.
+   *
+   * @param updateInstanceGroupOptions the {@link UpdateInstanceGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroup}
+   * @see Vpc#updateInstanceGroup(UpdateInstanceGroupOptions)
+   */
+  public CompletableFuture<Response<InstanceGroup>> updateInstanceGroup(UpdateInstanceGroupOptions updateInstanceGroupOptions) {
+    return submit(vpc -> vpc.updateInstanceGroup(updateInstanceGroupOptions));
+  }
+
+  /**
+   * Delete an instance group load balancer.
+   *
+   * @param deleteInstanceGroupLoadBalancerOptions the {@link DeleteInstanceGroupLoadBalancerOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceGroupLoadBalancer(DeleteInstanceGroupLoadBalancerOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceGroupLoadBalancer(DeleteInstanceGroupLoadBalancerOptions deleteInstanceGroupLoadBalancerOptions) {
+    return submit(vpc -> vpc.deleteInstanceGroupLoadBalancer(deleteInstanceGroupLoadBalancerOptions));
+  }
+
+  /**
+   * List all managers for an instance group.
+   *
+   * @param listInstanceGroupManagersOptions the {@link ListInstanceGroupManagersOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManagerCollection}
+   * @see Vpc#listInstanceGroupManagers(ListInstanceGroupManagersOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManagerCollection>> listInstanceGroupManagers(ListInstanceGroupManagersOptions listInstanceGroupManagersOptions) {
+    return submit(vpc -> vpc.listInstanceGroupManagers(listInstanceGroupManagersOptions));
+  }
+
+  /**
+   * Create a manager for an instance group.
+   *
+   * @param createInstanceGroupManagerOptions the {@link CreateInstanceGroupManagerOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManager}
+   * @see Vpc#createInstanceGroupManager(CreateInstanceGroupManagerOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManager>> createInstanceGroupManager(CreateInstanceGroupManagerOptions createInstanceGroupManagerOptions) {
+    return submit(vpc -> vpc.createInstanceGroupManager(createInstanceGroupManagerOptions));
+  }
+
+  /**
+   * Delete an instance group manager.
+   *
+   * @param deleteInstanceGroupManagerOptions the {@link DeleteInstanceGroupManagerOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceGroupManager(DeleteInstanceGroupManagerOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceGroupManager(DeleteInstanceGroupManagerOptions deleteInstanceGroupManagerOptions) {
+    return submit(vpc -> vpc.deleteInstanceGroupManager(deleteInstanceGroupManagerOptions));
+  }
+
+  /**
+   * Retrieve an instance group manager.
+   *
+   * @param getInstanceGroupManagerOptions the {@link GetInstanceGroupManagerOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManager}
+   * @see Vpc#getInstanceGroupManager(GetInstanceGroupManagerOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManager>> getInstanceGroupManager(GetInstanceGroupManagerOptions getInstanceGroupManagerOptions) {
+    return submit(vpc -> vpc.getInstanceGroupManager(getInstanceGroupManagerOptions));
+  }
+
+  /**
+   * Update an instance group manager.
+   *
+   * @param updateInstanceGroupManagerOptions the {@link UpdateInstanceGroupManagerOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManager}
+   * @see Vpc#updateInstanceGroupManager(UpdateInstanceGroupManagerOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManager>> updateInstanceGroupManager(UpdateInstanceGroupManagerOptions updateInstanceGroupManagerOptions) {
+    return submit(vpc -> vpc.updateInstanceGroupManager(updateInstanceGroupManagerOptions));
+  }
+
+  /**
+   * List all actions for an instance group manager.
+   *
+   * @param listInstanceGroupManagerActionsOptions the {@link ListInstanceGroupManagerActionsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManagerActionsCollection}
+   * @see Vpc#listInstanceGroupManagerActions(ListInstanceGroupManagerActionsOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManagerActionsCollection>> listInstanceGroupManagerActions(ListInstanceGroupManagerActionsOptions listInstanceGroupManagerActionsOptions) {
+    return submit(vpc -> vpc.listInstanceGroupManagerActions(listInstanceGroupManagerActionsOptions));
+  }
+
+  /**
+   * Create an instance group manager action.
+   *
+   * @param createInstanceGroupManagerActionOptions the {@link CreateInstanceGroupManagerActionOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManagerAction}
+   * @see Vpc#createInstanceGroupManagerAction(CreateInstanceGroupManagerActionOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManagerAction>> createInstanceGroupManagerAction(CreateInstanceGroupManagerActionOptions createInstanceGroupManagerActionOptions) {
+    return submit(vpc -> vpc.createInstanceGroupManagerAction(createInstanceGroupManagerActionOptions));
+  }
+
+  /**
+   * Delete specified instance group manager action.
+   *
+   * @param deleteInstanceGroupManagerActionOptions the {@link DeleteInstanceGroupManagerActionOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceGroupManagerAction(DeleteInstanceGroupManagerActionOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceGroupManagerAction(DeleteInstanceGroupManagerActionOptions deleteInstanceGroupManagerActionOptions) {
+    return submit(vpc -> vpc.deleteInstanceGroupManagerAction(deleteInstanceGroupManagerActionOptions));
+  }
+
+  /**
+   * Retrieve specified instance group manager action.
+   *
+   * @param getInstanceGroupManagerActionOptions the {@link GetInstanceGroupManagerActionOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManagerAction}
+   * @see Vpc#getInstanceGroupManagerAction(GetInstanceGroupManagerActionOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManagerAction>> getInstanceGroupManagerAction(GetInstanceGroupManagerActionOptions getInstanceGroupManagerActionOptions) {
+    return submit(vpc -> vpc.getInstanceGroupManagerAction(getInstanceGroupManagerActionOptions));
+  }
+
+  /**
+   * Update specified instance group manager action.
+   *
+   * @param updateInstanceGroupManagerActionOptions the {@link UpdateInstanceGroupManagerActionOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManagerAction}
+   * @see Vpc#updateInstanceGroupManagerAction(UpdateInstanceGroupManagerActionOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManagerAction>> updateInstanceGroupManagerAction(UpdateInstanceGroupManagerActionOptions updateInstanceGroupManagerActionOptions) {
+    return submit(vpc -> vpc.updateInstanceGroupManagerAction(updateInstanceGroupManagerActionOptions));
+  }
+
+  /**
+   * List all policies for an instance group manager.
+   *
+   * @param listInstanceGroupManagerPoliciesOptions the {@link ListInstanceGroupManagerPoliciesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManagerPolicyCollection}
+   * @see Vpc#listInstanceGroupManagerPolicies(ListInstanceGroupManagerPoliciesOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManagerPolicyCollection>> listInstanceGroupManagerPolicies(ListInstanceGroupManagerPoliciesOptions listInstanceGroupManagerPoliciesOptions) {
+    return submit(vpc -> vpc.listInstanceGroupManagerPolicies(listInstanceGroupManagerPoliciesOptions));
+  }
+
+  /**
+   * Create a policy for an instance group manager.
+   *
+   * @param createInstanceGroupManagerPolicyOptions the {@link CreateInstanceGroupManagerPolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManagerPolicy}
+   * @see Vpc#createInstanceGroupManagerPolicy(CreateInstanceGroupManagerPolicyOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManagerPolicy>> createInstanceGroupManagerPolicy(CreateInstanceGroupManagerPolicyOptions createInstanceGroupManagerPolicyOptions) {
+    return submit(vpc -> vpc.createInstanceGroupManagerPolicy(createInstanceGroupManagerPolicyOptions));
+  }
+
+  /**
+   * Delete an instance group manager policy.
+   *
+   * @param deleteInstanceGroupManagerPolicyOptions the {@link DeleteInstanceGroupManagerPolicyOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceGroupManagerPolicy(DeleteInstanceGroupManagerPolicyOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceGroupManagerPolicy(DeleteInstanceGroupManagerPolicyOptions deleteInstanceGroupManagerPolicyOptions) {
+    return submit(vpc -> vpc.deleteInstanceGroupManagerPolicy(deleteInstanceGroupManagerPolicyOptions));
+  }
+
+  /**
+   * Retrieve an instance group manager policy.
+   *
+   * @param getInstanceGroupManagerPolicyOptions the {@link GetInstanceGroupManagerPolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManagerPolicy}
+   * @see Vpc#getInstanceGroupManagerPolicy(GetInstanceGroupManagerPolicyOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManagerPolicy>> getInstanceGroupManagerPolicy(GetInstanceGroupManagerPolicyOptions getInstanceGroupManagerPolicyOptions) {
+    return submit(vpc -> vpc.getInstanceGroupManagerPolicy(getInstanceGroupManagerPolicyOptions));
+  }
+
+  /**
+   * Update an instance group manager policy.
+   *
+   * @param updateInstanceGroupManagerPolicyOptions the {@link UpdateInstanceGroupManagerPolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupManagerPolicy}
+   * @see Vpc#updateInstanceGroupManagerPolicy(UpdateInstanceGroupManagerPolicyOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupManagerPolicy>> updateInstanceGroupManagerPolicy(UpdateInstanceGroupManagerPolicyOptions updateInstanceGroupManagerPolicyOptions) {
+    return submit(vpc -> vpc.updateInstanceGroupManagerPolicy(updateInstanceGroupManagerPolicyOptions));
+  }
+
+  /**
+   * Delete all memberships from an instance group.
+   *
+   * @param deleteInstanceGroupMembershipsOptions the {@link DeleteInstanceGroupMembershipsOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceGroupMemberships(DeleteInstanceGroupMembershipsOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceGroupMemberships(DeleteInstanceGroupMembershipsOptions deleteInstanceGroupMembershipsOptions) {
+    return submit(vpc -> vpc.deleteInstanceGroupMemberships(deleteInstanceGroupMembershipsOptions));
+  }
+
+  /**
+   * List all memberships for an instance group.
+   *
+   * @param listInstanceGroupMembershipsOptions the {@link ListInstanceGroupMembershipsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupMembershipCollection}
+   * @see Vpc#listInstanceGroupMemberships(ListInstanceGroupMembershipsOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupMembershipCollection>> listInstanceGroupMemberships(ListInstanceGroupMembershipsOptions listInstanceGroupMembershipsOptions) {
+    return submit(vpc -> vpc.listInstanceGroupMemberships(listInstanceGroupMembershipsOptions));
+  }
+
+  /**
+   * Delete an instance group membership.
+   *
+   * @param deleteInstanceGroupMembershipOptions the {@link DeleteInstanceGroupMembershipOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteInstanceGroupMembership(DeleteInstanceGroupMembershipOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteInstanceGroupMembership(DeleteInstanceGroupMembershipOptions deleteInstanceGroupMembershipOptions) {
+    return submit(vpc -> vpc.deleteInstanceGroupMembership(deleteInstanceGroupMembershipOptions));
+  }
+
+  /**
+   * Retrieve an instance group membership.
+   *
+   * @param getInstanceGroupMembershipOptions the {@link GetInstanceGroupMembershipOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupMembership}
+   * @see Vpc#getInstanceGroupMembership(GetInstanceGroupMembershipOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupMembership>> getInstanceGroupMembership(GetInstanceGroupMembershipOptions getInstanceGroupMembershipOptions) {
+    return submit(vpc -> vpc.getInstanceGroupMembership(getInstanceGroupMembershipOptions));
+  }
+
+  /**
+   * Update an instance group membership.
+   *
+   * @param updateInstanceGroupMembershipOptions the {@link UpdateInstanceGroupMembershipOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link InstanceGroupMembership}
+   * @see Vpc#updateInstanceGroupMembership(UpdateInstanceGroupMembershipOptions)
+   */
+  public CompletableFuture<Response<InstanceGroupMembership>> updateInstanceGroupMembership(UpdateInstanceGroupMembershipOptions updateInstanceGroupMembershipOptions) {
+    return submit(vpc -> vpc.updateInstanceGroupMembership(updateInstanceGroupMembershipOptions));
+  }
+
+  /**
+   * List all dedicated host groups.
+   *
+   * @param listDedicatedHostGroupsOptions the {@link ListDedicatedHostGroupsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostGroupCollection}
+   * @see Vpc#listDedicatedHostGroups(ListDedicatedHostGroupsOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostGroupCollection>> listDedicatedHostGroups(ListDedicatedHostGroupsOptions listDedicatedHostGroupsOptions) {
+    return submit(vpc -> vpc.listDedicatedHostGroups(listDedicatedHostGroupsOptions));
+  }
+
+  /**
+   * List all dedicated host groups.
+   *
+   * @return a future which completes with a response with a result of type {@link DedicatedHostGroupCollection}
+   * @see Vpc#listDedicatedHostGroups()
+   */
+  public CompletableFuture<Response<DedicatedHostGroupCollection>> listDedicatedHostGroups() {
+    return submit(vpc -> vpc.listDedicatedHostGroups());
+  }
+
+  /**
+   * Create a dedicated host group.
+   *
+   * @param createDedicatedHostGroupOptions the {@link CreateDedicatedHostGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostGroup}
+   * @see Vpc#createDedicatedHostGroup(CreateDedicatedHostGroupOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostGroup>> createDedicatedHostGroup(CreateDedicatedHostGroupOptions createDedicatedHostGroupOptions) {
+    return submit(vpc -> vpc.createDedicatedHostGroup(createDedicatedHostGroupOptions));
+  }
+
+  /**
+   * Create a dedicated host group.
+   *
+   * @return a future which completes with a response with a result of type {@link DedicatedHostGroup}
+   * @see Vpc#createDedicatedHostGroup()
+   */
+  public CompletableFuture<Response<DedicatedHostGroup>> createDedicatedHostGroup() {
+    return submit(vpc -> vpc.createDedicatedHostGroup());
+  }
+
+  /**
+   * Delete a dedicated host group.
+   *
+   * @param deleteDedicatedHostGroupOptions the {@link DeleteDedicatedHostGroupOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteDedicatedHostGroup(DeleteDedicatedHostGroupOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteDedicatedHostGroup(DeleteDedicatedHostGroupOptions deleteDedicatedHostGroupOptions) {
+    return submit(vpc -> vpc.deleteDedicatedHostGroup(deleteDedicatedHostGroupOptions));
+  }
+
+  /**
+   * Retrieve a dedicated host group.
+   *
+   * @param getDedicatedHostGroupOptions the {@link GetDedicatedHostGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostGroup}
+   * @see Vpc#getDedicatedHostGroup(GetDedicatedHostGroupOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostGroup>> getDedicatedHostGroup(GetDedicatedHostGroupOptions getDedicatedHostGroupOptions) {
+    return submit(vpc -> vpc.getDedicatedHostGroup(getDedicatedHostGroupOptions));
+  }
+
+  /**
+   * Update a dedicated host group.
+   *
+   * @param updateDedicatedHostGroupOptions the {@link UpdateDedicatedHostGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostGroup}
+   * @see Vpc#updateDedicatedHostGroup(UpdateDedicatedHostGroupOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostGroup>> updateDedicatedHostGroup(UpdateDedicatedHostGroupOptions updateDedicatedHostGroupOptions) {
+    return submit(vpc -> vpc.updateDedicatedHostGroup(updateDedicatedHostGroupOptions));
+  }
+
+  /**
+   * List all dedicated host profiles.
+   *
+   * @param listDedicatedHostProfilesOptions the {@link ListDedicatedHostProfilesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostProfileCollection}
+   * @see Vpc#listDedicatedHostProfiles(ListDedicatedHostProfilesOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostProfileCollection>> listDedicatedHostProfiles(ListDedicatedHostProfilesOptions listDedicatedHostProfilesOptions) {
+    return submit(vpc -> vpc.listDedicatedHostProfiles(listDedicatedHostProfilesOptions));
+  }
+
+  /**
+   * List all dedicated host profiles.
+   *
+   * @return a future which completes with a response with a result of type {@link DedicatedHostProfileCollection}
+   * @see Vpc#listDedicatedHostProfiles()
+   */
+  public CompletableFuture<Response<DedicatedHostProfileCollection>> listDedicatedHostProfiles() {
+    return submit(vpc -> vpc.listDedicatedHostProfiles());
+  }
+
+  /**
+   * Retrieve a dedicated host profile.
+   *
+   * @param getDedicatedHostProfileOptions the {@link GetDedicatedHostProfileOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostProfile}
+   * @see Vpc#getDedicatedHostProfile(GetDedicatedHostProfileOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostProfile>> getDedicatedHostProfile(GetDedicatedHostProfileOptions getDedicatedHostProfileOptions) {
+    return submit(vpc -> vpc.getDedicatedHostProfile(getDedicatedHostProfileOptions));
+  }
+
+  /**
+   * List all dedicated hosts.
+   *
+   * @param listDedicatedHostsOptions the {@link ListDedicatedHostsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostCollection}
+   * @see Vpc#listDedicatedHosts(ListDedicatedHostsOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostCollection>> listDedicatedHosts(ListDedicatedHostsOptions listDedicatedHostsOptions) {
+    return submit(vpc -> vpc.listDedicatedHosts(listDedicatedHostsOptions));
+  }
+
+  /**
+   * List all dedicated hosts.
+   *
+   * @return a future which completes with a response with a result of type {@link DedicatedHostCollection}
+   * @see Vpc#listDedicatedHosts()
+   */
+  public CompletableFuture<Response<DedicatedHostCollection>> listDedicatedHosts() {
+    return submit(vpc -> vpc.listDedicatedHosts());
+  }
+
+  /**
+   * Create a dedicated host.
+   *
+   * @param createDedicatedHostOptions the {@link CreateDedicatedHostOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHost}
+   * @see Vpc#createDedicatedHost(CreateDedicatedHostOptions)
+   */
+  public CompletableFuture<Response<DedicatedHost>> createDedicatedHost(CreateDedicatedHostOptions createDedicatedHostOptions) {
+    return submit(vpc -> vpc.createDedicatedHost(createDedicatedHostOptions));
+  }
+
+  /**
+   * List all disks on a dedicated host.
+   *
+   * @param listDedicatedHostDisksOptions the {@link ListDedicatedHostDisksOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostDiskCollection}
+   * @see Vpc#listDedicatedHostDisks(ListDedicatedHostDisksOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostDiskCollection>> listDedicatedHostDisks(ListDedicatedHostDisksOptions listDedicatedHostDisksOptions) {
+    return submit(vpc -> vpc.listDedicatedHostDisks(listDedicatedHostDisksOptions));
+  }
+
+  /**
+   * Retrieve a dedicated host disk.
+   *
+   * @param getDedicatedHostDiskOptions the {@link GetDedicatedHostDiskOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostDisk}
+   * @see Vpc#getDedicatedHostDisk(GetDedicatedHostDiskOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostDisk>> getDedicatedHostDisk(GetDedicatedHostDiskOptions getDedicatedHostDiskOptions) {
+    return submit(vpc -> vpc.getDedicatedHostDisk(getDedicatedHostDiskOptions));
+  }
+
+  /**
+   * Update a dedicated host disk.
+   *
+   * @param updateDedicatedHostDiskOptions the {@link UpdateDedicatedHostDiskOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHostDisk}
+   * @see Vpc#updateDedicatedHostDisk(UpdateDedicatedHostDiskOptions)
+   */
+  public CompletableFuture<Response<DedicatedHostDisk>> updateDedicatedHostDisk(UpdateDedicatedHostDiskOptions updateDedicatedHostDiskOptions) {
+    return submit(vpc -> vpc.updateDedicatedHostDisk(updateDedicatedHostDiskOptions));
+  }
+
+  /**
+   * Delete a dedicated host.
+   *
+   * @param deleteDedicatedHostOptions the {@link DeleteDedicatedHostOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteDedicatedHost(DeleteDedicatedHostOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteDedicatedHost(DeleteDedicatedHostOptions deleteDedicatedHostOptions) {
+    return submit(vpc -> vpc.deleteDedicatedHost(deleteDedicatedHostOptions));
+  }
+
+  /**
+   * Retrieve a dedicated host.
+   *
+   * @param getDedicatedHostOptions the {@link GetDedicatedHostOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHost}
+   * @see Vpc#getDedicatedHost(GetDedicatedHostOptions)
+   */
+  public CompletableFuture<Response<DedicatedHost>> getDedicatedHost(GetDedicatedHostOptions getDedicatedHostOptions) {
+    return submit(vpc -> vpc.getDedicatedHost(getDedicatedHostOptions));
+  }
+
+  /**
+   * Update a dedicated host.
+   *
+   * @param updateDedicatedHostOptions the {@link UpdateDedicatedHostOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link DedicatedHost}
+   * @see Vpc#updateDedicatedHost(UpdateDedicatedHostOptions)
+   */
+  public CompletableFuture<Response<DedicatedHost>> updateDedicatedHost(UpdateDedicatedHostOptions updateDedicatedHostOptions) {
+    return submit(vpc -> vpc.updateDedicatedHost(updateDedicatedHostOptions));
+  }
+
+  /**
+   * List all volume profiles.
+   *
+   * @param listVolumeProfilesOptions the {@link ListVolumeProfilesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VolumeProfileCollection}
+   * @see Vpc#listVolumeProfiles(ListVolumeProfilesOptions)
+   */
+  public CompletableFuture<Response<VolumeProfileCollection>> listVolumeProfiles(ListVolumeProfilesOptions listVolumeProfilesOptions) {
+    return submit(vpc -> vpc.listVolumeProfiles(listVolumeProfilesOptions));
+  }
+
+  /**
+   * List all volume profiles.
+   *
+   * @return a future which completes with a response with a result of type {@link VolumeProfileCollection}
+   * @see Vpc#listVolumeProfiles()
+   */
+  public CompletableFuture<Response<VolumeProfileCollection>> listVolumeProfiles() {
+    return submit(vpc -> vpc.listVolumeProfiles());
+  }
+
+  /**
+   * Retrieve a volume profile.
+   *
+   * @param getVolumeProfileOptions the {@link GetVolumeProfileOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VolumeProfile}
+   * @see Vpc#getVolumeProfile(GetVolumeProfileOptions)
+   */
+  public CompletableFuture<Response<VolumeProfile>> getVolumeProfile(GetVolumeProfileOptions getVolumeProfileOptions) {
+    return submit(vpc -> vpc.getVolumeProfile(getVolumeProfileOptions));
+  }
+
+  /**
+   * List all volumes.
+   *
+   * @param listVolumesOptions the {@link ListVolumesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VolumeCollection}
+   * @see Vpc#listVolumes(ListVolumesOptions)
+   */
+  public CompletableFuture<Response<VolumeCollection>> listVolumes(ListVolumesOptions listVolumesOptions) {
+    return submit(vpc -> vpc.listVolumes(listVolumesOptions));
+  }
+
+  /**
+   * List all volumes.
+   *
+   * @return a future which completes with a response with a result of type {@link VolumeCollection}
+   * @see Vpc#listVolumes()
+   */
+  public CompletableFuture<Response<VolumeCollection>> listVolumes() {
+    return submit(vpc -> vpc.listVolumes());
+  }
+
+  /**
+   * Create a volume.
+   *
+   * @param createVolumeOptions the {@link CreateVolumeOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Volume}
+   * @see Vpc#createVolume(CreateVolumeOptions)
+   */
+  public CompletableFuture<Response<Volume>> createVolume(CreateVolumeOptions createVolumeOptions) {
+    return submit(vpc -> vpc.createVolume(createVolumeOptions));
+  }
+
+  /**
+   * Delete a volume.
+   *
+   * @param deleteVolumeOptions the {@link DeleteVolumeOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteVolume(DeleteVolumeOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteVolume(DeleteVolumeOptions deleteVolumeOptions) {
+    return submit(vpc -> vpc.deleteVolume(deleteVolumeOptions));
+  }
+
+  /**
+   * Retrieve a volume.
+   *
+   * @param getVolumeOptions the {@link GetVolumeOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Volume}
+   * @see Vpc#getVolume(GetVolumeOptions)
+   */
+  public CompletableFuture<Response<Volume>> getVolume(GetVolumeOptions getVolumeOptions) {
+    return submit(vpc -> vpc.getVolume(getVolumeOptions));
+  }
+
+  /**
+   * Update a volume.
+   *
+   * @param updateVolumeOptions the {@link UpdateVolumeOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Volume}
+   * @see Vpc#updateVolume(UpdateVolumeOptions)
+   */
+  public CompletableFuture<Response<Volume>> updateVolume(UpdateVolumeOptions updateVolumeOptions) {
+    return submit(vpc -> vpc.updateVolume(updateVolumeOptions));
+  }
+
+  /**
+   * List all regions.
+   *
+   * @param listRegionsOptions the {@link ListRegionsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link RegionCollection}
+   * @see Vpc#listRegions(ListRegionsOptions)
+   */
+  public CompletableFuture<Response<RegionCollection>> listRegions(ListRegionsOptions listRegionsOptions) {
+    return submit(vpc -> vpc.listRegions(listRegionsOptions));
+  }
+
+  /**
+   * List all regions.
+   *
+   * @return a future which completes with a response with a result of type {@link RegionCollection}
+   * @see Vpc#listRegions()
+   */
+  public CompletableFuture<Response<RegionCollection>> listRegions() {
+    return submit(vpc -> vpc.listRegions());
+  }
+
+  /**
+   * Retrieve a region.
+   *
+   * @param getRegionOptions the {@link GetRegionOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Region}
+   * @see Vpc#getRegion(GetRegionOptions)
+   */
+  public CompletableFuture<Response<Region>> getRegion(GetRegionOptions getRegionOptions) {
+    return submit(vpc -> vpc.getRegion(getRegionOptions));
+  }
+
+  /**
+   * List all zones in a region.
+   *
+   * @param listRegionZonesOptions the {@link ListRegionZonesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link ZoneCollection}
+   * @see Vpc#listRegionZones(ListRegionZonesOptions)
+   */
+  public CompletableFuture<Response<ZoneCollection>> listRegionZones(ListRegionZonesOptions listRegionZonesOptions) {
+    return submit(vpc -> vpc.listRegionZones(listRegionZonesOptions));
+  }
+
+  /**
+   * Retrieve a zone.
+   *
+   * @param getRegionZoneOptions the {@link GetRegionZoneOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link Zone}
+   * @see Vpc#getRegionZone(GetRegionZoneOptions)
+   */
+  public CompletableFuture<Response<Zone>> getRegionZone(GetRegionZoneOptions getRegionZoneOptions) {
+    return submit(vpc -> vpc.getRegionZone(getRegionZoneOptions));
+  }
+
+  /**
+   * List all public gateways.
+   *
+   * @param listPublicGatewaysOptions the {@link ListPublicGatewaysOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link PublicGatewayCollection}
+   * @see Vpc#listPublicGateways(ListPublicGatewaysOptions)
+   */
+  public CompletableFuture<Response<PublicGatewayCollection>> listPublicGateways(ListPublicGatewaysOptions listPublicGatewaysOptions) {
+    return submit(vpc -> vpc.listPublicGateways(listPublicGatewaysOptions));
+  }
+
+  /**
+   * List all public gateways.
+   *
+   * @return a future which completes with a response with a result of type {@link PublicGatewayCollection}
+   * @see Vpc#listPublicGateways()
+   */
+  public CompletableFuture<Response<PublicGatewayCollection>> listPublicGateways() {
+    return submit(vpc -> vpc.listPublicGateways());
+  }
+
+  /**
+   * Create a public gateway.
+   *
+   * @param createPublicGatewayOptions the {@link CreatePublicGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link PublicGateway}
+   * @see Vpc#createPublicGateway(CreatePublicGatewayOptions)
+   */
+  public CompletableFuture<Response<PublicGateway>> createPublicGateway(CreatePublicGatewayOptions createPublicGatewayOptions) {
+    return submit(vpc -> vpc.createPublicGateway(createPublicGatewayOptions));
+  }
+
+  /**
+   * Delete a public gateway.
+   *
+   * @param deletePublicGatewayOptions the {@link DeletePublicGatewayOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deletePublicGateway(DeletePublicGatewayOptions)
+   */
+  public CompletableFuture<Response<Void>> deletePublicGateway(DeletePublicGatewayOptions deletePublicGatewayOptions) {
+    return submit(vpc -> vpc.deletePublicGateway(deletePublicGatewayOptions));
+  }
+
+  /**
+   * Retrieve a public gateway.
+   *
+   * @param getPublicGatewayOptions the {@link GetPublicGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link PublicGateway}
+   * @see Vpc#getPublicGateway(GetPublicGatewayOptions)
+   */
+  public CompletableFuture<Response<PublicGateway>> getPublicGateway(GetPublicGatewayOptions getPublicGatewayOptions) {
+    return submit(vpc -> vpc.getPublicGateway(getPublicGatewayOptions));
+  }
+
+  /**
+   * Update a public gateway.
+   *
+   * @param updatePublicGatewayOptions the {@link UpdatePublicGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link PublicGateway}
+   * @see Vpc#updatePublicGateway(UpdatePublicGatewayOptions)
+   */
+  public CompletableFuture<Response<PublicGateway>> updatePublicGateway(UpdatePublicGatewayOptions updatePublicGatewayOptions) {
+    return submit(vpc -> vpc.updatePublicGateway(updatePublicGatewayOptions));
+  }
+
+  /**
+   * List all floating IPs.
+   *
+   * @param listFloatingIpsOptions the {@link ListFloatingIpsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FloatingIPCollection}
+   * @see Vpc#listFloatingIps(ListFloatingIpsOptions)
+   */
+  public CompletableFuture<Response<FloatingIPCollection>> listFloatingIps(ListFloatingIpsOptions listFloatingIpsOptions) {
+    return submit(vpc -> vpc.listFloatingIps(listFloatingIpsOptions));
+  }
+
+  /**
+   * List all floating IPs.
+   *
+   * @return a future which completes with a response with a result of type {@link FloatingIPCollection}
+   * @see Vpc#listFloatingIps()
+   */
+  public CompletableFuture<Response<FloatingIPCollection>> listFloatingIps() {
+    return submit(vpc -> vpc.listFloatingIps());
+  }
+
+  /**
+   * Reserve a floating IP.
+   *
+   * @param createFloatingIpOptions the {@link CreateFloatingIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FloatingIP}
+   * @see Vpc#createFloatingIp(CreateFloatingIpOptions)
+   */
+  public CompletableFuture<Response<FloatingIP>> createFloatingIp(CreateFloatingIpOptions createFloatingIpOptions) {
+    return submit(vpc -> vpc.createFloatingIp(createFloatingIpOptions));
+  }
+
+  /**
+   * Release a floating IP.
+   *
+   * @param deleteFloatingIpOptions the {@link DeleteFloatingIpOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteFloatingIp(DeleteFloatingIpOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteFloatingIp(DeleteFloatingIpOptions deleteFloatingIpOptions) {
+    return submit(vpc -> vpc.deleteFloatingIp(deleteFloatingIpOptions));
+  }
+
+  /**
+   * Retrieve a floating IP.
+   *
+   * @param getFloatingIpOptions the {@link GetFloatingIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FloatingIP}
+   * @see Vpc#getFloatingIp(GetFloatingIpOptions)
+   */
+  public CompletableFuture<Response<FloatingIP>> getFloatingIp(GetFloatingIpOptions getFloatingIpOptions) {
+    return submit(vpc -> vpc.getFloatingIp(getFloatingIpOptions));
+  }
+
+  /**
+   * Update a floating IP.
+   *
+   * @param updateFloatingIpOptions the {@link UpdateFloatingIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FloatingIP}
+   * @see Vpc#updateFloatingIp(UpdateFloatingIpOptions)
+   */
+  public CompletableFuture<Response<FloatingIP>> updateFloatingIp(UpdateFloatingIpOptions updateFloatingIpOptions) {
+    return submit(vpc -> vpc.updateFloatingIp(updateFloatingIpOptions));
+  }
+
+  /**
+   * List all network ACLs.
+   *
+   * @param listNetworkAclsOptions the {@link ListNetworkAclsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACLCollection}
+   * @see Vpc#listNetworkAcls(ListNetworkAclsOptions)
+   */
+  public CompletableFuture<Response<NetworkACLCollection>> listNetworkAcls(ListNetworkAclsOptions listNetworkAclsOptions) {
+    return submit(vpc -> vpc.listNetworkAcls(listNetworkAclsOptions));
+  }
+
+  /**
+   * List all network ACLs.
+   *
+   * @return a future which completes with a response with a result of type {@link NetworkACLCollection}
+   * @see Vpc#listNetworkAcls()
+   */
+  public CompletableFuture<Response<NetworkACLCollection>> listNetworkAcls() {
+    return submit(vpc -> vpc.listNetworkAcls());
+  }
+
+  /**
+   * Create a network ACL.
+   *
+   * @param createNetworkAclOptions the {@link CreateNetworkAclOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACL}
+   * @see Vpc#createNetworkAcl(CreateNetworkAclOptions)
+   */
+  public CompletableFuture<Response<NetworkACL>> createNetworkAcl(CreateNetworkAclOptions createNetworkAclOptions) {
+    return submit(vpc -> vpc.createNetworkAcl(createNetworkAclOptions));
+  }
+
+  /**
+   * Create a network ACL.
+   *
+   * @return a future which completes with a response with a result of type {@link NetworkACL}
+   * @see Vpc#createNetworkAcl()
+   */
+  public CompletableFuture<Response<NetworkACL>> createNetworkAcl() {
+    return submit(vpc -> vpc.createNetworkAcl());
+  }
+
+  /**
+   * Delete a network ACL.
+   *
+   * @param deleteNetworkAclOptions the {@link DeleteNetworkAclOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteNetworkAcl(DeleteNetworkAclOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteNetworkAcl(DeleteNetworkAclOptions deleteNetworkAclOptions) {
+    return submit(vpc -> vpc.deleteNetworkAcl(deleteNetworkAclOptions));
+  }
+
+  /**
+   * Retrieve a network ACL.
+   *
+   * @param getNetworkAclOptions the {@link GetNetworkAclOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACL}
+   * @see Vpc#getNetworkAcl(GetNetworkAclOptions)
+   */
+  public CompletableFuture<Response<NetworkACL>> getNetworkAcl(GetNetworkAclOptions getNetworkAclOptions) {
+    return submit(vpc -> vpc.getNetworkAcl(getNetworkAclOptions));
+  }
+
+  /**
+   * Update a network ACL.
+   *
+   * @param updateNetworkAclOptions the {@link UpdateNetworkAclOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACL}
+   * @see Vpc#updateNetworkAcl(UpdateNetworkAclOptions)
+   */
+  public CompletableFuture<Response<NetworkACL>> updateNetworkAcl(UpdateNetworkAclOptions updateNetworkAclOptions) {
+    return submit(vpc -> vpc.updateNetworkAcl(updateNetworkAclOptions));
+  }
+
+  /**
+   * List all rules for a network ACL.
+   *
+   * @param listNetworkAclRulesOptions the {@link ListNetworkAclRulesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACLRuleCollection}
+   * @see Vpc#listNetworkAclRules(ListNetworkAclRulesOptions)
+   */
+  public CompletableFuture<Response<NetworkACLRuleCollection>> listNetworkAclRules(ListNetworkAclRulesOptions listNetworkAclRulesOptions) {
+    return submit(vpc -> vpc.listNetworkAclRules(listNetworkAclRulesOptions));
+  }
+
+  /**
+   * Create a rule for a network ACL.
+   *
+   * @param createNetworkAclRuleOptions the {@link CreateNetworkAclRuleOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACLRule}
+   * @see Vpc#createNetworkAclRule(CreateNetworkAclRuleOptions)
+   */
+  public CompletableFuture<Response<NetworkACLRule>> createNetworkAclRule(CreateNetworkAclRuleOptions createNetworkAclRuleOptions) {
+    return submit(vpc -> vpc.createNetworkAclRule(createNetworkAclRuleOptions));
+  }
+
+  /**
+   * Delete a network ACL rule.
+   *
+   * @param deleteNetworkAclRuleOptions the {@link DeleteNetworkAclRuleOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteNetworkAclRule(DeleteNetworkAclRuleOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteNetworkAclRule(DeleteNetworkAclRuleOptions deleteNetworkAclRuleOptions) {
+    return submit(vpc -> vpc.deleteNetworkAclRule(deleteNetworkAclRuleOptions));
+  }
+
+  /**
+   * Retrieve a network ACL rule.
+   *
+   * @param getNetworkAclRuleOptions the {@link GetNetworkAclRuleOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACLRule}
+   * @see Vpc#getNetworkAclRule(GetNetworkAclRuleOptions)
+   */
+  public CompletableFuture<Response<NetworkACLRule>> getNetworkAclRule(GetNetworkAclRuleOptions getNetworkAclRuleOptions) {
+    return submit(vpc -> vpc.getNetworkAclRule(getNetworkAclRuleOptions));
+  }
+
+  /**
+   * Update a network ACL rule.
+   *
+   * @param updateNetworkAclRuleOptions the {@link UpdateNetworkAclRuleOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkACLRule}
+   * @see Vpc#updateNetworkAclRule(UpdateNetworkAclRuleOptions)
+   */
+  public CompletableFuture<Response<NetworkACLRule>> updateNetworkAclRule(UpdateNetworkAclRuleOptions updateNetworkAclRuleOptions) {
+    return submit(vpc -> vpc.updateNetworkAclRule(updateNetworkAclRuleOptions));
+  }
+
+  /**
+   * List all security groups.
+   *
+   * @param listSecurityGroupsOptions the {@link ListSecurityGroupsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroupCollection}
+   * @see Vpc#listSecurityGroups(ListSecurityGroupsOptions)
+   */
+  public CompletableFuture<Response<SecurityGroupCollection>> listSecurityGroups(ListSecurityGroupsOptions listSecurityGroupsOptions) {
+    return submit(vpc -> vpc.listSecurityGroups(listSecurityGroupsOptions));
+  }
+
+  /**
+   * List all security groups.
+   *
+   * @return a future which completes with a response with a result of type {@link SecurityGroupCollection}
+   * @see Vpc#listSecurityGroups()
+   */
+  public CompletableFuture<Response<SecurityGroupCollection>> listSecurityGroups() {
+    return submit(vpc -> vpc.listSecurityGroups());
+  }
+
+  /**
+   * Create a security group.
+   *
+   * @param createSecurityGroupOptions the {@link CreateSecurityGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroup}
+   * @see Vpc#createSecurityGroup(CreateSecurityGroupOptions)
+   */
+  public CompletableFuture<Response<SecurityGroup>> createSecurityGroup(CreateSecurityGroupOptions createSecurityGroupOptions) {
+    return submit(vpc -> vpc.createSecurityGroup(createSecurityGroupOptions));
+  }
+
+  /**
+   * Delete a security group.
+   *
+   * @param deleteSecurityGroupOptions the {@link DeleteSecurityGroupOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteSecurityGroup(DeleteSecurityGroupOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteSecurityGroup(DeleteSecurityGroupOptions deleteSecurityGroupOptions) {
+    return submit(vpc -> vpc.deleteSecurityGroup(deleteSecurityGroupOptions));
+  }
+
+  /**
+   * Retrieve a security group.
+   *
+   * @param getSecurityGroupOptions the {@link GetSecurityGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroup}
+   * @see Vpc#getSecurityGroup(GetSecurityGroupOptions)
+   */
+  public CompletableFuture<Response<SecurityGroup>> getSecurityGroup(GetSecurityGroupOptions getSecurityGroupOptions) {
+    return submit(vpc -> vpc.getSecurityGroup(getSecurityGroupOptions));
+  }
+
+  /**
+   * Update a security group.
+   *
+   * @param updateSecurityGroupOptions the {@link UpdateSecurityGroupOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroup}
+   * @see Vpc#updateSecurityGroup(UpdateSecurityGroupOptions)
+   */
+  public CompletableFuture<Response<SecurityGroup>> updateSecurityGroup(UpdateSecurityGroupOptions updateSecurityGroupOptions) {
+    return submit(vpc -> vpc.updateSecurityGroup(updateSecurityGroupOptions));
+  }
+
+  /**
+   * List all network interfaces associated with a security group.
+   *
+   * @param listSecurityGroupNetworkInterfacesOptions the {@link ListSecurityGroupNetworkInterfacesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkInterfaceCollection}
+   * @see Vpc#listSecurityGroupNetworkInterfaces(ListSecurityGroupNetworkInterfacesOptions)
+   */
+  public CompletableFuture<Response<NetworkInterfaceCollection>> listSecurityGroupNetworkInterfaces(ListSecurityGroupNetworkInterfacesOptions listSecurityGroupNetworkInterfacesOptions) {
+    return submit(vpc -> vpc.listSecurityGroupNetworkInterfaces(listSecurityGroupNetworkInterfacesOptions));
+  }
+
+  /**
+   * Remove a network interface from a security group.
+   *
+   * @param removeSecurityGroupNetworkInterfaceOptions the {@link RemoveSecurityGroupNetworkInterfaceOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#removeSecurityGroupNetworkInterface(RemoveSecurityGroupNetworkInterfaceOptions)
+   */
+  public CompletableFuture<Response<Void>> removeSecurityGroupNetworkInterface(RemoveSecurityGroupNetworkInterfaceOptions removeSecurityGroupNetworkInterfaceOptions) {
+    return submit(vpc -> vpc.removeSecurityGroupNetworkInterface(removeSecurityGroupNetworkInterfaceOptions));
+  }
+
+  /**
+   * Retrieve a network interface in a security group.
+   *
+   * @param getSecurityGroupNetworkInterfaceOptions the {@link GetSecurityGroupNetworkInterfaceOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkInterface}
+   * @see Vpc#getSecurityGroupNetworkInterface(GetSecurityGroupNetworkInterfaceOptions)
+   */
+  public CompletableFuture<Response<NetworkInterface>> getSecurityGroupNetworkInterface(GetSecurityGroupNetworkInterfaceOptions getSecurityGroupNetworkInterfaceOptions) {
+    return submit(vpc -> vpc.getSecurityGroupNetworkInterface(getSecurityGroupNetworkInterfaceOptions));
+  }
+
+  /**
+   * Add a network interface to a security group.
+   *
+   * @param addSecurityGroupNetworkInterfaceOptions the {@link AddSecurityGroupNetworkInterfaceOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link NetworkInterface}
+   * @see Vpc#addSecurityGroupNetworkInterface(AddSecurityGroupNetworkInterfaceOptions)
+   */
+  public CompletableFuture<Response<NetworkInterface>> addSecurityGroupNetworkInterface(AddSecurityGroupNetworkInterfaceOptions addSecurityGroupNetworkInterfaceOptions) {
+    return submit(vpc -> vpc.addSecurityGroupNetworkInterface(addSecurityGroupNetworkInterfaceOptions));
+  }
+
+  /**
+   * List all rules in a security group.
+   *
+   * @param listSecurityGroupRulesOptions the {@link ListSecurityGroupRulesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroupRuleCollection}
+   * @see Vpc#listSecurityGroupRules(ListSecurityGroupRulesOptions)
+   */
+  public CompletableFuture<Response<SecurityGroupRuleCollection>> listSecurityGroupRules(ListSecurityGroupRulesOptions listSecurityGroupRulesOptions) {
+    return submit(vpc -> vpc.listSecurityGroupRules(listSecurityGroupRulesOptions));
+  }
+
+  /**
+   * Create a rule for a security group.
+   *
+   * @param createSecurityGroupRuleOptions the {@link CreateSecurityGroupRuleOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroupRule}
+   * @see Vpc#createSecurityGroupRule(CreateSecurityGroupRuleOptions)
+   */
+  public CompletableFuture<Response<SecurityGroupRule>> createSecurityGroupRule(CreateSecurityGroupRuleOptions createSecurityGroupRuleOptions) {
+    return submit(vpc -> vpc.createSecurityGroupRule(createSecurityGroupRuleOptions));
+  }
+
+  /**
+   * Delete a security group rule.
+   *
+   * @param deleteSecurityGroupRuleOptions the {@link DeleteSecurityGroupRuleOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteSecurityGroupRule(DeleteSecurityGroupRuleOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteSecurityGroupRule(DeleteSecurityGroupRuleOptions deleteSecurityGroupRuleOptions) {
+    return submit(vpc -> vpc.deleteSecurityGroupRule(deleteSecurityGroupRuleOptions));
+  }
+
+  /**
+   * Retrieve a security group rule.
+   *
+   * @param getSecurityGroupRuleOptions the {@link GetSecurityGroupRuleOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroupRule}
+   * @see Vpc#getSecurityGroupRule(GetSecurityGroupRuleOptions)
+   */
+  public CompletableFuture<Response<SecurityGroupRule>> getSecurityGroupRule(GetSecurityGroupRuleOptions getSecurityGroupRuleOptions) {
+    return submit(vpc -> vpc.getSecurityGroupRule(getSecurityGroupRuleOptions));
+  }
+
+  /**
+   * Update a security group rule.
+   *
+   * @param updateSecurityGroupRuleOptions the {@link UpdateSecurityGroupRuleOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroupRule}
+   * @see Vpc#updateSecurityGroupRule(UpdateSecurityGroupRuleOptions)
+   */
+  public CompletableFuture<Response<SecurityGroupRule>> updateSecurityGroupRule(UpdateSecurityGroupRuleOptions updateSecurityGroupRuleOptions) {
+    return submit(vpc -> vpc.updateSecurityGroupRule(updateSecurityGroupRuleOptions));
+  }
+
+  /**
+   * List all targets associated with a security group.
+   *
+   * @param listSecurityGroupTargetsOptions the {@link ListSecurityGroupTargetsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroupTargetCollection}
+   * @see Vpc#listSecurityGroupTargets(ListSecurityGroupTargetsOptions)
+   */
+  public CompletableFuture<Response<SecurityGroupTargetCollection>> listSecurityGroupTargets(ListSecurityGroupTargetsOptions listSecurityGroupTargetsOptions) {
+    return submit(vpc -> vpc.listSecurityGroupTargets(listSecurityGroupTargetsOptions));
+  }
+
+  /**
+   * Remove a target from a security group.
+   *
+   * @param deleteSecurityGroupTargetBindingOptions the {@link DeleteSecurityGroupTargetBindingOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteSecurityGroupTargetBinding(DeleteSecurityGroupTargetBindingOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteSecurityGroupTargetBinding(DeleteSecurityGroupTargetBindingOptions deleteSecurityGroupTargetBindingOptions) {
+    return submit(vpc -> vpc.deleteSecurityGroupTargetBinding(deleteSecurityGroupTargetBindingOptions));
+  }
+
+  /**
+   * Retrieve a security group target.
+   *
+   * @param getSecurityGroupTargetOptions the {@link GetSecurityGroupTargetOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroupTargetReference}
+   * @see Vpc#getSecurityGroupTarget(GetSecurityGroupTargetOptions)
+   */
+  public CompletableFuture<Response<SecurityGroupTargetReference>> getSecurityGroupTarget(GetSecurityGroupTargetOptions getSecurityGroupTargetOptions) {
+    return submit(vpc -> vpc.getSecurityGroupTarget(getSecurityGroupTargetOptions));
+  }
+
+  /**
+   * Add a target to a security group.
+   *
+   * @param createSecurityGroupTargetBindingOptions the {@link CreateSecurityGroupTargetBindingOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link SecurityGroupTargetReference}
+   * @see Vpc#createSecurityGroupTargetBinding(CreateSecurityGroupTargetBindingOptions)
+   */
+  public CompletableFuture<Response<SecurityGroupTargetReference>> createSecurityGroupTargetBinding(CreateSecurityGroupTargetBindingOptions createSecurityGroupTargetBindingOptions) {
+    return submit(vpc -> vpc.createSecurityGroupTargetBinding(createSecurityGroupTargetBindingOptions));
+  }
+
+  /**
+   * List all IKE policies.
+   *
+   * @param listIkePoliciesOptions the {@link ListIkePoliciesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link IKEPolicyCollection}
+   * @see Vpc#listIkePolicies(ListIkePoliciesOptions)
+   */
+  public CompletableFuture<Response<IKEPolicyCollection>> listIkePolicies(ListIkePoliciesOptions listIkePoliciesOptions) {
+    return submit(vpc -> vpc.listIkePolicies(listIkePoliciesOptions));
+  }
+
+  /**
+   * List all IKE policies.
+   *
+   * @return a future which completes with a response with a result of type {@link IKEPolicyCollection}
+   * @see Vpc#listIkePolicies()
+   */
+  public CompletableFuture<Response<IKEPolicyCollection>> listIkePolicies() {
+    return submit(vpc -> vpc.listIkePolicies());
+  }
+
+  /**
+   * Create an IKE policy.
+   *
+   * @param createIkePolicyOptions the {@link CreateIkePolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link IKEPolicy}
+   * @see Vpc#createIkePolicy(CreateIkePolicyOptions)
+   */
+  public CompletableFuture<Response<IKEPolicy>> createIkePolicy(CreateIkePolicyOptions createIkePolicyOptions) {
+    return submit(vpc -> vpc.createIkePolicy(createIkePolicyOptions));
+  }
+
+  /**
+   * Delete an IKE policy.
+   *
+   * @param deleteIkePolicyOptions the {@link DeleteIkePolicyOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteIkePolicy(DeleteIkePolicyOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteIkePolicy(DeleteIkePolicyOptions deleteIkePolicyOptions) {
+    return submit(vpc -> vpc.deleteIkePolicy(deleteIkePolicyOptions));
+  }
+
+  /**
+   * Retrieve an IKE policy.
+   *
+   * @param getIkePolicyOptions the {@link GetIkePolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link IKEPolicy}
+   * @see Vpc#getIkePolicy(GetIkePolicyOptions)
+   */
+  public CompletableFuture<Response<IKEPolicy>> getIkePolicy(GetIkePolicyOptions getIkePolicyOptions) {
+    return submit(vpc -> vpc.getIkePolicy(getIkePolicyOptions));
+  }
+
+  /**
+   * Update an IKE policy.
+   *
+   * @param updateIkePolicyOptions the {@link UpdateIkePolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link IKEPolicy}
+   * @see Vpc#updateIkePolicy(UpdateIkePolicyOptions)
+   */
+  public CompletableFuture<Response<IKEPolicy>> updateIkePolicy(UpdateIkePolicyOptions updateIkePolicyOptions) {
+    return submit(vpc -> vpc.updateIkePolicy(updateIkePolicyOptions));
+  }
+
+  /**
+   * List all VPN gateway connections that use a specified IKE policy.
+   *
+   * @param listIkePolicyConnectionsOptions the {@link ListIkePolicyConnectionsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGatewayConnectionCollection}
+   * @see Vpc#listIkePolicyConnections(ListIkePolicyConnectionsOptions)
+   */
+  public CompletableFuture<Response<VPNGatewayConnectionCollection>> listIkePolicyConnections(ListIkePolicyConnectionsOptions listIkePolicyConnectionsOptions) {
+    return submit(vpc -> vpc.listIkePolicyConnections(listIkePolicyConnectionsOptions));
+  }
+
+  /**
+   * List all IPsec policies.
+   *
+   * @param listIpsecPoliciesOptions the {@link ListIpsecPoliciesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link IPsecPolicyCollection}
+   * @see Vpc#listIpsecPolicies(ListIpsecPoliciesOptions)
+   */
+  public CompletableFuture<Response<IPsecPolicyCollection>> listIpsecPolicies(ListIpsecPoliciesOptions listIpsecPoliciesOptions) {
+    return submit(vpc -> vpc.listIpsecPolicies(listIpsecPoliciesOptions));
+  }
+
+  /**
+   * List all IPsec policies.
+   *
+   * @return a future which completes with a response with a result of type {@link IPsecPolicyCollection}
+   * @see Vpc#listIpsecPolicies()
+   */
+  public CompletableFuture<Response<IPsecPolicyCollection>> listIpsecPolicies() {
+    return submit(vpc -> vpc.listIpsecPolicies());
+  }
+
+  /**
+   * Create an IPsec policy.
+   *
+   * @param createIpsecPolicyOptions the {@link CreateIpsecPolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link IPsecPolicy}
+   * @see Vpc#createIpsecPolicy(CreateIpsecPolicyOptions)
+   */
+  public CompletableFuture<Response<IPsecPolicy>> createIpsecPolicy(CreateIpsecPolicyOptions createIpsecPolicyOptions) {
+    return submit(vpc -> vpc.createIpsecPolicy(createIpsecPolicyOptions));
+  }
+
+  /**
+   * Delete an IPsec policy.
+   *
+   * @param deleteIpsecPolicyOptions the {@link DeleteIpsecPolicyOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteIpsecPolicy(DeleteIpsecPolicyOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteIpsecPolicy(DeleteIpsecPolicyOptions deleteIpsecPolicyOptions) {
+    return submit(vpc -> vpc.deleteIpsecPolicy(deleteIpsecPolicyOptions));
+  }
+
+  /**
+   * Retrieve an IPsec policy.
+   *
+   * @param getIpsecPolicyOptions the {@link GetIpsecPolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link IPsecPolicy}
+   * @see Vpc#getIpsecPolicy(GetIpsecPolicyOptions)
+   */
+  public CompletableFuture<Response<IPsecPolicy>> getIpsecPolicy(GetIpsecPolicyOptions getIpsecPolicyOptions) {
+    return submit(vpc -> vpc.getIpsecPolicy(getIpsecPolicyOptions));
+  }
+
+  /**
+   * Update an IPsec policy.
+   *
+   * @param updateIpsecPolicyOptions the {@link UpdateIpsecPolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link IPsecPolicy}
+   * @see Vpc#updateIpsecPolicy(UpdateIpsecPolicyOptions)
+   */
+  public CompletableFuture<Response<IPsecPolicy>> updateIpsecPolicy(UpdateIpsecPolicyOptions updateIpsecPolicyOptions) {
+    return submit(vpc -> vpc.updateIpsecPolicy(updateIpsecPolicyOptions));
+  }
+
+  /**
+   * List all VPN gateway connections that use a specified IPsec policy.
+   *
+   * @param listIpsecPolicyConnectionsOptions the {@link ListIpsecPolicyConnectionsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGatewayConnectionCollection}
+   * @see Vpc#listIpsecPolicyConnections(ListIpsecPolicyConnectionsOptions)
+   */
+  public CompletableFuture<Response<VPNGatewayConnectionCollection>> listIpsecPolicyConnections(ListIpsecPolicyConnectionsOptions listIpsecPolicyConnectionsOptions) {
+    return submit(vpc -> vpc.listIpsecPolicyConnections(listIpsecPolicyConnectionsOptions));
+  }
+
+  /**
+   * List all VPN gateways.
+   *
+   * @param listVpnGatewaysOptions the {@link ListVpnGatewaysOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGatewayCollection}
+   * @see Vpc#listVpnGateways(ListVpnGatewaysOptions)
+   */
+  public CompletableFuture<Response<VPNGatewayCollection>> listVpnGateways(ListVpnGatewaysOptions listVpnGatewaysOptions) {
+    return submit(vpc -> vpc.listVpnGateways(listVpnGatewaysOptions));
+  }
+
+  /**
+   * List all VPN gateways.
+   *
+   * @return a future which completes with a response with a result of type {@link VPNGatewayCollection}
+   * @see Vpc#listVpnGateways()
+   */
+  public CompletableFuture<Response<VPNGatewayCollection>> listVpnGateways() {
+    return submit(vpc -> vpc.listVpnGateways());
+  }
+
+  /**
+   * Create a VPN gateway.
+   *
+   * @param createVpnGatewayOptions the {@link CreateVpnGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGateway}
+   * @see Vpc#createVpnGateway(CreateVpnGatewayOptions)
+   */
+  public CompletableFuture<Response<VPNGateway>> createVpnGateway(CreateVpnGatewayOptions createVpnGatewayOptions) {
+    return submit(vpc -> vpc.createVpnGateway(createVpnGatewayOptions));
+  }
+
+  /**
+   * Delete a VPN gateway.
+   *
+   * @param deleteVpnGatewayOptions the {@link DeleteVpnGatewayOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteVpnGateway(DeleteVpnGatewayOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteVpnGateway(DeleteVpnGatewayOptions deleteVpnGatewayOptions) {
+    return submit(vpc -> vpc.deleteVpnGateway(deleteVpnGatewayOptions));
+  }
+
+  /**
+   * Retrieve a VPN gateway.
+   *
+   * @param getVpnGatewayOptions the {@link GetVpnGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGateway}
+   * @see Vpc#getVpnGateway(GetVpnGatewayOptions)
+   */
+  public CompletableFuture<Response<VPNGateway>> getVpnGateway(GetVpnGatewayOptions getVpnGatewayOptions) {
+    return submit(vpc -> vpc.getVpnGateway(getVpnGatewayOptions));
+  }
+
+  /**
+   * Update a VPN gateway.
+   *
+   * @param updateVpnGatewayOptions the {@link UpdateVpnGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGateway}
+   * @see Vpc#updateVpnGateway(UpdateVpnGatewayOptions)
+   */
+  public CompletableFuture<Response<VPNGateway>> updateVpnGateway(UpdateVpnGatewayOptions updateVpnGatewayOptions) {
+    return submit(vpc -> vpc.updateVpnGateway(updateVpnGatewayOptions));
+  }
+
+  /**
+   * List all connections of a VPN gateway.
+   *
+   * @param listVpnGatewayConnectionsOptions the {@link ListVpnGatewayConnectionsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGatewayConnectionCollection}
+   * @see Vpc#listVpnGatewayConnections(ListVpnGatewayConnectionsOptions)
+   */
+  public CompletableFuture<Response<VPNGatewayConnectionCollection>> listVpnGatewayConnections(ListVpnGatewayConnectionsOptions listVpnGatewayConnectionsOptions) {
+    return submit(vpc -> vpc.listVpnGatewayConnections(listVpnGatewayConnectionsOptions));
+  }
+
+  /**
+   * Create a connection for a VPN gateway.
+   *
+   * @param createVpnGatewayConnectionOptions the {@link CreateVpnGatewayConnectionOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGatewayConnection}
+   * @see Vpc#createVpnGatewayConnection(CreateVpnGatewayConnectionOptions)
+   */
+  public CompletableFuture<Response<VPNGatewayConnection>> createVpnGatewayConnection(CreateVpnGatewayConnectionOptions createVpnGatewayConnectionOptions) {
+    return submit(vpc -> vpc.createVpnGatewayConnection(createVpnGatewayConnectionOptions));
+  }
+
+  /**
+   * Delete a VPN gateway connection.
+   *
+   * @param deleteVpnGatewayConnectionOptions the {@link DeleteVpnGatewayConnectionOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteVpnGatewayConnection(DeleteVpnGatewayConnectionOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteVpnGatewayConnection(DeleteVpnGatewayConnectionOptions deleteVpnGatewayConnectionOptions) {
+    return submit(vpc -> vpc.deleteVpnGatewayConnection(deleteVpnGatewayConnectionOptions));
+  }
+
+  /**
+   * Retrieve a VPN gateway connection.
+   *
+   * @param getVpnGatewayConnectionOptions the {@link GetVpnGatewayConnectionOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGatewayConnection}
+   * @see Vpc#getVpnGatewayConnection(GetVpnGatewayConnectionOptions)
+   */
+  public CompletableFuture<Response<VPNGatewayConnection>> getVpnGatewayConnection(GetVpnGatewayConnectionOptions getVpnGatewayConnectionOptions) {
+    return submit(vpc -> vpc.getVpnGatewayConnection(getVpnGatewayConnectionOptions));
+  }
+
+  /**
+   * Update a VPN gateway connection.
+   *
+   * @param updateVpnGatewayConnectionOptions the {@link UpdateVpnGatewayConnectionOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGatewayConnection}
+   * @see Vpc#updateVpnGatewayConnection(UpdateVpnGatewayConnectionOptions)
+   */
+  public CompletableFuture<Response<VPNGatewayConnection>> updateVpnGatewayConnection(UpdateVpnGatewayConnectionOptions updateVpnGatewayConnectionOptions) {
+    return submit(vpc -> vpc.updateVpnGatewayConnection(updateVpnGatewayConnectionOptions));
+  }
+
+  /**
+   * List all local CIDRs for a VPN gateway connection.
+   *
+   * @param listVpnGatewayConnectionLocalCidrsOptions the {@link ListVpnGatewayConnectionLocalCidrsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGatewayConnectionLocalCIDRs}
+   * @see Vpc#listVpnGatewayConnectionLocalCidrs(ListVpnGatewayConnectionLocalCidrsOptions)
+   */
+  public CompletableFuture<Response<VPNGatewayConnectionLocalCIDRs>> listVpnGatewayConnectionLocalCidrs(ListVpnGatewayConnectionLocalCidrsOptions listVpnGatewayConnectionLocalCidrsOptions) {
+    return submit(vpc -> vpc.listVpnGatewayConnectionLocalCidrs(listVpnGatewayConnectionLocalCidrsOptions));
+  }
+
+  /**
+   * Remove a local CIDR from a VPN gateway connection.
+   *
+   * @param removeVpnGatewayConnectionLocalCidrOptions the {@link RemoveVpnGatewayConnectionLocalCidrOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#removeVpnGatewayConnectionLocalCidr(RemoveVpnGatewayConnectionLocalCidrOptions)
+   */
+  public CompletableFuture<Response<Void>> removeVpnGatewayConnectionLocalCidr(RemoveVpnGatewayConnectionLocalCidrOptions removeVpnGatewayConnectionLocalCidrOptions) {
+    return submit(vpc -> vpc.removeVpnGatewayConnectionLocalCidr(removeVpnGatewayConnectionLocalCidrOptions));
+  }
+
+  /**
+   * Check if the specified local CIDR exists on a VPN gateway connection.
+   *
+   * @param checkVpnGatewayConnectionLocalCidrOptions the {@link CheckVpnGatewayConnectionLocalCidrOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#checkVpnGatewayConnectionLocalCidr(CheckVpnGatewayConnectionLocalCidrOptions)
+   */
+  public CompletableFuture<Response<Void>> checkVpnGatewayConnectionLocalCidr(CheckVpnGatewayConnectionLocalCidrOptions checkVpnGatewayConnectionLocalCidrOptions) {
+    return submit(vpc -> vpc.checkVpnGatewayConnectionLocalCidr(checkVpnGatewayConnectionLocalCidrOptions));
+  }
+
+  /**
+   * Set a local CIDR on a VPN gateway connection.
+   *
+   * @param addVpnGatewayConnectionLocalCidrOptions the {@link AddVpnGatewayConnectionLocalCidrOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#addVpnGatewayConnectionLocalCidr(AddVpnGatewayConnectionLocalCidrOptions)
+   */
+  public CompletableFuture<Response<Void>> addVpnGatewayConnectionLocalCidr(AddVpnGatewayConnectionLocalCidrOptions addVpnGatewayConnectionLocalCidrOptions) {
+    return submit(vpc -> vpc.addVpnGatewayConnectionLocalCidr(addVpnGatewayConnectionLocalCidrOptions));
+  }
+
+  /**
+   * List all peer CIDRs for a VPN gateway connection.
+   *
+   * @param listVpnGatewayConnectionPeerCidrsOptions the {@link ListVpnGatewayConnectionPeerCidrsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link VPNGatewayConnectionPeerCIDRs}
+   * @see Vpc#listVpnGatewayConnectionPeerCidrs(ListVpnGatewayConnectionPeerCidrsOptions)
+   */
+  public CompletableFuture<Response<VPNGatewayConnectionPeerCIDRs>> listVpnGatewayConnectionPeerCidrs(ListVpnGatewayConnectionPeerCidrsOptions listVpnGatewayConnectionPeerCidrsOptions) {
+    return submit(vpc -> vpc.listVpnGatewayConnectionPeerCidrs(listVpnGatewayConnectionPeerCidrsOptions));
+  }
+
+  /**
+   * Remove a peer CIDR from a VPN gateway connection.
+   *
+   * @param removeVpnGatewayConnectionPeerCidrOptions the {@link RemoveVpnGatewayConnectionPeerCidrOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#removeVpnGatewayConnectionPeerCidr(RemoveVpnGatewayConnectionPeerCidrOptions)
+   */
+  public CompletableFuture<Response<Void>> removeVpnGatewayConnectionPeerCidr(RemoveVpnGatewayConnectionPeerCidrOptions removeVpnGatewayConnectionPeerCidrOptions) {
+    return submit(vpc -> vpc.removeVpnGatewayConnectionPeerCidr(removeVpnGatewayConnectionPeerCidrOptions));
+  }
+
+  /**
+   * Check if the specified peer CIDR exists on a VPN gateway connection.
+   *
+   * @param checkVpnGatewayConnectionPeerCidrOptions the {@link CheckVpnGatewayConnectionPeerCidrOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#checkVpnGatewayConnectionPeerCidr(CheckVpnGatewayConnectionPeerCidrOptions)
+   */
+  public CompletableFuture<Response<Void>> checkVpnGatewayConnectionPeerCidr(CheckVpnGatewayConnectionPeerCidrOptions checkVpnGatewayConnectionPeerCidrOptions) {
+    return submit(vpc -> vpc.checkVpnGatewayConnectionPeerCidr(checkVpnGatewayConnectionPeerCidrOptions));
+  }
+
+  /**
+   * Set a peer CIDR on a VPN gateway connection.
+   *
+   * @param addVpnGatewayConnectionPeerCidrOptions the {@link AddVpnGatewayConnectionPeerCidrOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#addVpnGatewayConnectionPeerCidr(AddVpnGatewayConnectionPeerCidrOptions)
+   */
+  public CompletableFuture<Response<Void>> addVpnGatewayConnectionPeerCidr(AddVpnGatewayConnectionPeerCidrOptions addVpnGatewayConnectionPeerCidrOptions) {
+    return submit(vpc -> vpc.addVpnGatewayConnectionPeerCidr(addVpnGatewayConnectionPeerCidrOptions));
+  }
+
+  /**
+   * List all load balancer profiles.
+   *
+   * @param listLoadBalancerProfilesOptions the {@link ListLoadBalancerProfilesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerProfileCollection}
+   * @see Vpc#listLoadBalancerProfiles(ListLoadBalancerProfilesOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerProfileCollection>> listLoadBalancerProfiles(ListLoadBalancerProfilesOptions listLoadBalancerProfilesOptions) {
+    return submit(vpc -> vpc.listLoadBalancerProfiles(listLoadBalancerProfilesOptions));
+  }
+
+  /**
+   * List all load balancer profiles.
+   *
+   * @return a future which completes with a response with a result of type {@link LoadBalancerProfileCollection}
+   * @see Vpc#listLoadBalancerProfiles()
+   */
+  public CompletableFuture<Response<LoadBalancerProfileCollection>> listLoadBalancerProfiles() {
+    return submit(vpc -> vpc.listLoadBalancerProfiles());
+  }
+
+  /**
+   * Retrieve a load balancer profile.
+   *
+   * @param getLoadBalancerProfileOptions the {@link GetLoadBalancerProfileOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerProfile}
+   * @see Vpc#getLoadBalancerProfile(GetLoadBalancerProfileOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerProfile>> getLoadBalancerProfile(GetLoadBalancerProfileOptions getLoadBalancerProfileOptions) {
+    return submit(vpc -> vpc.getLoadBalancerProfile(getLoadBalancerProfileOptions));
+  }
+
+  /**
+   * List all load balancers.
+   *
+   * @param listLoadBalancersOptions the {@link ListLoadBalancersOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerCollection}
+   * @see Vpc#listLoadBalancers(ListLoadBalancersOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerCollection>> listLoadBalancers(ListLoadBalancersOptions listLoadBalancersOptions) {
+    return submit(vpc -> vpc.listLoadBalancers(listLoadBalancersOptions));
+  }
+
+  /**
+   * List all load balancers.
+   *
+   * @return a future which completes with a response with a result of type {@link LoadBalancerCollection}
+   * @see Vpc#listLoadBalancers()
+   */
+  public CompletableFuture<Response<LoadBalancerCollection>> listLoadBalancers() {
+    return submit(vpc -> vpc.listLoadBalancers());
+  }
+
+  /**
+   * Create a load balancer.
+   *
+   * @param createLoadBalancerOptions the {@link CreateLoadBalancerOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancer}
+   * @see Vpc#createLoadBalancer(CreateLoadBalancerOptions)
+   */
+  public CompletableFuture<Response<LoadBalancer>> createLoadBalancer(CreateLoadBalancerOptions createLoadBalancerOptions) {
+    return submit(vpc -> vpc.createLoadBalancer(createLoadBalancerOptions));
+  }
+
+  /**
+   * Delete a load balancer.
+   *
+   * @param deleteLoadBalancerOptions the {@link DeleteLoadBalancerOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteLoadBalancer(DeleteLoadBalancerOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteLoadBalancer(DeleteLoadBalancerOptions deleteLoadBalancerOptions) {
+    return submit(vpc -> vpc.deleteLoadBalancer(deleteLoadBalancerOptions));
+  }
+
+  /**
+   * Retrieve a load balancer.
+   *
+   * @param getLoadBalancerOptions the {@link GetLoadBalancerOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancer}
+   * @see Vpc#getLoadBalancer(GetLoadBalancerOptions)
+   */
+  public CompletableFuture<Response<LoadBalancer>> getLoadBalancer(GetLoadBalancerOptions getLoadBalancerOptions) {
+    return submit(vpc -> vpc.getLoadBalancer(getLoadBalancerOptions));
+  }
+
+  /**
+   * Update a load balancer.
+   *
+   * @param updateLoadBalancerOptions the {@link UpdateLoadBalancerOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancer}
+   * @see Vpc#updateLoadBalancer(UpdateLoadBalancerOptions)
+   */
+  public CompletableFuture<Response<LoadBalancer>> updateLoadBalancer(UpdateLoadBalancerOptions updateLoadBalancerOptions) {
+    return submit(vpc -> vpc.updateLoadBalancer(updateLoadBalancerOptions));
+  }
+
+  /**
+   * List all statistics of a load balancer.
+   *
+   * @param getLoadBalancerStatisticsOptions the {@link GetLoadBalancerStatisticsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerStatistics}
+   * @see Vpc#getLoadBalancerStatistics(GetLoadBalancerStatisticsOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerStatistics>> getLoadBalancerStatistics(GetLoadBalancerStatisticsOptions getLoadBalancerStatisticsOptions) {
+    return submit(vpc -> vpc.getLoadBalancerStatistics(getLoadBalancerStatisticsOptions));
+  }
+
+  /**
+   * List all listeners for a load balancer.
+   *
+   * @param listLoadBalancerListenersOptions the {@link ListLoadBalancerListenersOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListenerCollection}
+   * @see Vpc#listLoadBalancerListeners(ListLoadBalancerListenersOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListenerCollection>> listLoadBalancerListeners(ListLoadBalancerListenersOptions listLoadBalancerListenersOptions) {
+    return submit(vpc -> vpc.listLoadBalancerListeners(listLoadBalancerListenersOptions));
+  }
+
+  /**
+   * Create a listener for a load balancer.
+   *
+   * @param createLoadBalancerListenerOptions the {@link CreateLoadBalancerListenerOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListener}
+   * @see Vpc#createLoadBalancerListener(CreateLoadBalancerListenerOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListener>> createLoadBalancerListener(CreateLoadBalancerListenerOptions createLoadBalancerListenerOptions) {
+    return submit(vpc -> vpc.createLoadBalancerListener(createLoadBalancerListenerOptions));
+  }
+
+  /**
+   * Delete a load balancer listener.
+   *
+   * @param deleteLoadBalancerListenerOptions the {@link DeleteLoadBalancerListenerOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteLoadBalancerListener(DeleteLoadBalancerListenerOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteLoadBalancerListener(DeleteLoadBalancerListenerOptions deleteLoadBalancerListenerOptions) {
+    return submit(vpc -> vpc.deleteLoadBalancerListener(deleteLoadBalancerListenerOptions));
+  }
+
+  /**
+   * Retrieve a load balancer listener.
+   *
+   * @param getLoadBalancerListenerOptions the {@link GetLoadBalancerListenerOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListener}
+   * @see Vpc#getLoadBalancerListener(GetLoadBalancerListenerOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListener>> getLoadBalancerListener(GetLoadBalancerListenerOptions getLoadBalancerListenerOptions) {
+    return submit(vpc -> vpc.getLoadBalancerListener(getLoadBalancerListenerOptions));
+  }
+
+  /**
+   * Update a load balancer listener.
+   *
+   * @param updateLoadBalancerListenerOptions the {@link UpdateLoadBalancerListenerOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListener}
+   * @see Vpc#updateLoadBalancerListener(UpdateLoadBalancerListenerOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListener>> updateLoadBalancerListener(UpdateLoadBalancerListenerOptions updateLoadBalancerListenerOptions) {
+    return submit(vpc -> vpc.updateLoadBalancerListener(updateLoadBalancerListenerOptions));
+  }
+
+  /**
+   * List all policies for a load balancer listener.
+   *
+   * @param listLoadBalancerListenerPoliciesOptions the {@link ListLoadBalancerListenerPoliciesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListenerPolicyCollection}
+   * @see Vpc#listLoadBalancerListenerPolicies(ListLoadBalancerListenerPoliciesOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListenerPolicyCollection>> listLoadBalancerListenerPolicies(ListLoadBalancerListenerPoliciesOptions listLoadBalancerListenerPoliciesOptions) {
+    return submit(vpc -> vpc.listLoadBalancerListenerPolicies(listLoadBalancerListenerPoliciesOptions));
+  }
+
+  /**
+   * Create a policy for a load balancer listener.
+   *
+   * @param createLoadBalancerListenerPolicyOptions the {@link CreateLoadBalancerListenerPolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListenerPolicy}
+   * @see Vpc#createLoadBalancerListenerPolicy(CreateLoadBalancerListenerPolicyOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListenerPolicy>> createLoadBalancerListenerPolicy(CreateLoadBalancerListenerPolicyOptions createLoadBalancerListenerPolicyOptions) {
+    return submit(vpc -> vpc.createLoadBalancerListenerPolicy(createLoadBalancerListenerPolicyOptions));
+  }
+
+  /**
+   * Delete a load balancer listener policy.
+   *
+   * @param deleteLoadBalancerListenerPolicyOptions the {@link DeleteLoadBalancerListenerPolicyOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteLoadBalancerListenerPolicy(DeleteLoadBalancerListenerPolicyOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteLoadBalancerListenerPolicy(DeleteLoadBalancerListenerPolicyOptions deleteLoadBalancerListenerPolicyOptions) {
+    return submit(vpc -> vpc.deleteLoadBalancerListenerPolicy(deleteLoadBalancerListenerPolicyOptions));
+  }
+
+  /**
+   * Retrieve a load balancer listener policy.
+   *
+   * @param getLoadBalancerListenerPolicyOptions the {@link GetLoadBalancerListenerPolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListenerPolicy}
+   * @see Vpc#getLoadBalancerListenerPolicy(GetLoadBalancerListenerPolicyOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListenerPolicy>> getLoadBalancerListenerPolicy(GetLoadBalancerListenerPolicyOptions getLoadBalancerListenerPolicyOptions) {
+    return submit(vpc -> vpc.getLoadBalancerListenerPolicy(getLoadBalancerListenerPolicyOptions));
+  }
+
+  /**
+   * Update a load balancer listener policy.
+   *
+   * @param updateLoadBalancerListenerPolicyOptions the {@link UpdateLoadBalancerListenerPolicyOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListenerPolicy}
+   * @see Vpc#updateLoadBalancerListenerPolicy(UpdateLoadBalancerListenerPolicyOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListenerPolicy>> updateLoadBalancerListenerPolicy(UpdateLoadBalancerListenerPolicyOptions updateLoadBalancerListenerPolicyOptions) {
+    return submit(vpc -> vpc.updateLoadBalancerListenerPolicy(updateLoadBalancerListenerPolicyOptions));
+  }
+
+  /**
+   * List all rules of a load balancer listener policy.
+   *
+   * @param listLoadBalancerListenerPolicyRulesOptions the {@link ListLoadBalancerListenerPolicyRulesOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListenerPolicyRuleCollection}
+   * @see Vpc#listLoadBalancerListenerPolicyRules(ListLoadBalancerListenerPolicyRulesOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListenerPolicyRuleCollection>> listLoadBalancerListenerPolicyRules(ListLoadBalancerListenerPolicyRulesOptions listLoadBalancerListenerPolicyRulesOptions) {
+    return submit(vpc -> vpc.listLoadBalancerListenerPolicyRules(listLoadBalancerListenerPolicyRulesOptions));
+  }
+
+  /**
+   * Create a rule for a load balancer listener policy.
+   *
+   * @param createLoadBalancerListenerPolicyRuleOptions the {@link CreateLoadBalancerListenerPolicyRuleOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListenerPolicyRule}
+   * @see Vpc#createLoadBalancerListenerPolicyRule(CreateLoadBalancerListenerPolicyRuleOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListenerPolicyRule>> createLoadBalancerListenerPolicyRule(CreateLoadBalancerListenerPolicyRuleOptions createLoadBalancerListenerPolicyRuleOptions) {
+    return submit(vpc -> vpc.createLoadBalancerListenerPolicyRule(createLoadBalancerListenerPolicyRuleOptions));
+  }
+
+  /**
+   * Delete a load balancer listener policy rule.
+   *
+   * @param deleteLoadBalancerListenerPolicyRuleOptions the {@link DeleteLoadBalancerListenerPolicyRuleOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteLoadBalancerListenerPolicyRule(DeleteLoadBalancerListenerPolicyRuleOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteLoadBalancerListenerPolicyRule(DeleteLoadBalancerListenerPolicyRuleOptions deleteLoadBalancerListenerPolicyRuleOptions) {
+    return submit(vpc -> vpc.deleteLoadBalancerListenerPolicyRule(deleteLoadBalancerListenerPolicyRuleOptions));
+  }
+
+  /**
+   * Retrieve a load balancer listener policy rule.
+   *
+   * @param getLoadBalancerListenerPolicyRuleOptions the {@link GetLoadBalancerListenerPolicyRuleOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListenerPolicyRule}
+   * @see Vpc#getLoadBalancerListenerPolicyRule(GetLoadBalancerListenerPolicyRuleOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListenerPolicyRule>> getLoadBalancerListenerPolicyRule(GetLoadBalancerListenerPolicyRuleOptions getLoadBalancerListenerPolicyRuleOptions) {
+    return submit(vpc -> vpc.getLoadBalancerListenerPolicyRule(getLoadBalancerListenerPolicyRuleOptions));
+  }
+
+  /**
+   * Update a load balancer listener policy rule.
+   *
+   * @param updateLoadBalancerListenerPolicyRuleOptions the {@link UpdateLoadBalancerListenerPolicyRuleOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerListenerPolicyRule}
+   * @see Vpc#updateLoadBalancerListenerPolicyRule(UpdateLoadBalancerListenerPolicyRuleOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerListenerPolicyRule>> updateLoadBalancerListenerPolicyRule(UpdateLoadBalancerListenerPolicyRuleOptions updateLoadBalancerListenerPolicyRuleOptions) {
+    return submit(vpc -> vpc.updateLoadBalancerListenerPolicyRule(updateLoadBalancerListenerPolicyRuleOptions));
+  }
+
+  /**
+   * List all pools of a load balancer.
+   *
+   * @param listLoadBalancerPoolsOptions the {@link ListLoadBalancerPoolsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerPoolCollection}
+   * @see Vpc#listLoadBalancerPools(ListLoadBalancerPoolsOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerPoolCollection>> listLoadBalancerPools(ListLoadBalancerPoolsOptions listLoadBalancerPoolsOptions) {
+    return submit(vpc -> vpc.listLoadBalancerPools(listLoadBalancerPoolsOptions));
+  }
+
+  /**
+   * Create a load balancer pool.
+   *
+   * @param createLoadBalancerPoolOptions the {@link CreateLoadBalancerPoolOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerPool}
+   * @see Vpc#createLoadBalancerPool(CreateLoadBalancerPoolOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerPool>> createLoadBalancerPool(CreateLoadBalancerPoolOptions createLoadBalancerPoolOptions) {
+    return submit(vpc -> vpc.createLoadBalancerPool(createLoadBalancerPoolOptions));
+  }
+
+  /**
+   * Delete a load balancer pool.
+   *
+   * @param deleteLoadBalancerPoolOptions the {@link DeleteLoadBalancerPoolOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteLoadBalancerPool(DeleteLoadBalancerPoolOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteLoadBalancerPool(DeleteLoadBalancerPoolOptions deleteLoadBalancerPoolOptions) {
+    return submit(vpc -> vpc.deleteLoadBalancerPool(deleteLoadBalancerPoolOptions));
+  }
+
+  /**
+   * Retrieve a load balancer pool.
+   *
+   * @param getLoadBalancerPoolOptions the {@link GetLoadBalancerPoolOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerPool}
+   * @see Vpc#getLoadBalancerPool(GetLoadBalancerPoolOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerPool>> getLoadBalancerPool(GetLoadBalancerPoolOptions getLoadBalancerPoolOptions) {
+    return submit(vpc -> vpc.getLoadBalancerPool(getLoadBalancerPoolOptions));
+  }
+
+  /**
+   * Update a load balancer pool.
+   *
+   * @param updateLoadBalancerPoolOptions the {@link UpdateLoadBalancerPoolOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerPool}
+   * @see Vpc#updateLoadBalancerPool(UpdateLoadBalancerPoolOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerPool>> updateLoadBalancerPool(UpdateLoadBalancerPoolOptions updateLoadBalancerPoolOptions) {
+    return submit(vpc -> vpc.updateLoadBalancerPool(updateLoadBalancerPoolOptions));
+  }
+
+  /**
+   * List all members of a load balancer pool.
+   *
+   * @param listLoadBalancerPoolMembersOptions the {@link ListLoadBalancerPoolMembersOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerPoolMemberCollection}
+   * @see Vpc#listLoadBalancerPoolMembers(ListLoadBalancerPoolMembersOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerPoolMemberCollection>> listLoadBalancerPoolMembers(ListLoadBalancerPoolMembersOptions listLoadBalancerPoolMembersOptions) {
+    return submit(vpc -> vpc.listLoadBalancerPoolMembers(listLoadBalancerPoolMembersOptions));
+  }
+
+  /**
+   * Create a member in a load balancer pool.
+   *
+   * @param createLoadBalancerPoolMemberOptions the {@link CreateLoadBalancerPoolMemberOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerPoolMember}
+   * @see Vpc#createLoadBalancerPoolMember(CreateLoadBalancerPoolMemberOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerPoolMember>> createLoadBalancerPoolMember(CreateLoadBalancerPoolMemberOptions createLoadBalancerPoolMemberOptions) {
+    return submit(vpc -> vpc.createLoadBalancerPoolMember(createLoadBalancerPoolMemberOptions));
+  }
+
+  /**
+   * Replace load balancer pool members.
+   *
+   * @param replaceLoadBalancerPoolMembersOptions the {@link ReplaceLoadBalancerPoolMembersOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerPoolMemberCollection}
+   * @see Vpc#replaceLoadBalancerPoolMembers(ReplaceLoadBalancerPoolMembersOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerPoolMemberCollection>> replaceLoadBalancerPoolMembers(ReplaceLoadBalancerPoolMembersOptions replaceLoadBalancerPoolMembersOptions) {
+    return submit(vpc -> vpc.replaceLoadBalancerPoolMembers(replaceLoadBalancerPoolMembersOptions));
+  }
+
+  /**
+   * Delete a load balancer pool member.
+   *
+   * @param deleteLoadBalancerPoolMemberOptions the {@link DeleteLoadBalancerPoolMemberOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteLoadBalancerPoolMember(DeleteLoadBalancerPoolMemberOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteLoadBalancerPoolMember(DeleteLoadBalancerPoolMemberOptions deleteLoadBalancerPoolMemberOptions) {
+    return submit(vpc -> vpc.deleteLoadBalancerPoolMember(deleteLoadBalancerPoolMemberOptions));
+  }
+
+  /**
+   * Retrieve a load balancer pool member.
+   *
+   * @param getLoadBalancerPoolMemberOptions the {@link GetLoadBalancerPoolMemberOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerPoolMember}
+   * @see Vpc#getLoadBalancerPoolMember(GetLoadBalancerPoolMemberOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerPoolMember>> getLoadBalancerPoolMember(GetLoadBalancerPoolMemberOptions getLoadBalancerPoolMemberOptions) {
+    return submit(vpc -> vpc.getLoadBalancerPoolMember(getLoadBalancerPoolMemberOptions));
+  }
+
+  /**
+   * Update a load balancer pool member.
+   *
+   * @param updateLoadBalancerPoolMemberOptions the {@link UpdateLoadBalancerPoolMemberOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link LoadBalancerPoolMember}
+   * @see Vpc#updateLoadBalancerPoolMember(UpdateLoadBalancerPoolMemberOptions)
+   */
+  public CompletableFuture<Response<LoadBalancerPoolMember>> updateLoadBalancerPoolMember(UpdateLoadBalancerPoolMemberOptions updateLoadBalancerPoolMemberOptions) {
+    return submit(vpc -> vpc.updateLoadBalancerPoolMember(updateLoadBalancerPoolMemberOptions));
+  }
+
+  /**
+   * List all endpoint gateways.
+   *
+   * @param listEndpointGatewaysOptions the {@link ListEndpointGatewaysOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link EndpointGatewayCollection}
+   * @see Vpc#listEndpointGateways(ListEndpointGatewaysOptions)
+   */
+  public CompletableFuture<Response<EndpointGatewayCollection>> listEndpointGateways(ListEndpointGatewaysOptions listEndpointGatewaysOptions) {
+    return submit(vpc -> vpc.listEndpointGateways(listEndpointGatewaysOptions));
+  }
+
+  /**
+   * List all endpoint gateways.
+   *
+   * @return a future which completes with a response with a result of type {@link EndpointGatewayCollection}
+   * @see Vpc#listEndpointGateways()
+   */
+  public CompletableFuture<Response<EndpointGatewayCollection>> listEndpointGateways() {
+    return submit(vpc -> vpc.listEndpointGateways());
+  }
+
+  /**
+   * Create an endpoint gateway.
+   *
+   * @param createEndpointGatewayOptions the {@link CreateEndpointGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link EndpointGateway}
+   * @see Vpc#createEndpointGateway(CreateEndpointGatewayOptions)
+   */
+  public CompletableFuture<Response<EndpointGateway>> createEndpointGateway(CreateEndpointGatewayOptions createEndpointGatewayOptions) {
+    return submit(vpc -> vpc.createEndpointGateway(createEndpointGatewayOptions));
+  }
+
+  /**
+   * List all reserved IPs bound to an endpoint gateway.
+   *
+   * @param listEndpointGatewayIpsOptions the {@link ListEndpointGatewayIpsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link ReservedIPCollectionEndpointGatewayContext}
+   * @see Vpc#listEndpointGatewayIps(ListEndpointGatewayIpsOptions)
+   */
+  public CompletableFuture<Response<ReservedIPCollectionEndpointGatewayContext>> listEndpointGatewayIps(ListEndpointGatewayIpsOptions listEndpointGatewayIpsOptions) {
+    return submit(vpc -> vpc.listEndpointGatewayIps(listEndpointGatewayIpsOptions));
+  }
+
+  /**
+   * Unbind a reserved IP from an endpoint gateway.
+   *
+   * @param removeEndpointGatewayIpOptions the {@link RemoveEndpointGatewayIpOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#removeEndpointGatewayIp(RemoveEndpointGatewayIpOptions)
+   */
+  public CompletableFuture<Response<Void>> removeEndpointGatewayIp(RemoveEndpointGatewayIpOptions removeEndpointGatewayIpOptions) {
+    return submit(vpc -> vpc.removeEndpointGatewayIp(removeEndpointGatewayIpOptions));
+  }
+
+  /**
+   * Retrieve a reserved IP bound to an endpoint gateway.
+   *
+   * @param getEndpointGatewayIpOptions the {@link GetEndpointGatewayIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link ReservedIP}
+   * @see Vpc#getEndpointGatewayIp(GetEndpointGatewayIpOptions)
+   */
+  public CompletableFuture<Response<ReservedIP>> getEndpointGatewayIp(GetEndpointGatewayIpOptions getEndpointGatewayIpOptions) {
+    return submit(vpc -> vpc.getEndpointGatewayIp(getEndpointGatewayIpOptions));
+  }
+
+  /**
+   * Bind a reserved IP to an endpoint gateway.
+   *
+   * @param addEndpointGatewayIpOptions the {@link AddEndpointGatewayIpOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link ReservedIP}
+   * @see Vpc#addEndpointGatewayIp(AddEndpointGatewayIpOptions)
+   */
+  public CompletableFuture<Response<ReservedIP>> addEndpointGatewayIp(AddEndpointGatewayIpOptions addEndpointGatewayIpOptions) {
+    return submit(vpc -> vpc.addEndpointGatewayIp(addEndpointGatewayIpOptions));
+  }
+
+  /**
+   * Delete an endpoint gateway.
+   *
+   * @param deleteEndpointGatewayOptions the {@link DeleteEndpointGatewayOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteEndpointGateway(DeleteEndpointGatewayOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteEndpointGateway(DeleteEndpointGatewayOptions deleteEndpointGatewayOptions) {
+    return submit(vpc -> vpc.deleteEndpointGateway(deleteEndpointGatewayOptions));
+  }
+
+  /**
+   * Retrieve an endpoint gateway.
+   *
+   * @param getEndpointGatewayOptions the {@link GetEndpointGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link EndpointGateway}
+   * @see Vpc#getEndpointGateway(GetEndpointGatewayOptions)
+   */
+  public CompletableFuture<Response<EndpointGateway>> getEndpointGateway(GetEndpointGatewayOptions getEndpointGatewayOptions) {
+    return submit(vpc -> vpc.getEndpointGateway(getEndpointGatewayOptions));
+  }
+
+  /**
+   * Update an endpoint gateway.
+   *
+   * @param updateEndpointGatewayOptions the {@link UpdateEndpointGatewayOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link EndpointGateway}
+   * @see Vpc#updateEndpointGateway(UpdateEndpointGatewayOptions)
+   */
+  public CompletableFuture<Response<EndpointGateway>> updateEndpointGateway(UpdateEndpointGatewayOptions updateEndpointGatewayOptions) {
+    return submit(vpc -> vpc.updateEndpointGateway(updateEndpointGatewayOptions));
+  }
+
+  /**
+   * List all flow log collectors.
+   *
+   * @param listFlowLogCollectorsOptions the {@link ListFlowLogCollectorsOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FlowLogCollectorCollection}
+   * @see Vpc#listFlowLogCollectors(ListFlowLogCollectorsOptions)
+   */
+  public CompletableFuture<Response<FlowLogCollectorCollection>> listFlowLogCollectors(ListFlowLogCollectorsOptions listFlowLogCollectorsOptions) {
+    return submit(vpc -> vpc.listFlowLogCollectors(listFlowLogCollectorsOptions));
+  }
+
+  /**
+   * List all flow log collectors.
+   *
+   * @return a future which completes with a response with a result of type {@link FlowLogCollectorCollection}
+   * @see Vpc#listFlowLogCollectors()
+   */
+  public CompletableFuture<Response<FlowLogCollectorCollection>> listFlowLogCollectors() {
+    return submit(vpc -> vpc.listFlowLogCollectors());
+  }
+
+  /**
+   * Create a flow log collector.
+   *
+   * @param createFlowLogCollectorOptions the {@link CreateFlowLogCollectorOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FlowLogCollector}
+   * @see Vpc#createFlowLogCollector(CreateFlowLogCollectorOptions)
+   */
+  public CompletableFuture<Response<FlowLogCollector>> createFlowLogCollector(CreateFlowLogCollectorOptions createFlowLogCollectorOptions) {
+    return submit(vpc -> vpc.createFlowLogCollector(createFlowLogCollectorOptions));
+  }
+
+  /**
+   * Delete a flow log collector.
+   *
+   * @param deleteFlowLogCollectorOptions the {@link DeleteFlowLogCollectorOptions} containing the options for the call
+   * @return a future which completes with the response of the call
+   * @see Vpc#deleteFlowLogCollector(DeleteFlowLogCollectorOptions)
+   */
+  public CompletableFuture<Response<Void>> deleteFlowLogCollector(DeleteFlowLogCollectorOptions deleteFlowLogCollectorOptions) {
+    return submit(vpc -> vpc.deleteFlowLogCollector(deleteFlowLogCollectorOptions));
+  }
+
+  /**
+   * Retrieve a flow log collector.
+   *
+   * @param getFlowLogCollectorOptions the {@link GetFlowLogCollectorOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FlowLogCollector}
+   * @see Vpc#getFlowLogCollector(GetFlowLogCollectorOptions)
+   */
+  public CompletableFuture<Response<FlowLogCollector>> getFlowLogCollector(GetFlowLogCollectorOptions getFlowLogCollectorOptions) {
+    return submit(vpc -> vpc.getFlowLogCollector(getFlowLogCollectorOptions));
+  }
+
+  /**
+   * Update a flow log collector.
+   *
+   * @param updateFlowLogCollectorOptions the {@link UpdateFlowLogCollectorOptions} containing the options for the call
+   * @return a future which completes with a response with a result of type {@link FlowLogCollector}
+   * @see Vpc#updateFlowLogCollector(UpdateFlowLogCollectorOptions)
+   */
+  public CompletableFuture<Response<FlowLogCollector>> updateFlowLogCollector(UpdateFlowLogCollectorOptions updateFlowLogCollectorOptions) {
+    return submit(vpc -> vpc.updateFlowLogCollector(updateFlowLogCollectorOptions));
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+import com.ibm.cloud.is.common.cache.TtlCache;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.http.ServiceCallback;
+import io.reactivex.Single;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The {@link ServiceCall} returned by the cached methods of {@link CachingVpc}: the response is read from the
+ * cache, and the underlying call is only created and executed when the response has to be loaded.
+ *
+ * @param <T> the type of the response model
+ */
+final class CachedServiceCall<T> implements ServiceCall<T> {
+
+  private final TtlCache<String, Response<?>> cache;
+  private final String key;
+  private final Supplier<ServiceCall<T>> calls;
+  private final List<String[]> headers = new ArrayList<>();
+  private volatile ServiceCall<T> current;
+
+  CachedServiceCall(TtlCache<String, Response<?>> cache, String key, Supplier<ServiceCall<T>> calls) {
+    this.cache = cache;
+    this.key = key;
+    this.calls = calls;
+  }
+
+  /**
+   * Adds a header to the requests which load the response. Headers are not part of the cache key.
+   */
+  @Override
+  public ServiceCall<T> addHeader(String name, String value) {
+    headers.add(new String[] { name, value });
+    return this;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Response<T> execute() throws RuntimeException {
+    return (Response<T>) cache.get(key, loader());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void enqueue(ServiceCallback<T> callback) {
+    Response<T> cached = (Response<T>) cache.getIfPresent(key);
+    if (cached != null) {
+      callback.onResponse(cached);
+      return;
+    }
+    newCall(headers).enqueue(new ServiceCallback<T>() {
+      @Override
+      public void onResponse(Response<T> response) {
+        cache.put(key, response, loader());
+        callback.onResponse(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        callback.onFailure(e);
+      }
+    });
+  }
+
+  @Override
+  public Single<Response<T>> reactiveRequest() {
+    return Single.fromCallable(this::execute);
+  }
+
+  @Override
+  public void cancel() {
+    ServiceCall<T> call = current;
+    if (call != null) {
+      call.cancel();
+    }
+  }
+
+  private Function<String, Response<?>> loader() {
+    final List<String[]> loadHeaders = new ArrayList<>(headers);
+    return k -> newCall(loadHeaders).execute();
+  }
+
+  private ServiceCall<T> newCall(List<String[]> callHeaders) {
+    ServiceCall<T> call = calls.get();
+    for (String[] header : callHeaders) {
+      call.addHeader(header[0], header[1]);
+    }
+    current = call;
+    return call;
+  }
+}
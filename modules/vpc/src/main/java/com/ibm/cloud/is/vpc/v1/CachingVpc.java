@@ -0,0 +1,292 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+import com.ibm.cloud.is.common.cache.CacheStats;
+import com.ibm.cloud.is.common.cache.TtlCache;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostProfile;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.GetDedicatedHostProfileOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceProfileOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerProfileOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetOperatingSystemOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetRegionOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetRegionZoneOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVolumeProfileOptions;
+import com.ibm.cloud.is.vpc.v1.model.InstanceProfile;
+import com.ibm.cloud.is.vpc.v1.model.InstanceProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.ListDedicatedHostProfilesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListInstanceProfilesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListLoadBalancerProfilesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListOperatingSystemsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListRegionZonesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListRegionsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVolumeProfilesOptions;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerProfile;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.OperatingSystem;
+import com.ibm.cloud.is.vpc.v1.model.OperatingSystemCollection;
+import com.ibm.cloud.is.vpc.v1.model.Region;
+import com.ibm.cloud.is.vpc.v1.model.RegionCollection;
+import com.ibm.cloud.is.vpc.v1.model.VolumeProfile;
+import com.ibm.cloud.is.vpc.v1.model.VolumeProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.Zone;
+import com.ibm.cloud.is.vpc.v1.model.ZoneCollection;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.security.Authenticator;
+import com.ibm.cloud.sdk.core.security.ConfigBasedAuthenticatorFactory;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Vpc} client which caches the responses of the "list" and "get" operations of catalog-style resources
+ * (instance, volume, load balancer and dedicated host profiles, regions, zones and operating systems), whose data
+ * changes rarely. All other operations are passed through unchanged.
+ * <p>
+ * Each {@link CatalogResource} has its own {@link TtlCache}, keyed by the service URL, API version, operation and
+ * parameters of the call, with a time-to-live of {@link #DEFAULT_TTL_MINUTES} minutes, a stale-while-revalidate
+ * window of {@link #DEFAULT_STALE_WHILE_REVALIDATE_MINUTES} minutes and at most {@link #DEFAULT_MAXIMUM_SIZE}
+ * entries by default; {@link #configureCache(CatalogResource, TtlCache.Builder)} replaces the cache of a resource.
+ * A cached call only creates the underlying HTTP request when the response has to be loaded, so a hit is a local
+ * lookup. Errors are not cached.
+ * <p>
+ * The cached responses are shared by all the callers: their result models must not be modified.
+ */
+public class CachingVpc extends Vpc {
+
+  /**
+   * The default time-to-live of a cached response, in minutes.
+   */
+  public static final long DEFAULT_TTL_MINUTES = 60;
+
+  /**
+   * The default time during which an expired response is still returned while it is refreshed, in minutes.
+   */
+  public static final long DEFAULT_STALE_WHILE_REVALIDATE_MINUTES = 60;
+
+  /**
+   * The default maximum number of responses cached per resource.
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+  // Replaced as a whole by configureCache().
+  private volatile Map<CatalogResource, TtlCache<String, Response<?>>> caches;
+
+  /**
+   * Class method which constructs an instance of the `CachingVpc` client.
+   * The default service name is used to configure the client instance.
+   *
+   * @param version Requests the version of the API as of a date in the format `YYYY-MM-DD`.
+   * @return an instance of the `CachingVpc` client using external configuration
+   */
+  public static CachingVpc newInstance(String version) {
+    return newInstance(version, DEFAULT_SERVICE_NAME);
+  }
+
+  /**
+   * Class method which constructs an instance of the `CachingVpc` client.
+   * The specified service name is used to configure the client instance.
+   *
+   * @param version Requests the version of the API as of a date in the format `YYYY-MM-DD`.
+   * @param serviceName the service name to be used when configuring the client instance
+   * @return an instance of the `CachingVpc` client using external configuration
+   */
+  public static CachingVpc newInstance(String version, String serviceName) {
+    Authenticator authenticator = ConfigBasedAuthenticatorFactory.getAuthenticator(serviceName);
+    CachingVpc service = new CachingVpc(version, serviceName, authenticator);
+    service.configureService(serviceName);
+    return service;
+  }
+
+  /**
+   * Constructs an instance of the `CachingVpc` client.
+   * The specified service name and authenticator are used to configure the client instance.
+   *
+   * @param version Requests the version of the API as of a date in the format `YYYY-MM-DD`.
+   * @param serviceName the service name to be used when configuring the client instance
+   * @param authenticator the {@link Authenticator} instance to be configured for this client
+   */
+  public CachingVpc(String version, String serviceName, Authenticator authenticator) {
+    super(version, serviceName, authenticator);
+    Map<CatalogResource, TtlCache<String, Response<?>>> defaults = new EnumMap<>(CatalogResource.class);
+    for (CatalogResource resource : CatalogResource.values()) {
+      defaults.put(resource, new TtlCache.Builder()
+        .ttl(DEFAULT_TTL_MINUTES, TimeUnit.MINUTES)
+        .staleWhileRevalidate(DEFAULT_STALE_WHILE_REVALIDATE_MINUTES, TimeUnit.MINUTES)
+        .maximumSize(DEFAULT_MAXIMUM_SIZE)
+        .<String, Response<?>>build());
+    }
+    this.caches = defaults;
+  }
+
+  /**
+   * Replaces the cache of the specified resource with a new, empty cache built by the specified builder, e.g.
+   * to set a different time-to-live.
+   *
+   * @param resource the resource
+   * @param builder the builder of the new cache
+   */
+  public synchronized void configureCache(CatalogResource resource, TtlCache.Builder builder) {
+    Validator.notNull(resource, "resource cannot be null");
+    Validator.notNull(builder, "builder cannot be null");
+    Map<CatalogResource, TtlCache<String, Response<?>>> copy = new EnumMap<>(caches);
+    copy.put(resource, builder.<String, Response<?>>build());
+    caches = copy;
+  }
+
+  /**
+   * Returns the hit, miss and refresh counters of the cache of the specified resource.
+   *
+   * @param resource the resource
+   * @return the counters
+   */
+  public CacheStats getCacheStats(CatalogResource resource) {
+    Validator.notNull(resource, "resource cannot be null");
+    return caches.get(resource).stats();
+  }
+
+  /**
+   * Removes all the cached responses of the specified resource.
+   *
+   * @param resource the resource
+   */
+  public void invalidateCache(CatalogResource resource) {
+    Validator.notNull(resource, "resource cannot be null");
+    caches.get(resource).invalidateAll();
+  }
+
+  /**
+   * Removes all the cached responses.
+   */
+  public void invalidateCaches() {
+    for (TtlCache<String, Response<?>> cache : caches.values()) {
+      cache.invalidateAll();
+    }
+  }
+
+  @Override
+  public ServiceCall<InstanceProfileCollection> listInstanceProfiles(ListInstanceProfilesOptions listInstanceProfilesOptions) {
+    return cached(CatalogResource.INSTANCE_PROFILES, key("listInstanceProfiles"), () -> super.listInstanceProfiles(listInstanceProfilesOptions));
+  }
+
+  @Override
+  public ServiceCall<InstanceProfile> getInstanceProfile(GetInstanceProfileOptions getInstanceProfileOptions) {
+    Validator.notNull(getInstanceProfileOptions, "getInstanceProfileOptions cannot be null");
+    return cached(CatalogResource.INSTANCE_PROFILES, key("getInstanceProfile", getInstanceProfileOptions.name()),
+      () -> super.getInstanceProfile(getInstanceProfileOptions));
+  }
+
+  @Override
+  public ServiceCall<VolumeProfileCollection> listVolumeProfiles(ListVolumeProfilesOptions listVolumeProfilesOptions) {
+    String key = listVolumeProfilesOptions != null
+      ? key("listVolumeProfiles", listVolumeProfilesOptions.start(), listVolumeProfilesOptions.limit())
+      : key("listVolumeProfiles");
+    return cached(CatalogResource.VOLUME_PROFILES, key, () -> super.listVolumeProfiles(listVolumeProfilesOptions));
+  }
+
+  @Override
+  public ServiceCall<VolumeProfile> getVolumeProfile(GetVolumeProfileOptions getVolumeProfileOptions) {
+    Validator.notNull(getVolumeProfileOptions, "getVolumeProfileOptions cannot be null");
+    return cached(CatalogResource.VOLUME_PROFILES, key("getVolumeProfile", getVolumeProfileOptions.name()),
+      () -> super.getVolumeProfile(getVolumeProfileOptions));
+  }
+
+  @Override
+  public ServiceCall<LoadBalancerProfileCollection> listLoadBalancerProfiles(ListLoadBalancerProfilesOptions listLoadBalancerProfilesOptions) {
+    String key = listLoadBalancerProfilesOptions != null
+      ? key("listLoadBalancerProfiles", listLoadBalancerProfilesOptions.start(), listLoadBalancerProfilesOptions.limit())
+      : key("listLoadBalancerProfiles");
+    return cached(CatalogResource.LOAD_BALANCER_PROFILES, key, () -> super.listLoadBalancerProfiles(listLoadBalancerProfilesOptions));
+  }
+
+  @Override
+  public ServiceCall<LoadBalancerProfile> getLoadBalancerProfile(GetLoadBalancerProfileOptions getLoadBalancerProfileOptions) {
+    Validator.notNull(getLoadBalancerProfileOptions, "getLoadBalancerProfileOptions cannot be null");
+    return cached(CatalogResource.LOAD_BALANCER_PROFILES, key("getLoadBalancerProfile", getLoadBalancerProfileOptions.name()),
+      () -> super.getLoadBalancerProfile(getLoadBalancerProfileOptions));
+  }
+
+  @Override
+  public ServiceCall<DedicatedHostProfileCollection> listDedicatedHostProfiles(ListDedicatedHostProfilesOptions listDedicatedHostProfilesOptions) {
+    String key = listDedicatedHostProfilesOptions != null
+      ? key("listDedicatedHostProfiles", listDedicatedHostProfilesOptions.start(), listDedicatedHostProfilesOptions.limit())
+      : key("listDedicatedHostProfiles");
+    return cached(CatalogResource.DEDICATED_HOST_PROFILES, key, () -> super.listDedicatedHostProfiles(listDedicatedHostProfilesOptions));
+  }
+
+  @Override
+  public ServiceCall<DedicatedHostProfile> getDedicatedHostProfile(GetDedicatedHostProfileOptions getDedicatedHostProfileOptions) {
+    Validator.notNull(getDedicatedHostProfileOptions, "getDedicatedHostProfileOptions cannot be null");
+    return cached(CatalogResource.DEDICATED_HOST_PROFILES, key("getDedicatedHostProfile", getDedicatedHostProfileOptions.name()),
+      () -> super.getDedicatedHostProfile(getDedicatedHostProfileOptions));
+  }
+
+  @Override
+  public ServiceCall<RegionCollection> listRegions(ListRegionsOptions listRegionsOptions) {
+    return cached(CatalogResource.REGIONS, key("listRegions"), () -> super.listRegions(listRegionsOptions));
+  }
+
+  @Override
+  public ServiceCall<Region> getRegion(GetRegionOptions getRegionOptions) {
+    Validator.notNull(getRegionOptions, "getRegionOptions cannot be null");
+    return cached(CatalogResource.REGIONS, key("getRegion", getRegionOptions.name()),
+      () -> super.getRegion(getRegionOptions));
+  }
+
+  @Override
+  public ServiceCall<ZoneCollection> listRegionZones(ListRegionZonesOptions listRegionZonesOptions) {
+    Validator.notNull(listRegionZonesOptions, "listRegionZonesOptions cannot be null");
+    return cached(CatalogResource.ZONES, key("listRegionZones", listRegionZonesOptions.regionName()),
+      () -> super.listRegionZones(listRegionZonesOptions));
+  }
+
+  @Override
+  public ServiceCall<Zone> getRegionZone(GetRegionZoneOptions getRegionZoneOptions) {
+    Validator.notNull(getRegionZoneOptions, "getRegionZoneOptions cannot be null");
+    return cached(CatalogResource.ZONES, key("getRegionZone", getRegionZoneOptions.regionName(), getRegionZoneOptions.name()),
+      () -> super.getRegionZone(getRegionZoneOptions));
+  }
+
+  @Override
+  public ServiceCall<OperatingSystemCollection> listOperatingSystems(ListOperatingSystemsOptions listOperatingSystemsOptions) {
+    String key = listOperatingSystemsOptions != null
+      ? key("listOperatingSystems", listOperatingSystemsOptions.start(), listOperatingSystemsOptions.limit())
+      : key("listOperatingSystems");
+    return cached(CatalogResource.OPERATING_SYSTEMS, key, () -> super.listOperatingSystems(listOperatingSystemsOptions));
+  }
+
+  @Override
+  public ServiceCall<OperatingSystem> getOperatingSystem(GetOperatingSystemOptions getOperatingSystemOptions) {
+    Validator.notNull(getOperatingSystemOptions, "getOperatingSystemOptions cannot be null");
+    return cached(CatalogResource.OPERATING_SYSTEMS, key("getOperatingSystem", getOperatingSystemOptions.name()),
+      () -> super.getOperatingSystem(getOperatingSystemOptions));
+  }
+
+  private <T> ServiceCall<T> cached(CatalogResource resource, String key, Supplier<ServiceCall<T>> calls) {
+    return new CachedServiceCall<>(caches.get(resource), key, calls);
+  }
+
+  // The parameters which select the response: the service URL, the API version and the operation parameters.
+  private String key(String operationId, Object... params) {
+    StringBuilder key = new StringBuilder(getServiceUrl()).append('\n').append(getVersion()).append('\n')
+      .append(getGeneration()).append('\n').append(operationId);
+    for (Object param : params) {
+      key.append('\n').append(param);
+    }
+    return key.toString();
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+/**
+ * The catalog-style resources whose "list" and "get" operations are cached by {@link CachingVpc}.
+ */
+public enum CatalogResource {
+  /** Instance profiles ("listInstanceProfiles", "getInstanceProfile"). */
+  INSTANCE_PROFILES,
+  /** Volume profiles ("listVolumeProfiles", "getVolumeProfile"). */
+  VOLUME_PROFILES,
+  /** Load balancer profiles ("listLoadBalancerProfiles", "getLoadBalancerProfile"). */
+  LOAD_BALANCER_PROFILES,
+  /** Dedicated host profiles ("listDedicatedHostProfiles", "getDedicatedHostProfile"). */
+  DEDICATED_HOST_PROFILES,
+  /** Regions ("listRegions", "getRegion"). */
+  REGIONS,
+  /** Zones ("listRegionZones", "getRegionZone"). */
+  ZONES,
+  /** Operating systems ("listOperatingSystems", "getOperatingSystem"). */
+  OPERATING_SYSTEMS
+}
@@ -0,0 +1,428 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+import com.ibm.cloud.is.common.async.ServiceCallFutures;
+import com.ibm.cloud.is.common.paging.AbstractPager;
+import com.ibm.cloud.is.vpc.v1.model.Region;
+import com.ibm.cloud.is.vpc.v1.model.RegionCollection;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import okhttp3.HttpUrl;
+
+/**
+ * A client which performs "list" and "get" operations in all the regions of the VPC service in parallel.
+ * <p>
+ * The regions are discovered with the {@link Vpc#listRegions()} operation of a base {@link Vpc} instance, and one
+ * {@link Vpc} instance is configured per region endpoint. The regional instances share the HTTP client of the base
+ * instance (and therefore its connection pool, dispatcher and interceptors) as well as its authenticator, so that
+ * a single token is obtained for all the regions. Regions whose status is "unavailable" are skipped.
+ * <p>
+ * {@link #invokeAll(Function)} executes one call per region and {@link #streamAll(Function)} traverses one pager per
+ * region, merging the resources of all the regions into a single stream as they arrive. The results are tagged
+ * with their region, and an error raised in one region is reported as a failed {@link RegionalResult} rather than
+ * failing the whole operation.
+ */
+public class MultiRegionVpc {
+
+  /**
+   * The default maximum number of resources retrieved by {@link #streamAll(Function)} ahead of the consumer.
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 1000;
+
+  /**
+   * The status of a region which cannot be used.
+   */
+  static final String UNAVAILABLE = "unavailable";
+
+  // How often a producer blocked on a full buffer checks whether the stream has been closed.
+  private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+  private final Vpc base;
+  private final Set<String> regionFilter;
+  private final Executor executor;
+  private final int bufferSize;
+  private volatile Map<String, Vpc> regionalVpcs;
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private Vpc base;
+    private Set<String> regions;
+    private Executor executor;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * Instantiates a new builder with required properties.
+     *
+     * @param base the {@link Vpc} instance used to discover the regions, whose client and authenticator are shared
+     *     by the regional instances
+     */
+    public Builder(Vpc base) {
+      this.base = base;
+    }
+
+    /**
+     * Builds a MultiRegionVpc.
+     *
+     * @return the new MultiRegionVpc instance
+     */
+    public MultiRegionVpc build() {
+      return new MultiRegionVpc(this);
+    }
+
+    /**
+     * Set the names of the regions in which the operations are performed. By default, all the regions returned by
+     * {@link Vpc#listRegions()} are used.
+     *
+     * @param regions the names of the regions
+     * @return the MultiRegionVpc builder
+     */
+    public Builder regions(String... regions) {
+      this.regions = regions != null ? new LinkedHashSet<>(Arrays.asList(regions)) : null;
+      return this;
+    }
+
+    /**
+     * Set the executor on which the pagers of {@link MultiRegionVpc#streamAll(Function)} are traversed, and on
+     * which the calls of {@link MultiRegionVpc#invokeAll(Function)} are executed synchronously. By default, a shared
+     * pool of daemon threads traverses the pagers, and calls are executed asynchronously by the dispatcher of the
+     * HTTP client.
+     *
+     * @param executor the executor
+     * @return the MultiRegionVpc builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of resources retrieved by {@link MultiRegionVpc#streamAll(Function)} ahead of the
+     * consumer (defaults to {@link MultiRegionVpc#DEFAULT_BUFFER_SIZE}).
+     *
+     * @param bufferSize the maximum number of buffered resources
+     * @return the MultiRegionVpc builder
+     */
+    public Builder bufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+      return this;
+    }
+  }
+
+  /**
+   * Creates a client from a builder.
+   *
+   * @param builder the builder
+   */
+  protected MultiRegionVpc(Builder builder) {
+    Validator.notNull(builder.base, "base cannot be null");
+    Validator.isTrue(builder.bufferSize > 0, "bufferSize must be positive");
+    this.base = builder.base;
+    this.regionFilter = builder.regions != null ? Collections.unmodifiableSet(builder.regions) : null;
+    this.executor = builder.executor;
+    this.bufferSize = builder.bufferSize;
+  }
+
+  /**
+   * Returns the {@link Vpc} instance used to discover the regions.
+   *
+   * @return the base {@link Vpc} instance
+   */
+  public Vpc getBase() {
+    return base;
+  }
+
+  /**
+   * Returns the names of the regions in which the operations are performed, discovering them on first use.
+   *
+   * @return the names of the regions
+   */
+  public List<String> getRegions() {
+    return new ArrayList<>(getRegionalVpcs().keySet());
+  }
+
+  /**
+   * Returns the {@link Vpc} instance configured for the specified region, discovering the regions on first use.
+   *
+   * @param region the name of the region
+   * @return the regional {@link Vpc} instance, or null if the region is unknown or excluded
+   */
+  public Vpc getVpc(String region) {
+    return getRegionalVpcs().get(region);
+  }
+
+  /**
+   * Discovers the regions again, e.g. after a region has been added. The {@link Vpc} instances of the regions
+   * which are still present are reused.
+   */
+  public synchronized void refreshRegions() {
+    regionalVpcs = discoverRegions(regionalVpcs != null ? regionalVpcs : Collections.<String, Vpc>emptyMap());
+  }
+
+  private Map<String, Vpc> getRegionalVpcs() {
+    Map<String, Vpc> vpcs = regionalVpcs;
+    if (vpcs == null) {
+      synchronized (this) {
+        if (regionalVpcs == null) {
+          refreshRegions();
+        }
+        vpcs = regionalVpcs;
+      }
+    }
+    return vpcs;
+  }
+
+  private Map<String, Vpc> discoverRegions(Map<String, Vpc> previous) {
+    RegionCollection collection = base.listRegions().execute().getResult();
+    Map<String, Vpc> vpcs = new LinkedHashMap<>();
+    if (collection != null && collection.getRegions() != null) {
+      for (Region region : collection.getRegions()) {
+        if (UNAVAILABLE.equals(region.getStatus())
+          || regionFilter != null && !regionFilter.contains(region.getName())) {
+          continue;
+        }
+        String serviceUrl = regionalServiceUrl(region.getEndpoint());
+        Vpc vpc = previous.get(region.getName());
+        vpcs.put(region.getName(), vpc != null && serviceUrl.equals(vpc.getServiceUrl()) ? vpc : createVpc(serviceUrl));
+      }
+    }
+    return Collections.unmodifiableMap(vpcs);
+  }
+
+  /**
+   * Returns the service URL of a region: its endpoint, followed by the path of the service URL of the base
+   * instance (e.g. "https://eu-de.iaas.cloud.ibm.com" becomes "https://eu-de.iaas.cloud.ibm.com/v1").
+   *
+   * @param endpoint the endpoint of the region
+   * @return the service URL
+   */
+  String regionalServiceUrl(String endpoint) {
+    String path = HttpUrl.get(base.getServiceUrl()).encodedPath();
+    String root = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+    return root + path;
+  }
+
+  /**
+   * Creates the {@link Vpc} instance of a region. The instance shares the client and authenticator of the base
+   * instance and has the same version and generation.
+   *
+   * @param serviceUrl the service URL of the region
+   * @return the regional {@link Vpc} instance
+   */
+  protected Vpc createVpc(String serviceUrl) {
+    Vpc vpc = new Vpc(base.getVersion(), base.getName(), base.getAuthenticator());
+    vpc.setServiceUrl(serviceUrl);
+    vpc.setGeneration(base.getGeneration());
+    vpc.setClient(base.getClient());
+    return vpc;
+  }
+
+  /**
+   * Executes a call in each region in parallel, e.g. {@code multiRegionVpc.invokeAll(vpc -> vpc.listVpcs())}. The
+   * regions are discovered before this method returns if they are not yet known.
+   * <p>
+   * The returned future completes once the call has completed in all the regions, with one result per region in
+   * the order of the regions. It does not complete exceptionally when a call fails: the error is recorded in the
+   * result of the region.
+   *
+   * @param <T> the type of the result of the call
+   * @param operation creates the call from the {@link Vpc} instance of a region
+   * @return a future which completes with the results of all the regions
+   */
+  public <T> CompletableFuture<List<RegionalResult<T>>> invokeAll(Function<? super Vpc, ServiceCall<T>> operation) {
+    Validator.notNull(operation, "operation cannot be null");
+    List<CompletableFuture<RegionalResult<T>>> futures = new ArrayList<>();
+    for (Map.Entry<String, Vpc> entry : getRegionalVpcs().entrySet()) {
+      String region = entry.getKey();
+      CompletableFuture<RegionalResult<T>> future;
+      try {
+        ServiceCall<T> call = operation.apply(entry.getValue());
+        future = (executor != null ? ServiceCallFutures.execute(call, executor) : ServiceCallFutures.execute(call))
+          .handle((response, t) -> t == null
+            ? RegionalResult.success(region, response.getResult())
+            : RegionalResult.<T>failure(region, unwrap(t)));
+      } catch (RuntimeException e) {
+        future = CompletableFuture.completedFuture(RegionalResult.<T>failure(region, e));
+      }
+      futures.add(future);
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+      List<RegionalResult<T>> results = new ArrayList<>(futures.size());
+      for (CompletableFuture<RegionalResult<T>> future : futures) {
+        results.add(future.join());
+      }
+      return results;
+    });
+  }
+
+  /**
+   * Traverses a pager in each region in parallel and merges the resources of all the regions into a single stream,
+   * e.g. {@code multiRegionVpc.streamAll(vpc -> new InstancesPager(vpc, null))}.
+   * <p>
+   * Each resource is returned as a successful {@link RegionalResult} as soon as it has been retrieved, so the
+   * resources of different regions are interleaved; the resources of one region are returned in order. An error
+   * raised while traversing the pager of a region ends the traversal of that region and is returned as a failed
+   * {@link RegionalResult}, after the resources already retrieved. At most {@link Builder#bufferSize(int)} resources
+   * are retrieved ahead of the consumer.
+   * <p>
+   * A stream which is not fully consumed must be closed (e.g. with a try-with-resources statement) so that the
+   * traversal of the remaining regions stops.
+   *
+   * @param <T> the type of the resources
+   * @param pagerFactory creates the pager from the {@link Vpc} instance of a region
+   * @return a stream over the resources of all the regions
+   */
+  public <T> Stream<RegionalResult<T>> streamAll(Function<? super Vpc, ? extends AbstractPager<?, T>> pagerFactory) {
+    Validator.notNull(pagerFactory, "pagerFactory cannot be null");
+    Map<String, Vpc> vpcs = getRegionalVpcs();
+    MergingIterator<T> iterator = new MergingIterator<>(vpcs.size(), bufferSize);
+    Executor pagerExecutor = executor != null ? executor : DefaultExecutorHolder.EXECUTOR;
+    for (Map.Entry<String, Vpc> entry : vpcs.entrySet()) {
+      pagerExecutor.execute(() -> iterator.produce(entry.getKey(), () -> pagerFactory.apply(entry.getValue())));
+    }
+    return StreamSupport.stream(
+      Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+      .onClose(iterator::close);
+  }
+
+  private static RuntimeException unwrap(Throwable t) {
+    Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    return cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+  }
+
+  /**
+   * Merges the resources produced by the pagers of several regions. Each producer enqueues its resources followed
+   * by an end marker, and the consumer returns the queued results until it has seen the end marker of every region.
+   *
+   * @param <T> the type of the resources
+   */
+  private static final class MergingIterator<T> implements Iterator<RegionalResult<T>>, Closeable {
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue;
+    private int remaining;
+    private Object next;
+    private volatile boolean closed;
+
+    MergingIterator(int regions, int bufferSize) {
+      this.queue = new ArrayBlockingQueue<>(bufferSize);
+      this.remaining = regions;
+    }
+
+    void produce(String region, Supplier<? extends AbstractPager<?, T>> pagerSupplier) {
+      try {
+        Iterator<T> items = pagerSupplier.get().iterator();
+        while (!closed && items.hasNext()) {
+          put(RegionalResult.success(region, items.next()));
+        }
+      } catch (RuntimeException e) {
+        put(RegionalResult.<T>failure(region, e));
+      } finally {
+        put(END);
+      }
+    }
+
+    private void put(Object element) {
+      try {
+        boolean queued = false;
+        while (!queued && !closed) {
+          queued = queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null) {
+        if (remaining == 0) {
+          return false;
+        }
+        Object element;
+        try {
+          element = queue.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException(e);
+        }
+        if (element == END) {
+          remaining--;
+        } else {
+          next = element;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RegionalResult<T> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      RegionalResult<T> result = (RegionalResult<T>) next;
+      next = null;
+      return result;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      queue.clear();
+    }
+  }
+
+  /**
+   * Lazily creates the default executor.
+   */
+  private static final class DefaultExecutorHolder {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+      Thread thread = new Thread(r, "is-sdk-multi-region-" + THREAD_COUNT.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    private DefaultExecutorHolder() {
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+/**
+ * The outcome of an operation performed in one region by a {@link MultiRegionVpc}: either a result or the error
+ * raised in that region.
+ *
+ * @param <T> the type of the result
+ */
+public final class RegionalResult<T> {
+
+  private final String region;
+  private final T result;
+  private final RuntimeException error;
+
+  private RegionalResult(String region, T result, RuntimeException error) {
+    this.region = region;
+    this.result = result;
+    this.error = error;
+  }
+
+  /**
+   * Creates a successful result.
+   *
+   * @param <T> the type of the result
+   * @param region the name of the region
+   * @param result the result
+   * @return the regional result
+   */
+  public static <T> RegionalResult<T> success(String region, T result) {
+    return new RegionalResult<>(region, result, null);
+  }
+
+  /**
+   * Creates a failed result.
+   *
+   * @param <T> the type of the result
+   * @param region the name of the region
+   * @param error the error raised in the region
+   * @return the regional result
+   */
+  public static <T> RegionalResult<T> failure(String region, RuntimeException error) {
+    return new RegionalResult<>(region, null, error);
+  }
+
+  /**
+   * Returns the name of the region.
+   *
+   * @return the region
+   */
+  public String getRegion() {
+    return region;
+  }
+
+  /**
+   * Returns true if the operation succeeded in the region.
+   *
+   * @return true if there is no error
+   */
+  public boolean isSuccessful() {
+    return error == null;
+  }
+
+  /**
+   * Returns the result, or null if the operation failed.
+   *
+   * @return the result
+   */
+  public T getResult() {
+    return result;
+  }
+
+  /**
+   * Returns the error raised in the region, or null if the operation succeeded.
+   *
+   * @return the error
+   */
+  public RuntimeException getError() {
+    return error;
+  }
+
+  /**
+   * Returns the result, or rethrows the error raised in the region.
+   *
+   * @return the result
+   */
+  public T getOrThrow() {
+    if (error != null) {
+      throw error;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return error != null ? region + ": " + error : region + ": " + result;
+  }
+}
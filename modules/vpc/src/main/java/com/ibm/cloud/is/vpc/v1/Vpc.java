@@ -18,7 +18,7 @@
 package com.ibm.cloud.is.vpc.v1;
 
 import com.google.gson.JsonObject;
-import com.ibm.cloud.is.common.SdkCommon;
+import com.ibm.cloud.is.common.http.Operation;
 import com.ibm.cloud.is.vpc.v1.model.AddEndpointGatewayIpOptions;
 import com.ibm.cloud.is.vpc.v1.model.AddInstanceNetworkInterfaceFloatingIpOptions;
 import com.ibm.cloud.is.vpc.v1.model.AddSecurityGroupNetworkInterfaceOptions;
@@ -390,10 +390,9 @@ import com.ibm.cloud.sdk.core.http.ServiceCall;
 import com.ibm.cloud.sdk.core.security.Authenticator;
 import com.ibm.cloud.sdk.core.security.ConfigBasedAuthenticatorFactory;
 import com.ibm.cloud.sdk.core.service.BaseService;
-import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
+import okhttp3.Request;
 
 /**
  * The IBM Cloud Virtual Private Cloud (VPC) API can be used to programmatically provision and manage infrastructure
@@ -507,6 +506,30 @@ public class Vpc extends BaseService {
     this.generation = generation;
   }
 
+  /**
+   * Creates a {@link ServiceCall} for the specified request and converter.
+   *
+   * @param request the request
+   * @param converter the converter used to convert the response
+   * @param <T> the type of the response model
+   * @return a new {@link ServiceCall}
+   */
+  <T> ServiceCall<T> newServiceCall(Request request, ResponseConverter<T> converter) {
+    return createServiceCall(request, converter);
+  }
+
+  /**
+   * Creates a {@link ServiceCall} for an invocation of the specified operation.
+   *
+   * @param operation the operation
+   * @param builder the request builder containing the parameters of the invocation
+   * @param <T> the type of the response model
+   * @return a new {@link ServiceCall}
+   */
+  private <T> ServiceCall<T> createServiceCall(Operation<T> operation, RequestBuilder builder) {
+    return new VpcServiceCall<>(this, operation.buildRequest(builder), operation.getResponseConverter());
+  }
+
   /**
    * List all VPCs.
    *
@@ -521,12 +544,7 @@ public class Vpc extends BaseService {
     if (listVpcsOptions == null) {
       listVpcsOptions = new ListVpcsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVpcs");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VPCS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listVpcsOptions.start() != null) {
@@ -541,9 +559,7 @@ public class Vpc extends BaseService {
     if (listVpcsOptions.classicAccess() != null) {
       builder.query("classic_access", String.valueOf(listVpcsOptions.classicAccess()));
     }
-    ResponseConverter<VPCCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPCCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VPCS, builder);
   }
 
   /**
@@ -574,12 +590,7 @@ public class Vpc extends BaseService {
       createVpcOptions = new CreateVpcOptions.Builder().build();
       skipBody = true;
     }
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createVpc");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_VPC.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (!skipBody) {
@@ -598,9 +609,7 @@ public class Vpc extends BaseService {
       }
       builder.bodyJson(contentJson);
     }
-    ResponseConverter<VPC> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPC>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_VPC, builder);
   }
 
   /**
@@ -631,15 +640,10 @@ public class Vpc extends BaseService {
       "deleteVpcOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteVpcOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteVpc");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_VPC.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_VPC, builder);
   }
 
   /**
@@ -655,17 +659,10 @@ public class Vpc extends BaseService {
       "getVpcOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getVpcOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpc");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPC.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VPC> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPC>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPC, builder);
   }
 
   /**
@@ -681,18 +678,11 @@ public class Vpc extends BaseService {
       "updateVpcOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateVpcOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateVpc");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_VPC.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateVpcOptions.vpcPatch()), "application/merge-patch+json");
-    ResponseConverter<VPC> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPC>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_VPC, builder);
   }
 
   /**
@@ -709,17 +699,10 @@ public class Vpc extends BaseService {
       "getVpcDefaultNetworkAclOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getVpcDefaultNetworkAclOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{id}/default_network_acl", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpcDefaultNetworkAcl");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPC_DEFAULT_NETWORK_ACL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<DefaultNetworkACL> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DefaultNetworkACL>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPC_DEFAULT_NETWORK_ACL, builder);
   }
 
   /**
@@ -737,17 +720,10 @@ public class Vpc extends BaseService {
       "getVpcDefaultRoutingTableOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getVpcDefaultRoutingTableOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{id}/default_routing_table", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpcDefaultRoutingTable");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPC_DEFAULT_ROUTING_TABLE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<DefaultRoutingTable> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DefaultRoutingTable>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPC_DEFAULT_ROUTING_TABLE, builder);
   }
 
   /**
@@ -764,17 +740,10 @@ public class Vpc extends BaseService {
       "getVpcDefaultSecurityGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getVpcDefaultSecurityGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{id}/default_security_group", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpcDefaultSecurityGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPC_DEFAULT_SECURITY_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<DefaultSecurityGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DefaultSecurityGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPC_DEFAULT_SECURITY_GROUP, builder);
   }
 
   /**
@@ -790,12 +759,7 @@ public class Vpc extends BaseService {
       "listVpcAddressPrefixesOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", listVpcAddressPrefixesOptions.vpcId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/address_prefixes", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVpcAddressPrefixes");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VPC_ADDRESS_PREFIXES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listVpcAddressPrefixesOptions.start() != null) {
@@ -804,9 +768,7 @@ public class Vpc extends BaseService {
     if (listVpcAddressPrefixesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listVpcAddressPrefixesOptions.limit()));
     }
-    ResponseConverter<AddressPrefixCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AddressPrefixCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VPC_ADDRESS_PREFIXES, builder);
   }
 
   /**
@@ -823,12 +785,7 @@ public class Vpc extends BaseService {
       "createVpcAddressPrefixOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", createVpcAddressPrefixOptions.vpcId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/address_prefixes", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createVpcAddressPrefix");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_VPC_ADDRESS_PREFIX.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -841,9 +798,7 @@ public class Vpc extends BaseService {
       contentJson.addProperty("name", createVpcAddressPrefixOptions.name());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AddressPrefix> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AddressPrefix>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_VPC_ADDRESS_PREFIX, builder);
   }
 
   /**
@@ -861,15 +816,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", deleteVpcAddressPrefixOptions.vpcId());
     pathParamsMap.put("id", deleteVpcAddressPrefixOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/address_prefixes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteVpcAddressPrefix");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_VPC_ADDRESS_PREFIX.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_VPC_ADDRESS_PREFIX, builder);
   }
 
   /**
@@ -886,17 +836,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", getVpcAddressPrefixOptions.vpcId());
     pathParamsMap.put("id", getVpcAddressPrefixOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/address_prefixes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpcAddressPrefix");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPC_ADDRESS_PREFIX.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<AddressPrefix> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AddressPrefix>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPC_ADDRESS_PREFIX, builder);
   }
 
   /**
@@ -914,18 +857,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", updateVpcAddressPrefixOptions.vpcId());
     pathParamsMap.put("id", updateVpcAddressPrefixOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/address_prefixes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateVpcAddressPrefix");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_VPC_ADDRESS_PREFIX.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateVpcAddressPrefixOptions.addressPrefixPatch()), "application/merge-patch+json");
-    ResponseConverter<AddressPrefix> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AddressPrefix>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_VPC_ADDRESS_PREFIX, builder);
   }
 
   /**
@@ -943,12 +879,7 @@ public class Vpc extends BaseService {
       "listVpcRoutesOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", listVpcRoutesOptions.vpcId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routes", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVpcRoutes");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VPC_ROUTES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listVpcRoutesOptions.zoneName() != null) {
@@ -960,9 +891,7 @@ public class Vpc extends BaseService {
     if (listVpcRoutesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listVpcRoutesOptions.limit()));
     }
-    ResponseConverter<RouteCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RouteCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VPC_ROUTES, builder);
   }
 
   /**
@@ -980,12 +909,7 @@ public class Vpc extends BaseService {
       "createVpcRouteOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", createVpcRouteOptions.vpcId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routes", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createVpcRoute");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_VPC_ROUTE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -1001,9 +925,7 @@ public class Vpc extends BaseService {
       contentJson.add("next_hop", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createVpcRouteOptions.nextHop()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Route> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Route>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_VPC_ROUTE, builder);
   }
 
   /**
@@ -1020,15 +942,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", deleteVpcRouteOptions.vpcId());
     pathParamsMap.put("id", deleteVpcRouteOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteVpcRoute");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_VPC_ROUTE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_VPC_ROUTE, builder);
   }
 
   /**
@@ -1045,17 +962,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", getVpcRouteOptions.vpcId());
     pathParamsMap.put("id", getVpcRouteOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpcRoute");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPC_ROUTE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Route> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Route>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPC_ROUTE, builder);
   }
 
   /**
@@ -1073,18 +983,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", updateVpcRouteOptions.vpcId());
     pathParamsMap.put("id", updateVpcRouteOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateVpcRoute");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_VPC_ROUTE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateVpcRouteOptions.routePatch()), "application/merge-patch+json");
-    ResponseConverter<Route> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Route>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_VPC_ROUTE, builder);
   }
 
   /**
@@ -1103,12 +1006,7 @@ public class Vpc extends BaseService {
       "listVpcRoutingTablesOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", listVpcRoutingTablesOptions.vpcId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVpcRoutingTables");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VPC_ROUTING_TABLES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listVpcRoutingTablesOptions.start() != null) {
@@ -1120,9 +1018,7 @@ public class Vpc extends BaseService {
     if (listVpcRoutingTablesOptions.isDefault() != null) {
       builder.query("is_default", String.valueOf(listVpcRoutingTablesOptions.isDefault()));
     }
-    ResponseConverter<RoutingTableCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoutingTableCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VPC_ROUTING_TABLES, builder);
   }
 
   /**
@@ -1140,12 +1036,7 @@ public class Vpc extends BaseService {
       "createVpcRoutingTableOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", createVpcRoutingTableOptions.vpcId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createVpcRoutingTable");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_VPC_ROUTING_TABLE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -1165,9 +1056,7 @@ public class Vpc extends BaseService {
       contentJson.add("routes", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createVpcRoutingTableOptions.routes()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<RoutingTable> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoutingTable>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_VPC_ROUTING_TABLE, builder);
   }
 
   /**
@@ -1185,15 +1074,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", deleteVpcRoutingTableOptions.vpcId());
     pathParamsMap.put("id", deleteVpcRoutingTableOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteVpcRoutingTable");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_VPC_ROUTING_TABLE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_VPC_ROUTING_TABLE, builder);
   }
 
   /**
@@ -1210,17 +1094,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", getVpcRoutingTableOptions.vpcId());
     pathParamsMap.put("id", getVpcRoutingTableOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpcRoutingTable");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPC_ROUTING_TABLE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<RoutingTable> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoutingTable>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPC_ROUTING_TABLE, builder);
   }
 
   /**
@@ -1238,18 +1115,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", updateVpcRoutingTableOptions.vpcId());
     pathParamsMap.put("id", updateVpcRoutingTableOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateVpcRoutingTable");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_VPC_ROUTING_TABLE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateVpcRoutingTableOptions.routingTablePatch()), "application/merge-patch+json");
-    ResponseConverter<RoutingTable> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoutingTable>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_VPC_ROUTING_TABLE, builder);
   }
 
   /**
@@ -1269,12 +1139,7 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", listVpcRoutingTableRoutesOptions.vpcId());
     pathParamsMap.put("routing_table_id", listVpcRoutingTableRoutesOptions.routingTableId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVpcRoutingTableRoutes");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VPC_ROUTING_TABLE_ROUTES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listVpcRoutingTableRoutesOptions.start() != null) {
@@ -1283,9 +1148,7 @@ public class Vpc extends BaseService {
     if (listVpcRoutingTableRoutesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listVpcRoutingTableRoutesOptions.limit()));
     }
-    ResponseConverter<RouteCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RouteCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VPC_ROUTING_TABLE_ROUTES, builder);
   }
 
   /**
@@ -1303,12 +1166,7 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpc_id", createVpcRoutingTableRouteOptions.vpcId());
     pathParamsMap.put("routing_table_id", createVpcRoutingTableRouteOptions.routingTableId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createVpcRoutingTableRoute");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_VPC_ROUTING_TABLE_ROUTE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -1324,9 +1182,7 @@ public class Vpc extends BaseService {
       contentJson.add("next_hop", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createVpcRoutingTableRouteOptions.nextHop()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Route> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Route>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_VPC_ROUTING_TABLE_ROUTE, builder);
   }
 
   /**
@@ -1344,15 +1200,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("vpc_id", deleteVpcRoutingTableRouteOptions.vpcId());
     pathParamsMap.put("routing_table_id", deleteVpcRoutingTableRouteOptions.routingTableId());
     pathParamsMap.put("id", deleteVpcRoutingTableRouteOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteVpcRoutingTableRoute");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_VPC_ROUTING_TABLE_ROUTE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_VPC_ROUTING_TABLE_ROUTE, builder);
   }
 
   /**
@@ -1370,17 +1221,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("vpc_id", getVpcRoutingTableRouteOptions.vpcId());
     pathParamsMap.put("routing_table_id", getVpcRoutingTableRouteOptions.routingTableId());
     pathParamsMap.put("id", getVpcRoutingTableRouteOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpcRoutingTableRoute");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPC_ROUTING_TABLE_ROUTE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Route> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Route>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPC_ROUTING_TABLE_ROUTE, builder);
   }
 
   /**
@@ -1399,18 +1243,11 @@ public class Vpc extends BaseService {
     pathParamsMap.put("vpc_id", updateVpcRoutingTableRouteOptions.vpcId());
     pathParamsMap.put("routing_table_id", updateVpcRoutingTableRouteOptions.routingTableId());
     pathParamsMap.put("id", updateVpcRoutingTableRouteOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateVpcRoutingTableRoute");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_VPC_ROUTING_TABLE_ROUTE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateVpcRoutingTableRouteOptions.routePatch()), "application/merge-patch+json");
-    ResponseConverter<Route> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Route>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_VPC_ROUTING_TABLE_ROUTE, builder);
   }
 
   /**
@@ -1426,12 +1263,7 @@ public class Vpc extends BaseService {
     if (listSubnetsOptions == null) {
       listSubnetsOptions = new ListSubnetsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listSubnets");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_SUBNETS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listSubnetsOptions.start() != null) {
@@ -1449,9 +1281,7 @@ public class Vpc extends BaseService {
     if (listSubnetsOptions.routingTableName() != null) {
       builder.query("routing_table.name", String.valueOf(listSubnetsOptions.routingTableName()));
     }
-    ResponseConverter<SubnetCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SubnetCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_SUBNETS, builder);
   }
 
   /**
@@ -1479,18 +1309,11 @@ public class Vpc extends BaseService {
   public ServiceCall<Subnet> createSubnet(CreateSubnetOptions createSubnetOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createSubnetOptions,
       "createSubnetOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createSubnet");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_SUBNET.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createSubnetOptions.subnetPrototype()), "application/json");
-    ResponseConverter<Subnet> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Subnet>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_SUBNET, builder);
   }
 
   /**
@@ -1509,15 +1332,10 @@ public class Vpc extends BaseService {
       "deleteSubnetOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteSubnetOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteSubnet");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_SUBNET.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_SUBNET, builder);
   }
 
   /**
@@ -1533,17 +1351,10 @@ public class Vpc extends BaseService {
       "getSubnetOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getSubnetOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getSubnet");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_SUBNET.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Subnet> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Subnet>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_SUBNET, builder);
   }
 
   /**
@@ -1560,18 +1371,11 @@ public class Vpc extends BaseService {
       "updateSubnetOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateSubnetOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateSubnet");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_SUBNET.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateSubnetOptions.subnetPatch()), "application/merge-patch+json");
-    ResponseConverter<Subnet> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Subnet>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_SUBNET, builder);
   }
 
   /**
@@ -1587,17 +1391,10 @@ public class Vpc extends BaseService {
       "getSubnetNetworkAclOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getSubnetNetworkAclOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}/network_acl", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getSubnetNetworkAcl");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_SUBNET_NETWORK_ACL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<NetworkACL> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACL>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_SUBNET_NETWORK_ACL, builder);
   }
 
   /**
@@ -1614,18 +1411,11 @@ public class Vpc extends BaseService {
       "replaceSubnetNetworkAclOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", replaceSubnetNetworkAclOptions.id());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}/network_acl", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "replaceSubnetNetworkAcl");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.REPLACE_SUBNET_NETWORK_ACL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(replaceSubnetNetworkAclOptions.networkAclIdentity()), "application/json");
-    ResponseConverter<NetworkACL> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACL>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.REPLACE_SUBNET_NETWORK_ACL, builder);
   }
 
   /**
@@ -1641,15 +1431,10 @@ public class Vpc extends BaseService {
       "unsetSubnetPublicGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", unsetSubnetPublicGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}/public_gateway", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "unsetSubnetPublicGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.UNSET_SUBNET_PUBLIC_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UNSET_SUBNET_PUBLIC_GATEWAY, builder);
   }
 
   /**
@@ -1665,17 +1450,10 @@ public class Vpc extends BaseService {
       "getSubnetPublicGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getSubnetPublicGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}/public_gateway", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getSubnetPublicGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_SUBNET_PUBLIC_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<PublicGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PublicGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_SUBNET_PUBLIC_GATEWAY, builder);
   }
 
   /**
@@ -1692,18 +1470,11 @@ public class Vpc extends BaseService {
       "setSubnetPublicGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", setSubnetPublicGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}/public_gateway", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "setSubnetPublicGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.SET_SUBNET_PUBLIC_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(setSubnetPublicGatewayOptions.publicGatewayIdentity()), "application/json");
-    ResponseConverter<PublicGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PublicGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.SET_SUBNET_PUBLIC_GATEWAY, builder);
   }
 
   /**
@@ -1719,17 +1490,10 @@ public class Vpc extends BaseService {
       "getSubnetRoutingTableOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getSubnetRoutingTableOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}/routing_table", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getSubnetRoutingTable");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_SUBNET_ROUTING_TABLE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<RoutingTable> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoutingTable>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_SUBNET_ROUTING_TABLE, builder);
   }
 
   /**
@@ -1749,18 +1513,11 @@ public class Vpc extends BaseService {
       "replaceSubnetRoutingTableOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", replaceSubnetRoutingTableOptions.id());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{id}/routing_table", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "replaceSubnetRoutingTable");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.REPLACE_SUBNET_ROUTING_TABLE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(replaceSubnetRoutingTableOptions.routingTableIdentity()), "application/json");
-    ResponseConverter<RoutingTable> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoutingTable>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.REPLACE_SUBNET_ROUTING_TABLE, builder);
   }
 
   /**
@@ -1776,12 +1533,7 @@ public class Vpc extends BaseService {
       "listSubnetReservedIpsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("subnet_id", listSubnetReservedIpsOptions.subnetId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{subnet_id}/reserved_ips", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listSubnetReservedIps");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_SUBNET_RESERVED_IPS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listSubnetReservedIpsOptions.start() != null) {
@@ -1793,9 +1545,7 @@ public class Vpc extends BaseService {
     if (listSubnetReservedIpsOptions.sort() != null) {
       builder.query("sort", String.valueOf(listSubnetReservedIpsOptions.sort()));
     }
-    ResponseConverter<ReservedIPCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReservedIPCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_SUBNET_RESERVED_IPS, builder);
   }
 
   /**
@@ -1811,12 +1561,7 @@ public class Vpc extends BaseService {
       "createSubnetReservedIpOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("subnet_id", createSubnetReservedIpOptions.subnetId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{subnet_id}/reserved_ips", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createSubnetReservedIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_SUBNET_RESERVED_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -1830,9 +1575,7 @@ public class Vpc extends BaseService {
       contentJson.add("target", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createSubnetReservedIpOptions.target()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ReservedIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReservedIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_SUBNET_RESERVED_IP, builder);
   }
 
   /**
@@ -1849,15 +1592,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("subnet_id", deleteSubnetReservedIpOptions.subnetId());
     pathParamsMap.put("id", deleteSubnetReservedIpOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{subnet_id}/reserved_ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteSubnetReservedIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_SUBNET_RESERVED_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_SUBNET_RESERVED_IP, builder);
   }
 
   /**
@@ -1874,17 +1612,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("subnet_id", getSubnetReservedIpOptions.subnetId());
     pathParamsMap.put("id", getSubnetReservedIpOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{subnet_id}/reserved_ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getSubnetReservedIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_SUBNET_RESERVED_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<ReservedIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReservedIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_SUBNET_RESERVED_IP, builder);
   }
 
   /**
@@ -1902,18 +1633,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("subnet_id", updateSubnetReservedIpOptions.subnetId());
     pathParamsMap.put("id", updateSubnetReservedIpOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/subnets/{subnet_id}/reserved_ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateSubnetReservedIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_SUBNET_RESERVED_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateSubnetReservedIpOptions.reservedIpPatch()), "application/merge-patch+json");
-    ResponseConverter<ReservedIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReservedIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_SUBNET_RESERVED_IP, builder);
   }
 
   /**
@@ -1932,12 +1656,7 @@ public class Vpc extends BaseService {
     if (listImagesOptions == null) {
       listImagesOptions = new ListImagesOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/images"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listImages");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_IMAGES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listImagesOptions.start() != null) {
@@ -1955,9 +1674,7 @@ public class Vpc extends BaseService {
     if (listImagesOptions.visibility() != null) {
       builder.query("visibility", String.valueOf(listImagesOptions.visibility()));
     }
-    ResponseConverter<ImageCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ImageCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_IMAGES, builder);
   }
 
   /**
@@ -1988,18 +1705,11 @@ public class Vpc extends BaseService {
   public ServiceCall<Image> createImage(CreateImageOptions createImageOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createImageOptions,
       "createImageOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/images"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createImage");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_IMAGE.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createImageOptions.imagePrototype()), "application/json");
-    ResponseConverter<Image> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Image>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_IMAGE, builder);
   }
 
   /**
@@ -2017,15 +1727,10 @@ public class Vpc extends BaseService {
       "deleteImageOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteImageOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/images/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteImage");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_IMAGE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_IMAGE, builder);
   }
 
   /**
@@ -2041,17 +1746,10 @@ public class Vpc extends BaseService {
       "getImageOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getImageOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/images/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getImage");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_IMAGE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Image> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Image>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_IMAGE, builder);
   }
 
   /**
@@ -2069,18 +1767,11 @@ public class Vpc extends BaseService {
       "updateImageOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateImageOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/images/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateImage");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_IMAGE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateImageOptions.imagePatch()), "application/merge-patch+json");
-    ResponseConverter<Image> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Image>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_IMAGE, builder);
   }
 
   /**
@@ -2095,12 +1786,7 @@ public class Vpc extends BaseService {
     if (listOperatingSystemsOptions == null) {
       listOperatingSystemsOptions = new ListOperatingSystemsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/operating_systems"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listOperatingSystems");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_OPERATING_SYSTEMS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listOperatingSystemsOptions.start() != null) {
@@ -2109,9 +1795,7 @@ public class Vpc extends BaseService {
     if (listOperatingSystemsOptions.limit() != null) {
       builder.query("limit", String.valueOf(listOperatingSystemsOptions.limit()));
     }
-    ResponseConverter<OperatingSystemCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OperatingSystemCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_OPERATING_SYSTEMS, builder);
   }
 
   /**
@@ -2138,17 +1822,10 @@ public class Vpc extends BaseService {
       "getOperatingSystemOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("name", getOperatingSystemOptions.name());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/operating_systems/{name}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getOperatingSystem");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_OPERATING_SYSTEM.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<OperatingSystem> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OperatingSystem>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_OPERATING_SYSTEM, builder);
   }
 
   /**
@@ -2164,20 +1841,13 @@ public class Vpc extends BaseService {
     if (listKeysOptions == null) {
       listKeysOptions = new ListKeysOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/keys"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listKeys");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_KEYS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listKeysOptions.resourceGroupId() != null) {
       builder.query("resource_group.id", String.valueOf(listKeysOptions.resourceGroupId()));
     }
-    ResponseConverter<KeyCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<KeyCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_KEYS, builder);
   }
 
   /**
@@ -2205,12 +1875,7 @@ public class Vpc extends BaseService {
   public ServiceCall<Key> createKey(CreateKeyOptions createKeyOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createKeyOptions,
       "createKeyOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/keys"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createKey");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_KEY.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -2225,9 +1890,7 @@ public class Vpc extends BaseService {
       contentJson.addProperty("type", createKeyOptions.type());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Key> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Key>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_KEY, builder);
   }
 
   /**
@@ -2243,15 +1906,10 @@ public class Vpc extends BaseService {
       "deleteKeyOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteKeyOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/keys/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteKey");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_KEY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_KEY, builder);
   }
 
   /**
@@ -2267,17 +1925,10 @@ public class Vpc extends BaseService {
       "getKeyOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getKeyOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/keys/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getKey");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_KEY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Key> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Key>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_KEY, builder);
   }
 
   /**
@@ -2293,18 +1944,11 @@ public class Vpc extends BaseService {
       "updateKeyOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateKeyOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/keys/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateKey");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_KEY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateKeyOptions.keyPatch()), "application/merge-patch+json");
-    ResponseConverter<Key> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Key>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_KEY, builder);
   }
 
   /**
@@ -2317,17 +1961,10 @@ public class Vpc extends BaseService {
    * @return a {@link ServiceCall} with a result of type {@link InstanceProfileCollection}
    */
   public ServiceCall<InstanceProfileCollection> listInstanceProfiles(ListInstanceProfilesOptions listInstanceProfilesOptions) {
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance/profiles"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceProfiles");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_PROFILES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceProfileCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceProfileCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_PROFILES, builder);
   }
 
   /**
@@ -2355,17 +1992,10 @@ public class Vpc extends BaseService {
       "getInstanceProfileOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("name", getInstanceProfileOptions.name());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance/profiles/{name}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceProfile");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_PROFILE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceProfile> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceProfile>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_PROFILE, builder);
   }
 
   /**
@@ -2377,17 +2007,10 @@ public class Vpc extends BaseService {
    * @return a {@link ServiceCall} with a result of type {@link InstanceTemplateCollection}
    */
   public ServiceCall<InstanceTemplateCollection> listInstanceTemplates(ListInstanceTemplatesOptions listInstanceTemplatesOptions) {
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance/templates"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceTemplates");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_TEMPLATES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceTemplateCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceTemplateCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_TEMPLATES, builder);
   }
 
   /**
@@ -2412,18 +2035,11 @@ public class Vpc extends BaseService {
   public ServiceCall<InstanceTemplate> createInstanceTemplate(CreateInstanceTemplateOptions createInstanceTemplateOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createInstanceTemplateOptions,
       "createInstanceTemplateOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance/templates"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstanceTemplate");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE_TEMPLATE.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createInstanceTemplateOptions.instanceTemplatePrototype()), "application/json");
-    ResponseConverter<InstanceTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceTemplate>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE_TEMPLATE, builder);
   }
 
   /**
@@ -2439,15 +2055,10 @@ public class Vpc extends BaseService {
       "deleteInstanceTemplateOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteInstanceTemplateOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance/templates/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceTemplate");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_TEMPLATE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_TEMPLATE, builder);
   }
 
   /**
@@ -2463,17 +2074,10 @@ public class Vpc extends BaseService {
       "getInstanceTemplateOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getInstanceTemplateOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance/templates/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceTemplate");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_TEMPLATE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceTemplate>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_TEMPLATE, builder);
   }
 
   /**
@@ -2491,18 +2095,11 @@ public class Vpc extends BaseService {
       "updateInstanceTemplateOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateInstanceTemplateOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance/templates/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstanceTemplate");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE_TEMPLATE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceTemplateOptions.instanceTemplatePatch()), "application/merge-patch+json");
-    ResponseConverter<InstanceTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceTemplate>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE_TEMPLATE, builder);
   }
 
   /**
@@ -2517,12 +2114,7 @@ public class Vpc extends BaseService {
     if (listInstancesOptions == null) {
       listInstancesOptions = new ListInstancesOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstances");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listInstancesOptions.start() != null) {
@@ -2546,9 +2138,7 @@ public class Vpc extends BaseService {
     if (listInstancesOptions.vpcName() != null) {
       builder.query("vpc.name", String.valueOf(listInstancesOptions.vpcName()));
     }
-    ResponseConverter<InstanceCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCES, builder);
   }
 
   /**
@@ -2575,18 +2165,11 @@ public class Vpc extends BaseService {
   public ServiceCall<Instance> createInstance(CreateInstanceOptions createInstanceOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createInstanceOptions,
       "createInstanceOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstance");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createInstanceOptions.instancePrototype()), "application/json");
-    ResponseConverter<Instance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Instance>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE, builder);
   }
 
   /**
@@ -2604,15 +2187,10 @@ public class Vpc extends BaseService {
       "deleteInstanceOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteInstanceOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstance");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE, builder);
   }
 
   /**
@@ -2628,17 +2206,10 @@ public class Vpc extends BaseService {
       "getInstanceOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getInstanceOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstance");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Instance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Instance>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE, builder);
   }
 
   /**
@@ -2655,18 +2226,11 @@ public class Vpc extends BaseService {
       "updateInstanceOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateInstanceOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstance");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceOptions.instancePatch()), "application/merge-patch+json");
-    ResponseConverter<Instance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Instance>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE, builder);
   }
 
   /**
@@ -2683,17 +2247,10 @@ public class Vpc extends BaseService {
       "getInstanceInitializationOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getInstanceInitializationOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{id}/initialization", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceInitialization");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_INITIALIZATION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceInitialization> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceInitialization>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_INITIALIZATION, builder);
   }
 
   /**
@@ -2710,12 +2267,7 @@ public class Vpc extends BaseService {
       "createInstanceActionOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", createInstanceActionOptions.instanceId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/actions", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstanceAction");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE_ACTION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -2724,9 +2276,7 @@ public class Vpc extends BaseService {
       contentJson.addProperty("force", createInstanceActionOptions.force());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<InstanceAction> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceAction>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE_ACTION, builder);
   }
 
   /**
@@ -2745,12 +2295,7 @@ public class Vpc extends BaseService {
       "createInstanceConsoleAccessTokenOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", createInstanceConsoleAccessTokenOptions.instanceId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/console_access_token", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstanceConsoleAccessToken");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE_CONSOLE_ACCESS_TOKEN.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -2759,9 +2304,7 @@ public class Vpc extends BaseService {
       contentJson.addProperty("force", createInstanceConsoleAccessTokenOptions.force());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<InstanceConsoleAccessToken> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceConsoleAccessToken>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE_CONSOLE_ACCESS_TOKEN, builder);
   }
 
   /**
@@ -2779,17 +2322,10 @@ public class Vpc extends BaseService {
       "listInstanceDisksOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", listInstanceDisksOptions.instanceId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/disks", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceDisks");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_DISKS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceDiskCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceDiskCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_DISKS, builder);
   }
 
   /**
@@ -2806,17 +2342,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", getInstanceDiskOptions.instanceId());
     pathParamsMap.put("id", getInstanceDiskOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/disks/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceDisk");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_DISK.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceDisk> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceDisk>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_DISK, builder);
   }
 
   /**
@@ -2833,18 +2362,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", updateInstanceDiskOptions.instanceId());
     pathParamsMap.put("id", updateInstanceDiskOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/disks/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstanceDisk");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE_DISK.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceDiskOptions.instanceDiskPatch()), "application/merge-patch+json");
-    ResponseConverter<InstanceDisk> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceDisk>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE_DISK, builder);
   }
 
   /**
@@ -2863,17 +2385,10 @@ public class Vpc extends BaseService {
       "listInstanceNetworkInterfacesOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", listInstanceNetworkInterfacesOptions.instanceId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/network_interfaces", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceNetworkInterfaces");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_NETWORK_INTERFACES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<NetworkInterfaceUnpaginatedCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkInterfaceUnpaginatedCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_NETWORK_INTERFACES, builder);
   }
 
   /**
@@ -2892,12 +2407,7 @@ public class Vpc extends BaseService {
       "createInstanceNetworkInterfaceOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", createInstanceNetworkInterfaceOptions.instanceId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/network_interfaces", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstanceNetworkInterface");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE_NETWORK_INTERFACE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -2915,9 +2425,7 @@ public class Vpc extends BaseService {
       contentJson.add("security_groups", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createInstanceNetworkInterfaceOptions.securityGroups()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<NetworkInterface> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkInterface>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE_NETWORK_INTERFACE, builder);
   }
 
   /**
@@ -2936,15 +2444,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", deleteInstanceNetworkInterfaceOptions.instanceId());
     pathParamsMap.put("id", deleteInstanceNetworkInterfaceOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/network_interfaces/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceNetworkInterface");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_NETWORK_INTERFACE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_NETWORK_INTERFACE, builder);
   }
 
   /**
@@ -2961,17 +2464,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", getInstanceNetworkInterfaceOptions.instanceId());
     pathParamsMap.put("id", getInstanceNetworkInterfaceOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/network_interfaces/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceNetworkInterface");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_NETWORK_INTERFACE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<NetworkInterface> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkInterface>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_NETWORK_INTERFACE, builder);
   }
 
   /**
@@ -2990,18 +2486,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", updateInstanceNetworkInterfaceOptions.instanceId());
     pathParamsMap.put("id", updateInstanceNetworkInterfaceOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/network_interfaces/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstanceNetworkInterface");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE_NETWORK_INTERFACE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceNetworkInterfaceOptions.networkInterfacePatch()), "application/merge-patch+json");
-    ResponseConverter<NetworkInterface> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkInterface>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE_NETWORK_INTERFACE, builder);
   }
 
   /**
@@ -3018,17 +2507,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", listInstanceNetworkInterfaceFloatingIpsOptions.instanceId());
     pathParamsMap.put("network_interface_id", listInstanceNetworkInterfaceFloatingIpsOptions.networkInterfaceId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/network_interfaces/{network_interface_id}/floating_ips", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceNetworkInterfaceFloatingIps");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_NETWORK_INTERFACE_FLOATING_IPS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<FloatingIPUnpaginatedCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FloatingIPUnpaginatedCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_NETWORK_INTERFACE_FLOATING_IPS, builder);
   }
 
   /**
@@ -3046,15 +2528,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("instance_id", removeInstanceNetworkInterfaceFloatingIpOptions.instanceId());
     pathParamsMap.put("network_interface_id", removeInstanceNetworkInterfaceFloatingIpOptions.networkInterfaceId());
     pathParamsMap.put("id", removeInstanceNetworkInterfaceFloatingIpOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/network_interfaces/{network_interface_id}/floating_ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "removeInstanceNetworkInterfaceFloatingIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.REMOVE_INSTANCE_NETWORK_INTERFACE_FLOATING_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.REMOVE_INSTANCE_NETWORK_INTERFACE_FLOATING_IP, builder);
   }
 
   /**
@@ -3073,17 +2550,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("instance_id", getInstanceNetworkInterfaceFloatingIpOptions.instanceId());
     pathParamsMap.put("network_interface_id", getInstanceNetworkInterfaceFloatingIpOptions.networkInterfaceId());
     pathParamsMap.put("id", getInstanceNetworkInterfaceFloatingIpOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/network_interfaces/{network_interface_id}/floating_ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceNetworkInterfaceFloatingIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_NETWORK_INTERFACE_FLOATING_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<FloatingIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FloatingIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_NETWORK_INTERFACE_FLOATING_IP, builder);
   }
 
   /**
@@ -3103,17 +2573,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("instance_id", addInstanceNetworkInterfaceFloatingIpOptions.instanceId());
     pathParamsMap.put("network_interface_id", addInstanceNetworkInterfaceFloatingIpOptions.networkInterfaceId());
     pathParamsMap.put("id", addInstanceNetworkInterfaceFloatingIpOptions.id());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/network_interfaces/{network_interface_id}/floating_ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "addInstanceNetworkInterfaceFloatingIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.ADD_INSTANCE_NETWORK_INTERFACE_FLOATING_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<FloatingIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FloatingIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.ADD_INSTANCE_NETWORK_INTERFACE_FLOATING_IP, builder);
   }
 
   /**
@@ -3131,17 +2594,10 @@ public class Vpc extends BaseService {
       "listInstanceVolumeAttachmentsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", listInstanceVolumeAttachmentsOptions.instanceId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/volume_attachments", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceVolumeAttachments");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_VOLUME_ATTACHMENTS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VolumeAttachmentCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VolumeAttachmentCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_VOLUME_ATTACHMENTS, builder);
   }
 
   /**
@@ -3159,12 +2615,7 @@ public class Vpc extends BaseService {
       "createInstanceVolumeAttachmentOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", createInstanceVolumeAttachmentOptions.instanceId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/volume_attachments", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstanceVolumeAttachment");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE_VOLUME_ATTACHMENT.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -3176,9 +2627,7 @@ public class Vpc extends BaseService {
       contentJson.addProperty("name", createInstanceVolumeAttachmentOptions.name());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<VolumeAttachment> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VolumeAttachment>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE_VOLUME_ATTACHMENT, builder);
   }
 
   /**
@@ -3195,15 +2644,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", deleteInstanceVolumeAttachmentOptions.instanceId());
     pathParamsMap.put("id", deleteInstanceVolumeAttachmentOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/volume_attachments/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceVolumeAttachment");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_VOLUME_ATTACHMENT.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_VOLUME_ATTACHMENT, builder);
   }
 
   /**
@@ -3220,17 +2664,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", getInstanceVolumeAttachmentOptions.instanceId());
     pathParamsMap.put("id", getInstanceVolumeAttachmentOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/volume_attachments/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceVolumeAttachment");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_VOLUME_ATTACHMENT.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VolumeAttachment> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VolumeAttachment>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_VOLUME_ATTACHMENT, builder);
   }
 
   /**
@@ -3249,18 +2686,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_id", updateInstanceVolumeAttachmentOptions.instanceId());
     pathParamsMap.put("id", updateInstanceVolumeAttachmentOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instances/{instance_id}/volume_attachments/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstanceVolumeAttachment");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE_VOLUME_ATTACHMENT.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceVolumeAttachmentOptions.volumeAttachmentPatch()), "application/merge-patch+json");
-    ResponseConverter<VolumeAttachment> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VolumeAttachment>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE_VOLUME_ATTACHMENT, builder);
   }
 
   /**
@@ -3275,12 +2705,7 @@ public class Vpc extends BaseService {
     if (listInstanceGroupsOptions == null) {
       listInstanceGroupsOptions = new ListInstanceGroupsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceGroups");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_GROUPS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listInstanceGroupsOptions.start() != null) {
@@ -3289,9 +2714,7 @@ public class Vpc extends BaseService {
     if (listInstanceGroupsOptions.limit() != null) {
       builder.query("limit", String.valueOf(listInstanceGroupsOptions.limit()));
     }
-    ResponseConverter<InstanceGroupCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_GROUPS, builder);
   }
 
   /**
@@ -3316,12 +2739,7 @@ public class Vpc extends BaseService {
   public ServiceCall<InstanceGroup> createInstanceGroup(CreateInstanceGroupOptions createInstanceGroupOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createInstanceGroupOptions,
       "createInstanceGroupOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstanceGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE_GROUP.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -3346,9 +2764,7 @@ public class Vpc extends BaseService {
       contentJson.add("resource_group", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createInstanceGroupOptions.resourceGroup()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<InstanceGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE_GROUP, builder);
   }
 
   /**
@@ -3365,15 +2781,10 @@ public class Vpc extends BaseService {
       "deleteInstanceGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteInstanceGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_GROUP, builder);
   }
 
   /**
@@ -3389,17 +2800,10 @@ public class Vpc extends BaseService {
       "getInstanceGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getInstanceGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_GROUP, builder);
   }
 
   /**
@@ -3416,18 +2820,11 @@ public class Vpc extends BaseService {
       "updateInstanceGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateInstanceGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstanceGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceGroupOptions.instanceGroupPatch()), "application/merge-patch+json");
-    ResponseConverter<InstanceGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE_GROUP, builder);
   }
 
   /**
@@ -3443,15 +2840,10 @@ public class Vpc extends BaseService {
       "deleteInstanceGroupLoadBalancerOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", deleteInstanceGroupLoadBalancerOptions.instanceGroupId());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/load_balancer", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceGroupLoadBalancer");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_GROUP_LOAD_BALANCER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_GROUP_LOAD_BALANCER, builder);
   }
 
   /**
@@ -3467,12 +2859,7 @@ public class Vpc extends BaseService {
       "listInstanceGroupManagersOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", listInstanceGroupManagersOptions.instanceGroupId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceGroupManagers");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_GROUP_MANAGERS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listInstanceGroupManagersOptions.start() != null) {
@@ -3481,9 +2868,7 @@ public class Vpc extends BaseService {
     if (listInstanceGroupManagersOptions.limit() != null) {
       builder.query("limit", String.valueOf(listInstanceGroupManagersOptions.limit()));
     }
-    ResponseConverter<InstanceGroupManagerCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManagerCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_GROUP_MANAGERS, builder);
   }
 
   /**
@@ -3499,18 +2884,11 @@ public class Vpc extends BaseService {
       "createInstanceGroupManagerOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", createInstanceGroupManagerOptions.instanceGroupId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstanceGroupManager");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE_GROUP_MANAGER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createInstanceGroupManagerOptions.instanceGroupManagerPrototype()), "application/json");
-    ResponseConverter<InstanceGroupManager> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManager>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE_GROUP_MANAGER, builder);
   }
 
   /**
@@ -3527,15 +2905,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", deleteInstanceGroupManagerOptions.instanceGroupId());
     pathParamsMap.put("id", deleteInstanceGroupManagerOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceGroupManager");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_GROUP_MANAGER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_GROUP_MANAGER, builder);
   }
 
   /**
@@ -3552,17 +2925,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", getInstanceGroupManagerOptions.instanceGroupId());
     pathParamsMap.put("id", getInstanceGroupManagerOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceGroupManager");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_GROUP_MANAGER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceGroupManager> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManager>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_GROUP_MANAGER, builder);
   }
 
   /**
@@ -3579,18 +2945,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", updateInstanceGroupManagerOptions.instanceGroupId());
     pathParamsMap.put("id", updateInstanceGroupManagerOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstanceGroupManager");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE_GROUP_MANAGER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceGroupManagerOptions.instanceGroupManagerPatch()), "application/merge-patch+json");
-    ResponseConverter<InstanceGroupManager> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManager>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE_GROUP_MANAGER, builder);
   }
 
   /**
@@ -3607,12 +2966,7 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", listInstanceGroupManagerActionsOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", listInstanceGroupManagerActionsOptions.instanceGroupManagerId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceGroupManagerActions");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_GROUP_MANAGER_ACTIONS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listInstanceGroupManagerActionsOptions.start() != null) {
@@ -3621,9 +2975,7 @@ public class Vpc extends BaseService {
     if (listInstanceGroupManagerActionsOptions.limit() != null) {
       builder.query("limit", String.valueOf(listInstanceGroupManagerActionsOptions.limit()));
     }
-    ResponseConverter<InstanceGroupManagerActionsCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManagerActionsCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_GROUP_MANAGER_ACTIONS, builder);
   }
 
   /**
@@ -3640,18 +2992,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", createInstanceGroupManagerActionOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", createInstanceGroupManagerActionOptions.instanceGroupManagerId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstanceGroupManagerAction");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE_GROUP_MANAGER_ACTION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createInstanceGroupManagerActionOptions.instanceGroupManagerActionPrototype()), "application/json");
-    ResponseConverter<InstanceGroupManagerAction> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManagerAction>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE_GROUP_MANAGER_ACTION, builder);
   }
 
   /**
@@ -3669,15 +3014,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("instance_group_id", deleteInstanceGroupManagerActionOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", deleteInstanceGroupManagerActionOptions.instanceGroupManagerId());
     pathParamsMap.put("id", deleteInstanceGroupManagerActionOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceGroupManagerAction");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_GROUP_MANAGER_ACTION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_GROUP_MANAGER_ACTION, builder);
   }
 
   /**
@@ -3695,17 +3035,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("instance_group_id", getInstanceGroupManagerActionOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", getInstanceGroupManagerActionOptions.instanceGroupManagerId());
     pathParamsMap.put("id", getInstanceGroupManagerActionOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceGroupManagerAction");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_GROUP_MANAGER_ACTION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceGroupManagerAction> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManagerAction>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_GROUP_MANAGER_ACTION, builder);
   }
 
   /**
@@ -3723,18 +3056,11 @@ public class Vpc extends BaseService {
     pathParamsMap.put("instance_group_id", updateInstanceGroupManagerActionOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", updateInstanceGroupManagerActionOptions.instanceGroupManagerId());
     pathParamsMap.put("id", updateInstanceGroupManagerActionOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstanceGroupManagerAction");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE_GROUP_MANAGER_ACTION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceGroupManagerActionOptions.instanceGroupManagerActionPatch()), "application/merge-patch+json");
-    ResponseConverter<InstanceGroupManagerAction> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManagerAction>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE_GROUP_MANAGER_ACTION, builder);
   }
 
   /**
@@ -3751,12 +3077,7 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", listInstanceGroupManagerPoliciesOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", listInstanceGroupManagerPoliciesOptions.instanceGroupManagerId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceGroupManagerPolicies");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_GROUP_MANAGER_POLICIES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listInstanceGroupManagerPoliciesOptions.start() != null) {
@@ -3765,9 +3086,7 @@ public class Vpc extends BaseService {
     if (listInstanceGroupManagerPoliciesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listInstanceGroupManagerPoliciesOptions.limit()));
     }
-    ResponseConverter<InstanceGroupManagerPolicyCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManagerPolicyCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_GROUP_MANAGER_POLICIES, builder);
   }
 
   /**
@@ -3784,18 +3103,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", createInstanceGroupManagerPolicyOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", createInstanceGroupManagerPolicyOptions.instanceGroupManagerId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createInstanceGroupManagerPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_INSTANCE_GROUP_MANAGER_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createInstanceGroupManagerPolicyOptions.instanceGroupManagerPolicyPrototype()), "application/json");
-    ResponseConverter<InstanceGroupManagerPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManagerPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_INSTANCE_GROUP_MANAGER_POLICY, builder);
   }
 
   /**
@@ -3813,15 +3125,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("instance_group_id", deleteInstanceGroupManagerPolicyOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", deleteInstanceGroupManagerPolicyOptions.instanceGroupManagerId());
     pathParamsMap.put("id", deleteInstanceGroupManagerPolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceGroupManagerPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_GROUP_MANAGER_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_GROUP_MANAGER_POLICY, builder);
   }
 
   /**
@@ -3839,17 +3146,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("instance_group_id", getInstanceGroupManagerPolicyOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", getInstanceGroupManagerPolicyOptions.instanceGroupManagerId());
     pathParamsMap.put("id", getInstanceGroupManagerPolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceGroupManagerPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_GROUP_MANAGER_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceGroupManagerPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManagerPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_GROUP_MANAGER_POLICY, builder);
   }
 
   /**
@@ -3867,18 +3167,11 @@ public class Vpc extends BaseService {
     pathParamsMap.put("instance_group_id", updateInstanceGroupManagerPolicyOptions.instanceGroupId());
     pathParamsMap.put("instance_group_manager_id", updateInstanceGroupManagerPolicyOptions.instanceGroupManagerId());
     pathParamsMap.put("id", updateInstanceGroupManagerPolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstanceGroupManagerPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE_GROUP_MANAGER_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceGroupManagerPolicyOptions.instanceGroupManagerPolicyPatch()), "application/merge-patch+json");
-    ResponseConverter<InstanceGroupManagerPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupManagerPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE_GROUP_MANAGER_POLICY, builder);
   }
 
   /**
@@ -3895,15 +3188,10 @@ public class Vpc extends BaseService {
       "deleteInstanceGroupMembershipsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", deleteInstanceGroupMembershipsOptions.instanceGroupId());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/memberships", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceGroupMemberships");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_GROUP_MEMBERSHIPS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_GROUP_MEMBERSHIPS, builder);
   }
 
   /**
@@ -3919,12 +3207,7 @@ public class Vpc extends BaseService {
       "listInstanceGroupMembershipsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", listInstanceGroupMembershipsOptions.instanceGroupId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/memberships", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listInstanceGroupMemberships");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_INSTANCE_GROUP_MEMBERSHIPS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listInstanceGroupMembershipsOptions.start() != null) {
@@ -3933,9 +3216,7 @@ public class Vpc extends BaseService {
     if (listInstanceGroupMembershipsOptions.limit() != null) {
       builder.query("limit", String.valueOf(listInstanceGroupMembershipsOptions.limit()));
     }
-    ResponseConverter<InstanceGroupMembershipCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupMembershipCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_INSTANCE_GROUP_MEMBERSHIPS, builder);
   }
 
   /**
@@ -3953,15 +3234,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", deleteInstanceGroupMembershipOptions.instanceGroupId());
     pathParamsMap.put("id", deleteInstanceGroupMembershipOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/memberships/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteInstanceGroupMembership");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_INSTANCE_GROUP_MEMBERSHIP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_INSTANCE_GROUP_MEMBERSHIP, builder);
   }
 
   /**
@@ -3978,17 +3254,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", getInstanceGroupMembershipOptions.instanceGroupId());
     pathParamsMap.put("id", getInstanceGroupMembershipOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/memberships/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getInstanceGroupMembership");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_INSTANCE_GROUP_MEMBERSHIP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<InstanceGroupMembership> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupMembership>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_INSTANCE_GROUP_MEMBERSHIP, builder);
   }
 
   /**
@@ -4005,18 +3274,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("instance_group_id", updateInstanceGroupMembershipOptions.instanceGroupId());
     pathParamsMap.put("id", updateInstanceGroupMembershipOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/instance_groups/{instance_group_id}/memberships/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateInstanceGroupMembership");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_INSTANCE_GROUP_MEMBERSHIP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateInstanceGroupMembershipOptions.instanceGroupMembershipPatch()), "application/merge-patch+json");
-    ResponseConverter<InstanceGroupMembership> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstanceGroupMembership>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_INSTANCE_GROUP_MEMBERSHIP, builder);
   }
 
   /**
@@ -4032,12 +3294,7 @@ public class Vpc extends BaseService {
     if (listDedicatedHostGroupsOptions == null) {
       listDedicatedHostGroupsOptions = new ListDedicatedHostGroupsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_host/groups"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listDedicatedHostGroups");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_DEDICATED_HOST_GROUPS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listDedicatedHostGroupsOptions.start() != null) {
@@ -4052,9 +3309,7 @@ public class Vpc extends BaseService {
     if (listDedicatedHostGroupsOptions.zoneName() != null) {
       builder.query("zone.name", String.valueOf(listDedicatedHostGroupsOptions.zoneName()));
     }
-    ResponseConverter<DedicatedHostGroupCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostGroupCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_DEDICATED_HOST_GROUPS, builder);
   }
 
   /**
@@ -4083,12 +3338,7 @@ public class Vpc extends BaseService {
       createDedicatedHostGroupOptions = new CreateDedicatedHostGroupOptions.Builder().build();
       skipBody = true;
     }
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_host/groups"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createDedicatedHostGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_DEDICATED_HOST_GROUP.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (!skipBody) {
@@ -4110,9 +3360,7 @@ public class Vpc extends BaseService {
       }
       builder.bodyJson(contentJson);
     }
-    ResponseConverter<DedicatedHostGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_DEDICATED_HOST_GROUP, builder);
   }
 
   /**
@@ -4139,15 +3387,10 @@ public class Vpc extends BaseService {
       "deleteDedicatedHostGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteDedicatedHostGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_host/groups/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteDedicatedHostGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_DEDICATED_HOST_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_DEDICATED_HOST_GROUP, builder);
   }
 
   /**
@@ -4163,17 +3406,10 @@ public class Vpc extends BaseService {
       "getDedicatedHostGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getDedicatedHostGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_host/groups/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getDedicatedHostGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_DEDICATED_HOST_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<DedicatedHostGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_DEDICATED_HOST_GROUP, builder);
   }
 
   /**
@@ -4191,18 +3427,11 @@ public class Vpc extends BaseService {
       "updateDedicatedHostGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateDedicatedHostGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_host/groups/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateDedicatedHostGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_DEDICATED_HOST_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateDedicatedHostGroupOptions.dedicatedHostGroupPatch()), "application/merge-patch+json");
-    ResponseConverter<DedicatedHostGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_DEDICATED_HOST_GROUP, builder);
   }
 
   /**
@@ -4218,12 +3447,7 @@ public class Vpc extends BaseService {
     if (listDedicatedHostProfilesOptions == null) {
       listDedicatedHostProfilesOptions = new ListDedicatedHostProfilesOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_host/profiles"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listDedicatedHostProfiles");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_DEDICATED_HOST_PROFILES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listDedicatedHostProfilesOptions.start() != null) {
@@ -4232,9 +3456,7 @@ public class Vpc extends BaseService {
     if (listDedicatedHostProfilesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listDedicatedHostProfilesOptions.limit()));
     }
-    ResponseConverter<DedicatedHostProfileCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostProfileCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_DEDICATED_HOST_PROFILES, builder);
   }
 
   /**
@@ -4262,17 +3484,10 @@ public class Vpc extends BaseService {
       "getDedicatedHostProfileOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("name", getDedicatedHostProfileOptions.name());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_host/profiles/{name}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getDedicatedHostProfile");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_DEDICATED_HOST_PROFILE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<DedicatedHostProfile> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostProfile>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_DEDICATED_HOST_PROFILE, builder);
   }
 
   /**
@@ -4287,12 +3502,7 @@ public class Vpc extends BaseService {
     if (listDedicatedHostsOptions == null) {
       listDedicatedHostsOptions = new ListDedicatedHostsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_hosts"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listDedicatedHosts");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_DEDICATED_HOSTS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listDedicatedHostsOptions.dedicatedHostGroupId() != null) {
@@ -4310,9 +3520,7 @@ public class Vpc extends BaseService {
     if (listDedicatedHostsOptions.zoneName() != null) {
       builder.query("zone.name", String.valueOf(listDedicatedHostsOptions.zoneName()));
     }
-    ResponseConverter<DedicatedHostCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_DEDICATED_HOSTS, builder);
   }
 
   /**
@@ -4337,18 +3545,11 @@ public class Vpc extends BaseService {
   public ServiceCall<DedicatedHost> createDedicatedHost(CreateDedicatedHostOptions createDedicatedHostOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createDedicatedHostOptions,
       "createDedicatedHostOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_hosts"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createDedicatedHost");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_DEDICATED_HOST.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createDedicatedHostOptions.dedicatedHostPrototype()), "application/json");
-    ResponseConverter<DedicatedHost> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHost>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_DEDICATED_HOST, builder);
   }
 
   /**
@@ -4366,17 +3567,10 @@ public class Vpc extends BaseService {
       "listDedicatedHostDisksOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("dedicated_host_id", listDedicatedHostDisksOptions.dedicatedHostId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_hosts/{dedicated_host_id}/disks", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listDedicatedHostDisks");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_DEDICATED_HOST_DISKS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<DedicatedHostDiskCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostDiskCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_DEDICATED_HOST_DISKS, builder);
   }
 
   /**
@@ -4393,17 +3587,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("dedicated_host_id", getDedicatedHostDiskOptions.dedicatedHostId());
     pathParamsMap.put("id", getDedicatedHostDiskOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_hosts/{dedicated_host_id}/disks/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getDedicatedHostDisk");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_DEDICATED_HOST_DISK.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<DedicatedHostDisk> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostDisk>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_DEDICATED_HOST_DISK, builder);
   }
 
   /**
@@ -4420,18 +3607,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("dedicated_host_id", updateDedicatedHostDiskOptions.dedicatedHostId());
     pathParamsMap.put("id", updateDedicatedHostDiskOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_hosts/{dedicated_host_id}/disks/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateDedicatedHostDisk");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_DEDICATED_HOST_DISK.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateDedicatedHostDiskOptions.dedicatedHostDiskPatch()), "application/merge-patch+json");
-    ResponseConverter<DedicatedHostDisk> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHostDisk>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_DEDICATED_HOST_DISK, builder);
   }
 
   /**
@@ -4447,15 +3627,10 @@ public class Vpc extends BaseService {
       "deleteDedicatedHostOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteDedicatedHostOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_hosts/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteDedicatedHost");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_DEDICATED_HOST.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_DEDICATED_HOST, builder);
   }
 
   /**
@@ -4471,17 +3646,10 @@ public class Vpc extends BaseService {
       "getDedicatedHostOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getDedicatedHostOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_hosts/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getDedicatedHost");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_DEDICATED_HOST.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<DedicatedHost> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHost>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_DEDICATED_HOST, builder);
   }
 
   /**
@@ -4499,18 +3667,11 @@ public class Vpc extends BaseService {
       "updateDedicatedHostOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateDedicatedHostOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/dedicated_hosts/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateDedicatedHost");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_DEDICATED_HOST.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateDedicatedHostOptions.dedicatedHostPatch()), "application/merge-patch+json");
-    ResponseConverter<DedicatedHost> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DedicatedHost>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_DEDICATED_HOST, builder);
   }
 
   /**
@@ -4526,12 +3687,7 @@ public class Vpc extends BaseService {
     if (listVolumeProfilesOptions == null) {
       listVolumeProfilesOptions = new ListVolumeProfilesOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/volume/profiles"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVolumeProfiles");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VOLUME_PROFILES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listVolumeProfilesOptions.start() != null) {
@@ -4540,9 +3696,7 @@ public class Vpc extends BaseService {
     if (listVolumeProfilesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listVolumeProfilesOptions.limit()));
     }
-    ResponseConverter<VolumeProfileCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VolumeProfileCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VOLUME_PROFILES, builder);
   }
 
   /**
@@ -4570,17 +3724,10 @@ public class Vpc extends BaseService {
       "getVolumeProfileOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("name", getVolumeProfileOptions.name());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/volume/profiles/{name}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVolumeProfile");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VOLUME_PROFILE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VolumeProfile> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VolumeProfile>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VOLUME_PROFILE, builder);
   }
 
   /**
@@ -4596,12 +3743,7 @@ public class Vpc extends BaseService {
     if (listVolumesOptions == null) {
       listVolumesOptions = new ListVolumesOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/volumes"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVolumes");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VOLUMES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listVolumesOptions.start() != null) {
@@ -4616,9 +3758,7 @@ public class Vpc extends BaseService {
     if (listVolumesOptions.zoneName() != null) {
       builder.query("zone.name", String.valueOf(listVolumesOptions.zoneName()));
     }
-    ResponseConverter<VolumeCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VolumeCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VOLUMES, builder);
   }
 
   /**
@@ -4645,18 +3785,11 @@ public class Vpc extends BaseService {
   public ServiceCall<Volume> createVolume(CreateVolumeOptions createVolumeOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createVolumeOptions,
       "createVolumeOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/volumes"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createVolume");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_VOLUME.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createVolumeOptions.volumePrototype()), "application/json");
-    ResponseConverter<Volume> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Volume>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_VOLUME, builder);
   }
 
   /**
@@ -4673,15 +3806,10 @@ public class Vpc extends BaseService {
       "deleteVolumeOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteVolumeOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/volumes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteVolume");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_VOLUME.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_VOLUME, builder);
   }
 
   /**
@@ -4697,17 +3825,10 @@ public class Vpc extends BaseService {
       "getVolumeOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getVolumeOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/volumes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVolume");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VOLUME.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Volume> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Volume>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VOLUME, builder);
   }
 
   /**
@@ -4724,18 +3845,11 @@ public class Vpc extends BaseService {
       "updateVolumeOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateVolumeOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/volumes/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateVolume");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_VOLUME.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateVolumeOptions.volumePatch()), "application/merge-patch+json");
-    ResponseConverter<Volume> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Volume>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_VOLUME, builder);
   }
 
   /**
@@ -4751,17 +3865,10 @@ public class Vpc extends BaseService {
    * @return a {@link ServiceCall} with a result of type {@link RegionCollection}
    */
   public ServiceCall<RegionCollection> listRegions(ListRegionsOptions listRegionsOptions) {
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/regions"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listRegions");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_REGIONS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<RegionCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RegionCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_REGIONS, builder);
   }
 
   /**
@@ -4792,17 +3899,10 @@ public class Vpc extends BaseService {
       "getRegionOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("name", getRegionOptions.name());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/regions/{name}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getRegion");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_REGION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Region> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Region>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_REGION, builder);
   }
 
   /**
@@ -4819,17 +3919,10 @@ public class Vpc extends BaseService {
       "listRegionZonesOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("region_name", listRegionZonesOptions.regionName());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/regions/{region_name}/zones", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listRegionZones");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_REGION_ZONES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<ZoneCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ZoneCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_REGION_ZONES, builder);
   }
 
   /**
@@ -4846,17 +3939,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("region_name", getRegionZoneOptions.regionName());
     pathParamsMap.put("name", getRegionZoneOptions.name());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/regions/{region_name}/zones/{name}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getRegionZone");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_REGION_ZONE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Zone> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Zone>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_REGION_ZONE, builder);
   }
 
   /**
@@ -4873,12 +3959,7 @@ public class Vpc extends BaseService {
     if (listPublicGatewaysOptions == null) {
       listPublicGatewaysOptions = new ListPublicGatewaysOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/public_gateways"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listPublicGateways");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_PUBLIC_GATEWAYS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listPublicGatewaysOptions.start() != null) {
@@ -4890,9 +3971,7 @@ public class Vpc extends BaseService {
     if (listPublicGatewaysOptions.resourceGroupId() != null) {
       builder.query("resource_group.id", String.valueOf(listPublicGatewaysOptions.resourceGroupId()));
     }
-    ResponseConverter<PublicGatewayCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PublicGatewayCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_PUBLIC_GATEWAYS, builder);
   }
 
   /**
@@ -4924,12 +4003,7 @@ public class Vpc extends BaseService {
   public ServiceCall<PublicGateway> createPublicGateway(CreatePublicGatewayOptions createPublicGatewayOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createPublicGatewayOptions,
       "createPublicGatewayOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/public_gateways"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createPublicGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_PUBLIC_GATEWAY.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -4945,9 +4019,7 @@ public class Vpc extends BaseService {
       contentJson.add("resource_group", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createPublicGatewayOptions.resourceGroup()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<PublicGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PublicGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_PUBLIC_GATEWAY, builder);
   }
 
   /**
@@ -4965,15 +4037,10 @@ public class Vpc extends BaseService {
       "deletePublicGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deletePublicGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/public_gateways/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deletePublicGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_PUBLIC_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_PUBLIC_GATEWAY, builder);
   }
 
   /**
@@ -4989,17 +4056,10 @@ public class Vpc extends BaseService {
       "getPublicGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getPublicGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/public_gateways/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getPublicGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_PUBLIC_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<PublicGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PublicGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_PUBLIC_GATEWAY, builder);
   }
 
   /**
@@ -5015,18 +4075,11 @@ public class Vpc extends BaseService {
       "updatePublicGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updatePublicGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/public_gateways/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updatePublicGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_PUBLIC_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updatePublicGatewayOptions.publicGatewayPatch()), "application/merge-patch+json");
-    ResponseConverter<PublicGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PublicGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_PUBLIC_GATEWAY, builder);
   }
 
   /**
@@ -5042,12 +4095,7 @@ public class Vpc extends BaseService {
     if (listFloatingIpsOptions == null) {
       listFloatingIpsOptions = new ListFloatingIpsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/floating_ips"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listFloatingIps");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_FLOATING_IPS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listFloatingIpsOptions.start() != null) {
@@ -5059,9 +4107,7 @@ public class Vpc extends BaseService {
     if (listFloatingIpsOptions.resourceGroupId() != null) {
       builder.query("resource_group.id", String.valueOf(listFloatingIpsOptions.resourceGroupId()));
     }
-    ResponseConverter<FloatingIPCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FloatingIPCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_FLOATING_IPS, builder);
   }
 
   /**
@@ -5087,18 +4133,11 @@ public class Vpc extends BaseService {
   public ServiceCall<FloatingIP> createFloatingIp(CreateFloatingIpOptions createFloatingIpOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createFloatingIpOptions,
       "createFloatingIpOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/floating_ips"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createFloatingIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_FLOATING_IP.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createFloatingIpOptions.floatingIpPrototype()), "application/json");
-    ResponseConverter<FloatingIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FloatingIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_FLOATING_IP, builder);
   }
 
   /**
@@ -5115,15 +4154,10 @@ public class Vpc extends BaseService {
       "deleteFloatingIpOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteFloatingIpOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/floating_ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteFloatingIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_FLOATING_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_FLOATING_IP, builder);
   }
 
   /**
@@ -5139,17 +4173,10 @@ public class Vpc extends BaseService {
       "getFloatingIpOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getFloatingIpOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/floating_ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getFloatingIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_FLOATING_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<FloatingIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FloatingIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_FLOATING_IP, builder);
   }
 
   /**
@@ -5165,18 +4192,11 @@ public class Vpc extends BaseService {
       "updateFloatingIpOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateFloatingIpOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/floating_ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateFloatingIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_FLOATING_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateFloatingIpOptions.floatingIpPatch()), "application/merge-patch+json");
-    ResponseConverter<FloatingIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FloatingIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_FLOATING_IP, builder);
   }
 
   /**
@@ -5193,12 +4213,7 @@ public class Vpc extends BaseService {
     if (listNetworkAclsOptions == null) {
       listNetworkAclsOptions = new ListNetworkAclsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listNetworkAcls");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_NETWORK_ACLS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listNetworkAclsOptions.start() != null) {
@@ -5210,9 +4225,7 @@ public class Vpc extends BaseService {
     if (listNetworkAclsOptions.resourceGroupId() != null) {
       builder.query("resource_group.id", String.valueOf(listNetworkAclsOptions.resourceGroupId()));
     }
-    ResponseConverter<NetworkACLCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACLCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_NETWORK_ACLS, builder);
   }
 
   /**
@@ -5241,20 +4254,13 @@ public class Vpc extends BaseService {
     if (createNetworkAclOptions == null) {
       createNetworkAclOptions = new CreateNetworkAclOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createNetworkAcl");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_NETWORK_ACL.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (createNetworkAclOptions.networkAclPrototype() != null) {
       builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createNetworkAclOptions.networkAclPrototype()), "application/json");
     }
-    ResponseConverter<NetworkACL> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACL>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_NETWORK_ACL, builder);
   }
 
   /**
@@ -5283,15 +4289,10 @@ public class Vpc extends BaseService {
       "deleteNetworkAclOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteNetworkAclOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteNetworkAcl");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_NETWORK_ACL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_NETWORK_ACL, builder);
   }
 
   /**
@@ -5307,17 +4308,10 @@ public class Vpc extends BaseService {
       "getNetworkAclOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getNetworkAclOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getNetworkAcl");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_NETWORK_ACL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<NetworkACL> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACL>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_NETWORK_ACL, builder);
   }
 
   /**
@@ -5333,18 +4327,11 @@ public class Vpc extends BaseService {
       "updateNetworkAclOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateNetworkAclOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateNetworkAcl");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_NETWORK_ACL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateNetworkAclOptions.networkAclPatch()), "application/merge-patch+json");
-    ResponseConverter<NetworkACL> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACL>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_NETWORK_ACL, builder);
   }
 
   /**
@@ -5361,12 +4348,7 @@ public class Vpc extends BaseService {
       "listNetworkAclRulesOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("network_acl_id", listNetworkAclRulesOptions.networkAclId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls/{network_acl_id}/rules", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listNetworkAclRules");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_NETWORK_ACL_RULES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listNetworkAclRulesOptions.start() != null) {
@@ -5378,9 +4360,7 @@ public class Vpc extends BaseService {
     if (listNetworkAclRulesOptions.direction() != null) {
       builder.query("direction", String.valueOf(listNetworkAclRulesOptions.direction()));
     }
-    ResponseConverter<NetworkACLRuleCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACLRuleCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_NETWORK_ACL_RULES, builder);
   }
 
   /**
@@ -5397,18 +4377,11 @@ public class Vpc extends BaseService {
       "createNetworkAclRuleOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("network_acl_id", createNetworkAclRuleOptions.networkAclId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls/{network_acl_id}/rules", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createNetworkAclRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_NETWORK_ACL_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createNetworkAclRuleOptions.networkAclRulePrototype()), "application/json");
-    ResponseConverter<NetworkACLRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACLRule>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_NETWORK_ACL_RULE, builder);
   }
 
   /**
@@ -5425,15 +4398,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("network_acl_id", deleteNetworkAclRuleOptions.networkAclId());
     pathParamsMap.put("id", deleteNetworkAclRuleOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls/{network_acl_id}/rules/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteNetworkAclRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_NETWORK_ACL_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_NETWORK_ACL_RULE, builder);
   }
 
   /**
@@ -5450,17 +4418,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("network_acl_id", getNetworkAclRuleOptions.networkAclId());
     pathParamsMap.put("id", getNetworkAclRuleOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls/{network_acl_id}/rules/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getNetworkAclRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_NETWORK_ACL_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<NetworkACLRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACLRule>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_NETWORK_ACL_RULE, builder);
   }
 
   /**
@@ -5478,18 +4439,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("network_acl_id", updateNetworkAclRuleOptions.networkAclId());
     pathParamsMap.put("id", updateNetworkAclRuleOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/network_acls/{network_acl_id}/rules/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateNetworkAclRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_NETWORK_ACL_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateNetworkAclRuleOptions.networkAclRulePatch()), "application/merge-patch+json");
-    ResponseConverter<NetworkACLRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkACLRule>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_NETWORK_ACL_RULE, builder);
   }
 
   /**
@@ -5507,12 +4461,7 @@ public class Vpc extends BaseService {
     if (listSecurityGroupsOptions == null) {
       listSecurityGroupsOptions = new ListSecurityGroupsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listSecurityGroups");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_SECURITY_GROUPS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listSecurityGroupsOptions.start() != null) {
@@ -5533,9 +4482,7 @@ public class Vpc extends BaseService {
     if (listSecurityGroupsOptions.vpcName() != null) {
       builder.query("vpc.name", String.valueOf(listSecurityGroupsOptions.vpcName()));
     }
-    ResponseConverter<SecurityGroupCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroupCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_SECURITY_GROUPS, builder);
   }
 
   /**
@@ -5567,12 +4514,7 @@ public class Vpc extends BaseService {
   public ServiceCall<SecurityGroup> createSecurityGroup(CreateSecurityGroupOptions createSecurityGroupOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createSecurityGroupOptions,
       "createSecurityGroupOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createSecurityGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_SECURITY_GROUP.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -5587,9 +4529,7 @@ public class Vpc extends BaseService {
       contentJson.add("rules", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createSecurityGroupOptions.rules()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<SecurityGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_SECURITY_GROUP, builder);
   }
 
   /**
@@ -5607,15 +4547,10 @@ public class Vpc extends BaseService {
       "deleteSecurityGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteSecurityGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteSecurityGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_SECURITY_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_SECURITY_GROUP, builder);
   }
 
   /**
@@ -5631,17 +4566,10 @@ public class Vpc extends BaseService {
       "getSecurityGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getSecurityGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getSecurityGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_SECURITY_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<SecurityGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_SECURITY_GROUP, builder);
   }
 
   /**
@@ -5659,18 +4587,11 @@ public class Vpc extends BaseService {
       "updateSecurityGroupOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateSecurityGroupOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateSecurityGroup");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_SECURITY_GROUP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateSecurityGroupOptions.securityGroupPatch()), "application/merge-patch+json");
-    ResponseConverter<SecurityGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroup>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_SECURITY_GROUP, builder);
   }
 
   /**
@@ -5687,12 +4608,7 @@ public class Vpc extends BaseService {
       "listSecurityGroupNetworkInterfacesOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", listSecurityGroupNetworkInterfacesOptions.securityGroupId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/network_interfaces", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listSecurityGroupNetworkInterfaces");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_SECURITY_GROUP_NETWORK_INTERFACES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listSecurityGroupNetworkInterfacesOptions.start() != null) {
@@ -5701,9 +4617,7 @@ public class Vpc extends BaseService {
     if (listSecurityGroupNetworkInterfacesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listSecurityGroupNetworkInterfacesOptions.limit()));
     }
-    ResponseConverter<NetworkInterfaceCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkInterfaceCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_SECURITY_GROUP_NETWORK_INTERFACES, builder);
   }
 
   /**
@@ -5723,15 +4637,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", removeSecurityGroupNetworkInterfaceOptions.securityGroupId());
     pathParamsMap.put("id", removeSecurityGroupNetworkInterfaceOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/network_interfaces/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "removeSecurityGroupNetworkInterface");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.REMOVE_SECURITY_GROUP_NETWORK_INTERFACE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.REMOVE_SECURITY_GROUP_NETWORK_INTERFACE, builder);
   }
 
   /**
@@ -5749,17 +4658,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", getSecurityGroupNetworkInterfaceOptions.securityGroupId());
     pathParamsMap.put("id", getSecurityGroupNetworkInterfaceOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/network_interfaces/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getSecurityGroupNetworkInterface");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_SECURITY_GROUP_NETWORK_INTERFACE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<NetworkInterface> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkInterface>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_SECURITY_GROUP_NETWORK_INTERFACE, builder);
   }
 
   /**
@@ -5778,17 +4680,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", addSecurityGroupNetworkInterfaceOptions.securityGroupId());
     pathParamsMap.put("id", addSecurityGroupNetworkInterfaceOptions.id());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/network_interfaces/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "addSecurityGroupNetworkInterface");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.ADD_SECURITY_GROUP_NETWORK_INTERFACE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<NetworkInterface> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NetworkInterface>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.ADD_SECURITY_GROUP_NETWORK_INTERFACE, builder);
   }
 
   /**
@@ -5806,17 +4701,10 @@ public class Vpc extends BaseService {
       "listSecurityGroupRulesOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", listSecurityGroupRulesOptions.securityGroupId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/rules", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listSecurityGroupRules");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_SECURITY_GROUP_RULES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<SecurityGroupRuleCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroupRuleCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_SECURITY_GROUP_RULES, builder);
   }
 
   /**
@@ -5837,18 +4725,11 @@ public class Vpc extends BaseService {
       "createSecurityGroupRuleOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", createSecurityGroupRuleOptions.securityGroupId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/rules", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createSecurityGroupRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_SECURITY_GROUP_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createSecurityGroupRuleOptions.securityGroupRulePrototype()), "application/json");
-    ResponseConverter<SecurityGroupRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroupRule>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_SECURITY_GROUP_RULE, builder);
   }
 
   /**
@@ -5866,15 +4747,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", deleteSecurityGroupRuleOptions.securityGroupId());
     pathParamsMap.put("id", deleteSecurityGroupRuleOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/rules/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteSecurityGroupRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_SECURITY_GROUP_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_SECURITY_GROUP_RULE, builder);
   }
 
   /**
@@ -5891,17 +4767,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", getSecurityGroupRuleOptions.securityGroupId());
     pathParamsMap.put("id", getSecurityGroupRuleOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/rules/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getSecurityGroupRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_SECURITY_GROUP_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<SecurityGroupRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroupRule>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_SECURITY_GROUP_RULE, builder);
   }
 
   /**
@@ -5920,18 +4789,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", updateSecurityGroupRuleOptions.securityGroupId());
     pathParamsMap.put("id", updateSecurityGroupRuleOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/rules/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateSecurityGroupRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_SECURITY_GROUP_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateSecurityGroupRuleOptions.securityGroupRulePatch()), "application/merge-patch+json");
-    ResponseConverter<SecurityGroupRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroupRule>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_SECURITY_GROUP_RULE, builder);
   }
 
   /**
@@ -5948,12 +4810,7 @@ public class Vpc extends BaseService {
       "listSecurityGroupTargetsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", listSecurityGroupTargetsOptions.securityGroupId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/targets", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listSecurityGroupTargets");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_SECURITY_GROUP_TARGETS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listSecurityGroupTargetsOptions.start() != null) {
@@ -5962,9 +4819,7 @@ public class Vpc extends BaseService {
     if (listSecurityGroupTargetsOptions.limit() != null) {
       builder.query("limit", String.valueOf(listSecurityGroupTargetsOptions.limit()));
     }
-    ResponseConverter<SecurityGroupTargetCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroupTargetCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_SECURITY_GROUP_TARGETS, builder);
   }
 
   /**
@@ -5988,15 +4843,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", deleteSecurityGroupTargetBindingOptions.securityGroupId());
     pathParamsMap.put("id", deleteSecurityGroupTargetBindingOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/targets/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteSecurityGroupTargetBinding");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_SECURITY_GROUP_TARGET_BINDING.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_SECURITY_GROUP_TARGET_BINDING, builder);
   }
 
   /**
@@ -6014,17 +4864,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", getSecurityGroupTargetOptions.securityGroupId());
     pathParamsMap.put("id", getSecurityGroupTargetOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/targets/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getSecurityGroupTarget");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_SECURITY_GROUP_TARGET.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<SecurityGroupTargetReference> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroupTargetReference>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_SECURITY_GROUP_TARGET, builder);
   }
 
   /**
@@ -6047,17 +4890,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("security_group_id", createSecurityGroupTargetBindingOptions.securityGroupId());
     pathParamsMap.put("id", createSecurityGroupTargetBindingOptions.id());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/security_groups/{security_group_id}/targets/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createSecurityGroupTargetBinding");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_SECURITY_GROUP_TARGET_BINDING.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<SecurityGroupTargetReference> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SecurityGroupTargetReference>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_SECURITY_GROUP_TARGET_BINDING, builder);
   }
 
   /**
@@ -6072,12 +4908,7 @@ public class Vpc extends BaseService {
     if (listIkePoliciesOptions == null) {
       listIkePoliciesOptions = new ListIkePoliciesOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ike_policies"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listIkePolicies");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_IKE_POLICIES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listIkePoliciesOptions.start() != null) {
@@ -6086,9 +4917,7 @@ public class Vpc extends BaseService {
     if (listIkePoliciesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listIkePoliciesOptions.limit()));
     }
-    ResponseConverter<IKEPolicyCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IKEPolicyCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_IKE_POLICIES, builder);
   }
 
   /**
@@ -6113,12 +4942,7 @@ public class Vpc extends BaseService {
   public ServiceCall<IKEPolicy> createIkePolicy(CreateIkePolicyOptions createIkePolicyOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createIkePolicyOptions,
       "createIkePolicyOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ike_policies"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createIkePolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_IKE_POLICY.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -6136,9 +4960,7 @@ public class Vpc extends BaseService {
       contentJson.add("resource_group", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createIkePolicyOptions.resourceGroup()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<IKEPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IKEPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_IKE_POLICY, builder);
   }
 
   /**
@@ -6154,15 +4976,10 @@ public class Vpc extends BaseService {
       "deleteIkePolicyOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteIkePolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ike_policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteIkePolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_IKE_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_IKE_POLICY, builder);
   }
 
   /**
@@ -6178,17 +4995,10 @@ public class Vpc extends BaseService {
       "getIkePolicyOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getIkePolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ike_policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getIkePolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_IKE_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<IKEPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IKEPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_IKE_POLICY, builder);
   }
 
   /**
@@ -6204,18 +5014,11 @@ public class Vpc extends BaseService {
       "updateIkePolicyOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateIkePolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ike_policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateIkePolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_IKE_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateIkePolicyOptions.ikePolicyPatch()), "application/merge-patch+json");
-    ResponseConverter<IKEPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IKEPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_IKE_POLICY, builder);
   }
 
   /**
@@ -6231,17 +5034,10 @@ public class Vpc extends BaseService {
       "listIkePolicyConnectionsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", listIkePolicyConnectionsOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ike_policies/{id}/connections", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listIkePolicyConnections");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_IKE_POLICY_CONNECTIONS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VPNGatewayConnectionCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGatewayConnectionCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_IKE_POLICY_CONNECTIONS, builder);
   }
 
   /**
@@ -6256,12 +5052,7 @@ public class Vpc extends BaseService {
     if (listIpsecPoliciesOptions == null) {
       listIpsecPoliciesOptions = new ListIpsecPoliciesOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ipsec_policies"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listIpsecPolicies");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_IPSEC_POLICIES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listIpsecPoliciesOptions.start() != null) {
@@ -6270,9 +5061,7 @@ public class Vpc extends BaseService {
     if (listIpsecPoliciesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listIpsecPoliciesOptions.limit()));
     }
-    ResponseConverter<IPsecPolicyCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IPsecPolicyCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_IPSEC_POLICIES, builder);
   }
 
   /**
@@ -6297,12 +5086,7 @@ public class Vpc extends BaseService {
   public ServiceCall<IPsecPolicy> createIpsecPolicy(CreateIpsecPolicyOptions createIpsecPolicyOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createIpsecPolicyOptions,
       "createIpsecPolicyOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ipsec_policies"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createIpsecPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_IPSEC_POLICY.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -6319,9 +5103,7 @@ public class Vpc extends BaseService {
       contentJson.add("resource_group", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createIpsecPolicyOptions.resourceGroup()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<IPsecPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IPsecPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_IPSEC_POLICY, builder);
   }
 
   /**
@@ -6337,15 +5119,10 @@ public class Vpc extends BaseService {
       "deleteIpsecPolicyOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteIpsecPolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ipsec_policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteIpsecPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_IPSEC_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_IPSEC_POLICY, builder);
   }
 
   /**
@@ -6361,17 +5138,10 @@ public class Vpc extends BaseService {
       "getIpsecPolicyOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getIpsecPolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ipsec_policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getIpsecPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_IPSEC_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<IPsecPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IPsecPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_IPSEC_POLICY, builder);
   }
 
   /**
@@ -6387,18 +5157,11 @@ public class Vpc extends BaseService {
       "updateIpsecPolicyOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateIpsecPolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ipsec_policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateIpsecPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_IPSEC_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateIpsecPolicyOptions.iPsecPolicyPatch()), "application/merge-patch+json");
-    ResponseConverter<IPsecPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IPsecPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_IPSEC_POLICY, builder);
   }
 
   /**
@@ -6414,17 +5177,10 @@ public class Vpc extends BaseService {
       "listIpsecPolicyConnectionsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", listIpsecPolicyConnectionsOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/ipsec_policies/{id}/connections", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listIpsecPolicyConnections");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_IPSEC_POLICY_CONNECTIONS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VPNGatewayConnectionCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGatewayConnectionCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_IPSEC_POLICY_CONNECTIONS, builder);
   }
 
   /**
@@ -6439,12 +5195,7 @@ public class Vpc extends BaseService {
     if (listVpnGatewaysOptions == null) {
       listVpnGatewaysOptions = new ListVpnGatewaysOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVpnGateways");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VPN_GATEWAYS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listVpnGatewaysOptions.start() != null) {
@@ -6459,9 +5210,7 @@ public class Vpc extends BaseService {
     if (listVpnGatewaysOptions.mode() != null) {
       builder.query("mode", String.valueOf(listVpnGatewaysOptions.mode()));
     }
-    ResponseConverter<VPNGatewayCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGatewayCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VPN_GATEWAYS, builder);
   }
 
   /**
@@ -6486,18 +5235,11 @@ public class Vpc extends BaseService {
   public ServiceCall<VPNGateway> createVpnGateway(CreateVpnGatewayOptions createVpnGatewayOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createVpnGatewayOptions,
       "createVpnGatewayOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createVpnGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_VPN_GATEWAY.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createVpnGatewayOptions.vpnGatewayPrototype()), "application/json");
-    ResponseConverter<VPNGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_VPN_GATEWAY, builder);
   }
 
   /**
@@ -6514,15 +5256,10 @@ public class Vpc extends BaseService {
       "deleteVpnGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteVpnGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteVpnGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_VPN_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_VPN_GATEWAY, builder);
   }
 
   /**
@@ -6538,17 +5275,10 @@ public class Vpc extends BaseService {
       "getVpnGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getVpnGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpnGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPN_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VPNGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPN_GATEWAY, builder);
   }
 
   /**
@@ -6564,18 +5294,11 @@ public class Vpc extends BaseService {
       "updateVpnGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateVpnGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateVpnGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_VPN_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateVpnGatewayOptions.vpnGatewayPatch()), "application/merge-patch+json");
-    ResponseConverter<VPNGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_VPN_GATEWAY, builder);
   }
 
   /**
@@ -6591,20 +5314,13 @@ public class Vpc extends BaseService {
       "listVpnGatewayConnectionsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpn_gateway_id", listVpnGatewayConnectionsOptions.vpnGatewayId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVpnGatewayConnections");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VPN_GATEWAY_CONNECTIONS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listVpnGatewayConnectionsOptions.status() != null) {
       builder.query("status", String.valueOf(listVpnGatewayConnectionsOptions.status()));
     }
-    ResponseConverter<VPNGatewayConnectionCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGatewayConnectionCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VPN_GATEWAY_CONNECTIONS, builder);
   }
 
   /**
@@ -6620,18 +5336,11 @@ public class Vpc extends BaseService {
       "createVpnGatewayConnectionOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpn_gateway_id", createVpnGatewayConnectionOptions.vpnGatewayId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createVpnGatewayConnection");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_VPN_GATEWAY_CONNECTION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(createVpnGatewayConnectionOptions.vpnGatewayConnectionPrototype()), "application/json");
-    ResponseConverter<VPNGatewayConnection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGatewayConnection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_VPN_GATEWAY_CONNECTION, builder);
   }
 
   /**
@@ -6648,15 +5357,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpn_gateway_id", deleteVpnGatewayConnectionOptions.vpnGatewayId());
     pathParamsMap.put("id", deleteVpnGatewayConnectionOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteVpnGatewayConnection");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_VPN_GATEWAY_CONNECTION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_VPN_GATEWAY_CONNECTION, builder);
   }
 
   /**
@@ -6673,17 +5377,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpn_gateway_id", getVpnGatewayConnectionOptions.vpnGatewayId());
     pathParamsMap.put("id", getVpnGatewayConnectionOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getVpnGatewayConnection");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_VPN_GATEWAY_CONNECTION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VPNGatewayConnection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGatewayConnection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_VPN_GATEWAY_CONNECTION, builder);
   }
 
   /**
@@ -6700,18 +5397,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpn_gateway_id", updateVpnGatewayConnectionOptions.vpnGatewayId());
     pathParamsMap.put("id", updateVpnGatewayConnectionOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateVpnGatewayConnection");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_VPN_GATEWAY_CONNECTION.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateVpnGatewayConnectionOptions.vpnGatewayConnectionPatch()), "application/merge-patch+json");
-    ResponseConverter<VPNGatewayConnection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGatewayConnection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_VPN_GATEWAY_CONNECTION, builder);
   }
 
   /**
@@ -6728,17 +5418,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpn_gateway_id", listVpnGatewayConnectionLocalCidrsOptions.vpnGatewayId());
     pathParamsMap.put("id", listVpnGatewayConnectionLocalCidrsOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}/local_cidrs", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVpnGatewayConnectionLocalCidrs");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VPN_GATEWAY_CONNECTION_LOCAL_CIDRS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VPNGatewayConnectionLocalCIDRs> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGatewayConnectionLocalCIDRs>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VPN_GATEWAY_CONNECTION_LOCAL_CIDRS, builder);
   }
 
   /**
@@ -6757,15 +5440,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("id", removeVpnGatewayConnectionLocalCidrOptions.id());
     pathParamsMap.put("cidr_prefix", removeVpnGatewayConnectionLocalCidrOptions.cidrPrefix());
     pathParamsMap.put("prefix_length", removeVpnGatewayConnectionLocalCidrOptions.prefixLength());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}/local_cidrs/{cidr_prefix}/{prefix_length}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "removeVpnGatewayConnectionLocalCidr");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.REMOVE_VPN_GATEWAY_CONNECTION_LOCAL_CIDR.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.REMOVE_VPN_GATEWAY_CONNECTION_LOCAL_CIDR, builder);
   }
 
   /**
@@ -6784,15 +5462,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("id", checkVpnGatewayConnectionLocalCidrOptions.id());
     pathParamsMap.put("cidr_prefix", checkVpnGatewayConnectionLocalCidrOptions.cidrPrefix());
     pathParamsMap.put("prefix_length", checkVpnGatewayConnectionLocalCidrOptions.prefixLength());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}/local_cidrs/{cidr_prefix}/{prefix_length}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "checkVpnGatewayConnectionLocalCidr");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.CHECK_VPN_GATEWAY_CONNECTION_LOCAL_CIDR.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CHECK_VPN_GATEWAY_CONNECTION_LOCAL_CIDR, builder);
   }
 
   /**
@@ -6812,15 +5485,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("id", addVpnGatewayConnectionLocalCidrOptions.id());
     pathParamsMap.put("cidr_prefix", addVpnGatewayConnectionLocalCidrOptions.cidrPrefix());
     pathParamsMap.put("prefix_length", addVpnGatewayConnectionLocalCidrOptions.prefixLength());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}/local_cidrs/{cidr_prefix}/{prefix_length}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "addVpnGatewayConnectionLocalCidr");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.ADD_VPN_GATEWAY_CONNECTION_LOCAL_CIDR.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.ADD_VPN_GATEWAY_CONNECTION_LOCAL_CIDR, builder);
   }
 
   /**
@@ -6837,17 +5505,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("vpn_gateway_id", listVpnGatewayConnectionPeerCidrsOptions.vpnGatewayId());
     pathParamsMap.put("id", listVpnGatewayConnectionPeerCidrsOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}/peer_cidrs", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listVpnGatewayConnectionPeerCidrs");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_VPN_GATEWAY_CONNECTION_PEER_CIDRS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<VPNGatewayConnectionPeerCIDRs> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<VPNGatewayConnectionPeerCIDRs>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_VPN_GATEWAY_CONNECTION_PEER_CIDRS, builder);
   }
 
   /**
@@ -6866,15 +5527,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("id", removeVpnGatewayConnectionPeerCidrOptions.id());
     pathParamsMap.put("cidr_prefix", removeVpnGatewayConnectionPeerCidrOptions.cidrPrefix());
     pathParamsMap.put("prefix_length", removeVpnGatewayConnectionPeerCidrOptions.prefixLength());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}/peer_cidrs/{cidr_prefix}/{prefix_length}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "removeVpnGatewayConnectionPeerCidr");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.REMOVE_VPN_GATEWAY_CONNECTION_PEER_CIDR.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.REMOVE_VPN_GATEWAY_CONNECTION_PEER_CIDR, builder);
   }
 
   /**
@@ -6893,15 +5549,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("id", checkVpnGatewayConnectionPeerCidrOptions.id());
     pathParamsMap.put("cidr_prefix", checkVpnGatewayConnectionPeerCidrOptions.cidrPrefix());
     pathParamsMap.put("prefix_length", checkVpnGatewayConnectionPeerCidrOptions.prefixLength());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}/peer_cidrs/{cidr_prefix}/{prefix_length}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "checkVpnGatewayConnectionPeerCidr");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.CHECK_VPN_GATEWAY_CONNECTION_PEER_CIDR.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CHECK_VPN_GATEWAY_CONNECTION_PEER_CIDR, builder);
   }
 
   /**
@@ -6921,15 +5572,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("id", addVpnGatewayConnectionPeerCidrOptions.id());
     pathParamsMap.put("cidr_prefix", addVpnGatewayConnectionPeerCidrOptions.cidrPrefix());
     pathParamsMap.put("prefix_length", addVpnGatewayConnectionPeerCidrOptions.prefixLength());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/vpn_gateways/{vpn_gateway_id}/connections/{id}/peer_cidrs/{cidr_prefix}/{prefix_length}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "addVpnGatewayConnectionPeerCidr");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.ADD_VPN_GATEWAY_CONNECTION_PEER_CIDR.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.ADD_VPN_GATEWAY_CONNECTION_PEER_CIDR, builder);
   }
 
   /**
@@ -6945,12 +5591,7 @@ public class Vpc extends BaseService {
     if (listLoadBalancerProfilesOptions == null) {
       listLoadBalancerProfilesOptions = new ListLoadBalancerProfilesOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancer/profiles"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listLoadBalancerProfiles");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_LOAD_BALANCER_PROFILES.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listLoadBalancerProfilesOptions.start() != null) {
@@ -6959,9 +5600,7 @@ public class Vpc extends BaseService {
     if (listLoadBalancerProfilesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listLoadBalancerProfilesOptions.limit()));
     }
-    ResponseConverter<LoadBalancerProfileCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerProfileCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_LOAD_BALANCER_PROFILES, builder);
   }
 
   /**
@@ -6989,17 +5628,10 @@ public class Vpc extends BaseService {
       "getLoadBalancerProfileOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("name", getLoadBalancerProfileOptions.name());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancer/profiles/{name}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getLoadBalancerProfile");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_LOAD_BALANCER_PROFILE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerProfile> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerProfile>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_LOAD_BALANCER_PROFILE, builder);
   }
 
   /**
@@ -7011,17 +5643,10 @@ public class Vpc extends BaseService {
    * @return a {@link ServiceCall} with a result of type {@link LoadBalancerCollection}
    */
   public ServiceCall<LoadBalancerCollection> listLoadBalancers(ListLoadBalancersOptions listLoadBalancersOptions) {
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listLoadBalancers");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_LOAD_BALANCERS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_LOAD_BALANCERS, builder);
   }
 
   /**
@@ -7046,12 +5671,7 @@ public class Vpc extends BaseService {
   public ServiceCall<LoadBalancer> createLoadBalancer(CreateLoadBalancerOptions createLoadBalancerOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createLoadBalancerOptions,
       "createLoadBalancerOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createLoadBalancer");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_LOAD_BALANCER.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -7079,9 +5699,7 @@ public class Vpc extends BaseService {
       contentJson.add("security_groups", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createLoadBalancerOptions.securityGroups()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<LoadBalancer> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancer>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_LOAD_BALANCER, builder);
   }
 
   /**
@@ -7097,15 +5715,10 @@ public class Vpc extends BaseService {
       "deleteLoadBalancerOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteLoadBalancerOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteLoadBalancer");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_LOAD_BALANCER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_LOAD_BALANCER, builder);
   }
 
   /**
@@ -7121,17 +5734,10 @@ public class Vpc extends BaseService {
       "getLoadBalancerOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getLoadBalancerOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getLoadBalancer");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_LOAD_BALANCER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancer> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancer>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_LOAD_BALANCER, builder);
   }
 
   /**
@@ -7147,18 +5753,11 @@ public class Vpc extends BaseService {
       "updateLoadBalancerOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateLoadBalancerOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateLoadBalancer");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_LOAD_BALANCER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateLoadBalancerOptions.loadBalancerPatch()), "application/merge-patch+json");
-    ResponseConverter<LoadBalancer> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancer>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_LOAD_BALANCER, builder);
   }
 
   /**
@@ -7174,17 +5773,10 @@ public class Vpc extends BaseService {
       "getLoadBalancerStatisticsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getLoadBalancerStatisticsOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{id}/statistics", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getLoadBalancerStatistics");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_LOAD_BALANCER_STATISTICS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerStatistics> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerStatistics>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_LOAD_BALANCER_STATISTICS, builder);
   }
 
   /**
@@ -7200,17 +5792,10 @@ public class Vpc extends BaseService {
       "listLoadBalancerListenersOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", listLoadBalancerListenersOptions.loadBalancerId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listLoadBalancerListeners");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_LOAD_BALANCER_LISTENERS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerListenerCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListenerCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_LOAD_BALANCER_LISTENERS, builder);
   }
 
   /**
@@ -7226,12 +5811,7 @@ public class Vpc extends BaseService {
       "createLoadBalancerListenerOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", createLoadBalancerListenerOptions.loadBalancerId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createLoadBalancerListener");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_LOAD_BALANCER_LISTENER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -7253,9 +5833,7 @@ public class Vpc extends BaseService {
       contentJson.add("policies", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createLoadBalancerListenerOptions.policies()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<LoadBalancerListener> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListener>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_LOAD_BALANCER_LISTENER, builder);
   }
 
   /**
@@ -7272,15 +5850,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", deleteLoadBalancerListenerOptions.loadBalancerId());
     pathParamsMap.put("id", deleteLoadBalancerListenerOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteLoadBalancerListener");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_LOAD_BALANCER_LISTENER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_LOAD_BALANCER_LISTENER, builder);
   }
 
   /**
@@ -7297,17 +5870,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", getLoadBalancerListenerOptions.loadBalancerId());
     pathParamsMap.put("id", getLoadBalancerListenerOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getLoadBalancerListener");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_LOAD_BALANCER_LISTENER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerListener> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListener>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_LOAD_BALANCER_LISTENER, builder);
   }
 
   /**
@@ -7324,18 +5890,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", updateLoadBalancerListenerOptions.loadBalancerId());
     pathParamsMap.put("id", updateLoadBalancerListenerOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateLoadBalancerListener");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_LOAD_BALANCER_LISTENER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateLoadBalancerListenerOptions.loadBalancerListenerPatch()), "application/merge-patch+json");
-    ResponseConverter<LoadBalancerListener> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListener>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_LOAD_BALANCER_LISTENER, builder);
   }
 
   /**
@@ -7352,17 +5911,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", listLoadBalancerListenerPoliciesOptions.loadBalancerId());
     pathParamsMap.put("listener_id", listLoadBalancerListenerPoliciesOptions.listenerId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listLoadBalancerListenerPolicies");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_LOAD_BALANCER_LISTENER_POLICIES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerListenerPolicyCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListenerPolicyCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_LOAD_BALANCER_LISTENER_POLICIES, builder);
   }
 
   /**
@@ -7379,12 +5931,7 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", createLoadBalancerListenerPolicyOptions.loadBalancerId());
     pathParamsMap.put("listener_id", createLoadBalancerListenerPolicyOptions.listenerId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createLoadBalancerListenerPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_LOAD_BALANCER_LISTENER_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -7400,9 +5947,7 @@ public class Vpc extends BaseService {
       contentJson.add("target", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createLoadBalancerListenerPolicyOptions.target()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<LoadBalancerListenerPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListenerPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_LOAD_BALANCER_LISTENER_POLICY, builder);
   }
 
   /**
@@ -7420,15 +5965,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("load_balancer_id", deleteLoadBalancerListenerPolicyOptions.loadBalancerId());
     pathParamsMap.put("listener_id", deleteLoadBalancerListenerPolicyOptions.listenerId());
     pathParamsMap.put("id", deleteLoadBalancerListenerPolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteLoadBalancerListenerPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_LOAD_BALANCER_LISTENER_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_LOAD_BALANCER_LISTENER_POLICY, builder);
   }
 
   /**
@@ -7446,17 +5986,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("load_balancer_id", getLoadBalancerListenerPolicyOptions.loadBalancerId());
     pathParamsMap.put("listener_id", getLoadBalancerListenerPolicyOptions.listenerId());
     pathParamsMap.put("id", getLoadBalancerListenerPolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getLoadBalancerListenerPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_LOAD_BALANCER_LISTENER_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerListenerPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListenerPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_LOAD_BALANCER_LISTENER_POLICY, builder);
   }
 
   /**
@@ -7474,18 +6007,11 @@ public class Vpc extends BaseService {
     pathParamsMap.put("load_balancer_id", updateLoadBalancerListenerPolicyOptions.loadBalancerId());
     pathParamsMap.put("listener_id", updateLoadBalancerListenerPolicyOptions.listenerId());
     pathParamsMap.put("id", updateLoadBalancerListenerPolicyOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateLoadBalancerListenerPolicy");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_LOAD_BALANCER_LISTENER_POLICY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateLoadBalancerListenerPolicyOptions.loadBalancerListenerPolicyPatch()), "application/merge-patch+json");
-    ResponseConverter<LoadBalancerListenerPolicy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListenerPolicy>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_LOAD_BALANCER_LISTENER_POLICY, builder);
   }
 
   /**
@@ -7503,17 +6029,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("load_balancer_id", listLoadBalancerListenerPolicyRulesOptions.loadBalancerId());
     pathParamsMap.put("listener_id", listLoadBalancerListenerPolicyRulesOptions.listenerId());
     pathParamsMap.put("policy_id", listLoadBalancerListenerPolicyRulesOptions.policyId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listLoadBalancerListenerPolicyRules");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_LOAD_BALANCER_LISTENER_POLICY_RULES.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerListenerPolicyRuleCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListenerPolicyRuleCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_LOAD_BALANCER_LISTENER_POLICY_RULES, builder);
   }
 
   /**
@@ -7531,12 +6050,7 @@ public class Vpc extends BaseService {
     pathParamsMap.put("load_balancer_id", createLoadBalancerListenerPolicyRuleOptions.loadBalancerId());
     pathParamsMap.put("listener_id", createLoadBalancerListenerPolicyRuleOptions.listenerId());
     pathParamsMap.put("policy_id", createLoadBalancerListenerPolicyRuleOptions.policyId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createLoadBalancerListenerPolicyRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_LOAD_BALANCER_LISTENER_POLICY_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -7547,9 +6061,7 @@ public class Vpc extends BaseService {
       contentJson.addProperty("field", createLoadBalancerListenerPolicyRuleOptions.field());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<LoadBalancerListenerPolicyRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListenerPolicyRule>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_LOAD_BALANCER_LISTENER_POLICY_RULE, builder);
   }
 
   /**
@@ -7568,15 +6080,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("listener_id", deleteLoadBalancerListenerPolicyRuleOptions.listenerId());
     pathParamsMap.put("policy_id", deleteLoadBalancerListenerPolicyRuleOptions.policyId());
     pathParamsMap.put("id", deleteLoadBalancerListenerPolicyRuleOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteLoadBalancerListenerPolicyRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_LOAD_BALANCER_LISTENER_POLICY_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_LOAD_BALANCER_LISTENER_POLICY_RULE, builder);
   }
 
   /**
@@ -7595,17 +6102,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("listener_id", getLoadBalancerListenerPolicyRuleOptions.listenerId());
     pathParamsMap.put("policy_id", getLoadBalancerListenerPolicyRuleOptions.policyId());
     pathParamsMap.put("id", getLoadBalancerListenerPolicyRuleOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getLoadBalancerListenerPolicyRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_LOAD_BALANCER_LISTENER_POLICY_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerListenerPolicyRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListenerPolicyRule>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_LOAD_BALANCER_LISTENER_POLICY_RULE, builder);
   }
 
   /**
@@ -7624,18 +6124,11 @@ public class Vpc extends BaseService {
     pathParamsMap.put("listener_id", updateLoadBalancerListenerPolicyRuleOptions.listenerId());
     pathParamsMap.put("policy_id", updateLoadBalancerListenerPolicyRuleOptions.policyId());
     pathParamsMap.put("id", updateLoadBalancerListenerPolicyRuleOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateLoadBalancerListenerPolicyRule");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_LOAD_BALANCER_LISTENER_POLICY_RULE.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateLoadBalancerListenerPolicyRuleOptions.loadBalancerListenerPolicyRulePatch()), "application/merge-patch+json");
-    ResponseConverter<LoadBalancerListenerPolicyRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerListenerPolicyRule>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_LOAD_BALANCER_LISTENER_POLICY_RULE, builder);
   }
 
   /**
@@ -7651,17 +6144,10 @@ public class Vpc extends BaseService {
       "listLoadBalancerPoolsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", listLoadBalancerPoolsOptions.loadBalancerId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listLoadBalancerPools");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_LOAD_BALANCER_POOLS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerPoolCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerPoolCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_LOAD_BALANCER_POOLS, builder);
   }
 
   /**
@@ -7677,12 +6163,7 @@ public class Vpc extends BaseService {
       "createLoadBalancerPoolOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", createLoadBalancerPoolOptions.loadBalancerId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createLoadBalancerPool");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_LOAD_BALANCER_POOL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -7702,9 +6183,7 @@ public class Vpc extends BaseService {
       contentJson.add("session_persistence", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createLoadBalancerPoolOptions.sessionPersistence()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<LoadBalancerPool> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerPool>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_LOAD_BALANCER_POOL, builder);
   }
 
   /**
@@ -7722,15 +6201,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", deleteLoadBalancerPoolOptions.loadBalancerId());
     pathParamsMap.put("id", deleteLoadBalancerPoolOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteLoadBalancerPool");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_LOAD_BALANCER_POOL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_LOAD_BALANCER_POOL, builder);
   }
 
   /**
@@ -7747,17 +6221,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", getLoadBalancerPoolOptions.loadBalancerId());
     pathParamsMap.put("id", getLoadBalancerPoolOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getLoadBalancerPool");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_LOAD_BALANCER_POOL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerPool> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerPool>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_LOAD_BALANCER_POOL, builder);
   }
 
   /**
@@ -7774,18 +6241,11 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", updateLoadBalancerPoolOptions.loadBalancerId());
     pathParamsMap.put("id", updateLoadBalancerPoolOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateLoadBalancerPool");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_LOAD_BALANCER_POOL.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateLoadBalancerPoolOptions.loadBalancerPoolPatch()), "application/merge-patch+json");
-    ResponseConverter<LoadBalancerPool> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerPool>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_LOAD_BALANCER_POOL, builder);
   }
 
   /**
@@ -7802,17 +6262,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", listLoadBalancerPoolMembersOptions.loadBalancerId());
     pathParamsMap.put("pool_id", listLoadBalancerPoolMembersOptions.poolId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools/{pool_id}/members", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listLoadBalancerPoolMembers");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_LOAD_BALANCER_POOL_MEMBERS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerPoolMemberCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerPoolMemberCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_LOAD_BALANCER_POOL_MEMBERS, builder);
   }
 
   /**
@@ -7829,12 +6282,7 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", createLoadBalancerPoolMemberOptions.loadBalancerId());
     pathParamsMap.put("pool_id", createLoadBalancerPoolMemberOptions.poolId());
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools/{pool_id}/members", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createLoadBalancerPoolMember");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_LOAD_BALANCER_POOL_MEMBER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -7844,9 +6292,7 @@ public class Vpc extends BaseService {
       contentJson.addProperty("weight", createLoadBalancerPoolMemberOptions.weight());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<LoadBalancerPoolMember> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerPoolMember>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_LOAD_BALANCER_POOL_MEMBER, builder);
   }
 
   /**
@@ -7864,20 +6310,13 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("load_balancer_id", replaceLoadBalancerPoolMembersOptions.loadBalancerId());
     pathParamsMap.put("pool_id", replaceLoadBalancerPoolMembersOptions.poolId());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools/{pool_id}/members", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "replaceLoadBalancerPoolMembers");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.REPLACE_LOAD_BALANCER_POOL_MEMBERS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
     contentJson.add("members", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(replaceLoadBalancerPoolMembersOptions.members()));
     builder.bodyJson(contentJson);
-    ResponseConverter<LoadBalancerPoolMemberCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerPoolMemberCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.REPLACE_LOAD_BALANCER_POOL_MEMBERS, builder);
   }
 
   /**
@@ -7895,15 +6334,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("load_balancer_id", deleteLoadBalancerPoolMemberOptions.loadBalancerId());
     pathParamsMap.put("pool_id", deleteLoadBalancerPoolMemberOptions.poolId());
     pathParamsMap.put("id", deleteLoadBalancerPoolMemberOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools/{pool_id}/members/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteLoadBalancerPoolMember");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_LOAD_BALANCER_POOL_MEMBER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_LOAD_BALANCER_POOL_MEMBER, builder);
   }
 
   /**
@@ -7921,17 +6355,10 @@ public class Vpc extends BaseService {
     pathParamsMap.put("load_balancer_id", getLoadBalancerPoolMemberOptions.loadBalancerId());
     pathParamsMap.put("pool_id", getLoadBalancerPoolMemberOptions.poolId());
     pathParamsMap.put("id", getLoadBalancerPoolMemberOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools/{pool_id}/members/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getLoadBalancerPoolMember");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_LOAD_BALANCER_POOL_MEMBER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<LoadBalancerPoolMember> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerPoolMember>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_LOAD_BALANCER_POOL_MEMBER, builder);
   }
 
   /**
@@ -7949,18 +6376,11 @@ public class Vpc extends BaseService {
     pathParamsMap.put("load_balancer_id", updateLoadBalancerPoolMemberOptions.loadBalancerId());
     pathParamsMap.put("pool_id", updateLoadBalancerPoolMemberOptions.poolId());
     pathParamsMap.put("id", updateLoadBalancerPoolMemberOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/load_balancers/{load_balancer_id}/pools/{pool_id}/members/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateLoadBalancerPoolMember");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_LOAD_BALANCER_POOL_MEMBER.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateLoadBalancerPoolMemberOptions.loadBalancerPoolMemberPatch()), "application/merge-patch+json");
-    ResponseConverter<LoadBalancerPoolMember> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<LoadBalancerPoolMember>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_LOAD_BALANCER_POOL_MEMBER, builder);
   }
 
   /**
@@ -7976,12 +6396,7 @@ public class Vpc extends BaseService {
     if (listEndpointGatewaysOptions == null) {
       listEndpointGatewaysOptions = new ListEndpointGatewaysOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/endpoint_gateways"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listEndpointGateways");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_ENDPOINT_GATEWAYS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listEndpointGatewaysOptions.name() != null) {
@@ -7996,9 +6411,7 @@ public class Vpc extends BaseService {
     if (listEndpointGatewaysOptions.resourceGroupId() != null) {
       builder.query("resource_group.id", String.valueOf(listEndpointGatewaysOptions.resourceGroupId()));
     }
-    ResponseConverter<EndpointGatewayCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EndpointGatewayCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_ENDPOINT_GATEWAYS, builder);
   }
 
   /**
@@ -8025,12 +6438,7 @@ public class Vpc extends BaseService {
   public ServiceCall<EndpointGateway> createEndpointGateway(CreateEndpointGatewayOptions createEndpointGatewayOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createEndpointGatewayOptions,
       "createEndpointGatewayOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/endpoint_gateways"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createEndpointGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_ENDPOINT_GATEWAY.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -8046,9 +6454,7 @@ public class Vpc extends BaseService {
       contentJson.add("resource_group", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createEndpointGatewayOptions.resourceGroup()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<EndpointGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EndpointGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_ENDPOINT_GATEWAY, builder);
   }
 
   /**
@@ -8064,12 +6470,7 @@ public class Vpc extends BaseService {
       "listEndpointGatewayIpsOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("endpoint_gateway_id", listEndpointGatewayIpsOptions.endpointGatewayId());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/endpoint_gateways/{endpoint_gateway_id}/ips", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listEndpointGatewayIps");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_ENDPOINT_GATEWAY_IPS.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listEndpointGatewayIpsOptions.start() != null) {
@@ -8081,9 +6482,7 @@ public class Vpc extends BaseService {
     if (listEndpointGatewayIpsOptions.sort() != null) {
       builder.query("sort", String.valueOf(listEndpointGatewayIpsOptions.sort()));
     }
-    ResponseConverter<ReservedIPCollectionEndpointGatewayContext> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReservedIPCollectionEndpointGatewayContext>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_ENDPOINT_GATEWAY_IPS, builder);
   }
 
   /**
@@ -8101,15 +6500,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("endpoint_gateway_id", removeEndpointGatewayIpOptions.endpointGatewayId());
     pathParamsMap.put("id", removeEndpointGatewayIpOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/endpoint_gateways/{endpoint_gateway_id}/ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "removeEndpointGatewayIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.REMOVE_ENDPOINT_GATEWAY_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.REMOVE_ENDPOINT_GATEWAY_IP, builder);
   }
 
   /**
@@ -8127,17 +6521,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("endpoint_gateway_id", getEndpointGatewayIpOptions.endpointGatewayId());
     pathParamsMap.put("id", getEndpointGatewayIpOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/endpoint_gateways/{endpoint_gateway_id}/ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getEndpointGatewayIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_ENDPOINT_GATEWAY_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<ReservedIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReservedIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_ENDPOINT_GATEWAY_IP, builder);
   }
 
   /**
@@ -8157,17 +6544,10 @@ public class Vpc extends BaseService {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("endpoint_gateway_id", addEndpointGatewayIpOptions.endpointGatewayId());
     pathParamsMap.put("id", addEndpointGatewayIpOptions.id());
-    RequestBuilder builder = RequestBuilder.put(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/endpoint_gateways/{endpoint_gateway_id}/ips/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "addEndpointGatewayIp");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.ADD_ENDPOINT_GATEWAY_IP.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<ReservedIP> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReservedIP>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.ADD_ENDPOINT_GATEWAY_IP, builder);
   }
 
   /**
@@ -8186,15 +6566,10 @@ public class Vpc extends BaseService {
       "deleteEndpointGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteEndpointGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/endpoint_gateways/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteEndpointGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_ENDPOINT_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_ENDPOINT_GATEWAY, builder);
   }
 
   /**
@@ -8210,17 +6585,10 @@ public class Vpc extends BaseService {
       "getEndpointGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getEndpointGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/endpoint_gateways/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getEndpointGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_ENDPOINT_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<EndpointGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EndpointGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_ENDPOINT_GATEWAY, builder);
   }
 
   /**
@@ -8236,18 +6604,11 @@ public class Vpc extends BaseService {
       "updateEndpointGatewayOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateEndpointGatewayOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/endpoint_gateways/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateEndpointGateway");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_ENDPOINT_GATEWAY.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateEndpointGatewayOptions.endpointGatewayPatch()), "application/merge-patch+json");
-    ResponseConverter<EndpointGateway> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EndpointGateway>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_ENDPOINT_GATEWAY, builder);
   }
 
   /**
@@ -8263,12 +6624,7 @@ public class Vpc extends BaseService {
     if (listFlowLogCollectorsOptions == null) {
       listFlowLogCollectorsOptions = new ListFlowLogCollectorsOptions.Builder().build();
     }
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/flow_log_collectors"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "listFlowLogCollectors");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.LIST_FLOW_LOG_COLLECTORS.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     if (listFlowLogCollectorsOptions.start() != null) {
@@ -8298,9 +6654,7 @@ public class Vpc extends BaseService {
     if (listFlowLogCollectorsOptions.targetResourceType() != null) {
       builder.query("target.resource_type", String.valueOf(listFlowLogCollectorsOptions.targetResourceType()));
     }
-    ResponseConverter<FlowLogCollectorCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FlowLogCollectorCollection>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.LIST_FLOW_LOG_COLLECTORS, builder);
   }
 
   /**
@@ -8328,12 +6682,7 @@ public class Vpc extends BaseService {
   public ServiceCall<FlowLogCollector> createFlowLogCollector(CreateFlowLogCollectorOptions createFlowLogCollectorOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(createFlowLogCollectorOptions,
       "createFlowLogCollectorOptions cannot be null");
-    RequestBuilder builder = RequestBuilder.post(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/flow_log_collectors"));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "createFlowLogCollector");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.CREATE_FLOW_LOG_COLLECTOR.newRequestBuilder(getServiceUrl());
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     final JsonObject contentJson = new JsonObject();
@@ -8349,9 +6698,7 @@ public class Vpc extends BaseService {
       contentJson.add("resource_group", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createFlowLogCollectorOptions.resourceGroup()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<FlowLogCollector> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FlowLogCollector>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.CREATE_FLOW_LOG_COLLECTOR, builder);
   }
 
   /**
@@ -8368,15 +6715,10 @@ public class Vpc extends BaseService {
       "deleteFlowLogCollectorOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", deleteFlowLogCollectorOptions.id());
-    RequestBuilder builder = RequestBuilder.delete(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/flow_log_collectors/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "deleteFlowLogCollector");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
+    RequestBuilder builder = VpcOperations.DELETE_FLOW_LOG_COLLECTOR.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.DELETE_FLOW_LOG_COLLECTOR, builder);
   }
 
   /**
@@ -8392,17 +6734,10 @@ public class Vpc extends BaseService {
       "getFlowLogCollectorOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", getFlowLogCollectorOptions.id());
-    RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/flow_log_collectors/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "getFlowLogCollector");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.GET_FLOW_LOG_COLLECTOR.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
-    ResponseConverter<FlowLogCollector> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FlowLogCollector>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.GET_FLOW_LOG_COLLECTOR, builder);
   }
 
   /**
@@ -8420,18 +6755,11 @@ public class Vpc extends BaseService {
       "updateFlowLogCollectorOptions cannot be null");
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("id", updateFlowLogCollectorOptions.id());
-    RequestBuilder builder = RequestBuilder.patch(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/flow_log_collectors/{id}", pathParamsMap));
-    Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("vpc", "v1", "updateFlowLogCollector");
-    for (Entry<String, String> header : sdkHeaders.entrySet()) {
-      builder.header(header.getKey(), header.getValue());
-    }
-    builder.header("Accept", "application/json");
+    RequestBuilder builder = VpcOperations.UPDATE_FLOW_LOG_COLLECTOR.newRequestBuilder(getServiceUrl(), pathParamsMap);
     builder.query("version", String.valueOf(this.version));
     builder.query("generation", String.valueOf(this.generation));
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateFlowLogCollectorOptions.flowLogCollectorPatch()), "application/merge-patch+json");
-    ResponseConverter<FlowLogCollector> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<FlowLogCollector>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return createServiceCall(VpcOperations.UPDATE_FLOW_LOG_COLLECTOR, builder);
   }
 
 }
@@ -0,0 +1,259 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+import com.ibm.cloud.is.common.retry.HedgingInterceptor;
+import com.ibm.cloud.sdk.core.http.HttpClientSingleton;
+import com.ibm.cloud.sdk.core.security.Authenticator;
+import com.ibm.cloud.sdk.core.service.BaseService;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.CookieJar;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+
+/**
+ * Creates {@link Vpc} instances which share a single HTTP client, e.g. one instance per tenant, each with its own
+ * authenticator and service URL.
+ * <p>
+ * By default, each {@link Vpc} instance derives its own HTTP client from the global client of the SDK core, with
+ * its own cookie jar, and all the instances are subject to the default limits of the global dispatcher (in
+ * particular, at most 5 asynchronous calls in flight per host). The instances created by a factory instead share
+ * one HTTP client with a dedicated connection pool and dispatcher, sized for the number of instances by the
+ * builder, so that the memory, sockets and threads used do not grow with the number of instances and the
+ * connections (and their TLS sessions) are reused across instances.
+ * <p>
+ * The shared client does not store cookies, so that no state can leak from one instance to another through the
+ * cookie jar. Since the client is shared, interceptors should be added to the template client passed to
+ * {@link Builder#client(OkHttpClient)} rather than installed on each instance; an interceptor installed on one
+ * instance (e.g. with {@code install(service)}) derives a new client for that instance, which still shares the
+ * connection pool and dispatcher.
+ * <p>
+ * The exception is the {@link HedgingInterceptor}, which sends the requests it hedges with the client it was
+ * installed on rather than with the clients derived from it: a template client to which it was added is rejected,
+ * since the shared client would still send those requests with the connection pool and dispatcher of the template.
+ * It is instead installed on a created instance, after any interceptor added to that instance.
+ */
+public class VpcFactory {
+
+  /**
+   * The default maximum number of idle connections kept in the connection pool.
+   */
+  public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 32;
+
+  /**
+   * The default time for which an idle connection is kept in the connection pool, in seconds.
+   */
+  public static final long DEFAULT_KEEP_ALIVE_SECONDS = 300;
+
+  /**
+   * The default maximum number of asynchronous calls in flight.
+   */
+  public static final int DEFAULT_MAX_REQUESTS = 256;
+
+  /**
+   * The default maximum number of asynchronous calls in flight per host.
+   */
+  public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 256;
+
+  private final String version;
+  private final String serviceName;
+  private final String serviceUrl;
+  private final OkHttpClient client;
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private String version;
+    private String serviceName = Vpc.DEFAULT_SERVICE_NAME;
+    private String serviceUrl = Vpc.DEFAULT_SERVICE_URL;
+    private OkHttpClient client;
+    private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+    private long keepAliveMillis = TimeUnit.SECONDS.toMillis(DEFAULT_KEEP_ALIVE_SECONDS);
+    private int maxRequests = DEFAULT_MAX_REQUESTS;
+    private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+
+    /**
+     * Instantiates a new builder with required properties.
+     *
+     * @param version the version of the API used by the created instances, in the format `YYYY-MM-DD`
+     */
+    public Builder(String version) {
+      this.version = version;
+    }
+
+    /**
+     * Builds a VpcFactory.
+     *
+     * @return the new VpcFactory instance
+     */
+    public VpcFactory build() {
+      return new VpcFactory(this);
+    }
+
+    /**
+     * Set the service name of the created instances (defaults to {@link Vpc#DEFAULT_SERVICE_NAME}).
+     *
+     * @param serviceName the service name
+     * @return the VpcFactory builder
+     */
+    public Builder serviceName(String serviceName) {
+      this.serviceName = serviceName;
+      return this;
+    }
+
+    /**
+     * Set the service URL of the instances created without one (defaults to {@link Vpc#DEFAULT_SERVICE_URL}).
+     *
+     * @param serviceUrl the service URL
+     * @return the VpcFactory builder
+     */
+    public Builder serviceUrl(String serviceUrl) {
+      this.serviceUrl = serviceUrl;
+      return this;
+    }
+
+    /**
+     * Set the client from which the shared client is derived, e.g. to set timeouts or add interceptors. Its
+     * connection pool, dispatcher and cookie jar are replaced. By default, the global client of the SDK core is
+     * used. The client cannot be one returned by {@link HedgingInterceptor#wrap(OkHttpClient)}.
+     *
+     * @param client the template client
+     * @return the VpcFactory builder
+     */
+    public Builder client(OkHttpClient client) {
+      this.client = client;
+      return this;
+    }
+
+    /**
+     * Set the connection pool parameters (defaults to {@link VpcFactory#DEFAULT_MAX_IDLE_CONNECTIONS} idle
+     * connections kept for {@link VpcFactory#DEFAULT_KEEP_ALIVE_SECONDS} seconds).
+     *
+     * @param maxIdleConnections the maximum number of idle connections kept in the pool
+     * @param keepAlive the time for which an idle connection is kept in the pool
+     * @param unit the unit of the keep-alive time
+     * @return the VpcFactory builder
+     */
+    public Builder connectionPool(int maxIdleConnections, long keepAlive, TimeUnit unit) {
+      this.maxIdleConnections = maxIdleConnections;
+      this.keepAliveMillis = unit.toMillis(keepAlive);
+      return this;
+    }
+
+    /**
+     * Set the limits of the dispatcher, which apply to the asynchronous calls of all the created instances
+     * (defaults to {@link VpcFactory#DEFAULT_MAX_REQUESTS} calls in flight, and
+     * {@link VpcFactory#DEFAULT_MAX_REQUESTS_PER_HOST} per host). Synchronous calls are not limited.
+     *
+     * @param maxRequests the maximum number of asynchronous calls in flight
+     * @param maxRequestsPerHost the maximum number of asynchronous calls in flight per host
+     * @return the VpcFactory builder
+     */
+    public Builder dispatcher(int maxRequests, int maxRequestsPerHost) {
+      this.maxRequests = maxRequests;
+      this.maxRequestsPerHost = maxRequestsPerHost;
+      return this;
+    }
+  }
+
+  /**
+   * Creates a factory from a builder.
+   *
+   * @param builder the builder
+   */
+  protected VpcFactory(Builder builder) {
+    Validator.notEmpty(builder.version, "version cannot be empty");
+    Validator.notEmpty(builder.serviceName, "serviceName cannot be empty");
+    Validator.notEmpty(builder.serviceUrl, "serviceUrl cannot be empty");
+    Validator.isTrue(builder.maxIdleConnections >= 0, "maxIdleConnections must be at least 0");
+    Validator.isTrue(builder.keepAliveMillis > 0, "keepAlive must be positive");
+    Validator.isTrue(builder.maxRequests > 0, "maxRequests must be positive");
+    Validator.isTrue(builder.maxRequestsPerHost > 0, "maxRequestsPerHost must be positive");
+    this.version = builder.version;
+    this.serviceName = builder.serviceName;
+    this.serviceUrl = builder.serviceUrl;
+
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(builder.maxRequests);
+    dispatcher.setMaxRequestsPerHost(builder.maxRequestsPerHost);
+    OkHttpClient template = builder.client != null ? builder.client : HttpClientSingleton.getInstance().createHttpClient();
+    for (Interceptor interceptor : template.interceptors()) {
+      Validator.isTrue(!(interceptor instanceof HedgingInterceptor),
+        "client cannot hedge requests; install the HedgingInterceptor on a created instance instead");
+    }
+    this.client = template.newBuilder()
+      .connectionPool(new ConnectionPool(builder.maxIdleConnections, builder.keepAliveMillis, TimeUnit.MILLISECONDS))
+      .dispatcher(dispatcher)
+      .cookieJar(CookieJar.NO_COOKIES)
+      .build();
+  }
+
+  /**
+   * Returns the client shared by the created instances.
+   *
+   * @return the shared client
+   */
+  public OkHttpClient getClient() {
+    return client;
+  }
+
+  /**
+   * Creates a {@link Vpc} instance with the default service URL of this factory.
+   *
+   * @param authenticator the authenticator of the instance
+   * @return the new {@link Vpc} instance
+   */
+  public Vpc create(Authenticator authenticator) {
+    return create(authenticator, serviceUrl);
+  }
+
+  /**
+   * Creates a {@link Vpc} instance with the specified service URL.
+   *
+   * @param authenticator the authenticator of the instance
+   * @param serviceUrl the service URL of the instance
+   * @return the new {@link Vpc} instance
+   */
+  public Vpc create(Authenticator authenticator, String serviceUrl) {
+    Vpc vpc = configure(new Vpc(version, serviceName, authenticator));
+    vpc.setServiceUrl(serviceUrl);
+    return vpc;
+  }
+
+  /**
+   * Makes an existing service instance, e.g. a {@link CachingVpc}, use the shared client.
+   *
+   * @param <T> the type of the service
+   * @param service the service instance
+   * @return the service instance
+   */
+  public <T extends BaseService> T configure(T service) {
+    Validator.notNull(service, "service cannot be null");
+    service.setClient(client);
+    return service;
+  }
+
+  /**
+   * Closes the idle connections of the shared client and stops the threads of its dispatcher once the
+   * asynchronous calls in flight have completed. The created instances cannot execute asynchronous calls
+   * afterwards.
+   */
+  public void shutdown() {
+    client.dispatcher().executorService().shutdown();
+    client.connectionPool().evictAll();
+  }
+}
@@ -0,0 +1,651 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.is.vpc.v1;
+
+import com.ibm.cloud.is.common.http.Operation;
+import com.ibm.cloud.is.vpc.v1.model.AddressPrefix;
+import com.ibm.cloud.is.vpc.v1.model.AddressPrefixCollection;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHost;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostCollection;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostDisk;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostDiskCollection;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostGroup;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostGroupCollection;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostProfile;
+import com.ibm.cloud.is.vpc.v1.model.DedicatedHostProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.DefaultNetworkACL;
+import com.ibm.cloud.is.vpc.v1.model.DefaultRoutingTable;
+import com.ibm.cloud.is.vpc.v1.model.DefaultSecurityGroup;
+import com.ibm.cloud.is.vpc.v1.model.EndpointGateway;
+import com.ibm.cloud.is.vpc.v1.model.EndpointGatewayCollection;
+import com.ibm.cloud.is.vpc.v1.model.FloatingIP;
+import com.ibm.cloud.is.vpc.v1.model.FloatingIPCollection;
+import com.ibm.cloud.is.vpc.v1.model.FloatingIPUnpaginatedCollection;
+import com.ibm.cloud.is.vpc.v1.model.FlowLogCollector;
+import com.ibm.cloud.is.vpc.v1.model.FlowLogCollectorCollection;
+import com.ibm.cloud.is.vpc.v1.model.IKEPolicy;
+import com.ibm.cloud.is.vpc.v1.model.IKEPolicyCollection;
+import com.ibm.cloud.is.vpc.v1.model.IPsecPolicy;
+import com.ibm.cloud.is.vpc.v1.model.IPsecPolicyCollection;
+import com.ibm.cloud.is.vpc.v1.model.Image;
+import com.ibm.cloud.is.vpc.v1.model.ImageCollection;
+import com.ibm.cloud.is.vpc.v1.model.Instance;
+import com.ibm.cloud.is.vpc.v1.model.InstanceAction;
+import com.ibm.cloud.is.vpc.v1.model.InstanceCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceConsoleAccessToken;
+import com.ibm.cloud.is.vpc.v1.model.InstanceDisk;
+import com.ibm.cloud.is.vpc.v1.model.InstanceDiskCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroup;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManager;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerAction;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerActionsCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerPolicy;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupManagerPolicyCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupMembership;
+import com.ibm.cloud.is.vpc.v1.model.InstanceGroupMembershipCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceInitialization;
+import com.ibm.cloud.is.vpc.v1.model.InstanceProfile;
+import com.ibm.cloud.is.vpc.v1.model.InstanceProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.InstanceTemplate;
+import com.ibm.cloud.is.vpc.v1.model.InstanceTemplateCollection;
+import com.ibm.cloud.is.vpc.v1.model.Key;
+import com.ibm.cloud.is.vpc.v1.model.KeyCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancer;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListener;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerPolicy;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerPolicyCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerPolicyRule;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerListenerPolicyRuleCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerPool;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerPoolCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerPoolMember;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerPoolMemberCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerProfile;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancerStatistics;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACL;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLCollection;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRule;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRuleCollection;
+import com.ibm.cloud.is.vpc.v1.model.NetworkInterface;
+import com.ibm.cloud.is.vpc.v1.model.NetworkInterfaceCollection;
+import com.ibm.cloud.is.vpc.v1.model.NetworkInterfaceUnpaginatedCollection;
+import com.ibm.cloud.is.vpc.v1.model.OperatingSystem;
+import com.ibm.cloud.is.vpc.v1.model.OperatingSystemCollection;
+import com.ibm.cloud.is.vpc.v1.model.PublicGateway;
+import com.ibm.cloud.is.vpc.v1.model.PublicGatewayCollection;
+import com.ibm.cloud.is.vpc.v1.model.Region;
+import com.ibm.cloud.is.vpc.v1.model.RegionCollection;
+import com.ibm.cloud.is.vpc.v1.model.ReservedIP;
+import com.ibm.cloud.is.vpc.v1.model.ReservedIPCollection;
+import com.ibm.cloud.is.vpc.v1.model.ReservedIPCollectionEndpointGatewayContext;
+import com.ibm.cloud.is.vpc.v1.model.Route;
+import com.ibm.cloud.is.vpc.v1.model.RouteCollection;
+import com.ibm.cloud.is.vpc.v1.model.RoutingTable;
+import com.ibm.cloud.is.vpc.v1.model.RoutingTableCollection;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroup;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupCollection;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRule;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRuleCollection;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupTargetCollection;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupTargetReference;
+import com.ibm.cloud.is.vpc.v1.model.Subnet;
+import com.ibm.cloud.is.vpc.v1.model.SubnetCollection;
+import com.ibm.cloud.is.vpc.v1.model.VPC;
+import com.ibm.cloud.is.vpc.v1.model.VPCCollection;
+import com.ibm.cloud.is.vpc.v1.model.VPNGateway;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayCollection;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayConnection;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayConnectionCollection;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayConnectionLocalCIDRs;
+import com.ibm.cloud.is.vpc.v1.model.VPNGatewayConnectionPeerCIDRs;
+import com.ibm.cloud.is.vpc.v1.model.Volume;
+import com.ibm.cloud.is.vpc.v1.model.VolumeAttachment;
+import com.ibm.cloud.is.vpc.v1.model.VolumeAttachmentCollection;
+import com.ibm.cloud.is.vpc.v1.model.VolumeCollection;
+import com.ibm.cloud.is.vpc.v1.model.VolumeProfile;
+import com.ibm.cloud.is.vpc.v1.model.VolumeProfileCollection;
+import com.ibm.cloud.is.vpc.v1.model.Zone;
+import com.ibm.cloud.is.vpc.v1.model.ZoneCollection;
+
+/**
+ * The descriptors of the operations invoked by the {@link Vpc} service methods.
+ */
+final class VpcOperations {
+
+  private static final String SERVICE_NAME = "vpc";
+  private static final String SERVICE_VERSION = "v1";
+
+  static final Operation<VPCCollection> LIST_VPCS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVpcs", "GET", "/vpcs", VPCCollection.class);
+  static final Operation<VPC> CREATE_VPC =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createVpc", "POST", "/vpcs", VPC.class);
+  static final Operation<Void> DELETE_VPC =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteVpc", "DELETE", "/vpcs/{id}", Void.class);
+  static final Operation<VPC> GET_VPC =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpc", "GET", "/vpcs/{id}", VPC.class);
+  static final Operation<VPC> UPDATE_VPC =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateVpc", "PATCH", "/vpcs/{id}", VPC.class);
+  static final Operation<DefaultNetworkACL> GET_VPC_DEFAULT_NETWORK_ACL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpcDefaultNetworkAcl", "GET", "/vpcs/{id}/default_network_acl", DefaultNetworkACL.class);
+  static final Operation<DefaultRoutingTable> GET_VPC_DEFAULT_ROUTING_TABLE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpcDefaultRoutingTable", "GET", "/vpcs/{id}/default_routing_table", DefaultRoutingTable.class);
+  static final Operation<DefaultSecurityGroup> GET_VPC_DEFAULT_SECURITY_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpcDefaultSecurityGroup", "GET", "/vpcs/{id}/default_security_group", DefaultSecurityGroup.class);
+  static final Operation<AddressPrefixCollection> LIST_VPC_ADDRESS_PREFIXES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVpcAddressPrefixes", "GET", "/vpcs/{vpc_id}/address_prefixes", AddressPrefixCollection.class);
+  static final Operation<AddressPrefix> CREATE_VPC_ADDRESS_PREFIX =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createVpcAddressPrefix", "POST", "/vpcs/{vpc_id}/address_prefixes", AddressPrefix.class);
+  static final Operation<Void> DELETE_VPC_ADDRESS_PREFIX =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteVpcAddressPrefix", "DELETE", "/vpcs/{vpc_id}/address_prefixes/{id}", Void.class);
+  static final Operation<AddressPrefix> GET_VPC_ADDRESS_PREFIX =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpcAddressPrefix", "GET", "/vpcs/{vpc_id}/address_prefixes/{id}", AddressPrefix.class);
+  static final Operation<AddressPrefix> UPDATE_VPC_ADDRESS_PREFIX =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateVpcAddressPrefix", "PATCH", "/vpcs/{vpc_id}/address_prefixes/{id}", AddressPrefix.class);
+  static final Operation<RouteCollection> LIST_VPC_ROUTES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVpcRoutes", "GET", "/vpcs/{vpc_id}/routes", RouteCollection.class);
+  static final Operation<Route> CREATE_VPC_ROUTE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createVpcRoute", "POST", "/vpcs/{vpc_id}/routes", Route.class);
+  static final Operation<Void> DELETE_VPC_ROUTE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteVpcRoute", "DELETE", "/vpcs/{vpc_id}/routes/{id}", Void.class);
+  static final Operation<Route> GET_VPC_ROUTE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpcRoute", "GET", "/vpcs/{vpc_id}/routes/{id}", Route.class);
+  static final Operation<Route> UPDATE_VPC_ROUTE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateVpcRoute", "PATCH", "/vpcs/{vpc_id}/routes/{id}", Route.class);
+  static final Operation<RoutingTableCollection> LIST_VPC_ROUTING_TABLES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVpcRoutingTables", "GET", "/vpcs/{vpc_id}/routing_tables", RoutingTableCollection.class);
+  static final Operation<RoutingTable> CREATE_VPC_ROUTING_TABLE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createVpcRoutingTable", "POST", "/vpcs/{vpc_id}/routing_tables", RoutingTable.class);
+  static final Operation<Void> DELETE_VPC_ROUTING_TABLE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteVpcRoutingTable", "DELETE", "/vpcs/{vpc_id}/routing_tables/{id}", Void.class);
+  static final Operation<RoutingTable> GET_VPC_ROUTING_TABLE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpcRoutingTable", "GET", "/vpcs/{vpc_id}/routing_tables/{id}", RoutingTable.class);
+  static final Operation<RoutingTable> UPDATE_VPC_ROUTING_TABLE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateVpcRoutingTable", "PATCH", "/vpcs/{vpc_id}/routing_tables/{id}", RoutingTable.class);
+  static final Operation<RouteCollection> LIST_VPC_ROUTING_TABLE_ROUTES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVpcRoutingTableRoutes", "GET", "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes", RouteCollection.class);
+  static final Operation<Route> CREATE_VPC_ROUTING_TABLE_ROUTE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createVpcRoutingTableRoute", "POST", "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes", Route.class);
+  static final Operation<Void> DELETE_VPC_ROUTING_TABLE_ROUTE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteVpcRoutingTableRoute", "DELETE", "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes/{id}", Void.class);
+  static final Operation<Route> GET_VPC_ROUTING_TABLE_ROUTE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpcRoutingTableRoute", "GET", "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes/{id}", Route.class);
+  static final Operation<Route> UPDATE_VPC_ROUTING_TABLE_ROUTE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateVpcRoutingTableRoute", "PATCH", "/vpcs/{vpc_id}/routing_tables/{routing_table_id}/routes/{id}", Route.class);
+  static final Operation<SubnetCollection> LIST_SUBNETS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listSubnets", "GET", "/subnets", SubnetCollection.class);
+  static final Operation<Subnet> CREATE_SUBNET =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createSubnet", "POST", "/subnets", Subnet.class);
+  static final Operation<Void> DELETE_SUBNET =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteSubnet", "DELETE", "/subnets/{id}", Void.class);
+  static final Operation<Subnet> GET_SUBNET =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getSubnet", "GET", "/subnets/{id}", Subnet.class);
+  static final Operation<Subnet> UPDATE_SUBNET =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateSubnet", "PATCH", "/subnets/{id}", Subnet.class);
+  static final Operation<NetworkACL> GET_SUBNET_NETWORK_ACL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getSubnetNetworkAcl", "GET", "/subnets/{id}/network_acl", NetworkACL.class);
+  static final Operation<NetworkACL> REPLACE_SUBNET_NETWORK_ACL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "replaceSubnetNetworkAcl", "PUT", "/subnets/{id}/network_acl", NetworkACL.class);
+  static final Operation<Void> UNSET_SUBNET_PUBLIC_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "unsetSubnetPublicGateway", "DELETE", "/subnets/{id}/public_gateway", Void.class);
+  static final Operation<PublicGateway> GET_SUBNET_PUBLIC_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getSubnetPublicGateway", "GET", "/subnets/{id}/public_gateway", PublicGateway.class);
+  static final Operation<PublicGateway> SET_SUBNET_PUBLIC_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "setSubnetPublicGateway", "PUT", "/subnets/{id}/public_gateway", PublicGateway.class);
+  static final Operation<RoutingTable> GET_SUBNET_ROUTING_TABLE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getSubnetRoutingTable", "GET", "/subnets/{id}/routing_table", RoutingTable.class);
+  static final Operation<RoutingTable> REPLACE_SUBNET_ROUTING_TABLE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "replaceSubnetRoutingTable", "PUT", "/subnets/{id}/routing_table", RoutingTable.class);
+  static final Operation<ReservedIPCollection> LIST_SUBNET_RESERVED_IPS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listSubnetReservedIps", "GET", "/subnets/{subnet_id}/reserved_ips", ReservedIPCollection.class);
+  static final Operation<ReservedIP> CREATE_SUBNET_RESERVED_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createSubnetReservedIp", "POST", "/subnets/{subnet_id}/reserved_ips", ReservedIP.class);
+  static final Operation<Void> DELETE_SUBNET_RESERVED_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteSubnetReservedIp", "DELETE", "/subnets/{subnet_id}/reserved_ips/{id}", Void.class);
+  static final Operation<ReservedIP> GET_SUBNET_RESERVED_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getSubnetReservedIp", "GET", "/subnets/{subnet_id}/reserved_ips/{id}", ReservedIP.class);
+  static final Operation<ReservedIP> UPDATE_SUBNET_RESERVED_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateSubnetReservedIp", "PATCH", "/subnets/{subnet_id}/reserved_ips/{id}", ReservedIP.class);
+  static final Operation<ImageCollection> LIST_IMAGES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listImages", "GET", "/images", ImageCollection.class);
+  static final Operation<Image> CREATE_IMAGE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createImage", "POST", "/images", Image.class);
+  static final Operation<Void> DELETE_IMAGE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteImage", "DELETE", "/images/{id}", Void.class);
+  static final Operation<Image> GET_IMAGE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getImage", "GET", "/images/{id}", Image.class);
+  static final Operation<Image> UPDATE_IMAGE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateImage", "PATCH", "/images/{id}", Image.class);
+  static final Operation<OperatingSystemCollection> LIST_OPERATING_SYSTEMS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listOperatingSystems", "GET", "/operating_systems", OperatingSystemCollection.class);
+  static final Operation<OperatingSystem> GET_OPERATING_SYSTEM =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getOperatingSystem", "GET", "/operating_systems/{name}", OperatingSystem.class);
+  static final Operation<KeyCollection> LIST_KEYS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listKeys", "GET", "/keys", KeyCollection.class);
+  static final Operation<Key> CREATE_KEY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createKey", "POST", "/keys", Key.class);
+  static final Operation<Void> DELETE_KEY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteKey", "DELETE", "/keys/{id}", Void.class);
+  static final Operation<Key> GET_KEY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getKey", "GET", "/keys/{id}", Key.class);
+  static final Operation<Key> UPDATE_KEY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateKey", "PATCH", "/keys/{id}", Key.class);
+  static final Operation<InstanceProfileCollection> LIST_INSTANCE_PROFILES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceProfiles", "GET", "/instance/profiles", InstanceProfileCollection.class);
+  static final Operation<InstanceProfile> GET_INSTANCE_PROFILE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceProfile", "GET", "/instance/profiles/{name}", InstanceProfile.class);
+  static final Operation<InstanceTemplateCollection> LIST_INSTANCE_TEMPLATES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceTemplates", "GET", "/instance/templates", InstanceTemplateCollection.class);
+  static final Operation<InstanceTemplate> CREATE_INSTANCE_TEMPLATE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstanceTemplate", "POST", "/instance/templates", InstanceTemplate.class);
+  static final Operation<Void> DELETE_INSTANCE_TEMPLATE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceTemplate", "DELETE", "/instance/templates/{id}", Void.class);
+  static final Operation<InstanceTemplate> GET_INSTANCE_TEMPLATE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceTemplate", "GET", "/instance/templates/{id}", InstanceTemplate.class);
+  static final Operation<InstanceTemplate> UPDATE_INSTANCE_TEMPLATE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstanceTemplate", "PATCH", "/instance/templates/{id}", InstanceTemplate.class);
+  static final Operation<InstanceCollection> LIST_INSTANCES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstances", "GET", "/instances", InstanceCollection.class);
+  static final Operation<Instance> CREATE_INSTANCE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstance", "POST", "/instances", Instance.class);
+  static final Operation<Void> DELETE_INSTANCE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstance", "DELETE", "/instances/{id}", Void.class);
+  static final Operation<Instance> GET_INSTANCE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstance", "GET", "/instances/{id}", Instance.class);
+  static final Operation<Instance> UPDATE_INSTANCE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstance", "PATCH", "/instances/{id}", Instance.class);
+  static final Operation<InstanceInitialization> GET_INSTANCE_INITIALIZATION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceInitialization", "GET", "/instances/{id}/initialization", InstanceInitialization.class);
+  static final Operation<InstanceAction> CREATE_INSTANCE_ACTION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstanceAction", "POST", "/instances/{instance_id}/actions", InstanceAction.class);
+  static final Operation<InstanceConsoleAccessToken> CREATE_INSTANCE_CONSOLE_ACCESS_TOKEN =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstanceConsoleAccessToken", "POST", "/instances/{instance_id}/console_access_token", InstanceConsoleAccessToken.class);
+  static final Operation<InstanceDiskCollection> LIST_INSTANCE_DISKS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceDisks", "GET", "/instances/{instance_id}/disks", InstanceDiskCollection.class);
+  static final Operation<InstanceDisk> GET_INSTANCE_DISK =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceDisk", "GET", "/instances/{instance_id}/disks/{id}", InstanceDisk.class);
+  static final Operation<InstanceDisk> UPDATE_INSTANCE_DISK =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstanceDisk", "PATCH", "/instances/{instance_id}/disks/{id}", InstanceDisk.class);
+  static final Operation<NetworkInterfaceUnpaginatedCollection> LIST_INSTANCE_NETWORK_INTERFACES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceNetworkInterfaces", "GET", "/instances/{instance_id}/network_interfaces", NetworkInterfaceUnpaginatedCollection.class);
+  static final Operation<NetworkInterface> CREATE_INSTANCE_NETWORK_INTERFACE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstanceNetworkInterface", "POST", "/instances/{instance_id}/network_interfaces", NetworkInterface.class);
+  static final Operation<Void> DELETE_INSTANCE_NETWORK_INTERFACE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceNetworkInterface", "DELETE", "/instances/{instance_id}/network_interfaces/{id}", Void.class);
+  static final Operation<NetworkInterface> GET_INSTANCE_NETWORK_INTERFACE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceNetworkInterface", "GET", "/instances/{instance_id}/network_interfaces/{id}", NetworkInterface.class);
+  static final Operation<NetworkInterface> UPDATE_INSTANCE_NETWORK_INTERFACE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstanceNetworkInterface", "PATCH", "/instances/{instance_id}/network_interfaces/{id}", NetworkInterface.class);
+  static final Operation<FloatingIPUnpaginatedCollection> LIST_INSTANCE_NETWORK_INTERFACE_FLOATING_IPS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceNetworkInterfaceFloatingIps", "GET", "/instances/{instance_id}/network_interfaces/{network_interface_id}/floating_ips", FloatingIPUnpaginatedCollection.class);
+  static final Operation<Void> REMOVE_INSTANCE_NETWORK_INTERFACE_FLOATING_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "removeInstanceNetworkInterfaceFloatingIp", "DELETE", "/instances/{instance_id}/network_interfaces/{network_interface_id}/floating_ips/{id}", Void.class);
+  static final Operation<FloatingIP> GET_INSTANCE_NETWORK_INTERFACE_FLOATING_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceNetworkInterfaceFloatingIp", "GET", "/instances/{instance_id}/network_interfaces/{network_interface_id}/floating_ips/{id}", FloatingIP.class);
+  static final Operation<FloatingIP> ADD_INSTANCE_NETWORK_INTERFACE_FLOATING_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "addInstanceNetworkInterfaceFloatingIp", "PUT", "/instances/{instance_id}/network_interfaces/{network_interface_id}/floating_ips/{id}", FloatingIP.class);
+  static final Operation<VolumeAttachmentCollection> LIST_INSTANCE_VOLUME_ATTACHMENTS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceVolumeAttachments", "GET", "/instances/{instance_id}/volume_attachments", VolumeAttachmentCollection.class);
+  static final Operation<VolumeAttachment> CREATE_INSTANCE_VOLUME_ATTACHMENT =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstanceVolumeAttachment", "POST", "/instances/{instance_id}/volume_attachments", VolumeAttachment.class);
+  static final Operation<Void> DELETE_INSTANCE_VOLUME_ATTACHMENT =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceVolumeAttachment", "DELETE", "/instances/{instance_id}/volume_attachments/{id}", Void.class);
+  static final Operation<VolumeAttachment> GET_INSTANCE_VOLUME_ATTACHMENT =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceVolumeAttachment", "GET", "/instances/{instance_id}/volume_attachments/{id}", VolumeAttachment.class);
+  static final Operation<VolumeAttachment> UPDATE_INSTANCE_VOLUME_ATTACHMENT =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstanceVolumeAttachment", "PATCH", "/instances/{instance_id}/volume_attachments/{id}", VolumeAttachment.class);
+  static final Operation<InstanceGroupCollection> LIST_INSTANCE_GROUPS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceGroups", "GET", "/instance_groups", InstanceGroupCollection.class);
+  static final Operation<InstanceGroup> CREATE_INSTANCE_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstanceGroup", "POST", "/instance_groups", InstanceGroup.class);
+  static final Operation<Void> DELETE_INSTANCE_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceGroup", "DELETE", "/instance_groups/{id}", Void.class);
+  static final Operation<InstanceGroup> GET_INSTANCE_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceGroup", "GET", "/instance_groups/{id}", InstanceGroup.class);
+  static final Operation<InstanceGroup> UPDATE_INSTANCE_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstanceGroup", "PATCH", "/instance_groups/{id}", InstanceGroup.class);
+  static final Operation<Void> DELETE_INSTANCE_GROUP_LOAD_BALANCER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceGroupLoadBalancer", "DELETE", "/instance_groups/{instance_group_id}/load_balancer", Void.class);
+  static final Operation<InstanceGroupManagerCollection> LIST_INSTANCE_GROUP_MANAGERS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceGroupManagers", "GET", "/instance_groups/{instance_group_id}/managers", InstanceGroupManagerCollection.class);
+  static final Operation<InstanceGroupManager> CREATE_INSTANCE_GROUP_MANAGER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstanceGroupManager", "POST", "/instance_groups/{instance_group_id}/managers", InstanceGroupManager.class);
+  static final Operation<Void> DELETE_INSTANCE_GROUP_MANAGER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceGroupManager", "DELETE", "/instance_groups/{instance_group_id}/managers/{id}", Void.class);
+  static final Operation<InstanceGroupManager> GET_INSTANCE_GROUP_MANAGER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceGroupManager", "GET", "/instance_groups/{instance_group_id}/managers/{id}", InstanceGroupManager.class);
+  static final Operation<InstanceGroupManager> UPDATE_INSTANCE_GROUP_MANAGER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstanceGroupManager", "PATCH", "/instance_groups/{instance_group_id}/managers/{id}", InstanceGroupManager.class);
+  static final Operation<InstanceGroupManagerActionsCollection> LIST_INSTANCE_GROUP_MANAGER_ACTIONS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceGroupManagerActions", "GET", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions", InstanceGroupManagerActionsCollection.class);
+  static final Operation<InstanceGroupManagerAction> CREATE_INSTANCE_GROUP_MANAGER_ACTION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstanceGroupManagerAction", "POST", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions", InstanceGroupManagerAction.class);
+  static final Operation<Void> DELETE_INSTANCE_GROUP_MANAGER_ACTION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceGroupManagerAction", "DELETE", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions/{id}", Void.class);
+  static final Operation<InstanceGroupManagerAction> GET_INSTANCE_GROUP_MANAGER_ACTION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceGroupManagerAction", "GET", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions/{id}", InstanceGroupManagerAction.class);
+  static final Operation<InstanceGroupManagerAction> UPDATE_INSTANCE_GROUP_MANAGER_ACTION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstanceGroupManagerAction", "PATCH", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/actions/{id}", InstanceGroupManagerAction.class);
+  static final Operation<InstanceGroupManagerPolicyCollection> LIST_INSTANCE_GROUP_MANAGER_POLICIES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceGroupManagerPolicies", "GET", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies", InstanceGroupManagerPolicyCollection.class);
+  static final Operation<InstanceGroupManagerPolicy> CREATE_INSTANCE_GROUP_MANAGER_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createInstanceGroupManagerPolicy", "POST", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies", InstanceGroupManagerPolicy.class);
+  static final Operation<Void> DELETE_INSTANCE_GROUP_MANAGER_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceGroupManagerPolicy", "DELETE", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies/{id}", Void.class);
+  static final Operation<InstanceGroupManagerPolicy> GET_INSTANCE_GROUP_MANAGER_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceGroupManagerPolicy", "GET", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies/{id}", InstanceGroupManagerPolicy.class);
+  static final Operation<InstanceGroupManagerPolicy> UPDATE_INSTANCE_GROUP_MANAGER_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstanceGroupManagerPolicy", "PATCH", "/instance_groups/{instance_group_id}/managers/{instance_group_manager_id}/policies/{id}", InstanceGroupManagerPolicy.class);
+  static final Operation<Void> DELETE_INSTANCE_GROUP_MEMBERSHIPS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceGroupMemberships", "DELETE", "/instance_groups/{instance_group_id}/memberships", Void.class);
+  static final Operation<InstanceGroupMembershipCollection> LIST_INSTANCE_GROUP_MEMBERSHIPS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listInstanceGroupMemberships", "GET", "/instance_groups/{instance_group_id}/memberships", InstanceGroupMembershipCollection.class);
+  static final Operation<Void> DELETE_INSTANCE_GROUP_MEMBERSHIP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteInstanceGroupMembership", "DELETE", "/instance_groups/{instance_group_id}/memberships/{id}", Void.class);
+  static final Operation<InstanceGroupMembership> GET_INSTANCE_GROUP_MEMBERSHIP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getInstanceGroupMembership", "GET", "/instance_groups/{instance_group_id}/memberships/{id}", InstanceGroupMembership.class);
+  static final Operation<InstanceGroupMembership> UPDATE_INSTANCE_GROUP_MEMBERSHIP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateInstanceGroupMembership", "PATCH", "/instance_groups/{instance_group_id}/memberships/{id}", InstanceGroupMembership.class);
+  static final Operation<DedicatedHostGroupCollection> LIST_DEDICATED_HOST_GROUPS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listDedicatedHostGroups", "GET", "/dedicated_host/groups", DedicatedHostGroupCollection.class);
+  static final Operation<DedicatedHostGroup> CREATE_DEDICATED_HOST_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createDedicatedHostGroup", "POST", "/dedicated_host/groups", DedicatedHostGroup.class);
+  static final Operation<Void> DELETE_DEDICATED_HOST_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteDedicatedHostGroup", "DELETE", "/dedicated_host/groups/{id}", Void.class);
+  static final Operation<DedicatedHostGroup> GET_DEDICATED_HOST_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getDedicatedHostGroup", "GET", "/dedicated_host/groups/{id}", DedicatedHostGroup.class);
+  static final Operation<DedicatedHostGroup> UPDATE_DEDICATED_HOST_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateDedicatedHostGroup", "PATCH", "/dedicated_host/groups/{id}", DedicatedHostGroup.class);
+  static final Operation<DedicatedHostProfileCollection> LIST_DEDICATED_HOST_PROFILES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listDedicatedHostProfiles", "GET", "/dedicated_host/profiles", DedicatedHostProfileCollection.class);
+  static final Operation<DedicatedHostProfile> GET_DEDICATED_HOST_PROFILE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getDedicatedHostProfile", "GET", "/dedicated_host/profiles/{name}", DedicatedHostProfile.class);
+  static final Operation<DedicatedHostCollection> LIST_DEDICATED_HOSTS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listDedicatedHosts", "GET", "/dedicated_hosts", DedicatedHostCollection.class);
+  static final Operation<DedicatedHost> CREATE_DEDICATED_HOST =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createDedicatedHost", "POST", "/dedicated_hosts", DedicatedHost.class);
+  static final Operation<DedicatedHostDiskCollection> LIST_DEDICATED_HOST_DISKS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listDedicatedHostDisks", "GET", "/dedicated_hosts/{dedicated_host_id}/disks", DedicatedHostDiskCollection.class);
+  static final Operation<DedicatedHostDisk> GET_DEDICATED_HOST_DISK =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getDedicatedHostDisk", "GET", "/dedicated_hosts/{dedicated_host_id}/disks/{id}", DedicatedHostDisk.class);
+  static final Operation<DedicatedHostDisk> UPDATE_DEDICATED_HOST_DISK =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateDedicatedHostDisk", "PATCH", "/dedicated_hosts/{dedicated_host_id}/disks/{id}", DedicatedHostDisk.class);
+  static final Operation<Void> DELETE_DEDICATED_HOST =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteDedicatedHost", "DELETE", "/dedicated_hosts/{id}", Void.class);
+  static final Operation<DedicatedHost> GET_DEDICATED_HOST =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getDedicatedHost", "GET", "/dedicated_hosts/{id}", DedicatedHost.class);
+  static final Operation<DedicatedHost> UPDATE_DEDICATED_HOST =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateDedicatedHost", "PATCH", "/dedicated_hosts/{id}", DedicatedHost.class);
+  static final Operation<VolumeProfileCollection> LIST_VOLUME_PROFILES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVolumeProfiles", "GET", "/volume/profiles", VolumeProfileCollection.class);
+  static final Operation<VolumeProfile> GET_VOLUME_PROFILE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVolumeProfile", "GET", "/volume/profiles/{name}", VolumeProfile.class);
+  static final Operation<VolumeCollection> LIST_VOLUMES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVolumes", "GET", "/volumes", VolumeCollection.class);
+  static final Operation<Volume> CREATE_VOLUME =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createVolume", "POST", "/volumes", Volume.class);
+  static final Operation<Void> DELETE_VOLUME =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteVolume", "DELETE", "/volumes/{id}", Void.class);
+  static final Operation<Volume> GET_VOLUME =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVolume", "GET", "/volumes/{id}", Volume.class);
+  static final Operation<Volume> UPDATE_VOLUME =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateVolume", "PATCH", "/volumes/{id}", Volume.class);
+  static final Operation<RegionCollection> LIST_REGIONS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listRegions", "GET", "/regions", RegionCollection.class);
+  static final Operation<Region> GET_REGION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getRegion", "GET", "/regions/{name}", Region.class);
+  static final Operation<ZoneCollection> LIST_REGION_ZONES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listRegionZones", "GET", "/regions/{region_name}/zones", ZoneCollection.class);
+  static final Operation<Zone> GET_REGION_ZONE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getRegionZone", "GET", "/regions/{region_name}/zones/{name}", Zone.class);
+  static final Operation<PublicGatewayCollection> LIST_PUBLIC_GATEWAYS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listPublicGateways", "GET", "/public_gateways", PublicGatewayCollection.class);
+  static final Operation<PublicGateway> CREATE_PUBLIC_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createPublicGateway", "POST", "/public_gateways", PublicGateway.class);
+  static final Operation<Void> DELETE_PUBLIC_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deletePublicGateway", "DELETE", "/public_gateways/{id}", Void.class);
+  static final Operation<PublicGateway> GET_PUBLIC_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getPublicGateway", "GET", "/public_gateways/{id}", PublicGateway.class);
+  static final Operation<PublicGateway> UPDATE_PUBLIC_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updatePublicGateway", "PATCH", "/public_gateways/{id}", PublicGateway.class);
+  static final Operation<FloatingIPCollection> LIST_FLOATING_IPS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listFloatingIps", "GET", "/floating_ips", FloatingIPCollection.class);
+  static final Operation<FloatingIP> CREATE_FLOATING_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createFloatingIp", "POST", "/floating_ips", FloatingIP.class);
+  static final Operation<Void> DELETE_FLOATING_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteFloatingIp", "DELETE", "/floating_ips/{id}", Void.class);
+  static final Operation<FloatingIP> GET_FLOATING_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getFloatingIp", "GET", "/floating_ips/{id}", FloatingIP.class);
+  static final Operation<FloatingIP> UPDATE_FLOATING_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateFloatingIp", "PATCH", "/floating_ips/{id}", FloatingIP.class);
+  static final Operation<NetworkACLCollection> LIST_NETWORK_ACLS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listNetworkAcls", "GET", "/network_acls", NetworkACLCollection.class);
+  static final Operation<NetworkACL> CREATE_NETWORK_ACL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createNetworkAcl", "POST", "/network_acls", NetworkACL.class);
+  static final Operation<Void> DELETE_NETWORK_ACL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteNetworkAcl", "DELETE", "/network_acls/{id}", Void.class);
+  static final Operation<NetworkACL> GET_NETWORK_ACL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getNetworkAcl", "GET", "/network_acls/{id}", NetworkACL.class);
+  static final Operation<NetworkACL> UPDATE_NETWORK_ACL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateNetworkAcl", "PATCH", "/network_acls/{id}", NetworkACL.class);
+  static final Operation<NetworkACLRuleCollection> LIST_NETWORK_ACL_RULES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listNetworkAclRules", "GET", "/network_acls/{network_acl_id}/rules", NetworkACLRuleCollection.class);
+  static final Operation<NetworkACLRule> CREATE_NETWORK_ACL_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createNetworkAclRule", "POST", "/network_acls/{network_acl_id}/rules", NetworkACLRule.class);
+  static final Operation<Void> DELETE_NETWORK_ACL_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteNetworkAclRule", "DELETE", "/network_acls/{network_acl_id}/rules/{id}", Void.class);
+  static final Operation<NetworkACLRule> GET_NETWORK_ACL_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getNetworkAclRule", "GET", "/network_acls/{network_acl_id}/rules/{id}", NetworkACLRule.class);
+  static final Operation<NetworkACLRule> UPDATE_NETWORK_ACL_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateNetworkAclRule", "PATCH", "/network_acls/{network_acl_id}/rules/{id}", NetworkACLRule.class);
+  static final Operation<SecurityGroupCollection> LIST_SECURITY_GROUPS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listSecurityGroups", "GET", "/security_groups", SecurityGroupCollection.class);
+  static final Operation<SecurityGroup> CREATE_SECURITY_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createSecurityGroup", "POST", "/security_groups", SecurityGroup.class);
+  static final Operation<Void> DELETE_SECURITY_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteSecurityGroup", "DELETE", "/security_groups/{id}", Void.class);
+  static final Operation<SecurityGroup> GET_SECURITY_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getSecurityGroup", "GET", "/security_groups/{id}", SecurityGroup.class);
+  static final Operation<SecurityGroup> UPDATE_SECURITY_GROUP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateSecurityGroup", "PATCH", "/security_groups/{id}", SecurityGroup.class);
+  static final Operation<NetworkInterfaceCollection> LIST_SECURITY_GROUP_NETWORK_INTERFACES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listSecurityGroupNetworkInterfaces", "GET", "/security_groups/{security_group_id}/network_interfaces", NetworkInterfaceCollection.class);
+  static final Operation<Void> REMOVE_SECURITY_GROUP_NETWORK_INTERFACE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "removeSecurityGroupNetworkInterface", "DELETE", "/security_groups/{security_group_id}/network_interfaces/{id}", Void.class);
+  static final Operation<NetworkInterface> GET_SECURITY_GROUP_NETWORK_INTERFACE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getSecurityGroupNetworkInterface", "GET", "/security_groups/{security_group_id}/network_interfaces/{id}", NetworkInterface.class);
+  static final Operation<NetworkInterface> ADD_SECURITY_GROUP_NETWORK_INTERFACE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "addSecurityGroupNetworkInterface", "PUT", "/security_groups/{security_group_id}/network_interfaces/{id}", NetworkInterface.class);
+  static final Operation<SecurityGroupRuleCollection> LIST_SECURITY_GROUP_RULES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listSecurityGroupRules", "GET", "/security_groups/{security_group_id}/rules", SecurityGroupRuleCollection.class);
+  static final Operation<SecurityGroupRule> CREATE_SECURITY_GROUP_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createSecurityGroupRule", "POST", "/security_groups/{security_group_id}/rules", SecurityGroupRule.class);
+  static final Operation<Void> DELETE_SECURITY_GROUP_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteSecurityGroupRule", "DELETE", "/security_groups/{security_group_id}/rules/{id}", Void.class);
+  static final Operation<SecurityGroupRule> GET_SECURITY_GROUP_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getSecurityGroupRule", "GET", "/security_groups/{security_group_id}/rules/{id}", SecurityGroupRule.class);
+  static final Operation<SecurityGroupRule> UPDATE_SECURITY_GROUP_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateSecurityGroupRule", "PATCH", "/security_groups/{security_group_id}/rules/{id}", SecurityGroupRule.class);
+  static final Operation<SecurityGroupTargetCollection> LIST_SECURITY_GROUP_TARGETS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listSecurityGroupTargets", "GET", "/security_groups/{security_group_id}/targets", SecurityGroupTargetCollection.class);
+  static final Operation<Void> DELETE_SECURITY_GROUP_TARGET_BINDING =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteSecurityGroupTargetBinding", "DELETE", "/security_groups/{security_group_id}/targets/{id}", Void.class);
+  static final Operation<SecurityGroupTargetReference> GET_SECURITY_GROUP_TARGET =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getSecurityGroupTarget", "GET", "/security_groups/{security_group_id}/targets/{id}", SecurityGroupTargetReference.class);
+  static final Operation<SecurityGroupTargetReference> CREATE_SECURITY_GROUP_TARGET_BINDING =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createSecurityGroupTargetBinding", "PUT", "/security_groups/{security_group_id}/targets/{id}", SecurityGroupTargetReference.class);
+  static final Operation<IKEPolicyCollection> LIST_IKE_POLICIES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listIkePolicies", "GET", "/ike_policies", IKEPolicyCollection.class);
+  static final Operation<IKEPolicy> CREATE_IKE_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createIkePolicy", "POST", "/ike_policies", IKEPolicy.class);
+  static final Operation<Void> DELETE_IKE_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteIkePolicy", "DELETE", "/ike_policies/{id}", Void.class);
+  static final Operation<IKEPolicy> GET_IKE_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getIkePolicy", "GET", "/ike_policies/{id}", IKEPolicy.class);
+  static final Operation<IKEPolicy> UPDATE_IKE_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateIkePolicy", "PATCH", "/ike_policies/{id}", IKEPolicy.class);
+  static final Operation<VPNGatewayConnectionCollection> LIST_IKE_POLICY_CONNECTIONS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listIkePolicyConnections", "GET", "/ike_policies/{id}/connections", VPNGatewayConnectionCollection.class);
+  static final Operation<IPsecPolicyCollection> LIST_IPSEC_POLICIES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listIpsecPolicies", "GET", "/ipsec_policies", IPsecPolicyCollection.class);
+  static final Operation<IPsecPolicy> CREATE_IPSEC_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createIpsecPolicy", "POST", "/ipsec_policies", IPsecPolicy.class);
+  static final Operation<Void> DELETE_IPSEC_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteIpsecPolicy", "DELETE", "/ipsec_policies/{id}", Void.class);
+  static final Operation<IPsecPolicy> GET_IPSEC_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getIpsecPolicy", "GET", "/ipsec_policies/{id}", IPsecPolicy.class);
+  static final Operation<IPsecPolicy> UPDATE_IPSEC_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateIpsecPolicy", "PATCH", "/ipsec_policies/{id}", IPsecPolicy.class);
+  static final Operation<VPNGatewayConnectionCollection> LIST_IPSEC_POLICY_CONNECTIONS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listIpsecPolicyConnections", "GET", "/ipsec_policies/{id}/connections", VPNGatewayConnectionCollection.class);
+  static final Operation<VPNGatewayCollection> LIST_VPN_GATEWAYS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVpnGateways", "GET", "/vpn_gateways", VPNGatewayCollection.class);
+  static final Operation<VPNGateway> CREATE_VPN_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createVpnGateway", "POST", "/vpn_gateways", VPNGateway.class);
+  static final Operation<Void> DELETE_VPN_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteVpnGateway", "DELETE", "/vpn_gateways/{id}", Void.class);
+  static final Operation<VPNGateway> GET_VPN_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpnGateway", "GET", "/vpn_gateways/{id}", VPNGateway.class);
+  static final Operation<VPNGateway> UPDATE_VPN_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateVpnGateway", "PATCH", "/vpn_gateways/{id}", VPNGateway.class);
+  static final Operation<VPNGatewayConnectionCollection> LIST_VPN_GATEWAY_CONNECTIONS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVpnGatewayConnections", "GET", "/vpn_gateways/{vpn_gateway_id}/connections", VPNGatewayConnectionCollection.class);
+  static final Operation<VPNGatewayConnection> CREATE_VPN_GATEWAY_CONNECTION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createVpnGatewayConnection", "POST", "/vpn_gateways/{vpn_gateway_id}/connections", VPNGatewayConnection.class);
+  static final Operation<Void> DELETE_VPN_GATEWAY_CONNECTION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteVpnGatewayConnection", "DELETE", "/vpn_gateways/{vpn_gateway_id}/connections/{id}", Void.class);
+  static final Operation<VPNGatewayConnection> GET_VPN_GATEWAY_CONNECTION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getVpnGatewayConnection", "GET", "/vpn_gateways/{vpn_gateway_id}/connections/{id}", VPNGatewayConnection.class);
+  static final Operation<VPNGatewayConnection> UPDATE_VPN_GATEWAY_CONNECTION =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateVpnGatewayConnection", "PATCH", "/vpn_gateways/{vpn_gateway_id}/connections/{id}", VPNGatewayConnection.class);
+  static final Operation<VPNGatewayConnectionLocalCIDRs> LIST_VPN_GATEWAY_CONNECTION_LOCAL_CIDRS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVpnGatewayConnectionLocalCidrs", "GET", "/vpn_gateways/{vpn_gateway_id}/connections/{id}/local_cidrs", VPNGatewayConnectionLocalCIDRs.class);
+  static final Operation<Void> REMOVE_VPN_GATEWAY_CONNECTION_LOCAL_CIDR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "removeVpnGatewayConnectionLocalCidr", "DELETE", "/vpn_gateways/{vpn_gateway_id}/connections/{id}/local_cidrs/{cidr_prefix}/{prefix_length}", Void.class);
+  static final Operation<Void> CHECK_VPN_GATEWAY_CONNECTION_LOCAL_CIDR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "checkVpnGatewayConnectionLocalCidr", "GET", "/vpn_gateways/{vpn_gateway_id}/connections/{id}/local_cidrs/{cidr_prefix}/{prefix_length}", Void.class);
+  static final Operation<Void> ADD_VPN_GATEWAY_CONNECTION_LOCAL_CIDR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "addVpnGatewayConnectionLocalCidr", "PUT", "/vpn_gateways/{vpn_gateway_id}/connections/{id}/local_cidrs/{cidr_prefix}/{prefix_length}", Void.class);
+  static final Operation<VPNGatewayConnectionPeerCIDRs> LIST_VPN_GATEWAY_CONNECTION_PEER_CIDRS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listVpnGatewayConnectionPeerCidrs", "GET", "/vpn_gateways/{vpn_gateway_id}/connections/{id}/peer_cidrs", VPNGatewayConnectionPeerCIDRs.class);
+  static final Operation<Void> REMOVE_VPN_GATEWAY_CONNECTION_PEER_CIDR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "removeVpnGatewayConnectionPeerCidr", "DELETE", "/vpn_gateways/{vpn_gateway_id}/connections/{id}/peer_cidrs/{cidr_prefix}/{prefix_length}", Void.class);
+  static final Operation<Void> CHECK_VPN_GATEWAY_CONNECTION_PEER_CIDR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "checkVpnGatewayConnectionPeerCidr", "GET", "/vpn_gateways/{vpn_gateway_id}/connections/{id}/peer_cidrs/{cidr_prefix}/{prefix_length}", Void.class);
+  static final Operation<Void> ADD_VPN_GATEWAY_CONNECTION_PEER_CIDR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "addVpnGatewayConnectionPeerCidr", "PUT", "/vpn_gateways/{vpn_gateway_id}/connections/{id}/peer_cidrs/{cidr_prefix}/{prefix_length}", Void.class);
+  static final Operation<LoadBalancerProfileCollection> LIST_LOAD_BALANCER_PROFILES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listLoadBalancerProfiles", "GET", "/load_balancer/profiles", LoadBalancerProfileCollection.class);
+  static final Operation<LoadBalancerProfile> GET_LOAD_BALANCER_PROFILE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getLoadBalancerProfile", "GET", "/load_balancer/profiles/{name}", LoadBalancerProfile.class);
+  static final Operation<LoadBalancerCollection> LIST_LOAD_BALANCERS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listLoadBalancers", "GET", "/load_balancers", LoadBalancerCollection.class);
+  static final Operation<LoadBalancer> CREATE_LOAD_BALANCER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createLoadBalancer", "POST", "/load_balancers", LoadBalancer.class);
+  static final Operation<Void> DELETE_LOAD_BALANCER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteLoadBalancer", "DELETE", "/load_balancers/{id}", Void.class);
+  static final Operation<LoadBalancer> GET_LOAD_BALANCER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getLoadBalancer", "GET", "/load_balancers/{id}", LoadBalancer.class);
+  static final Operation<LoadBalancer> UPDATE_LOAD_BALANCER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateLoadBalancer", "PATCH", "/load_balancers/{id}", LoadBalancer.class);
+  static final Operation<LoadBalancerStatistics> GET_LOAD_BALANCER_STATISTICS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getLoadBalancerStatistics", "GET", "/load_balancers/{id}/statistics", LoadBalancerStatistics.class);
+  static final Operation<LoadBalancerListenerCollection> LIST_LOAD_BALANCER_LISTENERS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listLoadBalancerListeners", "GET", "/load_balancers/{load_balancer_id}/listeners", LoadBalancerListenerCollection.class);
+  static final Operation<LoadBalancerListener> CREATE_LOAD_BALANCER_LISTENER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createLoadBalancerListener", "POST", "/load_balancers/{load_balancer_id}/listeners", LoadBalancerListener.class);
+  static final Operation<Void> DELETE_LOAD_BALANCER_LISTENER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteLoadBalancerListener", "DELETE", "/load_balancers/{load_balancer_id}/listeners/{id}", Void.class);
+  static final Operation<LoadBalancerListener> GET_LOAD_BALANCER_LISTENER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getLoadBalancerListener", "GET", "/load_balancers/{load_balancer_id}/listeners/{id}", LoadBalancerListener.class);
+  static final Operation<LoadBalancerListener> UPDATE_LOAD_BALANCER_LISTENER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateLoadBalancerListener", "PATCH", "/load_balancers/{load_balancer_id}/listeners/{id}", LoadBalancerListener.class);
+  static final Operation<LoadBalancerListenerPolicyCollection> LIST_LOAD_BALANCER_LISTENER_POLICIES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listLoadBalancerListenerPolicies", "GET", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies", LoadBalancerListenerPolicyCollection.class);
+  static final Operation<LoadBalancerListenerPolicy> CREATE_LOAD_BALANCER_LISTENER_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createLoadBalancerListenerPolicy", "POST", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies", LoadBalancerListenerPolicy.class);
+  static final Operation<Void> DELETE_LOAD_BALANCER_LISTENER_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteLoadBalancerListenerPolicy", "DELETE", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{id}", Void.class);
+  static final Operation<LoadBalancerListenerPolicy> GET_LOAD_BALANCER_LISTENER_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getLoadBalancerListenerPolicy", "GET", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{id}", LoadBalancerListenerPolicy.class);
+  static final Operation<LoadBalancerListenerPolicy> UPDATE_LOAD_BALANCER_LISTENER_POLICY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateLoadBalancerListenerPolicy", "PATCH", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{id}", LoadBalancerListenerPolicy.class);
+  static final Operation<LoadBalancerListenerPolicyRuleCollection> LIST_LOAD_BALANCER_LISTENER_POLICY_RULES =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listLoadBalancerListenerPolicyRules", "GET", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules", LoadBalancerListenerPolicyRuleCollection.class);
+  static final Operation<LoadBalancerListenerPolicyRule> CREATE_LOAD_BALANCER_LISTENER_POLICY_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createLoadBalancerListenerPolicyRule", "POST", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules", LoadBalancerListenerPolicyRule.class);
+  static final Operation<Void> DELETE_LOAD_BALANCER_LISTENER_POLICY_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteLoadBalancerListenerPolicyRule", "DELETE", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules/{id}", Void.class);
+  static final Operation<LoadBalancerListenerPolicyRule> GET_LOAD_BALANCER_LISTENER_POLICY_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getLoadBalancerListenerPolicyRule", "GET", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules/{id}", LoadBalancerListenerPolicyRule.class);
+  static final Operation<LoadBalancerListenerPolicyRule> UPDATE_LOAD_BALANCER_LISTENER_POLICY_RULE =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateLoadBalancerListenerPolicyRule", "PATCH", "/load_balancers/{load_balancer_id}/listeners/{listener_id}/policies/{policy_id}/rules/{id}", LoadBalancerListenerPolicyRule.class);
+  static final Operation<LoadBalancerPoolCollection> LIST_LOAD_BALANCER_POOLS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listLoadBalancerPools", "GET", "/load_balancers/{load_balancer_id}/pools", LoadBalancerPoolCollection.class);
+  static final Operation<LoadBalancerPool> CREATE_LOAD_BALANCER_POOL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createLoadBalancerPool", "POST", "/load_balancers/{load_balancer_id}/pools", LoadBalancerPool.class);
+  static final Operation<Void> DELETE_LOAD_BALANCER_POOL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteLoadBalancerPool", "DELETE", "/load_balancers/{load_balancer_id}/pools/{id}", Void.class);
+  static final Operation<LoadBalancerPool> GET_LOAD_BALANCER_POOL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getLoadBalancerPool", "GET", "/load_balancers/{load_balancer_id}/pools/{id}", LoadBalancerPool.class);
+  static final Operation<LoadBalancerPool> UPDATE_LOAD_BALANCER_POOL =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateLoadBalancerPool", "PATCH", "/load_balancers/{load_balancer_id}/pools/{id}", LoadBalancerPool.class);
+  static final Operation<LoadBalancerPoolMemberCollection> LIST_LOAD_BALANCER_POOL_MEMBERS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listLoadBalancerPoolMembers", "GET", "/load_balancers/{load_balancer_id}/pools/{pool_id}/members", LoadBalancerPoolMemberCollection.class);
+  static final Operation<LoadBalancerPoolMember> CREATE_LOAD_BALANCER_POOL_MEMBER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createLoadBalancerPoolMember", "POST", "/load_balancers/{load_balancer_id}/pools/{pool_id}/members", LoadBalancerPoolMember.class);
+  static final Operation<LoadBalancerPoolMemberCollection> REPLACE_LOAD_BALANCER_POOL_MEMBERS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "replaceLoadBalancerPoolMembers", "PUT", "/load_balancers/{load_balancer_id}/pools/{pool_id}/members", LoadBalancerPoolMemberCollection.class);
+  static final Operation<Void> DELETE_LOAD_BALANCER_POOL_MEMBER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteLoadBalancerPoolMember", "DELETE", "/load_balancers/{load_balancer_id}/pools/{pool_id}/members/{id}", Void.class);
+  static final Operation<LoadBalancerPoolMember> GET_LOAD_BALANCER_POOL_MEMBER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getLoadBalancerPoolMember", "GET", "/load_balancers/{load_balancer_id}/pools/{pool_id}/members/{id}", LoadBalancerPoolMember.class);
+  static final Operation<LoadBalancerPoolMember> UPDATE_LOAD_BALANCER_POOL_MEMBER =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateLoadBalancerPoolMember", "PATCH", "/load_balancers/{load_balancer_id}/pools/{pool_id}/members/{id}", LoadBalancerPoolMember.class);
+  static final Operation<EndpointGatewayCollection> LIST_ENDPOINT_GATEWAYS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listEndpointGateways", "GET", "/endpoint_gateways", EndpointGatewayCollection.class);
+  static final Operation<EndpointGateway> CREATE_ENDPOINT_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createEndpointGateway", "POST", "/endpoint_gateways", EndpointGateway.class);
+  static final Operation<ReservedIPCollectionEndpointGatewayContext> LIST_ENDPOINT_GATEWAY_IPS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listEndpointGatewayIps", "GET", "/endpoint_gateways/{endpoint_gateway_id}/ips", ReservedIPCollectionEndpointGatewayContext.class);
+  static final Operation<Void> REMOVE_ENDPOINT_GATEWAY_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "removeEndpointGatewayIp", "DELETE", "/endpoint_gateways/{endpoint_gateway_id}/ips/{id}", Void.class);
+  static final Operation<ReservedIP> GET_ENDPOINT_GATEWAY_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getEndpointGatewayIp", "GET", "/endpoint_gateways/{endpoint_gateway_id}/ips/{id}", ReservedIP.class);
+  static final Operation<ReservedIP> ADD_ENDPOINT_GATEWAY_IP =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "addEndpointGatewayIp", "PUT", "/endpoint_gateways/{endpoint_gateway_id}/ips/{id}", ReservedIP.class);
+  static final Operation<Void> DELETE_ENDPOINT_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteEndpointGateway", "DELETE", "/endpoint_gateways/{id}", Void.class);
+  static final Operation<EndpointGateway> GET_ENDPOINT_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getEndpointGateway", "GET", "/endpoint_gateways/{id}", EndpointGateway.class);
+  static final Operation<EndpointGateway> UPDATE_ENDPOINT_GATEWAY =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateEndpointGateway", "PATCH", "/endpoint_gateways/{id}", EndpointGateway.class);
+  static final Operation<FlowLogCollectorCollection> LIST_FLOW_LOG_COLLECTORS =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "listFlowLogCollectors", "GET", "/flow_log_collectors", FlowLogCollectorCollection.class);
+  static final Operation<FlowLogCollector> CREATE_FLOW_LOG_COLLECTOR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "createFlowLogCollector", "POST", "/flow_log_collectors", FlowLogCollector.class);
+  static final Operation<Void> DELETE_FLOW_LOG_COLLECTOR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "deleteFlowLogCollector", "DELETE", "/flow_log_collectors/{id}", Void.class);
+  static final Operation<FlowLogCollector> GET_FLOW_LOG_COLLECTOR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "getFlowLogCollector", "GET", "/flow_log_collectors/{id}", FlowLogCollector.class);
+  static final Operation<FlowLogCollector> UPDATE_FLOW_LOG_COLLECTOR =
+    new Operation<>(SERVICE_NAME, SERVICE_VERSION, "updateFlowLogCollector", "PATCH", "/flow_log_collectors/{id}", FlowLogCollector.class);
+
+  private VpcOperations() {
+  }
+}
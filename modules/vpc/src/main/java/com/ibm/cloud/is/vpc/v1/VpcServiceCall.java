@@ -0,0 +1,72 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+import com.ibm.cloud.is.common.http.ConvertibleServiceCall;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.http.ServiceCallback;
+import io.reactivex.Single;
+import okhttp3.Request;
+
+/**
+ * The {@link ServiceCall} returned by the {@link Vpc} methods which can be re-issued with a different
+ * {@link ResponseConverter}.
+ *
+ * @param <T> the type of the response model
+ */
+final class VpcServiceCall<T> implements ConvertibleServiceCall<T> {
+
+  private final Vpc service;
+  private Request request;
+  private final ServiceCall<T> delegate;
+
+  VpcServiceCall(Vpc service, Request request, ResponseConverter<T> converter) {
+    this.service = service;
+    this.request = request;
+    this.delegate = service.newServiceCall(request, converter);
+  }
+
+  @Override
+  public ServiceCall<T> addHeader(String name, String value) {
+    request = request.newBuilder().header(name, value).build();
+    delegate.addHeader(name, value);
+    return this;
+  }
+
+  @Override
+  public Response<T> execute() throws RuntimeException {
+    return delegate.execute();
+  }
+
+  @Override
+  public void enqueue(ServiceCallback<T> callback) {
+    delegate.enqueue(callback);
+  }
+
+  @Override
+  public Single<Response<T>> reactiveRequest() {
+    return delegate.reactiveRequest();
+  }
+
+  @Override
+  public void cancel() {
+    delegate.cancel();
+  }
+
+  @Override
+  public <R> ServiceCall<R> withConverter(ResponseConverter<R> converter) {
+    return new VpcServiceCall<>(service, request, converter);
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+import com.ibm.cloud.is.common.waiters.WaitCoordinator;
+import com.ibm.cloud.is.common.waiters.WaiterFailureException;
+import com.ibm.cloud.is.common.waiters.WaiterTimeoutException;
+import com.ibm.cloud.is.vpc.v1.model.Instance;
+import com.ibm.cloud.is.vpc.v1.model.InstancesPager;
+import com.ibm.cloud.is.vpc.v1.model.ListInstancesOptions;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Waits for many instances at once by periodically listing the instances of a VPC or of a resource group, rather
+ * than polling each instance with "getInstance" (see {@link WaitCoordinator}).
+ * <p>
+ * When hundreds of instances are created in parallel, a {@link VpcWaiters} waiter per instance issues one request
+ * per instance and per poll. The waits of a {@link VpcWaitCoordinator} which share the same {@link InstanceScope}
+ * are served by a single "listInstances" scan per interval instead, i.e. one request per page of up to
+ * {@link #PAGE_LIMIT} instances. A scan stops requesting pages as soon as all the awaited instances have been found,
+ * except when it is also waiting for deletions.
+ * <p>
+ * Futures complete exceptionally with a {@link WaiterFailureException} when an instance reaches the "failed" state,
+ * with a {@link WaiterTimeoutException} when the timeout elapses, or with the exception of a scan which failed with a
+ * client error or repeatedly (see {@link WaitCoordinator}).
+ * Instances are thread-safe.
+ */
+public class VpcWaitCoordinator {
+
+  /**
+   * The number of instances requested per page of a scan (the maximum supported by "listInstances").
+   */
+  public static final long PAGE_LIMIT = 100;
+
+  /**
+   * The default interval between two scans, in seconds.
+   */
+  public static final long DEFAULT_INTERVAL_SECONDS = 5;
+
+  private final Vpc vpc;
+  private final long timeoutMillis;
+  private final WaitCoordinator<InstanceScope, Instance> instances;
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private Vpc vpc;
+    private long intervalMillis = TimeUnit.SECONDS.toMillis(DEFAULT_INTERVAL_SECONDS);
+    private long timeoutMillis = TimeUnit.MINUTES.toMillis(VpcWaiters.DEFAULT_TIMEOUT_MINUTES);
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Instantiates a new builder with required properties.
+     *
+     * @param vpc the {@link Vpc} instance used to list the resources
+     */
+    public Builder(Vpc vpc) {
+      this.vpc = vpc;
+    }
+
+    /**
+     * Builds a VpcWaitCoordinator.
+     *
+     * @return the new VpcWaitCoordinator instance
+     */
+    public VpcWaitCoordinator build() {
+      return new VpcWaitCoordinator(this);
+    }
+
+    /**
+     * Set the interval between two scans of a scope (defaults to
+     * {@link VpcWaitCoordinator#DEFAULT_INTERVAL_SECONDS} seconds).
+     *
+     * @param interval the interval
+     * @param unit the unit of the interval
+     * @return the VpcWaitCoordinator builder
+     */
+    public Builder interval(long interval, TimeUnit unit) {
+      Validator.notNull(unit, "unit cannot be null");
+      this.intervalMillis = unit.toMillis(interval);
+      return this;
+    }
+
+    /**
+     * Set the maximum duration of a wait (defaults to {@link VpcWaiters#DEFAULT_TIMEOUT_MINUTES} minutes).
+     *
+     * @param timeout the maximum duration
+     * @param unit the unit of the duration
+     * @return the VpcWaitCoordinator builder
+     */
+    public Builder timeout(long timeout, TimeUnit unit) {
+      Validator.notNull(unit, "unit cannot be null");
+      this.timeoutMillis = unit.toMillis(timeout);
+      return this;
+    }
+
+    /**
+     * Set the scheduler on which the scans run (defaults to a shared scheduler backed by a single daemon thread).
+     *
+     * @param scheduler the scheduler
+     * @return the VpcWaitCoordinator builder
+     */
+    public Builder scheduler(ScheduledExecutorService scheduler) {
+      this.scheduler = scheduler;
+      return this;
+    }
+  }
+
+  /**
+   * Constructs an instance of the VpcWaitCoordinator from its builder.
+   *
+   * @param builder the builder
+   */
+  protected VpcWaitCoordinator(Builder builder) {
+    Validator.notNull(builder.vpc, "vpc cannot be null");
+    Validator.isTrue(builder.timeoutMillis >= 0, "timeout must be at least 0");
+    this.vpc = builder.vpc;
+    this.timeoutMillis = builder.timeoutMillis;
+    WaitCoordinator.Builder<InstanceScope, Instance> instancesBuilder =
+      new WaitCoordinator.Builder<InstanceScope, Instance>(this::scanInstances, Instance::getId, Instance::getStatus)
+      .interval(builder.intervalMillis, TimeUnit.MILLISECONDS);
+    if (builder.scheduler != null) {
+      instancesBuilder.scheduler(builder.scheduler);
+    }
+    this.instances = instancesBuilder.build();
+  }
+
+  /**
+   * Returns the {@link Vpc} instance used to list the resources.
+   *
+   * @return the {@link Vpc} instance
+   */
+  public Vpc getVpc() {
+    return vpc;
+  }
+
+  /**
+   * Returns the coordinator of the instance waits, e.g. to wait for other states.
+   *
+   * @return the instance wait coordinator
+   */
+  public WaitCoordinator<InstanceScope, Instance> getInstanceCoordinator() {
+    return instances;
+  }
+
+  /**
+   * Waits until an instance is running.
+   *
+   * @param scope the VPC or resource group of the instance
+   * @param id the instance identifier
+   * @return a future which completes with the running instance
+   */
+  public CompletableFuture<Instance> waitUntilInstanceRunning(InstanceScope scope, String id) {
+    return instances.waitFor(scope, id, Collections.singleton(Instance.Status.RUNNING),
+      Collections.singleton(Instance.Status.FAILED), timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Waits until an instance is stopped.
+   *
+   * @param scope the VPC or resource group of the instance
+   * @param id the instance identifier
+   * @return a future which completes with the stopped instance
+   */
+  public CompletableFuture<Instance> waitUntilInstanceStopped(InstanceScope scope, String id) {
+    return instances.waitFor(scope, id, Collections.singleton(Instance.Status.STOPPED),
+      Collections.singleton(Instance.Status.FAILED), timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Waits until an instance has been deleted.
+   *
+   * @param scope the VPC or resource group of the instance
+   * @param id the instance identifier
+   * @return a future which completes with null once the instance has been deleted
+   */
+  public CompletableFuture<Instance> waitUntilInstanceDeleted(InstanceScope scope, String id) {
+    return instances.waitForDeletion(scope, id, Collections.singleton(Instance.Status.FAILED), timeoutMillis,
+      TimeUnit.MILLISECONDS);
+  }
+
+  private Stream<Instance> scanInstances(InstanceScope scope) {
+    ListInstancesOptions.Builder options = new ListInstancesOptions.Builder().limit(PAGE_LIMIT);
+    if (scope.vpcId != null) {
+      options.vpcId(scope.vpcId);
+    } else {
+      options.resourceGroupId(scope.resourceGroupId);
+    }
+    return new InstancesPager(vpc, options.build()).withStreaming().stream();
+  }
+
+  /**
+   * The set of instances listed by a scan: the instances of a VPC, or the instances of a resource group.
+   */
+  public static final class InstanceScope {
+    private final String vpcId;
+    private final String resourceGroupId;
+
+    private InstanceScope(String vpcId, String resourceGroupId) {
+      this.vpcId = vpcId;
+      this.resourceGroupId = resourceGroupId;
+    }
+
+    /**
+     * Returns the scope of the instances of a VPC.
+     *
+     * @param vpcId the VPC identifier
+     * @return the scope
+     */
+    public static InstanceScope vpc(String vpcId) {
+      Validator.notEmpty(vpcId, "vpcId cannot be empty");
+      return new InstanceScope(vpcId, null);
+    }
+
+    /**
+     * Returns the scope of the instances of a resource group.
+     *
+     * @param resourceGroupId the resource group identifier
+     * @return the scope
+     */
+    public static InstanceScope resourceGroup(String resourceGroupId) {
+      Validator.notEmpty(resourceGroupId, "resourceGroupId cannot be empty");
+      return new InstanceScope(null, resourceGroupId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof InstanceScope)) {
+        return false;
+      }
+      InstanceScope other = (InstanceScope) o;
+      return Objects.equals(vpcId, other.vpcId)
+        && Objects.equals(resourceGroupId, other.resourceGroupId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(vpcId, resourceGroupId);
+    }
+
+    @Override
+    public String toString() {
+      return vpcId != null ? "vpc.id=" + vpcId : "resource_group.id=" + resourceGroupId;
+    }
+  }
+}
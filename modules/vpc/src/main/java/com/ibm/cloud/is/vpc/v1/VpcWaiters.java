@@ -0,0 +1,326 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1;
+
+import com.ibm.cloud.is.common.waiters.Backoff;
+import com.ibm.cloud.is.common.waiters.Waiter;
+import com.ibm.cloud.is.common.waiters.WaiterClock;
+import com.ibm.cloud.is.common.waiters.WaiterFailureException;
+import com.ibm.cloud.is.common.waiters.WaiterTimeoutException;
+import com.ibm.cloud.is.vpc.v1.model.GetImageOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetInstanceOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetLoadBalancerOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVolumeOptions;
+import com.ibm.cloud.is.vpc.v1.model.GetVpnGatewayOptions;
+import com.ibm.cloud.is.vpc.v1.model.Image;
+import com.ibm.cloud.is.vpc.v1.model.Instance;
+import com.ibm.cloud.is.vpc.v1.model.LoadBalancer;
+import com.ibm.cloud.is.vpc.v1.model.VPNGateway;
+import com.ibm.cloud.is.vpc.v1.model.Volume;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Waits for VPC resources to reach a terminal state after they have been created, modified or deleted, by
+ * polling their status field with a jittered exponential backoff (see {@link Waiter}).
+ * <p>
+ * Each {@code waitUntil*} method polls the corresponding "get" operation until the status of the resource is the
+ * expected one, and throws a {@link WaiterFailureException} as soon as the resource reaches a state from which it
+ * cannot become ready (e.g. "failed"), or a {@link WaiterTimeoutException} once the timeout has elapsed. The
+ * {@code waitUntil*Deleted} methods poll until the resource is no longer found. {@link #waiter(Supplier, Function)}
+ * returns a preconfigured {@link Waiter.Builder} for the resources and states which are not covered here.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public class VpcWaiters {
+
+  /**
+   * The default maximum duration of a wait, in minutes.
+   */
+  public static final long DEFAULT_TIMEOUT_MINUTES = 30;
+
+  private final Vpc vpc;
+  private final Backoff backoff;
+  private final long timeoutMillis;
+  private final WaiterClock clock;
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private Vpc vpc;
+    private Backoff backoff = Backoff.DEFAULT;
+    private long timeoutMillis = TimeUnit.MINUTES.toMillis(DEFAULT_TIMEOUT_MINUTES);
+    private WaiterClock clock = WaiterClock.SYSTEM;
+
+    /**
+     * Instantiates a new builder with required properties.
+     *
+     * @param vpc the {@link Vpc} instance used to poll the resources
+     */
+    public Builder(Vpc vpc) {
+      this.vpc = vpc;
+    }
+
+    /**
+     * Builds a VpcWaiters.
+     *
+     * @return the new VpcWaiters instance
+     */
+    public VpcWaiters build() {
+      return new VpcWaiters(this);
+    }
+
+    /**
+     * Set the backoff policy (defaults to {@link Backoff#DEFAULT}).
+     *
+     * @param backoff the backoff policy
+     * @return the VpcWaiters builder
+     */
+    public Builder backoff(Backoff backoff) {
+      this.backoff = backoff;
+      return this;
+    }
+
+    /**
+     * Set the maximum duration of a wait (defaults to {@link VpcWaiters#DEFAULT_TIMEOUT_MINUTES} minutes).
+     *
+     * @param timeout the maximum duration
+     * @param unit the unit of the duration
+     * @return the VpcWaiters builder
+     */
+    public Builder timeout(long timeout, TimeUnit unit) {
+      Validator.notNull(unit, "unit cannot be null");
+      this.timeoutMillis = unit.toMillis(timeout);
+      return this;
+    }
+
+    /**
+     * Set the clock used to measure the timeout and to wait between polls (defaults to
+     * {@link WaiterClock#SYSTEM}).
+     *
+     * @param clock the clock
+     * @return the VpcWaiters builder
+     */
+    public Builder clock(WaiterClock clock) {
+      this.clock = clock;
+      return this;
+    }
+  }
+
+  /**
+   * Constructs an instance of the VpcWaiters from its builder.
+   *
+   * @param builder the builder
+   */
+  protected VpcWaiters(Builder builder) {
+    Validator.notNull(builder.vpc, "vpc cannot be null");
+    Validator.notNull(builder.backoff, "backoff cannot be null");
+    Validator.notNull(builder.clock, "clock cannot be null");
+    Validator.isTrue(builder.timeoutMillis >= 0, "timeout must be at least 0");
+    this.vpc = builder.vpc;
+    this.backoff = builder.backoff;
+    this.timeoutMillis = builder.timeoutMillis;
+    this.clock = builder.clock;
+  }
+
+  /**
+   * Returns the {@link Vpc} instance used to poll the resources.
+   *
+   * @return the {@link Vpc} instance
+   */
+  public Vpc getVpc() {
+    return vpc;
+  }
+
+  /**
+   * Returns a {@link Waiter.Builder} configured with the backoff policy, timeout and clock of this instance.
+   *
+   * @param <T> the type of the polled resource
+   * @param poll creates the call which retrieves the resource (a new call is created for each poll)
+   * @param status returns the status of the resource
+   * @return the Waiter builder
+   */
+  public <T> Waiter.Builder<T> waiter(Supplier<ServiceCall<T>> poll, Function<? super T, String> status) {
+    return new Waiter.Builder<T>(poll, status)
+      .backoff(backoff)
+      .timeout(timeoutMillis, TimeUnit.MILLISECONDS)
+      .clock(clock);
+  }
+
+  /**
+   * Waits until an instance is running.
+   *
+   * @param id the instance identifier
+   * @return the running instance
+   */
+  public Instance waitUntilInstanceRunning(String id) {
+    return instance(id)
+      .successStates(Instance.Status.RUNNING)
+      .failureStates(Instance.Status.FAILED)
+      .build().run();
+  }
+
+  /**
+   * Waits until an instance is stopped.
+   *
+   * @param id the instance identifier
+   * @return the stopped instance
+   */
+  public Instance waitUntilInstanceStopped(String id) {
+    return instance(id)
+      .successStates(Instance.Status.STOPPED)
+      .failureStates(Instance.Status.FAILED)
+      .build().run();
+  }
+
+  /**
+   * Waits until an instance has been deleted.
+   *
+   * @param id the instance identifier
+   */
+  public void waitUntilInstanceDeleted(String id) {
+    instance(id)
+      .failureStates(Instance.Status.FAILED)
+      .untilNotFound()
+      .build().run();
+  }
+
+  /**
+   * Waits until a volume is available.
+   *
+   * @param id the volume identifier
+   * @return the available volume
+   */
+  public Volume waitUntilVolumeAvailable(String id) {
+    return volume(id)
+      .successStates(Volume.Status.AVAILABLE)
+      .failureStates(Volume.Status.FAILED, Volume.Status.UNUSABLE)
+      .build().run();
+  }
+
+  /**
+   * Waits until a volume has been deleted.
+   *
+   * @param id the volume identifier
+   */
+  public void waitUntilVolumeDeleted(String id) {
+    volume(id)
+      .failureStates(Volume.Status.FAILED)
+      .untilNotFound()
+      .build().run();
+  }
+
+  /**
+   * Waits until the provisioning of a load balancer is complete.
+   *
+   * @param id the load balancer identifier
+   * @return the active load balancer
+   */
+  public LoadBalancer waitUntilLoadBalancerActive(String id) {
+    return loadBalancer(id)
+      .successStates(LoadBalancer.ProvisioningStatus.ACTIVE)
+      .failureStates(LoadBalancer.ProvisioningStatus.FAILED)
+      .build().run();
+  }
+
+  /**
+   * Waits until a load balancer has been deleted.
+   *
+   * @param id the load balancer identifier
+   */
+  public void waitUntilLoadBalancerDeleted(String id) {
+    loadBalancer(id)
+      .failureStates(LoadBalancer.ProvisioningStatus.FAILED)
+      .untilNotFound()
+      .build().run();
+  }
+
+  /**
+   * Waits until a VPN gateway is available.
+   *
+   * @param id the VPN gateway identifier
+   * @return the available VPN gateway
+   */
+  public VPNGateway waitUntilVpnGatewayAvailable(String id) {
+    return vpnGateway(id)
+      .successStates(VPNGateway.Status.AVAILABLE)
+      .failureStates(VPNGateway.Status.FAILED)
+      .build().run();
+  }
+
+  /**
+   * Waits until a VPN gateway has been deleted.
+   *
+   * @param id the VPN gateway identifier
+   */
+  public void waitUntilVpnGatewayDeleted(String id) {
+    vpnGateway(id)
+      .failureStates(VPNGateway.Status.FAILED)
+      .untilNotFound()
+      .build().run();
+  }
+
+  /**
+   * Waits until an image is available.
+   *
+   * @param id the image identifier
+   * @return the available image
+   */
+  public Image waitUntilImageAvailable(String id) {
+    return image(id)
+      .successStates(Image.Status.AVAILABLE)
+      .failureStates(Image.Status.FAILED, Image.Status.UNUSABLE, Image.Status.DELETING)
+      .build().run();
+  }
+
+  /**
+   * Waits until an image has been deleted.
+   *
+   * @param id the image identifier
+   */
+  public void waitUntilImageDeleted(String id) {
+    image(id)
+      .failureStates(Image.Status.FAILED)
+      .untilNotFound()
+      .build().run();
+  }
+
+  private Waiter.Builder<Instance> instance(String id) {
+    GetInstanceOptions options = new GetInstanceOptions.Builder(id).build();
+    return waiter(() -> vpc.getInstance(options), Instance::getStatus);
+  }
+
+  private Waiter.Builder<Volume> volume(String id) {
+    GetVolumeOptions options = new GetVolumeOptions.Builder(id).build();
+    return waiter(() -> vpc.getVolume(options), Volume::getStatus);
+  }
+
+  private Waiter.Builder<LoadBalancer> loadBalancer(String id) {
+    GetLoadBalancerOptions options = new GetLoadBalancerOptions.Builder(id).build();
+    return waiter(() -> vpc.getLoadBalancer(options), LoadBalancer::getProvisioningStatus);
+  }
+
+  private Waiter.Builder<VPNGateway> vpnGateway(String id) {
+    GetVpnGatewayOptions options = new GetVpnGatewayOptions.Builder(id).build();
+    return waiter(() -> vpc.getVpnGateway(options), VPNGateway::getStatus);
+  }
+
+  private Waiter.Builder<Image> image(String id) {
+    GetImageOptions options = new GetImageOptions.Builder(id).build();
+    return waiter(() -> vpc.getImage(options), Image::getStatus);
+  }
+}
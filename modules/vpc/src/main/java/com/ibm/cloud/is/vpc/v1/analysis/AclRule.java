@@ -0,0 +1,209 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.common.net.Ipv4Address;
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRule;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRuleItem;
+
+/**
+ * A network ACL rule, parsed from a {@link NetworkACLRuleItem} or {@link NetworkACLRule} model so that it can be
+ * matched against flows without parsing its CIDR blocks again.
+ * <p>
+ * A rule whose IP version is IPv6, or whose source or destination is an IPv6 CIDR block, does not match any flow,
+ * since flows are IPv4 flows. A TCP or UDP rule without port range matches all ports, and an ICMP rule without
+ * type (resp. code) matches all types (resp. codes).
+ */
+public final class AclRule {
+
+  private static final int MAX_PORT = 65535;
+  private static final int ANY = -1;
+
+  private final String id;
+  private final String name;
+  private final boolean allow;
+  private final Direction direction;
+  private final boolean ipv4;
+  private final Protocol protocol;
+  private final Ipv4Cidr source;
+  private final Ipv4Cidr destination;
+  private final int sourcePortMin;
+  private final int sourcePortMax;
+  private final int destinationPortMin;
+  private final int destinationPortMax;
+  private final int icmpType;
+  private final int icmpCode;
+
+  private AclRule(String id, String name, String action, String direction, String ipVersion, String protocol,
+      String source, String destination, Long sourcePortMin, Long sourcePortMax, Long destinationPortMin,
+      Long destinationPortMax, Long icmpType, Long icmpCode) {
+    this.id = id;
+    this.name = name;
+    if (NetworkACLRule.Action.ALLOW.equals(action)) {
+      this.allow = true;
+    } else if (NetworkACLRule.Action.DENY.equals(action)) {
+      this.allow = false;
+    } else {
+      throw new IllegalArgumentException("Unknown action: " + action);
+    }
+    this.direction = Direction.fromValue(direction);
+    this.protocol = protocol == null || "all".equals(protocol) ? null : Protocol.fromValue(protocol);
+    this.ipv4 = !NetworkACLRule.IpVersion.IPV6.equals(ipVersion) && !Ipv4Address.isIpv6(source)
+      && !Ipv4Address.isIpv6(destination);
+    this.source = ipv4 ? Ipv4Cidr.parse(source) : null;
+    this.destination = ipv4 ? Ipv4Cidr.parse(destination) : null;
+    this.sourcePortMin = sourcePortMin != null ? sourcePortMin.intValue() : 0;
+    this.sourcePortMax = sourcePortMax != null ? sourcePortMax.intValue() : MAX_PORT;
+    this.destinationPortMin = destinationPortMin != null ? destinationPortMin.intValue() : 0;
+    this.destinationPortMax = destinationPortMax != null ? destinationPortMax.intValue() : MAX_PORT;
+    this.icmpType = icmpType != null ? icmpType.intValue() : ANY;
+    this.icmpCode = icmpCode != null ? icmpCode.intValue() : ANY;
+  }
+
+  /**
+   * Parses a rule of a {@link com.ibm.cloud.is.vpc.v1.model.NetworkACL}.
+   *
+   * @param rule the rule
+   * @return the parsed rule
+   * @throws IllegalArgumentException if the rule has an unknown action, direction or protocol, or an invalid CIDR block
+   */
+  public static AclRule of(NetworkACLRuleItem rule) {
+    return new AclRule(rule.getId(), rule.getName(), rule.getAction(), rule.getDirection(), rule.getIpVersion(),
+      rule.getProtocol(), rule.getSource(), rule.getDestination(), rule.getSourcePortMin(), rule.getSourcePortMax(),
+      rule.getDestinationPortMin(), rule.getDestinationPortMax(), rule.getType(), rule.getCode());
+  }
+
+  /**
+   * Parses a rule returned by the "list network ACL rules" operation.
+   *
+   * @param rule the rule
+   * @return the parsed rule
+   * @throws IllegalArgumentException if the rule has an unknown action, direction or protocol, or an invalid CIDR block
+   */
+  public static AclRule of(NetworkACLRule rule) {
+    return new AclRule(rule.getId(), rule.getName(), rule.getAction(), rule.getDirection(), rule.getIpVersion(),
+      rule.getProtocol(), rule.getSource(), rule.getDestination(), rule.getSourcePortMin(), rule.getSourcePortMax(),
+      rule.getDestinationPortMin(), rule.getDestinationPortMax(), rule.getType(), rule.getCode());
+  }
+
+  /**
+   * Returns true if this rule applies to the specified flow in the specified direction.
+   *
+   * @param direction the direction of the flow
+   * @param flow the flow
+   * @return true if the rule matches the flow
+   */
+  public boolean matches(Direction direction, Flow flow) {
+    if (direction != this.direction || !ipv4 || protocol != null && protocol != flow.getProtocol()) {
+      return false;
+    }
+    if (!source.contains(flow.getSourceAddress()) || !destination.contains(flow.getDestinationAddress())) {
+      return false;
+    }
+    if (protocol == null) {
+      return true;
+    } else if (protocol.hasPorts()) {
+      return flow.getSourcePort() >= sourcePortMin && flow.getSourcePort() <= sourcePortMax
+        && flow.getDestinationPort() >= destinationPortMin && flow.getDestinationPort() <= destinationPortMax;
+    }
+    return (icmpType == ANY || icmpType == flow.getIcmpType()) && (icmpCode == ANY || icmpCode == flow.getIcmpCode());
+  }
+
+  /**
+   * Returns the unique identifier of the rule.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Returns the user-defined name of the rule.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns true if the rule allows the traffic it matches, false if it denies it.
+   *
+   * @return true for an "allow" rule
+   */
+  public boolean isAllow() {
+    return allow;
+  }
+
+  /**
+   * Returns the direction of the traffic to which the rule applies.
+   *
+   * @return the direction
+   */
+  public Direction getDirection() {
+    return direction;
+  }
+
+  /**
+   * Returns the protocol to which the rule applies.
+   *
+   * @return the protocol, or null if the rule applies to all protocols
+   */
+  public Protocol getProtocol() {
+    return protocol;
+  }
+
+  boolean isIpv4() {
+    return ipv4;
+  }
+
+  Ipv4Cidr getSource() {
+    return source;
+  }
+
+  Ipv4Cidr getDestination() {
+    return destination;
+  }
+
+  int getSourcePortMin() {
+    return sourcePortMin;
+  }
+
+  int getSourcePortMax() {
+    return sourcePortMax;
+  }
+
+  int getDestinationPortMin() {
+    return destinationPortMin;
+  }
+
+  int getDestinationPortMax() {
+    return destinationPortMax;
+  }
+
+  int getIcmpType() {
+    return icmpType;
+  }
+
+  int getIcmpCode() {
+    return icmpCode;
+  }
+
+  @Override
+  public String toString() {
+    return (name != null ? name : id) + " (" + (allow ? "allow" : "deny") + " " + direction.getValue() + " "
+      + (protocol != null ? protocol.getValue() : "all") + " " + source + " -> " + destination + ")";
+  }
+}
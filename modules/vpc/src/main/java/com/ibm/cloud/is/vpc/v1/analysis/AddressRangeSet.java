@@ -0,0 +1,76 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A set of IPv4 addresses, stored as the sorted, disjoint ranges of consecutive addresses it contains. Addresses are
+ * represented as unsigned values in a {@code long}, so that the ranges sort in address order.
+ * <p>
+ * Adding a range merges it with the ranges it overlaps or touches, and checking whether a range overlaps the set
+ * reads the single range which starts at or before its end, so both take logarithmic time in the number of ranges.
+ */
+final class AddressRangeSet {
+
+  // The first address of each range, mapped to its last address.
+  private final TreeMap<Long, Long> ranges = new TreeMap<>();
+
+  /**
+   * Adds the addresses of a range to the set.
+   *
+   * @param first the first address of the range
+   * @param last the last address of the range
+   */
+  void add(long first, long last) {
+    long start = first;
+    long end = last;
+    Map.Entry<Long, Long> before = ranges.floorEntry(first);
+    if (before != null && before.getValue() + 1 >= first) {
+      start = before.getKey();
+      end = Math.max(end, before.getValue());
+    }
+    Map.Entry<Long, Long> next = ranges.ceilingEntry(start);
+    while (next != null && next.getKey() <= end + 1) {
+      end = Math.max(end, next.getValue());
+      ranges.remove(next.getKey());
+      next = ranges.higherEntry(next.getKey());
+    }
+    ranges.put(start, end);
+  }
+
+  /**
+   * Returns the last address of the last range of the set which overlaps a range, i.e. the address after which a
+   * range starting within the specified range may be free.
+   *
+   * @param first the first address of the range
+   * @param last the last address of the range
+   * @return the last address of the overlapping range, or -1 if the set does not overlap the range
+   */
+  long overlapEnd(long first, long last) {
+    Map.Entry<Long, Long> entry = ranges.floorEntry(last);
+    return entry != null && entry.getValue() >= first ? entry.getValue() : -1;
+  }
+
+  /**
+   * Returns true if the set contains at least one address of a range.
+   *
+   * @param first the first address of the range
+   * @param last the last address of the range
+   * @return true if the set overlaps the range
+   */
+  boolean overlaps(long first, long last) {
+    return overlapEnd(first, last) >= 0;
+  }
+}
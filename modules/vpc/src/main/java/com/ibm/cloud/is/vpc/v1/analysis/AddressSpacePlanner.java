@@ -0,0 +1,394 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.common.net.Ipv4Address;
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+import com.ibm.cloud.is.vpc.v1.Vpc;
+import com.ibm.cloud.is.vpc.v1.model.AddressPrefix;
+import com.ibm.cloud.is.vpc.v1.model.ListSubnetReservedIpsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListSubnetsOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpcAddressPrefixesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ReservedIP;
+import com.ibm.cloud.is.vpc.v1.model.Subnet;
+import com.ibm.cloud.is.vpc.v1.model.SubnetReservedIpsPager;
+import com.ibm.cloud.is.vpc.v1.model.SubnetsPager;
+import com.ibm.cloud.is.vpc.v1.model.VpcAddressPrefixesPager;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Plans the allocation of IPv4 address space in a VPC from its address prefixes, subnets and reserved IPs, e.g. to
+ * choose the CIDR block of a new subnet before calling {@link Vpc#createSubnet}, without comparing CIDR strings.
+ * <p>
+ * The address prefixes and the subnets of the VPC are stored as sets of address ranges. A free block of a given
+ * size is found with an aligned first-fit search: a candidate block is checked against the range which
+ * ends last among those it overlaps, and when it is not free the search jumps past that range, so each step takes
+ * logarithmic time and skips at least one allocated range. The planner remembers where the last search of each
+ * zone and size stopped, so that successive allocations do not scan the same allocated space again. Since the CIDR
+ * block of a subnet must fall within a single address prefix, the prefixes of each zone are searched one at a time,
+ * even when they are adjacent.
+ * <p>
+ * The addresses of each subnet are stored in a bitmap, where the reserved IPs are marked as used, as well as the
+ * first four and the last address of the subnet, which are reserved by the service.
+ * <p>
+ * The blocks returned by the {@code allocate} methods are marked as used, so that successive allocations do not
+ * overlap; the {@code find} methods only look for free space. IPv6 address space is ignored. A planner is not
+ * thread-safe.
+ */
+public final class AddressSpacePlanner {
+
+  // The number of addresses at the start of each subnet which are reserved by the service.
+  private static final int RESERVED_HEAD = 4;
+
+  // For each zone, the first address of each address prefix, mapped to its last address; unlike the ranges of an
+  // AddressRangeSet, adjacent prefixes are not merged.
+  private final Map<String, TreeMap<Long, Long>> zonePrefixes;
+  private final AddressRangeSet prefixes;
+  private final AddressRangeSet subnets;
+  private final Map<String, Ipv4Cidr> subnetCidrs;
+  private final Map<String, BitSet> subnetAddresses;
+  // For each zone and prefix length, the address below which the zone has no free block of that length. Since
+  // subnets are only ever added, the hints of a zone remain valid until an address prefix is added to the zone.
+  private final Map<String, long[]> searchHints = new HashMap<>();
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private final List<AddressPrefix> addressPrefixes = new ArrayList<>();
+    private final Map<String, Subnet> subnets = new LinkedHashMap<>();
+    private final Map<String, List<ReservedIP>> reservedIps = new HashMap<>();
+
+    /**
+     * Instantiates a new builder.
+     */
+    public Builder() {
+    }
+
+    /**
+     * Builds an AddressSpacePlanner.
+     *
+     * @return the new AddressSpacePlanner instance
+     */
+    public AddressSpacePlanner build() {
+      return new AddressSpacePlanner(this);
+    }
+
+    /**
+     * Adds address prefixes, as returned by the "list VPC address prefixes" operation.
+     *
+     * @param addressPrefixes the address prefixes
+     * @return the AddressSpacePlanner builder
+     */
+    public Builder addAddressPrefixes(List<AddressPrefix> addressPrefixes) {
+      if (addressPrefixes == null) {
+        throw new IllegalArgumentException("addressPrefixes cannot be null");
+      }
+      this.addressPrefixes.addAll(addressPrefixes);
+      return this;
+    }
+
+    /**
+     * Adds subnets, as returned by the "list subnets" operation.
+     *
+     * @param subnets the subnets
+     * @return the AddressSpacePlanner builder
+     */
+    public Builder addSubnets(List<Subnet> subnets) {
+      if (subnets == null) {
+        throw new IllegalArgumentException("subnets cannot be null");
+      }
+      for (Subnet subnet : subnets) {
+        if (subnet.getId() == null) {
+          throw new IllegalArgumentException("The id of a subnet cannot be null");
+        }
+        this.subnets.put(subnet.getId(), subnet);
+      }
+      return this;
+    }
+
+    /**
+     * Adds the reserved IPs of a subnet, as returned by the "list subnet reserved IPs" operation.
+     *
+     * @param subnetId the id of the subnet
+     * @param reservedIps the reserved IPs of the subnet
+     * @return the AddressSpacePlanner builder
+     */
+    public Builder addReservedIps(String subnetId, List<ReservedIP> reservedIps) {
+      if (subnetId == null || reservedIps == null) {
+        throw new IllegalArgumentException("subnetId and reservedIps cannot be null");
+      }
+      this.reservedIps.computeIfAbsent(subnetId, id -> new ArrayList<>()).addAll(reservedIps);
+      return this;
+    }
+  }
+
+  /**
+   * Loads the address prefixes and subnets of a VPC, and the reserved IPs of each subnet with one "list subnet
+   * reserved IPs" operation per subnet.
+   *
+   * @param vpc the {@link Vpc} instance
+   * @param vpcId the id of the VPC
+   * @return the planner
+   */
+  public static AddressSpacePlanner load(Vpc vpc, String vpcId) {
+    Builder builder = new Builder();
+    ListVpcAddressPrefixesOptions prefixesOptions = new ListVpcAddressPrefixesOptions.Builder(vpcId).build();
+    builder.addAddressPrefixes(new VpcAddressPrefixesPager(vpc, prefixesOptions).getAll());
+    // The "list subnets" operation cannot be filtered by VPC.
+    List<Subnet> subnets = new ArrayList<>();
+    for (Subnet subnet : new SubnetsPager(vpc, new ListSubnetsOptions.Builder().build())) {
+      if (subnet.getVpc() != null && vpcId.equals(subnet.getVpc().getId())) {
+        subnets.add(subnet);
+      }
+    }
+    builder.addSubnets(subnets);
+    for (Subnet subnet : subnets) {
+      ListSubnetReservedIpsOptions reservedIpsOptions = new ListSubnetReservedIpsOptions.Builder(subnet.getId())
+        .build();
+      builder.addReservedIps(subnet.getId(), new SubnetReservedIpsPager(vpc, reservedIpsOptions).getAll());
+    }
+    return builder.build();
+  }
+
+  private AddressSpacePlanner(Builder builder) {
+    zonePrefixes = new HashMap<>();
+    prefixes = new AddressRangeSet();
+    for (AddressPrefix addressPrefix : builder.addressPrefixes) {
+      Ipv4Cidr cidr = addressPrefix.getIpv4Cidr();
+      if (cidr != null && addressPrefix.getZone() != null) {
+        addPrefix(addressPrefix.getZone().getName(), cidr);
+      }
+    }
+    subnets = new AddressRangeSet();
+    subnetCidrs = new HashMap<>();
+    subnetAddresses = new HashMap<>();
+    for (Subnet subnet : builder.subnets.values()) {
+      Ipv4Cidr cidr = Ipv4Cidr.parseOrNull(subnet.getIpv4CidrBlock());
+      if (cidr != null) {
+        addSubnet(subnet.getId(), cidr);
+      }
+    }
+    for (Map.Entry<String, List<ReservedIP>> entry : builder.reservedIps.entrySet()) {
+      Ipv4Cidr cidr = subnetCidrs.get(entry.getKey());
+      if (cidr == null) {
+        continue;
+      }
+      BitSet used = subnetAddresses.get(entry.getKey());
+      for (ReservedIP reservedIp : entry.getValue()) {
+        Ipv4Address address = reservedIp.getIpv4Address();
+        if (address != null && cidr.contains(address)) {
+          used.set(address.toInt() - cidr.getAddress());
+        }
+      }
+    }
+  }
+
+  private void addPrefix(String zone, Ipv4Cidr cidr) {
+    long first = unsigned(cidr.getAddress());
+    long last = unsigned(cidr.getLastAddress());
+    zonePrefixes.computeIfAbsent(zone, z -> new TreeMap<>()).merge(first, last, (a, b) -> Math.max(a, b));
+    prefixes.add(first, last);
+    searchHints.remove(zone);
+  }
+
+  private void addSubnet(String subnetId, Ipv4Cidr cidr) {
+    subnets.add(unsigned(cidr.getAddress()), unsigned(cidr.getLastAddress()));
+    // Subnets larger than a /8 do not exist, and would need a bitmap of more than 2 MB.
+    if (subnetId != null && cidr.getLength() >= 8) {
+      int size = (int) cidr.getSize();
+      BitSet used = new BitSet(size);
+      used.set(0, Math.min(RESERVED_HEAD, size));
+      used.set(size - 1);
+      subnetCidrs.put(subnetId, cidr);
+      subnetAddresses.put(subnetId, used);
+    }
+  }
+
+  private static long unsigned(int address) {
+    return address & 0xffffffffL;
+  }
+
+  private static void checkLength(int length) {
+    if (length < 0 || length > 32) {
+      throw new IllegalArgumentException("Invalid IPv4 prefix length: " + length);
+    }
+  }
+
+  /**
+   * Returns the first aligned block with the specified prefix length within [low, high] which overlaps neither of
+   * the used sets (the second one may be null), or -1.
+   */
+  private static long findFree(long low, long high, int length, AddressRangeSet used, AddressRangeSet otherUsed) {
+    long size = 1L << (32 - length);
+    long candidate = (low + size - 1) & -size;
+    while (candidate + size - 1 <= high) {
+      long last = candidate + size - 1;
+      long end = used.overlapEnd(candidate, last);
+      if (otherUsed != null) {
+        end = Math.max(end, otherUsed.overlapEnd(candidate, last));
+      }
+      if (end < 0) {
+        return candidate;
+      }
+      candidate = (end + size) & -size;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the names of the zones which have at least one IPv4 address prefix.
+   *
+   * @return the zone names
+   */
+  public Set<String> getZones() {
+    return Collections.unmodifiableSet(zonePrefixes.keySet());
+  }
+
+  /**
+   * Returns true if a CIDR block overlaps an existing subnet (of any zone) of the VPC.
+   *
+   * @param cidr the CIDR block
+   * @return true if the block overlaps a subnet
+   */
+  public boolean overlapsSubnet(Ipv4Cidr cidr) {
+    return subnets.overlaps(unsigned(cidr.getAddress()), unsigned(cidr.getLastAddress()));
+  }
+
+  /**
+   * Returns the first free CIDR block with the specified prefix length within the address prefixes of a zone,
+   * i.e. the first block which does not overlap an existing subnet.
+   *
+   * @param zone the name of the zone
+   * @param length the prefix length of the block (e.g. 24)
+   * @return the CIDR block, or null if the address prefixes of the zone have no free block of that size
+   */
+  public Ipv4Cidr findSubnetCidr(String zone, int length) {
+    checkLength(length);
+    TreeMap<Long, Long> space = zonePrefixes.get(zone);
+    if (space == null) {
+      return null;
+    }
+    long[] hints = searchHints.computeIfAbsent(zone, z -> new long[33]);
+    for (Map.Entry<Long, Long> range : space.entrySet()) {
+      long low = Math.max(range.getKey(), hints[length]);
+      long block = low <= range.getValue() ? findFree(low, range.getValue(), length, subnets, null) : -1;
+      if (block >= 0) {
+        hints[length] = block;
+        return Ipv4Cidr.of((int) block, length);
+      }
+      hints[length] = Math.max(hints[length], range.getValue() + 1);
+    }
+    return null;
+  }
+
+  /**
+   * Finds a free CIDR block for a new subnet as {@link #findSubnetCidr(String, int)} does, and marks it as used.
+   *
+   * @param zone the name of the zone
+   * @param length the prefix length of the block (e.g. 24)
+   * @return the CIDR block, or null if the address prefixes of the zone have no free block of that size
+   */
+  public Ipv4Cidr allocateSubnetCidr(String zone, int length) {
+    Ipv4Cidr cidr = findSubnetCidr(zone, length);
+    if (cidr != null) {
+      addSubnet(null, cidr);
+    }
+    return cidr;
+  }
+
+  /**
+   * Returns the first CIDR block with the specified prefix length within a range (e.g. "10.0.0.0/8") which overlaps
+   * neither an existing address prefix (of any zone) nor an existing subnet.
+   *
+   * @param within the range to allocate from
+   * @param length the prefix length of the block (e.g. 18)
+   * @return the CIDR block, or null if the range has no free block of that size
+   */
+  public Ipv4Cidr findAddressPrefixCidr(Ipv4Cidr within, int length) {
+    checkLength(length);
+    if (within == null) {
+      throw new IllegalArgumentException("within cannot be null");
+    }
+    long block = findFree(unsigned(within.getAddress()), unsigned(within.getLastAddress()), length, prefixes, subnets);
+    return block >= 0 ? Ipv4Cidr.of((int) block, length) : null;
+  }
+
+  /**
+   * Finds a free CIDR block for a new address prefix as {@link #findAddressPrefixCidr(Ipv4Cidr, int)} does, and
+   * adds it to the address prefixes of a zone.
+   *
+   * @param zone the name of the zone of the new address prefix
+   * @param within the range to allocate from
+   * @param length the prefix length of the block (e.g. 18)
+   * @return the CIDR block, or null if the range has no free block of that size
+   */
+  public Ipv4Cidr allocateAddressPrefixCidr(String zone, Ipv4Cidr within, int length) {
+    if (zone == null) {
+      throw new IllegalArgumentException("zone cannot be null");
+    }
+    Ipv4Cidr cidr = findAddressPrefixCidr(within, length);
+    if (cidr != null) {
+      addPrefix(zone, cidr);
+    }
+    return cidr;
+  }
+
+  /**
+   * Returns the number of addresses of a subnet which are neither reserved nor allocated.
+   *
+   * @param subnetId the id of the subnet
+   * @return the number of free addresses, or 0 if the subnet is not known
+   */
+  public int getFreeAddressCount(String subnetId) {
+    Ipv4Cidr cidr = subnetCidrs.get(subnetId);
+    return cidr != null ? (int) cidr.getSize() - subnetAddresses.get(subnetId).cardinality() : 0;
+  }
+
+  /**
+   * Returns the first address of a subnet which is neither reserved nor allocated.
+   *
+   * @param subnetId the id of the subnet
+   * @return the address, or null if the subnet is not known or has no free address
+   */
+  public Ipv4Address findAddress(String subnetId) {
+    Ipv4Cidr cidr = subnetCidrs.get(subnetId);
+    if (cidr == null) {
+      return null;
+    }
+    int offset = subnetAddresses.get(subnetId).nextClearBit(0);
+    return offset < cidr.getSize() ? Ipv4Address.of(cidr.getAddress() + offset) : null;
+  }
+
+  /**
+   * Finds a free address of a subnet as {@link #findAddress(String)} does, and marks it as used.
+   *
+   * @param subnetId the id of the subnet
+   * @return the address, or null if the subnet is not known or has no free address
+   */
+  public Ipv4Address allocateAddress(String subnetId) {
+    Ipv4Address address = findAddress(subnetId);
+    if (address != null) {
+      subnetAddresses.get(subnetId).set(address.toInt() - subnetCidrs.get(subnetId).getAddress());
+    }
+    return address;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+/**
+ * The direction of the traffic to which a rule applies, relative to the resource protected by the rule.
+ */
+public enum Direction {
+  /** Traffic received by the resource. */
+  INBOUND("inbound"),
+  /** Traffic sent by the resource. */
+  OUTBOUND("outbound");
+
+  private final String value;
+
+  Direction(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns the value of the direction in the API (e.g. "inbound").
+   *
+   * @return the value of the direction
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the direction with the specified value in the API.
+   *
+   * @param value the value of the direction (e.g. "inbound")
+   * @return the direction
+   * @throws IllegalArgumentException if the value is not a known direction
+   */
+  public static Direction fromValue(String value) {
+    for (Direction direction : values()) {
+      if (direction.value.equals(value)) {
+        return direction;
+      }
+    }
+    throw new IllegalArgumentException("Unknown direction: " + value);
+  }
+}
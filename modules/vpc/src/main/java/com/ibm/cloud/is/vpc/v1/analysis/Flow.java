@@ -0,0 +1,196 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.common.net.Ipv4Address;
+
+/**
+ * A flow of IPv4 traffic: the protocol, the source and destination addresses, and either the source and destination
+ * ports (TCP and UDP) or the ICMP type and code. Flows are immutable; addresses are represented as {@code int} values
+ * so that synthetic flows can be generated without parsing.
+ */
+public final class Flow {
+
+  private final Protocol protocol;
+  private final int sourceAddress;
+  private final int destinationAddress;
+  private final int sourcePort;
+  private final int destinationPort;
+  private final int icmpType;
+  private final int icmpCode;
+
+  private Flow(Protocol protocol, int sourceAddress, int destinationAddress, int sourcePort, int destinationPort,
+      int icmpType, int icmpCode) {
+    this.protocol = protocol;
+    this.sourceAddress = sourceAddress;
+    this.destinationAddress = destinationAddress;
+    this.sourcePort = sourcePort;
+    this.destinationPort = destinationPort;
+    this.icmpType = icmpType;
+    this.icmpCode = icmpCode;
+  }
+
+  /**
+   * Creates a TCP flow.
+   *
+   * @param source the source address (e.g. "10.0.0.1")
+   * @param sourcePort the source port
+   * @param destination the destination address
+   * @param destinationPort the destination port
+   * @return the flow
+   */
+  public static Flow tcp(String source, int sourcePort, String destination, int destinationPort) {
+    return of(Protocol.TCP, Ipv4Address.parseInt(source), sourcePort, Ipv4Address.parseInt(destination),
+      destinationPort);
+  }
+
+  /**
+   * Creates a UDP flow.
+   *
+   * @param source the source address (e.g. "10.0.0.1")
+   * @param sourcePort the source port
+   * @param destination the destination address
+   * @param destinationPort the destination port
+   * @return the flow
+   */
+  public static Flow udp(String source, int sourcePort, String destination, int destinationPort) {
+    return of(Protocol.UDP, Ipv4Address.parseInt(source), sourcePort, Ipv4Address.parseInt(destination),
+      destinationPort);
+  }
+
+  /**
+   * Creates an ICMP flow.
+   *
+   * @param source the source address (e.g. "10.0.0.1")
+   * @param destination the destination address
+   * @param type the ICMP type
+   * @param code the ICMP code
+   * @return the flow
+   */
+  public static Flow icmp(String source, String destination, int type, int code) {
+    return icmp(Ipv4Address.parseInt(source), Ipv4Address.parseInt(destination), type, code);
+  }
+
+  /**
+   * Creates a TCP or UDP flow from addresses represented as {@code int} values.
+   *
+   * @param protocol the protocol (TCP or UDP)
+   * @param sourceAddress the source address
+   * @param sourcePort the source port
+   * @param destinationAddress the destination address
+   * @param destinationPort the destination port
+   * @return the flow
+   */
+  public static Flow of(Protocol protocol, int sourceAddress, int sourcePort, int destinationAddress,
+      int destinationPort) {
+    if (protocol == null || !protocol.hasPorts()) {
+      throw new IllegalArgumentException("protocol must be TCP or UDP");
+    }
+    checkRange(sourcePort, 65535, "sourcePort");
+    checkRange(destinationPort, 65535, "destinationPort");
+    return new Flow(protocol, sourceAddress, destinationAddress, sourcePort, destinationPort, 0, 0);
+  }
+
+  /**
+   * Creates an ICMP flow from addresses represented as {@code int} values.
+   *
+   * @param sourceAddress the source address
+   * @param destinationAddress the destination address
+   * @param type the ICMP type
+   * @param code the ICMP code
+   * @return the flow
+   */
+  public static Flow icmp(int sourceAddress, int destinationAddress, int type, int code) {
+    checkRange(type, 255, "type");
+    checkRange(code, 255, "code");
+    return new Flow(Protocol.ICMP, sourceAddress, destinationAddress, 0, 0, type, code);
+  }
+
+  private static void checkRange(int value, int max, String name) {
+    if (value < 0 || value > max) {
+      throw new IllegalArgumentException(name + " must be between 0 and " + max);
+    }
+  }
+
+  /**
+   * Returns the protocol of the flow.
+   *
+   * @return the protocol
+   */
+  public Protocol getProtocol() {
+    return protocol;
+  }
+
+  /**
+   * Returns the source address of the flow.
+   *
+   * @return the source address as an int
+   */
+  public int getSourceAddress() {
+    return sourceAddress;
+  }
+
+  /**
+   * Returns the destination address of the flow.
+   *
+   * @return the destination address as an int
+   */
+  public int getDestinationAddress() {
+    return destinationAddress;
+  }
+
+  /**
+   * Returns the source port of a TCP or UDP flow (0 for an ICMP flow).
+   *
+   * @return the source port
+   */
+  public int getSourcePort() {
+    return sourcePort;
+  }
+
+  /**
+   * Returns the destination port of a TCP or UDP flow (0 for an ICMP flow).
+   *
+   * @return the destination port
+   */
+  public int getDestinationPort() {
+    return destinationPort;
+  }
+
+  /**
+   * Returns the ICMP type of an ICMP flow (0 for a TCP or UDP flow).
+   *
+   * @return the ICMP type
+   */
+  public int getIcmpType() {
+    return icmpType;
+  }
+
+  /**
+   * Returns the ICMP code of an ICMP flow (0 for a TCP or UDP flow).
+   *
+   * @return the ICMP code
+   */
+  public int getIcmpCode() {
+    return icmpCode;
+  }
+
+  @Override
+  public String toString() {
+    String source = Ipv4Address.format(sourceAddress);
+    String destination = Ipv4Address.format(destinationAddress);
+    return protocol.hasPorts()
+      ? protocol.getValue() + " " + source + ":" + sourcePort + " -> " + destination + ":" + destinationPort
+      : protocol.getValue() + " " + source + " -> " + destination + " type " + icmpType + " code " + icmpCode;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An index of integer ranges (e.g. port ranges), which maps a value to the set of rules whose range contains it.
+ * <p>
+ * The domain is split into the elementary intervals delimited by the bounds of all the ranges, and each interval
+ * stores, as a bit set over the rule indexes, the rules whose range covers it. A lookup reads the interval of the
+ * value from a table with one entry per value of the domain, so the domain must be small (e.g. the port numbers).
+ */
+final class IntervalIndex {
+
+  private final char[] intervals;
+  private final long[][] bits;
+
+  private IntervalIndex(char[] intervals, long[][] bits) {
+    this.intervals = intervals;
+    this.bits = bits;
+  }
+
+  /**
+   * Returns the rules whose range contains the specified value. The returned array must not be modified.
+   *
+   * @param value the value, within the domain of the index
+   * @return the bit set of the rule indexes
+   */
+  long[] lookup(int value) {
+    return bits[intervals[value]];
+  }
+
+  /**
+   * Builds an {@link IntervalIndex}.
+   */
+  static final class Builder {
+    private final int domainMax;
+    private final List<int[]> ranges = new ArrayList<>();
+
+    /**
+     * Creates a builder for an index over the domain [0, domainMax].
+     *
+     * @param domainMax the largest value of the domain
+     */
+    Builder(int domainMax) {
+      this.domainMax = domainMax;
+    }
+
+    /**
+     * Adds the range of a rule.
+     *
+     * @param min the smallest value of the range
+     * @param max the largest value of the range
+     * @param rule the index of the rule
+     * @return this builder
+     */
+    Builder add(int min, int max, int rule) {
+      ranges.add(new int[] {Math.max(min, 0), Math.min(max, domainMax), rule});
+      return this;
+    }
+
+    /**
+     * Adds a range which covers the whole domain.
+     *
+     * @param rule the index of the rule
+     * @return this builder
+     */
+    Builder addAll(int rule) {
+      return add(0, domainMax, rule);
+    }
+
+    IntervalIndex build(int words) {
+      int[] bounds = new int[ranges.size() * 2 + 1];
+      int count = 0;
+      bounds[count++] = 0;
+      for (int[] range : ranges) {
+        bounds[count++] = range[0];
+        if (range[1] < domainMax) {
+          bounds[count++] = range[1] + 1;
+        }
+      }
+      Arrays.sort(bounds, 0, count);
+      int distinct = 0;
+      for (int i = 0; i < count; i++) {
+        if (distinct == 0 || bounds[i] != bounds[distinct - 1]) {
+          bounds[distinct++] = bounds[i];
+        }
+      }
+      int[] starts = Arrays.copyOf(bounds, distinct);
+      long[][] bits = new long[distinct][words];
+      for (int[] range : ranges) {
+        if (range[0] > range[1]) {
+          continue;
+        }
+        int rule = range[2];
+        for (int i = Arrays.binarySearch(starts, range[0]); i < distinct && starts[i] <= range[1]; i++) {
+          bits[i][rule >>> 6] |= 1L << rule;
+        }
+      }
+      char[] intervals = new char[domainMax + 1];
+      for (int i = 0; i < distinct; i++) {
+        int end = i + 1 < distinct ? Math.min(starts[i + 1], domainMax + 1) : domainMax + 1;
+        Arrays.fill(intervals, Math.min(starts[i], end), end, (char) i);
+      }
+      return new IntervalIndex(intervals, bits);
+    }
+  }
+}
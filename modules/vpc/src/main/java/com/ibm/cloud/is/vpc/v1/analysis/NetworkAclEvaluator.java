@@ -0,0 +1,264 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.vpc.v1.model.NetworkACL;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRule;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRuleItem;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRuleReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Evaluates flows against the rules of a network ACL locally.
+ * <p>
+ * The rules of a network ACL are evaluated in order, separately for each direction, and the first rule which matches
+ * a flow decides whether it is allowed or denied; a flow which matches no rule is denied. The rules are compiled into
+ * one index per direction, made of a CIDR trie for the source and destination addresses, and an interval index for
+ * the source and destination ports and the ICMP type and code. Each index maps a value of a flow to the bit set of
+ * the rules which match it, and the first matching rule is the lowest bit of the intersection of these sets, so the
+ * cost of an evaluation depends on the number of distinct CIDR blocks and ranges rather than on the position of the
+ * matching rule. The linear evaluation of the rules, {@link AclRule#matches(Direction, Flow)} applied to each rule of
+ * {@link #getRules()} in order, gives the same result.
+ * <p>
+ * An evaluator is immutable and can be used concurrently; an evaluation does not allocate memory.
+ */
+public final class NetworkAclEvaluator {
+
+  private static final int MAX_PORT = 65535;
+  private static final int MAX_ICMP_VALUE = 255;
+
+  private final List<AclRule> rules;
+  private final Index inbound;
+  private final Index outbound;
+
+  /**
+   * Compiles the specified rules, in evaluation order.
+   *
+   * @param rules the rules, in the order in which they are evaluated
+   */
+  public NetworkAclEvaluator(List<AclRule> rules) {
+    if (rules == null) {
+      throw new IllegalArgumentException("rules cannot be null");
+    }
+    this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+    this.inbound = new Index(this.rules, Direction.INBOUND);
+    this.outbound = new Index(this.rules, Direction.OUTBOUND);
+  }
+
+  /**
+   * Compiles the rules of a network ACL. The rules are ordered by following their "before" references; rules which
+   * are not part of the chain keep their relative order and are evaluated last.
+   *
+   * @param networkAcl the network ACL
+   * @return the evaluator
+   * @throws IllegalArgumentException if a rule cannot be parsed
+   */
+  public static NetworkAclEvaluator of(NetworkACL networkAcl) {
+    if (networkAcl == null) {
+      throw new IllegalArgumentException("networkAcl cannot be null");
+    }
+    List<NetworkACLRuleItem> items = networkAcl.getRules() != null
+      ? networkAcl.getRules() : Collections.<NetworkACLRuleItem>emptyList();
+    List<AclRule> rules = new ArrayList<>();
+    for (NetworkACLRuleItem item : order(items, r -> r.getId(), r -> r.getBefore())) {
+      rules.add(AclRule.of(item));
+    }
+    return new NetworkAclEvaluator(rules);
+  }
+
+  /**
+   * Compiles the rules returned by the "list network ACL rules" operation (e.g. with a
+   * {@link com.ibm.cloud.is.vpc.v1.model.NetworkAclRulesPager}). The rules are ordered by following their "before"
+   * references, so they may be specified in any order.
+   *
+   * @param networkAclRules the rules of a network ACL
+   * @return the evaluator
+   * @throws IllegalArgumentException if a rule cannot be parsed
+   */
+  public static NetworkAclEvaluator ofRules(List<NetworkACLRule> networkAclRules) {
+    if (networkAclRules == null) {
+      throw new IllegalArgumentException("networkAclRules cannot be null");
+    }
+    List<AclRule> rules = new ArrayList<>();
+    for (NetworkACLRule rule : order(networkAclRules, r -> r.getId(), r -> r.getBefore())) {
+      rules.add(AclRule.of(rule));
+    }
+    return new NetworkAclEvaluator(rules);
+  }
+
+  /**
+   * Orders rules by following their "before" references: each rule is evaluated immediately before the rule it
+   * references, and the last rule references none.
+   */
+  static <R> List<R> order(List<R> rules, Function<R, String> id, Function<R, NetworkACLRuleReference> before) {
+    Map<String, R> byId = new HashMap<>();
+    Set<String> referenced = new HashSet<>();
+    for (R rule : rules) {
+      byId.put(id.apply(rule), rule);
+      NetworkACLRuleReference next = before.apply(rule);
+      if (next != null && next.getId() != null) {
+        referenced.add(next.getId());
+      }
+    }
+    List<R> ordered = new ArrayList<>(rules.size());
+    Set<R> visited = Collections.newSetFromMap(new IdentityHashMap<R, Boolean>());
+    // Follow the chains from their heads first, then append the rules which are part of a cycle.
+    for (int pass = 0; pass < 2; pass++) {
+      for (R head : rules) {
+        if (pass == 0 && referenced.contains(id.apply(head))) {
+          continue;
+        }
+        R rule = head;
+        while (rule != null && visited.add(rule)) {
+          ordered.add(rule);
+          NetworkACLRuleReference next = before.apply(rule);
+          rule = next != null ? byId.get(next.getId()) : null;
+        }
+      }
+    }
+    return ordered;
+  }
+
+  /**
+   * Returns the rules, in evaluation order.
+   *
+   * @return the rules
+   */
+  public List<AclRule> getRules() {
+    return rules;
+  }
+
+  /**
+   * Returns the first rule which matches the specified flow in the specified direction.
+   *
+   * @param direction the direction of the flow
+   * @param flow the flow
+   * @return the first matching rule, or null if no rule matches (and the flow is denied)
+   */
+  public AclRule evaluate(Direction direction, Flow flow) {
+    if (direction == null || flow == null) {
+      throw new IllegalArgumentException("direction and flow cannot be null");
+    }
+    return (direction == Direction.INBOUND ? inbound : outbound).evaluate(flow);
+  }
+
+  /**
+   * Returns true if the specified flow is allowed in the specified direction.
+   *
+   * @param direction the direction of the flow
+   * @param flow the flow
+   * @return true if the first matching rule is an "allow" rule
+   */
+  public boolean isAllowed(Direction direction, Flow flow) {
+    AclRule rule = evaluate(direction, flow);
+    return rule != null && rule.isAllow();
+  }
+
+  /**
+   * The compiled rules of one direction.
+   */
+  private static final class Index {
+    private final AclRule[] rules;
+    private final int words;
+    private final long[][] protocols;
+    private final PrefixTrie sources;
+    private final PrefixTrie destinations;
+    private final IntervalIndex sourcePorts;
+    private final IntervalIndex destinationPorts;
+    private final IntervalIndex icmpTypes;
+    private final IntervalIndex icmpCodes;
+
+    Index(List<AclRule> allRules, Direction direction) {
+      List<AclRule> selected = new ArrayList<>();
+      for (AclRule rule : allRules) {
+        // Rules which cannot match an IPv4 flow are left out of the index.
+        if (rule.getDirection() == direction && rule.isIpv4()) {
+          selected.add(rule);
+        }
+      }
+      this.rules = selected.toArray(new AclRule[0]);
+      this.words = Math.max(1, (rules.length + 63) >>> 6);
+      this.protocols = new long[Protocol.values().length][words];
+      this.sources = new PrefixTrie(words);
+      this.destinations = new PrefixTrie(words);
+      IntervalIndex.Builder sourcePortsBuilder = new IntervalIndex.Builder(MAX_PORT);
+      IntervalIndex.Builder destinationPortsBuilder = new IntervalIndex.Builder(MAX_PORT);
+      IntervalIndex.Builder icmpTypesBuilder = new IntervalIndex.Builder(MAX_ICMP_VALUE);
+      IntervalIndex.Builder icmpCodesBuilder = new IntervalIndex.Builder(MAX_ICMP_VALUE);
+      for (int i = 0; i < rules.length; i++) {
+        AclRule rule = rules[i];
+        for (Protocol protocol : Protocol.values()) {
+          if (rule.getProtocol() == null || rule.getProtocol() == protocol) {
+            protocols[protocol.ordinal()][i >>> 6] |= 1L << i;
+          }
+        }
+        sources.add(rule.getSource(), i);
+        destinations.add(rule.getDestination(), i);
+        // A rule matches all the values of the dimensions which do not apply to its protocol.
+        if (rule.getProtocol() != null && rule.getProtocol().hasPorts()) {
+          sourcePortsBuilder.add(rule.getSourcePortMin(), rule.getSourcePortMax(), i);
+          destinationPortsBuilder.add(rule.getDestinationPortMin(), rule.getDestinationPortMax(), i);
+        } else {
+          sourcePortsBuilder.addAll(i);
+          destinationPortsBuilder.addAll(i);
+        }
+        if (rule.getProtocol() == Protocol.ICMP && rule.getIcmpType() >= 0) {
+          icmpTypesBuilder.add(rule.getIcmpType(), rule.getIcmpType(), i);
+        } else {
+          icmpTypesBuilder.addAll(i);
+        }
+        if (rule.getProtocol() == Protocol.ICMP && rule.getIcmpCode() >= 0) {
+          icmpCodesBuilder.add(rule.getIcmpCode(), rule.getIcmpCode(), i);
+        } else {
+          icmpCodesBuilder.addAll(i);
+        }
+      }
+      sources.seal();
+      destinations.seal();
+      this.sourcePorts = sourcePortsBuilder.build(words);
+      this.destinationPorts = destinationPortsBuilder.build(words);
+      this.icmpTypes = icmpTypesBuilder.build(words);
+      this.icmpCodes = icmpCodesBuilder.build(words);
+    }
+
+    AclRule evaluate(Flow flow) {
+      long[] protocol = protocols[flow.getProtocol().ordinal()];
+      long[] source = sources.lookup(flow.getSourceAddress());
+      long[] destination = destinations.lookup(flow.getDestinationAddress());
+      long[] first;
+      long[] second;
+      if (flow.getProtocol().hasPorts()) {
+        first = sourcePorts.lookup(flow.getSourcePort());
+        second = destinationPorts.lookup(flow.getDestinationPort());
+      } else {
+        first = icmpTypes.lookup(flow.getIcmpType());
+        second = icmpCodes.lookup(flow.getIcmpCode());
+      }
+      for (int w = 0; w < words; w++) {
+        long matches = protocol[w] & source[w] & destination[w] & first[w] & second[w];
+        if (matches != 0) {
+          return rules[(w << 6) + Long.numberOfTrailingZeros(matches)];
+        }
+      }
+      return null;
+    }
+  }
+}
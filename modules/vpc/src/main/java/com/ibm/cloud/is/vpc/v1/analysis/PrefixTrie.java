@@ -0,0 +1,130 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+import java.util.Arrays;
+
+/**
+ * A multibit trie of IPv4 CIDR blocks, which maps an address to the set of rules whose CIDR block contains it.
+ * <p>
+ * The trie consumes the address one octet at a time, so a lookup takes at most four steps. Each node has 256 slots,
+ * one per value of its octet; a slot either leads to a child node (for the CIDR blocks longer than the octets
+ * consumed so far) or stores, as a bit set over the rule indexes, the rules whose CIDR block contains all the
+ * addresses of the slot. CIDR blocks whose length is not a multiple of 8 are expanded to all the slots they cover,
+ * and the rules of a slot are pushed down to the child node it leads to, so that the bit set of the slot reached by
+ * a lookup is the complete answer.
+ */
+final class PrefixTrie {
+
+  private static final int SLOTS = 256;
+
+  private final int words;
+  private int size;
+  private int[] children = new int[0];
+  private long[][] bits = new long[0][];
+  private boolean sealed;
+
+  PrefixTrie(int words) {
+    this.words = words;
+    newNode();
+  }
+
+  private int newNode() {
+    if ((size + 1) * SLOTS > children.length) {
+      int capacity = Math.max(4, size * 2) * SLOTS;
+      children = Arrays.copyOf(children, capacity);
+      bits = Arrays.copyOf(bits, capacity);
+    }
+    Arrays.fill(children, size * SLOTS, (size + 1) * SLOTS, -1);
+    return size++;
+  }
+
+  /**
+   * Adds the CIDR block of a rule.
+   *
+   * @param prefix the CIDR block
+   * @param rule the index of the rule
+   */
+  void add(Ipv4Cidr prefix, int rule) {
+    if (sealed) {
+      throw new IllegalStateException("The trie has been sealed");
+    }
+    int node = 0;
+    int level = 0;
+    while (prefix.getLength() > (level + 1) * 8) {
+      int slot = node * SLOTS + octet(prefix.getAddress(), level);
+      if (children[slot] < 0) {
+        int child = newNode();
+        children[slot] = child;
+      }
+      node = children[slot];
+      level++;
+    }
+    int span = 1 << ((level + 1) * 8 - prefix.getLength());
+    int first = node * SLOTS + (octet(prefix.getAddress(), level) & -span);
+    for (int slot = first; slot < first + span; slot++) {
+      if (bits[slot] == null) {
+        bits[slot] = new long[words];
+      }
+      bits[slot][rule >>> 6] |= 1L << rule;
+    }
+  }
+
+  /**
+   * Pushes the rules of each slot down to the child node it leads to. No CIDR block can be added afterwards.
+   */
+  void seal() {
+    long[] empty = new long[words];
+    int[] inherited = new int[size];
+    Arrays.fill(inherited, -1);
+    // Nodes are created after their parent, so the slots of the parent of a node have already been sealed.
+    for (int node = 0; node < size; node++) {
+      long[] parentBits = inherited[node] >= 0 ? bits[inherited[node]] : empty;
+      for (int slot = node * SLOTS; slot < (node + 1) * SLOTS; slot++) {
+        if (bits[slot] == null) {
+          bits[slot] = parentBits;
+        } else {
+          for (int w = 0; w < words; w++) {
+            bits[slot][w] |= parentBits[w];
+          }
+        }
+        if (children[slot] >= 0) {
+          inherited[children[slot]] = slot;
+        }
+      }
+    }
+    sealed = true;
+  }
+
+  /**
+   * Returns the rules whose CIDR block contains the specified address. The returned array must not be modified.
+   *
+   * @param address the address
+   * @return the bit set of the rule indexes
+   */
+  long[] lookup(int address) {
+    if (!sealed) {
+      throw new IllegalStateException("The trie has not been sealed");
+    }
+    int slot = address >>> 24;
+    for (int shift = 16; children[slot] >= 0; shift -= 8) {
+      slot = children[slot] * SLOTS + (address >>> shift & 0xff);
+    }
+    return bits[slot];
+  }
+
+  private static int octet(int address, int level) {
+    return address >>> (24 - level * 8) & 0xff;
+  }
+}
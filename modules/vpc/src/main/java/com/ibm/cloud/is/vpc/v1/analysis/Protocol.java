@@ -0,0 +1,65 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+/**
+ * The protocol of a flow.
+ */
+public enum Protocol {
+  /** Transmission Control Protocol. */
+  TCP("tcp"),
+  /** User Datagram Protocol. */
+  UDP("udp"),
+  /** Internet Control Message Protocol. */
+  ICMP("icmp");
+
+  private final String value;
+
+  Protocol(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns the value of the protocol in the API (e.g. "tcp").
+   *
+   * @return the value of the protocol
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns true if the protocol has ports.
+   *
+   * @return true for TCP and UDP
+   */
+  public boolean hasPorts() {
+    return this != ICMP;
+  }
+
+  /**
+   * Returns the protocol with the specified value in the API.
+   *
+   * @param value the value of the protocol (e.g. "tcp")
+   * @return the protocol
+   * @throws IllegalArgumentException if the value is not a known protocol
+   */
+  public static Protocol fromValue(String value) {
+    for (Protocol protocol : values()) {
+      if (protocol.value.equals(value)) {
+        return protocol;
+      }
+    }
+    throw new IllegalArgumentException("Unknown protocol: " + value);
+  }
+}
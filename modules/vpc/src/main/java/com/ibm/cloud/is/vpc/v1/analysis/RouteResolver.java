@@ -0,0 +1,235 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.common.net.Ipv4Address;
+import com.ibm.cloud.is.vpc.v1.Vpc;
+import com.ibm.cloud.is.vpc.v1.model.ListVpcRoutingTableRoutesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListVpcRoutingTablesOptions;
+import com.ibm.cloud.is.vpc.v1.model.Route;
+import com.ibm.cloud.is.vpc.v1.model.RoutingTable;
+import com.ibm.cloud.is.vpc.v1.model.SubnetReference;
+import com.ibm.cloud.is.vpc.v1.model.VpcRoutingTableRoutesPager;
+import com.ibm.cloud.is.vpc.v1.model.VpcRoutingTablesPager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Predicts the next hop of traffic from the routes of the routing tables of a VPC, e.g. "which route does traffic
+ * from subnet A in zone us-south-1 towards 10.20.3.4 follow".
+ * <p>
+ * A routing table only references its routes, so {@link #load(Vpc, String)} lists the routes of each table with
+ * the "list VPC routing table routes" operation rather than retrieving them one at a time. The routes of each table
+ * are then compiled into one {@link RouteTrie} per zone, and an address is resolved with a longest-prefix-match
+ * lookup which does not allocate memory. Only the routes in one of the selected lifecycle states (by default
+ * {@link Route.LifecycleState#STABLE}) are taken into account, and IPv6 routes are ignored. A resolver is immutable
+ * and can be used concurrently.
+ */
+public final class RouteResolver {
+
+  private final Map<String, Map<String, RouteTrie>> tries;
+  private final Map<String, String> subnetTables;
+  private final String defaultRoutingTableId;
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private final Map<String, List<Route>> routes = new LinkedHashMap<>();
+    private final Map<String, String> subnetTables = new HashMap<>();
+    private String defaultRoutingTableId;
+    private Set<String> lifecycleStates = Collections.singleton(Route.LifecycleState.STABLE);
+
+    /**
+     * Instantiates a new builder.
+     */
+    public Builder() {
+    }
+
+    /**
+     * Builds a RouteResolver.
+     *
+     * @return the new RouteResolver instance
+     */
+    public RouteResolver build() {
+      return new RouteResolver(this);
+    }
+
+    /**
+     * Adds a routing table: whether it is the default table of the VPC, and the subnets it is attached to. The
+     * routes of the table are added with {@link #addRoutes(String, List)}.
+     *
+     * @param routingTable the routing table
+     * @return the RouteResolver builder
+     */
+    public Builder addRoutingTable(RoutingTable routingTable) {
+      if (routingTable == null || routingTable.getId() == null) {
+        throw new IllegalArgumentException("routingTable and its id cannot be null");
+      }
+      routes.computeIfAbsent(routingTable.getId(), id -> new ArrayList<>());
+      if (Boolean.TRUE.equals(routingTable.isIsDefault())) {
+        defaultRoutingTableId = routingTable.getId();
+      }
+      if (routingTable.getSubnets() != null) {
+        for (SubnetReference subnet : routingTable.getSubnets()) {
+          subnetTables.put(subnet.getId(), routingTable.getId());
+        }
+      }
+      return this;
+    }
+
+    /**
+     * Adds routes of a routing table, as returned by the "list VPC routing table routes" operation.
+     *
+     * @param routingTableId the id of the routing table
+     * @param routes the routes of the table
+     * @return the RouteResolver builder
+     */
+    public Builder addRoutes(String routingTableId, List<Route> routes) {
+      if (routingTableId == null || routes == null) {
+        throw new IllegalArgumentException("routingTableId and routes cannot be null");
+      }
+      this.routes.computeIfAbsent(routingTableId, id -> new ArrayList<>()).addAll(routes);
+      return this;
+    }
+
+    /**
+     * Set the lifecycle states of the routes which are taken into account (defaults to "stable"). Routes without
+     * lifecycle state are always taken into account.
+     *
+     * @param lifecycleStates the lifecycle states (see {@link Route.LifecycleState})
+     * @return the RouteResolver builder
+     */
+    public Builder lifecycleStates(String... lifecycleStates) {
+      if (lifecycleStates == null || lifecycleStates.length == 0) {
+        throw new IllegalArgumentException("lifecycleStates cannot be empty");
+      }
+      this.lifecycleStates = new HashSet<>(Arrays.asList(lifecycleStates));
+      return this;
+    }
+  }
+
+  /**
+   * Loads the routing tables of a VPC and their routes, with one "list VPC routing table routes" operation per
+   * routing table.
+   *
+   * @param vpc the {@link Vpc} instance
+   * @param vpcId the id of the VPC
+   * @return the resolver
+   */
+  public static RouteResolver load(Vpc vpc, String vpcId) {
+    Builder builder = new Builder();
+    ListVpcRoutingTablesOptions options = new ListVpcRoutingTablesOptions.Builder(vpcId).build();
+    for (RoutingTable routingTable : new VpcRoutingTablesPager(vpc, options)) {
+      builder.addRoutingTable(routingTable);
+      ListVpcRoutingTableRoutesOptions routesOptions =
+        new ListVpcRoutingTableRoutesOptions.Builder(vpcId, routingTable.getId()).build();
+      builder.addRoutes(routingTable.getId(), new VpcRoutingTableRoutesPager(vpc, routesOptions).getAll());
+    }
+    return builder.build();
+  }
+
+  private RouteResolver(Builder builder) {
+    tries = new HashMap<>();
+    for (Map.Entry<String, List<Route>> table : builder.routes.entrySet()) {
+      Map<String, List<Route>> zones = new LinkedHashMap<>();
+      for (Route route : table.getValue()) {
+        String state = route.getLifecycleState();
+        if (route.getZone() != null && (state == null || builder.lifecycleStates.contains(state))) {
+          zones.computeIfAbsent(route.getZone().getName(), zone -> new ArrayList<>()).add(route);
+        }
+      }
+      Map<String, RouteTrie> byZone = new HashMap<>();
+      for (Map.Entry<String, List<Route>> zone : zones.entrySet()) {
+        byZone.put(zone.getKey(), new RouteTrie(zone.getValue()));
+      }
+      tries.put(table.getKey(), byZone);
+    }
+    subnetTables = new HashMap<>(builder.subnetTables);
+    defaultRoutingTableId = builder.defaultRoutingTableId;
+  }
+
+  /**
+   * Returns the ids of the routing tables known to the resolver.
+   *
+   * @return the routing table ids
+   */
+  public Set<String> getRoutingTableIds() {
+    return Collections.unmodifiableSet(tries.keySet());
+  }
+
+  /**
+   * Returns the id of the default routing table of the VPC.
+   *
+   * @return the id of the default routing table, or null if it is not known
+   */
+  public String getDefaultRoutingTableId() {
+    return defaultRoutingTableId;
+  }
+
+  /**
+   * Returns the id of the routing table which applies to the traffic of a subnet: the table attached to the subnet,
+   * or else the default routing table.
+   *
+   * @param subnetId the id of the subnet
+   * @return the id of the routing table, or null if it is not known
+   */
+  public String getRoutingTableId(String subnetId) {
+    String routingTableId = subnetTables.get(subnetId);
+    return routingTableId != null ? routingTableId : defaultRoutingTableId;
+  }
+
+  /**
+   * Returns the trie of the routes of a routing table in a zone.
+   *
+   * @param routingTableId the id of the routing table
+   * @param zone the name of the zone
+   * @return the trie, which is empty if the table has no route in the zone
+   */
+  public RouteTrie getTrie(String routingTableId, String zone) {
+    Map<String, RouteTrie> byZone = tries.get(routingTableId);
+    RouteTrie trie = byZone != null ? byZone.get(zone) : null;
+    return trie != null ? trie : RouteTrie.empty();
+  }
+
+  /**
+   * Returns the route of a routing table which applies to traffic towards an address in a zone.
+   *
+   * @param routingTableId the id of the routing table
+   * @param zone the name of the zone where the traffic originates
+   * @param address the destination address as an int
+   * @return the route whose destination is the longest prefix containing the address, or null if no route matches
+   */
+  public Route resolve(String routingTableId, String zone, int address) {
+    return getTrie(routingTableId, zone).lookup(address);
+  }
+
+  /**
+   * Returns the route of a routing table which applies to traffic towards an address in a zone.
+   *
+   * @param routingTableId the id of the routing table
+   * @param zone the name of the zone where the traffic originates
+   * @param address the destination address (e.g. "10.0.0.1")
+   * @return the route whose destination is the longest prefix containing the address, or null if no route matches
+   */
+  public Route resolve(String routingTableId, String zone, String address) {
+    return resolve(routingTableId, zone, Ipv4Address.parseInt(address));
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.common.net.Ipv4Address;
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+import com.ibm.cloud.is.vpc.v1.model.Route;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A path-compressed binary trie of the IPv4 routes of one zone of a routing table, which returns the route whose
+ * destination is the longest prefix matching an address.
+ * <p>
+ * Each node of the trie holds a CIDR block and, if a route has that destination, the route; a node only has children
+ * where the destinations diverge, so the trie has fewer than two nodes per route and a lookup visits at most one node
+ * per distinct prefix length on the path of the address. The nodes are stored in arrays, so a lookup does not
+ * allocate memory. A trie is immutable and can be used concurrently.
+ */
+public final class RouteTrie {
+
+  private static final RouteTrie EMPTY = new RouteTrie(Collections.<Route>emptyList());
+
+  // The fields of node n are stored at nodes[n * STRIDE]: its address, prefix length, and children for the bits 0
+  // and 1 (or -1); they are packed into one array so that a lookup reads one cache line per node.
+  private static final int STRIDE = 4;
+  private static final int LENGTH = 1;
+  private static final int ZERO = 2;
+  private static final int ONE = 3;
+
+  private int size;
+  private int[] nodes = new int[8 * STRIDE];
+  private Route[] routes = new Route[8];
+  private int root = -1;
+  private int routeCount;
+
+  /**
+   * Builds the trie of the specified routes. Routes whose destination is not an IPv4 CIDR block are ignored; when
+   * several routes have the same destination, the first one is kept.
+   *
+   * @param routes the routes
+   */
+  RouteTrie(List<Route> routes) {
+    for (Route route : routes) {
+      Ipv4Cidr destination = route.getIpv4Destination();
+      if (destination != null) {
+        root = insert(root, destination, route);
+      }
+    }
+  }
+
+  /**
+   * Returns an empty trie.
+   *
+   * @return the empty trie
+   */
+  static RouteTrie empty() {
+    return EMPTY;
+  }
+
+  private int newNode(int address, int length, Route route) {
+    if (size == routes.length) {
+      nodes = Arrays.copyOf(nodes, size * 2 * STRIDE);
+      routes = Arrays.copyOf(routes, size * 2);
+    }
+    int base = size * STRIDE;
+    nodes[base] = address;
+    nodes[base + LENGTH] = length;
+    nodes[base + ZERO] = -1;
+    nodes[base + ONE] = -1;
+    routes[size] = route;
+    if (route != null) {
+      routeCount++;
+    }
+    return size++;
+  }
+
+  /**
+   * Inserts a route below the specified node, and returns the node which replaces it.
+   */
+  private int insert(int node, Ipv4Cidr prefix, Route route) {
+    if (node < 0) {
+      return newNode(prefix.getAddress(), prefix.getLength(), route);
+    }
+    int base = node * STRIDE;
+    int nodeLength = nodes[base + LENGTH];
+    int common = Math.min(Math.min(nodeLength, prefix.getLength()),
+      Integer.numberOfLeadingZeros(nodes[base] ^ prefix.getAddress()));
+    if (common == nodeLength && common == prefix.getLength()) {
+      if (routes[node] == null) {
+        routes[node] = route;
+        routeCount++;
+      }
+      return node;
+    } else if (common == nodeLength) {
+      int slot = base + (bit(prefix.getAddress(), nodeLength) ? ONE : ZERO);
+      int child = insert(nodes[slot], prefix, route);
+      nodes[slot] = child;
+      return node;
+    }
+    // The new destination is an ancestor of the node, or diverges from it: insert a node at the common prefix.
+    int parent = common == prefix.getLength()
+      ? newNode(prefix.getAddress(), prefix.getLength(), route)
+      : newNode(prefix.getAddress() & Ipv4Cidr.mask(common), common, null);
+    nodes[parent * STRIDE + (bit(nodes[base], common) ? ONE : ZERO)] = node;
+    if (common < prefix.getLength()) {
+      int leaf = newNode(prefix.getAddress(), prefix.getLength(), route);
+      nodes[parent * STRIDE + (bit(prefix.getAddress(), common) ? ONE : ZERO)] = leaf;
+    }
+    return parent;
+  }
+
+  private static boolean bit(int address, int position) {
+    return (address << position) < 0;
+  }
+
+  /**
+   * Returns the route whose destination is the longest prefix containing the specified address.
+   *
+   * @param address the address as an int
+   * @return the matching route, or null if no route matches
+   */
+  public Route lookup(int address) {
+    Route best = null;
+    int node = root;
+    while (node >= 0) {
+      int base = node * STRIDE;
+      int length = nodes[base + LENGTH];
+      int mask = length == 0 ? 0 : -1 << (32 - length);
+      if (((address ^ nodes[base]) & mask) != 0) {
+        break;
+      }
+      if (routes[node] != null) {
+        best = routes[node];
+      }
+      if (length == 32) {
+        break;
+      }
+      node = nodes[base + (bit(address, length) ? ONE : ZERO)];
+    }
+    return best;
+  }
+
+  /**
+   * Returns the route whose destination is the longest prefix containing the specified address.
+   *
+   * @param address the address (e.g. "10.0.0.1")
+   * @return the matching route, or null if no route matches
+   */
+  public Route lookup(String address) {
+    return lookup(Ipv4Address.parseInt(address));
+  }
+
+  /**
+   * Returns the number of routes in the trie.
+   *
+   * @return the number of routes
+   */
+  public int size() {
+    return routeCount;
+  }
+}
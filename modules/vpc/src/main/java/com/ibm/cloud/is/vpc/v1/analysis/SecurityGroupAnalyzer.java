@@ -0,0 +1,521 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.common.net.Ipv4Address;
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+import com.ibm.cloud.is.vpc.v1.Vpc;
+import com.ibm.cloud.is.vpc.v1.model.ListSecurityGroupNetworkInterfacesOptions;
+import com.ibm.cloud.is.vpc.v1.model.ListSecurityGroupsOptions;
+import com.ibm.cloud.is.vpc.v1.model.NetworkInterface;
+import com.ibm.cloud.is.vpc.v1.model.NetworkInterfaceReference;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroup;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupNetworkInterfacesPager;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupReference;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRule;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRuleRemote;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroupsPager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers reachability questions between network interfaces from the rules of their security groups, e.g. "which
+ * network interfaces can reach port 5432 of the members of the database security group".
+ * <p>
+ * Security groups are stateful and only contain "allow" rules. Traffic from a source interface to a destination
+ * interface is allowed if an outbound rule of one of the groups of the source allows it towards the destination,
+ * and an inbound rule of one of the groups of the destination allows it from the source. A rule applies to a peer
+ * whose primary IPv4 address is within its remote CIDR block or address, or which is a member of its remote security
+ * group; a rule without remote applies to all peers. IPv6 rules are ignored, and network ACLs are not taken into
+ * account (see {@link NetworkAclEvaluator}).
+ * <p>
+ * The rules and memberships are compiled once into a graph: each interface has the sorted list of its groups, each
+ * group has its members and its rules, and the interfaces are also sorted by address, so that the interfaces within
+ * a remote CIDR block are found with a binary search. Checking whether one interface can reach another only examines
+ * the rules of their groups, and finding all the sources of a destination only examines the interfaces designated by
+ * the inbound rules of the destination. An analyzer is immutable and can be used concurrently.
+ */
+public final class SecurityGroupAnalyzer {
+
+  private static final int MAX_PORT = 65535;
+  private static final int ANY = -1;
+
+  private final Map<String, Integer> groupIndexes;
+  private final Rule[][] inbound;
+  private final Rule[][] outbound;
+  private final int[][] groupMembers;
+
+  private final Map<String, Integer> interfaceIndexes;
+  private final String[] interfaceIds;
+  private final int[] addresses;
+  private final boolean[] hasAddress;
+  private final int[][] interfaceGroups;
+
+  // The interfaces which have an address, sorted by address (as unsigned values).
+  private final int[] sortedKeys;
+  private final int[] sortedInterfaces;
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private final Map<String, SecurityGroup> groups = new LinkedHashMap<>();
+    private final Map<String, String> addresses = new LinkedHashMap<>();
+    private final Map<String, Set<String>> memberships = new LinkedHashMap<>();
+
+    /**
+     * Instantiates a new builder.
+     */
+    public Builder() {
+    }
+
+    /**
+     * Builds a SecurityGroupAnalyzer.
+     *
+     * @return the new SecurityGroupAnalyzer instance
+     */
+    public SecurityGroupAnalyzer build() {
+      return new SecurityGroupAnalyzer(this);
+    }
+
+    /**
+     * Adds a security group: its rules, and the network interfaces listed in the group, if any.
+     *
+     * @param securityGroup the security group
+     * @return the SecurityGroupAnalyzer builder
+     */
+    public Builder addSecurityGroup(SecurityGroup securityGroup) {
+      if (securityGroup == null || securityGroup.getId() == null) {
+        throw new IllegalArgumentException("securityGroup and its id cannot be null");
+      }
+      groups.put(securityGroup.getId(), securityGroup);
+      if (securityGroup.getNetworkInterfaces() != null) {
+        for (NetworkInterfaceReference networkInterface : securityGroup.getNetworkInterfaces()) {
+          addMember(securityGroup.getId(), networkInterface.getId(), networkInterface.getPrimaryIpv4Address());
+        }
+      }
+      return this;
+    }
+
+    /**
+     * Adds the members of a security group, as returned by the "list security group network interfaces" operation.
+     *
+     * @param securityGroupId the id of the security group
+     * @param networkInterfaces the network interfaces which are members of the group
+     * @return the SecurityGroupAnalyzer builder
+     */
+    public Builder addNetworkInterfaces(String securityGroupId, List<NetworkInterface> networkInterfaces) {
+      if (securityGroupId == null || networkInterfaces == null) {
+        throw new IllegalArgumentException("securityGroupId and networkInterfaces cannot be null");
+      }
+      for (NetworkInterface networkInterface : networkInterfaces) {
+        addMember(securityGroupId, networkInterface.getId(), networkInterface.getPrimaryIpv4Address());
+      }
+      return this;
+    }
+
+    /**
+     * Adds a network interface and its memberships, as listed in the interface.
+     *
+     * @param networkInterface the network interface
+     * @return the SecurityGroupAnalyzer builder
+     */
+    public Builder addNetworkInterface(NetworkInterface networkInterface) {
+      if (networkInterface == null || networkInterface.getId() == null) {
+        throw new IllegalArgumentException("networkInterface and its id cannot be null");
+      }
+      addMember(null, networkInterface.getId(), networkInterface.getPrimaryIpv4Address());
+      if (networkInterface.getSecurityGroups() != null) {
+        for (SecurityGroupReference securityGroup : networkInterface.getSecurityGroups()) {
+          addMember(securityGroup.getId(), networkInterface.getId(), null);
+        }
+      }
+      return this;
+    }
+
+    private void addMember(String securityGroupId, String networkInterfaceId, String address) {
+      if (networkInterfaceId == null) {
+        return;
+      }
+      Set<String> groupsOfInterface = memberships.computeIfAbsent(networkInterfaceId, id -> new LinkedHashSet<>());
+      if (securityGroupId != null) {
+        groupsOfInterface.add(securityGroupId);
+      }
+      if (address != null) {
+        addresses.put(networkInterfaceId, address);
+      }
+    }
+  }
+
+  /**
+   * Loads the security groups of a VPC and their members, with one "list security group network interfaces"
+   * operation per security group.
+   *
+   * @param vpc the {@link Vpc} instance
+   * @param vpcId the id of the VPC
+   * @return the analyzer
+   */
+  public static SecurityGroupAnalyzer load(Vpc vpc, String vpcId) {
+    Builder builder = new Builder();
+    ListSecurityGroupsOptions options = new ListSecurityGroupsOptions.Builder()
+      .vpcId(vpcId)
+      .build();
+    for (SecurityGroup securityGroup : new SecurityGroupsPager(vpc, options)) {
+      builder.addSecurityGroup(securityGroup);
+      ListSecurityGroupNetworkInterfacesOptions membersOptions = new ListSecurityGroupNetworkInterfacesOptions.Builder()
+        .securityGroupId(securityGroup.getId())
+        .build();
+      builder.addNetworkInterfaces(securityGroup.getId(),
+        new SecurityGroupNetworkInterfacesPager(vpc, membersOptions).getAll());
+    }
+    return builder.build();
+  }
+
+  private SecurityGroupAnalyzer(Builder builder) {
+    groupIndexes = new HashMap<>();
+    for (String id : builder.groups.keySet()) {
+      groupIndexes.put(id, groupIndexes.size());
+    }
+    // Groups which are only known through a membership are added without rules.
+    for (Set<String> groups : builder.memberships.values()) {
+      for (String id : groups) {
+        groupIndexes.putIfAbsent(id, groupIndexes.size());
+      }
+    }
+
+    interfaceIndexes = new HashMap<>();
+    interfaceIds = builder.memberships.keySet().toArray(new String[0]);
+    addresses = new int[interfaceIds.length];
+    hasAddress = new boolean[interfaceIds.length];
+    interfaceGroups = new int[interfaceIds.length][];
+    List<List<Integer>> members = new ArrayList<>();
+    for (int g = 0; g < groupIndexes.size(); g++) {
+      members.add(new ArrayList<>());
+    }
+    for (int i = 0; i < interfaceIds.length; i++) {
+      interfaceIndexes.put(interfaceIds[i], i);
+      String address = builder.addresses.get(interfaceIds[i]);
+      if (address != null && !Ipv4Address.isIpv6(address)) {
+        addresses[i] = Ipv4Address.parseInt(address);
+        hasAddress[i] = true;
+      }
+      Set<String> groups = builder.memberships.get(interfaceIds[i]);
+      interfaceGroups[i] = new int[groups.size()];
+      int n = 0;
+      for (String id : groups) {
+        int g = groupIndexes.get(id);
+        interfaceGroups[i][n++] = g;
+        members.get(g).add(i);
+      }
+      Arrays.sort(interfaceGroups[i]);
+    }
+    groupMembers = new int[members.size()][];
+    for (int g = 0; g < groupMembers.length; g++) {
+      groupMembers[g] = new int[members.get(g).size()];
+      for (int m = 0; m < groupMembers[g].length; m++) {
+        groupMembers[g][m] = members.get(g).get(m);
+      }
+    }
+
+    inbound = new Rule[groupIndexes.size()][];
+    outbound = new Rule[groupIndexes.size()][];
+    Arrays.fill(inbound, new Rule[0]);
+    Arrays.fill(outbound, new Rule[0]);
+    for (SecurityGroup securityGroup : builder.groups.values()) {
+      List<Rule> in = new ArrayList<>();
+      List<Rule> out = new ArrayList<>();
+      if (securityGroup.getRules() != null) {
+        for (SecurityGroupRule rule : securityGroup.getRules()) {
+          if (SecurityGroupRule.Direction.INBOUND.equals(rule.getDirection())) {
+            addRule(in, rule);
+          } else if (SecurityGroupRule.Direction.OUTBOUND.equals(rule.getDirection())) {
+            addRule(out, rule);
+          } else {
+            throw new IllegalArgumentException("Unknown direction: " + rule.getDirection());
+          }
+        }
+      }
+      int g = groupIndexes.get(securityGroup.getId());
+      inbound[g] = in.toArray(new Rule[0]);
+      outbound[g] = out.toArray(new Rule[0]);
+    }
+
+    int count = 0;
+    long[] keyed = new long[interfaceIds.length];
+    for (int i = 0; i < interfaceIds.length; i++) {
+      if (hasAddress[i]) {
+        // The key is the address as an unsigned value in the high bits, and the interface in the low bits.
+        keyed[count++] = (addresses[i] & 0xffffffffL) << 32 | i;
+      }
+    }
+    Arrays.sort(keyed, 0, count);
+    sortedKeys = new int[count];
+    sortedInterfaces = new int[count];
+    for (int k = 0; k < count; k++) {
+      sortedKeys[k] = (int) (keyed[k] >>> 32) ^ Integer.MIN_VALUE;
+      sortedInterfaces[k] = (int) keyed[k];
+    }
+  }
+
+  private void addRule(List<Rule> rules, SecurityGroupRule rule) {
+    if ("ipv6".equals(rule.getIpVersion())) {
+      return;
+    }
+    SecurityGroupRuleRemote remote = rule.getRemote();
+    Ipv4Cidr prefix = null;
+    int remoteGroup = ANY;
+    if (remote == null) {
+      prefix = Ipv4Cidr.of(0, 0);
+    } else if (remote.getCidrBlock() != null || remote.getAddress() != null) {
+      String cidr = remote.getCidrBlock() != null ? remote.getCidrBlock() : remote.getAddress();
+      if (Ipv4Address.isIpv6(cidr)) {
+        return;
+      }
+      prefix = Ipv4Cidr.parse(cidr);
+    } else if (remote.getId() != null) {
+      Integer g = groupIndexes.get(remote.getId());
+      if (g == null) {
+        // The members of a group which has not been added are unknown, so the rule cannot apply to any interface.
+        return;
+      }
+      remoteGroup = g;
+    } else {
+      return;
+    }
+    String protocol = rule.getProtocol();
+    int portMin = rule.getPortMin() != null ? rule.getPortMin().intValue() : 0;
+    int portMax = rule.getPortMax() != null ? rule.getPortMax().intValue() : MAX_PORT;
+    int icmpType = rule.getType() != null ? rule.getType().intValue() : ANY;
+    int icmpCode = rule.getCode() != null ? rule.getCode().intValue() : ANY;
+    rules.add(new Rule(protocol == null || "all".equals(protocol) ? null : Protocol.fromValue(protocol), prefix,
+      remoteGroup, portMin, portMax, icmpType, icmpCode));
+  }
+
+  /**
+   * Returns the ids of the network interfaces known to this analyzer.
+   *
+   * @return the ids of the network interfaces
+   */
+  public List<String> getNetworkInterfaceIds() {
+    return Collections.unmodifiableList(Arrays.asList(interfaceIds));
+  }
+
+  /**
+   * Returns true if the source interface can reach the destination interface over TCP or UDP.
+   *
+   * @param sourceId the id of the source network interface
+   * @param destinationId the id of the destination network interface
+   * @param protocol the protocol (TCP or UDP)
+   * @param port the destination port
+   * @return true if the traffic is allowed by the security groups of both interfaces
+   */
+  public boolean isReachable(String sourceId, String destinationId, Protocol protocol, int port) {
+    checkService(protocol, port);
+    return isReachable(interfaceIndex(sourceId), interfaceIndex(destinationId), protocol, port, 0);
+  }
+
+  /**
+   * Returns true if the source interface can reach the destination interface with ICMP messages of the specified type
+   * and code.
+   *
+   * @param sourceId the id of the source network interface
+   * @param destinationId the id of the destination network interface
+   * @param icmpType the ICMP type
+   * @param icmpCode the ICMP code
+   * @return true if the traffic is allowed by the security groups of both interfaces
+   */
+  public boolean isReachable(String sourceId, String destinationId, int icmpType, int icmpCode) {
+    return isReachable(interfaceIndex(sourceId), interfaceIndex(destinationId), Protocol.ICMP, icmpType, icmpCode);
+  }
+
+  /**
+   * Returns the ids of the network interfaces which can reach the specified destination interface over TCP or UDP.
+   *
+   * @param destinationId the id of the destination network interface
+   * @param protocol the protocol (TCP or UDP)
+   * @param port the destination port
+   * @return the ids of the source network interfaces, in the order in which they were added
+   */
+  public List<String> findSources(String destinationId, Protocol protocol, int port) {
+    checkService(protocol, port);
+    BitSet sources = new BitSet(interfaceIds.length);
+    addSources(sources, interfaceIndex(destinationId), protocol, port, 0);
+    return ids(sources);
+  }
+
+  /**
+   * Returns the ids of the network interfaces which can reach at least one member of the specified security group
+   * over TCP or UDP, e.g. the interfaces which can reach the database port of the database tier.
+   *
+   * @param securityGroupId the id of the security group of the destination interfaces
+   * @param protocol the protocol (TCP or UDP)
+   * @param port the destination port
+   * @return the ids of the source network interfaces, in the order in which they were added
+   */
+  public List<String> findSourcesOfGroup(String securityGroupId, Protocol protocol, int port) {
+    checkService(protocol, port);
+    Integer g = groupIndexes.get(securityGroupId);
+    if (g == null) {
+      throw new IllegalArgumentException("Unknown security group: " + securityGroupId);
+    }
+    BitSet sources = new BitSet(interfaceIds.length);
+    for (int destination : groupMembers[g]) {
+      addSources(sources, destination, protocol, port, 0);
+    }
+    return ids(sources);
+  }
+
+  private static void checkService(Protocol protocol, int port) {
+    if (protocol == null || !protocol.hasPorts()) {
+      throw new IllegalArgumentException("protocol must be TCP or UDP");
+    }
+    if (port < 0 || port > MAX_PORT) {
+      throw new IllegalArgumentException("port must be between 0 and " + MAX_PORT);
+    }
+  }
+
+  private int interfaceIndex(String id) {
+    Integer index = interfaceIndexes.get(id);
+    if (index == null) {
+      throw new IllegalArgumentException("Unknown network interface: " + id);
+    }
+    return index;
+  }
+
+  private List<String> ids(BitSet interfaces) {
+    List<String> ids = new ArrayList<>(interfaces.cardinality());
+    for (int i = interfaces.nextSetBit(0); i >= 0; i = interfaces.nextSetBit(i + 1)) {
+      ids.add(interfaceIds[i]);
+    }
+    return ids;
+  }
+
+  // For ICMP, the port is the ICMP type and the code is the ICMP code; for TCP and UDP, the code is ignored.
+  private boolean isReachable(int source, int destination, Protocol protocol, int port, int code) {
+    return allows(outbound, source, destination, protocol, port, code)
+      && allows(inbound, destination, source, protocol, port, code);
+  }
+
+  /**
+   * Returns true if a rule of one of the groups of the interface, in the direction of the specified rules, allows
+   * the traffic with the peer.
+   */
+  private boolean allows(Rule[][] rules, int networkInterface, int peer, Protocol protocol, int port, int code) {
+    for (int g : interfaceGroups[networkInterface]) {
+      for (Rule rule : rules[g]) {
+        if (rule.matchesService(protocol, port, code) && appliesTo(rule, peer)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean appliesTo(Rule rule, int peer) {
+    if (rule.prefix != null) {
+      return hasAddress[peer] && rule.prefix.contains(addresses[peer]);
+    }
+    return Arrays.binarySearch(interfaceGroups[peer], rule.remoteGroup) >= 0;
+  }
+
+  /**
+   * Adds the interfaces allowed by the inbound rules of the destination which also allow the traffic in their
+   * outbound rules.
+   */
+  private void addSources(BitSet sources, int destination, Protocol protocol, int port, int code) {
+    BitSet candidates = new BitSet(interfaceIds.length);
+    for (int g : interfaceGroups[destination]) {
+      for (Rule rule : inbound[g]) {
+        if (!rule.matchesService(protocol, port, code)) {
+          continue;
+        }
+        if (rule.prefix != null) {
+          int low = rule.prefix.getAddress() ^ Integer.MIN_VALUE;
+          int high = rule.prefix.getLastAddress() ^ Integer.MIN_VALUE;
+          for (int k = firstAtLeast(low); k < sortedKeys.length && sortedKeys[k] <= high; k++) {
+            candidates.set(sortedInterfaces[k]);
+          }
+        } else {
+          for (int member : groupMembers[rule.remoteGroup]) {
+            candidates.set(member);
+          }
+        }
+      }
+    }
+    candidates.clear(destination);
+    candidates.andNot(sources);
+    for (int source = candidates.nextSetBit(0); source >= 0; source = candidates.nextSetBit(source + 1)) {
+      if (allows(outbound, source, destination, protocol, port, code)) {
+        sources.set(source);
+      }
+    }
+  }
+
+  // Returns the first position whose key is not less than the specified key.
+  private int firstAtLeast(int key) {
+    int low = 0;
+    int high = sortedKeys.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sortedKeys[mid] < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * A compiled rule: the service it allows, and either the CIDR block or the security group of its remote.
+   */
+  private static final class Rule {
+    final Protocol protocol;
+    final Ipv4Cidr prefix;
+    final int remoteGroup;
+    final int portMin;
+    final int portMax;
+    final int icmpType;
+    final int icmpCode;
+
+    Rule(Protocol protocol, Ipv4Cidr prefix, int remoteGroup, int portMin, int portMax, int icmpType, int icmpCode) {
+      this.protocol = protocol;
+      this.prefix = prefix;
+      this.remoteGroup = remoteGroup;
+      this.portMin = portMin;
+      this.portMax = portMax;
+      this.icmpType = icmpType;
+      this.icmpCode = icmpCode;
+    }
+
+    // For ICMP, the port is the ICMP type.
+    boolean matchesService(Protocol flowProtocol, int port, int code) {
+      if (protocol == null) {
+        return true;
+      } else if (protocol != flowProtocol) {
+        return false;
+      } else if (protocol.hasPorts()) {
+        return port >= portMin && port <= portMax;
+      }
+      return (icmpType == ANY || icmpType == port) && (icmpCode == ANY || icmpCode == code);
+    }
+  }
+}
@@ -15,6 +15,7 @@ package com.ibm.cloud.is.vpc.v1.model;
 import java.util.Date;
 
 import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
 
 /**
@@ -45,6 +46,15 @@ public class AddressPrefix extends GenericModel {
     return cidr;
   }
 
+  /**
+   * Gets the cidr as an IPv4 CIDR block.
+   *
+   * @return the CIDR block, or null if the cidr is not set or is not an IPv4 CIDR block
+   */
+  public Ipv4Cidr getIpv4Cidr() {
+    return Ipv4Cidr.parseOrNull(cidr);
+  }
+
   /**
    * Gets the createdAt.
    *
@@ -0,0 +1,72 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.model;
+
+import com.ibm.cloud.is.common.paging.AbstractPager;
+import com.ibm.cloud.is.common.paging.StreamingPage;
+import com.ibm.cloud.is.common.paging.StreamingPageConverter;
+import com.ibm.cloud.is.vpc.v1.Vpc;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import java.util.List;
+
+/**
+ * FlowLogCollectorsPager can be used to simplify the use of the "listFlowLogCollectors" method.
+ */
+public class FlowLogCollectorsPager extends AbstractPager<FlowLogCollectorCollection, FlowLogCollector> {
+
+  private static final ResponseConverter<StreamingPage<FlowLogCollector>> STREAMING_CONVERTER =
+    new StreamingPageConverter<>("flow_log_collectors", FlowLogCollector.class);
+
+  protected Vpc client;
+  protected ListFlowLogCollectorsOptions options;
+
+  /**
+   * Constructs a new FlowLogCollectorsPager instance with the specified client and options model.
+   *
+   * @param client the Vpc instance to be used to invoke the "listFlowLogCollectors" method
+   * @param options the ListFlowLogCollectorsOptions instance to be used to invoke the "listFlowLogCollectors" method (may be null)
+   * @throws IllegalArgumentException if the options model's "start" field is set
+   */
+  public FlowLogCollectorsPager(Vpc client, ListFlowLogCollectorsOptions options) {
+    com.ibm.cloud.sdk.core.util.Validator.notNull(client, "client cannot be null");
+    if (options == null) {
+      options = new ListFlowLogCollectorsOptions.Builder().build();
+    }
+    if (options.start() != null) {
+      throw new IllegalArgumentException("The options 'start' field should not be set");
+    }
+    this.client = client;
+    this.options = options;
+  }
+
+  @Override
+  protected ServiceCall<FlowLogCollectorCollection> createPageCall(String start) {
+    return client.listFlowLogCollectors(options.newBuilder().start(start).build());
+  }
+
+  @Override
+  protected List<FlowLogCollector> getItems(FlowLogCollectorCollection page) {
+    return page.getFlowLogCollectors();
+  }
+
+  @Override
+  protected String getNextHref(FlowLogCollectorCollection page) {
+    return page.getNext() != null ? page.getNext().getHref() : null;
+  }
+
+  @Override
+  protected ResponseConverter<StreamingPage<FlowLogCollector>> getStreamingConverter() {
+    return STREAMING_CONVERTER;
+  }
+}
@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.is.vpc.v1.model;
 
+import com.ibm.cloud.is.common.net.Ipv4Address;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
 
 /**
@@ -33,5 +34,14 @@ public class IP extends GenericModel {
   public String getAddress() {
     return address;
   }
+
+  /**
+   * Gets the address as an IPv4 address.
+   *
+   * @return the address, or null if the address is not set or is not an IPv4 address
+   */
+  public Ipv4Address getIpv4Address() {
+    return Ipv4Address.parseOrNull(address);
+  }
 }
 
@@ -16,8 +16,8 @@ import java.util.Date;
 import java.util.Map;
 
 import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.is.common.json.JsonUtils;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
-import com.ibm.cloud.sdk.core.util.GsonSingleton;
 
 /**
  * InstanceGroupManagerActionPatch.
@@ -100,7 +100,7 @@ public class InstanceGroupManagerActionPatch extends GenericModel {
    * @return a JSON merge-patch for the InstanceGroupManagerActionPatch
    */
   public Map<String, Object> asPatch() {
-    return GsonSingleton.getGson().fromJson(this.toString(), Map.class);
+    return JsonUtils.toMergePatch(this);
   }
 
 }
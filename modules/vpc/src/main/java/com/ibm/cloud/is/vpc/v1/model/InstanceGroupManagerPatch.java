@@ -15,8 +15,8 @@ package com.ibm.cloud.is.vpc.v1.model;
 import java.util.Map;
 
 import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.is.common.json.JsonUtils;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
-import com.ibm.cloud.sdk.core.util.GsonSingleton;
 
 /**
  * InstanceGroupManagerPatch.
@@ -229,7 +229,7 @@ public class InstanceGroupManagerPatch extends GenericModel {
    * @return a JSON merge-patch for the InstanceGroupManagerPatch
    */
   public Map<String, Object> asPatch() {
-    return GsonSingleton.getGson().fromJson(this.toString(), Map.class);
+    return JsonUtils.toMergePatch(this);
   }
 
 }
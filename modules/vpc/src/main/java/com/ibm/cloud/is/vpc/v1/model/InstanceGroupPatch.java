@@ -17,8 +17,8 @@ import java.util.List;
 import java.util.Map;
 
 import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.is.common.json.JsonUtils;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
-import com.ibm.cloud.sdk.core.util.GsonSingleton;
 
 /**
  * To add or update load balancer specification for an instance group the `membership_count` must first be set to 0.
@@ -280,7 +280,7 @@ public class InstanceGroupPatch extends GenericModel {
    * @return a JSON merge-patch for the InstanceGroupPatch
    */
   public Map<String, Object> asPatch() {
-    return GsonSingleton.getGson().fromJson(this.toString(), Map.class);
+    return JsonUtils.toMergePatch(this);
   }
 
 }
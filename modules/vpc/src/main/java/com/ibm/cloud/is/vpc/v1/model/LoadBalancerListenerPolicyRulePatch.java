@@ -14,8 +14,8 @@ package com.ibm.cloud.is.vpc.v1.model;
 
 import java.util.Map;
 
+import com.ibm.cloud.is.common.json.JsonUtils;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
-import com.ibm.cloud.sdk.core.util.GsonSingleton;
 
 /**
  * LoadBalancerListenerPolicyRulePatch.
@@ -213,7 +213,7 @@ public class LoadBalancerListenerPolicyRulePatch extends GenericModel {
    * @return a JSON merge-patch for the LoadBalancerListenerPolicyRulePatch
    */
   public Map<String, Object> asPatch() {
-    return GsonSingleton.getGson().fromJson(this.toString(), Map.class);
+    return JsonUtils.toMergePatch(this);
   }
 
 }
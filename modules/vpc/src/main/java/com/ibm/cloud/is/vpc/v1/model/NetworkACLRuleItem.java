@@ -15,6 +15,7 @@ package com.ibm.cloud.is.vpc.v1.model;
 import java.util.Date;
 
 import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
 
 /**
@@ -139,6 +140,15 @@ public class NetworkACLRuleItem extends GenericModel {
     return destination;
   }
 
+  /**
+   * Gets the destination as an IPv4 CIDR block.
+   *
+   * @return the CIDR block, or null if the destination is not set or is not an IPv4 CIDR block
+   */
+  public Ipv4Cidr getIpv4Destination() {
+    return Ipv4Cidr.parseOrNull(destination);
+  }
+
   /**
    * Gets the direction.
    *
@@ -217,6 +227,15 @@ public class NetworkACLRuleItem extends GenericModel {
     return source;
   }
 
+  /**
+   * Gets the source as an IPv4 CIDR block.
+   *
+   * @return the CIDR block, or null if the source is not set or is not an IPv4 CIDR block
+   */
+  public Ipv4Cidr getIpv4Source() {
+    return Ipv4Cidr.parseOrNull(source);
+  }
+
   /**
    * Gets the destinationPortMax.
    *
@@ -15,6 +15,7 @@ package com.ibm.cloud.is.vpc.v1.model;
 import java.util.Date;
 
 import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.is.common.net.Ipv4Address;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
 
 /**
@@ -66,6 +67,15 @@ public class ReservedIP extends GenericModel {
     return address;
   }
 
+  /**
+   * Gets the address as an IPv4 address.
+   *
+   * @return the address, or null if the address is not set or is not an IPv4 address
+   */
+  public Ipv4Address getIpv4Address() {
+    return Ipv4Address.parseOrNull(address);
+  }
+
   /**
    * Gets the autoDelete.
    *
@@ -15,6 +15,7 @@ package com.ibm.cloud.is.vpc.v1.model;
 import java.util.Date;
 
 import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
 import com.ibm.cloud.sdk.core.service.model.GenericModel;
 
 /**
@@ -78,6 +79,15 @@ public class Route extends GenericModel {
     return destination;
   }
 
+  /**
+   * Gets the destination as an IPv4 CIDR block.
+   *
+   * @return the CIDR block, or null if the destination is not set or is not an IPv4 CIDR block
+   */
+  public Ipv4Cidr getIpv4Destination() {
+    return Ipv4Cidr.parseOrNull(destination);
+  }
+
   /**
    * Gets the href.
    *
@@ -0,0 +1,70 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.model;
+
+import com.ibm.cloud.is.common.paging.AbstractPager;
+import com.ibm.cloud.is.common.paging.StreamingPage;
+import com.ibm.cloud.is.common.paging.StreamingPageConverter;
+import com.ibm.cloud.is.vpc.v1.Vpc;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import java.util.List;
+
+/**
+ * SecurityGroupNetworkInterfacesPager can be used to simplify the use of the "listSecurityGroupNetworkInterfaces" method.
+ */
+public class SecurityGroupNetworkInterfacesPager extends AbstractPager<NetworkInterfaceCollection, NetworkInterface> {
+
+  private static final ResponseConverter<StreamingPage<NetworkInterface>> STREAMING_CONVERTER =
+    new StreamingPageConverter<>("network_interfaces", NetworkInterface.class);
+
+  protected Vpc client;
+  protected ListSecurityGroupNetworkInterfacesOptions options;
+
+  /**
+   * Constructs a new SecurityGroupNetworkInterfacesPager instance with the specified client and options model.
+   *
+   * @param client the Vpc instance to be used to invoke the "listSecurityGroupNetworkInterfaces" method
+   * @param options the ListSecurityGroupNetworkInterfacesOptions instance to be used to invoke the "listSecurityGroupNetworkInterfaces" method
+   * @throws IllegalArgumentException if the options model's "start" field is set
+   */
+  public SecurityGroupNetworkInterfacesPager(Vpc client, ListSecurityGroupNetworkInterfacesOptions options) {
+    com.ibm.cloud.sdk.core.util.Validator.notNull(client, "client cannot be null");
+    com.ibm.cloud.sdk.core.util.Validator.notNull(options, "options cannot be null");
+    if (options.start() != null) {
+      throw new IllegalArgumentException("The options 'start' field should not be set");
+    }
+    this.client = client;
+    this.options = options;
+  }
+
+  @Override
+  protected ServiceCall<NetworkInterfaceCollection> createPageCall(String start) {
+    return client.listSecurityGroupNetworkInterfaces(options.newBuilder().start(start).build());
+  }
+
+  @Override
+  protected List<NetworkInterface> getItems(NetworkInterfaceCollection page) {
+    return page.getNetworkInterfaces();
+  }
+
+  @Override
+  protected String getNextHref(NetworkInterfaceCollection page) {
+    return page.getNext() != null ? page.getNext().getHref() : null;
+  }
+
+  @Override
+  protected ResponseConverter<StreamingPage<NetworkInterface>> getStreamingConverter() {
+    return STREAMING_CONVERTER;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.model;
+
+import com.ibm.cloud.is.common.paging.AbstractPager;
+import com.ibm.cloud.is.common.paging.StreamingPage;
+import com.ibm.cloud.is.common.paging.StreamingPageConverter;
+import com.ibm.cloud.is.vpc.v1.Vpc;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import java.util.List;
+
+/**
+ * SecurityGroupsPager can be used to simplify the use of the "listSecurityGroups" method.
+ */
+public class SecurityGroupsPager extends AbstractPager<SecurityGroupCollection, SecurityGroup> {
+
+  private static final ResponseConverter<StreamingPage<SecurityGroup>> STREAMING_CONVERTER =
+    new StreamingPageConverter<>("security_groups", SecurityGroup.class);
+
+  protected Vpc client;
+  protected ListSecurityGroupsOptions options;
+
+  /**
+   * Constructs a new SecurityGroupsPager instance with the specified client and options model.
+   *
+   * @param client the Vpc instance to be used to invoke the "listSecurityGroups" method
+   * @param options the ListSecurityGroupsOptions instance to be used to invoke the "listSecurityGroups" method (may be null)
+   * @throws IllegalArgumentException if the options model's "start" field is set
+   */
+  public SecurityGroupsPager(Vpc client, ListSecurityGroupsOptions options) {
+    com.ibm.cloud.sdk.core.util.Validator.notNull(client, "client cannot be null");
+    if (options == null) {
+      options = new ListSecurityGroupsOptions.Builder().build();
+    }
+    if (options.start() != null) {
+      throw new IllegalArgumentException("The options 'start' field should not be set");
+    }
+    this.client = client;
+    this.options = options;
+  }
+
+  @Override
+  protected ServiceCall<SecurityGroupCollection> createPageCall(String start) {
+    return client.listSecurityGroups(options.newBuilder().start(start).build());
+  }
+
+  @Override
+  protected List<SecurityGroup> getItems(SecurityGroupCollection page) {
+    return page.getSecurityGroups();
+  }
+
+  @Override
+  protected String getNextHref(SecurityGroupCollection page) {
+    return page.getNext() != null ? page.getNext().getHref() : null;
+  }
+
+  @Override
+  protected ResponseConverter<StreamingPage<SecurityGroup>> getStreamingConverter() {
+    return STREAMING_CONVERTER;
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+import com.ibm.cloud.is.vpc.v1.model.AddressPrefix;
+import com.ibm.cloud.is.vpc.v1.model.ReservedIP;
+import com.ibm.cloud.is.vpc.v1.model.Subnet;
+import com.ibm.cloud.is.vpc.v1.utils.TestUtilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the AddressSpacePlanner class.
+ */
+public class AddressSpacePlannerTest {
+
+  private static AddressPrefix prefix(String cidr, String zone) {
+    return TestUtilities.deserialize("{\"cidr\": \"" + cidr + "\", \"zone\": {\"name\": \"" + zone + "\"}}",
+      AddressPrefix.class);
+  }
+
+  private static Subnet subnet(String id, String cidr, String zone) {
+    return TestUtilities.deserialize("{\"id\": \"" + id + "\", \"ipv4_cidr_block\": \"" + cidr
+      + "\", \"zone\": {\"name\": \"" + zone + "\"}}", Subnet.class);
+  }
+
+  private static ReservedIP reservedIp(String address) {
+    return TestUtilities.deserialize("{\"address\": \"" + address + "\"}", ReservedIP.class);
+  }
+
+  private static AddressSpacePlanner vpc() {
+    return new AddressSpacePlanner.Builder()
+      .addAddressPrefixes(Arrays.asList(
+        prefix("10.240.0.0/18", "us-south-1"),
+        prefix("10.240.64.0/18", "us-south-2"),
+        prefix("fd00::/48", "us-south-3")))
+      .addSubnets(Arrays.asList(
+        subnet("a", "10.240.0.0/24", "us-south-1"),
+        subnet("b", "10.240.2.0/23", "us-south-1"),
+        subnet("c", "10.240.64.0/26", "us-south-2")))
+      .build();
+  }
+
+  @Test
+  public void testAllocateSubnetCidrs() throws Throwable {
+    AddressSpacePlanner planner = vpc();
+    assertEquals(planner.getZones(), new HashSet<>(Arrays.asList("us-south-1", "us-south-2")));
+    assertEquals(planner.findSubnetCidr("us-south-1", 24).toString(), "10.240.1.0/24");
+    assertEquals(planner.findSubnetCidr("us-south-1", 24).toString(), "10.240.1.0/24");
+    assertEquals(planner.allocateSubnetCidr("us-south-1", 24).toString(), "10.240.1.0/24");
+    assertEquals(planner.allocateSubnetCidr("us-south-1", 24).toString(), "10.240.4.0/24");
+    assertEquals(planner.allocateSubnetCidr("us-south-1", 22).toString(), "10.240.8.0/22");
+    assertEquals(planner.allocateSubnetCidr("us-south-2", 26).toString(), "10.240.64.64/26");
+    assertTrue(planner.overlapsSubnet(Ipv4Cidr.parse("10.240.4.128/25")));
+    assertFalse(planner.overlapsSubnet(Ipv4Cidr.parse("10.240.5.0/24")));
+    assertNull(planner.findSubnetCidr("us-south-1", 18));
+    assertNull(planner.findSubnetCidr("us-south-3", 24));
+  }
+
+  @Test
+  public void testAdjacentPrefixesAreNotMerged() throws Throwable {
+    AddressSpacePlanner planner = new AddressSpacePlanner.Builder()
+      .addAddressPrefixes(Arrays.asList(
+        prefix("10.0.0.0/25", "us-south-1"),
+        prefix("10.0.0.128/25", "us-south-1")))
+      .build();
+    // A subnet must fall within a single address prefix.
+    assertNull(planner.findSubnetCidr("us-south-1", 24));
+    assertEquals(planner.allocateSubnetCidr("us-south-1", 25).toString(), "10.0.0.0/25");
+    assertEquals(planner.allocateSubnetCidr("us-south-1", 25).toString(), "10.0.0.128/25");
+    assertNull(planner.findSubnetCidr("us-south-1", 26));
+  }
+
+  @Test
+  public void testAllocateAddressPrefixCidrs() throws Throwable {
+    AddressSpacePlanner planner = vpc();
+    assertEquals(planner.findAddressPrefixCidr(Ipv4Cidr.parse("10.0.0.0/8"), 16).toString(), "10.0.0.0/16");
+    assertEquals(planner.findAddressPrefixCidr(Ipv4Cidr.parse("10.240.0.0/16"), 18).toString(), "10.240.128.0/18");
+    assertNull(planner.findAddressPrefixCidr(Ipv4Cidr.parse("10.240.0.0/17"), 20));
+
+    assertEquals(planner.allocateAddressPrefixCidr("us-south-3", Ipv4Cidr.parse("10.240.0.0/16"), 20).toString(),
+      "10.240.128.0/20");
+    assertTrue(planner.getZones().contains("us-south-3"));
+    assertEquals(planner.allocateSubnetCidr("us-south-3", 24).toString(), "10.240.128.0/24");
+    assertEquals(planner.findAddressPrefixCidr(Ipv4Cidr.parse("10.240.0.0/16"), 20).toString(), "10.240.144.0/20");
+  }
+
+  @Test
+  public void testAllocateAddresses() throws Throwable {
+    AddressSpacePlanner planner = new AddressSpacePlanner.Builder()
+      .addSubnets(Arrays.asList(subnet("small", "10.0.0.0/29", "us-south-1")))
+      .addReservedIps("small", Arrays.asList(reservedIp("10.0.0.4"), reservedIp("10.0.1.1")))
+      .addReservedIps("unknown", Arrays.asList(reservedIp("10.0.0.5")))
+      .build();
+    assertEquals(planner.getFreeAddressCount("small"), 2);
+    assertEquals(planner.findAddress("small").toString(), "10.0.0.5");
+    assertEquals(planner.allocateAddress("small").toString(), "10.0.0.5");
+    assertEquals(planner.allocateAddress("small").toString(), "10.0.0.6");
+    assertNull(planner.allocateAddress("small"));
+    assertEquals(planner.getFreeAddressCount("small"), 0);
+    assertNull(planner.findAddress("unknown"));
+  }
+
+  @Test
+  public void testMatchesExhaustiveSearch() throws Throwable {
+    Random random = new Random(25);
+    for (int round = 0; round < 20; round++) {
+      List<AddressPrefix> prefixes = new ArrayList<>();
+      List<Ipv4Cidr> zonePrefixes = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        Ipv4Cidr cidr = Ipv4Cidr.of(0x0A000000 | i << 16 | random.nextInt(4) << 12, 20 + random.nextInt(3));
+        prefixes.add(prefix(cidr.toString(), "zone"));
+        zonePrefixes.add(cidr);
+      }
+      List<Subnet> subnets = new ArrayList<>();
+      List<Ipv4Cidr> used = new ArrayList<>();
+      for (int i = 0; i < 60; i++) {
+        Ipv4Cidr cidr = Ipv4Cidr.of(0x0A000000 | random.nextInt(4) << 16 | random.nextInt(1 << 14) << 2,
+          24 + random.nextInt(7));
+        if (!overlapsAny(cidr, used)) {
+          subnets.add(subnet("s" + i, cidr.toString(), "zone"));
+          used.add(cidr);
+        }
+      }
+      AddressSpacePlanner planner = new AddressSpacePlanner.Builder()
+        .addAddressPrefixes(prefixes)
+        .addSubnets(subnets)
+        .build();
+      Collections.sort(zonePrefixes);
+      for (int i = 0; i < 40; i++) {
+        int length = 22 + random.nextInt(9);
+        Ipv4Cidr expected = null;
+        for (Ipv4Cidr zonePrefix : zonePrefixes) {
+          for (long block = zonePrefix.getAddress(); expected == null && block <= zonePrefix.getLastAddress();
+              block += 1L << (32 - length)) {
+            Ipv4Cidr candidate = Ipv4Cidr.of((int) block, length);
+            if (zonePrefix.contains(candidate) && !overlapsAny(candidate, used)) {
+              expected = candidate;
+            }
+          }
+        }
+        Ipv4Cidr actual = planner.allocateSubnetCidr("zone", length);
+        assertEquals(actual, expected);
+        if (actual != null) {
+          used.add(actual);
+        }
+      }
+    }
+  }
+
+  private static boolean overlapsAny(Ipv4Cidr cidr, List<Ipv4Cidr> cidrs) {
+    for (Ipv4Cidr other : cidrs) {
+      if (cidr.overlaps(other)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
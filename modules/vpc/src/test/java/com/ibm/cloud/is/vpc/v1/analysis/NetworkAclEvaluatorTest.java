@@ -0,0 +1,168 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.vpc.v1.model.NetworkACL;
+import com.ibm.cloud.is.vpc.v1.model.NetworkACLRule;
+import com.ibm.cloud.is.vpc.v1.utils.TestUtilities;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the NetworkAclEvaluator class.
+ */
+public class NetworkAclEvaluatorTest {
+
+  private static String rule(String id, String before, String action, String direction, String protocol,
+      String source, String destination, String extra) {
+    return "{\"id\": \"" + id + "\", \"name\": \"" + id + "\", \"action\": \"" + action + "\", \"direction\": \""
+      + direction + "\", \"ip_version\": \"ipv4\", \"protocol\": \"" + protocol + "\", \"source\": \"" + source
+      + "\", \"destination\": \"" + destination + "\""
+      + (before != null ? ", \"before\": {\"id\": \"" + before + "\"}" : "")
+      + (extra != null ? ", " + extra : "") + "}";
+  }
+
+  private static NetworkACL networkAcl(List<String> rules) {
+    return TestUtilities.deserialize("{\"id\": \"acl\", \"rules\": [" + String.join(", ", rules) + "]}",
+      NetworkACL.class);
+  }
+
+  private static String ports(int min, int max) {
+    return "\"destination_port_min\": " + min + ", \"destination_port_max\": " + max
+      + ", \"source_port_min\": 1, \"source_port_max\": 65535";
+  }
+
+  @Test
+  public void testEvaluate() throws Throwable {
+    List<String> rules = new ArrayList<>();
+    rules.add(rule("deny-ssh", "allow-web", "deny", "inbound", "tcp", "203.0.113.0/24", "10.0.0.0/16", ports(22, 22)));
+    rules.add(rule("allow-web", "allow-ping", "allow", "inbound", "tcp", "0.0.0.0/0", "10.0.1.0/24", ports(22, 443)));
+    rules.add(rule("allow-ping", "allow-out", "allow", "inbound", "icmp", "0.0.0.0/0", "0.0.0.0/0", "\"type\": 8"));
+    rules.add(rule("allow-out", null, "allow", "outbound", "all", "10.0.0.0/16", "0.0.0.0/0", null));
+    NetworkAclEvaluator evaluator = NetworkAclEvaluator.of(networkAcl(rules));
+    assertEquals(evaluator.getRules().size(), 4);
+
+    AclRule rule = evaluator.evaluate(Direction.INBOUND, Flow.tcp("203.0.113.9", 40000, "10.0.1.5", 22));
+    assertEquals(rule.getId(), "deny-ssh");
+    assertFalse(rule.isAllow());
+    assertTrue(evaluator.isAllowed(Direction.INBOUND, Flow.tcp("198.51.100.1", 40000, "10.0.1.5", 22)));
+    assertTrue(evaluator.isAllowed(Direction.INBOUND, Flow.tcp("203.0.113.9", 40000, "10.0.1.5", 443)));
+    assertFalse(evaluator.isAllowed(Direction.INBOUND, Flow.tcp("198.51.100.1", 40000, "10.0.1.5", 444)));
+    assertFalse(evaluator.isAllowed(Direction.INBOUND, Flow.tcp("198.51.100.1", 40000, "10.0.2.5", 443)));
+    assertNull(evaluator.evaluate(Direction.INBOUND, Flow.udp("198.51.100.1", 40000, "10.0.1.5", 443)));
+
+    assertEquals(evaluator.evaluate(Direction.INBOUND, Flow.icmp("198.51.100.1", "10.0.1.5", 8, 0)).getId(),
+      "allow-ping");
+    assertNull(evaluator.evaluate(Direction.INBOUND, Flow.icmp("198.51.100.1", "10.0.1.5", 0, 0)));
+
+    assertTrue(evaluator.isAllowed(Direction.OUTBOUND, Flow.udp("10.0.3.4", 53000, "8.8.8.8", 53)));
+    assertFalse(evaluator.isAllowed(Direction.OUTBOUND, Flow.udp("10.1.3.4", 53000, "8.8.8.8", 53)));
+  }
+
+  @Test
+  public void testOrderFollowsBeforeReferences() throws Throwable {
+    List<String> rules = new ArrayList<>();
+    rules.add(rule("allow-all", null, "allow", "inbound", "all", "0.0.0.0/0", "0.0.0.0/0", null));
+    rules.add(rule("deny-udp", "deny-tcp", "deny", "inbound", "udp", "0.0.0.0/0", "0.0.0.0/0", null));
+    rules.add(rule("deny-tcp", "allow-all", "deny", "inbound", "tcp", "0.0.0.0/0", "0.0.0.0/0", null));
+    NetworkAclEvaluator evaluator = NetworkAclEvaluator.of(networkAcl(rules));
+    assertEquals(evaluator.getRules().get(0).getId(), "deny-udp");
+    assertEquals(evaluator.getRules().get(1).getId(), "deny-tcp");
+    assertEquals(evaluator.getRules().get(2).getId(), "allow-all");
+    assertFalse(evaluator.isAllowed(Direction.INBOUND, Flow.tcp("10.0.0.1", 1000, "10.0.0.2", 80)));
+    assertTrue(evaluator.isAllowed(Direction.INBOUND, Flow.icmp("10.0.0.1", "10.0.0.2", 8, 0)));
+
+    List<NetworkACLRule> listed = new ArrayList<>();
+    for (String json : rules) {
+      listed.add(TestUtilities.deserialize(json, NetworkACLRule.class));
+    }
+    Collections.reverse(listed);
+    assertEquals(NetworkAclEvaluator.ofRules(listed).getRules().get(0).getId(), "deny-udp");
+  }
+
+  @Test
+  public void testIpv6RulesNeverMatch() throws Throwable {
+    String ipv6 = "{\"id\": \"v6\", \"action\": \"deny\", \"direction\": \"inbound\", \"ip_version\": \"ipv6\", "
+      + "\"protocol\": \"all\", \"source\": \"::/0\", \"destination\": \"::/0\"}";
+    NetworkAclEvaluator evaluator = NetworkAclEvaluator.of(networkAcl(Collections.singletonList(ipv6)));
+    assertNull(evaluator.evaluate(Direction.INBOUND, Flow.tcp("10.0.0.1", 1000, "10.0.0.2", 80)));
+  }
+
+  @Test
+  public void testMatchesLinearEvaluation() throws Throwable {
+    Random random = new Random(42);
+    String[] protocols = {"all", "tcp", "udp", "icmp"};
+    String[] cidrs = {"0.0.0.0/0", "10.0.0.0/8", "10.1.0.0/16", "10.1.2.0/24", "10.1.2.3/32", "192.168.0.0/16",
+      "192.168.128.0/17", "10.128.0.0/9"};
+    List<String> rules = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      String protocol = protocols[random.nextInt(protocols.length)];
+      String extra = null;
+      if (protocol.equals("tcp") || protocol.equals("udp")) {
+        int min = random.nextInt(2000);
+        int sourceMin = random.nextInt(2000);
+        extra = "\"destination_port_min\": " + min + ", \"destination_port_max\": " + (min + random.nextInt(500))
+          + ", \"source_port_min\": " + sourceMin + ", \"source_port_max\": " + (sourceMin + random.nextInt(1000));
+      } else if (protocol.equals("icmp") && random.nextBoolean()) {
+        extra = "\"type\": " + random.nextInt(10) + (random.nextBoolean() ? ", \"code\": " + random.nextInt(3) : "");
+      }
+      rules.add(rule("rule-" + i, i < 149 ? "rule-" + (i + 1) : null, random.nextBoolean() ? "allow" : "deny",
+        random.nextBoolean() ? "inbound" : "outbound", protocol, cidrs[random.nextInt(cidrs.length)],
+        cidrs[random.nextInt(cidrs.length)], extra));
+    }
+    NetworkAclEvaluator evaluator = NetworkAclEvaluator.of(networkAcl(rules));
+
+    int[] addresses = {0x0A010203, 0x0A010204, 0x0A0102FF, 0x0A01FF01, 0x0AFF0001, 0x0A000001, 0xC0A88001,
+      0xC0A80001, 0x08080808};
+    for (int i = 0; i < 20000; i++) {
+      Direction direction = random.nextBoolean() ? Direction.INBOUND : Direction.OUTBOUND;
+      int source = addresses[random.nextInt(addresses.length)];
+      int destination = addresses[random.nextInt(addresses.length)];
+      int kind = random.nextInt(3);
+      Flow flow = kind == 2
+        ? Flow.icmp(source, destination, random.nextInt(12), random.nextInt(4))
+        : Flow.of(kind == 0 ? Protocol.TCP : Protocol.UDP, source, random.nextInt(3000), destination,
+          random.nextInt(3000));
+      AclRule expected = null;
+      for (AclRule rule : evaluator.getRules()) {
+        if (rule.matches(direction, flow)) {
+          expected = rule;
+          break;
+        }
+      }
+      assertSame(evaluator.evaluate(direction, flow), expected, flow.toString());
+    }
+  }
+
+  @Test
+  public void testInvalidAddresses() throws Throwable {
+    for (String address : new String[] {"10.0.0", "10.0.0.256", "10.0.0.1.2", "10..0.1", "a.b.c.d", ""}) {
+      try {
+        Flow.tcp(address, 1, "10.0.0.1", 2);
+        fail("Expected an exception for " + address);
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+    try {
+      Flow.tcp("10.0.0.1", 70000, "10.0.0.2", 80);
+      fail("Expected an exception for an invalid port");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.common.net.Ipv4Address;
+import com.ibm.cloud.is.common.net.Ipv4Cidr;
+import com.ibm.cloud.is.vpc.v1.model.Route;
+import com.ibm.cloud.is.vpc.v1.model.RoutingTable;
+import com.ibm.cloud.is.vpc.v1.utils.TestUtilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the RouteResolver class.
+ */
+public class RouteResolverTest {
+
+  private static Route route(String id, String destination, String zone, String state) {
+    return TestUtilities.deserialize("{\"id\": \"" + id + "\", \"destination\": \"" + destination
+      + "\", \"zone\": {\"name\": \"" + zone + "\"}, \"next_hop\": {\"address\": \"192.168.3.4\"}"
+      + (state != null ? ", \"lifecycle_state\": \"" + state + "\"" : "") + "}", Route.class);
+  }
+
+  private static Route route(String id, String destination) {
+    return route(id, destination, "us-south-1", "stable");
+  }
+
+  private static String id(Route route) {
+    return route != null ? route.getId() : null;
+  }
+
+  @Test
+  public void testLongestPrefixMatch() throws Throwable {
+    RouteTrie trie = new RouteTrie(Arrays.asList(
+      route("default", "0.0.0.0/0"),
+      route("ten", "10.0.0.0/8"),
+      route("subnet", "10.1.2.0/24"),
+      route("host", "10.1.2.3/32"),
+      route("sibling", "10.1.3.0/24"),
+      route("duplicate", "10.0.0.0/8"),
+      route("v6", "2001:db8::/32")));
+    assertEquals(trie.size(), 5);
+    assertEquals(id(trie.lookup("10.1.2.3")), "host");
+    assertEquals(id(trie.lookup("10.1.2.4")), "subnet");
+    assertEquals(id(trie.lookup("10.1.3.200")), "sibling");
+    assertEquals(id(trie.lookup("10.1.4.1")), "ten");
+    assertEquals(id(trie.lookup("192.168.0.1")), "default");
+  }
+
+  @Test
+  public void testNoDefaultRoute() throws Throwable {
+    RouteTrie trie = new RouteTrie(Arrays.asList(route("b", "10.1.2.0/24"), route("a", "10.0.0.0/8")));
+    assertEquals(id(trie.lookup("10.1.2.1")), "b");
+    assertEquals(id(trie.lookup("10.9.9.9")), "a");
+    assertNull(trie.lookup("11.0.0.0"));
+    assertNull(RouteTrie.empty().lookup(0));
+  }
+
+  @Test
+  public void testMatchesLinearLookup() throws Throwable {
+    Random random = new Random(23);
+    for (int round = 0; round < 20; round++) {
+      List<Route> routes = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        // Prefixes drawn from a narrow range of addresses, so that they overlap.
+        int address = 0x0A000000 | (random.nextInt(1 << 12) << 12);
+        int length = random.nextInt(33);
+        routes.add(route("r" + i, Ipv4Address.format(address) + "/" + length));
+      }
+      RouteTrie trie = new RouteTrie(routes);
+      for (int i = 0; i < 2000; i++) {
+        int address = random.nextInt(4) == 0 ? random.nextInt() : 0x0A000000 | random.nextInt(1 << 24);
+        Route expected = null;
+        int expectedLength = -1;
+        for (Route route : routes) {
+          Ipv4Cidr prefix = Ipv4Cidr.parse(route.getDestination());
+          if (prefix.contains(address) && prefix.getLength() > expectedLength) {
+            expected = route;
+            expectedLength = prefix.getLength();
+          }
+        }
+        assertSame(trie.lookup(address), expected, Ipv4Address.format(address));
+      }
+    }
+  }
+
+  @Test
+  public void testResolvePerZone() throws Throwable {
+    RoutingTable main = TestUtilities.deserialize("{\"id\": \"main\", \"is_default\": true}", RoutingTable.class);
+    RoutingTable edge = TestUtilities.deserialize("{\"id\": \"edge\", \"is_default\": false, "
+      + "\"subnets\": [{\"id\": \"subnet-1\"}]}", RoutingTable.class);
+    RouteResolver resolver = new RouteResolver.Builder()
+      .addRoutingTable(main)
+      .addRoutingTable(edge)
+      .addRoutes("main", Arrays.asList(
+        route("main-1", "10.0.0.0/8", "us-south-1", "stable"),
+        route("main-2", "10.0.0.0/8", "us-south-2", "stable"),
+        route("pending", "10.1.0.0/16", "us-south-1", "pending")))
+      .addRoutes("edge", Arrays.asList(route("edge-1", "0.0.0.0/0", "us-south-1", null)))
+      .build();
+
+    assertEquals(resolver.getDefaultRoutingTableId(), "main");
+    assertEquals(resolver.getRoutingTableId("subnet-1"), "edge");
+    assertEquals(resolver.getRoutingTableId("subnet-2"), "main");
+    assertEquals(id(resolver.resolve("main", "us-south-1", "10.1.0.1")), "main-1");
+    assertEquals(id(resolver.resolve("main", "us-south-2", "10.1.0.1")), "main-2");
+    assertNull(resolver.resolve("main", "us-south-3", "10.1.0.1"));
+    assertNull(resolver.resolve("unknown", "us-south-1", "10.1.0.1"));
+    assertEquals(id(resolver.resolve("edge", "us-south-1", "8.8.8.8")), "edge-1");
+
+    RouteResolver withPending = new RouteResolver.Builder()
+      .addRoutes("main", Arrays.asList(route("pending", "10.1.0.0/16", "us-south-1", "pending")))
+      .lifecycleStates(Route.LifecycleState.STABLE, Route.LifecycleState.PENDING)
+      .build();
+    assertEquals(id(withPending.resolve("main", "us-south-1", "10.1.0.1")), "pending");
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * (C) Copyright IBM Corp. 2021.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.is.vpc.v1.analysis;
+
+import com.ibm.cloud.is.vpc.v1.model.NetworkInterface;
+import com.ibm.cloud.is.vpc.v1.model.SecurityGroup;
+import com.ibm.cloud.is.vpc.v1.utils.TestUtilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the SecurityGroupAnalyzer class.
+ */
+public class SecurityGroupAnalyzerTest {
+
+  private static String cidrRule(String direction, String protocol, String cidr, String extra) {
+    return "{\"direction\": \"" + direction + "\", \"ip_version\": \"ipv4\", \"protocol\": \"" + protocol
+      + "\", \"remote\": {\"cidr_block\": \"" + cidr + "\"}" + (extra != null ? ", " + extra : "") + "}";
+  }
+
+  private static String groupRule(String direction, String protocol, String group, String extra) {
+    return "{\"direction\": \"" + direction + "\", \"ip_version\": \"ipv4\", \"protocol\": \"" + protocol
+      + "\", \"remote\": {\"id\": \"" + group + "\"}" + (extra != null ? ", " + extra : "") + "}";
+  }
+
+  private static String ports(int min, int max) {
+    return "\"port_min\": " + min + ", \"port_max\": " + max;
+  }
+
+  private static SecurityGroup securityGroup(String id, List<String> rules, String... members) {
+    List<String> interfaces = new ArrayList<>();
+    for (String member : members) {
+      String[] parts = member.split("=");
+      interfaces.add("{\"id\": \"" + parts[0] + "\", \"primary_ipv4_address\": \"" + parts[1] + "\"}");
+    }
+    return TestUtilities.deserialize("{\"id\": \"" + id + "\", \"rules\": [" + String.join(", ", rules)
+      + "], \"network_interfaces\": [" + String.join(", ", interfaces) + "]}", SecurityGroup.class);
+  }
+
+  private static SecurityGroupAnalyzer tiers() {
+    SecurityGroup web = securityGroup("web", Arrays.asList(
+      cidrRule("inbound", "tcp", "0.0.0.0/0", ports(443, 443)),
+      cidrRule("outbound", "all", "0.0.0.0/0", null)),
+      "web-1=10.0.1.5", "web-2=10.0.1.6");
+    SecurityGroup db = securityGroup("db", Arrays.asList(
+      groupRule("inbound", "tcp", "web", ports(5432, 5432)),
+      cidrRule("inbound", "tcp", "10.0.3.0/24", ports(22, 22)),
+      cidrRule("inbound", "icmp", "10.0.0.0/16", "\"type\": 8")),
+      "db-1=10.0.2.5");
+    SecurityGroup admin = securityGroup("admin", Arrays.asList(
+      groupRule("outbound", "tcp", "db", ports(1, 65535)),
+      cidrRule("outbound", "icmp", "10.0.2.0/24", null)),
+      "bastion=10.0.3.7");
+    SecurityGroup batch = securityGroup("batch", Collections.<String>emptyList(), "batch-1=10.0.4.2");
+    return new SecurityGroupAnalyzer.Builder()
+      .addSecurityGroup(web)
+      .addSecurityGroup(db)
+      .addSecurityGroup(admin)
+      .addSecurityGroup(batch)
+      .build();
+  }
+
+  @Test
+  public void testIsReachable() throws Throwable {
+    SecurityGroupAnalyzer analyzer = tiers();
+    assertTrue(analyzer.isReachable("web-1", "db-1", Protocol.TCP, 5432));
+    assertFalse(analyzer.isReachable("web-1", "db-1", Protocol.TCP, 22));
+    assertFalse(analyzer.isReachable("web-1", "db-1", Protocol.UDP, 5432));
+    // The database only allows SSH from the admin subnet, and the bastion may connect to any port of the database.
+    assertTrue(analyzer.isReachable("bastion", "db-1", Protocol.TCP, 22));
+    assertFalse(analyzer.isReachable("bastion", "db-1", Protocol.TCP, 5432));
+    // The batch group has no outbound rule.
+    assertFalse(analyzer.isReachable("batch-1", "web-1", Protocol.TCP, 443));
+    assertTrue(analyzer.isReachable("bastion", "db-1", 8, 0));
+    assertFalse(analyzer.isReachable("bastion", "db-1", 0, 0));
+    assertTrue(analyzer.isReachable("web-1", "db-1", 8, 0));
+  }
+
+  @Test
+  public void testFindSources() throws Throwable {
+    SecurityGroupAnalyzer analyzer = tiers();
+    assertEquals(analyzer.findSourcesOfGroup("db", Protocol.TCP, 5432), Arrays.asList("web-1", "web-2"));
+    assertEquals(analyzer.findSources("db-1", Protocol.TCP, 22), Arrays.asList("bastion"));
+    assertEquals(analyzer.findSources("web-2", Protocol.TCP, 443), Arrays.asList("web-1"));
+    assertEquals(analyzer.findSources("web-2", Protocol.TCP, 80), Collections.emptyList());
+  }
+
+  @Test
+  public void testMembershipsFromNetworkInterfaces() throws Throwable {
+    SecurityGroup db = securityGroup("db", Arrays.asList(groupRule("inbound", "tcp", "app", ports(5432, 5432))));
+    SecurityGroup app = securityGroup("app", Arrays.asList(cidrRule("outbound", "tcp", "10.0.2.0/24", null)));
+    NetworkInterface dbInterface = TestUtilities.deserialize(
+      "{\"id\": \"db-1\", \"primary_ipv4_address\": \"10.0.2.5\"}", NetworkInterface.class);
+    NetworkInterface appInterface = TestUtilities.deserialize(
+      "{\"id\": \"app-1\", \"primary_ipv4_address\": \"10.0.5.5\", \"security_groups\": [{\"id\": \"app\"}]}",
+      NetworkInterface.class);
+    SecurityGroupAnalyzer analyzer = new SecurityGroupAnalyzer.Builder()
+      .addSecurityGroup(db)
+      .addSecurityGroup(app)
+      .addNetworkInterfaces("db", Collections.singletonList(dbInterface))
+      .addNetworkInterface(appInterface)
+      .build();
+    assertEquals(analyzer.getNetworkInterfaceIds(), Arrays.asList("db-1", "app-1"));
+    assertTrue(analyzer.isReachable("app-1", "db-1", Protocol.TCP, 5432));
+    assertFalse(analyzer.isReachable("db-1", "app-1", Protocol.TCP, 5432));
+  }
+
+  @Test
+  public void testFindSourcesMatchesPairwiseChecks() throws Throwable {
+    Random random = new Random(7);
+    String[] cidrs = {"0.0.0.0/0", "10.0.0.0/8", "10.1.0.0/16", "10.1.2.0/24", "10.2.0.0/15", "10.1.2.3/32"};
+    int groupCount = 12;
+    List<SecurityGroup> groups = new ArrayList<>();
+    List<List<String>> members = new ArrayList<>();
+    for (int g = 0; g < groupCount; g++) {
+      members.add(new ArrayList<>());
+    }
+    for (int i = 0; i < 60; i++) {
+      String address = "10." + (1 + random.nextInt(3)) + "." + random.nextInt(3) + "." + random.nextInt(5);
+      int memberships = 1 + random.nextInt(2);
+      for (int m = 0; m < memberships; m++) {
+        members.get(random.nextInt(groupCount)).add("if-" + i + "=" + address);
+      }
+    }
+    for (int g = 0; g < groupCount; g++) {
+      List<String> rules = new ArrayList<>();
+      for (int r = 0; r < 4; r++) {
+        String direction = random.nextBoolean() ? "inbound" : "outbound";
+        String protocol = random.nextInt(3) == 0 ? "all" : "tcp";
+        int min = random.nextInt(100);
+        String extra = protocol.equals("tcp") ? ports(min, min + random.nextInt(50)) : null;
+        rules.add(random.nextBoolean()
+          ? cidrRule(direction, protocol, cidrs[random.nextInt(cidrs.length)], extra)
+          : groupRule(direction, protocol, "sg-" + random.nextInt(groupCount), extra));
+      }
+      groups.add(securityGroup("sg-" + g, rules, members.get(g).toArray(new String[0])));
+    }
+    SecurityGroupAnalyzer.Builder builder = new SecurityGroupAnalyzer.Builder();
+    for (SecurityGroup group : groups) {
+      builder.addSecurityGroup(group);
+    }
+    SecurityGroupAnalyzer analyzer = builder.build();
+
+    for (String destination : analyzer.getNetworkInterfaceIds()) {
+      for (int port = 0; port < 150; port += 7) {
+        List<String> expected = new ArrayList<>();
+        for (String source : analyzer.getNetworkInterfaceIds()) {
+          if (!source.equals(destination) && analyzer.isReachable(source, destination, Protocol.TCP, port)) {
+            expected.add(source);
+          }
+        }
+        assertEquals(analyzer.findSources(destination, Protocol.TCP, port), expected, destination + ":" + port);
+      }
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testUnknownInterface() throws Throwable {
+    tiers().isReachable("web-1", "unknown", Protocol.TCP, 443);
+  }
+}
@@ -17,6 +17,7 @@ import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRulePatch;
 import com.ibm.cloud.is.vpc.v1.model.SecurityGroupRuleRemotePatchCIDR;
 import com.ibm.cloud.is.vpc.v1.utils.TestUtilities;
 import com.ibm.cloud.sdk.core.service.model.FileWithMetadata;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
@@ -92,6 +93,8 @@ public class SecurityGroupRulePatchTest {
     assertTrue(mergePatch.containsKey("port_min"));
     assertTrue(mergePatch.containsKey("remote"));
     assertTrue(mergePatch.containsKey("type"));
+    // The merge-patch is identical to the result of parsing the model's JSON representation
+    assertEquals(mergePatch, GsonSingleton.getGson().fromJson(securityGroupRulePatchModel.toString(), Map.class));
   }
 
 }
\ No newline at end of file